@@ -0,0 +1,336 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAPKModule}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code APKModule.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAPKModule"})
+@Immutable
+public final class APKModule extends AbstractAPKModule {
+  private final String name;
+  private final boolean rootModule;
+  private final String canaryClassName;
+  private final ImmutableSet<BuildTarget> buildTargets;
+
+  private APKModule(
+      String name,
+      ImmutableSet<BuildTarget> buildTargets) {
+    this.name = name;
+    this.buildTargets = buildTargets;
+    this.rootModule = initShim.isRootModule();
+    this.canaryClassName = initShim.getCanaryClassName();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private boolean rootModule;
+    private int rootModuleBuildStage;
+
+    boolean isRootModule() {
+      if (rootModuleBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rootModuleBuildStage == STAGE_UNINITIALIZED) {
+        rootModuleBuildStage = STAGE_INITIALIZING;
+        this.rootModule = APKModule.super.isRootModule();
+        rootModuleBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rootModule;
+    }
+    private String canaryClassName;
+    private int canaryClassNameBuildStage;
+
+    String getCanaryClassName() {
+      if (canaryClassNameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (canaryClassNameBuildStage == STAGE_UNINITIALIZED) {
+        canaryClassNameBuildStage = STAGE_INITIALIZING;
+        this.canaryClassName = Preconditions.checkNotNull(APKModule.super.getCanaryClassName(), "canaryClassName");
+        canaryClassNameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.canaryClassName;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (rootModuleBuildStage == STAGE_INITIALIZING) attributes.add("rootModule");
+      if (canaryClassNameBuildStage == STAGE_INITIALIZING) attributes.add("canaryClassName");
+      return "Cannot build APKModule, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code rootModule} attribute
+   */
+  @Override
+  public boolean isRootModule() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.isRootModule()
+        : this.rootModule;
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code canaryClassName} attribute
+   */
+  @Override
+  public String getCanaryClassName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getCanaryClassName()
+        : this.canaryClassName;
+  }
+
+  /**
+   * @return The value of the {@code buildTargets} attribute
+   */
+  @Override
+  public ImmutableSet<BuildTarget> getBuildTargets() {
+    return buildTargets;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAPKModule#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final APKModule withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "name");
+    return new APKModule(newValue, this.buildTargets);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAPKModule#getBuildTargets() buildTargets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final APKModule withBuildTargets(BuildTarget... elements) {
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new APKModule(this.name, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAPKModule#getBuildTargets() buildTargets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of buildTargets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final APKModule withBuildTargets(Iterable<? extends BuildTarget> elements) {
+    if (this.buildTargets == elements) return this;
+    ImmutableSet<BuildTarget> newValue = ImmutableSet.copyOf(elements);
+    return new APKModule(this.name, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code APKModule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof APKModule
+        && equalTo((APKModule) another);
+  }
+
+  private boolean equalTo(APKModule another) {
+    return name.equals(another.name)
+        && rootModule == another.rootModule
+        && canaryClassName.equals(another.canaryClassName)
+        && buildTargets.equals(another.buildTargets);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code rootModule}, {@code canaryClassName}, {@code buildTargets}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + Booleans.hashCode(rootModule);
+    h = h * 17 + canaryClassName.hashCode();
+    h = h * 17 + buildTargets.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code APKModule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("APKModule")
+        .omitNullValues()
+        .add("name", name)
+        .add("rootModule", rootModule)
+        .add("canaryClassName", canaryClassName)
+        .add("buildTargets", buildTargets)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAPKModule} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable APKModule instance
+   */
+  static APKModule copyOf(AbstractAPKModule instance) {
+    if (instance instanceof APKModule) {
+      return (APKModule) instance;
+    }
+    return APKModule.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link APKModule APKModule}.
+   * @return A new APKModule builder
+   */
+  public static APKModule.Builder builder() {
+    return new APKModule.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link APKModule APKModule}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+    private ImmutableSet.Builder<BuildTarget> buildTargets = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code APKModule} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(APKModule instance) {
+      return from((AbstractAPKModule) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAPKModule} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAPKModule instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setName(instance.getName());
+      addAllBuildTargets(instance.getBuildTargets());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAPKModule#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAPKModule#getBuildTargets() buildTargets} set.
+     * @param element A buildTargets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBuildTargets(BuildTarget element) {
+      this.buildTargets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAPKModule#getBuildTargets() buildTargets} set.
+     * @param elements An array of buildTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBuildTargets(BuildTarget... elements) {
+      this.buildTargets.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAPKModule#getBuildTargets() buildTargets} set.
+     * @param elements An iterable of buildTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTargets(Iterable<? extends BuildTarget> elements) {
+      this.buildTargets = ImmutableSet.builder();
+      return addAllBuildTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAPKModule#getBuildTargets() buildTargets} set.
+     * @param elements An iterable of buildTargets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBuildTargets(Iterable<? extends BuildTarget> elements) {
+      this.buildTargets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link APKModule APKModule}.
+     * @return An immutable instance of APKModule
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public APKModule build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new APKModule(name, buildTargets.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build APKModule, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,944 @@
+package com.facebook.buck.android;
+
+import com.facebook.buck.jvm.java.JavaLibrary;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractAndroidGraphEnhancementResult}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code AndroidGraphEnhancementResult.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractAndroidGraphEnhancementResult"})
+@Immutable
+public final class AndroidGraphEnhancementResult
+    implements AbstractAndroidGraphEnhancementResult {
+  private final AndroidPackageableCollection packageableCollection;
+  private final AaptPackageResources aaptPackageResources;
+  private final @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+  private final @Nullable PackageStringAssets packageStringAssets;
+  private final @Nullable PreDexMerge preDexMerge;
+  private final @Nullable ComputeExopackageDepsAbi computeExopackageDepsAbi;
+  private final @Nullable Boolean packageAssetLibraries;
+  private final JavaLibrary compiledUberRDotJava;
+  private final ImmutableSet<SourcePath> classpathEntriesToDex;
+  private final ImmutableSortedSet<BuildRule> finalDeps;
+  private final APKModuleGraph aPKModuleGraph;
+
+  private AndroidGraphEnhancementResult(
+      AndroidPackageableCollection packageableCollection,
+      AaptPackageResources aaptPackageResources,
+      @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries,
+      @Nullable PackageStringAssets packageStringAssets,
+      @Nullable PreDexMerge preDexMerge,
+      @Nullable ComputeExopackageDepsAbi computeExopackageDepsAbi,
+      @Nullable Boolean packageAssetLibraries,
+      JavaLibrary compiledUberRDotJava,
+      ImmutableSet<SourcePath> classpathEntriesToDex,
+      ImmutableSortedSet<BuildRule> finalDeps,
+      APKModuleGraph aPKModuleGraph) {
+    this.packageableCollection = packageableCollection;
+    this.aaptPackageResources = aaptPackageResources;
+    this.copyNativeLibraries = copyNativeLibraries;
+    this.packageStringAssets = packageStringAssets;
+    this.preDexMerge = preDexMerge;
+    this.computeExopackageDepsAbi = computeExopackageDepsAbi;
+    this.packageAssetLibraries = packageAssetLibraries;
+    this.compiledUberRDotJava = compiledUberRDotJava;
+    this.classpathEntriesToDex = classpathEntriesToDex;
+    this.finalDeps = finalDeps;
+    this.aPKModuleGraph = aPKModuleGraph;
+  }
+
+  /**
+   * @return The value of the {@code packageableCollection} attribute
+   */
+  @Override
+  public AndroidPackageableCollection getPackageableCollection() {
+    return packageableCollection;
+  }
+
+  /**
+   * @return The value of the {@code aaptPackageResources} attribute
+   */
+  @Override
+  public AaptPackageResources getAaptPackageResources() {
+    return aaptPackageResources;
+  }
+
+  /**
+   * @return The value of the {@code copyNativeLibraries} attribute
+   */
+  @Override
+  public Optional<ImmutableMap<APKModule, CopyNativeLibraries>> getCopyNativeLibraries() {
+    return Optional.ofNullable(copyNativeLibraries);
+  }
+
+  /**
+   * @return The value of the {@code packageStringAssets} attribute
+   */
+  @Override
+  public Optional<PackageStringAssets> getPackageStringAssets() {
+    return Optional.ofNullable(packageStringAssets);
+  }
+
+  /**
+   * @return The value of the {@code preDexMerge} attribute
+   */
+  @Override
+  public Optional<PreDexMerge> getPreDexMerge() {
+    return Optional.ofNullable(preDexMerge);
+  }
+
+  /**
+   * @return The value of the {@code computeExopackageDepsAbi} attribute
+   */
+  @Override
+  public Optional<ComputeExopackageDepsAbi> getComputeExopackageDepsAbi() {
+    return Optional.ofNullable(computeExopackageDepsAbi);
+  }
+
+  /**
+   * @return The value of the {@code packageAssetLibraries} attribute
+   */
+  @Override
+  public Optional<Boolean> getPackageAssetLibraries() {
+    return Optional.ofNullable(packageAssetLibraries);
+  }
+
+  /**
+   * Compiled R.java for use by ProGuard.  This should go away if/when
+   * we create a separate rule for ProGuard.
+   */
+  @Override
+  public JavaLibrary getCompiledUberRDotJava() {
+    return compiledUberRDotJava;
+  }
+
+  /**
+   * This includes everything from the corresponding
+   * {@link AndroidPackageableCollection#getClasspathEntriesToDex}, and may include additional
+   * entries due to {@link AndroidBuildConfig}s (or R.java, in the future).
+   */
+  @Override
+  public ImmutableSet<SourcePath> getClasspathEntriesToDex() {
+    return classpathEntriesToDex;
+  }
+
+  /**
+   * @return The value of the {@code finalDeps} attribute
+   */
+  @Override
+  public ImmutableSortedSet<BuildRule> getFinalDeps() {
+    return finalDeps;
+  }
+
+  /**
+   * @return The value of the {@code aPKModuleGraph} attribute
+   */
+  @Override
+  public APKModuleGraph getAPKModuleGraph() {
+    return aPKModuleGraph;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidGraphEnhancementResult#getPackageableCollection() packageableCollection} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for packageableCollection
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageableCollection(AndroidPackageableCollection value) {
+    if (this.packageableCollection == value) return this;
+    AndroidPackageableCollection newValue = Preconditions.checkNotNull(value, "packageableCollection");
+    return new AndroidGraphEnhancementResult(
+        newValue,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidGraphEnhancementResult#getAaptPackageResources() aaptPackageResources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aaptPackageResources
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withAaptPackageResources(AaptPackageResources value) {
+    if (this.aaptPackageResources == value) return this;
+    AaptPackageResources newValue = Preconditions.checkNotNull(value, "aaptPackageResources");
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        newValue,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} attribute.
+   * @param value The value for copyNativeLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withCopyNativeLibraries(ImmutableMap<APKModule, CopyNativeLibraries> value) {
+    @Nullable ImmutableMap<APKModule, CopyNativeLibraries> newValue = Preconditions.checkNotNull(value, "copyNativeLibraries");
+    if (this.copyNativeLibraries == newValue) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        newValue,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for copyNativeLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withCopyNativeLibraries(Optional<ImmutableMap<APKModule, CopyNativeLibraries>> optional) {
+    @Nullable ImmutableMap<APKModule, CopyNativeLibraries> value = optional.orElse(null);
+    if (this.copyNativeLibraries == value) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        value,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets} attribute.
+   * @param value The value for packageStringAssets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageStringAssets(PackageStringAssets value) {
+    @Nullable PackageStringAssets newValue = Preconditions.checkNotNull(value, "packageStringAssets");
+    if (this.packageStringAssets == newValue) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        newValue,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageStringAssets
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageStringAssets(Optional<PackageStringAssets> optional) {
+    @Nullable PackageStringAssets value = optional.orElse(null);
+    if (this.packageStringAssets == value) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        value,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge} attribute.
+   * @param value The value for preDexMerge
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPreDexMerge(PreDexMerge value) {
+    @Nullable PreDexMerge newValue = Preconditions.checkNotNull(value, "preDexMerge");
+    if (this.preDexMerge == newValue) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        newValue,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for preDexMerge
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPreDexMerge(Optional<PreDexMerge> optional) {
+    @Nullable PreDexMerge value = optional.orElse(null);
+    if (this.preDexMerge == value) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        value,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi} attribute.
+   * @param value The value for computeExopackageDepsAbi
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withComputeExopackageDepsAbi(ComputeExopackageDepsAbi value) {
+    @Nullable ComputeExopackageDepsAbi newValue = Preconditions.checkNotNull(value, "computeExopackageDepsAbi");
+    if (this.computeExopackageDepsAbi == newValue) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        newValue,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for computeExopackageDepsAbi
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withComputeExopackageDepsAbi(Optional<ComputeExopackageDepsAbi> optional) {
+    @Nullable ComputeExopackageDepsAbi value = optional.orElse(null);
+    if (this.computeExopackageDepsAbi == value) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        value,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries} attribute.
+   * @param value The value for packageAssetLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageAssetLibraries(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equal(this.packageAssetLibraries, newValue)) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        newValue,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for packageAssetLibraries
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withPackageAssetLibraries(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equal(this.packageAssetLibraries, value)) return this;
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        value,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidGraphEnhancementResult#getCompiledUberRDotJava() compiledUberRDotJava} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compiledUberRDotJava
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withCompiledUberRDotJava(JavaLibrary value) {
+    if (this.compiledUberRDotJava == value) return this;
+    JavaLibrary newValue = Preconditions.checkNotNull(value, "compiledUberRDotJava");
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        newValue,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withClasspathEntriesToDex(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        newValue,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classpathEntriesToDex elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+    if (this.classpathEntriesToDex == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        newValue,
+        this.finalDeps,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidGraphEnhancementResult#getFinalDeps() finalDeps} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for finalDeps
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withFinalDeps(ImmutableSortedSet<BuildRule> value) {
+    if (this.finalDeps == value) return this;
+    ImmutableSortedSet<BuildRule> newValue = Preconditions.checkNotNull(value, "finalDeps");
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        newValue,
+        this.aPKModuleGraph);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractAndroidGraphEnhancementResult#getAPKModuleGraph() aPKModuleGraph} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aPKModuleGraph
+   * @return A modified copy of the {@code this} object
+   */
+  public final AndroidGraphEnhancementResult withAPKModuleGraph(APKModuleGraph value) {
+    if (this.aPKModuleGraph == value) return this;
+    APKModuleGraph newValue = Preconditions.checkNotNull(value, "aPKModuleGraph");
+    return new AndroidGraphEnhancementResult(
+        this.packageableCollection,
+        this.aaptPackageResources,
+        this.copyNativeLibraries,
+        this.packageStringAssets,
+        this.preDexMerge,
+        this.computeExopackageDepsAbi,
+        this.packageAssetLibraries,
+        this.compiledUberRDotJava,
+        this.classpathEntriesToDex,
+        this.finalDeps,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code AndroidGraphEnhancementResult} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof AndroidGraphEnhancementResult
+        && equalTo((AndroidGraphEnhancementResult) another);
+  }
+
+  private boolean equalTo(AndroidGraphEnhancementResult another) {
+    return packageableCollection.equals(another.packageableCollection)
+        && aaptPackageResources.equals(another.aaptPackageResources)
+        && Objects.equal(copyNativeLibraries, another.copyNativeLibraries)
+        && Objects.equal(packageStringAssets, another.packageStringAssets)
+        && Objects.equal(preDexMerge, another.preDexMerge)
+        && Objects.equal(computeExopackageDepsAbi, another.computeExopackageDepsAbi)
+        && Objects.equal(packageAssetLibraries, another.packageAssetLibraries)
+        && compiledUberRDotJava.equals(another.compiledUberRDotJava)
+        && classpathEntriesToDex.equals(another.classpathEntriesToDex)
+        && finalDeps.equals(another.finalDeps)
+        && aPKModuleGraph.equals(another.aPKModuleGraph);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code packageableCollection}, {@code aaptPackageResources}, {@code copyNativeLibraries}, {@code packageStringAssets}, {@code preDexMerge}, {@code computeExopackageDepsAbi}, {@code packageAssetLibraries}, {@code compiledUberRDotJava}, {@code classpathEntriesToDex}, {@code finalDeps}, {@code aPKModuleGraph}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + packageableCollection.hashCode();
+    h = h * 17 + aaptPackageResources.hashCode();
+    h = h * 17 + Objects.hashCode(copyNativeLibraries);
+    h = h * 17 + Objects.hashCode(packageStringAssets);
+    h = h * 17 + Objects.hashCode(preDexMerge);
+    h = h * 17 + Objects.hashCode(computeExopackageDepsAbi);
+    h = h * 17 + Objects.hashCode(packageAssetLibraries);
+    h = h * 17 + compiledUberRDotJava.hashCode();
+    h = h * 17 + classpathEntriesToDex.hashCode();
+    h = h * 17 + finalDeps.hashCode();
+    h = h * 17 + aPKModuleGraph.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code AndroidGraphEnhancementResult} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("AndroidGraphEnhancementResult")
+        .omitNullValues()
+        .add("packageableCollection", packageableCollection)
+        .add("aaptPackageResources", aaptPackageResources)
+        .add("copyNativeLibraries", copyNativeLibraries)
+        .add("packageStringAssets", packageStringAssets)
+        .add("preDexMerge", preDexMerge)
+        .add("computeExopackageDepsAbi", computeExopackageDepsAbi)
+        .add("packageAssetLibraries", packageAssetLibraries)
+        .add("compiledUberRDotJava", compiledUberRDotJava)
+        .add("classpathEntriesToDex", classpathEntriesToDex)
+        .add("finalDeps", finalDeps)
+        .add("aPKModuleGraph", aPKModuleGraph)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractAndroidGraphEnhancementResult} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable AndroidGraphEnhancementResult instance
+   */
+  static AndroidGraphEnhancementResult copyOf(AbstractAndroidGraphEnhancementResult instance) {
+    if (instance instanceof AndroidGraphEnhancementResult) {
+      return (AndroidGraphEnhancementResult) instance;
+    }
+    return AndroidGraphEnhancementResult.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+   * @return A new AndroidGraphEnhancementResult builder
+   */
+  public static AndroidGraphEnhancementResult.Builder builder() {
+    return new AndroidGraphEnhancementResult.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_PACKAGEABLE_COLLECTION = 0x1L;
+    private static final long INIT_BIT_AAPT_PACKAGE_RESOURCES = 0x2L;
+    private static final long INIT_BIT_COMPILED_UBER_R_DOT_JAVA = 0x4L;
+    private static final long INIT_BIT_FINAL_DEPS = 0x8L;
+    private static final long INIT_BIT_A_P_K_MODULE_GRAPH = 0x10L;
+    private long initBits = 0x1fL;
+
+    private @Nullable AndroidPackageableCollection packageableCollection;
+    private @Nullable AaptPackageResources aaptPackageResources;
+    private @Nullable ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries;
+    private @Nullable PackageStringAssets packageStringAssets;
+    private @Nullable PreDexMerge preDexMerge;
+    private @Nullable ComputeExopackageDepsAbi computeExopackageDepsAbi;
+    private @Nullable Boolean packageAssetLibraries;
+    private @Nullable JavaLibrary compiledUberRDotJava;
+    private ImmutableSet.Builder<SourcePath> classpathEntriesToDex = ImmutableSet.builder();
+    private @Nullable ImmutableSortedSet<BuildRule> finalDeps;
+    private @Nullable APKModuleGraph aPKModuleGraph;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AndroidGraphEnhancementResult} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(AndroidGraphEnhancementResult instance) {
+      return from((AbstractAndroidGraphEnhancementResult) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractAndroidGraphEnhancementResult} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractAndroidGraphEnhancementResult instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setPackageableCollection(instance.getPackageableCollection());
+      setAaptPackageResources(instance.getAaptPackageResources());
+      Optional<ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibrariesOptional = instance.getCopyNativeLibraries();
+      if (copyNativeLibrariesOptional.isPresent()) {
+        setCopyNativeLibraries(copyNativeLibrariesOptional);
+      }
+      Optional<PackageStringAssets> packageStringAssetsOptional = instance.getPackageStringAssets();
+      if (packageStringAssetsOptional.isPresent()) {
+        setPackageStringAssets(packageStringAssetsOptional);
+      }
+      Optional<PreDexMerge> preDexMergeOptional = instance.getPreDexMerge();
+      if (preDexMergeOptional.isPresent()) {
+        setPreDexMerge(preDexMergeOptional);
+      }
+      Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbiOptional = instance.getComputeExopackageDepsAbi();
+      if (computeExopackageDepsAbiOptional.isPresent()) {
+        setComputeExopackageDepsAbi(computeExopackageDepsAbiOptional);
+      }
+      Optional<Boolean> packageAssetLibrariesOptional = instance.getPackageAssetLibraries();
+      if (packageAssetLibrariesOptional.isPresent()) {
+        setPackageAssetLibraries(packageAssetLibrariesOptional);
+      }
+      setCompiledUberRDotJava(instance.getCompiledUberRDotJava());
+      addAllClasspathEntriesToDex(instance.getClasspathEntriesToDex());
+      setFinalDeps(instance.getFinalDeps());
+      setAPKModuleGraph(instance.getAPKModuleGraph());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidGraphEnhancementResult#getPackageableCollection() packageableCollection} attribute.
+     * @param packageableCollection The value for packageableCollection 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageableCollection(AndroidPackageableCollection packageableCollection) {
+      this.packageableCollection = Preconditions.checkNotNull(packageableCollection, "packageableCollection");
+      initBits &= ~INIT_BIT_PACKAGEABLE_COLLECTION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidGraphEnhancementResult#getAaptPackageResources() aaptPackageResources} attribute.
+     * @param aaptPackageResources The value for aaptPackageResources 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAaptPackageResources(AaptPackageResources aaptPackageResources) {
+      this.aaptPackageResources = Preconditions.checkNotNull(aaptPackageResources, "aaptPackageResources");
+      initBits &= ~INIT_BIT_AAPT_PACKAGE_RESOURCES;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCopyNativeLibraries(ImmutableMap<APKModule, CopyNativeLibraries> copyNativeLibraries) {
+      this.copyNativeLibraries = Preconditions.checkNotNull(copyNativeLibraries, "copyNativeLibraries");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getCopyNativeLibraries() copyNativeLibraries} to copyNativeLibraries.
+     * @param copyNativeLibraries The value for copyNativeLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCopyNativeLibraries(Optional<ImmutableMap<APKModule, CopyNativeLibraries>> copyNativeLibraries) {
+      this.copyNativeLibraries = copyNativeLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets} to packageStringAssets.
+     * @param packageStringAssets The value for packageStringAssets
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageStringAssets(PackageStringAssets packageStringAssets) {
+      this.packageStringAssets = Preconditions.checkNotNull(packageStringAssets, "packageStringAssets");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getPackageStringAssets() packageStringAssets} to packageStringAssets.
+     * @param packageStringAssets The value for packageStringAssets
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageStringAssets(Optional<PackageStringAssets> packageStringAssets) {
+      this.packageStringAssets = packageStringAssets.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge} to preDexMerge.
+     * @param preDexMerge The value for preDexMerge
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPreDexMerge(PreDexMerge preDexMerge) {
+      this.preDexMerge = Preconditions.checkNotNull(preDexMerge, "preDexMerge");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getPreDexMerge() preDexMerge} to preDexMerge.
+     * @param preDexMerge The value for preDexMerge
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPreDexMerge(Optional<PreDexMerge> preDexMerge) {
+      this.preDexMerge = preDexMerge.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi} to computeExopackageDepsAbi.
+     * @param computeExopackageDepsAbi The value for computeExopackageDepsAbi
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setComputeExopackageDepsAbi(ComputeExopackageDepsAbi computeExopackageDepsAbi) {
+      this.computeExopackageDepsAbi = Preconditions.checkNotNull(computeExopackageDepsAbi, "computeExopackageDepsAbi");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getComputeExopackageDepsAbi() computeExopackageDepsAbi} to computeExopackageDepsAbi.
+     * @param computeExopackageDepsAbi The value for computeExopackageDepsAbi
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setComputeExopackageDepsAbi(Optional<ComputeExopackageDepsAbi> computeExopackageDepsAbi) {
+      this.computeExopackageDepsAbi = computeExopackageDepsAbi.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries} to packageAssetLibraries.
+     * @param packageAssetLibraries The value for packageAssetLibraries
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setPackageAssetLibraries(boolean packageAssetLibraries) {
+      this.packageAssetLibraries = packageAssetLibraries;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractAndroidGraphEnhancementResult#getPackageAssetLibraries() packageAssetLibraries} to packageAssetLibraries.
+     * @param packageAssetLibraries The value for packageAssetLibraries
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackageAssetLibraries(Optional<Boolean> packageAssetLibraries) {
+      this.packageAssetLibraries = packageAssetLibraries.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidGraphEnhancementResult#getCompiledUberRDotJava() compiledUberRDotJava} attribute.
+     * @param compiledUberRDotJava The value for compiledUberRDotJava 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompiledUberRDotJava(JavaLibrary compiledUberRDotJava) {
+      this.compiledUberRDotJava = Preconditions.checkNotNull(compiledUberRDotJava, "compiledUberRDotJava");
+      initBits &= ~INIT_BIT_COMPILED_UBER_R_DOT_JAVA;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param element A classpathEntriesToDex element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(SourcePath element) {
+      this.classpathEntriesToDex.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An array of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addClasspathEntriesToDex(SourcePath... elements) {
+      this.classpathEntriesToDex.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex = ImmutableSet.builder();
+      return addAllClasspathEntriesToDex(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractAndroidGraphEnhancementResult#getClasspathEntriesToDex() classpathEntriesToDex} set.
+     * @param elements An iterable of classpathEntriesToDex elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllClasspathEntriesToDex(Iterable<? extends SourcePath> elements) {
+      this.classpathEntriesToDex.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidGraphEnhancementResult#getFinalDeps() finalDeps} attribute.
+     * @param finalDeps The value for finalDeps 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFinalDeps(ImmutableSortedSet<BuildRule> finalDeps) {
+      this.finalDeps = Preconditions.checkNotNull(finalDeps, "finalDeps");
+      initBits &= ~INIT_BIT_FINAL_DEPS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractAndroidGraphEnhancementResult#getAPKModuleGraph() aPKModuleGraph} attribute.
+     * @param aPKModuleGraph The value for aPKModuleGraph 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAPKModuleGraph(APKModuleGraph aPKModuleGraph) {
+      this.aPKModuleGraph = Preconditions.checkNotNull(aPKModuleGraph, "aPKModuleGraph");
+      initBits &= ~INIT_BIT_A_P_K_MODULE_GRAPH;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link AndroidGraphEnhancementResult AndroidGraphEnhancementResult}.
+     * @return An immutable instance of AndroidGraphEnhancementResult
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public AndroidGraphEnhancementResult build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new AndroidGraphEnhancementResult(
+          packageableCollection,
+          aaptPackageResources,
+          copyNativeLibraries,
+          packageStringAssets,
+          preDexMerge,
+          computeExopackageDepsAbi,
+          packageAssetLibraries,
+          compiledUberRDotJava,
+          classpathEntriesToDex.build(),
+          finalDeps,
+          aPKModuleGraph);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_PACKAGEABLE_COLLECTION) != 0) attributes.add("packageableCollection");
+      if ((initBits & INIT_BIT_AAPT_PACKAGE_RESOURCES) != 0) attributes.add("aaptPackageResources");
+      if ((initBits & INIT_BIT_COMPILED_UBER_R_DOT_JAVA) != 0) attributes.add("compiledUberRDotJava");
+      if ((initBits & INIT_BIT_FINAL_DEPS) != 0) attributes.add("finalDeps");
+      if ((initBits & INIT_BIT_A_P_K_MODULE_GRAPH) != 0) attributes.add("aPKModuleGraph");
+      return "Cannot build AndroidGraphEnhancementResult, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,617 @@
+package com.facebook.buck.apple;
+
+import com.facebook.buck.rules.SourcePath;
+import com.facebook.buck.rules.SourceWithFlags;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractGroupedSource}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code GroupedSource.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code GroupedSource.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractGroupedSource"})
+@Immutable
+public final class GroupedSource extends AbstractGroupedSource {
+  private final AbstractGroupedSource.Type type;
+  private final @Nullable SourceWithFlags sourceWithFlags;
+  private final @Nullable SourcePath sourcePath;
+  private final @Nullable String sourceGroupName;
+  private final @Nullable Path sourceGroupPathRelativeToTarget;
+  private final @Nullable List<GroupedSource> sourceGroup;
+
+  private GroupedSource(
+      AbstractGroupedSource.Type type,
+      Optional<SourceWithFlags> sourceWithFlags,
+      Optional<SourcePath> sourcePath,
+      Optional<String> sourceGroupName,
+      Optional<Path> sourceGroupPathRelativeToTarget,
+      Optional<List<GroupedSource>> sourceGroup) {
+    this.type = Preconditions.checkNotNull(type, "type");
+    this.sourceWithFlags = sourceWithFlags.orElse(null);
+    this.sourcePath = sourcePath.orElse(null);
+    this.sourceGroupName = sourceGroupName.orElse(null);
+    this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget.orElse(null);
+    this.sourceGroup = sourceGroup.orElse(null);
+  }
+
+  private GroupedSource(
+      GroupedSource original,
+      AbstractGroupedSource.Type type,
+      @Nullable SourceWithFlags sourceWithFlags,
+      @Nullable SourcePath sourcePath,
+      @Nullable String sourceGroupName,
+      @Nullable Path sourceGroupPathRelativeToTarget,
+      @Nullable List<GroupedSource> sourceGroup) {
+    this.type = type;
+    this.sourceWithFlags = sourceWithFlags;
+    this.sourcePath = sourcePath;
+    this.sourceGroupName = sourceGroupName;
+    this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget;
+    this.sourceGroup = sourceGroup;
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public AbstractGroupedSource.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code sourceWithFlags} attribute
+   */
+  @Override
+  public Optional<SourceWithFlags> getSourceWithFlags() {
+    return Optional.ofNullable(sourceWithFlags);
+  }
+
+  /**
+   * @return The value of the {@code sourcePath} attribute
+   */
+  @Override
+  public Optional<SourcePath> getSourcePath() {
+    return Optional.ofNullable(sourcePath);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroupName} attribute
+   */
+  @Override
+  public Optional<String> getSourceGroupName() {
+    return Optional.ofNullable(sourceGroupName);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroupPathRelativeToTarget} attribute
+   */
+  @Override
+  public Optional<Path> getSourceGroupPathRelativeToTarget() {
+    return Optional.ofNullable(sourceGroupPathRelativeToTarget);
+  }
+
+  /**
+   * @return The value of the {@code sourceGroup} attribute
+   */
+  @Override
+  public Optional<List<GroupedSource>> getSourceGroup() {
+    return Optional.ofNullable(sourceGroup);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractGroupedSource#getType() type} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final GroupedSource withType(AbstractGroupedSource.Type value) {
+    if (this.type == value) return this;
+    AbstractGroupedSource.Type newValue = Preconditions.checkNotNull(value, "type");
+    return validate(new GroupedSource(
+        this,
+        newValue,
+        this.sourceWithFlags,
+        this.sourcePath,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags} attribute.
+   * @param value The value for sourceWithFlags
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceWithFlags(SourceWithFlags value) {
+    @Nullable SourceWithFlags newValue = Preconditions.checkNotNull(value, "sourceWithFlags");
+    if (this.sourceWithFlags == newValue) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        newValue,
+        this.sourcePath,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceWithFlags
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceWithFlags(Optional<SourceWithFlags> optional) {
+    @Nullable SourceWithFlags value = optional.orElse(null);
+    if (this.sourceWithFlags == value) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        value,
+        this.sourcePath,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractGroupedSource#getSourcePath() sourcePath} attribute.
+   * @param value The value for sourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourcePath(SourcePath value) {
+    @Nullable SourcePath newValue = Preconditions.checkNotNull(value, "sourcePath");
+    if (this.sourcePath == newValue) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        newValue,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractGroupedSource#getSourcePath() sourcePath} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourcePath
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourcePath(Optional<SourcePath> optional) {
+    @Nullable SourcePath value = optional.orElse(null);
+    if (this.sourcePath == value) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        value,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName} attribute.
+   * @param value The value for sourceGroupName
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "sourceGroupName");
+    if (Objects.equal(this.sourceGroupName, newValue)) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        this.sourcePath,
+        newValue,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceGroupName
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.sourceGroupName, value)) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        this.sourcePath,
+        value,
+        this.sourceGroupPathRelativeToTarget,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget} attribute.
+   * @param value The value for sourceGroupPathRelativeToTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupPathRelativeToTarget(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "sourceGroupPathRelativeToTarget");
+    if (this.sourceGroupPathRelativeToTarget == newValue) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        this.sourcePath,
+        this.sourceGroupName,
+        newValue,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceGroupPathRelativeToTarget
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroupPathRelativeToTarget(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.sourceGroupPathRelativeToTarget == value) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        this.sourcePath,
+        this.sourceGroupName,
+        value,
+        this.sourceGroup));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractGroupedSource#getSourceGroup() sourceGroup} attribute.
+   * @param value The value for sourceGroup
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroup(List<GroupedSource> value) {
+    @Nullable List<GroupedSource> newValue = Preconditions.checkNotNull(value, "sourceGroup");
+    if (this.sourceGroup == newValue) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        this.sourcePath,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractGroupedSource#getSourceGroup() sourceGroup} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceGroup
+   * @return A modified copy of {@code this} object
+   */
+  public final GroupedSource withSourceGroup(Optional<List<GroupedSource>> optional) {
+    @Nullable List<GroupedSource> value = optional.orElse(null);
+    if (this.sourceGroup == value) return this;
+    return validate(new GroupedSource(
+        this,
+        this.type,
+        this.sourceWithFlags,
+        this.sourcePath,
+        this.sourceGroupName,
+        this.sourceGroupPathRelativeToTarget,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code GroupedSource} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof GroupedSource
+        && equalTo((GroupedSource) another);
+  }
+
+  private boolean equalTo(GroupedSource another) {
+    return type.equals(another.type)
+        && Objects.equal(sourceWithFlags, another.sourceWithFlags)
+        && Objects.equal(sourcePath, another.sourcePath)
+        && Objects.equal(sourceGroupName, another.sourceGroupName)
+        && Objects.equal(sourceGroupPathRelativeToTarget, another.sourceGroupPathRelativeToTarget)
+        && Objects.equal(sourceGroup, another.sourceGroup);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code type}, {@code sourceWithFlags}, {@code sourcePath}, {@code sourceGroupName}, {@code sourceGroupPathRelativeToTarget}, {@code sourceGroup}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + type.hashCode();
+    h = h * 17 + Objects.hashCode(sourceWithFlags);
+    h = h * 17 + Objects.hashCode(sourcePath);
+    h = h * 17 + Objects.hashCode(sourceGroupName);
+    h = h * 17 + Objects.hashCode(sourceGroupPathRelativeToTarget);
+    h = h * 17 + Objects.hashCode(sourceGroup);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code GroupedSource} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("GroupedSource")
+        .omitNullValues()
+        .add("type", type)
+        .add("sourceWithFlags", sourceWithFlags)
+        .add("sourcePath", sourcePath)
+        .add("sourceGroupName", sourceGroupName)
+        .add("sourceGroupPathRelativeToTarget", sourceGroupPathRelativeToTarget)
+        .add("sourceGroup", sourceGroup)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code GroupedSource} instance.
+   * @param type The value for the {@code type} attribute
+   * @param sourceWithFlags The value for the {@code sourceWithFlags} attribute
+   * @param sourcePath The value for the {@code sourcePath} attribute
+   * @param sourceGroupName The value for the {@code sourceGroupName} attribute
+   * @param sourceGroupPathRelativeToTarget The value for the {@code sourceGroupPathRelativeToTarget} attribute
+   * @param sourceGroup The value for the {@code sourceGroup} attribute
+   * @return An immutable GroupedSource instance
+   */
+  public static GroupedSource of(AbstractGroupedSource.Type type, Optional<SourceWithFlags> sourceWithFlags, Optional<SourcePath> sourcePath, Optional<String> sourceGroupName, Optional<Path> sourceGroupPathRelativeToTarget, Optional<List<GroupedSource>> sourceGroup) {
+    return validate(new GroupedSource(type, sourceWithFlags, sourcePath, sourceGroupName, sourceGroupPathRelativeToTarget, sourceGroup));
+  }
+
+  private static GroupedSource validate(GroupedSource instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractGroupedSource} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable GroupedSource instance
+   */
+  static GroupedSource copyOf(AbstractGroupedSource instance) {
+    if (instance instanceof GroupedSource) {
+      return (GroupedSource) instance;
+    }
+    return GroupedSource.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link GroupedSource GroupedSource}.
+   * @return A new GroupedSource builder
+   */
+  public static GroupedSource.Builder builder() {
+    return new GroupedSource.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link GroupedSource GroupedSource}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable AbstractGroupedSource.Type type;
+    private @Nullable SourceWithFlags sourceWithFlags;
+    private @Nullable SourcePath sourcePath;
+    private @Nullable String sourceGroupName;
+    private @Nullable Path sourceGroupPathRelativeToTarget;
+    private @Nullable List<GroupedSource> sourceGroup;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code GroupedSource} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(GroupedSource instance) {
+      return from((AbstractGroupedSource) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractGroupedSource} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractGroupedSource instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setType(instance.getType());
+      Optional<SourceWithFlags> sourceWithFlagsOptional = instance.getSourceWithFlags();
+      if (sourceWithFlagsOptional.isPresent()) {
+        setSourceWithFlags(sourceWithFlagsOptional);
+      }
+      Optional<SourcePath> sourcePathOptional = instance.getSourcePath();
+      if (sourcePathOptional.isPresent()) {
+        setSourcePath(sourcePathOptional);
+      }
+      Optional<String> sourceGroupNameOptional = instance.getSourceGroupName();
+      if (sourceGroupNameOptional.isPresent()) {
+        setSourceGroupName(sourceGroupNameOptional);
+      }
+      Optional<Path> sourceGroupPathRelativeToTargetOptional = instance.getSourceGroupPathRelativeToTarget();
+      if (sourceGroupPathRelativeToTargetOptional.isPresent()) {
+        setSourceGroupPathRelativeToTarget(sourceGroupPathRelativeToTargetOptional);
+      }
+      Optional<List<GroupedSource>> sourceGroupOptional = instance.getSourceGroup();
+      if (sourceGroupOptional.isPresent()) {
+        setSourceGroup(sourceGroupOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractGroupedSource#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(AbstractGroupedSource.Type type) {
+      this.type = Preconditions.checkNotNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags} to sourceWithFlags.
+     * @param sourceWithFlags The value for sourceWithFlags
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceWithFlags(SourceWithFlags sourceWithFlags) {
+      this.sourceWithFlags = Preconditions.checkNotNull(sourceWithFlags, "sourceWithFlags");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceWithFlags() sourceWithFlags} to sourceWithFlags.
+     * @param sourceWithFlags The value for sourceWithFlags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceWithFlags(Optional<SourceWithFlags> sourceWithFlags) {
+      this.sourceWithFlags = sourceWithFlags.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourcePath(SourcePath sourcePath) {
+      this.sourcePath = Preconditions.checkNotNull(sourcePath, "sourcePath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourcePath() sourcePath} to sourcePath.
+     * @param sourcePath The value for sourcePath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourcePath(Optional<SourcePath> sourcePath) {
+      this.sourcePath = sourcePath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName} to sourceGroupName.
+     * @param sourceGroupName The value for sourceGroupName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroupName(String sourceGroupName) {
+      this.sourceGroupName = Preconditions.checkNotNull(sourceGroupName, "sourceGroupName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceGroupName() sourceGroupName} to sourceGroupName.
+     * @param sourceGroupName The value for sourceGroupName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceGroupName(Optional<String> sourceGroupName) {
+      this.sourceGroupName = sourceGroupName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget} to sourceGroupPathRelativeToTarget.
+     * @param sourceGroupPathRelativeToTarget The value for sourceGroupPathRelativeToTarget
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroupPathRelativeToTarget(Path sourceGroupPathRelativeToTarget) {
+      this.sourceGroupPathRelativeToTarget = Preconditions.checkNotNull(sourceGroupPathRelativeToTarget, "sourceGroupPathRelativeToTarget");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceGroupPathRelativeToTarget() sourceGroupPathRelativeToTarget} to sourceGroupPathRelativeToTarget.
+     * @param sourceGroupPathRelativeToTarget The value for sourceGroupPathRelativeToTarget
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceGroupPathRelativeToTarget(Optional<Path> sourceGroupPathRelativeToTarget) {
+      this.sourceGroupPathRelativeToTarget = sourceGroupPathRelativeToTarget.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceGroup() sourceGroup} to sourceGroup.
+     * @param sourceGroup The value for sourceGroup
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceGroup(List<GroupedSource> sourceGroup) {
+      this.sourceGroup = Preconditions.checkNotNull(sourceGroup, "sourceGroup");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractGroupedSource#getSourceGroup() sourceGroup} to sourceGroup.
+     * @param sourceGroup The value for sourceGroup
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceGroup(Optional<List<GroupedSource>> sourceGroup) {
+      this.sourceGroup = sourceGroup.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link GroupedSource GroupedSource}.
+     * @return An immutable instance of GroupedSource
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public GroupedSource build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return GroupedSource.validate(new GroupedSource(
+          null,
+          type,
+          sourceWithFlags,
+          sourcePath,
+          sourceGroupName,
+          sourceGroupPathRelativeToTarget,
+          sourceGroup));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      return "Cannot build GroupedSource, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,343 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DirCacheEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ArtifactCacheBuckConfig.AbstractDirCacheEntry"})
+@Immutable
+public final class DirCacheEntry
+    extends ArtifactCacheBuckConfig.AbstractDirCacheEntry {
+  private final Path cacheDir;
+  private final @Nullable Long maxSizeBytes;
+  private final ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+  private final boolean indexed;
+
+  private DirCacheEntry(DirCacheEntry.Builder builder) {
+    this.cacheDir = builder.cacheDir;
+    this.maxSizeBytes = builder.maxSizeBytes;
+    this.cacheReadMode = builder.cacheReadMode;
+    this.indexed = builder.indexedIsSet()
+        ? builder.indexed
+        : super.isIndexed();
+  }
+
+  private DirCacheEntry(
+      Path cacheDir,
+      @Nullable Long maxSizeBytes,
+      ArtifactCacheBuckConfig.CacheReadMode cacheReadMode,
+      boolean indexed) {
+    this.cacheDir = cacheDir;
+    this.maxSizeBytes = maxSizeBytes;
+    this.cacheReadMode = cacheReadMode;
+    this.indexed = indexed;
+  }
+
+  /**
+   * @return The value of the {@code cacheDir} attribute
+   */
+  @Override
+  public Path getCacheDir() {
+    return cacheDir;
+  }
+
+  /**
+   * @return The value of the {@code maxSizeBytes} attribute
+   */
+  @Override
+  public Optional<Long> getMaxSizeBytes() {
+    return Optional.ofNullable(maxSizeBytes);
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public ArtifactCacheBuckConfig.CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code indexed} attribute
+   */
+  @Override
+  public boolean isIndexed() {
+    return indexed;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheDir() cacheDir} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheDir
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withCacheDir(Path value) {
+    if (this.cacheDir == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "cacheDir");
+    return new DirCacheEntry(newValue, this.maxSizeBytes, this.cacheReadMode, this.indexed);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} attribute.
+   * @param value The value for maxSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final DirCacheEntry withMaxSizeBytes(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equal(this.maxSizeBytes, newValue)) return this;
+    return new DirCacheEntry(this.cacheDir, newValue, this.cacheReadMode, this.indexed);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for maxSizeBytes
+   * @return A modified copy of {@code this} object
+   */
+  public final DirCacheEntry withMaxSizeBytes(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equal(this.maxSizeBytes, value)) return this;
+    return new DirCacheEntry(this.cacheDir, value, this.cacheReadMode, this.indexed);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheReadMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode value) {
+    if (this.cacheReadMode == value) return this;
+    ArtifactCacheBuckConfig.CacheReadMode newValue = Preconditions.checkNotNull(value, "cacheReadMode");
+    return new DirCacheEntry(this.cacheDir, this.maxSizeBytes, newValue, this.indexed);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#isIndexed() indexed} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for indexed
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirCacheEntry withIndexed(boolean value) {
+    if (this.indexed == value) return this;
+    return new DirCacheEntry(this.cacheDir, this.maxSizeBytes, this.cacheReadMode, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DirCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DirCacheEntry
+        && equalTo((DirCacheEntry) another);
+  }
+
+  private boolean equalTo(DirCacheEntry another) {
+    return cacheDir.equals(another.cacheDir)
+        && Objects.equal(maxSizeBytes, another.maxSizeBytes)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && indexed == another.indexed;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cacheDir}, {@code maxSizeBytes}, {@code cacheReadMode}, {@code indexed}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cacheDir.hashCode();
+    h = h * 17 + Objects.hashCode(maxSizeBytes);
+    h = h * 17 + cacheReadMode.hashCode();
+    h = h * 17 + Booleans.hashCode(indexed);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DirCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirCacheEntry")
+        .omitNullValues()
+        .add("cacheDir", cacheDir)
+        .add("maxSizeBytes", maxSizeBytes)
+        .add("cacheReadMode", cacheReadMode)
+        .add("indexed", indexed)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DirCacheEntry instance
+   */
+  static DirCacheEntry copyOf(ArtifactCacheBuckConfig.AbstractDirCacheEntry instance) {
+    if (instance instanceof DirCacheEntry) {
+      return (DirCacheEntry) instance;
+    }
+    return DirCacheEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DirCacheEntry DirCacheEntry}.
+   * @return A new DirCacheEntry builder
+   */
+  public static DirCacheEntry.Builder builder() {
+    return new DirCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DirCacheEntry DirCacheEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CACHE_DIR = 0x1L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x2L;
+    private static final long OPT_BIT_INDEXED = 0x1L;
+    private long initBits = 0x3L;
+    private long optBits;
+
+    private @Nullable Path cacheDir;
+    private @Nullable Long maxSizeBytes;
+    private @Nullable ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+    private boolean indexed;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DirCacheEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DirCacheEntry instance) {
+      return from((ArtifactCacheBuckConfig.AbstractDirCacheEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDirCacheEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ArtifactCacheBuckConfig.AbstractDirCacheEntry instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setCacheDir(instance.getCacheDir());
+      Optional<Long> maxSizeBytesOptional = instance.getMaxSizeBytes();
+      if (maxSizeBytesOptional.isPresent()) {
+        setMaxSizeBytes(maxSizeBytesOptional);
+      }
+      setCacheReadMode(instance.getCacheReadMode());
+      setIndexed(instance.isIndexed());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheDir() cacheDir} attribute.
+     * @param cacheDir The value for cacheDir 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheDir(Path cacheDir) {
+      this.cacheDir = Preconditions.checkNotNull(cacheDir, "cacheDir");
+      initBits &= ~INIT_BIT_CACHE_DIR;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} to maxSizeBytes.
+     * @param maxSizeBytes The value for maxSizeBytes
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxSizeBytes(long maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getMaxSizeBytes() maxSizeBytes} to maxSizeBytes.
+     * @param maxSizeBytes The value for maxSizeBytes
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxSizeBytes(Optional<Long> maxSizeBytes) {
+      this.maxSizeBytes = maxSizeBytes.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Preconditions.checkNotNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#isIndexed() indexed} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ArtifactCacheBuckConfig.AbstractDirCacheEntry#isIndexed() indexed}.</em>
+     * @param indexed The value for indexed 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIndexed(boolean indexed) {
+      this.indexed = indexed;
+      optBits |= OPT_BIT_INDEXED;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DirCacheEntry DirCacheEntry}.
+     * @return An immutable instance of DirCacheEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DirCacheEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DirCacheEntry(this);
+    }
+
+    private boolean indexedIsSet() {
+      return (optBits & OPT_BIT_INDEXED) != 0;
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CACHE_DIR) != 0) attributes.add("cacheDir");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      return "Cannot build DirCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A request for an artifact passed to {@link ArtifactCache#multiFetch}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractFetchRequest"})
+@Immutable
+public final class FetchRequest extends AbstractFetchRequest {
+  private final LazyPath output;
+  private final @Nullable ArtifactConsumer consumer;
+
+  private FetchRequest(
+      LazyPath output,
+      Optional<ArtifactConsumer> consumer) {
+    this.output = Preconditions.checkNotNull(output, "output");
+    this.consumer = consumer.orElse(null);
+  }
+
+  private FetchRequest(
+      FetchRequest original,
+      LazyPath output,
+      @Nullable ArtifactConsumer consumer) {
+    this.output = output;
+    this.consumer = consumer;
+  }
+
+  /**
+   * The path to store the artifact to.  If there is a consumer, caches which can stream the
+   * artifact to it don't write this at all.
+   */
+  @Override
+  public LazyPath getOutput() {
+    return output;
+  }
+
+  /**
+   * @return The value of the {@code consumer} attribute
+   */
+  @Override
+  public Optional<ArtifactConsumer> getConsumer() {
+    return Optional.ofNullable(consumer);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractFetchRequest#getOutput() output} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for output
+   * @return A modified copy of the {@code this} object
+   */
+  public final FetchRequest withOutput(LazyPath value) {
+    if (this.output == value) return this;
+    LazyPath newValue = Preconditions.checkNotNull(value, "output");
+    return new FetchRequest(this, newValue, this.consumer);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractFetchRequest#getConsumer() consumer} attribute.
+   * @param value The value for consumer
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchRequest withConsumer(ArtifactConsumer value) {
+    @Nullable ArtifactConsumer newValue = Preconditions.checkNotNull(value, "consumer");
+    if (this.consumer == newValue) return this;
+    return new FetchRequest(this, this.output, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractFetchRequest#getConsumer() consumer} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for consumer
+   * @return A modified copy of {@code this} object
+   */
+  public final FetchRequest withConsumer(Optional<ArtifactConsumer> optional) {
+    @Nullable ArtifactConsumer value = optional.orElse(null);
+    if (this.consumer == value) return this;
+    return new FetchRequest(this, this.output, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code FetchRequest} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof FetchRequest
+        && equalTo((FetchRequest) another);
+  }
+
+  private boolean equalTo(FetchRequest another) {
+    return output.equals(another.output)
+        && Objects.equal(consumer, another.consumer);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code output}, {@code consumer}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + output.hashCode();
+    h = h * 17 + Objects.hashCode(consumer);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code FetchRequest} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("FetchRequest")
+        .omitNullValues()
+        .add("output", output)
+        .add("consumer", consumer)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code FetchRequest} instance.
+   * @param output The value for the {@code output} attribute
+   * @param consumer The value for the {@code consumer} attribute
+   * @return An immutable FetchRequest instance
+   */
+  public static FetchRequest of(LazyPath output, Optional<ArtifactConsumer> consumer) {
+    return new FetchRequest(output, consumer);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractFetchRequest} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable FetchRequest instance
+   */
+  static FetchRequest copyOf(AbstractFetchRequest instance) {
+    if (instance instanceof FetchRequest) {
+      return (FetchRequest) instance;
+    }
+    return FetchRequest.of(instance.getOutput(), instance.getConsumer());
+  }
+}
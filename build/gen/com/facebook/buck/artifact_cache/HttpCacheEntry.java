@@ -0,0 +1,770 @@
+package com.facebook.buck.artifact_cache;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code HttpCacheEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ArtifactCacheBuckConfig.AbstractHttpCacheEntry"})
+@Immutable
+public final class HttpCacheEntry
+    extends ArtifactCacheBuckConfig.AbstractHttpCacheEntry {
+  private final @Nullable String name;
+  private final URI url;
+  private final int timeoutSeconds;
+  private final ImmutableMap<String, String> readHeaders;
+  private final ImmutableMap<String, String> writeHeaders;
+  private final ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+  private final ImmutableSet<String> blacklistedWifiSsids;
+  private final String errorMessageFormat;
+  private final @Nullable Long maxStoreSize;
+
+  private HttpCacheEntry(
+      @Nullable String name,
+      URI url,
+      int timeoutSeconds,
+      ImmutableMap<String, String> readHeaders,
+      ImmutableMap<String, String> writeHeaders,
+      ArtifactCacheBuckConfig.CacheReadMode cacheReadMode,
+      ImmutableSet<String> blacklistedWifiSsids,
+      String errorMessageFormat,
+      @Nullable Long maxStoreSize) {
+    this.name = name;
+    this.url = url;
+    this.timeoutSeconds = timeoutSeconds;
+    this.readHeaders = readHeaders;
+    this.writeHeaders = writeHeaders;
+    this.cacheReadMode = cacheReadMode;
+    this.blacklistedWifiSsids = blacklistedWifiSsids;
+    this.errorMessageFormat = errorMessageFormat;
+    this.maxStoreSize = maxStoreSize;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public Optional<String> getName() {
+    return Optional.ofNullable(name);
+  }
+
+  /**
+   * @return The value of the {@code url} attribute
+   */
+  @Override
+  public URI getUrl() {
+    return url;
+  }
+
+  /**
+   * @return The value of the {@code timeoutSeconds} attribute
+   */
+  @Override
+  public int getTimeoutSeconds() {
+    return timeoutSeconds;
+  }
+
+  /**
+   * @return The value of the {@code readHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getReadHeaders() {
+    return readHeaders;
+  }
+
+  /**
+   * @return The value of the {@code writeHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getWriteHeaders() {
+    return writeHeaders;
+  }
+
+  /**
+   * @return The value of the {@code cacheReadMode} attribute
+   */
+  @Override
+  public ArtifactCacheBuckConfig.CacheReadMode getCacheReadMode() {
+    return cacheReadMode;
+  }
+
+  /**
+   * @return The value of the {@code blacklistedWifiSsids} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBlacklistedWifiSsids() {
+    return blacklistedWifiSsids;
+  }
+
+  /**
+   * @return The value of the {@code errorMessageFormat} attribute
+   */
+  @Override
+  public String getErrorMessageFormat() {
+    return errorMessageFormat;
+  }
+
+  /**
+   * @return The value of the {@code maxStoreSize} attribute
+   */
+  @Override
+  public Optional<Long> getMaxStoreSize() {
+    return Optional.ofNullable(maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name} attribute.
+   * @param value The value for name
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "name");
+    if (Objects.equal(this.name, newValue)) return this;
+    return new HttpCacheEntry(
+        newValue,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for name
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.name, value)) return this;
+    return new HttpCacheEntry(
+        value,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getUrl() url} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for url
+   * @return A modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withUrl(URI value) {
+    if (this.url == value) return this;
+    URI newValue = Preconditions.checkNotNull(value, "url");
+    return new HttpCacheEntry(
+        this.name,
+        newValue,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getTimeoutSeconds() timeoutSeconds} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for timeoutSeconds
+   * @return A modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withTimeoutSeconds(int value) {
+    if (this.timeoutSeconds == value) return this;
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        value,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the readHeaders map
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withReadHeaders(Map<String, ? extends String> entries) {
+    if (this.readHeaders == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        newValue,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the writeHeaders map
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withWriteHeaders(Map<String, ? extends String> entries) {
+    if (this.writeHeaders == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        newValue,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cacheReadMode
+   * @return A modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode value) {
+    if (this.cacheReadMode == value) return this;
+    ArtifactCacheBuckConfig.CacheReadMode newValue = Preconditions.checkNotNull(value, "cacheReadMode");
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        newValue,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withBlacklistedWifiSsids(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        newValue,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of blacklistedWifiSsids elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withBlacklistedWifiSsids(Iterable<String> elements) {
+    if (this.blacklistedWifiSsids == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        newValue,
+        this.errorMessageFormat,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getErrorMessageFormat() errorMessageFormat} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for errorMessageFormat
+   * @return A modified copy of the {@code this} object
+   */
+  public final HttpCacheEntry withErrorMessageFormat(String value) {
+    if (this.errorMessageFormat.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "errorMessageFormat");
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        newValue,
+        this.maxStoreSize);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getMaxStoreSize() maxStoreSize} attribute.
+   * @param value The value for maxStoreSize
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withMaxStoreSize(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equal(this.maxStoreSize, newValue)) return this;
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getMaxStoreSize() maxStoreSize} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for maxStoreSize
+   * @return A modified copy of {@code this} object
+   */
+  public final HttpCacheEntry withMaxStoreSize(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equal(this.maxStoreSize, value)) return this;
+    return new HttpCacheEntry(
+        this.name,
+        this.url,
+        this.timeoutSeconds,
+        this.readHeaders,
+        this.writeHeaders,
+        this.cacheReadMode,
+        this.blacklistedWifiSsids,
+        this.errorMessageFormat,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HttpCacheEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HttpCacheEntry
+        && equalTo((HttpCacheEntry) another);
+  }
+
+  private boolean equalTo(HttpCacheEntry another) {
+    return Objects.equal(name, another.name)
+        && url.equals(another.url)
+        && timeoutSeconds == another.timeoutSeconds
+        && readHeaders.equals(another.readHeaders)
+        && writeHeaders.equals(another.writeHeaders)
+        && cacheReadMode.equals(another.cacheReadMode)
+        && blacklistedWifiSsids.equals(another.blacklistedWifiSsids)
+        && errorMessageFormat.equals(another.errorMessageFormat)
+        && Objects.equal(maxStoreSize, another.maxStoreSize);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code url}, {@code timeoutSeconds}, {@code readHeaders}, {@code writeHeaders}, {@code cacheReadMode}, {@code blacklistedWifiSsids}, {@code errorMessageFormat}, {@code maxStoreSize}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(name);
+    h = h * 17 + url.hashCode();
+    h = h * 17 + timeoutSeconds;
+    h = h * 17 + readHeaders.hashCode();
+    h = h * 17 + writeHeaders.hashCode();
+    h = h * 17 + cacheReadMode.hashCode();
+    h = h * 17 + blacklistedWifiSsids.hashCode();
+    h = h * 17 + errorMessageFormat.hashCode();
+    h = h * 17 + Objects.hashCode(maxStoreSize);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HttpCacheEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HttpCacheEntry")
+        .omitNullValues()
+        .add("name", name)
+        .add("url", url)
+        .add("timeoutSeconds", timeoutSeconds)
+        .add("readHeaders", readHeaders)
+        .add("writeHeaders", writeHeaders)
+        .add("cacheReadMode", cacheReadMode)
+        .add("blacklistedWifiSsids", blacklistedWifiSsids)
+        .add("errorMessageFormat", errorMessageFormat)
+        .add("maxStoreSize", maxStoreSize)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HttpCacheEntry instance
+   */
+  static HttpCacheEntry copyOf(ArtifactCacheBuckConfig.AbstractHttpCacheEntry instance) {
+    if (instance instanceof HttpCacheEntry) {
+      return (HttpCacheEntry) instance;
+    }
+    return HttpCacheEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HttpCacheEntry HttpCacheEntry}.
+   * @return A new HttpCacheEntry builder
+   */
+  public static HttpCacheEntry.Builder builder() {
+    return new HttpCacheEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HttpCacheEntry HttpCacheEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_URL = 0x1L;
+    private static final long INIT_BIT_TIMEOUT_SECONDS = 0x2L;
+    private static final long INIT_BIT_CACHE_READ_MODE = 0x4L;
+    private static final long INIT_BIT_ERROR_MESSAGE_FORMAT = 0x8L;
+    private long initBits = 0xfL;
+
+    private @Nullable String name;
+    private @Nullable URI url;
+    private int timeoutSeconds;
+    private ImmutableMap.Builder<String, String> readHeaders = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, String> writeHeaders = ImmutableMap.builder();
+    private @Nullable ArtifactCacheBuckConfig.CacheReadMode cacheReadMode;
+    private ImmutableSet.Builder<String> blacklistedWifiSsids = ImmutableSet.builder();
+    private @Nullable String errorMessageFormat;
+    private @Nullable Long maxStoreSize;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HttpCacheEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HttpCacheEntry instance) {
+      return from((ArtifactCacheBuckConfig.AbstractHttpCacheEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHttpCacheEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ArtifactCacheBuckConfig.AbstractHttpCacheEntry instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      Optional<String> nameOptional = instance.getName();
+      if (nameOptional.isPresent()) {
+        setName(nameOptional);
+      }
+      setUrl(instance.getUrl());
+      setTimeoutSeconds(instance.getTimeoutSeconds());
+      putAllReadHeaders(instance.getReadHeaders());
+      putAllWriteHeaders(instance.getWriteHeaders());
+      setCacheReadMode(instance.getCacheReadMode());
+      addAllBlacklistedWifiSsids(instance.getBlacklistedWifiSsids());
+      setErrorMessageFormat(instance.getErrorMessageFormat());
+      Optional<Long> maxStoreSizeOptional = instance.getMaxStoreSize();
+      if (maxStoreSizeOptional.isPresent()) {
+        setMaxStoreSize(maxStoreSizeOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name} to name.
+     * @param name The value for name
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setName(String name) {
+      this.name = Preconditions.checkNotNull(name, "name");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getName() name} to name.
+     * @param name The value for name
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setName(Optional<String> name) {
+      this.name = name.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getUrl() url} attribute.
+     * @param url The value for url 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUrl(URI url) {
+      this.url = Preconditions.checkNotNull(url, "url");
+      initBits &= ~INIT_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getTimeoutSeconds() timeoutSeconds} attribute.
+     * @param timeoutSeconds The value for timeoutSeconds 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTimeoutSeconds(int timeoutSeconds) {
+      this.timeoutSeconds = timeoutSeconds;
+      initBits &= ~INIT_BIT_TIMEOUT_SECONDS;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map.
+     * @param key The key in the readHeaders map
+     * @param value The associated value in the readHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putReadHeaders(String key, String value) {
+      this.readHeaders.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putReadHeaders(Map.Entry<String, ? extends String> entry) {
+      this.readHeaders.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param readHeaders The entries that will be added to the readHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setReadHeaders(Map<String, ? extends String> readHeaders) {
+      this.readHeaders = ImmutableMap.builder();
+      return putAllReadHeaders(readHeaders);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getReadHeaders() readHeaders} map. Nulls are not permitted
+     * @param readHeaders The entries that will be added to the readHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllReadHeaders(Map<String, ? extends String> readHeaders) {
+      this.readHeaders.putAll(readHeaders);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map.
+     * @param key The key in the writeHeaders map
+     * @param value The associated value in the writeHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putWriteHeaders(String key, String value) {
+      this.writeHeaders.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putWriteHeaders(Map.Entry<String, ? extends String> entry) {
+      this.writeHeaders.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param writeHeaders The entries that will be added to the writeHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setWriteHeaders(Map<String, ? extends String> writeHeaders) {
+      this.writeHeaders = ImmutableMap.builder();
+      return putAllWriteHeaders(writeHeaders);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getWriteHeaders() writeHeaders} map. Nulls are not permitted
+     * @param writeHeaders The entries that will be added to the writeHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllWriteHeaders(Map<String, ? extends String> writeHeaders) {
+      this.writeHeaders.putAll(writeHeaders);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getCacheReadMode() cacheReadMode} attribute.
+     * @param cacheReadMode The value for cacheReadMode 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCacheReadMode(ArtifactCacheBuckConfig.CacheReadMode cacheReadMode) {
+      this.cacheReadMode = Preconditions.checkNotNull(cacheReadMode, "cacheReadMode");
+      initBits &= ~INIT_BIT_CACHE_READ_MODE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param element A blacklistedWifiSsids element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBlacklistedWifiSsids(String element) {
+      this.blacklistedWifiSsids.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements An array of blacklistedWifiSsids elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBlacklistedWifiSsids(String... elements) {
+      this.blacklistedWifiSsids.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements An iterable of blacklistedWifiSsids elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBlacklistedWifiSsids(Iterable<String> elements) {
+      this.blacklistedWifiSsids = ImmutableSet.builder();
+      return addAllBlacklistedWifiSsids(elements);
+    }
+
+    /**
+     * Adds elements to {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getBlacklistedWifiSsids() blacklistedWifiSsids} set.
+     * @param elements An iterable of blacklistedWifiSsids elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBlacklistedWifiSsids(Iterable<String> elements) {
+      this.blacklistedWifiSsids.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getErrorMessageFormat() errorMessageFormat} attribute.
+     * @param errorMessageFormat The value for errorMessageFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setErrorMessageFormat(String errorMessageFormat) {
+      this.errorMessageFormat = Preconditions.checkNotNull(errorMessageFormat, "errorMessageFormat");
+      initBits &= ~INIT_BIT_ERROR_MESSAGE_FORMAT;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getMaxStoreSize() maxStoreSize} to maxStoreSize.
+     * @param maxStoreSize The value for maxStoreSize
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMaxStoreSize(long maxStoreSize) {
+      this.maxStoreSize = maxStoreSize;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link ArtifactCacheBuckConfig.AbstractHttpCacheEntry#getMaxStoreSize() maxStoreSize} to maxStoreSize.
+     * @param maxStoreSize The value for maxStoreSize
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMaxStoreSize(Optional<Long> maxStoreSize) {
+      this.maxStoreSize = maxStoreSize.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HttpCacheEntry HttpCacheEntry}.
+     * @return An immutable instance of HttpCacheEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HttpCacheEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new HttpCacheEntry(
+          name,
+          url,
+          timeoutSeconds,
+          readHeaders.build(),
+          writeHeaders.build(),
+          cacheReadMode,
+          blacklistedWifiSsids.build(),
+          errorMessageFormat,
+          maxStoreSize);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_URL) != 0) attributes.add("url");
+      if ((initBits & INIT_BIT_TIMEOUT_SECONDS) != 0) attributes.add("timeoutSeconds");
+      if ((initBits & INIT_BIT_CACHE_READ_MODE) != 0) attributes.add("cacheReadMode");
+      if ((initBits & INIT_BIT_ERROR_MESSAGE_FORMAT) != 0) attributes.add("errorMessageFormat");
+      return "Cannot build HttpCacheEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,316 @@
+package com.facebook.buck.cli;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link TargetsCommand.AbstractShowOptions}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ShowOptions.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "TargetsCommand.AbstractShowOptions"})
+@Immutable
+public final class ShowOptions extends TargetsCommand.AbstractShowOptions {
+  private final @Nullable String outputPath;
+  private final @Nullable String ruleKey;
+  private final @Nullable String targetHash;
+
+  private ShowOptions(
+      @Nullable String outputPath,
+      @Nullable String ruleKey,
+      @Nullable String targetHash) {
+    this.outputPath = outputPath;
+    this.ruleKey = ruleKey;
+    this.targetHash = targetHash;
+  }
+
+  /**
+   * @return The value of the {@code outputPath} attribute
+   */
+  @Override
+  public Optional<String> getOutputPath() {
+    return Optional.ofNullable(outputPath);
+  }
+
+  /**
+   * @return The value of the {@code ruleKey} attribute
+   */
+  @Override
+  public Optional<String> getRuleKey() {
+    return Optional.ofNullable(ruleKey);
+  }
+
+  /**
+   * @return The value of the {@code targetHash} attribute
+   */
+  @Override
+  public Optional<String> getTargetHash() {
+    return Optional.ofNullable(targetHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath} attribute.
+   * @param value The value for outputPath
+   * @return A modified copy of {@code this} object
+   */
+  public final ShowOptions withOutputPath(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "outputPath");
+    if (Objects.equal(this.outputPath, newValue)) return this;
+    return new ShowOptions(newValue, this.ruleKey, this.targetHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for outputPath
+   * @return A modified copy of {@code this} object
+   */
+  public final ShowOptions withOutputPath(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.outputPath, value)) return this;
+    return new ShowOptions(value, this.ruleKey, this.targetHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey} attribute.
+   * @param value The value for ruleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final ShowOptions withRuleKey(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "ruleKey");
+    if (Objects.equal(this.ruleKey, newValue)) return this;
+    return new ShowOptions(this.outputPath, newValue, this.targetHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for ruleKey
+   * @return A modified copy of {@code this} object
+   */
+  public final ShowOptions withRuleKey(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.ruleKey, value)) return this;
+    return new ShowOptions(this.outputPath, value, this.targetHash);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash} attribute.
+   * @param value The value for targetHash
+   * @return A modified copy of {@code this} object
+   */
+  public final ShowOptions withTargetHash(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "targetHash");
+    if (Objects.equal(this.targetHash, newValue)) return this;
+    return new ShowOptions(this.outputPath, this.ruleKey, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for targetHash
+   * @return A modified copy of {@code this} object
+   */
+  public final ShowOptions withTargetHash(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.targetHash, value)) return this;
+    return new ShowOptions(this.outputPath, this.ruleKey, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ShowOptions} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ShowOptions
+        && equalTo((ShowOptions) another);
+  }
+
+  private boolean equalTo(ShowOptions another) {
+    return Objects.equal(outputPath, another.outputPath)
+        && Objects.equal(ruleKey, another.ruleKey)
+        && Objects.equal(targetHash, another.targetHash);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code outputPath}, {@code ruleKey}, {@code targetHash}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(outputPath);
+    h = h * 17 + Objects.hashCode(ruleKey);
+    h = h * 17 + Objects.hashCode(targetHash);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ShowOptions} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ShowOptions")
+        .omitNullValues()
+        .add("outputPath", outputPath)
+        .add("ruleKey", ruleKey)
+        .add("targetHash", targetHash)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link TargetsCommand.AbstractShowOptions} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ShowOptions instance
+   */
+  static ShowOptions copyOf(TargetsCommand.AbstractShowOptions instance) {
+    if (instance instanceof ShowOptions) {
+      return (ShowOptions) instance;
+    }
+    return ShowOptions.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ShowOptions ShowOptions}.
+   * @return A new ShowOptions builder
+   */
+  public static ShowOptions.Builder builder() {
+    return new ShowOptions.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ShowOptions ShowOptions}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable String outputPath;
+    private @Nullable String ruleKey;
+    private @Nullable String targetHash;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ShowOptions} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ShowOptions instance) {
+      return from((TargetsCommand.AbstractShowOptions) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractShowOptions} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(TargetsCommand.AbstractShowOptions instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      Optional<String> outputPathOptional = instance.getOutputPath();
+      if (outputPathOptional.isPresent()) {
+        setOutputPath(outputPathOptional);
+      }
+      Optional<String> ruleKeyOptional = instance.getRuleKey();
+      if (ruleKeyOptional.isPresent()) {
+        setRuleKey(ruleKeyOptional);
+      }
+      Optional<String> targetHashOptional = instance.getTargetHash();
+      if (targetHashOptional.isPresent()) {
+        setTargetHash(targetHashOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath} to outputPath.
+     * @param outputPath The value for outputPath
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setOutputPath(String outputPath) {
+      this.outputPath = Preconditions.checkNotNull(outputPath, "outputPath");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.AbstractShowOptions#getOutputPath() outputPath} to outputPath.
+     * @param outputPath The value for outputPath
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setOutputPath(Optional<String> outputPath) {
+      this.outputPath = outputPath.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey} to ruleKey.
+     * @param ruleKey The value for ruleKey
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRuleKey(String ruleKey) {
+      this.ruleKey = Preconditions.checkNotNull(ruleKey, "ruleKey");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.AbstractShowOptions#getRuleKey() ruleKey} to ruleKey.
+     * @param ruleKey The value for ruleKey
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleKey(Optional<String> ruleKey) {
+      this.ruleKey = ruleKey.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash} to targetHash.
+     * @param targetHash The value for targetHash
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setTargetHash(String targetHash) {
+      this.targetHash = Preconditions.checkNotNull(targetHash, "targetHash");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link TargetsCommand.AbstractShowOptions#getTargetHash() targetHash} to targetHash.
+     * @param targetHash The value for targetHash
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargetHash(Optional<String> targetHash) {
+      this.targetHash = targetHash.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ShowOptions ShowOptions}.
+     * @return An immutable instance of ShowOptions
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ShowOptions build() {
+      return new ShowOptions(outputPath, ruleKey, targetHash);
+    }
+  }
+}
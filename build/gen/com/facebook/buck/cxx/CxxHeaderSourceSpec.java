@@ -0,0 +1,293 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.Map;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractCxxHeaderSourceSpec}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code CxxHeaderSourceSpec.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code CxxHeaderSourceSpec.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxHeaderSourceSpec"})
+@Immutable
+public final class CxxHeaderSourceSpec implements AbstractCxxHeaderSourceSpec {
+  private final ImmutableMap<Path, SourcePath> cxxHeaders;
+  private final ImmutableMap<String, CxxSource> cxxSources;
+
+  private CxxHeaderSourceSpec(
+      Map<? extends Path, ? extends SourcePath> cxxHeaders,
+      Map<String, ? extends CxxSource> cxxSources) {
+    this.cxxHeaders = ImmutableMap.copyOf(cxxHeaders);
+    this.cxxSources = ImmutableMap.copyOf(cxxSources);
+  }
+
+  private CxxHeaderSourceSpec(
+      CxxHeaderSourceSpec original,
+      ImmutableMap<Path, SourcePath> cxxHeaders,
+      ImmutableMap<String, CxxSource> cxxSources) {
+    this.cxxHeaders = cxxHeaders;
+    this.cxxSources = cxxSources;
+  }
+
+  /**
+   * @return The value of the {@code cxxHeaders} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getCxxHeaders() {
+    return cxxHeaders;
+  }
+
+  /**
+   * @return The value of the {@code cxxSources} attribute
+   */
+  @Override
+  public ImmutableMap<String, CxxSource> getCxxSources() {
+    return cxxSources;
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the cxxHeaders map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxHeaderSourceSpec withCxxHeaders(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.cxxHeaders == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new CxxHeaderSourceSpec(this, newValue, this.cxxSources);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the cxxSources map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxHeaderSourceSpec withCxxSources(Map<String, ? extends CxxSource> entries) {
+    if (this.cxxSources == entries) return this;
+    ImmutableMap<String, CxxSource> newValue = ImmutableMap.copyOf(entries);
+    return new CxxHeaderSourceSpec(this, this.cxxHeaders, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxHeaderSourceSpec} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxHeaderSourceSpec
+        && equalTo((CxxHeaderSourceSpec) another);
+  }
+
+  private boolean equalTo(CxxHeaderSourceSpec another) {
+    return cxxHeaders.equals(another.cxxHeaders)
+        && cxxSources.equals(another.cxxSources);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code cxxHeaders}, {@code cxxSources}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + cxxHeaders.hashCode();
+    h = h * 17 + cxxSources.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxHeaderSourceSpec} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxHeaderSourceSpec")
+        .omitNullValues()
+        .add("cxxHeaders", cxxHeaders)
+        .add("cxxSources", cxxSources)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code CxxHeaderSourceSpec} instance.
+   * @param cxxHeaders The value for the {@code cxxHeaders} attribute
+   * @param cxxSources The value for the {@code cxxSources} attribute
+   * @return An immutable CxxHeaderSourceSpec instance
+   */
+  public static CxxHeaderSourceSpec of(Map<? extends Path, ? extends SourcePath> cxxHeaders, Map<String, ? extends CxxSource> cxxSources) {
+    return new CxxHeaderSourceSpec(cxxHeaders, cxxSources);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxHeaderSourceSpec} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxHeaderSourceSpec instance
+   */
+  static CxxHeaderSourceSpec copyOf(AbstractCxxHeaderSourceSpec instance) {
+    if (instance instanceof CxxHeaderSourceSpec) {
+      return (CxxHeaderSourceSpec) instance;
+    }
+    return CxxHeaderSourceSpec.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxHeaderSourceSpec CxxHeaderSourceSpec}.
+   * @return A new CxxHeaderSourceSpec builder
+   */
+  public static CxxHeaderSourceSpec.Builder builder() {
+    return new CxxHeaderSourceSpec.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxHeaderSourceSpec CxxHeaderSourceSpec}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableMap.Builder<Path, SourcePath> cxxHeaders = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, CxxSource> cxxSources = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxHeaderSourceSpec} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxHeaderSourceSpec instance) {
+      return from((AbstractCxxHeaderSourceSpec) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxHeaderSourceSpec} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxHeaderSourceSpec instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      putAllCxxHeaders(instance.getCxxHeaders());
+      putAllCxxSources(instance.getCxxSources());
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map.
+     * @param key The key in the cxxHeaders map
+     * @param value The associated value in the cxxHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCxxHeaders(Path key, SourcePath value) {
+      this.cxxHeaders.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCxxHeaders(Map.Entry<? extends Path, ? extends SourcePath> entry) {
+      this.cxxHeaders.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map. Nulls are not permitted
+     * @param cxxHeaders The entries that will be added to the cxxHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxHeaders(Map<? extends Path, ? extends SourcePath> cxxHeaders) {
+      this.cxxHeaders = ImmutableMap.builder();
+      return putAllCxxHeaders(cxxHeaders);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxHeaderSourceSpec#getCxxHeaders() cxxHeaders} map. Nulls are not permitted
+     * @param cxxHeaders The entries that will be added to the cxxHeaders map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllCxxHeaders(Map<? extends Path, ? extends SourcePath> cxxHeaders) {
+      this.cxxHeaders.putAll(cxxHeaders);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map.
+     * @param key The key in the cxxSources map
+     * @param value The associated value in the cxxSources map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCxxSources(String key, CxxSource value) {
+      this.cxxSources.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putCxxSources(Map.Entry<String, ? extends CxxSource> entry) {
+      this.cxxSources.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map. Nulls are not permitted
+     * @param cxxSources The entries that will be added to the cxxSources map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxSources(Map<String, ? extends CxxSource> cxxSources) {
+      this.cxxSources = ImmutableMap.builder();
+      return putAllCxxSources(cxxSources);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxHeaderSourceSpec#getCxxSources() cxxSources} map. Nulls are not permitted
+     * @param cxxSources The entries that will be added to the cxxSources map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllCxxSources(Map<String, ? extends CxxSource> cxxSources) {
+      this.cxxSources.putAll(cxxSources);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxHeaderSourceSpec CxxHeaderSourceSpec}.
+     * @return An immutable instance of CxxHeaderSourceSpec
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxHeaderSourceSpec build() {
+      return new CxxHeaderSourceSpec(null, cxxHeaders.build(), cxxSources.build());
+    }
+  }
+}
@@ -0,0 +1,5126 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.model.Flavor;
+import com.facebook.buck.model.FlavorConvertible;
+import com.facebook.buck.rules.Tool;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Interface describing a C/C++ toolchain and platform to build for.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCxxPlatform"})
+@Immutable
+public final class CxxPlatform implements AbstractCxxPlatform {
+  private final Flavor flavor;
+  private final CompilerProvider as;
+  private final ImmutableList<String> asflags;
+  private final PreprocessorProvider aspp;
+  private final ImmutableList<String> asppflags;
+  private final CompilerProvider cc;
+  private final ImmutableList<String> cflags;
+  private final CompilerProvider cxx;
+  private final ImmutableList<String> cxxflags;
+  private final PreprocessorProvider cpp;
+  private final ImmutableList<String> cppflags;
+  private final PreprocessorProvider cxxpp;
+  private final ImmutableList<String> cxxppflags;
+  private final @Nullable PreprocessorProvider cudapp;
+  private final ImmutableList<String> cudappflags;
+  private final @Nullable CompilerProvider cuda;
+  private final ImmutableList<String> cudaflags;
+  private final @Nullable PreprocessorProvider asmpp;
+  private final ImmutableList<String> asmppflags;
+  private final @Nullable CompilerProvider asm;
+  private final ImmutableList<String> asmflags;
+  private final LinkerProvider ld;
+  private final ImmutableList<String> ldflags;
+  private final ImmutableMultimap<Linker.LinkableDepType, String> runtimeLdflags;
+  private final Tool strip;
+  private final ImmutableList<String> stripFlags;
+  private final Archiver ar;
+  private final ImmutableList<String> arflags;
+  private final Tool ranlib;
+  private final ImmutableList<String> ranlibflags;
+  private final SymbolNameTool symbolNameTool;
+  private final String sharedLibraryExtension;
+  private final String sharedLibraryVersionedExtensionFormat;
+  private final String staticLibraryExtension;
+  private final String objectFileExtension;
+  private final DebugPathSanitizer compilerDebugPathSanitizer;
+  private final DebugPathSanitizer assemblerDebugPathSanitizer;
+  private final HeaderVerification headerVerification;
+  private final ImmutableMap<String, String> flagMacros;
+  private final @Nullable SharedLibraryInterfaceFactory sharedLibraryInterfaceFactory;
+  private final @Nullable String binaryExtension;
+
+  private CxxPlatform(
+      Flavor flavor,
+      CompilerProvider as,
+      ImmutableList<String> asflags,
+      PreprocessorProvider aspp,
+      ImmutableList<String> asppflags,
+      CompilerProvider cc,
+      ImmutableList<String> cflags,
+      CompilerProvider cxx,
+      ImmutableList<String> cxxflags,
+      PreprocessorProvider cpp,
+      ImmutableList<String> cppflags,
+      PreprocessorProvider cxxpp,
+      ImmutableList<String> cxxppflags,
+      @Nullable PreprocessorProvider cudapp,
+      ImmutableList<String> cudappflags,
+      @Nullable CompilerProvider cuda,
+      ImmutableList<String> cudaflags,
+      @Nullable PreprocessorProvider asmpp,
+      ImmutableList<String> asmppflags,
+      @Nullable CompilerProvider asm,
+      ImmutableList<String> asmflags,
+      LinkerProvider ld,
+      ImmutableList<String> ldflags,
+      ImmutableMultimap<Linker.LinkableDepType, String> runtimeLdflags,
+      Tool strip,
+      ImmutableList<String> stripFlags,
+      Archiver ar,
+      ImmutableList<String> arflags,
+      Tool ranlib,
+      ImmutableList<String> ranlibflags,
+      SymbolNameTool symbolNameTool,
+      String sharedLibraryExtension,
+      String sharedLibraryVersionedExtensionFormat,
+      String staticLibraryExtension,
+      String objectFileExtension,
+      DebugPathSanitizer compilerDebugPathSanitizer,
+      DebugPathSanitizer assemblerDebugPathSanitizer,
+      HeaderVerification headerVerification,
+      ImmutableMap<String, String> flagMacros,
+      @Nullable SharedLibraryInterfaceFactory sharedLibraryInterfaceFactory,
+      @Nullable String binaryExtension) {
+    this.flavor = flavor;
+    this.as = as;
+    this.asflags = asflags;
+    this.aspp = aspp;
+    this.asppflags = asppflags;
+    this.cc = cc;
+    this.cflags = cflags;
+    this.cxx = cxx;
+    this.cxxflags = cxxflags;
+    this.cpp = cpp;
+    this.cppflags = cppflags;
+    this.cxxpp = cxxpp;
+    this.cxxppflags = cxxppflags;
+    this.cudapp = cudapp;
+    this.cudappflags = cudappflags;
+    this.cuda = cuda;
+    this.cudaflags = cudaflags;
+    this.asmpp = asmpp;
+    this.asmppflags = asmppflags;
+    this.asm = asm;
+    this.asmflags = asmflags;
+    this.ld = ld;
+    this.ldflags = ldflags;
+    this.runtimeLdflags = runtimeLdflags;
+    this.strip = strip;
+    this.stripFlags = stripFlags;
+    this.ar = ar;
+    this.arflags = arflags;
+    this.ranlib = ranlib;
+    this.ranlibflags = ranlibflags;
+    this.symbolNameTool = symbolNameTool;
+    this.sharedLibraryExtension = sharedLibraryExtension;
+    this.sharedLibraryVersionedExtensionFormat = sharedLibraryVersionedExtensionFormat;
+    this.staticLibraryExtension = staticLibraryExtension;
+    this.objectFileExtension = objectFileExtension;
+    this.compilerDebugPathSanitizer = compilerDebugPathSanitizer;
+    this.assemblerDebugPathSanitizer = assemblerDebugPathSanitizer;
+    this.headerVerification = headerVerification;
+    this.flagMacros = flagMacros;
+    this.sharedLibraryInterfaceFactory = sharedLibraryInterfaceFactory;
+    this.binaryExtension = binaryExtension;
+  }
+
+  /**
+   * @return The value of the {@code flavor} attribute
+   */
+  @Override
+  public Flavor getFlavor() {
+    return flavor;
+  }
+
+  /**
+   * @return The value of the {@code as} attribute
+   */
+  @Override
+  public CompilerProvider getAs() {
+    return as;
+  }
+
+  /**
+   * @return The value of the {@code asflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsflags() {
+    return asflags;
+  }
+
+  /**
+   * @return The value of the {@code aspp} attribute
+   */
+  @Override
+  public PreprocessorProvider getAspp() {
+    return aspp;
+  }
+
+  /**
+   * @return The value of the {@code asppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsppflags() {
+    return asppflags;
+  }
+
+  /**
+   * @return The value of the {@code cc} attribute
+   */
+  @Override
+  public CompilerProvider getCc() {
+    return cc;
+  }
+
+  /**
+   * @return The value of the {@code cflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCflags() {
+    return cflags;
+  }
+
+  /**
+   * @return The value of the {@code cxx} attribute
+   */
+  @Override
+  public CompilerProvider getCxx() {
+    return cxx;
+  }
+
+  /**
+   * @return The value of the {@code cxxflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCxxflags() {
+    return cxxflags;
+  }
+
+  /**
+   * @return The value of the {@code cpp} attribute
+   */
+  @Override
+  public PreprocessorProvider getCpp() {
+    return cpp;
+  }
+
+  /**
+   * @return The value of the {@code cppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCppflags() {
+    return cppflags;
+  }
+
+  /**
+   * @return The value of the {@code cxxpp} attribute
+   */
+  @Override
+  public PreprocessorProvider getCxxpp() {
+    return cxxpp;
+  }
+
+  /**
+   * @return The value of the {@code cxxppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCxxppflags() {
+    return cxxppflags;
+  }
+
+  /**
+   * @return The value of the {@code cudapp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getCudapp() {
+    return Optional.ofNullable(cudapp);
+  }
+
+  /**
+   * @return The value of the {@code cudappflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCudappflags() {
+    return cudappflags;
+  }
+
+  /**
+   * @return The value of the {@code cuda} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getCuda() {
+    return Optional.ofNullable(cuda);
+  }
+
+  /**
+   * @return The value of the {@code cudaflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getCudaflags() {
+    return cudaflags;
+  }
+
+  /**
+   * @return The value of the {@code asmpp} attribute
+   */
+  @Override
+  public Optional<PreprocessorProvider> getAsmpp() {
+    return Optional.ofNullable(asmpp);
+  }
+
+  /**
+   * @return The value of the {@code asmppflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsmppflags() {
+    return asmppflags;
+  }
+
+  /**
+   * @return The value of the {@code asm} attribute
+   */
+  @Override
+  public Optional<CompilerProvider> getAsm() {
+    return Optional.ofNullable(asm);
+  }
+
+  /**
+   * @return The value of the {@code asmflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getAsmflags() {
+    return asmflags;
+  }
+
+  /**
+   * @return The value of the {@code ld} attribute
+   */
+  @Override
+  public LinkerProvider getLd() {
+    return ld;
+  }
+
+  /**
+   * @return The value of the {@code ldflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getLdflags() {
+    return ldflags;
+  }
+
+  /**
+   * @return The value of the {@code runtimeLdflags} attribute
+   */
+  @Override
+  public ImmutableMultimap<Linker.LinkableDepType, String> getRuntimeLdflags() {
+    return runtimeLdflags;
+  }
+
+  /**
+   * @return The value of the {@code strip} attribute
+   */
+  @Override
+  public Tool getStrip() {
+    return strip;
+  }
+
+  /**
+   * @return The value of the {@code stripFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getStripFlags() {
+    return stripFlags;
+  }
+
+  /**
+   * @return The value of the {@code ar} attribute
+   */
+  @Override
+  public Archiver getAr() {
+    return ar;
+  }
+
+  /**
+   * @return The value of the {@code arflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getArflags() {
+    return arflags;
+  }
+
+  /**
+   * @return The value of the {@code ranlib} attribute
+   */
+  @Override
+  public Tool getRanlib() {
+    return ranlib;
+  }
+
+  /**
+   * @return The value of the {@code ranlibflags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRanlibflags() {
+    return ranlibflags;
+  }
+
+  /**
+   * @return The value of the {@code symbolNameTool} attribute
+   */
+  @Override
+  public SymbolNameTool getSymbolNameTool() {
+    return symbolNameTool;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryExtension} attribute
+   */
+  @Override
+  public String getSharedLibraryExtension() {
+    return sharedLibraryExtension;
+  }
+
+  /**
+   * @return The value of the {@code sharedLibraryVersionedExtensionFormat} attribute
+   */
+  @Override
+  public String getSharedLibraryVersionedExtensionFormat() {
+    return sharedLibraryVersionedExtensionFormat;
+  }
+
+  /**
+   * @return The value of the {@code staticLibraryExtension} attribute
+   */
+  @Override
+  public String getStaticLibraryExtension() {
+    return staticLibraryExtension;
+  }
+
+  /**
+   * @return The value of the {@code objectFileExtension} attribute
+   */
+  @Override
+  public String getObjectFileExtension() {
+    return objectFileExtension;
+  }
+
+  /**
+   * @return The value of the {@code compilerDebugPathSanitizer} attribute
+   */
+  @Override
+  public DebugPathSanitizer getCompilerDebugPathSanitizer() {
+    return compilerDebugPathSanitizer;
+  }
+
+  /**
+   * @return The value of the {@code assemblerDebugPathSanitizer} attribute
+   */
+  @Override
+  public DebugPathSanitizer getAssemblerDebugPathSanitizer() {
+    return assemblerDebugPathSanitizer;
+  }
+
+  /**
+   * @return The value of the {@code headerVerification} attribute
+   */
+  @Override
+  public HeaderVerification getHeaderVerification() {
+    return headerVerification;
+  }
+
+  /**
+   * @return a map for macro names to their respective expansions, to be used to expand macro
+   *     references in user-provided flags.
+   */
+  @Override
+  public ImmutableMap<String, String> getFlagMacros() {
+    return flagMacros;
+  }
+
+  /**
+   * @return a factory used to generated shared library interfaces, which are used for linking in
+   *         liu of the original shared library.
+   */
+  @Override
+  public Optional<SharedLibraryInterfaceFactory> getSharedLibraryInterfaceFactory() {
+    return Optional.ofNullable(sharedLibraryInterfaceFactory);
+  }
+
+  /**
+   * @return The value of the {@code binaryExtension} attribute
+   */
+  @Override
+  public Optional<String> getBinaryExtension() {
+    return Optional.ofNullable(binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getFlavor() flavor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flavor
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withFlavor(Flavor value) {
+    if (this.flavor == value) return this;
+    Flavor newValue = Preconditions.checkNotNull(value, "flavor");
+    return new CxxPlatform(
+        newValue,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getAs() as} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for as
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAs(CompilerProvider value) {
+    if (this.as == value) return this;
+    CompilerProvider newValue = Preconditions.checkNotNull(value, "as");
+    return new CxxPlatform(
+        this.flavor,
+        newValue,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsflags() asflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        newValue,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsflags() asflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsflags(Iterable<String> elements) {
+    if (this.asflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        newValue,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getAspp() aspp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for aspp
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAspp(PreprocessorProvider value) {
+    if (this.aspp == value) return this;
+    PreprocessorProvider newValue = Preconditions.checkNotNull(value, "aspp");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        newValue,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsppflags() asppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        newValue,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsppflags() asppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsppflags(Iterable<String> elements) {
+    if (this.asppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        newValue,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getCc() cc} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cc
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCc(CompilerProvider value) {
+    if (this.cc == value) return this;
+    CompilerProvider newValue = Preconditions.checkNotNull(value, "cc");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        newValue,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCflags() cflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        newValue,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCflags() cflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCflags(Iterable<String> elements) {
+    if (this.cflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        newValue,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getCxx() cxx} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxx
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCxx(CompilerProvider value) {
+    if (this.cxx == value) return this;
+    CompilerProvider newValue = Preconditions.checkNotNull(value, "cxx");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        newValue,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCxxflags() cxxflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        newValue,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCxxflags() cxxflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxflags(Iterable<String> elements) {
+    if (this.cxxflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        newValue,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getCpp() cpp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cpp
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCpp(PreprocessorProvider value) {
+    if (this.cpp == value) return this;
+    PreprocessorProvider newValue = Preconditions.checkNotNull(value, "cpp");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        newValue,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCppflags() cppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        newValue,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCppflags() cppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCppflags(Iterable<String> elements) {
+    if (this.cppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        newValue,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getCxxpp() cxxpp} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxpp
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCxxpp(PreprocessorProvider value) {
+    if (this.cxxpp == value) return this;
+    PreprocessorProvider newValue = Preconditions.checkNotNull(value, "cxxpp");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        newValue,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCxxppflags() cxxppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        newValue,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCxxppflags() cxxppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cxxppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCxxppflags(Iterable<String> elements) {
+    if (this.cxxppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        newValue,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxPlatform#getCudapp() cudapp} attribute.
+   * @param value The value for cudapp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudapp(PreprocessorProvider value) {
+    @Nullable PreprocessorProvider newValue = Preconditions.checkNotNull(value, "cudapp");
+    if (this.cudapp == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        newValue,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxPlatform#getCudapp() cudapp} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cudapp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudapp(Optional<PreprocessorProvider> optional) {
+    @Nullable PreprocessorProvider value = optional.orElse(null);
+    if (this.cudapp == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        value,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCudappflags() cudappflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudappflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        newValue,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCudappflags() cudappflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cudappflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudappflags(Iterable<String> elements) {
+    if (this.cudappflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        newValue,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxPlatform#getCuda() cuda} attribute.
+   * @param value The value for cuda
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCuda(CompilerProvider value) {
+    @Nullable CompilerProvider newValue = Preconditions.checkNotNull(value, "cuda");
+    if (this.cuda == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        newValue,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxPlatform#getCuda() cuda} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for cuda
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCuda(Optional<CompilerProvider> optional) {
+    @Nullable CompilerProvider value = optional.orElse(null);
+    if (this.cuda == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        value,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCudaflags() cudaflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudaflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        newValue,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getCudaflags() cudaflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of cudaflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withCudaflags(Iterable<String> elements) {
+    if (this.cudaflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        newValue,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxPlatform#getAsmpp() asmpp} attribute.
+   * @param value The value for asmpp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmpp(PreprocessorProvider value) {
+    @Nullable PreprocessorProvider newValue = Preconditions.checkNotNull(value, "asmpp");
+    if (this.asmpp == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        newValue,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxPlatform#getAsmpp() asmpp} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for asmpp
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmpp(Optional<PreprocessorProvider> optional) {
+    @Nullable PreprocessorProvider value = optional.orElse(null);
+    if (this.asmpp == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        value,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsmppflags() asmppflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmppflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        newValue,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsmppflags() asmppflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asmppflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmppflags(Iterable<String> elements) {
+    if (this.asmppflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        newValue,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxPlatform#getAsm() asm} attribute.
+   * @param value The value for asm
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsm(CompilerProvider value) {
+    @Nullable CompilerProvider newValue = Preconditions.checkNotNull(value, "asm");
+    if (this.asm == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        newValue,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxPlatform#getAsm() asm} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for asm
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsm(Optional<CompilerProvider> optional) {
+    @Nullable CompilerProvider value = optional.orElse(null);
+    if (this.asm == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        value,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsmflags() asmflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        newValue,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getAsmflags() asmflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of asmflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withAsmflags(Iterable<String> elements) {
+    if (this.asmflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        newValue,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getLd() ld} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ld
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withLd(LinkerProvider value) {
+    if (this.ld == value) return this;
+    LinkerProvider newValue = Preconditions.checkNotNull(value, "ld");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        newValue,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getLdflags() ldflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withLdflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        newValue,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getLdflags() ldflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ldflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withLdflags(Iterable<String> elements) {
+    if (this.ldflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        newValue,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the runtimeLdflags map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends String> entries) {
+    if (this.runtimeLdflags == entries) return this;
+    ImmutableMultimap<Linker.LinkableDepType, String> newValue = ImmutableMultimap.copyOf(entries);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        newValue,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getStrip() strip} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for strip
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withStrip(Tool value) {
+    if (this.strip == value) return this;
+    Tool newValue = Preconditions.checkNotNull(value, "strip");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        newValue,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getStripFlags() stripFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withStripFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        newValue,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getStripFlags() stripFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of stripFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withStripFlags(Iterable<String> elements) {
+    if (this.stripFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        newValue,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getAr() ar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ar
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAr(Archiver value) {
+    if (this.ar == value) return this;
+    Archiver newValue = Preconditions.checkNotNull(value, "ar");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        newValue,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getArflags() arflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withArflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        newValue,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getArflags() arflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of arflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withArflags(Iterable<String> elements) {
+    if (this.arflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        newValue,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getRanlib() ranlib} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ranlib
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withRanlib(Tool value) {
+    if (this.ranlib == value) return this;
+    Tool newValue = Preconditions.checkNotNull(value, "ranlib");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        newValue,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getRanlibflags() ranlibflags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlibflags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        newValue,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCxxPlatform#getRanlibflags() ranlibflags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ranlibflags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withRanlibflags(Iterable<String> elements) {
+    if (this.ranlibflags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        newValue,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getSymbolNameTool() symbolNameTool} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for symbolNameTool
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSymbolNameTool(SymbolNameTool value) {
+    if (this.symbolNameTool == value) return this;
+    SymbolNameTool newValue = Preconditions.checkNotNull(value, "symbolNameTool");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        newValue,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getSharedLibraryExtension() sharedLibraryExtension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sharedLibraryExtension
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryExtension(String value) {
+    if (this.sharedLibraryExtension.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "sharedLibraryExtension");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        newValue,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sharedLibraryVersionedExtensionFormat
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryVersionedExtensionFormat(String value) {
+    if (this.sharedLibraryVersionedExtensionFormat.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "sharedLibraryVersionedExtensionFormat");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        newValue,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getStaticLibraryExtension() staticLibraryExtension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for staticLibraryExtension
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withStaticLibraryExtension(String value) {
+    if (this.staticLibraryExtension.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "staticLibraryExtension");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        newValue,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getObjectFileExtension() objectFileExtension} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for objectFileExtension
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withObjectFileExtension(String value) {
+    if (this.objectFileExtension.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "objectFileExtension");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        newValue,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getCompilerDebugPathSanitizer() compilerDebugPathSanitizer} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for compilerDebugPathSanitizer
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withCompilerDebugPathSanitizer(DebugPathSanitizer value) {
+    if (this.compilerDebugPathSanitizer == value) return this;
+    DebugPathSanitizer newValue = Preconditions.checkNotNull(value, "compilerDebugPathSanitizer");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        newValue,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getAssemblerDebugPathSanitizer() assemblerDebugPathSanitizer} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for assemblerDebugPathSanitizer
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withAssemblerDebugPathSanitizer(DebugPathSanitizer value) {
+    if (this.assemblerDebugPathSanitizer == value) return this;
+    DebugPathSanitizer newValue = Preconditions.checkNotNull(value, "assemblerDebugPathSanitizer");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        newValue,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCxxPlatform#getHeaderVerification() headerVerification} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for headerVerification
+   * @return A modified copy of the {@code this} object
+   */
+  public final CxxPlatform withHeaderVerification(HeaderVerification value) {
+    if (this.headerVerification == value) return this;
+    HeaderVerification newValue = Preconditions.checkNotNull(value, "headerVerification");
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        newValue,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the flagMacros map
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withFlagMacros(Map<String, ? extends String> entries) {
+    if (this.flagMacros == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        newValue,
+        this.sharedLibraryInterfaceFactory,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxPlatform#getSharedLibraryInterfaceFactory() sharedLibraryInterfaceFactory} attribute.
+   * @param value The value for sharedLibraryInterfaceFactory
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryInterfaceFactory(SharedLibraryInterfaceFactory value) {
+    @Nullable SharedLibraryInterfaceFactory newValue = Preconditions.checkNotNull(value, "sharedLibraryInterfaceFactory");
+    if (this.sharedLibraryInterfaceFactory == newValue) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        newValue,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxPlatform#getSharedLibraryInterfaceFactory() sharedLibraryInterfaceFactory} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sharedLibraryInterfaceFactory
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withSharedLibraryInterfaceFactory(Optional<SharedLibraryInterfaceFactory> optional) {
+    @Nullable SharedLibraryInterfaceFactory value = optional.orElse(null);
+    if (this.sharedLibraryInterfaceFactory == value) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        value,
+        this.binaryExtension);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractCxxPlatform#getBinaryExtension() binaryExtension} attribute.
+   * @param value The value for binaryExtension
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withBinaryExtension(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "binaryExtension");
+    if (Objects.equal(this.binaryExtension, newValue)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractCxxPlatform#getBinaryExtension() binaryExtension} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for binaryExtension
+   * @return A modified copy of {@code this} object
+   */
+  public final CxxPlatform withBinaryExtension(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.binaryExtension, value)) return this;
+    return new CxxPlatform(
+        this.flavor,
+        this.as,
+        this.asflags,
+        this.aspp,
+        this.asppflags,
+        this.cc,
+        this.cflags,
+        this.cxx,
+        this.cxxflags,
+        this.cpp,
+        this.cppflags,
+        this.cxxpp,
+        this.cxxppflags,
+        this.cudapp,
+        this.cudappflags,
+        this.cuda,
+        this.cudaflags,
+        this.asmpp,
+        this.asmppflags,
+        this.asm,
+        this.asmflags,
+        this.ld,
+        this.ldflags,
+        this.runtimeLdflags,
+        this.strip,
+        this.stripFlags,
+        this.ar,
+        this.arflags,
+        this.ranlib,
+        this.ranlibflags,
+        this.symbolNameTool,
+        this.sharedLibraryExtension,
+        this.sharedLibraryVersionedExtensionFormat,
+        this.staticLibraryExtension,
+        this.objectFileExtension,
+        this.compilerDebugPathSanitizer,
+        this.assemblerDebugPathSanitizer,
+        this.headerVerification,
+        this.flagMacros,
+        this.sharedLibraryInterfaceFactory,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CxxPlatform} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CxxPlatform
+        && equalTo((CxxPlatform) another);
+  }
+
+  private boolean equalTo(CxxPlatform another) {
+    return flavor.equals(another.flavor)
+        && as.equals(another.as)
+        && asflags.equals(another.asflags)
+        && aspp.equals(another.aspp)
+        && asppflags.equals(another.asppflags)
+        && cc.equals(another.cc)
+        && cflags.equals(another.cflags)
+        && cxx.equals(another.cxx)
+        && cxxflags.equals(another.cxxflags)
+        && cpp.equals(another.cpp)
+        && cppflags.equals(another.cppflags)
+        && cxxpp.equals(another.cxxpp)
+        && cxxppflags.equals(another.cxxppflags)
+        && Objects.equal(cudapp, another.cudapp)
+        && cudappflags.equals(another.cudappflags)
+        && Objects.equal(cuda, another.cuda)
+        && cudaflags.equals(another.cudaflags)
+        && Objects.equal(asmpp, another.asmpp)
+        && asmppflags.equals(another.asmppflags)
+        && Objects.equal(asm, another.asm)
+        && asmflags.equals(another.asmflags)
+        && ld.equals(another.ld)
+        && ldflags.equals(another.ldflags)
+        && runtimeLdflags.equals(another.runtimeLdflags)
+        && strip.equals(another.strip)
+        && stripFlags.equals(another.stripFlags)
+        && ar.equals(another.ar)
+        && arflags.equals(another.arflags)
+        && ranlib.equals(another.ranlib)
+        && ranlibflags.equals(another.ranlibflags)
+        && symbolNameTool.equals(another.symbolNameTool)
+        && sharedLibraryExtension.equals(another.sharedLibraryExtension)
+        && sharedLibraryVersionedExtensionFormat.equals(another.sharedLibraryVersionedExtensionFormat)
+        && staticLibraryExtension.equals(another.staticLibraryExtension)
+        && objectFileExtension.equals(another.objectFileExtension)
+        && compilerDebugPathSanitizer.equals(another.compilerDebugPathSanitizer)
+        && assemblerDebugPathSanitizer.equals(another.assemblerDebugPathSanitizer)
+        && headerVerification.equals(another.headerVerification)
+        && flagMacros.equals(another.flagMacros)
+        && Objects.equal(sharedLibraryInterfaceFactory, another.sharedLibraryInterfaceFactory)
+        && Objects.equal(binaryExtension, another.binaryExtension);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flavor}, {@code as}, {@code asflags}, {@code aspp}, {@code asppflags}, {@code cc}, {@code cflags}, {@code cxx}, {@code cxxflags}, {@code cpp}, {@code cppflags}, {@code cxxpp}, {@code cxxppflags}, {@code cudapp}, {@code cudappflags}, {@code cuda}, {@code cudaflags}, {@code asmpp}, {@code asmppflags}, {@code asm}, {@code asmflags}, {@code ld}, {@code ldflags}, {@code runtimeLdflags}, {@code strip}, {@code stripFlags}, {@code ar}, {@code arflags}, {@code ranlib}, {@code ranlibflags}, {@code symbolNameTool}, {@code sharedLibraryExtension}, {@code sharedLibraryVersionedExtensionFormat}, {@code staticLibraryExtension}, {@code objectFileExtension}, {@code compilerDebugPathSanitizer}, {@code assemblerDebugPathSanitizer}, {@code headerVerification}, {@code flagMacros}, {@code sharedLibraryInterfaceFactory}, {@code binaryExtension}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + flavor.hashCode();
+    h = h * 17 + as.hashCode();
+    h = h * 17 + asflags.hashCode();
+    h = h * 17 + aspp.hashCode();
+    h = h * 17 + asppflags.hashCode();
+    h = h * 17 + cc.hashCode();
+    h = h * 17 + cflags.hashCode();
+    h = h * 17 + cxx.hashCode();
+    h = h * 17 + cxxflags.hashCode();
+    h = h * 17 + cpp.hashCode();
+    h = h * 17 + cppflags.hashCode();
+    h = h * 17 + cxxpp.hashCode();
+    h = h * 17 + cxxppflags.hashCode();
+    h = h * 17 + Objects.hashCode(cudapp);
+    h = h * 17 + cudappflags.hashCode();
+    h = h * 17 + Objects.hashCode(cuda);
+    h = h * 17 + cudaflags.hashCode();
+    h = h * 17 + Objects.hashCode(asmpp);
+    h = h * 17 + asmppflags.hashCode();
+    h = h * 17 + Objects.hashCode(asm);
+    h = h * 17 + asmflags.hashCode();
+    h = h * 17 + ld.hashCode();
+    h = h * 17 + ldflags.hashCode();
+    h = h * 17 + runtimeLdflags.hashCode();
+    h = h * 17 + strip.hashCode();
+    h = h * 17 + stripFlags.hashCode();
+    h = h * 17 + ar.hashCode();
+    h = h * 17 + arflags.hashCode();
+    h = h * 17 + ranlib.hashCode();
+    h = h * 17 + ranlibflags.hashCode();
+    h = h * 17 + symbolNameTool.hashCode();
+    h = h * 17 + sharedLibraryExtension.hashCode();
+    h = h * 17 + sharedLibraryVersionedExtensionFormat.hashCode();
+    h = h * 17 + staticLibraryExtension.hashCode();
+    h = h * 17 + objectFileExtension.hashCode();
+    h = h * 17 + compilerDebugPathSanitizer.hashCode();
+    h = h * 17 + assemblerDebugPathSanitizer.hashCode();
+    h = h * 17 + headerVerification.hashCode();
+    h = h * 17 + flagMacros.hashCode();
+    h = h * 17 + Objects.hashCode(sharedLibraryInterfaceFactory);
+    h = h * 17 + Objects.hashCode(binaryExtension);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CxxPlatform} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CxxPlatform")
+        .omitNullValues()
+        .add("flavor", flavor)
+        .add("as", as)
+        .add("asflags", asflags)
+        .add("aspp", aspp)
+        .add("asppflags", asppflags)
+        .add("cc", cc)
+        .add("cflags", cflags)
+        .add("cxx", cxx)
+        .add("cxxflags", cxxflags)
+        .add("cpp", cpp)
+        .add("cppflags", cppflags)
+        .add("cxxpp", cxxpp)
+        .add("cxxppflags", cxxppflags)
+        .add("cudapp", cudapp)
+        .add("cudappflags", cudappflags)
+        .add("cuda", cuda)
+        .add("cudaflags", cudaflags)
+        .add("asmpp", asmpp)
+        .add("asmppflags", asmppflags)
+        .add("asm", asm)
+        .add("asmflags", asmflags)
+        .add("ld", ld)
+        .add("ldflags", ldflags)
+        .add("runtimeLdflags", runtimeLdflags)
+        .add("strip", strip)
+        .add("stripFlags", stripFlags)
+        .add("ar", ar)
+        .add("arflags", arflags)
+        .add("ranlib", ranlib)
+        .add("ranlibflags", ranlibflags)
+        .add("symbolNameTool", symbolNameTool)
+        .add("sharedLibraryExtension", sharedLibraryExtension)
+        .add("sharedLibraryVersionedExtensionFormat", sharedLibraryVersionedExtensionFormat)
+        .add("staticLibraryExtension", staticLibraryExtension)
+        .add("objectFileExtension", objectFileExtension)
+        .add("compilerDebugPathSanitizer", compilerDebugPathSanitizer)
+        .add("assemblerDebugPathSanitizer", assemblerDebugPathSanitizer)
+        .add("headerVerification", headerVerification)
+        .add("flagMacros", flagMacros)
+        .add("sharedLibraryInterfaceFactory", sharedLibraryInterfaceFactory)
+        .add("binaryExtension", binaryExtension)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCxxPlatform} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CxxPlatform instance
+   */
+  static CxxPlatform copyOf(AbstractCxxPlatform instance) {
+    if (instance instanceof CxxPlatform) {
+      return (CxxPlatform) instance;
+    }
+    return CxxPlatform.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CxxPlatform CxxPlatform}.
+   * @return A new CxxPlatform builder
+   */
+  public static CxxPlatform.Builder builder() {
+    return new CxxPlatform.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CxxPlatform CxxPlatform}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FLAVOR = 0x1L;
+    private static final long INIT_BIT_AS = 0x2L;
+    private static final long INIT_BIT_ASPP = 0x4L;
+    private static final long INIT_BIT_CC = 0x8L;
+    private static final long INIT_BIT_CXX = 0x10L;
+    private static final long INIT_BIT_CPP = 0x20L;
+    private static final long INIT_BIT_CXXPP = 0x40L;
+    private static final long INIT_BIT_LD = 0x80L;
+    private static final long INIT_BIT_STRIP = 0x100L;
+    private static final long INIT_BIT_AR = 0x200L;
+    private static final long INIT_BIT_RANLIB = 0x400L;
+    private static final long INIT_BIT_SYMBOL_NAME_TOOL = 0x800L;
+    private static final long INIT_BIT_SHARED_LIBRARY_EXTENSION = 0x1000L;
+    private static final long INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT = 0x2000L;
+    private static final long INIT_BIT_STATIC_LIBRARY_EXTENSION = 0x4000L;
+    private static final long INIT_BIT_OBJECT_FILE_EXTENSION = 0x8000L;
+    private static final long INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER = 0x10000L;
+    private static final long INIT_BIT_ASSEMBLER_DEBUG_PATH_SANITIZER = 0x20000L;
+    private static final long INIT_BIT_HEADER_VERIFICATION = 0x40000L;
+    private long initBits = 0x7ffffL;
+
+    private @Nullable Flavor flavor;
+    private @Nullable CompilerProvider as;
+    private ImmutableList.Builder<String> asflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider aspp;
+    private ImmutableList.Builder<String> asppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cc;
+    private ImmutableList.Builder<String> cflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cxx;
+    private ImmutableList.Builder<String> cxxflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cpp;
+    private ImmutableList.Builder<String> cppflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cxxpp;
+    private ImmutableList.Builder<String> cxxppflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider cudapp;
+    private ImmutableList.Builder<String> cudappflags = ImmutableList.builder();
+    private @Nullable CompilerProvider cuda;
+    private ImmutableList.Builder<String> cudaflags = ImmutableList.builder();
+    private @Nullable PreprocessorProvider asmpp;
+    private ImmutableList.Builder<String> asmppflags = ImmutableList.builder();
+    private @Nullable CompilerProvider asm;
+    private ImmutableList.Builder<String> asmflags = ImmutableList.builder();
+    private @Nullable LinkerProvider ld;
+    private ImmutableList.Builder<String> ldflags = ImmutableList.builder();
+    private ImmutableMultimap.Builder<Linker.LinkableDepType, String> runtimeLdflags = ImmutableMultimap.builder();
+    private @Nullable Tool strip;
+    private ImmutableList.Builder<String> stripFlags = ImmutableList.builder();
+    private @Nullable Archiver ar;
+    private ImmutableList.Builder<String> arflags = ImmutableList.builder();
+    private @Nullable Tool ranlib;
+    private ImmutableList.Builder<String> ranlibflags = ImmutableList.builder();
+    private @Nullable SymbolNameTool symbolNameTool;
+    private @Nullable String sharedLibraryExtension;
+    private @Nullable String sharedLibraryVersionedExtensionFormat;
+    private @Nullable String staticLibraryExtension;
+    private @Nullable String objectFileExtension;
+    private @Nullable DebugPathSanitizer compilerDebugPathSanitizer;
+    private @Nullable DebugPathSanitizer assemblerDebugPathSanitizer;
+    private @Nullable HeaderVerification headerVerification;
+    private ImmutableMap.Builder<String, String> flagMacros = ImmutableMap.builder();
+    private @Nullable SharedLibraryInterfaceFactory sharedLibraryInterfaceFactory;
+    private @Nullable String binaryExtension;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.model.FlavorConvertible} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(FlavorConvertible instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CxxPlatform} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CxxPlatform instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCxxPlatform} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCxxPlatform instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof FlavorConvertible) {
+        FlavorConvertible instance = (FlavorConvertible) object;
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof AbstractCxxPlatform) {
+        AbstractCxxPlatform instance = (AbstractCxxPlatform) object;
+        Optional<CompilerProvider> cudaOptional = instance.getCuda();
+        if (cudaOptional.isPresent()) {
+          setCuda(cudaOptional);
+        }
+        setCxxpp(instance.getCxxpp());
+        addAllRanlibflags(instance.getRanlibflags());
+        setCompilerDebugPathSanitizer(instance.getCompilerDebugPathSanitizer());
+        Optional<SharedLibraryInterfaceFactory> sharedLibraryInterfaceFactoryOptional = instance.getSharedLibraryInterfaceFactory();
+        if (sharedLibraryInterfaceFactoryOptional.isPresent()) {
+          setSharedLibraryInterfaceFactory(sharedLibraryInterfaceFactoryOptional);
+        }
+        addAllCudappflags(instance.getCudappflags());
+        addAllCxxflags(instance.getCxxflags());
+        setStrip(instance.getStrip());
+        putAllRuntimeLdflags(instance.getRuntimeLdflags());
+        setRanlib(instance.getRanlib());
+        addAllLdflags(instance.getLdflags());
+        setStaticLibraryExtension(instance.getStaticLibraryExtension());
+        addAllAsflags(instance.getAsflags());
+        addAllCudaflags(instance.getCudaflags());
+        setAspp(instance.getAspp());
+        setCc(instance.getCc());
+        Optional<PreprocessorProvider> cudappOptional = instance.getCudapp();
+        if (cudappOptional.isPresent()) {
+          setCudapp(cudappOptional);
+        }
+        setCxx(instance.getCxx());
+        setCpp(instance.getCpp());
+        addAllAsmflags(instance.getAsmflags());
+        addAllArflags(instance.getArflags());
+        setSharedLibraryExtension(instance.getSharedLibraryExtension());
+        setHeaderVerification(instance.getHeaderVerification());
+        addAllAsppflags(instance.getAsppflags());
+        setSharedLibraryVersionedExtensionFormat(instance.getSharedLibraryVersionedExtensionFormat());
+        setObjectFileExtension(instance.getObjectFileExtension());
+        Optional<String> binaryExtensionOptional = instance.getBinaryExtension();
+        if (binaryExtensionOptional.isPresent()) {
+          setBinaryExtension(binaryExtensionOptional);
+        }
+        addAllStripFlags(instance.getStripFlags());
+        if ((bits & 0x1L) == 0) {
+          setFlavor(instance.getFlavor());
+          bits |= 0x1L;
+        }
+        setAr(instance.getAr());
+        setAssemblerDebugPathSanitizer(instance.getAssemblerDebugPathSanitizer());
+        setAs(instance.getAs());
+        putAllFlagMacros(instance.getFlagMacros());
+        addAllCxxppflags(instance.getCxxppflags());
+        addAllAsmppflags(instance.getAsmppflags());
+        Optional<PreprocessorProvider> asmppOptional = instance.getAsmpp();
+        if (asmppOptional.isPresent()) {
+          setAsmpp(asmppOptional);
+        }
+        addAllCppflags(instance.getCppflags());
+        setLd(instance.getLd());
+        Optional<CompilerProvider> asmOptional = instance.getAsm();
+        if (asmOptional.isPresent()) {
+          setAsm(asmOptional);
+        }
+        addAllCflags(instance.getCflags());
+        setSymbolNameTool(instance.getSymbolNameTool());
+      }
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getFlavor() flavor} attribute.
+     * @param flavor The value for flavor 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlavor(Flavor flavor) {
+      this.flavor = Preconditions.checkNotNull(flavor, "flavor");
+      initBits &= ~INIT_BIT_FLAVOR;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getAs() as} attribute.
+     * @param as The value for as 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAs(CompilerProvider as) {
+      this.as = Preconditions.checkNotNull(as, "as");
+      initBits &= ~INIT_BIT_AS;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param element A asflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsflags(String element) {
+      this.asflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param elements An array of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsflags(String... elements) {
+      this.asflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param elements An iterable of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAsflags(Iterable<String> elements) {
+      this.asflags = ImmutableList.builder();
+      return addAllAsflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsflags() asflags} list.
+     * @param elements An iterable of asflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAsflags(Iterable<String> elements) {
+      this.asflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getAspp() aspp} attribute.
+     * @param aspp The value for aspp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAspp(PreprocessorProvider aspp) {
+      this.aspp = Preconditions.checkNotNull(aspp, "aspp");
+      initBits &= ~INIT_BIT_ASPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param element A asppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsppflags(String element) {
+      this.asppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An array of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsppflags(String... elements) {
+      this.asppflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An iterable of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAsppflags(Iterable<String> elements) {
+      this.asppflags = ImmutableList.builder();
+      return addAllAsppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsppflags() asppflags} list.
+     * @param elements An iterable of asppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAsppflags(Iterable<String> elements) {
+      this.asppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getCc() cc} attribute.
+     * @param cc The value for cc 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCc(CompilerProvider cc) {
+      this.cc = Preconditions.checkNotNull(cc, "cc");
+      initBits &= ~INIT_BIT_CC;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param element A cflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCflags(String element) {
+      this.cflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param elements An array of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCflags(String... elements) {
+      this.cflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param elements An iterable of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCflags(Iterable<String> elements) {
+      this.cflags = ImmutableList.builder();
+      return addAllCflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCflags() cflags} list.
+     * @param elements An iterable of cflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCflags(Iterable<String> elements) {
+      this.cflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getCxx() cxx} attribute.
+     * @param cxx The value for cxx 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxx(CompilerProvider cxx) {
+      this.cxx = Preconditions.checkNotNull(cxx, "cxx");
+      initBits &= ~INIT_BIT_CXX;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param element A cxxflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxflags(String element) {
+      this.cxxflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An array of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxflags(String... elements) {
+      this.cxxflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An iterable of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxflags(Iterable<String> elements) {
+      this.cxxflags = ImmutableList.builder();
+      return addAllCxxflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxflags() cxxflags} list.
+     * @param elements An iterable of cxxflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCxxflags(Iterable<String> elements) {
+      this.cxxflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getCpp() cpp} attribute.
+     * @param cpp The value for cpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCpp(PreprocessorProvider cpp) {
+      this.cpp = Preconditions.checkNotNull(cpp, "cpp");
+      initBits &= ~INIT_BIT_CPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param element A cppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCppflags(String element) {
+      this.cppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param elements An array of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCppflags(String... elements) {
+      this.cppflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param elements An iterable of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCppflags(Iterable<String> elements) {
+      this.cppflags = ImmutableList.builder();
+      return addAllCppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCppflags() cppflags} list.
+     * @param elements An iterable of cppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCppflags(Iterable<String> elements) {
+      this.cppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getCxxpp() cxxpp} attribute.
+     * @param cxxpp The value for cxxpp 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxpp(PreprocessorProvider cxxpp) {
+      this.cxxpp = Preconditions.checkNotNull(cxxpp, "cxxpp");
+      initBits &= ~INIT_BIT_CXXPP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param element A cxxppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxppflags(String element) {
+      this.cxxppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An array of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCxxppflags(String... elements) {
+      this.cxxppflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An iterable of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCxxppflags(Iterable<String> elements) {
+      this.cxxppflags = ImmutableList.builder();
+      return addAllCxxppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCxxppflags() cxxppflags} list.
+     * @param elements An iterable of cxxppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCxxppflags(Iterable<String> elements) {
+      this.cxxppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getCudapp() cudapp} to cudapp.
+     * @param cudapp The value for cudapp
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCudapp(PreprocessorProvider cudapp) {
+      this.cudapp = Preconditions.checkNotNull(cudapp, "cudapp");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getCudapp() cudapp} to cudapp.
+     * @param cudapp The value for cudapp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCudapp(Optional<PreprocessorProvider> cudapp) {
+      this.cudapp = cudapp.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCudappflags() cudappflags} list.
+     * @param element A cudappflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCudappflags(String element) {
+      this.cudappflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An array of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCudappflags(String... elements) {
+      this.cudappflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An iterable of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCudappflags(Iterable<String> elements) {
+      this.cudappflags = ImmutableList.builder();
+      return addAllCudappflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCudappflags() cudappflags} list.
+     * @param elements An iterable of cudappflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCudappflags(Iterable<String> elements) {
+      this.cudappflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getCuda() cuda} to cuda.
+     * @param cuda The value for cuda
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setCuda(CompilerProvider cuda) {
+      this.cuda = Preconditions.checkNotNull(cuda, "cuda");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getCuda() cuda} to cuda.
+     * @param cuda The value for cuda
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCuda(Optional<CompilerProvider> cuda) {
+      this.cuda = cuda.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getCudaflags() cudaflags} list.
+     * @param element A cudaflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCudaflags(String element) {
+      this.cudaflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An array of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addCudaflags(String... elements) {
+      this.cudaflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An iterable of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCudaflags(Iterable<String> elements) {
+      this.cudaflags = ImmutableList.builder();
+      return addAllCudaflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getCudaflags() cudaflags} list.
+     * @param elements An iterable of cudaflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllCudaflags(Iterable<String> elements) {
+      this.cudaflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getAsmpp() asmpp} to asmpp.
+     * @param asmpp The value for asmpp
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAsmpp(PreprocessorProvider asmpp) {
+      this.asmpp = Preconditions.checkNotNull(asmpp, "asmpp");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getAsmpp() asmpp} to asmpp.
+     * @param asmpp The value for asmpp
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAsmpp(Optional<PreprocessorProvider> asmpp) {
+      this.asmpp = asmpp.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getAsmppflags() asmppflags} list.
+     * @param element A asmppflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsmppflags(String element) {
+      this.asmppflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An array of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsmppflags(String... elements) {
+      this.asmppflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An iterable of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAsmppflags(Iterable<String> elements) {
+      this.asmppflags = ImmutableList.builder();
+      return addAllAsmppflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsmppflags() asmppflags} list.
+     * @param elements An iterable of asmppflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAsmppflags(Iterable<String> elements) {
+      this.asmppflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getAsm() asm} to asm.
+     * @param asm The value for asm
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAsm(CompilerProvider asm) {
+      this.asm = Preconditions.checkNotNull(asm, "asm");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getAsm() asm} to asm.
+     * @param asm The value for asm
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAsm(Optional<CompilerProvider> asm) {
+      this.asm = asm.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getAsmflags() asmflags} list.
+     * @param element A asmflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsmflags(String element) {
+      this.asmflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An array of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAsmflags(String... elements) {
+      this.asmflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An iterable of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAsmflags(Iterable<String> elements) {
+      this.asmflags = ImmutableList.builder();
+      return addAllAsmflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getAsmflags() asmflags} list.
+     * @param elements An iterable of asmflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllAsmflags(Iterable<String> elements) {
+      this.asmflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getLd() ld} attribute.
+     * @param ld The value for ld 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLd(LinkerProvider ld) {
+      this.ld = Preconditions.checkNotNull(ld, "ld");
+      initBits &= ~INIT_BIT_LD;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param element A ldflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLdflags(String element) {
+      this.ldflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param elements An array of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addLdflags(String... elements) {
+      this.ldflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param elements An iterable of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLdflags(Iterable<String> elements) {
+      this.ldflags = ImmutableList.builder();
+      return addAllLdflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getLdflags() ldflags} list.
+     * @param elements An iterable of ldflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllLdflags(Iterable<String> elements) {
+      this.ldflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key The key for runtimeLdflags
+     * @param values The values for runtimeLdflags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putRuntimeLdflags(Linker.LinkableDepType key, String... values) {
+      this.runtimeLdflags.putAll(key, Arrays.asList(values));
+      return this;
+    }
+
+    /**
+     * Put all mappings from the specified key to values for {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} true. Nulls are not permitted
+     * @param key The key for runtimeLdflags
+     * @param values The values for runtimeLdflags
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllRuntimeLdflags(Linker.LinkableDepType key, Iterable<String> values) {
+      this.runtimeLdflags.putAll(key, values);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map.
+     * @param key The key in the runtimeLdflags map
+     * @param value The associated value in the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putRuntimeLdflags(Linker.LinkableDepType key, String value) {
+      this.runtimeLdflags.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putRuntimeLdflags(Map.Entry<? extends Linker.LinkableDepType, ? extends String> entry) {
+      this.runtimeLdflags.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param runtimeLdflags The entries that will be added to the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends String> runtimeLdflags) {
+      this.runtimeLdflags = ImmutableMultimap.builder();
+      return putAllRuntimeLdflags(runtimeLdflags);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxPlatform#getRuntimeLdflags() runtimeLdflags} map. Nulls are not permitted
+     * @param runtimeLdflags The entries that will be added to the runtimeLdflags map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllRuntimeLdflags(Multimap<? extends Linker.LinkableDepType, ? extends String> runtimeLdflags) {
+      this.runtimeLdflags.putAll(runtimeLdflags);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getStrip() strip} attribute.
+     * @param strip The value for strip 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStrip(Tool strip) {
+      this.strip = Preconditions.checkNotNull(strip, "strip");
+      initBits &= ~INIT_BIT_STRIP;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param element A stripFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStripFlags(String element) {
+      this.stripFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An array of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addStripFlags(String... elements) {
+      this.stripFlags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStripFlags(Iterable<String> elements) {
+      this.stripFlags = ImmutableList.builder();
+      return addAllStripFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getStripFlags() stripFlags} list.
+     * @param elements An iterable of stripFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllStripFlags(Iterable<String> elements) {
+      this.stripFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getAr() ar} attribute.
+     * @param ar The value for ar 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAr(Archiver ar) {
+      this.ar = Preconditions.checkNotNull(ar, "ar");
+      initBits &= ~INIT_BIT_AR;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param element A arflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArflags(String element) {
+      this.arflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param elements An array of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addArflags(String... elements) {
+      this.arflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param elements An iterable of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setArflags(Iterable<String> elements) {
+      this.arflags = ImmutableList.builder();
+      return addAllArflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getArflags() arflags} list.
+     * @param elements An iterable of arflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllArflags(Iterable<String> elements) {
+      this.arflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getRanlib() ranlib} attribute.
+     * @param ranlib The value for ranlib 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRanlib(Tool ranlib) {
+      this.ranlib = Preconditions.checkNotNull(ranlib, "ranlib");
+      initBits &= ~INIT_BIT_RANLIB;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param element A ranlibflags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRanlibflags(String element) {
+      this.ranlibflags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An array of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRanlibflags(String... elements) {
+      this.ranlibflags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An iterable of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRanlibflags(Iterable<String> elements) {
+      this.ranlibflags = ImmutableList.builder();
+      return addAllRanlibflags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCxxPlatform#getRanlibflags() ranlibflags} list.
+     * @param elements An iterable of ranlibflags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRanlibflags(Iterable<String> elements) {
+      this.ranlibflags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getSymbolNameTool() symbolNameTool} attribute.
+     * @param symbolNameTool The value for symbolNameTool 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSymbolNameTool(SymbolNameTool symbolNameTool) {
+      this.symbolNameTool = Preconditions.checkNotNull(symbolNameTool, "symbolNameTool");
+      initBits &= ~INIT_BIT_SYMBOL_NAME_TOOL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getSharedLibraryExtension() sharedLibraryExtension} attribute.
+     * @param sharedLibraryExtension The value for sharedLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLibraryExtension(String sharedLibraryExtension) {
+      this.sharedLibraryExtension = Preconditions.checkNotNull(sharedLibraryExtension, "sharedLibraryExtension");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getSharedLibraryVersionedExtensionFormat() sharedLibraryVersionedExtensionFormat} attribute.
+     * @param sharedLibraryVersionedExtensionFormat The value for sharedLibraryVersionedExtensionFormat 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLibraryVersionedExtensionFormat(String sharedLibraryVersionedExtensionFormat) {
+      this.sharedLibraryVersionedExtensionFormat = Preconditions.checkNotNull(sharedLibraryVersionedExtensionFormat, "sharedLibraryVersionedExtensionFormat");
+      initBits &= ~INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getStaticLibraryExtension() staticLibraryExtension} attribute.
+     * @param staticLibraryExtension The value for staticLibraryExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStaticLibraryExtension(String staticLibraryExtension) {
+      this.staticLibraryExtension = Preconditions.checkNotNull(staticLibraryExtension, "staticLibraryExtension");
+      initBits &= ~INIT_BIT_STATIC_LIBRARY_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getObjectFileExtension() objectFileExtension} attribute.
+     * @param objectFileExtension The value for objectFileExtension 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setObjectFileExtension(String objectFileExtension) {
+      this.objectFileExtension = Preconditions.checkNotNull(objectFileExtension, "objectFileExtension");
+      initBits &= ~INIT_BIT_OBJECT_FILE_EXTENSION;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getCompilerDebugPathSanitizer() compilerDebugPathSanitizer} attribute.
+     * @param compilerDebugPathSanitizer The value for compilerDebugPathSanitizer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCompilerDebugPathSanitizer(DebugPathSanitizer compilerDebugPathSanitizer) {
+      this.compilerDebugPathSanitizer = Preconditions.checkNotNull(compilerDebugPathSanitizer, "compilerDebugPathSanitizer");
+      initBits &= ~INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getAssemblerDebugPathSanitizer() assemblerDebugPathSanitizer} attribute.
+     * @param assemblerDebugPathSanitizer The value for assemblerDebugPathSanitizer 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAssemblerDebugPathSanitizer(DebugPathSanitizer assemblerDebugPathSanitizer) {
+      this.assemblerDebugPathSanitizer = Preconditions.checkNotNull(assemblerDebugPathSanitizer, "assemblerDebugPathSanitizer");
+      initBits &= ~INIT_BIT_ASSEMBLER_DEBUG_PATH_SANITIZER;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCxxPlatform#getHeaderVerification() headerVerification} attribute.
+     * @param headerVerification The value for headerVerification 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHeaderVerification(HeaderVerification headerVerification) {
+      this.headerVerification = Preconditions.checkNotNull(headerVerification, "headerVerification");
+      initBits &= ~INIT_BIT_HEADER_VERIFICATION;
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map.
+     * @param key The key in the flagMacros map
+     * @param value The associated value in the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putFlagMacros(String key, String value) {
+      this.flagMacros.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putFlagMacros(Map.Entry<String, ? extends String> entry) {
+      this.flagMacros.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param flagMacros The entries that will be added to the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlagMacros(Map<String, ? extends String> flagMacros) {
+      this.flagMacros = ImmutableMap.builder();
+      return putAllFlagMacros(flagMacros);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCxxPlatform#getFlagMacros() flagMacros} map. Nulls are not permitted
+     * @param flagMacros The entries that will be added to the flagMacros map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllFlagMacros(Map<String, ? extends String> flagMacros) {
+      this.flagMacros.putAll(flagMacros);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getSharedLibraryInterfaceFactory() sharedLibraryInterfaceFactory} to sharedLibraryInterfaceFactory.
+     * @param sharedLibraryInterfaceFactory The value for sharedLibraryInterfaceFactory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSharedLibraryInterfaceFactory(SharedLibraryInterfaceFactory sharedLibraryInterfaceFactory) {
+      this.sharedLibraryInterfaceFactory = Preconditions.checkNotNull(sharedLibraryInterfaceFactory, "sharedLibraryInterfaceFactory");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getSharedLibraryInterfaceFactory() sharedLibraryInterfaceFactory} to sharedLibraryInterfaceFactory.
+     * @param sharedLibraryInterfaceFactory The value for sharedLibraryInterfaceFactory
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSharedLibraryInterfaceFactory(Optional<SharedLibraryInterfaceFactory> sharedLibraryInterfaceFactory) {
+      this.sharedLibraryInterfaceFactory = sharedLibraryInterfaceFactory.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setBinaryExtension(String binaryExtension) {
+      this.binaryExtension = Preconditions.checkNotNull(binaryExtension, "binaryExtension");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractCxxPlatform#getBinaryExtension() binaryExtension} to binaryExtension.
+     * @param binaryExtension The value for binaryExtension
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBinaryExtension(Optional<String> binaryExtension) {
+      this.binaryExtension = binaryExtension.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CxxPlatform CxxPlatform}.
+     * @return An immutable instance of CxxPlatform
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CxxPlatform build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CxxPlatform(
+          flavor,
+          as,
+          asflags.build(),
+          aspp,
+          asppflags.build(),
+          cc,
+          cflags.build(),
+          cxx,
+          cxxflags.build(),
+          cpp,
+          cppflags.build(),
+          cxxpp,
+          cxxppflags.build(),
+          cudapp,
+          cudappflags.build(),
+          cuda,
+          cudaflags.build(),
+          asmpp,
+          asmppflags.build(),
+          asm,
+          asmflags.build(),
+          ld,
+          ldflags.build(),
+          runtimeLdflags.build(),
+          strip,
+          stripFlags.build(),
+          ar,
+          arflags.build(),
+          ranlib,
+          ranlibflags.build(),
+          symbolNameTool,
+          sharedLibraryExtension,
+          sharedLibraryVersionedExtensionFormat,
+          staticLibraryExtension,
+          objectFileExtension,
+          compilerDebugPathSanitizer,
+          assemblerDebugPathSanitizer,
+          headerVerification,
+          flagMacros.build(),
+          sharedLibraryInterfaceFactory,
+          binaryExtension);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FLAVOR) != 0) attributes.add("flavor");
+      if ((initBits & INIT_BIT_AS) != 0) attributes.add("as");
+      if ((initBits & INIT_BIT_ASPP) != 0) attributes.add("aspp");
+      if ((initBits & INIT_BIT_CC) != 0) attributes.add("cc");
+      if ((initBits & INIT_BIT_CXX) != 0) attributes.add("cxx");
+      if ((initBits & INIT_BIT_CPP) != 0) attributes.add("cpp");
+      if ((initBits & INIT_BIT_CXXPP) != 0) attributes.add("cxxpp");
+      if ((initBits & INIT_BIT_LD) != 0) attributes.add("ld");
+      if ((initBits & INIT_BIT_STRIP) != 0) attributes.add("strip");
+      if ((initBits & INIT_BIT_AR) != 0) attributes.add("ar");
+      if ((initBits & INIT_BIT_RANLIB) != 0) attributes.add("ranlib");
+      if ((initBits & INIT_BIT_SYMBOL_NAME_TOOL) != 0) attributes.add("symbolNameTool");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_EXTENSION) != 0) attributes.add("sharedLibraryExtension");
+      if ((initBits & INIT_BIT_SHARED_LIBRARY_VERSIONED_EXTENSION_FORMAT) != 0) attributes.add("sharedLibraryVersionedExtensionFormat");
+      if ((initBits & INIT_BIT_STATIC_LIBRARY_EXTENSION) != 0) attributes.add("staticLibraryExtension");
+      if ((initBits & INIT_BIT_OBJECT_FILE_EXTENSION) != 0) attributes.add("objectFileExtension");
+      if ((initBits & INIT_BIT_COMPILER_DEBUG_PATH_SANITIZER) != 0) attributes.add("compilerDebugPathSanitizer");
+      if ((initBits & INIT_BIT_ASSEMBLER_DEBUG_PATH_SANITIZER) != 0) attributes.add("assemblerDebugPathSanitizer");
+      if ((initBits & INIT_BIT_HEADER_VERIFICATION) != 0) attributes.add("headerVerification");
+      return "Cannot build CxxPlatform, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,264 @@
+package com.facebook.buck.cxx;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A step which extracts specific sections from an ELF file and compacts them into a new ELF file.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractElfExtractSectionsStep"})
+@Immutable
+public final class ElfExtractSectionsStep extends AbstractElfExtractSectionsStep {
+  private final ProjectFilesystem filesystem;
+  private final ImmutableList<String> objcopyPrefix;
+  private final Path input;
+  private final Path output;
+  private final ImmutableSet<String> sections;
+
+  private ElfExtractSectionsStep(
+      ProjectFilesystem filesystem,
+      Iterable<String> objcopyPrefix,
+      Path input,
+      Path output,
+      Iterable<String> sections) {
+    this.filesystem = Preconditions.checkNotNull(filesystem, "filesystem");
+    this.objcopyPrefix = ImmutableList.copyOf(objcopyPrefix);
+    this.input = Preconditions.checkNotNull(input, "input");
+    this.output = Preconditions.checkNotNull(output, "output");
+    this.sections = ImmutableSet.copyOf(sections);
+  }
+
+  private ElfExtractSectionsStep(
+      ElfExtractSectionsStep original,
+      ProjectFilesystem filesystem,
+      ImmutableList<String> objcopyPrefix,
+      Path input,
+      Path output,
+      ImmutableSet<String> sections) {
+    this.filesystem = filesystem;
+    this.objcopyPrefix = objcopyPrefix;
+    this.input = input;
+    this.output = output;
+    this.sections = sections;
+  }
+
+  /**
+   * @return The value of the {@code filesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getFilesystem() {
+    return filesystem;
+  }
+
+  /**
+   * @return The value of the {@code objcopyPrefix} attribute
+   */
+  @Override
+  public ImmutableList<String> getObjcopyPrefix() {
+    return objcopyPrefix;
+  }
+
+  /**
+   * @return The value of the {@code input} attribute
+   */
+  @Override
+  public Path getInput() {
+    return input;
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  public Path getOutput() {
+    return output;
+  }
+
+  /**
+   * @return The value of the {@code sections} attribute
+   */
+  @Override
+  public ImmutableSet<String> getSections() {
+    return sections;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfExtractSectionsStep#getFilesystem() filesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfExtractSectionsStep withFilesystem(ProjectFilesystem value) {
+    if (this.filesystem == value) return this;
+    ProjectFilesystem newValue = Preconditions.checkNotNull(value, "filesystem");
+    return new ElfExtractSectionsStep(this, newValue, this.objcopyPrefix, this.input, this.output, this.sections);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfExtractSectionsStep#getObjcopyPrefix() objcopyPrefix}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfExtractSectionsStep withObjcopyPrefix(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ElfExtractSectionsStep(this, this.filesystem, newValue, this.input, this.output, this.sections);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfExtractSectionsStep#getObjcopyPrefix() objcopyPrefix}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of objcopyPrefix elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfExtractSectionsStep withObjcopyPrefix(Iterable<String> elements) {
+    if (this.objcopyPrefix == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ElfExtractSectionsStep(this, this.filesystem, newValue, this.input, this.output, this.sections);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfExtractSectionsStep#getInput() input} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for input
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfExtractSectionsStep withInput(Path value) {
+    if (this.input == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "input");
+    return new ElfExtractSectionsStep(this, this.filesystem, this.objcopyPrefix, newValue, this.output, this.sections);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractElfExtractSectionsStep#getOutput() output} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for output
+   * @return A modified copy of the {@code this} object
+   */
+  public final ElfExtractSectionsStep withOutput(Path value) {
+    if (this.output == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "output");
+    return new ElfExtractSectionsStep(this, this.filesystem, this.objcopyPrefix, this.input, newValue, this.sections);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfExtractSectionsStep#getSections() sections}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfExtractSectionsStep withSections(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new ElfExtractSectionsStep(this, this.filesystem, this.objcopyPrefix, this.input, this.output, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractElfExtractSectionsStep#getSections() sections}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of sections elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ElfExtractSectionsStep withSections(Iterable<String> elements) {
+    if (this.sections == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new ElfExtractSectionsStep(this, this.filesystem, this.objcopyPrefix, this.input, this.output, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ElfExtractSectionsStep} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ElfExtractSectionsStep
+        && equalTo((ElfExtractSectionsStep) another);
+  }
+
+  private boolean equalTo(ElfExtractSectionsStep another) {
+    return filesystem.equals(another.filesystem)
+        && objcopyPrefix.equals(another.objcopyPrefix)
+        && input.equals(another.input)
+        && output.equals(another.output)
+        && sections.equals(another.sections);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code filesystem}, {@code objcopyPrefix}, {@code input}, {@code output}, {@code sections}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + filesystem.hashCode();
+    h = h * 17 + objcopyPrefix.hashCode();
+    h = h * 17 + input.hashCode();
+    h = h * 17 + output.hashCode();
+    h = h * 17 + sections.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ElfExtractSectionsStep} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ElfExtractSectionsStep")
+        .omitNullValues()
+        .add("filesystem", filesystem)
+        .add("objcopyPrefix", objcopyPrefix)
+        .add("input", input)
+        .add("output", output)
+        .add("sections", sections)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ElfExtractSectionsStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param objcopyPrefix The value for the {@code objcopyPrefix} attribute
+   * @param input The value for the {@code input} attribute
+   * @param output The value for the {@code output} attribute
+   * @param sections The value for the {@code sections} attribute
+   * @return An immutable ElfExtractSectionsStep instance
+   */
+  public static ElfExtractSectionsStep of(ProjectFilesystem filesystem, ImmutableList<String> objcopyPrefix, Path input, Path output, ImmutableSet<String> sections) {
+    return of(filesystem, (Iterable<String>) objcopyPrefix, input, output, (Iterable<String>) sections);
+  }
+
+  /**
+   * Construct a new immutable {@code ElfExtractSectionsStep} instance.
+   * @param filesystem The value for the {@code filesystem} attribute
+   * @param objcopyPrefix The value for the {@code objcopyPrefix} attribute
+   * @param input The value for the {@code input} attribute
+   * @param output The value for the {@code output} attribute
+   * @param sections The value for the {@code sections} attribute
+   * @return An immutable ElfExtractSectionsStep instance
+   */
+  public static ElfExtractSectionsStep of(ProjectFilesystem filesystem, Iterable<String> objcopyPrefix, Path input, Path output, Iterable<String> sections) {
+    return new ElfExtractSectionsStep(filesystem, objcopyPrefix, input, output, sections);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractElfExtractSectionsStep} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ElfExtractSectionsStep instance
+   */
+  static ElfExtractSectionsStep copyOf(AbstractElfExtractSectionsStep instance) {
+    if (instance instanceof ElfExtractSectionsStep) {
+      return (ElfExtractSectionsStep) instance;
+    }
+    return ElfExtractSectionsStep.of(instance.getFilesystem(), instance.getObjcopyPrefix(), instance.getInput(), instance.getOutput(), instance.getSections());
+  }
+}
@@ -0,0 +1,310 @@
+package com.facebook.buck.cxx;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * {@code CxxToolFlags} implementation where the flags are stored explicitly as lists.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExplicitCxxToolFlags"})
+@Immutable
+public final class ExplicitCxxToolFlags extends AbstractExplicitCxxToolFlags {
+  private final ImmutableList<String> platformFlags;
+  private final ImmutableList<String> ruleFlags;
+
+  private ExplicitCxxToolFlags(Iterable<String> platformFlags, Iterable<String> ruleFlags) {
+    this.platformFlags = ImmutableList.copyOf(platformFlags);
+    this.ruleFlags = ImmutableList.copyOf(ruleFlags);
+  }
+
+  private ExplicitCxxToolFlags(
+      ExplicitCxxToolFlags original,
+      ImmutableList<String> platformFlags,
+      ImmutableList<String> ruleFlags) {
+    this.platformFlags = platformFlags;
+    this.ruleFlags = ruleFlags;
+  }
+
+  /**
+   * @return The value of the {@code platformFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getPlatformFlags() {
+    return platformFlags;
+  }
+
+  /**
+   * @return The value of the {@code ruleFlags} attribute
+   */
+  @Override
+  public ImmutableList<String> getRuleFlags() {
+    return ruleFlags;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExplicitCxxToolFlags withPlatformFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExplicitCxxToolFlags(this, newValue, this.ruleFlags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of platformFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExplicitCxxToolFlags withPlatformFlags(Iterable<String> elements) {
+    if (this.platformFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExplicitCxxToolFlags(this, newValue, this.ruleFlags);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExplicitCxxToolFlags withRuleFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExplicitCxxToolFlags(this, this.platformFlags, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of ruleFlags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ExplicitCxxToolFlags withRuleFlags(Iterable<String> elements) {
+    if (this.ruleFlags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new ExplicitCxxToolFlags(this, this.platformFlags, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExplicitCxxToolFlags} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExplicitCxxToolFlags
+        && equalTo((ExplicitCxxToolFlags) another);
+  }
+
+  private boolean equalTo(ExplicitCxxToolFlags another) {
+    return platformFlags.equals(another.platformFlags)
+        && ruleFlags.equals(another.ruleFlags);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code platformFlags}, {@code ruleFlags}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + platformFlags.hashCode();
+    h = h * 17 + ruleFlags.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExplicitCxxToolFlags} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExplicitCxxToolFlags")
+        .omitNullValues()
+        .add("platformFlags", platformFlags)
+        .add("ruleFlags", ruleFlags)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable ExplicitCxxToolFlags instance
+   */
+  public static ExplicitCxxToolFlags of(ImmutableList<String> platformFlags, ImmutableList<String> ruleFlags) {
+    return of((Iterable<String>) platformFlags, (Iterable<String>) ruleFlags);
+  }
+
+  /**
+   * Construct a new immutable {@code ExplicitCxxToolFlags} instance.
+   * @param platformFlags The value for the {@code platformFlags} attribute
+   * @param ruleFlags The value for the {@code ruleFlags} attribute
+   * @return An immutable ExplicitCxxToolFlags instance
+   */
+  public static ExplicitCxxToolFlags of(Iterable<String> platformFlags, Iterable<String> ruleFlags) {
+    return new ExplicitCxxToolFlags(platformFlags, ruleFlags);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExplicitCxxToolFlags} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExplicitCxxToolFlags instance
+   */
+  static ExplicitCxxToolFlags copyOf(AbstractExplicitCxxToolFlags instance) {
+    if (instance instanceof ExplicitCxxToolFlags) {
+      return (ExplicitCxxToolFlags) instance;
+    }
+    return ExplicitCxxToolFlags.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+   * @return A new ExplicitCxxToolFlags builder
+   */
+  public static ExplicitCxxToolFlags.Builder builder() {
+    return new ExplicitCxxToolFlags.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder 
+      extends AbstractExplicitCxxToolFlags.Builder {
+    private ImmutableList.Builder<String> platformFlags = ImmutableList.builder();
+    private ImmutableList.Builder<String> ruleFlags = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ExplicitCxxToolFlags} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ExplicitCxxToolFlags instance) {
+      return from((AbstractExplicitCxxToolFlags) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractExplicitCxxToolFlags} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractExplicitCxxToolFlags instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      addAllPlatformFlags(instance.getPlatformFlags());
+      addAllRuleFlags(instance.getRuleFlags());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param element A platformFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlatformFlags(String element) {
+      this.platformFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An array of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPlatformFlags(String... elements) {
+      this.platformFlags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPlatformFlags(Iterable<String> elements) {
+      this.platformFlags = ImmutableList.builder();
+      return addAllPlatformFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getPlatformFlags() platformFlags} list.
+     * @param elements An iterable of platformFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPlatformFlags(Iterable<String> elements) {
+      this.platformFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param element A ruleFlags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRuleFlags(String element) {
+      this.ruleFlags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An array of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRuleFlags(String... elements) {
+      this.ruleFlags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRuleFlags(Iterable<String> elements) {
+      this.ruleFlags = ImmutableList.builder();
+      return addAllRuleFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractExplicitCxxToolFlags#getRuleFlags() ruleFlags} list.
+     * @param elements An iterable of ruleFlags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRuleFlags(Iterable<String> elements) {
+      this.ruleFlags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ExplicitCxxToolFlags ExplicitCxxToolFlags}.
+     * @return An immutable instance of ExplicitCxxToolFlags
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ExplicitCxxToolFlags build() {
+      return new ExplicitCxxToolFlags(null, platformFlags.build(), ruleFlags.build());
+    }
+  }
+}
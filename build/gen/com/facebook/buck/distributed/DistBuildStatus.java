@@ -0,0 +1,351 @@
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.distributed.thrift.BuildStatus;
+import com.facebook.buck.distributed.thrift.LogRecord;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DistBuildStatusEvent.AbstractDistBuildStatus}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DistBuildStatus.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DistBuildStatusEvent.AbstractDistBuildStatus"})
+@Immutable
+public final class DistBuildStatus
+    extends DistBuildStatusEvent.AbstractDistBuildStatus {
+  private final long eTAMillis;
+  private final BuildStatus status;
+  private final @Nullable String message;
+  private final @Nullable List<LogRecord> logBook;
+
+  private DistBuildStatus(
+      long eTAMillis,
+      BuildStatus status,
+      @Nullable String message,
+      @Nullable List<LogRecord> logBook) {
+    this.eTAMillis = eTAMillis;
+    this.status = status;
+    this.message = message;
+    this.logBook = logBook;
+  }
+
+  /**
+   * @return get ETA in millis
+   */
+  @Override
+  public long getETAMillis() {
+    return eTAMillis;
+  }
+
+  /**
+   * @return dist-build status
+   */
+  @Override
+  public BuildStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * @return the message to display
+   */
+  @Override
+  public Optional<String> getMessage() {
+    return Optional.ofNullable(message);
+  }
+
+  /**
+   * @return the debug info received
+   */
+  @Override
+  public Optional<List<LogRecord>> getLogBook() {
+    return Optional.ofNullable(logBook);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getETAMillis() eTAMillis} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eTAMillis
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildStatus withETAMillis(long value) {
+    if (this.eTAMillis == value) return this;
+    return new DistBuildStatus(value, this.status, this.message, this.logBook);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getStatus() status} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for status
+   * @return A modified copy of the {@code this} object
+   */
+  public final DistBuildStatus withStatus(BuildStatus value) {
+    if (this.status == value) return this;
+    BuildStatus newValue = Preconditions.checkNotNull(value, "status");
+    return new DistBuildStatus(this.eTAMillis, newValue, this.message, this.logBook);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} attribute.
+   * @param value The value for message
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withMessage(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "message");
+    if (Objects.equal(this.message, newValue)) return this;
+    return new DistBuildStatus(this.eTAMillis, this.status, newValue, this.logBook);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for message
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withMessage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.message, value)) return this;
+    return new DistBuildStatus(this.eTAMillis, this.status, value, this.logBook);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} attribute.
+   * @param value The value for logBook
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withLogBook(List<LogRecord> value) {
+    @Nullable List<LogRecord> newValue = Preconditions.checkNotNull(value, "logBook");
+    if (this.logBook == newValue) return this;
+    return new DistBuildStatus(this.eTAMillis, this.status, this.message, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for logBook
+   * @return A modified copy of {@code this} object
+   */
+  public final DistBuildStatus withLogBook(Optional<List<LogRecord>> optional) {
+    @Nullable List<LogRecord> value = optional.orElse(null);
+    if (this.logBook == value) return this;
+    return new DistBuildStatus(this.eTAMillis, this.status, this.message, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DistBuildStatus} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DistBuildStatus
+        && equalTo((DistBuildStatus) another);
+  }
+
+  private boolean equalTo(DistBuildStatus another) {
+    return eTAMillis == another.eTAMillis
+        && status.equals(another.status)
+        && Objects.equal(message, another.message)
+        && Objects.equal(logBook, another.logBook);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code eTAMillis}, {@code status}, {@code message}, {@code logBook}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(eTAMillis);
+    h = h * 17 + status.hashCode();
+    h = h * 17 + Objects.hashCode(message);
+    h = h * 17 + Objects.hashCode(logBook);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DistBuildStatus} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DistBuildStatus")
+        .omitNullValues()
+        .add("eTAMillis", eTAMillis)
+        .add("status", status)
+        .add("message", message)
+        .add("logBook", logBook)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DistBuildStatusEvent.AbstractDistBuildStatus} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DistBuildStatus instance
+   */
+  static DistBuildStatus copyOf(DistBuildStatusEvent.AbstractDistBuildStatus instance) {
+    if (instance instanceof DistBuildStatus) {
+      return (DistBuildStatus) instance;
+    }
+    return DistBuildStatus.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DistBuildStatus DistBuildStatus}.
+   * @return A new DistBuildStatus builder
+   */
+  public static DistBuildStatus.Builder builder() {
+    return new DistBuildStatus.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DistBuildStatus DistBuildStatus}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_E_T_A_MILLIS = 0x1L;
+    private static final long INIT_BIT_STATUS = 0x2L;
+    private long initBits = 0x3L;
+
+    private long eTAMillis;
+    private @Nullable BuildStatus status;
+    private @Nullable String message;
+    private @Nullable List<LogRecord> logBook;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DistBuildStatus} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DistBuildStatus instance) {
+      return from((DistBuildStatusEvent.AbstractDistBuildStatus) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDistBuildStatus} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(DistBuildStatusEvent.AbstractDistBuildStatus instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setETAMillis(instance.getETAMillis());
+      setStatus(instance.getStatus());
+      Optional<String> messageOptional = instance.getMessage();
+      if (messageOptional.isPresent()) {
+        setMessage(messageOptional);
+      }
+      Optional<List<LogRecord>> logBookOptional = instance.getLogBook();
+      if (logBookOptional.isPresent()) {
+        setLogBook(logBookOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getETAMillis() eTAMillis} attribute.
+     * @param eTAMillis The value for eTAMillis 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setETAMillis(long eTAMillis) {
+      this.eTAMillis = eTAMillis;
+      initBits &= ~INIT_BIT_E_T_A_MILLIS;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DistBuildStatusEvent.AbstractDistBuildStatus#getStatus() status} attribute.
+     * @param status The value for status 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setStatus(BuildStatus status) {
+      this.status = Preconditions.checkNotNull(status, "status");
+      initBits &= ~INIT_BIT_STATUS;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMessage(String message) {
+      this.message = Preconditions.checkNotNull(message, "message");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMessage(Optional<String> message) {
+      this.message = message.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} to logBook.
+     * @param logBook The value for logBook
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLogBook(List<LogRecord> logBook) {
+      this.logBook = Preconditions.checkNotNull(logBook, "logBook");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DistBuildStatusEvent.AbstractDistBuildStatus#getLogBook() logBook} to logBook.
+     * @param logBook The value for logBook
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLogBook(Optional<List<LogRecord>> logBook) {
+      this.logBook = logBook.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DistBuildStatus DistBuildStatus}.
+     * @return An immutable instance of DistBuildStatus
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DistBuildStatus build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DistBuildStatus(eTAMillis, status, message, logBook);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_E_T_A_MILLIS) != 0) attributes.add("eTAMillis");
+      if ((initBits & INIT_BIT_STATUS) != 0) attributes.add("status");
+      return "Cannot build DistBuildStatus, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.facebook.buck.doctor.config;
+
+import com.facebook.buck.cli.BuckConfig;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractDoctorConfig}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DoctorConfig.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDoctorConfig"})
+@Immutable
+public final class DoctorConfig extends AbstractDoctorConfig {
+  private final BuckConfig delegate;
+
+  private DoctorConfig(BuckConfig delegate) {
+    this.delegate = Preconditions.checkNotNull(delegate, "delegate");
+  }
+
+  /**
+   * @return The value of the {@code delegate} attribute
+   */
+  @Override
+  public BuckConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DoctorConfig} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DoctorConfig
+        && equalTo((DoctorConfig) another);
+  }
+
+  private boolean equalTo(DoctorConfig another) {
+    return delegate.equals(another.delegate);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code delegate}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + delegate.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DoctorConfig} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DoctorConfig")
+        .omitNullValues()
+        .add("delegate", delegate)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DoctorConfig} instance.
+   * @param delegate The value for the {@code delegate} attribute
+   * @return An immutable DoctorConfig instance
+   */
+  public static DoctorConfig of(BuckConfig delegate) {
+    return new DoctorConfig(delegate);
+  }
+}
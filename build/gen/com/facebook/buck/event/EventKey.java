@@ -0,0 +1,191 @@
+package com.facebook.buck.event;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Longs;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractEventKey}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code EventKey.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code EventKey.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractEventKey"})
+@Immutable
+public final class EventKey extends AbstractEventKey {
+  private final long value;
+
+  private EventKey(long value) {
+    this.value = value;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public long getValue() {
+    return value;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractEventKey#getValue() value} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for value
+   * @return A modified copy of the {@code this} object
+   */
+  public final EventKey withValue(long value) {
+    if (this.value == value) return this;
+    return new EventKey(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code EventKey} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof EventKey
+        && equalTo((EventKey) another);
+  }
+
+  private boolean equalTo(EventKey another) {
+    return value == another.value;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Longs.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code EventKey} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("EventKey")
+        .omitNullValues()
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code EventKey} instance.
+   * @param value The value for the {@code value} attribute
+   * @return An immutable EventKey instance
+   */
+  public static EventKey of(long value) {
+    return new EventKey(value);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractEventKey} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable EventKey instance
+   */
+  static EventKey copyOf(AbstractEventKey instance) {
+    if (instance instanceof EventKey) {
+      return (EventKey) instance;
+    }
+    return EventKey.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link EventKey EventKey}.
+   * @return A new EventKey builder
+   */
+  public static EventKey.Builder builder() {
+    return new EventKey.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link EventKey EventKey}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VALUE = 0x1L;
+    private long initBits = 0x1L;
+
+    private long value;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code EventKey} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(EventKey instance) {
+      return from((AbstractEventKey) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractEventKey} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractEventKey instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setValue(instance.getValue());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractEventKey#getValue() value} attribute.
+     * @param value The value for value 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setValue(long value) {
+      this.value = value;
+      initBits &= ~INIT_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link EventKey EventKey}.
+     * @return An immutable instance of EventKey
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public EventKey build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new EventKey(value);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_VALUE) != 0) attributes.add("value");
+      return "Cannot build EventKey, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,363 @@
+package com.facebook.buck.haskell;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Information that contributes to a haskell compilation job.  Dependencies (e.g. `haskell_library`
+ * rules) export this object to their dependent's compilations.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractHaskellCompileInput"})
+@Immutable
+public final class HaskellCompileInput implements AbstractHaskellCompileInput {
+  private final ImmutableList<String> flags;
+  private final ImmutableList<SourcePath> includes;
+  private final ImmutableList<HaskellPackage> packages;
+
+  private HaskellCompileInput(
+      ImmutableList<String> flags,
+      ImmutableList<SourcePath> includes,
+      ImmutableList<HaskellPackage> packages) {
+    this.flags = flags;
+    this.includes = includes;
+    this.packages = packages;
+  }
+
+  /**
+   * @return any haskell compilation flags to include in the top-level compile job.
+   */
+  @Override
+  public ImmutableList<String> getFlags() {
+    return flags;
+  }
+
+  /**
+   * @return any haskell includes used by the top-level compile job.
+   */
+  @Override
+  public ImmutableList<SourcePath> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return any haskell packages used by the top-level compile job.
+   */
+  @Override
+  public ImmutableList<HaskellPackage> getPackages() {
+    return packages;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellCompileInput#getFlags() flags}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellCompileInput withFlags(String... elements) {
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellCompileInput(newValue, this.includes, this.packages);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellCompileInput#getFlags() flags}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of flags elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellCompileInput withFlags(Iterable<String> elements) {
+    if (this.flags == elements) return this;
+    ImmutableList<String> newValue = ImmutableList.copyOf(elements);
+    return new HaskellCompileInput(newValue, this.includes, this.packages);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellCompileInput#getIncludes() includes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellCompileInput withIncludes(SourcePath... elements) {
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellCompileInput(this.flags, newValue, this.packages);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellCompileInput#getIncludes() includes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellCompileInput withIncludes(Iterable<? extends SourcePath> elements) {
+    if (this.includes == elements) return this;
+    ImmutableList<SourcePath> newValue = ImmutableList.copyOf(elements);
+    return new HaskellCompileInput(this.flags, newValue, this.packages);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellCompileInput#getPackages() packages}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellCompileInput withPackages(HaskellPackage... elements) {
+    ImmutableList<HaskellPackage> newValue = ImmutableList.copyOf(elements);
+    return new HaskellCompileInput(this.flags, this.includes, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractHaskellCompileInput#getPackages() packages}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of packages elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final HaskellCompileInput withPackages(Iterable<? extends HaskellPackage> elements) {
+    if (this.packages == elements) return this;
+    ImmutableList<HaskellPackage> newValue = ImmutableList.copyOf(elements);
+    return new HaskellCompileInput(this.flags, this.includes, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code HaskellCompileInput} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof HaskellCompileInput
+        && equalTo((HaskellCompileInput) another);
+  }
+
+  private boolean equalTo(HaskellCompileInput another) {
+    return flags.equals(another.flags)
+        && includes.equals(another.includes)
+        && packages.equals(another.packages);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code flags}, {@code includes}, {@code packages}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + flags.hashCode();
+    h = h * 17 + includes.hashCode();
+    h = h * 17 + packages.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code HaskellCompileInput} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("HaskellCompileInput")
+        .omitNullValues()
+        .add("flags", flags)
+        .add("includes", includes)
+        .add("packages", packages)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractHaskellCompileInput} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable HaskellCompileInput instance
+   */
+  static HaskellCompileInput copyOf(AbstractHaskellCompileInput instance) {
+    if (instance instanceof HaskellCompileInput) {
+      return (HaskellCompileInput) instance;
+    }
+    return HaskellCompileInput.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link HaskellCompileInput HaskellCompileInput}.
+   * @return A new HaskellCompileInput builder
+   */
+  public static HaskellCompileInput.Builder builder() {
+    return new HaskellCompileInput.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link HaskellCompileInput HaskellCompileInput}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private ImmutableList.Builder<String> flags = ImmutableList.builder();
+    private ImmutableList.Builder<SourcePath> includes = ImmutableList.builder();
+    private ImmutableList.Builder<HaskellPackage> packages = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code HaskellCompileInput} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(HaskellCompileInput instance) {
+      return from((AbstractHaskellCompileInput) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractHaskellCompileInput} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractHaskellCompileInput instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      addAllFlags(instance.getFlags());
+      addAllIncludes(instance.getIncludes());
+      addAllPackages(instance.getPackages());
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellCompileInput#getFlags() flags} list.
+     * @param element A flags element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(String element) {
+      this.flags.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellCompileInput#getFlags() flags} list.
+     * @param elements An array of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFlags(String... elements) {
+      this.flags.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellCompileInput#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFlags(Iterable<String> elements) {
+      this.flags = ImmutableList.builder();
+      return addAllFlags(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellCompileInput#getFlags() flags} list.
+     * @param elements An iterable of flags elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFlags(Iterable<String> elements) {
+      this.flags.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellCompileInput#getIncludes() includes} list.
+     * @param element A includes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludes(SourcePath element) {
+      this.includes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellCompileInput#getIncludes() includes} list.
+     * @param elements An array of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludes(SourcePath... elements) {
+      this.includes.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellCompileInput#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludes(Iterable<? extends SourcePath> elements) {
+      this.includes = ImmutableList.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellCompileInput#getIncludes() includes} list.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludes(Iterable<? extends SourcePath> elements) {
+      this.includes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractHaskellCompileInput#getPackages() packages} list.
+     * @param element A packages element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPackages(HaskellPackage element) {
+      this.packages.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellCompileInput#getPackages() packages} list.
+     * @param elements An array of packages elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPackages(HaskellPackage... elements) {
+      this.packages.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractHaskellCompileInput#getPackages() packages} list.
+     * @param elements An iterable of packages elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPackages(Iterable<? extends HaskellPackage> elements) {
+      this.packages = ImmutableList.builder();
+      return addAllPackages(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractHaskellCompileInput#getPackages() packages} list.
+     * @param elements An iterable of packages elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPackages(Iterable<? extends HaskellPackage> elements) {
+      this.packages.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link HaskellCompileInput HaskellCompileInput}.
+     * @return An immutable instance of HaskellCompileInput
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public HaskellCompileInput build() {
+      return new HaskellCompileInput(flags.build(), includes.build(), packages.build());
+    }
+  }
+}
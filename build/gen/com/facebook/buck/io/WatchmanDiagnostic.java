@@ -0,0 +1,95 @@
+package com.facebook.buck.io;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractWatchmanDiagnostic}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code WatchmanDiagnostic.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractWatchmanDiagnostic"})
+@Immutable
+public final class WatchmanDiagnostic implements AbstractWatchmanDiagnostic {
+  private final AbstractWatchmanDiagnostic.Level level;
+  private final String message;
+
+  private WatchmanDiagnostic(AbstractWatchmanDiagnostic.Level level, String message) {
+    this.level = Preconditions.checkNotNull(level, "level");
+    this.message = Preconditions.checkNotNull(message, "message");
+  }
+
+  /**
+   * @return The value of the {@code level} attribute
+   */
+  @Override
+  public AbstractWatchmanDiagnostic.Level getLevel() {
+    return level;
+  }
+
+  /**
+   * @return The value of the {@code message} attribute
+   */
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * This instance is equal to all instances of {@code WatchmanDiagnostic} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof WatchmanDiagnostic
+        && equalTo((WatchmanDiagnostic) another);
+  }
+
+  private boolean equalTo(WatchmanDiagnostic another) {
+    return level.equals(another.level)
+        && message.equals(another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code level}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + level.hashCode();
+    h = h * 17 + message.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code WatchmanDiagnostic} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("WatchmanDiagnostic")
+        .omitNullValues()
+        .add("level", level)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code WatchmanDiagnostic} instance.
+   * @param level The value for the {@code level} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable WatchmanDiagnostic instance
+   */
+  public static WatchmanDiagnostic of(AbstractWatchmanDiagnostic.Level level, String message) {
+    return new WatchmanDiagnostic(level, message);
+  }
+}
@@ -0,0 +1,330 @@
+package com.facebook.buck.jvm.java;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractDirectToJarOutputSettings}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code DirectToJarOutputSettings.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractDirectToJarOutputSettings"})
+@Immutable
+public final class DirectToJarOutputSettings
+    extends AbstractDirectToJarOutputSettings {
+  private final Path directToJarOutputPath;
+  private final ImmutableSet<Pattern> classesToRemoveFromJar;
+  private final ImmutableSortedSet<Path> entriesToJar;
+  private final @Nullable String mainClass;
+  private final @Nullable Path manifestFile;
+
+  private DirectToJarOutputSettings(
+      Path directToJarOutputPath,
+      Iterable<? extends Pattern> classesToRemoveFromJar,
+      ImmutableSortedSet<Path> entriesToJar,
+      Optional<String> mainClass,
+      Optional<Path> manifestFile) {
+    this.directToJarOutputPath = Preconditions.checkNotNull(directToJarOutputPath, "directToJarOutputPath");
+    this.classesToRemoveFromJar = ImmutableSet.copyOf(classesToRemoveFromJar);
+    this.entriesToJar = Preconditions.checkNotNull(entriesToJar, "entriesToJar");
+    this.mainClass = mainClass.orElse(null);
+    this.manifestFile = manifestFile.orElse(null);
+  }
+
+  private DirectToJarOutputSettings(
+      DirectToJarOutputSettings original,
+      Path directToJarOutputPath,
+      ImmutableSet<Pattern> classesToRemoveFromJar,
+      ImmutableSortedSet<Path> entriesToJar,
+      @Nullable String mainClass,
+      @Nullable Path manifestFile) {
+    this.directToJarOutputPath = directToJarOutputPath;
+    this.classesToRemoveFromJar = classesToRemoveFromJar;
+    this.entriesToJar = entriesToJar;
+    this.mainClass = mainClass;
+    this.manifestFile = manifestFile;
+  }
+
+  /**
+   * @return The value of the {@code directToJarOutputPath} attribute
+   */
+  @Override
+  public Path getDirectToJarOutputPath() {
+    return directToJarOutputPath;
+  }
+
+  /**
+   * @return The value of the {@code classesToRemoveFromJar} attribute
+   */
+  @Override
+  public ImmutableSet<Pattern> getClassesToRemoveFromJar() {
+    return classesToRemoveFromJar;
+  }
+
+  /**
+   * @return The value of the {@code entriesToJar} attribute
+   */
+  @Override
+  public ImmutableSortedSet<Path> getEntriesToJar() {
+    return entriesToJar;
+  }
+
+  /**
+   * @return The value of the {@code mainClass} attribute
+   */
+  @Override
+  public Optional<String> getMainClass() {
+    return Optional.ofNullable(mainClass);
+  }
+
+  /**
+   * @return The value of the {@code manifestFile} attribute
+   */
+  @Override
+  public Optional<Path> getManifestFile() {
+    return Optional.ofNullable(manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDirectToJarOutputSettings#getDirectToJarOutputPath() directToJarOutputPath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for directToJarOutputPath
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirectToJarOutputSettings withDirectToJarOutputPath(Path value) {
+    if (this.directToJarOutputPath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "directToJarOutputPath");
+    return new DirectToJarOutputSettings(
+        this,
+        newValue,
+        this.classesToRemoveFromJar,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractDirectToJarOutputSettings#getClassesToRemoveFromJar() classesToRemoveFromJar}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DirectToJarOutputSettings withClassesToRemoveFromJar(Pattern... elements) {
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        newValue,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractDirectToJarOutputSettings#getClassesToRemoveFromJar() classesToRemoveFromJar}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of classesToRemoveFromJar elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DirectToJarOutputSettings withClassesToRemoveFromJar(Iterable<? extends Pattern> elements) {
+    if (this.classesToRemoveFromJar == elements) return this;
+    ImmutableSet<Pattern> newValue = ImmutableSet.copyOf(elements);
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        newValue,
+        this.entriesToJar,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractDirectToJarOutputSettings#getEntriesToJar() entriesToJar} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for entriesToJar
+   * @return A modified copy of the {@code this} object
+   */
+  public final DirectToJarOutputSettings withEntriesToJar(ImmutableSortedSet<Path> value) {
+    if (this.entriesToJar == value) return this;
+    ImmutableSortedSet<Path> newValue = Preconditions.checkNotNull(value, "entriesToJar");
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        this.classesToRemoveFromJar,
+        newValue,
+        this.mainClass,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDirectToJarOutputSettings#getMainClass() mainClass} attribute.
+   * @param value The value for mainClass
+   * @return A modified copy of {@code this} object
+   */
+  public final DirectToJarOutputSettings withMainClass(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "mainClass");
+    if (Objects.equal(this.mainClass, newValue)) return this;
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        this.classesToRemoveFromJar,
+        this.entriesToJar,
+        newValue,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDirectToJarOutputSettings#getMainClass() mainClass} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for mainClass
+   * @return A modified copy of {@code this} object
+   */
+  public final DirectToJarOutputSettings withMainClass(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.mainClass, value)) return this;
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        this.classesToRemoveFromJar,
+        this.entriesToJar,
+        value,
+        this.manifestFile);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractDirectToJarOutputSettings#getManifestFile() manifestFile} attribute.
+   * @param value The value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final DirectToJarOutputSettings withManifestFile(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "manifestFile");
+    if (this.manifestFile == newValue) return this;
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        this.classesToRemoveFromJar,
+        this.entriesToJar,
+        this.mainClass,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractDirectToJarOutputSettings#getManifestFile() manifestFile} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for manifestFile
+   * @return A modified copy of {@code this} object
+   */
+  public final DirectToJarOutputSettings withManifestFile(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.manifestFile == value) return this;
+    return new DirectToJarOutputSettings(
+        this,
+        this.directToJarOutputPath,
+        this.classesToRemoveFromJar,
+        this.entriesToJar,
+        this.mainClass,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DirectToJarOutputSettings} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DirectToJarOutputSettings
+        && equalTo((DirectToJarOutputSettings) another);
+  }
+
+  private boolean equalTo(DirectToJarOutputSettings another) {
+    return directToJarOutputPath.equals(another.directToJarOutputPath)
+        && classesToRemoveFromJar.equals(another.classesToRemoveFromJar)
+        && entriesToJar.equals(another.entriesToJar)
+        && Objects.equal(mainClass, another.mainClass)
+        && Objects.equal(manifestFile, another.manifestFile);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code directToJarOutputPath}, {@code classesToRemoveFromJar}, {@code entriesToJar}, {@code mainClass}, {@code manifestFile}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + directToJarOutputPath.hashCode();
+    h = h * 17 + classesToRemoveFromJar.hashCode();
+    h = h * 17 + entriesToJar.hashCode();
+    h = h * 17 + Objects.hashCode(mainClass);
+    h = h * 17 + Objects.hashCode(manifestFile);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DirectToJarOutputSettings} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DirectToJarOutputSettings")
+        .omitNullValues()
+        .add("directToJarOutputPath", directToJarOutputPath)
+        .add("classesToRemoveFromJar", classesToRemoveFromJar)
+        .add("entriesToJar", entriesToJar)
+        .add("mainClass", mainClass)
+        .add("manifestFile", manifestFile)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code DirectToJarOutputSettings} instance.
+   * @param directToJarOutputPath The value for the {@code directToJarOutputPath} attribute
+   * @param classesToRemoveFromJar The value for the {@code classesToRemoveFromJar} attribute
+   * @param entriesToJar The value for the {@code entriesToJar} attribute
+   * @param mainClass The value for the {@code mainClass} attribute
+   * @param manifestFile The value for the {@code manifestFile} attribute
+   * @return An immutable DirectToJarOutputSettings instance
+   */
+  public static DirectToJarOutputSettings of(Path directToJarOutputPath, ImmutableSet<Pattern> classesToRemoveFromJar, ImmutableSortedSet<Path> entriesToJar, Optional<String> mainClass, Optional<Path> manifestFile) {
+    return of(directToJarOutputPath, (Iterable<? extends Pattern>) classesToRemoveFromJar, entriesToJar, mainClass, manifestFile);
+  }
+
+  /**
+   * Construct a new immutable {@code DirectToJarOutputSettings} instance.
+   * @param directToJarOutputPath The value for the {@code directToJarOutputPath} attribute
+   * @param classesToRemoveFromJar The value for the {@code classesToRemoveFromJar} attribute
+   * @param entriesToJar The value for the {@code entriesToJar} attribute
+   * @param mainClass The value for the {@code mainClass} attribute
+   * @param manifestFile The value for the {@code manifestFile} attribute
+   * @return An immutable DirectToJarOutputSettings instance
+   */
+  public static DirectToJarOutputSettings of(Path directToJarOutputPath, Iterable<? extends Pattern> classesToRemoveFromJar, ImmutableSortedSet<Path> entriesToJar, Optional<String> mainClass, Optional<Path> manifestFile) {
+    return new DirectToJarOutputSettings(directToJarOutputPath, classesToRemoveFromJar, entriesToJar, mainClass, manifestFile);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractDirectToJarOutputSettings} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DirectToJarOutputSettings instance
+   */
+  static DirectToJarOutputSettings copyOf(AbstractDirectToJarOutputSettings instance) {
+    if (instance instanceof DirectToJarOutputSettings) {
+      return (DirectToJarOutputSettings) instance;
+    }
+    return DirectToJarOutputSettings.of(instance.getDirectToJarOutputPath(), instance.getClassesToRemoveFromJar(), instance.getEntriesToJar(), instance.getMainClass(), instance.getManifestFile());
+  }
+}
@@ -0,0 +1,729 @@
+package com.facebook.buck.jvm.java;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.jvm.core.JavaPackageFinder;
+import com.facebook.buck.rules.CellPathResolver;
+import com.facebook.buck.util.ClassLoaderCache;
+import com.facebook.buck.util.ProcessExecutor;
+import com.facebook.buck.util.Verbosity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractJavacExecutionContext}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code JavacExecutionContext.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractJavacExecutionContext"})
+@Immutable
+public final class JavacExecutionContext extends AbstractJavacExecutionContext {
+  private final JavacEventSink eventSink;
+  private final PrintStream stdErr;
+  private final ClassLoaderCache classLoaderCache;
+  private final ObjectMapper objectMapper;
+  private final Verbosity verbosity;
+  private final CellPathResolver cellPathResolver;
+  private final JavaPackageFinder javaPackageFinder;
+  private final ProjectFilesystem projectFilesystem;
+  private final ClassUsageFileWriter usedClassesFileWriter;
+  private final ImmutableMap<String, String> environment;
+  private final ProcessExecutor processExecutor;
+  private final ImmutableList<Path> absolutePathsForInputs;
+  private final @Nullable DirectToJarOutputSettings directToJarOutputSettings;
+
+  private JavacExecutionContext(
+      JavacEventSink eventSink,
+      PrintStream stdErr,
+      ClassLoaderCache classLoaderCache,
+      ObjectMapper objectMapper,
+      Verbosity verbosity,
+      CellPathResolver cellPathResolver,
+      JavaPackageFinder javaPackageFinder,
+      ProjectFilesystem projectFilesystem,
+      ClassUsageFileWriter usedClassesFileWriter,
+      Map<String, ? extends String> environment,
+      ProcessExecutor processExecutor,
+      Iterable<? extends Path> absolutePathsForInputs,
+      Optional<DirectToJarOutputSettings> directToJarOutputSettings) {
+    this.eventSink = Preconditions.checkNotNull(eventSink, "eventSink");
+    this.stdErr = Preconditions.checkNotNull(stdErr, "stdErr");
+    this.classLoaderCache = Preconditions.checkNotNull(classLoaderCache, "classLoaderCache");
+    this.objectMapper = Preconditions.checkNotNull(objectMapper, "objectMapper");
+    this.verbosity = Preconditions.checkNotNull(verbosity, "verbosity");
+    this.cellPathResolver = Preconditions.checkNotNull(cellPathResolver, "cellPathResolver");
+    this.javaPackageFinder = Preconditions.checkNotNull(javaPackageFinder, "javaPackageFinder");
+    this.projectFilesystem = Preconditions.checkNotNull(projectFilesystem, "projectFilesystem");
+    this.usedClassesFileWriter = Preconditions.checkNotNull(usedClassesFileWriter, "usedClassesFileWriter");
+    this.environment = ImmutableMap.copyOf(environment);
+    this.processExecutor = Preconditions.checkNotNull(processExecutor, "processExecutor");
+    this.absolutePathsForInputs = ImmutableList.copyOf(absolutePathsForInputs);
+    this.directToJarOutputSettings = directToJarOutputSettings.orElse(null);
+  }
+
+  private JavacExecutionContext(
+      JavacExecutionContext original,
+      JavacEventSink eventSink,
+      PrintStream stdErr,
+      ClassLoaderCache classLoaderCache,
+      ObjectMapper objectMapper,
+      Verbosity verbosity,
+      CellPathResolver cellPathResolver,
+      JavaPackageFinder javaPackageFinder,
+      ProjectFilesystem projectFilesystem,
+      ClassUsageFileWriter usedClassesFileWriter,
+      ImmutableMap<String, String> environment,
+      ProcessExecutor processExecutor,
+      ImmutableList<Path> absolutePathsForInputs,
+      @Nullable DirectToJarOutputSettings directToJarOutputSettings) {
+    this.eventSink = eventSink;
+    this.stdErr = stdErr;
+    this.classLoaderCache = classLoaderCache;
+    this.objectMapper = objectMapper;
+    this.verbosity = verbosity;
+    this.cellPathResolver = cellPathResolver;
+    this.javaPackageFinder = javaPackageFinder;
+    this.projectFilesystem = projectFilesystem;
+    this.usedClassesFileWriter = usedClassesFileWriter;
+    this.environment = environment;
+    this.processExecutor = processExecutor;
+    this.absolutePathsForInputs = absolutePathsForInputs;
+    this.directToJarOutputSettings = directToJarOutputSettings;
+  }
+
+  /**
+   * @return The value of the {@code eventSink} attribute
+   */
+  @Override
+  public JavacEventSink getEventSink() {
+    return eventSink;
+  }
+
+  /**
+   * @return The value of the {@code stdErr} attribute
+   */
+  @Override
+  public PrintStream getStdErr() {
+    return stdErr;
+  }
+
+  /**
+   * @return The value of the {@code classLoaderCache} attribute
+   */
+  @Override
+  public ClassLoaderCache getClassLoaderCache() {
+    return classLoaderCache;
+  }
+
+  /**
+   * @return The value of the {@code objectMapper} attribute
+   */
+  @Override
+  public ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+
+  /**
+   * @return The value of the {@code verbosity} attribute
+   */
+  @Override
+  public Verbosity getVerbosity() {
+    return verbosity;
+  }
+
+  /**
+   * @return The value of the {@code cellPathResolver} attribute
+   */
+  @Override
+  public CellPathResolver getCellPathResolver() {
+    return cellPathResolver;
+  }
+
+  /**
+   * @return The value of the {@code javaPackageFinder} attribute
+   */
+  @Override
+  public JavaPackageFinder getJavaPackageFinder() {
+    return javaPackageFinder;
+  }
+
+  /**
+   * @return The value of the {@code projectFilesystem} attribute
+   */
+  @Override
+  public ProjectFilesystem getProjectFilesystem() {
+    return projectFilesystem;
+  }
+
+  /**
+   * @return The value of the {@code usedClassesFileWriter} attribute
+   */
+  @Override
+  public ClassUsageFileWriter getUsedClassesFileWriter() {
+    return usedClassesFileWriter;
+  }
+
+  /**
+   * @return The value of the {@code environment} attribute
+   */
+  @Override
+  public ImmutableMap<String, String> getEnvironment() {
+    return environment;
+  }
+
+  /**
+   * @return The value of the {@code processExecutor} attribute
+   */
+  @Override
+  public ProcessExecutor getProcessExecutor() {
+    return processExecutor;
+  }
+
+  /**
+   * @return The value of the {@code absolutePathsForInputs} attribute
+   */
+  @Override
+  public ImmutableList<Path> getAbsolutePathsForInputs() {
+    return absolutePathsForInputs;
+  }
+
+  /**
+   * Setting this to non-absent value enables direct to jar output.
+   */
+  @Override
+  public Optional<DirectToJarOutputSettings> getDirectToJarOutputSettings() {
+    return Optional.ofNullable(directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getEventSink() eventSink} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for eventSink
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withEventSink(JavacEventSink value) {
+    if (this.eventSink == value) return this;
+    JavacEventSink newValue = Preconditions.checkNotNull(value, "eventSink");
+    return new JavacExecutionContext(
+        this,
+        newValue,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getStdErr() stdErr} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for stdErr
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withStdErr(PrintStream value) {
+    if (this.stdErr == value) return this;
+    PrintStream newValue = Preconditions.checkNotNull(value, "stdErr");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        newValue,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getClassLoaderCache() classLoaderCache} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for classLoaderCache
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withClassLoaderCache(ClassLoaderCache value) {
+    if (this.classLoaderCache == value) return this;
+    ClassLoaderCache newValue = Preconditions.checkNotNull(value, "classLoaderCache");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        newValue,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getObjectMapper() objectMapper} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for objectMapper
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withObjectMapper(ObjectMapper value) {
+    if (this.objectMapper == value) return this;
+    ObjectMapper newValue = Preconditions.checkNotNull(value, "objectMapper");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        newValue,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getVerbosity() verbosity} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for verbosity
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withVerbosity(Verbosity value) {
+    if (this.verbosity == value) return this;
+    Verbosity newValue = Preconditions.checkNotNull(value, "verbosity");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        newValue,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getCellPathResolver() cellPathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cellPathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withCellPathResolver(CellPathResolver value) {
+    if (this.cellPathResolver == value) return this;
+    CellPathResolver newValue = Preconditions.checkNotNull(value, "cellPathResolver");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        newValue,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getJavaPackageFinder() javaPackageFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for javaPackageFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withJavaPackageFinder(JavaPackageFinder value) {
+    if (this.javaPackageFinder == value) return this;
+    JavaPackageFinder newValue = Preconditions.checkNotNull(value, "javaPackageFinder");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        newValue,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getProjectFilesystem() projectFilesystem} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for projectFilesystem
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withProjectFilesystem(ProjectFilesystem value) {
+    if (this.projectFilesystem == value) return this;
+    ProjectFilesystem newValue = Preconditions.checkNotNull(value, "projectFilesystem");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        newValue,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getUsedClassesFileWriter() usedClassesFileWriter} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for usedClassesFileWriter
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withUsedClassesFileWriter(ClassUsageFileWriter value) {
+    if (this.usedClassesFileWriter == value) return this;
+    ClassUsageFileWriter newValue = Preconditions.checkNotNull(value, "usedClassesFileWriter");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        newValue,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractJavacExecutionContext#getEnvironment() environment} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the environment map
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withEnvironment(Map<String, ? extends String> entries) {
+    if (this.environment == entries) return this;
+    ImmutableMap<String, String> newValue = ImmutableMap.copyOf(entries);
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        newValue,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractJavacExecutionContext#getProcessExecutor() processExecutor} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processExecutor
+   * @return A modified copy of the {@code this} object
+   */
+  public final JavacExecutionContext withProcessExecutor(ProcessExecutor value) {
+    if (this.processExecutor == value) return this;
+    ProcessExecutor newValue = Preconditions.checkNotNull(value, "processExecutor");
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        newValue,
+        this.absolutePathsForInputs,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacExecutionContext#getAbsolutePathsForInputs() absolutePathsForInputs}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withAbsolutePathsForInputs(Path... elements) {
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        newValue,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractJavacExecutionContext#getAbsolutePathsForInputs() absolutePathsForInputs}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of absolutePathsForInputs elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withAbsolutePathsForInputs(Iterable<? extends Path> elements) {
+    if (this.absolutePathsForInputs == elements) return this;
+    ImmutableList<Path> newValue = ImmutableList.copyOf(elements);
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        newValue,
+        this.directToJarOutputSettings);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractJavacExecutionContext#getDirectToJarOutputSettings() directToJarOutputSettings} attribute.
+   * @param value The value for directToJarOutputSettings
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withDirectToJarOutputSettings(DirectToJarOutputSettings value) {
+    @Nullable DirectToJarOutputSettings newValue = Preconditions.checkNotNull(value, "directToJarOutputSettings");
+    if (this.directToJarOutputSettings == newValue) return this;
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractJavacExecutionContext#getDirectToJarOutputSettings() directToJarOutputSettings} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for directToJarOutputSettings
+   * @return A modified copy of {@code this} object
+   */
+  public final JavacExecutionContext withDirectToJarOutputSettings(Optional<DirectToJarOutputSettings> optional) {
+    @Nullable DirectToJarOutputSettings value = optional.orElse(null);
+    if (this.directToJarOutputSettings == value) return this;
+    return new JavacExecutionContext(
+        this,
+        this.eventSink,
+        this.stdErr,
+        this.classLoaderCache,
+        this.objectMapper,
+        this.verbosity,
+        this.cellPathResolver,
+        this.javaPackageFinder,
+        this.projectFilesystem,
+        this.usedClassesFileWriter,
+        this.environment,
+        this.processExecutor,
+        this.absolutePathsForInputs,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code JavacExecutionContext} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof JavacExecutionContext
+        && equalTo((JavacExecutionContext) another);
+  }
+
+  private boolean equalTo(JavacExecutionContext another) {
+    return eventSink.equals(another.eventSink)
+        && stdErr.equals(another.stdErr)
+        && classLoaderCache.equals(another.classLoaderCache)
+        && objectMapper.equals(another.objectMapper)
+        && verbosity.equals(another.verbosity)
+        && cellPathResolver.equals(another.cellPathResolver)
+        && javaPackageFinder.equals(another.javaPackageFinder)
+        && projectFilesystem.equals(another.projectFilesystem)
+        && usedClassesFileWriter.equals(another.usedClassesFileWriter)
+        && environment.equals(another.environment)
+        && processExecutor.equals(another.processExecutor)
+        && absolutePathsForInputs.equals(another.absolutePathsForInputs)
+        && Objects.equal(directToJarOutputSettings, another.directToJarOutputSettings);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code eventSink}, {@code stdErr}, {@code classLoaderCache}, {@code objectMapper}, {@code verbosity}, {@code cellPathResolver}, {@code javaPackageFinder}, {@code projectFilesystem}, {@code usedClassesFileWriter}, {@code environment}, {@code processExecutor}, {@code absolutePathsForInputs}, {@code directToJarOutputSettings}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + eventSink.hashCode();
+    h = h * 17 + stdErr.hashCode();
+    h = h * 17 + classLoaderCache.hashCode();
+    h = h * 17 + objectMapper.hashCode();
+    h = h * 17 + verbosity.hashCode();
+    h = h * 17 + cellPathResolver.hashCode();
+    h = h * 17 + javaPackageFinder.hashCode();
+    h = h * 17 + projectFilesystem.hashCode();
+    h = h * 17 + usedClassesFileWriter.hashCode();
+    h = h * 17 + environment.hashCode();
+    h = h * 17 + processExecutor.hashCode();
+    h = h * 17 + absolutePathsForInputs.hashCode();
+    h = h * 17 + Objects.hashCode(directToJarOutputSettings);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code JavacExecutionContext} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("JavacExecutionContext")
+        .omitNullValues()
+        .add("eventSink", eventSink)
+        .add("stdErr", stdErr)
+        .add("classLoaderCache", classLoaderCache)
+        .add("objectMapper", objectMapper)
+        .add("verbosity", verbosity)
+        .add("cellPathResolver", cellPathResolver)
+        .add("javaPackageFinder", javaPackageFinder)
+        .add("projectFilesystem", projectFilesystem)
+        .add("usedClassesFileWriter", usedClassesFileWriter)
+        .add("environment", environment)
+        .add("processExecutor", processExecutor)
+        .add("absolutePathsForInputs", absolutePathsForInputs)
+        .add("directToJarOutputSettings", directToJarOutputSettings)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code JavacExecutionContext} instance.
+   * @param eventSink The value for the {@code eventSink} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param classLoaderCache The value for the {@code classLoaderCache} attribute
+   * @param objectMapper The value for the {@code objectMapper} attribute
+   * @param verbosity The value for the {@code verbosity} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param usedClassesFileWriter The value for the {@code usedClassesFileWriter} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param absolutePathsForInputs The value for the {@code absolutePathsForInputs} attribute
+   * @param directToJarOutputSettings The value for the {@code directToJarOutputSettings} attribute
+   * @return An immutable JavacExecutionContext instance
+   */
+  public static JavacExecutionContext of(JavacEventSink eventSink, PrintStream stdErr, ClassLoaderCache classLoaderCache, ObjectMapper objectMapper, Verbosity verbosity, CellPathResolver cellPathResolver, JavaPackageFinder javaPackageFinder, ProjectFilesystem projectFilesystem, ClassUsageFileWriter usedClassesFileWriter, ImmutableMap<String, String> environment, ProcessExecutor processExecutor, ImmutableList<Path> absolutePathsForInputs, Optional<DirectToJarOutputSettings> directToJarOutputSettings) {
+    return of(eventSink, stdErr, classLoaderCache, objectMapper, verbosity, cellPathResolver, javaPackageFinder, projectFilesystem, usedClassesFileWriter, environment, processExecutor, (Iterable<? extends Path>) absolutePathsForInputs, directToJarOutputSettings);
+  }
+
+  /**
+   * Construct a new immutable {@code JavacExecutionContext} instance.
+   * @param eventSink The value for the {@code eventSink} attribute
+   * @param stdErr The value for the {@code stdErr} attribute
+   * @param classLoaderCache The value for the {@code classLoaderCache} attribute
+   * @param objectMapper The value for the {@code objectMapper} attribute
+   * @param verbosity The value for the {@code verbosity} attribute
+   * @param cellPathResolver The value for the {@code cellPathResolver} attribute
+   * @param javaPackageFinder The value for the {@code javaPackageFinder} attribute
+   * @param projectFilesystem The value for the {@code projectFilesystem} attribute
+   * @param usedClassesFileWriter The value for the {@code usedClassesFileWriter} attribute
+   * @param environment The value for the {@code environment} attribute
+   * @param processExecutor The value for the {@code processExecutor} attribute
+   * @param absolutePathsForInputs The value for the {@code absolutePathsForInputs} attribute
+   * @param directToJarOutputSettings The value for the {@code directToJarOutputSettings} attribute
+   * @return An immutable JavacExecutionContext instance
+   */
+  public static JavacExecutionContext of(JavacEventSink eventSink, PrintStream stdErr, ClassLoaderCache classLoaderCache, ObjectMapper objectMapper, Verbosity verbosity, CellPathResolver cellPathResolver, JavaPackageFinder javaPackageFinder, ProjectFilesystem projectFilesystem, ClassUsageFileWriter usedClassesFileWriter, Map<String, ? extends String> environment, ProcessExecutor processExecutor, Iterable<? extends Path> absolutePathsForInputs, Optional<DirectToJarOutputSettings> directToJarOutputSettings) {
+    return new JavacExecutionContext(eventSink, stdErr, classLoaderCache, objectMapper, verbosity, cellPathResolver, javaPackageFinder, projectFilesystem, usedClassesFileWriter, environment, processExecutor, absolutePathsForInputs, directToJarOutputSettings);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractJavacExecutionContext} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable JavacExecutionContext instance
+   */
+  static JavacExecutionContext copyOf(AbstractJavacExecutionContext instance) {
+    if (instance instanceof JavacExecutionContext) {
+      return (JavacExecutionContext) instance;
+    }
+    return JavacExecutionContext.of(instance.getEventSink(), instance.getStdErr(), instance.getClassLoaderCache(), instance.getObjectMapper(), instance.getVerbosity(), instance.getCellPathResolver(), instance.getJavaPackageFinder(), instance.getProjectFilesystem(), instance.getUsedClassesFileWriter(), instance.getEnvironment(), instance.getProcessExecutor(), instance.getAbsolutePathsForInputs(), instance.getDirectToJarOutputSettings());
+  }
+}
@@ -0,0 +1,222 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjProjectTemplateDataPreparer.AbstractContentRoot}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ContentRoot.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjProjectTemplateDataPreparer.AbstractContentRoot"})
+@Immutable
+public final class ContentRoot
+    extends IjProjectTemplateDataPreparer.AbstractContentRoot {
+  private final String url;
+  private final ImmutableSortedSet<IjSourceFolder> folders;
+
+  private ContentRoot(String url, ImmutableSortedSet<IjSourceFolder> folders) {
+    this.url = url;
+    this.folders = folders;
+  }
+
+  /**
+   * @return The value of the {@code url} attribute
+   */
+  @Override
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * @return The value of the {@code folders} attribute
+   */
+  @Override
+  public ImmutableSortedSet<IjSourceFolder> getFolders() {
+    return folders;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getUrl() url} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for url
+   * @return A modified copy of the {@code this} object
+   */
+  public final ContentRoot withUrl(String value) {
+    if (this.url.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "url");
+    return new ContentRoot(newValue, this.folders);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getFolders() folders} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for folders
+   * @return A modified copy of the {@code this} object
+   */
+  public final ContentRoot withFolders(ImmutableSortedSet<IjSourceFolder> value) {
+    if (this.folders == value) return this;
+    ImmutableSortedSet<IjSourceFolder> newValue = Preconditions.checkNotNull(value, "folders");
+    return new ContentRoot(this.url, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ContentRoot} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ContentRoot
+        && equalTo((ContentRoot) another);
+  }
+
+  private boolean equalTo(ContentRoot another) {
+    return url.equals(another.url)
+        && folders.equals(another.folders);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code url}, {@code folders}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + url.hashCode();
+    h = h * 17 + folders.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ContentRoot} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ContentRoot")
+        .omitNullValues()
+        .add("url", url)
+        .add("folders", folders)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link IjProjectTemplateDataPreparer.AbstractContentRoot} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ContentRoot instance
+   */
+  static ContentRoot copyOf(IjProjectTemplateDataPreparer.AbstractContentRoot instance) {
+    if (instance instanceof ContentRoot) {
+      return (ContentRoot) instance;
+    }
+    return ContentRoot.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ContentRoot ContentRoot}.
+   * @return A new ContentRoot builder
+   */
+  public static ContentRoot.Builder builder() {
+    return new ContentRoot.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ContentRoot ContentRoot}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_URL = 0x1L;
+    private static final long INIT_BIT_FOLDERS = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String url;
+    private @Nullable ImmutableSortedSet<IjSourceFolder> folders;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ContentRoot} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ContentRoot instance) {
+      return from((IjProjectTemplateDataPreparer.AbstractContentRoot) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractContentRoot} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(IjProjectTemplateDataPreparer.AbstractContentRoot instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setUrl(instance.getUrl());
+      setFolders(instance.getFolders());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getUrl() url} attribute.
+     * @param url The value for url 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUrl(String url) {
+      this.url = Preconditions.checkNotNull(url, "url");
+      initBits &= ~INIT_BIT_URL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjProjectTemplateDataPreparer.AbstractContentRoot#getFolders() folders} attribute.
+     * @param folders The value for folders 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFolders(ImmutableSortedSet<IjSourceFolder> folders) {
+      this.folders = Preconditions.checkNotNull(folders, "folders");
+      initBits &= ~INIT_BIT_FOLDERS;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ContentRoot ContentRoot}.
+     * @return An immutable instance of ContentRoot
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ContentRoot build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ContentRoot(url, folders);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_URL) != 0) attributes.add("url");
+      if ((initBits & INIT_BIT_FOLDERS) != 0) attributes.add("folders");
+      return "Cannot build ContentRoot, some of required attributes are not set " + attributes;
+    }
+  }
+}
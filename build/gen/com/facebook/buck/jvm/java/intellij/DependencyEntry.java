@@ -0,0 +1,290 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The design of this classes API is tied to how the corresponding StringTemplate template
+ * interacts with it.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjDependencyListBuilder.AbstractDependencyEntry"})
+@Immutable
+public final class DependencyEntry
+    extends IjDependencyListBuilder.AbstractDependencyEntry {
+  private final @Nullable DependencyEntryData data;
+  private final IjDependencyListBuilder.Type type;
+  private final IjDependencyListBuilder.SortOrder sortOrder;
+
+  private DependencyEntry(
+      @Nullable DependencyEntryData data,
+      IjDependencyListBuilder.Type type,
+      IjDependencyListBuilder.SortOrder sortOrder) {
+    this.data = data;
+    this.type = type;
+    this.sortOrder = sortOrder;
+  }
+
+  /**
+   * @return The value of the {@code data} attribute
+   */
+  @Override
+  public Optional<DependencyEntryData> getData() {
+    return Optional.ofNullable(data);
+  }
+
+  /**
+   * @return The value of the {@code type} attribute
+   */
+  @Override
+  public IjDependencyListBuilder.Type getType() {
+    return type;
+  }
+
+  /**
+   * @return The value of the {@code sortOrder} attribute
+   */
+  @Override
+  public IjDependencyListBuilder.SortOrder getSortOrder() {
+    return sortOrder;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data} attribute.
+   * @param value The value for data
+   * @return A modified copy of {@code this} object
+   */
+  public final DependencyEntry withData(DependencyEntryData value) {
+    @Nullable DependencyEntryData newValue = Preconditions.checkNotNull(value, "data");
+    if (this.data == newValue) return this;
+    return validate(new DependencyEntry(newValue, this.type, this.sortOrder));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for data
+   * @return A modified copy of {@code this} object
+   */
+  public final DependencyEntry withData(Optional<DependencyEntryData> optional) {
+    @Nullable DependencyEntryData value = optional.orElse(null);
+    if (this.data == value) return this;
+    return validate(new DependencyEntry(value, this.type, this.sortOrder));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjDependencyListBuilder.AbstractDependencyEntry#getType() type} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for type
+   * @return A modified copy of the {@code this} object
+   */
+  public final DependencyEntry withType(IjDependencyListBuilder.Type value) {
+    if (this.type == value) return this;
+    IjDependencyListBuilder.Type newValue = Preconditions.checkNotNull(value, "type");
+    return validate(new DependencyEntry(this.data, newValue, this.sortOrder));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjDependencyListBuilder.AbstractDependencyEntry#getSortOrder() sortOrder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sortOrder
+   * @return A modified copy of the {@code this} object
+   */
+  public final DependencyEntry withSortOrder(IjDependencyListBuilder.SortOrder value) {
+    if (this.sortOrder == value) return this;
+    IjDependencyListBuilder.SortOrder newValue = Preconditions.checkNotNull(value, "sortOrder");
+    return validate(new DependencyEntry(this.data, this.type, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DependencyEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DependencyEntry
+        && equalTo((DependencyEntry) another);
+  }
+
+  private boolean equalTo(DependencyEntry another) {
+    return Objects.equal(data, another.data)
+        && type.equals(another.type)
+        && sortOrder.equals(another.sortOrder);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code data}, {@code type}, {@code sortOrder}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(data);
+    h = h * 17 + type.hashCode();
+    h = h * 17 + sortOrder.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DependencyEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DependencyEntry")
+        .omitNullValues()
+        .add("data", data)
+        .add("type", type)
+        .add("sortOrder", sortOrder)
+        .toString();
+  }
+
+  private static DependencyEntry validate(DependencyEntry instance) {
+    instance.dataOnlyAbsentForSourceFolder();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link IjDependencyListBuilder.AbstractDependencyEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DependencyEntry instance
+   */
+  static DependencyEntry copyOf(IjDependencyListBuilder.AbstractDependencyEntry instance) {
+    if (instance instanceof DependencyEntry) {
+      return (DependencyEntry) instance;
+    }
+    return DependencyEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DependencyEntry DependencyEntry}.
+   * @return A new DependencyEntry builder
+   */
+  public static DependencyEntry.Builder builder() {
+    return new DependencyEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DependencyEntry DependencyEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_TYPE = 0x1L;
+    private static final long INIT_BIT_SORT_ORDER = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable DependencyEntryData data;
+    private @Nullable IjDependencyListBuilder.Type type;
+    private @Nullable IjDependencyListBuilder.SortOrder sortOrder;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code DependencyEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DependencyEntry instance) {
+      return from((IjDependencyListBuilder.AbstractDependencyEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractDependencyEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(IjDependencyListBuilder.AbstractDependencyEntry instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      Optional<DependencyEntryData> dataOptional = instance.getData();
+      if (dataOptional.isPresent()) {
+        setData(dataOptional);
+      }
+      setType(instance.getType());
+      setSortOrder(instance.getSortOrder());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data} to data.
+     * @param data The value for data
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setData(DependencyEntryData data) {
+      this.data = Preconditions.checkNotNull(data, "data");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link IjDependencyListBuilder.AbstractDependencyEntry#getData() data} to data.
+     * @param data The value for data
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setData(Optional<DependencyEntryData> data) {
+      this.data = data.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjDependencyListBuilder.AbstractDependencyEntry#getType() type} attribute.
+     * @param type The value for type 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setType(IjDependencyListBuilder.Type type) {
+      this.type = Preconditions.checkNotNull(type, "type");
+      initBits &= ~INIT_BIT_TYPE;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjDependencyListBuilder.AbstractDependencyEntry#getSortOrder() sortOrder} attribute.
+     * @param sortOrder The value for sortOrder 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSortOrder(IjDependencyListBuilder.SortOrder sortOrder) {
+      this.sortOrder = Preconditions.checkNotNull(sortOrder, "sortOrder");
+      initBits &= ~INIT_BIT_SORT_ORDER;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DependencyEntry DependencyEntry}.
+     * @return An immutable instance of DependencyEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DependencyEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return DependencyEntry.validate(new DependencyEntry(data, type, sortOrder));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_TYPE) != 0) attributes.add("type");
+      if ((initBits & INIT_BIT_SORT_ORDER) != 0) attributes.add("sortOrder");
+      return "Cannot build DependencyEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,1328 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.TargetNode;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Represents a single IntelliJ module.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractIjModule"})
+@Immutable
+public final class IjModule extends AbstractIjModule {
+  private final String name;
+  private final ImmutableSet<TargetNode<?, ?>> targets;
+  private final Path moduleBasePath;
+  private final ImmutableSet<IjFolder> folders;
+  private final ImmutableMap<BuildTarget, DependencyType> dependencies;
+  private final @Nullable IjModuleAndroidFacet androidFacet;
+  private final ImmutableSet<Path> extraClassPathDependencies;
+  private final ImmutableSet<IjFolder> generatedSourceCodeFolders;
+  private final @Nullable String sdkName;
+  private final @Nullable String sdkType;
+  private final @Nullable String languageLevel;
+  private final @Nullable IjModuleType moduleType;
+  private final @Nullable Path metaInfDirectory;
+  private final Path moduleImlFilePath;
+
+  private IjModule(
+      ImmutableSet<TargetNode<?, ?>> targets,
+      Path moduleBasePath,
+      ImmutableSet<IjFolder> folders,
+      ImmutableMap<BuildTarget, DependencyType> dependencies,
+      @Nullable IjModuleAndroidFacet androidFacet,
+      ImmutableSet<Path> extraClassPathDependencies,
+      ImmutableSet<IjFolder> generatedSourceCodeFolders,
+      @Nullable String sdkName,
+      @Nullable String sdkType,
+      @Nullable String languageLevel,
+      @Nullable IjModuleType moduleType,
+      @Nullable Path metaInfDirectory) {
+    this.targets = targets;
+    this.moduleBasePath = moduleBasePath;
+    this.folders = folders;
+    this.dependencies = dependencies;
+    this.androidFacet = androidFacet;
+    this.extraClassPathDependencies = extraClassPathDependencies;
+    this.generatedSourceCodeFolders = generatedSourceCodeFolders;
+    this.sdkName = sdkName;
+    this.sdkType = sdkType;
+    this.languageLevel = languageLevel;
+    this.moduleType = moduleType;
+    this.metaInfDirectory = metaInfDirectory;
+    this.name = initShim.getName();
+    this.moduleImlFilePath = initShim.getModuleImlFilePath();
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private String name;
+    private int nameBuildStage;
+
+    String getName() {
+      if (nameBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (nameBuildStage == STAGE_UNINITIALIZED) {
+        nameBuildStage = STAGE_INITIALIZING;
+        this.name = Preconditions.checkNotNull(IjModule.super.getName(), "name");
+        nameBuildStage = STAGE_INITIALIZED;
+      }
+      return this.name;
+    }
+    private Path moduleImlFilePath;
+    private int moduleImlFilePathBuildStage;
+
+    Path getModuleImlFilePath() {
+      if (moduleImlFilePathBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (moduleImlFilePathBuildStage == STAGE_UNINITIALIZED) {
+        moduleImlFilePathBuildStage = STAGE_INITIALIZING;
+        this.moduleImlFilePath = Preconditions.checkNotNull(IjModule.super.getModuleImlFilePath(), "moduleImlFilePath");
+        moduleImlFilePathBuildStage = STAGE_INITIALIZED;
+      }
+      return this.moduleImlFilePath;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (nameBuildStage == STAGE_INITIALIZING) attributes.add("name");
+      if (moduleImlFilePathBuildStage == STAGE_INITIALIZING) attributes.add("moduleImlFilePath");
+      return "Cannot build IjModule, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return The computed-at-construction value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getName()
+        : this.name;
+  }
+
+  /**
+   * @return The value of the {@code targets} attribute
+   */
+  @Override
+  public ImmutableSet<TargetNode<?, ?>> getTargets() {
+    return targets;
+  }
+
+  /**
+   * @return path to the top-most directory the module is responsible for. This is also where the
+   * corresponding .iml file is located.
+   */
+  @Override
+  public Path getModuleBasePath() {
+    return moduleBasePath;
+  }
+
+  /**
+   * @return paths to various directories the module is responsible for.
+   */
+  @Override
+  public ImmutableSet<IjFolder> getFolders() {
+    return folders;
+  }
+
+  /**
+   * @return map of {@link BuildTarget}s the module depends on and information on whether it's a
+   *         test-only dependency or not.
+   */
+  @Override
+  public ImmutableMap<BuildTarget, DependencyType> getDependencies() {
+    return dependencies;
+  }
+
+  /**
+   * @return The value of the {@code androidFacet} attribute
+   */
+  @Override
+  public Optional<IjModuleAndroidFacet> getAndroidFacet() {
+    return Optional.ofNullable(androidFacet);
+  }
+
+  /**
+   * @return a set of classpaths that the module requires to index correctly.
+   */
+  @Override
+  public ImmutableSet<Path> getExtraClassPathDependencies() {
+    return extraClassPathDependencies;
+  }
+
+  /**
+   * @return Folders which contain the generated source code.
+   */
+  @Override
+  public ImmutableSet<IjFolder> getGeneratedSourceCodeFolders() {
+    return generatedSourceCodeFolders;
+  }
+
+  /**
+   * @return JDK name defined for this module explicitly
+   */
+  @Override
+  public Optional<String> getSdkName() {
+    return Optional.ofNullable(sdkName);
+  }
+
+  /**
+   * @return The value of the {@code sdkType} attribute
+   */
+  @Override
+  public Optional<String> getSdkType() {
+    return Optional.ofNullable(sdkType);
+  }
+
+  /**
+   * @return The value of the {@code languageLevel} attribute
+   */
+  @Override
+  public Optional<String> getLanguageLevel() {
+    return Optional.ofNullable(languageLevel);
+  }
+
+  /**
+   * @return The value of the {@code moduleType} attribute
+   */
+  @Override
+  public Optional<IjModuleType> getModuleType() {
+    return Optional.ofNullable(moduleType);
+  }
+
+  /**
+   * @return The value of the {@code metaInfDirectory} attribute
+   */
+  @Override
+  public Optional<Path> getMetaInfDirectory() {
+    return Optional.ofNullable(metaInfDirectory);
+  }
+
+  /**
+   * @return path where the XML describing the module to IntelliJ will be written to.
+   */
+  @Override
+  public Path getModuleImlFilePath() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getModuleImlFilePath()
+        : this.moduleImlFilePath;
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getTargets() targets}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs
+  public final IjModule withTargets(TargetNode<?, ?>... elements) {
+    ImmutableSet<TargetNode<?, ?>> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        newValue,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getTargets() targets}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of targets elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withTargets(Iterable<? extends TargetNode<?, ?>> elements) {
+    if (this.targets == elements) return this;
+    ImmutableSet<TargetNode<?, ?>> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        newValue,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractIjModule#getModuleBasePath() moduleBasePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for moduleBasePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final IjModule withModuleBasePath(Path value) {
+    if (this.moduleBasePath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "moduleBasePath");
+    return validate(new IjModule(
+        this.targets,
+        newValue,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getFolders() folders}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withFolders(IjFolder... elements) {
+    ImmutableSet<IjFolder> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        newValue,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getFolders() folders}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of folders elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withFolders(Iterable<? extends IjFolder> elements) {
+    if (this.folders == elements) return this;
+    ImmutableSet<IjFolder> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        newValue,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractIjModule#getDependencies() dependencies} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the dependencies map
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withDependencies(Map<? extends BuildTarget, ? extends DependencyType> entries) {
+    if (this.dependencies == entries) return this;
+    ImmutableMap<BuildTarget, DependencyType> newValue = ImmutableMap.copyOf(entries);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        newValue,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjModule#getAndroidFacet() androidFacet} attribute.
+   * @param value The value for androidFacet
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withAndroidFacet(IjModuleAndroidFacet value) {
+    @Nullable IjModuleAndroidFacet newValue = Preconditions.checkNotNull(value, "androidFacet");
+    if (this.androidFacet == newValue) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        newValue,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjModule#getAndroidFacet() androidFacet} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for androidFacet
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withAndroidFacet(Optional<IjModuleAndroidFacet> optional) {
+    @Nullable IjModuleAndroidFacet value = optional.orElse(null);
+    if (this.androidFacet == value) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        value,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withExtraClassPathDependencies(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        newValue,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of extraClassPathDependencies elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withExtraClassPathDependencies(Iterable<? extends Path> elements) {
+    if (this.extraClassPathDependencies == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        newValue,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getGeneratedSourceCodeFolders() generatedSourceCodeFolders}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withGeneratedSourceCodeFolders(IjFolder... elements) {
+    ImmutableSet<IjFolder> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        newValue,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractIjModule#getGeneratedSourceCodeFolders() generatedSourceCodeFolders}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of generatedSourceCodeFolders elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withGeneratedSourceCodeFolders(Iterable<? extends IjFolder> elements) {
+    if (this.generatedSourceCodeFolders == elements) return this;
+    ImmutableSet<IjFolder> newValue = ImmutableSet.copyOf(elements);
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        newValue,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjModule#getSdkName() sdkName} attribute.
+   * @param value The value for sdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withSdkName(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "sdkName");
+    if (Objects.equal(this.sdkName, newValue)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        newValue,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjModule#getSdkName() sdkName} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sdkName
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withSdkName(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.sdkName, value)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        value,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjModule#getSdkType() sdkType} attribute.
+   * @param value The value for sdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withSdkType(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "sdkType");
+    if (Objects.equal(this.sdkType, newValue)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        newValue,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjModule#getSdkType() sdkType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sdkType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withSdkType(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.sdkType, value)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        value,
+        this.languageLevel,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjModule#getLanguageLevel() languageLevel} attribute.
+   * @param value The value for languageLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withLanguageLevel(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "languageLevel");
+    if (Objects.equal(this.languageLevel, newValue)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        newValue,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjModule#getLanguageLevel() languageLevel} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for languageLevel
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withLanguageLevel(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.languageLevel, value)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        value,
+        this.moduleType,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjModule#getModuleType() moduleType} attribute.
+   * @param value The value for moduleType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withModuleType(IjModuleType value) {
+    @Nullable IjModuleType newValue = Preconditions.checkNotNull(value, "moduleType");
+    if (Objects.equal(this.moduleType, newValue)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        newValue,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjModule#getModuleType() moduleType} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for moduleType
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withModuleType(Optional<IjModuleType> optional) {
+    @Nullable IjModuleType value = optional.orElse(null);
+    if (Objects.equal(this.moduleType, value)) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        value,
+        this.metaInfDirectory));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractIjModule#getMetaInfDirectory() metaInfDirectory} attribute.
+   * @param value The value for metaInfDirectory
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withMetaInfDirectory(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "metaInfDirectory");
+    if (this.metaInfDirectory == newValue) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractIjModule#getMetaInfDirectory() metaInfDirectory} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for metaInfDirectory
+   * @return A modified copy of {@code this} object
+   */
+  public final IjModule withMetaInfDirectory(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.metaInfDirectory == value) return this;
+    return validate(new IjModule(
+        this.targets,
+        this.moduleBasePath,
+        this.folders,
+        this.dependencies,
+        this.androidFacet,
+        this.extraClassPathDependencies,
+        this.generatedSourceCodeFolders,
+        this.sdkName,
+        this.sdkType,
+        this.languageLevel,
+        this.moduleType,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code IjModule} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof IjModule
+        && equalTo((IjModule) another);
+  }
+
+  private boolean equalTo(IjModule another) {
+    return name.equals(another.name)
+        && targets.equals(another.targets)
+        && moduleBasePath.equals(another.moduleBasePath)
+        && folders.equals(another.folders)
+        && dependencies.equals(another.dependencies)
+        && Objects.equal(androidFacet, another.androidFacet)
+        && extraClassPathDependencies.equals(another.extraClassPathDependencies)
+        && generatedSourceCodeFolders.equals(another.generatedSourceCodeFolders)
+        && Objects.equal(sdkName, another.sdkName)
+        && Objects.equal(sdkType, another.sdkType)
+        && Objects.equal(languageLevel, another.languageLevel)
+        && Objects.equal(moduleType, another.moduleType)
+        && Objects.equal(metaInfDirectory, another.metaInfDirectory)
+        && moduleImlFilePath.equals(another.moduleImlFilePath);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}, {@code targets}, {@code moduleBasePath}, {@code folders}, {@code dependencies}, {@code androidFacet}, {@code extraClassPathDependencies}, {@code generatedSourceCodeFolders}, {@code sdkName}, {@code sdkType}, {@code languageLevel}, {@code moduleType}, {@code metaInfDirectory}, {@code moduleImlFilePath}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    h = h * 17 + targets.hashCode();
+    h = h * 17 + moduleBasePath.hashCode();
+    h = h * 17 + folders.hashCode();
+    h = h * 17 + dependencies.hashCode();
+    h = h * 17 + Objects.hashCode(androidFacet);
+    h = h * 17 + extraClassPathDependencies.hashCode();
+    h = h * 17 + generatedSourceCodeFolders.hashCode();
+    h = h * 17 + Objects.hashCode(sdkName);
+    h = h * 17 + Objects.hashCode(sdkType);
+    h = h * 17 + Objects.hashCode(languageLevel);
+    h = h * 17 + Objects.hashCode(moduleType);
+    h = h * 17 + Objects.hashCode(metaInfDirectory);
+    h = h * 17 + moduleImlFilePath.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code IjModule} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("IjModule")
+        .omitNullValues()
+        .add("name", name)
+        .add("targets", targets)
+        .add("moduleBasePath", moduleBasePath)
+        .add("folders", folders)
+        .add("dependencies", dependencies)
+        .add("androidFacet", androidFacet)
+        .add("extraClassPathDependencies", extraClassPathDependencies)
+        .add("generatedSourceCodeFolders", generatedSourceCodeFolders)
+        .add("sdkName", sdkName)
+        .add("sdkType", sdkType)
+        .add("languageLevel", languageLevel)
+        .add("moduleType", moduleType)
+        .add("metaInfDirectory", metaInfDirectory)
+        .add("moduleImlFilePath", moduleImlFilePath)
+        .toString();
+  }
+
+  private static IjModule validate(IjModule instance) {
+    instance.checkDependencyConsistency();
+    instance.allRulesAreChildrenOfBasePath();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractIjModule} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable IjModule instance
+   */
+  static IjModule copyOf(AbstractIjModule instance) {
+    if (instance instanceof IjModule) {
+      return (IjModule) instance;
+    }
+    return IjModule.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link IjModule IjModule}.
+   * @return A new IjModule builder
+   */
+  public static IjModule.Builder builder() {
+    return new IjModule.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link IjModule IjModule}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_MODULE_BASE_PATH = 0x1L;
+    private long initBits = 0x1L;
+
+    private ImmutableSet.Builder<TargetNode<?, ?>> targets = ImmutableSet.builder();
+    private @Nullable Path moduleBasePath;
+    private ImmutableSet.Builder<IjFolder> folders = ImmutableSet.builder();
+    private ImmutableMap.Builder<BuildTarget, DependencyType> dependencies = ImmutableMap.builder();
+    private @Nullable IjModuleAndroidFacet androidFacet;
+    private ImmutableSet.Builder<Path> extraClassPathDependencies = ImmutableSet.builder();
+    private ImmutableSet.Builder<IjFolder> generatedSourceCodeFolders = ImmutableSet.builder();
+    private @Nullable String sdkName;
+    private @Nullable String sdkType;
+    private @Nullable String languageLevel;
+    private @Nullable IjModuleType moduleType;
+    private @Nullable Path metaInfDirectory;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code com.facebook.buck.jvm.java.intellij.IjProjectElement} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjProjectElement instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code IjModule} instance.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(IjModule instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractIjModule} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractIjModule instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      from((Object) instance);
+      return this;
+    }
+
+    private void from(Object object) {
+      long bits = 0;
+      if (object instanceof IjProjectElement) {
+        IjProjectElement instance = (IjProjectElement) object;
+        if ((bits & 0x1L) == 0) {
+          addAllTargets(instance.getTargets());
+          bits |= 0x1L;
+        }
+      }
+      if (object instanceof AbstractIjModule) {
+        AbstractIjModule instance = (AbstractIjModule) object;
+        setModuleBasePath(instance.getModuleBasePath());
+        Optional<Path> metaInfDirectoryOptional = instance.getMetaInfDirectory();
+        if (metaInfDirectoryOptional.isPresent()) {
+          setMetaInfDirectory(metaInfDirectoryOptional);
+        }
+        addAllFolders(instance.getFolders());
+        Optional<IjModuleAndroidFacet> androidFacetOptional = instance.getAndroidFacet();
+        if (androidFacetOptional.isPresent()) {
+          setAndroidFacet(androidFacetOptional);
+        }
+        addAllExtraClassPathDependencies(instance.getExtraClassPathDependencies());
+        Optional<IjModuleType> moduleTypeOptional = instance.getModuleType();
+        if (moduleTypeOptional.isPresent()) {
+          setModuleType(moduleTypeOptional);
+        }
+        addAllGeneratedSourceCodeFolders(instance.getGeneratedSourceCodeFolders());
+        Optional<String> languageLevelOptional = instance.getLanguageLevel();
+        if (languageLevelOptional.isPresent()) {
+          setLanguageLevel(languageLevelOptional);
+        }
+        Optional<String> sdkTypeOptional = instance.getSdkType();
+        if (sdkTypeOptional.isPresent()) {
+          setSdkType(sdkTypeOptional);
+        }
+        Optional<String> sdkNameOptional = instance.getSdkName();
+        if (sdkNameOptional.isPresent()) {
+          setSdkName(sdkNameOptional);
+        }
+        if ((bits & 0x1L) == 0) {
+          addAllTargets(instance.getTargets());
+          bits |= 0x1L;
+        }
+        putAllDependencies(instance.getDependencies());
+      }
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModule#getTargets() targets} set.
+     * @param element A targets element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addTargets(TargetNode<?, ?> element) {
+      this.targets.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getTargets() targets} set.
+     * @param elements An array of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs
+    public final Builder addTargets(TargetNode<?, ?>... elements) {
+      this.targets.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModule#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setTargets(Iterable<? extends TargetNode<?, ?>> elements) {
+      this.targets = ImmutableSet.builder();
+      return addAllTargets(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getTargets() targets} set.
+     * @param elements An iterable of targets elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllTargets(Iterable<? extends TargetNode<?, ?>> elements) {
+      this.targets.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractIjModule#getModuleBasePath() moduleBasePath} attribute.
+     * @param moduleBasePath The value for moduleBasePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleBasePath(Path moduleBasePath) {
+      this.moduleBasePath = Preconditions.checkNotNull(moduleBasePath, "moduleBasePath");
+      initBits &= ~INIT_BIT_MODULE_BASE_PATH;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModule#getFolders() folders} set.
+     * @param element A folders element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFolders(IjFolder element) {
+      this.folders.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getFolders() folders} set.
+     * @param elements An array of folders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addFolders(IjFolder... elements) {
+      this.folders.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModule#getFolders() folders} set.
+     * @param elements An iterable of folders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFolders(Iterable<? extends IjFolder> elements) {
+      this.folders = ImmutableSet.builder();
+      return addAllFolders(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getFolders() folders} set.
+     * @param elements An iterable of folders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllFolders(Iterable<? extends IjFolder> elements) {
+      this.folders.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractIjModule#getDependencies() dependencies} map.
+     * @param key The key in the dependencies map
+     * @param value The associated value in the dependencies map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDependencies(BuildTarget key, DependencyType value) {
+      this.dependencies.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractIjModule#getDependencies() dependencies} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putDependencies(Map.Entry<? extends BuildTarget, ? extends DependencyType> entry) {
+      this.dependencies.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractIjModule#getDependencies() dependencies} map. Nulls are not permitted
+     * @param dependencies The entries that will be added to the dependencies map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDependencies(Map<? extends BuildTarget, ? extends DependencyType> dependencies) {
+      this.dependencies = ImmutableMap.builder();
+      return putAllDependencies(dependencies);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractIjModule#getDependencies() dependencies} map. Nulls are not permitted
+     * @param dependencies The entries that will be added to the dependencies map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllDependencies(Map<? extends BuildTarget, ? extends DependencyType> dependencies) {
+      this.dependencies.putAll(dependencies);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getAndroidFacet() androidFacet} to androidFacet.
+     * @param androidFacet The value for androidFacet
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setAndroidFacet(IjModuleAndroidFacet androidFacet) {
+      this.androidFacet = Preconditions.checkNotNull(androidFacet, "androidFacet");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getAndroidFacet() androidFacet} to androidFacet.
+     * @param androidFacet The value for androidFacet
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setAndroidFacet(Optional<IjModuleAndroidFacet> androidFacet) {
+      this.androidFacet = androidFacet.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param element A extraClassPathDependencies element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraClassPathDependencies(Path element) {
+      this.extraClassPathDependencies.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param elements An array of extraClassPathDependencies elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addExtraClassPathDependencies(Path... elements) {
+      this.extraClassPathDependencies.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param elements An iterable of extraClassPathDependencies elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraClassPathDependencies(Iterable<? extends Path> elements) {
+      this.extraClassPathDependencies = ImmutableSet.builder();
+      return addAllExtraClassPathDependencies(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getExtraClassPathDependencies() extraClassPathDependencies} set.
+     * @param elements An iterable of extraClassPathDependencies elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllExtraClassPathDependencies(Iterable<? extends Path> elements) {
+      this.extraClassPathDependencies.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractIjModule#getGeneratedSourceCodeFolders() generatedSourceCodeFolders} set.
+     * @param element A generatedSourceCodeFolders element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addGeneratedSourceCodeFolders(IjFolder element) {
+      this.generatedSourceCodeFolders.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getGeneratedSourceCodeFolders() generatedSourceCodeFolders} set.
+     * @param elements An array of generatedSourceCodeFolders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addGeneratedSourceCodeFolders(IjFolder... elements) {
+      this.generatedSourceCodeFolders.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractIjModule#getGeneratedSourceCodeFolders() generatedSourceCodeFolders} set.
+     * @param elements An iterable of generatedSourceCodeFolders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGeneratedSourceCodeFolders(Iterable<? extends IjFolder> elements) {
+      this.generatedSourceCodeFolders = ImmutableSet.builder();
+      return addAllGeneratedSourceCodeFolders(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractIjModule#getGeneratedSourceCodeFolders() generatedSourceCodeFolders} set.
+     * @param elements An iterable of generatedSourceCodeFolders elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllGeneratedSourceCodeFolders(Iterable<? extends IjFolder> elements) {
+      this.generatedSourceCodeFolders.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getSdkName() sdkName} to sdkName.
+     * @param sdkName The value for sdkName
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSdkName(String sdkName) {
+      this.sdkName = Preconditions.checkNotNull(sdkName, "sdkName");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getSdkName() sdkName} to sdkName.
+     * @param sdkName The value for sdkName
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSdkName(Optional<String> sdkName) {
+      this.sdkName = sdkName.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getSdkType() sdkType} to sdkType.
+     * @param sdkType The value for sdkType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSdkType(String sdkType) {
+      this.sdkType = Preconditions.checkNotNull(sdkType, "sdkType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getSdkType() sdkType} to sdkType.
+     * @param sdkType The value for sdkType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSdkType(Optional<String> sdkType) {
+      this.sdkType = sdkType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getLanguageLevel() languageLevel} to languageLevel.
+     * @param languageLevel The value for languageLevel
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setLanguageLevel(String languageLevel) {
+      this.languageLevel = Preconditions.checkNotNull(languageLevel, "languageLevel");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getLanguageLevel() languageLevel} to languageLevel.
+     * @param languageLevel The value for languageLevel
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLanguageLevel(Optional<String> languageLevel) {
+      this.languageLevel = languageLevel.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getModuleType() moduleType} to moduleType.
+     * @param moduleType The value for moduleType
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setModuleType(IjModuleType moduleType) {
+      this.moduleType = Preconditions.checkNotNull(moduleType, "moduleType");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getModuleType() moduleType} to moduleType.
+     * @param moduleType The value for moduleType
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setModuleType(Optional<IjModuleType> moduleType) {
+      this.moduleType = moduleType.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getMetaInfDirectory() metaInfDirectory} to metaInfDirectory.
+     * @param metaInfDirectory The value for metaInfDirectory
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMetaInfDirectory(Path metaInfDirectory) {
+      this.metaInfDirectory = Preconditions.checkNotNull(metaInfDirectory, "metaInfDirectory");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractIjModule#getMetaInfDirectory() metaInfDirectory} to metaInfDirectory.
+     * @param metaInfDirectory The value for metaInfDirectory
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setMetaInfDirectory(Optional<Path> metaInfDirectory) {
+      this.metaInfDirectory = metaInfDirectory.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link IjModule IjModule}.
+     * @return An immutable instance of IjModule
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public IjModule build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return IjModule.validate(new IjModule(
+          targets.build(),
+          moduleBasePath,
+          folders.build(),
+          dependencies.build(),
+          androidFacet,
+          extraClassPathDependencies.build(),
+          generatedSourceCodeFolders.build(),
+          sdkName,
+          sdkType,
+          languageLevel,
+          moduleType,
+          metaInfDirectory));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_MODULE_BASE_PATH) != 0) attributes.add("moduleBasePath");
+      return "Cannot build IjModule, some of required attributes are not set " + attributes;
+    }
+  }
+}
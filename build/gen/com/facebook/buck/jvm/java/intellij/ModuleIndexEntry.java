@@ -0,0 +1,265 @@
+package com.facebook.buck.jvm.java.intellij;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ModuleIndexEntry.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "IjProjectTemplateDataPreparer.AbstractModuleIndexEntry"})
+@Immutable
+public final class ModuleIndexEntry
+    extends IjProjectTemplateDataPreparer.AbstractModuleIndexEntry {
+  private final String fileUrl;
+  private final Path filePath;
+  private final @Nullable String group;
+
+  private ModuleIndexEntry(
+      String fileUrl,
+      Path filePath,
+      @Nullable String group) {
+    this.fileUrl = fileUrl;
+    this.filePath = filePath;
+    this.group = group;
+  }
+
+  /**
+   * @return The value of the {@code fileUrl} attribute
+   */
+  @Override
+  public String getFileUrl() {
+    return fileUrl;
+  }
+
+  /**
+   * @return The value of the {@code filePath} attribute
+   */
+  @Override
+  public Path getFilePath() {
+    return filePath;
+  }
+
+  /**
+   * @return The value of the {@code group} attribute
+   */
+  @Override
+  public @Nullable String getGroup() {
+    return group;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFileUrl() fileUrl} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fileUrl
+   * @return A modified copy of the {@code this} object
+   */
+  public final ModuleIndexEntry withFileUrl(String value) {
+    if (this.fileUrl.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "fileUrl");
+    return new ModuleIndexEntry(newValue, this.filePath, this.group);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFilePath() filePath} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filePath
+   * @return A modified copy of the {@code this} object
+   */
+  public final ModuleIndexEntry withFilePath(Path value) {
+    if (this.filePath == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "filePath");
+    return new ModuleIndexEntry(this.fileUrl, newValue, this.group);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getGroup() group} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for group (can be {@code null})
+   * @return A modified copy of the {@code this} object
+   */
+  public final ModuleIndexEntry withGroup(@Nullable String value) {
+    if (Objects.equal(this.group, value)) return this;
+    return new ModuleIndexEntry(this.fileUrl, this.filePath, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ModuleIndexEntry} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ModuleIndexEntry
+        && equalTo((ModuleIndexEntry) another);
+  }
+
+  private boolean equalTo(ModuleIndexEntry another) {
+    return fileUrl.equals(another.fileUrl)
+        && filePath.equals(another.filePath)
+        && Objects.equal(group, another.group);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code fileUrl}, {@code filePath}, {@code group}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + fileUrl.hashCode();
+    h = h * 17 + filePath.hashCode();
+    h = h * 17 + Objects.hashCode(group);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ModuleIndexEntry} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ModuleIndexEntry")
+        .omitNullValues()
+        .add("fileUrl", fileUrl)
+        .add("filePath", filePath)
+        .add("group", group)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ModuleIndexEntry instance
+   */
+  static ModuleIndexEntry copyOf(IjProjectTemplateDataPreparer.AbstractModuleIndexEntry instance) {
+    if (instance instanceof ModuleIndexEntry) {
+      return (ModuleIndexEntry) instance;
+    }
+    return ModuleIndexEntry.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ModuleIndexEntry ModuleIndexEntry}.
+   * @return A new ModuleIndexEntry builder
+   */
+  public static ModuleIndexEntry.Builder builder() {
+    return new ModuleIndexEntry.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ModuleIndexEntry ModuleIndexEntry}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_FILE_URL = 0x1L;
+    private static final long INIT_BIT_FILE_PATH = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String fileUrl;
+    private @Nullable Path filePath;
+    private @Nullable String group;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ModuleIndexEntry} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ModuleIndexEntry instance) {
+      return from((IjProjectTemplateDataPreparer.AbstractModuleIndexEntry) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractModuleIndexEntry} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(IjProjectTemplateDataPreparer.AbstractModuleIndexEntry instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setFileUrl(instance.getFileUrl());
+      setFilePath(instance.getFilePath());
+      @Nullable String groupValue = instance.getGroup();
+      if (groupValue != null) {
+        setGroup(groupValue);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFileUrl() fileUrl} attribute.
+     * @param fileUrl The value for fileUrl 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFileUrl(String fileUrl) {
+      this.fileUrl = Preconditions.checkNotNull(fileUrl, "fileUrl");
+      initBits &= ~INIT_BIT_FILE_URL;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getFilePath() filePath} attribute.
+     * @param filePath The value for filePath 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFilePath(Path filePath) {
+      this.filePath = Preconditions.checkNotNull(filePath, "filePath");
+      initBits &= ~INIT_BIT_FILE_PATH;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link IjProjectTemplateDataPreparer.AbstractModuleIndexEntry#getGroup() group} attribute.
+     * @param group The value for group (can be {@code null})
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setGroup(@Nullable String group) {
+      this.group = group;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ModuleIndexEntry ModuleIndexEntry}.
+     * @return An immutable instance of ModuleIndexEntry
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ModuleIndexEntry build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new ModuleIndexEntry(fileUrl, filePath, group);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_FILE_URL) != 0) attributes.add("fileUrl");
+      if ((initBits & INIT_BIT_FILE_PATH) != 0) attributes.add("filePath");
+      return "Cannot build ModuleIndexEntry, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,808 @@
+package com.facebook.buck.log;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPerfTimesStats}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PerfTimesStats.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPerfTimesStats"})
+@Immutable
+public final class PerfTimesStats extends AbstractPerfTimesStats {
+  private final Long pythonTimeMs;
+  private final Long initTimeMs;
+  private final Long parseTimeMs;
+  private final Long processingTimeMs;
+  private final Long actionGraphTimeMs;
+  private final Long rulekeyTimeMs;
+  private final Long fetchTimeMs;
+  private final Long buildTimeMs;
+  private final Long installTimeMs;
+
+  private PerfTimesStats(PerfTimesStats.Builder builder) {
+    if (builder.pythonTimeMs != null) {
+      initShim.setPythonTimeMs(builder.pythonTimeMs);
+    }
+    if (builder.initTimeMs != null) {
+      initShim.setInitTimeMs(builder.initTimeMs);
+    }
+    if (builder.parseTimeMs != null) {
+      initShim.setParseTimeMs(builder.parseTimeMs);
+    }
+    if (builder.processingTimeMs != null) {
+      initShim.setProcessingTimeMs(builder.processingTimeMs);
+    }
+    if (builder.actionGraphTimeMs != null) {
+      initShim.setActionGraphTimeMs(builder.actionGraphTimeMs);
+    }
+    if (builder.rulekeyTimeMs != null) {
+      initShim.setRulekeyTimeMs(builder.rulekeyTimeMs);
+    }
+    if (builder.fetchTimeMs != null) {
+      initShim.setFetchTimeMs(builder.fetchTimeMs);
+    }
+    if (builder.buildTimeMs != null) {
+      initShim.setBuildTimeMs(builder.buildTimeMs);
+    }
+    if (builder.installTimeMs != null) {
+      initShim.setInstallTimeMs(builder.installTimeMs);
+    }
+    this.pythonTimeMs = initShim.getPythonTimeMs();
+    this.initTimeMs = initShim.getInitTimeMs();
+    this.parseTimeMs = initShim.getParseTimeMs();
+    this.processingTimeMs = initShim.getProcessingTimeMs();
+    this.actionGraphTimeMs = initShim.getActionGraphTimeMs();
+    this.rulekeyTimeMs = initShim.getRulekeyTimeMs();
+    this.fetchTimeMs = initShim.getFetchTimeMs();
+    this.buildTimeMs = initShim.getBuildTimeMs();
+    this.installTimeMs = initShim.getInstallTimeMs();
+    this.initShim = null;
+  }
+
+  private PerfTimesStats(
+      Long pythonTimeMs,
+      Long initTimeMs,
+      Long parseTimeMs,
+      Long processingTimeMs,
+      Long actionGraphTimeMs,
+      Long rulekeyTimeMs,
+      Long fetchTimeMs,
+      Long buildTimeMs,
+      Long installTimeMs) {
+    this.pythonTimeMs = pythonTimeMs;
+    this.initTimeMs = initTimeMs;
+    this.parseTimeMs = parseTimeMs;
+    this.processingTimeMs = processingTimeMs;
+    this.actionGraphTimeMs = actionGraphTimeMs;
+    this.rulekeyTimeMs = rulekeyTimeMs;
+    this.fetchTimeMs = fetchTimeMs;
+    this.buildTimeMs = buildTimeMs;
+    this.installTimeMs = installTimeMs;
+    this.initShim = null;
+  }
+
+  private static final int STAGE_INITIALIZING = -1;
+  private static final int STAGE_UNINITIALIZED = 0;
+  private static final int STAGE_INITIALIZED = 1;
+  private transient volatile InitShim initShim = new InitShim();
+
+  private final class InitShim {
+    private Long pythonTimeMs;
+    private int pythonTimeMsBuildStage;
+
+    Long getPythonTimeMs() {
+      if (pythonTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (pythonTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        pythonTimeMsBuildStage = STAGE_INITIALIZING;
+        this.pythonTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getPythonTimeMs(), "pythonTimeMs");
+        pythonTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.pythonTimeMs;
+    }
+
+    void setPythonTimeMs(Long pythonTimeMs) {
+      this.pythonTimeMs = pythonTimeMs;
+      pythonTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long initTimeMs;
+    private int initTimeMsBuildStage;
+
+    Long getInitTimeMs() {
+      if (initTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (initTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        initTimeMsBuildStage = STAGE_INITIALIZING;
+        this.initTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getInitTimeMs(), "initTimeMs");
+        initTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.initTimeMs;
+    }
+
+    void setInitTimeMs(Long initTimeMs) {
+      this.initTimeMs = initTimeMs;
+      initTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long parseTimeMs;
+    private int parseTimeMsBuildStage;
+
+    Long getParseTimeMs() {
+      if (parseTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (parseTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        parseTimeMsBuildStage = STAGE_INITIALIZING;
+        this.parseTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getParseTimeMs(), "parseTimeMs");
+        parseTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.parseTimeMs;
+    }
+
+    void setParseTimeMs(Long parseTimeMs) {
+      this.parseTimeMs = parseTimeMs;
+      parseTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long processingTimeMs;
+    private int processingTimeMsBuildStage;
+
+    Long getProcessingTimeMs() {
+      if (processingTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (processingTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        processingTimeMsBuildStage = STAGE_INITIALIZING;
+        this.processingTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getProcessingTimeMs(), "processingTimeMs");
+        processingTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.processingTimeMs;
+    }
+
+    void setProcessingTimeMs(Long processingTimeMs) {
+      this.processingTimeMs = processingTimeMs;
+      processingTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long actionGraphTimeMs;
+    private int actionGraphTimeMsBuildStage;
+
+    Long getActionGraphTimeMs() {
+      if (actionGraphTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (actionGraphTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        actionGraphTimeMsBuildStage = STAGE_INITIALIZING;
+        this.actionGraphTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getActionGraphTimeMs(), "actionGraphTimeMs");
+        actionGraphTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.actionGraphTimeMs;
+    }
+
+    void setActionGraphTimeMs(Long actionGraphTimeMs) {
+      this.actionGraphTimeMs = actionGraphTimeMs;
+      actionGraphTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long rulekeyTimeMs;
+    private int rulekeyTimeMsBuildStage;
+
+    Long getRulekeyTimeMs() {
+      if (rulekeyTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (rulekeyTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        rulekeyTimeMsBuildStage = STAGE_INITIALIZING;
+        this.rulekeyTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getRulekeyTimeMs(), "rulekeyTimeMs");
+        rulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.rulekeyTimeMs;
+    }
+
+    void setRulekeyTimeMs(Long rulekeyTimeMs) {
+      this.rulekeyTimeMs = rulekeyTimeMs;
+      rulekeyTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long fetchTimeMs;
+    private int fetchTimeMsBuildStage;
+
+    Long getFetchTimeMs() {
+      if (fetchTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (fetchTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        fetchTimeMsBuildStage = STAGE_INITIALIZING;
+        this.fetchTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getFetchTimeMs(), "fetchTimeMs");
+        fetchTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.fetchTimeMs;
+    }
+
+    void setFetchTimeMs(Long fetchTimeMs) {
+      this.fetchTimeMs = fetchTimeMs;
+      fetchTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long buildTimeMs;
+    private int buildTimeMsBuildStage;
+
+    Long getBuildTimeMs() {
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (buildTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        buildTimeMsBuildStage = STAGE_INITIALIZING;
+        this.buildTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getBuildTimeMs(), "buildTimeMs");
+        buildTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.buildTimeMs;
+    }
+
+    void setBuildTimeMs(Long buildTimeMs) {
+      this.buildTimeMs = buildTimeMs;
+      buildTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+    private Long installTimeMs;
+    private int installTimeMsBuildStage;
+
+    Long getInstallTimeMs() {
+      if (installTimeMsBuildStage == STAGE_INITIALIZING) throw new IllegalStateException(formatInitCycleMessage());
+      if (installTimeMsBuildStage == STAGE_UNINITIALIZED) {
+        installTimeMsBuildStage = STAGE_INITIALIZING;
+        this.installTimeMs = Preconditions.checkNotNull(PerfTimesStats.super.getInstallTimeMs(), "installTimeMs");
+        installTimeMsBuildStage = STAGE_INITIALIZED;
+      }
+      return this.installTimeMs;
+    }
+
+    void setInstallTimeMs(Long installTimeMs) {
+      this.installTimeMs = installTimeMs;
+      installTimeMsBuildStage = STAGE_INITIALIZED;
+    }
+
+    private String formatInitCycleMessage() {
+      ArrayList<String> attributes = Lists.newArrayList();
+      if (pythonTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("pythonTimeMs");
+      if (initTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("initTimeMs");
+      if (parseTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("parseTimeMs");
+      if (processingTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("processingTimeMs");
+      if (actionGraphTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("actionGraphTimeMs");
+      if (rulekeyTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("rulekeyTimeMs");
+      if (fetchTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("fetchTimeMs");
+      if (buildTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("buildTimeMs");
+      if (installTimeMsBuildStage == STAGE_INITIALIZING) attributes.add("installTimeMs");
+      return "Cannot build PerfTimesStats, attribute initializers form cycle" + attributes;
+    }
+  }
+
+  /**
+   * @return duration of the time spent in python, in milliseconds.
+   */
+  @Override
+  public Long getPythonTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getPythonTimeMs()
+        : this.pythonTimeMs;
+  }
+
+  /**
+   * @return duration Buck spends initializing, in milliseconds.
+   */
+  @Override
+  public Long getInitTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInitTimeMs()
+        : this.initTimeMs;
+  }
+
+  /**
+   * @return time spent parsing and processing BUCK files, in milliseconds.
+   */
+  @Override
+  public Long getParseTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getParseTimeMs()
+        : this.parseTimeMs;
+  }
+
+  /**
+   * @return time spent between initialization and start of parsing, in milliseconds.
+   */
+  @Override
+  public Long getProcessingTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getProcessingTimeMs()
+        : this.processingTimeMs;
+  }
+
+  /**
+   * @return time it takes to generate the action graph, in milliseconds.
+   */
+  @Override
+  public Long getActionGraphTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getActionGraphTimeMs()
+        : this.actionGraphTimeMs;
+  }
+
+  /**
+   * @return duration of the rule keys computation, from the start of rule key calculation to the
+   * fetching of the first artifact from the remote cache, in milliseconds.
+   */
+  @Override
+  public Long getRulekeyTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getRulekeyTimeMs()
+        : this.rulekeyTimeMs;
+  }
+
+  /**
+   * @return duration of the fetch operation, from the first fetch event to the start of the local
+   * build, in milliseconds.
+   */
+  @Override
+  public Long getFetchTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getFetchTimeMs()
+        : this.fetchTimeMs;
+  }
+
+  /**
+   * @return duration of the local build phase, from start of the local build to when the build
+   * completes, in milliseconds.
+   */
+  @Override
+  public Long getBuildTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getBuildTimeMs()
+        : this.buildTimeMs;
+  }
+
+  /**
+   * @return time it takes to install to a device, in milliseconds.
+   */
+  @Override
+  public Long getInstallTimeMs() {
+    InitShim shim = this.initShim;
+    return shim != null
+        ? shim.getInstallTimeMs()
+        : this.installTimeMs;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getPythonTimeMs() pythonTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pythonTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withPythonTimeMs(Long value) {
+    if (this.pythonTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "pythonTimeMs");
+    return new PerfTimesStats(
+        newValue,
+        this.initTimeMs,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getInitTimeMs() initTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for initTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withInitTimeMs(Long value) {
+    if (this.initTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "initTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        newValue,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getParseTimeMs() parseTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for parseTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withParseTimeMs(Long value) {
+    if (this.parseTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "parseTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        newValue,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getProcessingTimeMs() processingTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for processingTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withProcessingTimeMs(Long value) {
+    if (this.processingTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "processingTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        this.parseTimeMs,
+        newValue,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for actionGraphTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withActionGraphTimeMs(Long value) {
+    if (this.actionGraphTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "actionGraphTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        newValue,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for rulekeyTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withRulekeyTimeMs(Long value) {
+    if (this.rulekeyTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "rulekeyTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        newValue,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getFetchTimeMs() fetchTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for fetchTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withFetchTimeMs(Long value) {
+    if (this.fetchTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "fetchTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        newValue,
+        this.buildTimeMs,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getBuildTimeMs() buildTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withBuildTimeMs(Long value) {
+    if (this.buildTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "buildTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        newValue,
+        this.installTimeMs);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPerfTimesStats#getInstallTimeMs() installTimeMs} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for installTimeMs
+   * @return A modified copy of the {@code this} object
+   */
+  public final PerfTimesStats withInstallTimeMs(Long value) {
+    if (this.installTimeMs.equals(value)) return this;
+    Long newValue = Preconditions.checkNotNull(value, "installTimeMs");
+    return new PerfTimesStats(
+        this.pythonTimeMs,
+        this.initTimeMs,
+        this.parseTimeMs,
+        this.processingTimeMs,
+        this.actionGraphTimeMs,
+        this.rulekeyTimeMs,
+        this.fetchTimeMs,
+        this.buildTimeMs,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PerfTimesStats} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PerfTimesStats
+        && equalTo((PerfTimesStats) another);
+  }
+
+  private boolean equalTo(PerfTimesStats another) {
+    return pythonTimeMs.equals(another.pythonTimeMs)
+        && initTimeMs.equals(another.initTimeMs)
+        && parseTimeMs.equals(another.parseTimeMs)
+        && processingTimeMs.equals(another.processingTimeMs)
+        && actionGraphTimeMs.equals(another.actionGraphTimeMs)
+        && rulekeyTimeMs.equals(another.rulekeyTimeMs)
+        && fetchTimeMs.equals(another.fetchTimeMs)
+        && buildTimeMs.equals(another.buildTimeMs)
+        && installTimeMs.equals(another.installTimeMs);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code pythonTimeMs}, {@code initTimeMs}, {@code parseTimeMs}, {@code processingTimeMs}, {@code actionGraphTimeMs}, {@code rulekeyTimeMs}, {@code fetchTimeMs}, {@code buildTimeMs}, {@code installTimeMs}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + pythonTimeMs.hashCode();
+    h = h * 17 + initTimeMs.hashCode();
+    h = h * 17 + parseTimeMs.hashCode();
+    h = h * 17 + processingTimeMs.hashCode();
+    h = h * 17 + actionGraphTimeMs.hashCode();
+    h = h * 17 + rulekeyTimeMs.hashCode();
+    h = h * 17 + fetchTimeMs.hashCode();
+    h = h * 17 + buildTimeMs.hashCode();
+    h = h * 17 + installTimeMs.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PerfTimesStats} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PerfTimesStats")
+        .omitNullValues()
+        .add("pythonTimeMs", pythonTimeMs)
+        .add("initTimeMs", initTimeMs)
+        .add("parseTimeMs", parseTimeMs)
+        .add("processingTimeMs", processingTimeMs)
+        .add("actionGraphTimeMs", actionGraphTimeMs)
+        .add("rulekeyTimeMs", rulekeyTimeMs)
+        .add("fetchTimeMs", fetchTimeMs)
+        .add("buildTimeMs", buildTimeMs)
+        .add("installTimeMs", installTimeMs)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPerfTimesStats} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PerfTimesStats instance
+   */
+  static PerfTimesStats copyOf(AbstractPerfTimesStats instance) {
+    if (instance instanceof PerfTimesStats) {
+      return (PerfTimesStats) instance;
+    }
+    return PerfTimesStats.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PerfTimesStats PerfTimesStats}.
+   * @return A new PerfTimesStats builder
+   */
+  public static PerfTimesStats.Builder builder() {
+    return new PerfTimesStats.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PerfTimesStats PerfTimesStats}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private @Nullable Long pythonTimeMs;
+    private @Nullable Long initTimeMs;
+    private @Nullable Long parseTimeMs;
+    private @Nullable Long processingTimeMs;
+    private @Nullable Long actionGraphTimeMs;
+    private @Nullable Long rulekeyTimeMs;
+    private @Nullable Long fetchTimeMs;
+    private @Nullable Long buildTimeMs;
+    private @Nullable Long installTimeMs;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PerfTimesStats} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PerfTimesStats instance) {
+      return from((AbstractPerfTimesStats) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPerfTimesStats} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractPerfTimesStats instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setPythonTimeMs(instance.getPythonTimeMs());
+      setInitTimeMs(instance.getInitTimeMs());
+      setParseTimeMs(instance.getParseTimeMs());
+      setProcessingTimeMs(instance.getProcessingTimeMs());
+      setActionGraphTimeMs(instance.getActionGraphTimeMs());
+      setRulekeyTimeMs(instance.getRulekeyTimeMs());
+      setFetchTimeMs(instance.getFetchTimeMs());
+      setBuildTimeMs(instance.getBuildTimeMs());
+      setInstallTimeMs(instance.getInstallTimeMs());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getPythonTimeMs() pythonTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getPythonTimeMs() pythonTimeMs}.</em>
+     * @param pythonTimeMs The value for pythonTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPythonTimeMs(Long pythonTimeMs) {
+      this.pythonTimeMs = Preconditions.checkNotNull(pythonTimeMs, "pythonTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getInitTimeMs() initTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getInitTimeMs() initTimeMs}.</em>
+     * @param initTimeMs The value for initTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInitTimeMs(Long initTimeMs) {
+      this.initTimeMs = Preconditions.checkNotNull(initTimeMs, "initTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getParseTimeMs() parseTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getParseTimeMs() parseTimeMs}.</em>
+     * @param parseTimeMs The value for parseTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setParseTimeMs(Long parseTimeMs) {
+      this.parseTimeMs = Preconditions.checkNotNull(parseTimeMs, "parseTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getProcessingTimeMs() processingTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getProcessingTimeMs() processingTimeMs}.</em>
+     * @param processingTimeMs The value for processingTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setProcessingTimeMs(Long processingTimeMs) {
+      this.processingTimeMs = Preconditions.checkNotNull(processingTimeMs, "processingTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getActionGraphTimeMs() actionGraphTimeMs}.</em>
+     * @param actionGraphTimeMs The value for actionGraphTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setActionGraphTimeMs(Long actionGraphTimeMs) {
+      this.actionGraphTimeMs = Preconditions.checkNotNull(actionGraphTimeMs, "actionGraphTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getRulekeyTimeMs() rulekeyTimeMs}.</em>
+     * @param rulekeyTimeMs The value for rulekeyTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRulekeyTimeMs(Long rulekeyTimeMs) {
+      this.rulekeyTimeMs = Preconditions.checkNotNull(rulekeyTimeMs, "rulekeyTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getFetchTimeMs() fetchTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getFetchTimeMs() fetchTimeMs}.</em>
+     * @param fetchTimeMs The value for fetchTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFetchTimeMs(Long fetchTimeMs) {
+      this.fetchTimeMs = Preconditions.checkNotNull(fetchTimeMs, "fetchTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getBuildTimeMs() buildTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getBuildTimeMs() buildTimeMs}.</em>
+     * @param buildTimeMs The value for buildTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildTimeMs(Long buildTimeMs) {
+      this.buildTimeMs = Preconditions.checkNotNull(buildTimeMs, "buildTimeMs");
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPerfTimesStats#getInstallTimeMs() installTimeMs} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link AbstractPerfTimesStats#getInstallTimeMs() installTimeMs}.</em>
+     * @param installTimeMs The value for installTimeMs 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInstallTimeMs(Long installTimeMs) {
+      this.installTimeMs = Preconditions.checkNotNull(installTimeMs, "installTimeMs");
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PerfTimesStats PerfTimesStats}.
+     * @return An immutable instance of PerfTimesStats
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PerfTimesStats build() {
+      return new PerfTimesStats(this);
+    }
+  }
+}
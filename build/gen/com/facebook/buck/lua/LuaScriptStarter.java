@@ -0,0 +1,588 @@
+package com.facebook.buck.lua;
+
+import com.facebook.buck.cxx.CxxPlatform;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.BuildRuleParams;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import java.nio.file.Path;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * {@link Starter} implementation which builds a starter as a Lua script.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLuaScriptStarter"})
+@Immutable
+public final class LuaScriptStarter extends AbstractLuaScriptStarter {
+  private final BuildRuleParams baseParams;
+  private final BuildRuleResolver ruleResolver;
+  private final SourcePathResolver pathResolver;
+  private final SourcePathRuleFinder ruleFinder;
+  private final LuaConfig luaConfig;
+  private final CxxPlatform cxxPlatform;
+  private final BuildTarget target;
+  private final Path output;
+  private final String mainModule;
+  private final @Nullable Path relativeModulesDir;
+  private final @Nullable Path relativePythonModulesDir;
+
+  private LuaScriptStarter(
+      BuildRuleParams baseParams,
+      BuildRuleResolver ruleResolver,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      LuaConfig luaConfig,
+      CxxPlatform cxxPlatform,
+      BuildTarget target,
+      Path output,
+      String mainModule,
+      Optional<Path> relativeModulesDir,
+      Optional<Path> relativePythonModulesDir) {
+    this.baseParams = Preconditions.checkNotNull(baseParams, "baseParams");
+    this.ruleResolver = Preconditions.checkNotNull(ruleResolver, "ruleResolver");
+    this.pathResolver = Preconditions.checkNotNull(pathResolver, "pathResolver");
+    this.ruleFinder = Preconditions.checkNotNull(ruleFinder, "ruleFinder");
+    this.luaConfig = Preconditions.checkNotNull(luaConfig, "luaConfig");
+    this.cxxPlatform = Preconditions.checkNotNull(cxxPlatform, "cxxPlatform");
+    this.target = Preconditions.checkNotNull(target, "target");
+    this.output = Preconditions.checkNotNull(output, "output");
+    this.mainModule = Preconditions.checkNotNull(mainModule, "mainModule");
+    this.relativeModulesDir = relativeModulesDir.orElse(null);
+    this.relativePythonModulesDir = relativePythonModulesDir.orElse(null);
+  }
+
+  private LuaScriptStarter(
+      LuaScriptStarter original,
+      BuildRuleParams baseParams,
+      BuildRuleResolver ruleResolver,
+      SourcePathResolver pathResolver,
+      SourcePathRuleFinder ruleFinder,
+      LuaConfig luaConfig,
+      CxxPlatform cxxPlatform,
+      BuildTarget target,
+      Path output,
+      String mainModule,
+      @Nullable Path relativeModulesDir,
+      @Nullable Path relativePythonModulesDir) {
+    this.baseParams = baseParams;
+    this.ruleResolver = ruleResolver;
+    this.pathResolver = pathResolver;
+    this.ruleFinder = ruleFinder;
+    this.luaConfig = luaConfig;
+    this.cxxPlatform = cxxPlatform;
+    this.target = target;
+    this.output = output;
+    this.mainModule = mainModule;
+    this.relativeModulesDir = relativeModulesDir;
+    this.relativePythonModulesDir = relativePythonModulesDir;
+  }
+
+  /**
+   * @return The value of the {@code baseParams} attribute
+   */
+  @Override
+  public BuildRuleParams getBaseParams() {
+    return baseParams;
+  }
+
+  /**
+   * @return The value of the {@code ruleResolver} attribute
+   */
+  @Override
+  public BuildRuleResolver getRuleResolver() {
+    return ruleResolver;
+  }
+
+  /**
+   * @return The value of the {@code pathResolver} attribute
+   */
+  @Override
+  public SourcePathResolver getPathResolver() {
+    return pathResolver;
+  }
+
+  /**
+   * @return The value of the {@code ruleFinder} attribute
+   */
+  @Override
+  public SourcePathRuleFinder getRuleFinder() {
+    return ruleFinder;
+  }
+
+  /**
+   * @return The value of the {@code luaConfig} attribute
+   */
+  @Override
+  public LuaConfig getLuaConfig() {
+    return luaConfig;
+  }
+
+  /**
+   * @return The value of the {@code cxxPlatform} attribute
+   */
+  @Override
+  public CxxPlatform getCxxPlatform() {
+    return cxxPlatform;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * @return The value of the {@code output} attribute
+   */
+  @Override
+  public Path getOutput() {
+    return output;
+  }
+
+  /**
+   * @return The value of the {@code mainModule} attribute
+   */
+  @Override
+  public String getMainModule() {
+    return mainModule;
+  }
+
+  /**
+   * @return The value of the {@code relativeModulesDir} attribute
+   */
+  @Override
+  public Optional<Path> getRelativeModulesDir() {
+    return Optional.ofNullable(relativeModulesDir);
+  }
+
+  /**
+   * @return The value of the {@code relativePythonModulesDir} attribute
+   */
+  @Override
+  public Optional<Path> getRelativePythonModulesDir() {
+    return Optional.ofNullable(relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getBaseParams() baseParams} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for baseParams
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withBaseParams(BuildRuleParams value) {
+    if (this.baseParams == value) return this;
+    BuildRuleParams newValue = Preconditions.checkNotNull(value, "baseParams");
+    return new LuaScriptStarter(
+        this,
+        newValue,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getRuleResolver() ruleResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withRuleResolver(BuildRuleResolver value) {
+    if (this.ruleResolver == value) return this;
+    BuildRuleResolver newValue = Preconditions.checkNotNull(value, "ruleResolver");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        newValue,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getPathResolver() pathResolver} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for pathResolver
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withPathResolver(SourcePathResolver value) {
+    if (this.pathResolver == value) return this;
+    SourcePathResolver newValue = Preconditions.checkNotNull(value, "pathResolver");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        newValue,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getRuleFinder() ruleFinder} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ruleFinder
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withRuleFinder(SourcePathRuleFinder value) {
+    if (this.ruleFinder == value) return this;
+    SourcePathRuleFinder newValue = Preconditions.checkNotNull(value, "ruleFinder");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        newValue,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getLuaConfig() luaConfig} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for luaConfig
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withLuaConfig(LuaConfig value) {
+    if (this.luaConfig == value) return this;
+    LuaConfig newValue = Preconditions.checkNotNull(value, "luaConfig");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        newValue,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getCxxPlatform() cxxPlatform} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cxxPlatform
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withCxxPlatform(CxxPlatform value) {
+    if (this.cxxPlatform == value) return this;
+    CxxPlatform newValue = Preconditions.checkNotNull(value, "cxxPlatform");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        newValue,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Preconditions.checkNotNull(value, "target");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        newValue,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getOutput() output} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for output
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withOutput(Path value) {
+    if (this.output == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "output");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        newValue,
+        this.mainModule,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLuaScriptStarter#getMainModule() mainModule} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for mainModule
+   * @return A modified copy of the {@code this} object
+   */
+  public final LuaScriptStarter withMainModule(String value) {
+    if (this.mainModule.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "mainModule");
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        newValue,
+        this.relativeModulesDir,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLuaScriptStarter#getRelativeModulesDir() relativeModulesDir} attribute.
+   * @param value The value for relativeModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaScriptStarter withRelativeModulesDir(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "relativeModulesDir");
+    if (this.relativeModulesDir == newValue) return this;
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        newValue,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLuaScriptStarter#getRelativeModulesDir() relativeModulesDir} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for relativeModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaScriptStarter withRelativeModulesDir(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.relativeModulesDir == value) return this;
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        value,
+        this.relativePythonModulesDir);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractLuaScriptStarter#getRelativePythonModulesDir() relativePythonModulesDir} attribute.
+   * @param value The value for relativePythonModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaScriptStarter withRelativePythonModulesDir(Path value) {
+    @Nullable Path newValue = Preconditions.checkNotNull(value, "relativePythonModulesDir");
+    if (this.relativePythonModulesDir == newValue) return this;
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractLuaScriptStarter#getRelativePythonModulesDir() relativePythonModulesDir} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for relativePythonModulesDir
+   * @return A modified copy of {@code this} object
+   */
+  public final LuaScriptStarter withRelativePythonModulesDir(Optional<Path> optional) {
+    @Nullable Path value = optional.orElse(null);
+    if (this.relativePythonModulesDir == value) return this;
+    return new LuaScriptStarter(
+        this,
+        this.baseParams,
+        this.ruleResolver,
+        this.pathResolver,
+        this.ruleFinder,
+        this.luaConfig,
+        this.cxxPlatform,
+        this.target,
+        this.output,
+        this.mainModule,
+        this.relativeModulesDir,
+        value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code LuaScriptStarter} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof LuaScriptStarter
+        && equalTo((LuaScriptStarter) another);
+  }
+
+  private boolean equalTo(LuaScriptStarter another) {
+    return baseParams.equals(another.baseParams)
+        && ruleResolver.equals(another.ruleResolver)
+        && pathResolver.equals(another.pathResolver)
+        && ruleFinder.equals(another.ruleFinder)
+        && luaConfig.equals(another.luaConfig)
+        && cxxPlatform.equals(another.cxxPlatform)
+        && target.equals(another.target)
+        && output.equals(another.output)
+        && mainModule.equals(another.mainModule)
+        && Objects.equal(relativeModulesDir, another.relativeModulesDir)
+        && Objects.equal(relativePythonModulesDir, another.relativePythonModulesDir);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code baseParams}, {@code ruleResolver}, {@code pathResolver}, {@code ruleFinder}, {@code luaConfig}, {@code cxxPlatform}, {@code target}, {@code output}, {@code mainModule}, {@code relativeModulesDir}, {@code relativePythonModulesDir}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + baseParams.hashCode();
+    h = h * 17 + ruleResolver.hashCode();
+    h = h * 17 + pathResolver.hashCode();
+    h = h * 17 + ruleFinder.hashCode();
+    h = h * 17 + luaConfig.hashCode();
+    h = h * 17 + cxxPlatform.hashCode();
+    h = h * 17 + target.hashCode();
+    h = h * 17 + output.hashCode();
+    h = h * 17 + mainModule.hashCode();
+    h = h * 17 + Objects.hashCode(relativeModulesDir);
+    h = h * 17 + Objects.hashCode(relativePythonModulesDir);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code LuaScriptStarter} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("LuaScriptStarter")
+        .omitNullValues()
+        .add("baseParams", baseParams)
+        .add("ruleResolver", ruleResolver)
+        .add("pathResolver", pathResolver)
+        .add("ruleFinder", ruleFinder)
+        .add("luaConfig", luaConfig)
+        .add("cxxPlatform", cxxPlatform)
+        .add("target", target)
+        .add("output", output)
+        .add("mainModule", mainModule)
+        .add("relativeModulesDir", relativeModulesDir)
+        .add("relativePythonModulesDir", relativePythonModulesDir)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code LuaScriptStarter} instance.
+   * @param baseParams The value for the {@code baseParams} attribute
+   * @param ruleResolver The value for the {@code ruleResolver} attribute
+   * @param pathResolver The value for the {@code pathResolver} attribute
+   * @param ruleFinder The value for the {@code ruleFinder} attribute
+   * @param luaConfig The value for the {@code luaConfig} attribute
+   * @param cxxPlatform The value for the {@code cxxPlatform} attribute
+   * @param target The value for the {@code target} attribute
+   * @param output The value for the {@code output} attribute
+   * @param mainModule The value for the {@code mainModule} attribute
+   * @param relativeModulesDir The value for the {@code relativeModulesDir} attribute
+   * @param relativePythonModulesDir The value for the {@code relativePythonModulesDir} attribute
+   * @return An immutable LuaScriptStarter instance
+   */
+  public static LuaScriptStarter of(BuildRuleParams baseParams, BuildRuleResolver ruleResolver, SourcePathResolver pathResolver, SourcePathRuleFinder ruleFinder, LuaConfig luaConfig, CxxPlatform cxxPlatform, BuildTarget target, Path output, String mainModule, Optional<Path> relativeModulesDir, Optional<Path> relativePythonModulesDir) {
+    return new LuaScriptStarter(baseParams, ruleResolver, pathResolver, ruleFinder, luaConfig, cxxPlatform, target, output, mainModule, relativeModulesDir, relativePythonModulesDir);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLuaScriptStarter} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable LuaScriptStarter instance
+   */
+  static LuaScriptStarter copyOf(AbstractLuaScriptStarter instance) {
+    if (instance instanceof LuaScriptStarter) {
+      return (LuaScriptStarter) instance;
+    }
+    return LuaScriptStarter.of(instance.getBaseParams(), instance.getRuleResolver(), instance.getPathResolver(), instance.getRuleFinder(), instance.getLuaConfig(), instance.getCxxPlatform(), instance.getTarget(), instance.getOutput(), instance.getMainModule(), instance.getRelativeModulesDir(), instance.getRelativePythonModulesDir());
+  }
+}
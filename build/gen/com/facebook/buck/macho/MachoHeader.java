@@ -0,0 +1,417 @@
+package com.facebook.buck.macho;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.UnsignedInteger;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractMachoHeader}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code MachoHeader.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractMachoHeader"})
+@Immutable
+public final class MachoHeader extends AbstractMachoHeader {
+  private final UnsignedInteger magic;
+  private final Integer cputype;
+  private final Integer cpusubtype;
+  private final UnsignedInteger filetype;
+  private final UnsignedInteger ncmds;
+  private final UnsignedInteger sizeofcmds;
+  private final UnsignedInteger flags;
+  private final @Nullable UnsignedInteger reserved;
+
+  private MachoHeader(
+      UnsignedInteger magic,
+      Integer cputype,
+      Integer cpusubtype,
+      UnsignedInteger filetype,
+      UnsignedInteger ncmds,
+      UnsignedInteger sizeofcmds,
+      UnsignedInteger flags,
+      Optional<UnsignedInteger> reserved) {
+    this.magic = Preconditions.checkNotNull(magic, "magic");
+    this.cputype = Preconditions.checkNotNull(cputype, "cputype");
+    this.cpusubtype = Preconditions.checkNotNull(cpusubtype, "cpusubtype");
+    this.filetype = Preconditions.checkNotNull(filetype, "filetype");
+    this.ncmds = Preconditions.checkNotNull(ncmds, "ncmds");
+    this.sizeofcmds = Preconditions.checkNotNull(sizeofcmds, "sizeofcmds");
+    this.flags = Preconditions.checkNotNull(flags, "flags");
+    this.reserved = reserved.orElse(null);
+  }
+
+  private MachoHeader(
+      MachoHeader original,
+      UnsignedInteger magic,
+      Integer cputype,
+      Integer cpusubtype,
+      UnsignedInteger filetype,
+      UnsignedInteger ncmds,
+      UnsignedInteger sizeofcmds,
+      UnsignedInteger flags,
+      @Nullable UnsignedInteger reserved) {
+    this.magic = magic;
+    this.cputype = cputype;
+    this.cpusubtype = cpusubtype;
+    this.filetype = filetype;
+    this.ncmds = ncmds;
+    this.sizeofcmds = sizeofcmds;
+    this.flags = flags;
+    this.reserved = reserved;
+  }
+
+  /**
+   * @return The value of the {@code magic} attribute
+   */
+  @Override
+  public UnsignedInteger getMagic() {
+    return magic;
+  }
+
+  /**
+   * @return The value of the {@code cputype} attribute
+   */
+  @Override
+  public Integer getCputype() {
+    return cputype;
+  }
+
+  /**
+   * @return The value of the {@code cpusubtype} attribute
+   */
+  @Override
+  public Integer getCpusubtype() {
+    return cpusubtype;
+  }
+
+  /**
+   * @return The value of the {@code filetype} attribute
+   */
+  @Override
+  public UnsignedInteger getFiletype() {
+    return filetype;
+  }
+
+  /**
+   * @return The value of the {@code ncmds} attribute
+   */
+  @Override
+  public UnsignedInteger getNcmds() {
+    return ncmds;
+  }
+
+  /**
+   * @return The value of the {@code sizeofcmds} attribute
+   */
+  @Override
+  public UnsignedInteger getSizeofcmds() {
+    return sizeofcmds;
+  }
+
+  /**
+   * @return The value of the {@code flags} attribute
+   */
+  @Override
+  public UnsignedInteger getFlags() {
+    return flags;
+  }
+
+  /**
+   * @return The value of the {@code reserved} attribute
+   */
+  @Override
+  public Optional<UnsignedInteger> getReserved() {
+    return Optional.ofNullable(reserved);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getMagic() magic} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for magic
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withMagic(UnsignedInteger value) {
+    if (this.magic == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "magic");
+    return validate(new MachoHeader(
+        this,
+        newValue,
+        this.cputype,
+        this.cpusubtype,
+        this.filetype,
+        this.ncmds,
+        this.sizeofcmds,
+        this.flags,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getCputype() cputype} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cputype
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withCputype(Integer value) {
+    if (this.cputype.equals(value)) return this;
+    Integer newValue = Preconditions.checkNotNull(value, "cputype");
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        newValue,
+        this.cpusubtype,
+        this.filetype,
+        this.ncmds,
+        this.sizeofcmds,
+        this.flags,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getCpusubtype() cpusubtype} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for cpusubtype
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withCpusubtype(Integer value) {
+    if (this.cpusubtype.equals(value)) return this;
+    Integer newValue = Preconditions.checkNotNull(value, "cpusubtype");
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        newValue,
+        this.filetype,
+        this.ncmds,
+        this.sizeofcmds,
+        this.flags,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getFiletype() filetype} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for filetype
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withFiletype(UnsignedInteger value) {
+    if (this.filetype == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "filetype");
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        this.cpusubtype,
+        newValue,
+        this.ncmds,
+        this.sizeofcmds,
+        this.flags,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getNcmds() ncmds} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for ncmds
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withNcmds(UnsignedInteger value) {
+    if (this.ncmds == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "ncmds");
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        this.cpusubtype,
+        this.filetype,
+        newValue,
+        this.sizeofcmds,
+        this.flags,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getSizeofcmds() sizeofcmds} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sizeofcmds
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withSizeofcmds(UnsignedInteger value) {
+    if (this.sizeofcmds == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "sizeofcmds");
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        this.cpusubtype,
+        this.filetype,
+        this.ncmds,
+        newValue,
+        this.flags,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractMachoHeader#getFlags() flags} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for flags
+   * @return A modified copy of the {@code this} object
+   */
+  public final MachoHeader withFlags(UnsignedInteger value) {
+    if (this.flags == value) return this;
+    UnsignedInteger newValue = Preconditions.checkNotNull(value, "flags");
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        this.cpusubtype,
+        this.filetype,
+        this.ncmds,
+        this.sizeofcmds,
+        newValue,
+        this.reserved));
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractMachoHeader#getReserved() reserved} attribute.
+   * @param value The value for reserved
+   * @return A modified copy of {@code this} object
+   */
+  public final MachoHeader withReserved(UnsignedInteger value) {
+    @Nullable UnsignedInteger newValue = Preconditions.checkNotNull(value, "reserved");
+    if (this.reserved == newValue) return this;
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        this.cpusubtype,
+        this.filetype,
+        this.ncmds,
+        this.sizeofcmds,
+        this.flags,
+        newValue));
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractMachoHeader#getReserved() reserved} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for reserved
+   * @return A modified copy of {@code this} object
+   */
+  public final MachoHeader withReserved(Optional<UnsignedInteger> optional) {
+    @Nullable UnsignedInteger value = optional.orElse(null);
+    if (this.reserved == value) return this;
+    return validate(new MachoHeader(
+        this,
+        this.magic,
+        this.cputype,
+        this.cpusubtype,
+        this.filetype,
+        this.ncmds,
+        this.sizeofcmds,
+        this.flags,
+        value));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code MachoHeader} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof MachoHeader
+        && equalTo((MachoHeader) another);
+  }
+
+  private boolean equalTo(MachoHeader another) {
+    return magic.equals(another.magic)
+        && cputype.equals(another.cputype)
+        && cpusubtype.equals(another.cpusubtype)
+        && filetype.equals(another.filetype)
+        && ncmds.equals(another.ncmds)
+        && sizeofcmds.equals(another.sizeofcmds)
+        && flags.equals(another.flags)
+        && Objects.equal(reserved, another.reserved);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code magic}, {@code cputype}, {@code cpusubtype}, {@code filetype}, {@code ncmds}, {@code sizeofcmds}, {@code flags}, {@code reserved}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + magic.hashCode();
+    h = h * 17 + cputype.hashCode();
+    h = h * 17 + cpusubtype.hashCode();
+    h = h * 17 + filetype.hashCode();
+    h = h * 17 + ncmds.hashCode();
+    h = h * 17 + sizeofcmds.hashCode();
+    h = h * 17 + flags.hashCode();
+    h = h * 17 + Objects.hashCode(reserved);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code MachoHeader} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("MachoHeader")
+        .omitNullValues()
+        .add("magic", magic)
+        .add("cputype", cputype)
+        .add("cpusubtype", cpusubtype)
+        .add("filetype", filetype)
+        .add("ncmds", ncmds)
+        .add("sizeofcmds", sizeofcmds)
+        .add("flags", flags)
+        .add("reserved", reserved)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code MachoHeader} instance.
+   * @param magic The value for the {@code magic} attribute
+   * @param cputype The value for the {@code cputype} attribute
+   * @param cpusubtype The value for the {@code cpusubtype} attribute
+   * @param filetype The value for the {@code filetype} attribute
+   * @param ncmds The value for the {@code ncmds} attribute
+   * @param sizeofcmds The value for the {@code sizeofcmds} attribute
+   * @param flags The value for the {@code flags} attribute
+   * @param reserved The value for the {@code reserved} attribute
+   * @return An immutable MachoHeader instance
+   */
+  public static MachoHeader of(UnsignedInteger magic, Integer cputype, Integer cpusubtype, UnsignedInteger filetype, UnsignedInteger ncmds, UnsignedInteger sizeofcmds, UnsignedInteger flags, Optional<UnsignedInteger> reserved) {
+    return validate(new MachoHeader(magic, cputype, cpusubtype, filetype, ncmds, sizeofcmds, flags, reserved));
+  }
+
+  private static MachoHeader validate(MachoHeader instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractMachoHeader} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable MachoHeader instance
+   */
+  static MachoHeader copyOf(AbstractMachoHeader instance) {
+    if (instance instanceof MachoHeader) {
+      return (MachoHeader) instance;
+    }
+    return MachoHeader.of(instance.getMagic(), instance.getCputype(), instance.getCpusubtype(), instance.getFiletype(), instance.getNcmds(), instance.getSizeofcmds(), instance.getFlags(), instance.getReserved());
+  }
+}
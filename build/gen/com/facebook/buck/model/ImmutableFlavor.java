@@ -0,0 +1,178 @@
+package com.facebook.buck.model;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link Flavor}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ImmutableFlavor.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code ImmutableFlavor.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "Flavor"})
+@Immutable
+public final class ImmutableFlavor extends Flavor {
+  private final String name;
+
+  private ImmutableFlavor(String name) {
+    this.name = Preconditions.checkNotNull(name, "name");
+  }
+
+  private ImmutableFlavor(ImmutableFlavor original, String name) {
+    this.name = name;
+  }
+
+  /**
+   * @return The value of the {@code name} attribute
+   */
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link Flavor#getName() name} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for name
+   * @return A modified copy of the {@code this} object
+   */
+  public final ImmutableFlavor withName(String value) {
+    if (this.name.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "name");
+    return validate(new ImmutableFlavor(this, newValue));
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ImmutableFlavor} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ImmutableFlavor
+        && equalTo((ImmutableFlavor) another);
+  }
+
+  private boolean equalTo(ImmutableFlavor another) {
+    return name.equals(another.name);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code name}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + name.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code Flavor} instance.
+   * @param name The value for the {@code name} attribute
+   * @return An immutable Flavor instance
+   */
+  public static ImmutableFlavor of(String name) {
+    return validate(new ImmutableFlavor(name));
+  }
+
+  private static ImmutableFlavor validate(ImmutableFlavor instance) {
+    instance.check();
+    return instance;
+  }
+
+  /**
+   * Creates an immutable copy of a {@link Flavor} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Flavor instance
+   */
+  public static ImmutableFlavor copyOf(Flavor instance) {
+    if (instance instanceof ImmutableFlavor) {
+      return (ImmutableFlavor) instance;
+    }
+    return ImmutableFlavor.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ImmutableFlavor ImmutableFlavor}.
+   * @return A new ImmutableFlavor builder
+   */
+  public static ImmutableFlavor.Builder builder() {
+    return new ImmutableFlavor.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ImmutableFlavor ImmutableFlavor}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_NAME = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String name;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Flavor} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Flavor instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      name(instance.getName());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link Flavor#getName() name} attribute.
+     * @param name The value for name 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder name(String name) {
+      this.name = Preconditions.checkNotNull(name, "name");
+      initBits &= ~INIT_BIT_NAME;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ImmutableFlavor ImmutableFlavor}.
+     * @return An immutable instance of Flavor
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ImmutableFlavor build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return ImmutableFlavor.validate(new ImmutableFlavor(null, name));
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_NAME) != 0) attributes.add("name");
+      return "Cannot build Flavor, some of required attributes are not set " + attributes;
+    }
+  }
+}
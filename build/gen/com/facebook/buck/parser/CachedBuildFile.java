@@ -0,0 +1,484 @@
+package com.facebook.buck.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The raw nodes the parser cached for a build file, along with everything the cache tracks to
+ * decide when to invalidate them.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractCachedBuildFile"})
+@Immutable
+public final class CachedBuildFile extends AbstractCachedBuildFile {
+  private final Path buildFile;
+  private final ImmutableSet<Map<String, Object>> rawNodes;
+  private final ImmutableSet<Path> includes;
+  private final ImmutableMap<String, ImmutableMap<String, Optional<String>>> configs;
+  private final ImmutableMap<String, Optional<String>> env;
+
+  private CachedBuildFile(
+      Path buildFile,
+      ImmutableSet<Map<String, Object>> rawNodes,
+      ImmutableSet<Path> includes,
+      ImmutableMap<String, ImmutableMap<String, Optional<String>>> configs,
+      ImmutableMap<String, Optional<String>> env) {
+    this.buildFile = buildFile;
+    this.rawNodes = rawNodes;
+    this.includes = includes;
+    this.configs = configs;
+    this.env = env;
+  }
+
+  /**
+   * @return absolute path of the build file.
+   */
+  @Override
+  public Path getBuildFile() {
+    return buildFile;
+  }
+
+  /**
+   * @return the raw nodes, without the meta rules.
+   */
+  @Override
+  public ImmutableSet<Map<String, Object>> getRawNodes() {
+    return rawNodes;
+  }
+
+  /**
+   * @return absolute paths of the files read to produce the raw nodes, including the build file
+   *     itself and the default includes.
+   */
+  @Override
+  public ImmutableSet<Path> getIncludes() {
+    return includes;
+  }
+
+  /**
+   * @return the config values read by the build file, by section and key.
+   */
+  @Override
+  public ImmutableMap<String, ImmutableMap<String, Optional<String>>> getConfigs() {
+    return configs;
+  }
+
+  /**
+   * @return the environment variables read by the build file.
+   */
+  @Override
+  public ImmutableMap<String, Optional<String>> getEnv() {
+    return env;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractCachedBuildFile#getBuildFile() buildFile} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildFile
+   * @return A modified copy of the {@code this} object
+   */
+  public final CachedBuildFile withBuildFile(Path value) {
+    if (this.buildFile == value) return this;
+    Path newValue = Preconditions.checkNotNull(value, "buildFile");
+    return new CachedBuildFile(newValue, this.rawNodes, this.includes, this.configs, this.env);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCachedBuildFile#getRawNodes() rawNodes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  @SafeVarargs
+  public final CachedBuildFile withRawNodes(Map<String, Object>... elements) {
+    ImmutableSet<Map<String, Object>> newValue = ImmutableSet.copyOf(elements);
+    return new CachedBuildFile(this.buildFile, newValue, this.includes, this.configs, this.env);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCachedBuildFile#getRawNodes() rawNodes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of rawNodes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CachedBuildFile withRawNodes(Iterable<? extends Map<String, Object>> elements) {
+    if (this.rawNodes == elements) return this;
+    ImmutableSet<Map<String, Object>> newValue = ImmutableSet.copyOf(elements);
+    return new CachedBuildFile(this.buildFile, newValue, this.includes, this.configs, this.env);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCachedBuildFile#getIncludes() includes}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CachedBuildFile withIncludes(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new CachedBuildFile(this.buildFile, this.rawNodes, newValue, this.configs, this.env);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractCachedBuildFile#getIncludes() includes}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includes elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final CachedBuildFile withIncludes(Iterable<? extends Path> elements) {
+    if (this.includes == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new CachedBuildFile(this.buildFile, this.rawNodes, newValue, this.configs, this.env);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCachedBuildFile#getConfigs() configs} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the configs map
+   * @return A modified copy of {@code this} object
+   */
+  public final CachedBuildFile withConfigs(Map<String, ? extends ImmutableMap<String, Optional<String>>> entries) {
+    if (this.configs == entries) return this;
+    ImmutableMap<String, ImmutableMap<String, Optional<String>>> newValue = ImmutableMap.copyOf(entries);
+    return new CachedBuildFile(this.buildFile, this.rawNodes, this.includes, newValue, this.env);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractCachedBuildFile#getEnv() env} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the env map
+   * @return A modified copy of {@code this} object
+   */
+  public final CachedBuildFile withEnv(Map<String, ? extends Optional<String>> entries) {
+    if (this.env == entries) return this;
+    ImmutableMap<String, Optional<String>> newValue = ImmutableMap.copyOf(entries);
+    return new CachedBuildFile(this.buildFile, this.rawNodes, this.includes, this.configs, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code CachedBuildFile} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof CachedBuildFile
+        && equalTo((CachedBuildFile) another);
+  }
+
+  private boolean equalTo(CachedBuildFile another) {
+    return buildFile.equals(another.buildFile)
+        && rawNodes.equals(another.rawNodes)
+        && includes.equals(another.includes)
+        && configs.equals(another.configs)
+        && env.equals(another.env);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code buildFile}, {@code rawNodes}, {@code includes}, {@code configs}, {@code env}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + buildFile.hashCode();
+    h = h * 17 + rawNodes.hashCode();
+    h = h * 17 + includes.hashCode();
+    h = h * 17 + configs.hashCode();
+    h = h * 17 + env.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code CachedBuildFile} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("CachedBuildFile")
+        .omitNullValues()
+        .add("buildFile", buildFile)
+        .add("rawNodes", rawNodes)
+        .add("includes", includes)
+        .add("configs", configs)
+        .add("env", env)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractCachedBuildFile} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable CachedBuildFile instance
+   */
+  static CachedBuildFile copyOf(AbstractCachedBuildFile instance) {
+    if (instance instanceof CachedBuildFile) {
+      return (CachedBuildFile) instance;
+    }
+    return CachedBuildFile.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link CachedBuildFile CachedBuildFile}.
+   * @return A new CachedBuildFile builder
+   */
+  public static CachedBuildFile.Builder builder() {
+    return new CachedBuildFile.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link CachedBuildFile CachedBuildFile}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_FILE = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable Path buildFile;
+    private ImmutableSet.Builder<Map<String, Object>> rawNodes = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> includes = ImmutableSet.builder();
+    private ImmutableMap.Builder<String, ImmutableMap<String, Optional<String>>> configs = ImmutableMap.builder();
+    private ImmutableMap.Builder<String, Optional<String>> env = ImmutableMap.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code CachedBuildFile} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(CachedBuildFile instance) {
+      return from((AbstractCachedBuildFile) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractCachedBuildFile} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractCachedBuildFile instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setBuildFile(instance.getBuildFile());
+      addAllRawNodes(instance.getRawNodes());
+      addAllIncludes(instance.getIncludes());
+      putAllConfigs(instance.getConfigs());
+      putAllEnv(instance.getEnv());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractCachedBuildFile#getBuildFile() buildFile} attribute.
+     * @param buildFile The value for buildFile 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildFile(Path buildFile) {
+      this.buildFile = Preconditions.checkNotNull(buildFile, "buildFile");
+      initBits &= ~INIT_BIT_BUILD_FILE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCachedBuildFile#getRawNodes() rawNodes} set.
+     * @param element A rawNodes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addRawNodes(Map<String, Object> element) {
+      this.rawNodes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCachedBuildFile#getRawNodes() rawNodes} set.
+     * @param elements An array of rawNodes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @SafeVarargs
+    public final Builder addRawNodes(Map<String, Object>... elements) {
+      this.rawNodes.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCachedBuildFile#getRawNodes() rawNodes} set.
+     * @param elements An iterable of rawNodes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRawNodes(Iterable<? extends Map<String, Object>> elements) {
+      this.rawNodes = ImmutableSet.builder();
+      return addAllRawNodes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCachedBuildFile#getRawNodes() rawNodes} set.
+     * @param elements An iterable of rawNodes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllRawNodes(Iterable<? extends Map<String, Object>> elements) {
+      this.rawNodes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link AbstractCachedBuildFile#getIncludes() includes} set.
+     * @param element A includes element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludes(Path element) {
+      this.includes.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link AbstractCachedBuildFile#getIncludes() includes} set.
+     * @param elements An array of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludes(Path... elements) {
+      this.includes.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link AbstractCachedBuildFile#getIncludes() includes} set.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludes(Iterable<? extends Path> elements) {
+      this.includes = ImmutableSet.builder();
+      return addAllIncludes(elements);
+    }
+
+    /**
+     * Adds elements to {@link AbstractCachedBuildFile#getIncludes() includes} set.
+     * @param elements An iterable of includes elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludes(Iterable<? extends Path> elements) {
+      this.includes.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCachedBuildFile#getConfigs() configs} map.
+     * @param key The key in the configs map
+     * @param value The associated value in the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putConfigs(String key, ImmutableMap<String, Optional<String>> value) {
+      this.configs.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCachedBuildFile#getConfigs() configs} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putConfigs(Map.Entry<String, ? extends ImmutableMap<String, Optional<String>>> entry) {
+      this.configs.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCachedBuildFile#getConfigs() configs} map. Nulls are not permitted
+     * @param configs The entries that will be added to the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setConfigs(Map<String, ? extends ImmutableMap<String, Optional<String>>> configs) {
+      this.configs = ImmutableMap.builder();
+      return putAllConfigs(configs);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCachedBuildFile#getConfigs() configs} map. Nulls are not permitted
+     * @param configs The entries that will be added to the configs map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllConfigs(Map<String, ? extends ImmutableMap<String, Optional<String>>> configs) {
+      this.configs.putAll(configs);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCachedBuildFile#getEnv() env} map.
+     * @param key The key in the env map
+     * @param value The associated value in the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(String key, Optional<String> value) {
+      this.env.put(key, value);
+      return this;
+    }
+
+    /**
+     * Put one entry to the {@link AbstractCachedBuildFile#getEnv() env} map. Nulls are not permitted
+     * @param entry The key and value entry
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putEnv(Map.Entry<String, ? extends Optional<String>> entry) {
+      this.env.put(entry);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all mappings from the specified map as entries for the {@link AbstractCachedBuildFile#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setEnv(Map<String, ? extends Optional<String>> env) {
+      this.env = ImmutableMap.builder();
+      return putAllEnv(env);
+    }
+
+    /**
+     * Put all mappings from the specified map as entries to {@link AbstractCachedBuildFile#getEnv() env} map. Nulls are not permitted
+     * @param env The entries that will be added to the env map
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder putAllEnv(Map<String, ? extends Optional<String>> env) {
+      this.env.putAll(env);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link CachedBuildFile CachedBuildFile}.
+     * @return An immutable instance of CachedBuildFile
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public CachedBuildFile build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new CachedBuildFile(buildFile, rawNodes.build(), includes.build(), configs.build(), env.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_FILE) != 0) attributes.add("buildFile");
+      return "Cannot build CachedBuildFile, some of required attributes are not set " + attributes;
+    }
+  }
+}
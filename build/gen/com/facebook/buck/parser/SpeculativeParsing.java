@@ -0,0 +1,192 @@
+package com.facebook.buck.parser;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link PerBuildState.AbstractSpeculativeParsing}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SpeculativeParsing.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code SpeculativeParsing.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "PerBuildState.AbstractSpeculativeParsing"})
+@Immutable
+public final class SpeculativeParsing
+    implements PerBuildState.AbstractSpeculativeParsing {
+  private final boolean value;
+
+  private SpeculativeParsing(boolean value) {
+    this.value = value;
+  }
+
+  /**
+   * @return The value of the {@code value} attribute
+   */
+  @Override
+  public boolean value() {
+    return value;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link PerBuildState.AbstractSpeculativeParsing#value() value} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for value
+   * @return A modified copy of the {@code this} object
+   */
+  public final SpeculativeParsing withValue(boolean value) {
+    if (this.value == value) return this;
+    return new SpeculativeParsing(value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SpeculativeParsing} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SpeculativeParsing
+        && equalTo((SpeculativeParsing) another);
+  }
+
+  private boolean equalTo(SpeculativeParsing another) {
+    return value == another.value;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code value}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(value);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SpeculativeParsing} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SpeculativeParsing")
+        .omitNullValues()
+        .add("value", value)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code SpeculativeParsing} instance.
+   * @param value The value for the {@code value} attribute
+   * @return An immutable SpeculativeParsing instance
+   */
+  public static SpeculativeParsing of(boolean value) {
+    return new SpeculativeParsing(value);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link PerBuildState.AbstractSpeculativeParsing} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SpeculativeParsing instance
+   */
+  static SpeculativeParsing copyOf(PerBuildState.AbstractSpeculativeParsing instance) {
+    if (instance instanceof SpeculativeParsing) {
+      return (SpeculativeParsing) instance;
+    }
+    return SpeculativeParsing.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SpeculativeParsing SpeculativeParsing}.
+   * @return A new SpeculativeParsing builder
+   */
+  public static SpeculativeParsing.Builder builder() {
+    return new SpeculativeParsing.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SpeculativeParsing SpeculativeParsing}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_VALUE = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean value;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SpeculativeParsing} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SpeculativeParsing instance) {
+      return from((PerBuildState.AbstractSpeculativeParsing) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSpeculativeParsing} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(PerBuildState.AbstractSpeculativeParsing instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setValue(instance.value());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link PerBuildState.AbstractSpeculativeParsing#value() value} attribute.
+     * @param value The value for value 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setValue(boolean value) {
+      this.value = value;
+      initBits &= ~INIT_BIT_VALUE;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SpeculativeParsing SpeculativeParsing}.
+     * @return An immutable instance of SpeculativeParsing
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SpeculativeParsing build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SpeculativeParsing(value);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_VALUE) != 0) attributes.add("value");
+      return "Cannot build SpeculativeParsing, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,274 @@
+package com.facebook.buck.python;
+
+import com.facebook.buck.rules.SourcePath;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractPythonPackageComponents}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code PythonPackageComponents.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonPackageComponents"})
+@Immutable
+public final class PythonPackageComponents extends AbstractPythonPackageComponents {
+  private final ImmutableMap<Path, SourcePath> modules;
+  private final ImmutableMap<Path, SourcePath> resources;
+  private final ImmutableMap<Path, SourcePath> nativeLibraries;
+  private final ImmutableSet<SourcePath> prebuiltLibraries;
+  private final @Nullable Boolean zipSafe;
+
+  private PythonPackageComponents(
+      Map<? extends Path, ? extends SourcePath> modules,
+      Map<? extends Path, ? extends SourcePath> resources,
+      Map<? extends Path, ? extends SourcePath> nativeLibraries,
+      Iterable<? extends SourcePath> prebuiltLibraries,
+      Optional<Boolean> zipSafe) {
+    this.modules = ImmutableMap.copyOf(modules);
+    this.resources = ImmutableMap.copyOf(resources);
+    this.nativeLibraries = ImmutableMap.copyOf(nativeLibraries);
+    this.prebuiltLibraries = ImmutableSet.copyOf(prebuiltLibraries);
+    this.zipSafe = zipSafe.orElse(null);
+  }
+
+  private PythonPackageComponents(
+      PythonPackageComponents original,
+      ImmutableMap<Path, SourcePath> modules,
+      ImmutableMap<Path, SourcePath> resources,
+      ImmutableMap<Path, SourcePath> nativeLibraries,
+      ImmutableSet<SourcePath> prebuiltLibraries,
+      @Nullable Boolean zipSafe) {
+    this.modules = modules;
+    this.resources = resources;
+    this.nativeLibraries = nativeLibraries;
+    this.prebuiltLibraries = prebuiltLibraries;
+    this.zipSafe = zipSafe;
+  }
+
+  /**
+   * @return The value of the {@code modules} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getModules() {
+    return modules;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code nativeLibraries} attribute
+   */
+  @Override
+  public ImmutableMap<Path, SourcePath> getNativeLibraries() {
+    return nativeLibraries;
+  }
+
+  /**
+   * @return The value of the {@code prebuiltLibraries} attribute
+   */
+  @Override
+  public ImmutableSet<SourcePath> getPrebuiltLibraries() {
+    return prebuiltLibraries;
+  }
+
+  /**
+   * @return The value of the {@code zipSafe} attribute
+   */
+  @Override
+  public Optional<Boolean> isZipSafe() {
+    return Optional.ofNullable(zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getModules() modules} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the modules map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withModules(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.modules == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PythonPackageComponents(this, newValue, this.resources, this.nativeLibraries, this.prebuiltLibraries, this.zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getResources() resources} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the resources map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withResources(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.resources == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PythonPackageComponents(this, this.modules, newValue, this.nativeLibraries, this.prebuiltLibraries, this.zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object by replacing the {@link AbstractPythonPackageComponents#getNativeLibraries() nativeLibraries} map with the specified map.
+   * Nulls are not permitted as keys or values.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param entries The entries to be added to the nativeLibraries map
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withNativeLibraries(Map<? extends Path, ? extends SourcePath> entries) {
+    if (this.nativeLibraries == entries) return this;
+    ImmutableMap<Path, SourcePath> newValue = ImmutableMap.copyOf(entries);
+    return new PythonPackageComponents(this, this.modules, this.resources, newValue, this.prebuiltLibraries, this.zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPythonPackageComponents#getPrebuiltLibraries() prebuiltLibraries}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withPrebuiltLibraries(SourcePath... elements) {
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, newValue, this.zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link AbstractPythonPackageComponents#getPrebuiltLibraries() prebuiltLibraries}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of prebuiltLibraries elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withPrebuiltLibraries(Iterable<? extends SourcePath> elements) {
+    if (this.prebuiltLibraries == elements) return this;
+    ImmutableSet<SourcePath> newValue = ImmutableSet.copyOf(elements);
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, newValue, this.zipSafe);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractPythonPackageComponents#isZipSafe() zipSafe} attribute.
+   * @param value The value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withZipSafe(boolean value) {
+    @Nullable Boolean newValue = value;
+    if (Objects.equal(this.zipSafe, newValue)) return this;
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, this.prebuiltLibraries, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractPythonPackageComponents#isZipSafe() zipSafe} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for zipSafe
+   * @return A modified copy of {@code this} object
+   */
+  public final PythonPackageComponents withZipSafe(Optional<Boolean> optional) {
+    @Nullable Boolean value = optional.orElse(null);
+    if (Objects.equal(this.zipSafe, value)) return this;
+    return new PythonPackageComponents(this, this.modules, this.resources, this.nativeLibraries, this.prebuiltLibraries, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonPackageComponents} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonPackageComponents
+        && equalTo((PythonPackageComponents) another);
+  }
+
+  private boolean equalTo(PythonPackageComponents another) {
+    return modules.equals(another.modules)
+        && resources.equals(another.resources)
+        && nativeLibraries.equals(another.nativeLibraries)
+        && prebuiltLibraries.equals(another.prebuiltLibraries)
+        && Objects.equal(zipSafe, another.zipSafe);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code modules}, {@code resources}, {@code nativeLibraries}, {@code prebuiltLibraries}, {@code zipSafe}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + modules.hashCode();
+    h = h * 17 + resources.hashCode();
+    h = h * 17 + nativeLibraries.hashCode();
+    h = h * 17 + prebuiltLibraries.hashCode();
+    h = h * 17 + Objects.hashCode(zipSafe);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code PythonPackageComponents} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("PythonPackageComponents")
+        .omitNullValues()
+        .add("modules", modules)
+        .add("resources", resources)
+        .add("nativeLibraries", nativeLibraries)
+        .add("prebuiltLibraries", prebuiltLibraries)
+        .add("zipSafe", zipSafe)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code PythonPackageComponents} instance.
+   * @param modules The value for the {@code modules} attribute
+   * @param resources The value for the {@code resources} attribute
+   * @param nativeLibraries The value for the {@code nativeLibraries} attribute
+   * @param prebuiltLibraries The value for the {@code prebuiltLibraries} attribute
+   * @param zipSafe The value for the {@code zipSafe} attribute
+   * @return An immutable PythonPackageComponents instance
+   */
+  public static PythonPackageComponents of(Map<Path, SourcePath> modules, Map<Path, SourcePath> resources, Map<Path, SourcePath> nativeLibraries, Set<SourcePath> prebuiltLibraries, Optional<Boolean> zipSafe) {
+    return of(modules, resources, nativeLibraries, (Iterable<? extends SourcePath>) prebuiltLibraries, zipSafe);
+  }
+
+  /**
+   * Construct a new immutable {@code PythonPackageComponents} instance.
+   * @param modules The value for the {@code modules} attribute
+   * @param resources The value for the {@code resources} attribute
+   * @param nativeLibraries The value for the {@code nativeLibraries} attribute
+   * @param prebuiltLibraries The value for the {@code prebuiltLibraries} attribute
+   * @param zipSafe The value for the {@code zipSafe} attribute
+   * @return An immutable PythonPackageComponents instance
+   */
+  public static PythonPackageComponents of(Map<? extends Path, ? extends SourcePath> modules, Map<? extends Path, ? extends SourcePath> resources, Map<? extends Path, ? extends SourcePath> nativeLibraries, Iterable<? extends SourcePath> prebuiltLibraries, Optional<Boolean> zipSafe) {
+    return new PythonPackageComponents(modules, resources, nativeLibraries, prebuiltLibraries, zipSafe);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPythonPackageComponents} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PythonPackageComponents instance
+   */
+  static PythonPackageComponents copyOf(AbstractPythonPackageComponents instance) {
+    if (instance instanceof PythonPackageComponents) {
+      return (PythonPackageComponents) instance;
+    }
+    return PythonPackageComponents.of(instance.getModules(), instance.getResources(), instance.getNativeLibraries(), instance.getPrebuiltLibraries(), instance.isZipSafe());
+  }
+}
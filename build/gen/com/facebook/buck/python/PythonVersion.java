@@ -0,0 +1,223 @@
+package com.facebook.buck.python;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractPythonVersion}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code PythonVersion.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code PythonVersion.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractPythonVersion"})
+@Immutable
+public final class PythonVersion extends AbstractPythonVersion {
+  private final String interpreterName;
+  private final String versionString;
+
+  private PythonVersion(String interpreterName, String versionString) {
+    this.interpreterName = Preconditions.checkNotNull(interpreterName, "interpreterName");
+    this.versionString = Preconditions.checkNotNull(versionString, "versionString");
+  }
+
+  private PythonVersion(PythonVersion original, String interpreterName, String versionString) {
+    this.interpreterName = interpreterName;
+    this.versionString = versionString;
+  }
+
+  /**
+   * @return The value of the {@code interpreterName} attribute
+   */
+  @Override
+  public String getInterpreterName() {
+    return interpreterName;
+  }
+
+  /**
+   * @return The value of the {@code versionString} attribute
+   */
+  @Override
+  public String getVersionString() {
+    return versionString;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPythonVersion#getInterpreterName() interpreterName} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for interpreterName
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonVersion withInterpreterName(String value) {
+    if (this.interpreterName.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "interpreterName");
+    return new PythonVersion(this, newValue, this.versionString);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractPythonVersion#getVersionString() versionString} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for versionString
+   * @return A modified copy of the {@code this} object
+   */
+  public final PythonVersion withVersionString(String value) {
+    if (this.versionString.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "versionString");
+    return new PythonVersion(this, this.interpreterName, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code PythonVersion} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof PythonVersion
+        && equalTo((PythonVersion) another);
+  }
+
+  private boolean equalTo(PythonVersion another) {
+    return interpreterName.equals(another.interpreterName)
+        && versionString.equals(another.versionString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code interpreterName}, {@code versionString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + interpreterName.hashCode();
+    h = h * 17 + versionString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code PythonVersion} instance.
+   * @param interpreterName The value for the {@code interpreterName} attribute
+   * @param versionString The value for the {@code versionString} attribute
+   * @return An immutable PythonVersion instance
+   */
+  public static PythonVersion of(String interpreterName, String versionString) {
+    return new PythonVersion(interpreterName, versionString);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractPythonVersion} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable PythonVersion instance
+   */
+  static PythonVersion copyOf(AbstractPythonVersion instance) {
+    if (instance instanceof PythonVersion) {
+      return (PythonVersion) instance;
+    }
+    return PythonVersion.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link PythonVersion PythonVersion}.
+   * @return A new PythonVersion builder
+   */
+  public static PythonVersion.Builder builder() {
+    return new PythonVersion.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link PythonVersion PythonVersion}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_INTERPRETER_NAME = 0x1L;
+    private static final long INIT_BIT_VERSION_STRING = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable String interpreterName;
+    private @Nullable String versionString;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code PythonVersion} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(PythonVersion instance) {
+      return from((AbstractPythonVersion) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractPythonVersion} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractPythonVersion instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setInterpreterName(instance.getInterpreterName());
+      setVersionString(instance.getVersionString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPythonVersion#getInterpreterName() interpreterName} attribute.
+     * @param interpreterName The value for interpreterName 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setInterpreterName(String interpreterName) {
+      this.interpreterName = Preconditions.checkNotNull(interpreterName, "interpreterName");
+      initBits &= ~INIT_BIT_INTERPRETER_NAME;
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractPythonVersion#getVersionString() versionString} attribute.
+     * @param versionString The value for versionString 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setVersionString(String versionString) {
+      this.versionString = Preconditions.checkNotNull(versionString, "versionString");
+      initBits &= ~INIT_BIT_VERSION_STRING;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link PythonVersion PythonVersion}.
+     * @return An immutable instance of PythonVersion
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public PythonVersion build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new PythonVersion(null, interpreterName, versionString);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_INTERPRETER_NAME) != 0) attributes.add("interpreterName");
+      if ((initBits & INIT_BIT_VERSION_STRING) != 0) attributes.add("versionString");
+      return "Cannot build PythonVersion, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,744 @@
+package com.facebook.buck.rage;
+
+import com.facebook.buck.model.BuildId;
+import com.facebook.buck.util.environment.BuildEnvironmentDescription;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link DefectReporter.AbstractDefectReport}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code DefectReport.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "DefectReporter.AbstractDefectReport"})
+@Immutable
+public final class DefectReport implements DefectReporter.AbstractDefectReport {
+  private final @Nullable UserReport userReport;
+  private final ImmutableSet<BuildId> highlightedBuildIds;
+  private final ImmutableSet<Path> includedPaths;
+  private final BuildEnvironmentDescription buildEnvironmentDescription;
+  private final @Nullable SourceControlInfo sourceControlInfo;
+  private final @Nullable String extraInfo;
+  private final @Nullable FileChangesIgnoredReport fileChangesIgnoredReport;
+  private final UserLocalConfiguration userLocalConfiguration;
+
+  private DefectReport(
+      @Nullable UserReport userReport,
+      ImmutableSet<BuildId> highlightedBuildIds,
+      ImmutableSet<Path> includedPaths,
+      BuildEnvironmentDescription buildEnvironmentDescription,
+      @Nullable SourceControlInfo sourceControlInfo,
+      @Nullable String extraInfo,
+      @Nullable FileChangesIgnoredReport fileChangesIgnoredReport,
+      UserLocalConfiguration userLocalConfiguration) {
+    this.userReport = userReport;
+    this.highlightedBuildIds = highlightedBuildIds;
+    this.includedPaths = includedPaths;
+    this.buildEnvironmentDescription = buildEnvironmentDescription;
+    this.sourceControlInfo = sourceControlInfo;
+    this.extraInfo = extraInfo;
+    this.fileChangesIgnoredReport = fileChangesIgnoredReport;
+    this.userLocalConfiguration = userLocalConfiguration;
+  }
+
+  /**
+   * @return The value of the {@code userReport} attribute
+   */
+  @Override
+  public Optional<UserReport> getUserReport() {
+    return Optional.ofNullable(userReport);
+  }
+
+  /**
+   * @return The value of the {@code highlightedBuildIds} attribute
+   */
+  @Override
+  public ImmutableSet<BuildId> getHighlightedBuildIds() {
+    return highlightedBuildIds;
+  }
+
+  /**
+   * @return The value of the {@code includedPaths} attribute
+   */
+  @Override
+  public ImmutableSet<Path> getIncludedPaths() {
+    return includedPaths;
+  }
+
+  /**
+   * @return The value of the {@code buildEnvironmentDescription} attribute
+   */
+  @Override
+  public BuildEnvironmentDescription getBuildEnvironmentDescription() {
+    return buildEnvironmentDescription;
+  }
+
+  /**
+   * @return The value of the {@code sourceControlInfo} attribute
+   */
+  @Override
+  public Optional<SourceControlInfo> getSourceControlInfo() {
+    return Optional.ofNullable(sourceControlInfo);
+  }
+
+  /**
+   * @return The value of the {@code extraInfo} attribute
+   */
+  @Override
+  public Optional<String> getExtraInfo() {
+    return Optional.ofNullable(extraInfo);
+  }
+
+  /**
+   * @return The value of the {@code fileChangesIgnoredReport} attribute
+   */
+  @Override
+  public Optional<FileChangesIgnoredReport> getFileChangesIgnoredReport() {
+    return Optional.ofNullable(fileChangesIgnoredReport);
+  }
+
+  /**
+   * @return The value of the {@code userLocalConfiguration} attribute
+   */
+  @Override
+  public UserLocalConfiguration getUserLocalConfiguration() {
+    return userLocalConfiguration;
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefectReporter.AbstractDefectReport#getUserReport() userReport} attribute.
+   * @param value The value for userReport
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withUserReport(UserReport value) {
+    @Nullable UserReport newValue = Preconditions.checkNotNull(value, "userReport");
+    if (this.userReport == newValue) return this;
+    return new DefectReport(
+        newValue,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefectReporter.AbstractDefectReport#getUserReport() userReport} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for userReport
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withUserReport(Optional<UserReport> optional) {
+    @Nullable UserReport value = optional.orElse(null);
+    if (this.userReport == value) return this;
+    return new DefectReport(
+        value,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withHighlightedBuildIds(BuildId... elements) {
+    ImmutableSet<BuildId> newValue = ImmutableSet.copyOf(elements);
+    return new DefectReport(
+        this.userReport,
+        newValue,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of highlightedBuildIds elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+    if (this.highlightedBuildIds == elements) return this;
+    ImmutableSet<BuildId> newValue = ImmutableSet.copyOf(elements);
+    return new DefectReport(
+        this.userReport,
+        newValue,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withIncludedPaths(Path... elements) {
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        newValue,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of includedPaths elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withIncludedPaths(Iterable<? extends Path> elements) {
+    if (this.includedPaths == elements) return this;
+    ImmutableSet<Path> newValue = ImmutableSet.copyOf(elements);
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        newValue,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefectReporter.AbstractDefectReport#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for buildEnvironmentDescription
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefectReport withBuildEnvironmentDescription(BuildEnvironmentDescription value) {
+    if (this.buildEnvironmentDescription == value) return this;
+    BuildEnvironmentDescription newValue = Preconditions.checkNotNull(value, "buildEnvironmentDescription");
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        newValue,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefectReporter.AbstractDefectReport#getSourceControlInfo() sourceControlInfo} attribute.
+   * @param value The value for sourceControlInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withSourceControlInfo(SourceControlInfo value) {
+    @Nullable SourceControlInfo newValue = Preconditions.checkNotNull(value, "sourceControlInfo");
+    if (this.sourceControlInfo == newValue) return this;
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        newValue,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefectReporter.AbstractDefectReport#getSourceControlInfo() sourceControlInfo} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for sourceControlInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withSourceControlInfo(Optional<SourceControlInfo> optional) {
+    @Nullable SourceControlInfo value = optional.orElse(null);
+    if (this.sourceControlInfo == value) return this;
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        value,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefectReporter.AbstractDefectReport#getExtraInfo() extraInfo} attribute.
+   * @param value The value for extraInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withExtraInfo(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "extraInfo");
+    if (Objects.equal(this.extraInfo, newValue)) return this;
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        newValue,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefectReporter.AbstractDefectReport#getExtraInfo() extraInfo} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for extraInfo
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withExtraInfo(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.extraInfo, value)) return this;
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        value,
+        this.fileChangesIgnoredReport,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link DefectReporter.AbstractDefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} attribute.
+   * @param value The value for fileChangesIgnoredReport
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withFileChangesIgnoredReport(FileChangesIgnoredReport value) {
+    @Nullable FileChangesIgnoredReport newValue = Preconditions.checkNotNull(value, "fileChangesIgnoredReport");
+    if (this.fileChangesIgnoredReport == newValue) return this;
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        newValue,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link DefectReporter.AbstractDefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} attribute.
+   * A shallow reference equality check is used on unboxed optional value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for fileChangesIgnoredReport
+   * @return A modified copy of {@code this} object
+   */
+  public final DefectReport withFileChangesIgnoredReport(Optional<FileChangesIgnoredReport> optional) {
+    @Nullable FileChangesIgnoredReport value = optional.orElse(null);
+    if (this.fileChangesIgnoredReport == value) return this;
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        value,
+        this.userLocalConfiguration);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link DefectReporter.AbstractDefectReport#getUserLocalConfiguration() userLocalConfiguration} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for userLocalConfiguration
+   * @return A modified copy of the {@code this} object
+   */
+  public final DefectReport withUserLocalConfiguration(UserLocalConfiguration value) {
+    if (this.userLocalConfiguration == value) return this;
+    UserLocalConfiguration newValue = Preconditions.checkNotNull(value, "userLocalConfiguration");
+    return new DefectReport(
+        this.userReport,
+        this.highlightedBuildIds,
+        this.includedPaths,
+        this.buildEnvironmentDescription,
+        this.sourceControlInfo,
+        this.extraInfo,
+        this.fileChangesIgnoredReport,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code DefectReport} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof DefectReport
+        && equalTo((DefectReport) another);
+  }
+
+  private boolean equalTo(DefectReport another) {
+    return Objects.equal(userReport, another.userReport)
+        && highlightedBuildIds.equals(another.highlightedBuildIds)
+        && includedPaths.equals(another.includedPaths)
+        && buildEnvironmentDescription.equals(another.buildEnvironmentDescription)
+        && Objects.equal(sourceControlInfo, another.sourceControlInfo)
+        && Objects.equal(extraInfo, another.extraInfo)
+        && Objects.equal(fileChangesIgnoredReport, another.fileChangesIgnoredReport)
+        && userLocalConfiguration.equals(another.userLocalConfiguration);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code userReport}, {@code highlightedBuildIds}, {@code includedPaths}, {@code buildEnvironmentDescription}, {@code sourceControlInfo}, {@code extraInfo}, {@code fileChangesIgnoredReport}, {@code userLocalConfiguration}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Objects.hashCode(userReport);
+    h = h * 17 + highlightedBuildIds.hashCode();
+    h = h * 17 + includedPaths.hashCode();
+    h = h * 17 + buildEnvironmentDescription.hashCode();
+    h = h * 17 + Objects.hashCode(sourceControlInfo);
+    h = h * 17 + Objects.hashCode(extraInfo);
+    h = h * 17 + Objects.hashCode(fileChangesIgnoredReport);
+    h = h * 17 + userLocalConfiguration.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code DefectReport} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("DefectReport")
+        .omitNullValues()
+        .add("userReport", userReport)
+        .add("highlightedBuildIds", highlightedBuildIds)
+        .add("includedPaths", includedPaths)
+        .add("buildEnvironmentDescription", buildEnvironmentDescription)
+        .add("sourceControlInfo", sourceControlInfo)
+        .add("extraInfo", extraInfo)
+        .add("fileChangesIgnoredReport", fileChangesIgnoredReport)
+        .add("userLocalConfiguration", userLocalConfiguration)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link DefectReporter.AbstractDefectReport} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable DefectReport instance
+   */
+  public static DefectReport copyOf(DefectReporter.AbstractDefectReport instance) {
+    if (instance instanceof DefectReport) {
+      return (DefectReport) instance;
+    }
+    return DefectReport.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link DefectReport DefectReport}.
+   * @return A new DefectReport builder
+   */
+  public static DefectReport.Builder builder() {
+    return new DefectReport.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link DefectReport DefectReport}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION = 0x1L;
+    private static final long INIT_BIT_USER_LOCAL_CONFIGURATION = 0x2L;
+    private long initBits = 0x3L;
+
+    private @Nullable UserReport userReport;
+    private ImmutableSet.Builder<BuildId> highlightedBuildIds = ImmutableSet.builder();
+    private ImmutableSet.Builder<Path> includedPaths = ImmutableSet.builder();
+    private @Nullable BuildEnvironmentDescription buildEnvironmentDescription;
+    private @Nullable SourceControlInfo sourceControlInfo;
+    private @Nullable String extraInfo;
+    private @Nullable FileChangesIgnoredReport fileChangesIgnoredReport;
+    private @Nullable UserLocalConfiguration userLocalConfiguration;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code AbstractDefectReport} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(DefectReporter.AbstractDefectReport instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      Optional<UserReport> userReportOptional = instance.getUserReport();
+      if (userReportOptional.isPresent()) {
+        setUserReport(userReportOptional);
+      }
+      addAllHighlightedBuildIds(instance.getHighlightedBuildIds());
+      addAllIncludedPaths(instance.getIncludedPaths());
+      setBuildEnvironmentDescription(instance.getBuildEnvironmentDescription());
+      Optional<SourceControlInfo> sourceControlInfoOptional = instance.getSourceControlInfo();
+      if (sourceControlInfoOptional.isPresent()) {
+        setSourceControlInfo(sourceControlInfoOptional);
+      }
+      Optional<String> extraInfoOptional = instance.getExtraInfo();
+      if (extraInfoOptional.isPresent()) {
+        setExtraInfo(extraInfoOptional);
+      }
+      Optional<FileChangesIgnoredReport> fileChangesIgnoredReportOptional = instance.getFileChangesIgnoredReport();
+      if (fileChangesIgnoredReportOptional.isPresent()) {
+        setFileChangesIgnoredReport(fileChangesIgnoredReportOptional);
+      }
+      setUserLocalConfiguration(instance.getUserLocalConfiguration());
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getUserReport() userReport} to userReport.
+     * @param userReport The value for userReport
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setUserReport(UserReport userReport) {
+      this.userReport = Preconditions.checkNotNull(userReport, "userReport");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getUserReport() userReport} to userReport.
+     * @param userReport The value for userReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUserReport(Optional<UserReport> userReport) {
+      this.userReport = userReport.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param element A highlightedBuildIds element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHighlightedBuildIds(BuildId element) {
+      this.highlightedBuildIds.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An array of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addHighlightedBuildIds(BuildId... elements) {
+      this.highlightedBuildIds.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An iterable of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+      this.highlightedBuildIds = ImmutableSet.builder();
+      return addAllHighlightedBuildIds(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getHighlightedBuildIds() highlightedBuildIds} set.
+     * @param elements An iterable of highlightedBuildIds elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllHighlightedBuildIds(Iterable<? extends BuildId> elements) {
+      this.highlightedBuildIds.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param element A includedPaths element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludedPaths(Path element) {
+      this.includedPaths.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An array of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addIncludedPaths(Path... elements) {
+      this.includedPaths.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An iterable of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setIncludedPaths(Iterable<? extends Path> elements) {
+      this.includedPaths = ImmutableSet.builder();
+      return addAllIncludedPaths(elements);
+    }
+
+    /**
+     * Adds elements to {@link DefectReporter.AbstractDefectReport#getIncludedPaths() includedPaths} set.
+     * @param elements An iterable of includedPaths elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllIncludedPaths(Iterable<? extends Path> elements) {
+      this.includedPaths.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefectReporter.AbstractDefectReport#getBuildEnvironmentDescription() buildEnvironmentDescription} attribute.
+     * @param buildEnvironmentDescription The value for buildEnvironmentDescription 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBuildEnvironmentDescription(BuildEnvironmentDescription buildEnvironmentDescription) {
+      this.buildEnvironmentDescription = Preconditions.checkNotNull(buildEnvironmentDescription, "buildEnvironmentDescription");
+      initBits &= ~INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getSourceControlInfo() sourceControlInfo} to sourceControlInfo.
+     * @param sourceControlInfo The value for sourceControlInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setSourceControlInfo(SourceControlInfo sourceControlInfo) {
+      this.sourceControlInfo = Preconditions.checkNotNull(sourceControlInfo, "sourceControlInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getSourceControlInfo() sourceControlInfo} to sourceControlInfo.
+     * @param sourceControlInfo The value for sourceControlInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setSourceControlInfo(Optional<SourceControlInfo> sourceControlInfo) {
+      this.sourceControlInfo = sourceControlInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getExtraInfo() extraInfo} to extraInfo.
+     * @param extraInfo The value for extraInfo
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setExtraInfo(String extraInfo) {
+      this.extraInfo = Preconditions.checkNotNull(extraInfo, "extraInfo");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getExtraInfo() extraInfo} to extraInfo.
+     * @param extraInfo The value for extraInfo
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setExtraInfo(Optional<String> extraInfo) {
+      this.extraInfo = extraInfo.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} to fileChangesIgnoredReport.
+     * @param fileChangesIgnoredReport The value for fileChangesIgnoredReport
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setFileChangesIgnoredReport(FileChangesIgnoredReport fileChangesIgnoredReport) {
+      this.fileChangesIgnoredReport = Preconditions.checkNotNull(fileChangesIgnoredReport, "fileChangesIgnoredReport");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link DefectReporter.AbstractDefectReport#getFileChangesIgnoredReport() fileChangesIgnoredReport} to fileChangesIgnoredReport.
+     * @param fileChangesIgnoredReport The value for fileChangesIgnoredReport
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setFileChangesIgnoredReport(Optional<FileChangesIgnoredReport> fileChangesIgnoredReport) {
+      this.fileChangesIgnoredReport = fileChangesIgnoredReport.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link DefectReporter.AbstractDefectReport#getUserLocalConfiguration() userLocalConfiguration} attribute.
+     * @param userLocalConfiguration The value for userLocalConfiguration 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setUserLocalConfiguration(UserLocalConfiguration userLocalConfiguration) {
+      this.userLocalConfiguration = Preconditions.checkNotNull(userLocalConfiguration, "userLocalConfiguration");
+      initBits &= ~INIT_BIT_USER_LOCAL_CONFIGURATION;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link DefectReport DefectReport}.
+     * @return An immutable instance of DefectReport
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public DefectReport build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new DefectReport(
+          userReport,
+          highlightedBuildIds.build(),
+          includedPaths.build(),
+          buildEnvironmentDescription,
+          sourceControlInfo,
+          extraInfo,
+          fileChangesIgnoredReport,
+          userLocalConfiguration);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_BUILD_ENVIRONMENT_DESCRIPTION) != 0) attributes.add("buildEnvironmentDescription");
+      if ((initBits & INIT_BIT_USER_LOCAL_CONFIGURATION) != 0) attributes.add("userLocalConfiguration");
+      return "Cannot build DefectReport, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,471 @@
+package com.facebook.buck.rage;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Booleans;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractRageJsonResponse}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code RageJsonResponse.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code RageJsonResponse.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractRageJsonResponse"})
+@Immutable
+public final class RageJsonResponse extends AbstractRageJsonResponse {
+  private final boolean requestSuccessful;
+  private final @Nullable String errorMessage;
+  private final @Nullable String rageUrl;
+  private final @Nullable String message;
+
+  private RageJsonResponse(
+      boolean requestSuccessful,
+      Optional<String> errorMessage,
+      Optional<String> rageUrl,
+      Optional<String> message) {
+    this.requestSuccessful = requestSuccessful;
+    this.errorMessage = errorMessage.orElse(null);
+    this.rageUrl = rageUrl.orElse(null);
+    this.message = message.orElse(null);
+  }
+
+  private RageJsonResponse(
+      RageJsonResponse original,
+      boolean requestSuccessful,
+      @Nullable String errorMessage,
+      @Nullable String rageUrl,
+      @Nullable String message) {
+    this.requestSuccessful = requestSuccessful;
+    this.errorMessage = errorMessage;
+    this.rageUrl = rageUrl;
+    this.message = message;
+  }
+
+  /**
+   * @return if the request and processing was successful from the server side.
+   */
+  @JsonProperty
+  @Override
+  public boolean getRequestSuccessful() {
+    return requestSuccessful;
+  }
+
+  /**
+   * @return get the error message if it exists.
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getErrorMessage() {
+    return Optional.ofNullable(errorMessage);
+  }
+
+  /**
+   * @return if the server wants to redirect or point to a remote url it will be here.
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getRageUrl() {
+    return Optional.ofNullable(rageUrl);
+  }
+
+  /**
+   * @return the message which is Json in the format/content that the server uses.
+   */
+  @JsonProperty
+  @Override
+  public Optional<String> getMessage() {
+    return Optional.ofNullable(message);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractRageJsonResponse#getRequestSuccessful() requestSuccessful} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for requestSuccessful
+   * @return A modified copy of the {@code this} object
+   */
+  public final RageJsonResponse withRequestSuccessful(boolean value) {
+    if (this.requestSuccessful == value) return this;
+    return new RageJsonResponse(this, value, this.errorMessage, this.rageUrl, this.message);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractRageJsonResponse#getErrorMessage() errorMessage} attribute.
+   * @param value The value for errorMessage
+   * @return A modified copy of {@code this} object
+   */
+  public final RageJsonResponse withErrorMessage(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "errorMessage");
+    if (Objects.equal(this.errorMessage, newValue)) return this;
+    return new RageJsonResponse(this, this.requestSuccessful, newValue, this.rageUrl, this.message);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractRageJsonResponse#getErrorMessage() errorMessage} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for errorMessage
+   * @return A modified copy of {@code this} object
+   */
+  public final RageJsonResponse withErrorMessage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.errorMessage, value)) return this;
+    return new RageJsonResponse(this, this.requestSuccessful, value, this.rageUrl, this.message);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractRageJsonResponse#getRageUrl() rageUrl} attribute.
+   * @param value The value for rageUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final RageJsonResponse withRageUrl(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "rageUrl");
+    if (Objects.equal(this.rageUrl, newValue)) return this;
+    return new RageJsonResponse(this, this.requestSuccessful, this.errorMessage, newValue, this.message);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractRageJsonResponse#getRageUrl() rageUrl} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for rageUrl
+   * @return A modified copy of {@code this} object
+   */
+  public final RageJsonResponse withRageUrl(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.rageUrl, value)) return this;
+    return new RageJsonResponse(this, this.requestSuccessful, this.errorMessage, value, this.message);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link AbstractRageJsonResponse#getMessage() message} attribute.
+   * @param value The value for message
+   * @return A modified copy of {@code this} object
+   */
+  public final RageJsonResponse withMessage(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "message");
+    if (Objects.equal(this.message, newValue)) return this;
+    return new RageJsonResponse(this, this.requestSuccessful, this.errorMessage, this.rageUrl, newValue);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link AbstractRageJsonResponse#getMessage() message} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for message
+   * @return A modified copy of {@code this} object
+   */
+  public final RageJsonResponse withMessage(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.message, value)) return this;
+    return new RageJsonResponse(this, this.requestSuccessful, this.errorMessage, this.rageUrl, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code RageJsonResponse} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof RageJsonResponse
+        && equalTo((RageJsonResponse) another);
+  }
+
+  private boolean equalTo(RageJsonResponse another) {
+    return requestSuccessful == another.requestSuccessful
+        && Objects.equal(errorMessage, another.errorMessage)
+        && Objects.equal(rageUrl, another.rageUrl)
+        && Objects.equal(message, another.message);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code requestSuccessful}, {@code errorMessage}, {@code rageUrl}, {@code message}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(requestSuccessful);
+    h = h * 17 + Objects.hashCode(errorMessage);
+    h = h * 17 + Objects.hashCode(rageUrl);
+    h = h * 17 + Objects.hashCode(message);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code RageJsonResponse} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("RageJsonResponse")
+        .omitNullValues()
+        .add("requestSuccessful", requestSuccessful)
+        .add("errorMessage", errorMessage)
+        .add("rageUrl", rageUrl)
+        .add("message", message)
+        .toString();
+  }
+
+  /**
+   * Utility type used to correctly read immutable object from JSON representation.
+   * @deprecated Do not use this type directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonDeserialize
+  @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.NONE)
+  static final class Json extends AbstractRageJsonResponse {
+    boolean requestSuccessful;
+    boolean requestSuccessfulIsSet;
+    Optional<String> errorMessage = Optional.empty();
+    Optional<String> rageUrl = Optional.empty();
+    Optional<String> message = Optional.empty();
+    @JsonProperty
+    public void setRequestSuccessful(boolean requestSuccessful) {
+      this.requestSuccessful = requestSuccessful;
+      this.requestSuccessfulIsSet = true;
+    }
+    @JsonProperty
+    public void setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage;
+    }
+    @JsonProperty
+    public void setRageUrl(Optional<String> rageUrl) {
+      this.rageUrl = rageUrl;
+    }
+    @JsonProperty
+    public void setMessage(Optional<String> message) {
+      this.message = message;
+    }
+    @Override
+    public boolean getRequestSuccessful() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getErrorMessage() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getRageUrl() { throw new UnsupportedOperationException(); }
+    @Override
+    public Optional<String> getMessage() { throw new UnsupportedOperationException(); }
+  }
+
+  /**
+   * @param json A JSON-bindable data structure
+   * @return An immutable value type
+   * @deprecated Do not use this method directly, it exists only for the <em>Jackson</em>-binding infrastructure
+   */
+  @Deprecated
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  static RageJsonResponse fromJson(Json json) {
+    RageJsonResponse.Builder builder = RageJsonResponse.builder();
+    if (json.requestSuccessfulIsSet) {
+      builder.setRequestSuccessful(json.requestSuccessful);
+    }
+    if (json.errorMessage != null) {
+      builder.setErrorMessage(json.errorMessage);
+    }
+    if (json.rageUrl != null) {
+      builder.setRageUrl(json.rageUrl);
+    }
+    if (json.message != null) {
+      builder.setMessage(json.message);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Construct a new immutable {@code RageJsonResponse} instance.
+   * @param requestSuccessful The value for the {@code requestSuccessful} attribute
+   * @param errorMessage The value for the {@code errorMessage} attribute
+   * @param rageUrl The value for the {@code rageUrl} attribute
+   * @param message The value for the {@code message} attribute
+   * @return An immutable RageJsonResponse instance
+   */
+  public static RageJsonResponse of(boolean requestSuccessful, Optional<String> errorMessage, Optional<String> rageUrl, Optional<String> message) {
+    return new RageJsonResponse(requestSuccessful, errorMessage, rageUrl, message);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractRageJsonResponse} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable RageJsonResponse instance
+   */
+  static RageJsonResponse copyOf(AbstractRageJsonResponse instance) {
+    if (instance instanceof RageJsonResponse) {
+      return (RageJsonResponse) instance;
+    }
+    return RageJsonResponse.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link RageJsonResponse RageJsonResponse}.
+   * @return A new RageJsonResponse builder
+   */
+  public static RageJsonResponse.Builder builder() {
+    return new RageJsonResponse.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link RageJsonResponse RageJsonResponse}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_REQUEST_SUCCESSFUL = 0x1L;
+    private long initBits = 0x1L;
+
+    private boolean requestSuccessful;
+    private @Nullable String errorMessage;
+    private @Nullable String rageUrl;
+    private @Nullable String message;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code RageJsonResponse} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(RageJsonResponse instance) {
+      return from((AbstractRageJsonResponse) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractRageJsonResponse} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractRageJsonResponse instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setRequestSuccessful(instance.getRequestSuccessful());
+      Optional<String> errorMessageOptional = instance.getErrorMessage();
+      if (errorMessageOptional.isPresent()) {
+        setErrorMessage(errorMessageOptional);
+      }
+      Optional<String> rageUrlOptional = instance.getRageUrl();
+      if (rageUrlOptional.isPresent()) {
+        setRageUrl(rageUrlOptional);
+      }
+      Optional<String> messageOptional = instance.getMessage();
+      if (messageOptional.isPresent()) {
+        setMessage(messageOptional);
+      }
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractRageJsonResponse#getRequestSuccessful() requestSuccessful} attribute.
+     * @param requestSuccessful The value for requestSuccessful 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setRequestSuccessful(boolean requestSuccessful) {
+      this.requestSuccessful = requestSuccessful;
+      initBits &= ~INIT_BIT_REQUEST_SUCCESSFUL;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractRageJsonResponse#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setErrorMessage(String errorMessage) {
+      this.errorMessage = Preconditions.checkNotNull(errorMessage, "errorMessage");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractRageJsonResponse#getErrorMessage() errorMessage} to errorMessage.
+     * @param errorMessage The value for errorMessage
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setErrorMessage(Optional<String> errorMessage) {
+      this.errorMessage = errorMessage.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractRageJsonResponse#getRageUrl() rageUrl} to rageUrl.
+     * @param rageUrl The value for rageUrl
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRageUrl(String rageUrl) {
+      this.rageUrl = Preconditions.checkNotNull(rageUrl, "rageUrl");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractRageJsonResponse#getRageUrl() rageUrl} to rageUrl.
+     * @param rageUrl The value for rageUrl
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setRageUrl(Optional<String> rageUrl) {
+      this.rageUrl = rageUrl.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractRageJsonResponse#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setMessage(String message) {
+      this.message = Preconditions.checkNotNull(message, "message");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link AbstractRageJsonResponse#getMessage() message} to message.
+     * @param message The value for message
+     * @return {@code this} builder for use in a chained invocation
+     */
+    @JsonProperty
+    public final Builder setMessage(Optional<String> message) {
+      this.message = message.orElse(null);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link RageJsonResponse RageJsonResponse}.
+     * @return An immutable instance of RageJsonResponse
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public RageJsonResponse build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new RageJsonResponse(null, requestSuccessful, errorMessage, rageUrl, message);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_REQUEST_SUCCESSFUL) != 0) attributes.add("requestSuccessful");
+      return "Cannot build RageJsonResponse, some of required attributes are not set " + attributes;
+    }
+  }
+}
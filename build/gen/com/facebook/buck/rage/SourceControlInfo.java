@@ -0,0 +1,600 @@
+package com.facebook.buck.rage;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Optional;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link VcsInfoCollector.AbstractSourceControlInfo}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code SourceControlInfo.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "VcsInfoCollector.AbstractSourceControlInfo"})
+@Immutable
+public final class SourceControlInfo
+    implements VcsInfoCollector.AbstractSourceControlInfo {
+  private final String currentRevisionId;
+  private final ImmutableSet<String> basedOffWhichTracked;
+  private final @Nullable String revisionIdOffTracked;
+  private final @Nullable Long revisionTimestampOffTracked;
+  private final @Nullable String diff;
+  private final ImmutableSet<String> dirtyFiles;
+
+  private SourceControlInfo(
+      String currentRevisionId,
+      ImmutableSet<String> basedOffWhichTracked,
+      @Nullable String revisionIdOffTracked,
+      @Nullable Long revisionTimestampOffTracked,
+      @Nullable String diff,
+      ImmutableSet<String> dirtyFiles) {
+    this.currentRevisionId = currentRevisionId;
+    this.basedOffWhichTracked = basedOffWhichTracked;
+    this.revisionIdOffTracked = revisionIdOffTracked;
+    this.revisionTimestampOffTracked = revisionTimestampOffTracked;
+    this.diff = diff;
+    this.dirtyFiles = dirtyFiles;
+  }
+
+  /**
+   * @return The value of the {@code currentRevisionId} attribute
+   */
+  @Override
+  public String getCurrentRevisionId() {
+    return currentRevisionId;
+  }
+
+  /**
+   * @return The value of the {@code basedOffWhichTracked} attribute
+   */
+  @Override
+  public ImmutableSet<String> getBasedOffWhichTracked() {
+    return basedOffWhichTracked;
+  }
+
+  /**
+   * @return The value of the {@code revisionIdOffTracked} attribute
+   */
+  @Override
+  public Optional<String> getRevisionIdOffTracked() {
+    return Optional.ofNullable(revisionIdOffTracked);
+  }
+
+  /**
+   * @return The value of the {@code revisionTimestampOffTracked} attribute
+   */
+  @Override
+  public Optional<Long> getRevisionTimestampOffTracked() {
+    return Optional.ofNullable(revisionTimestampOffTracked);
+  }
+
+  /**
+   * @return The value of the {@code diff} attribute
+   */
+  @Override
+  public Optional<String> getDiff() {
+    return Optional.ofNullable(diff);
+  }
+
+  /**
+   * @return The value of the {@code dirtyFiles} attribute
+   */
+  @Override
+  public ImmutableSet<String> getDirtyFiles() {
+    return dirtyFiles;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link VcsInfoCollector.AbstractSourceControlInfo#getCurrentRevisionId() currentRevisionId} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for currentRevisionId
+   * @return A modified copy of the {@code this} object
+   */
+  public final SourceControlInfo withCurrentRevisionId(String value) {
+    if (this.currentRevisionId.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "currentRevisionId");
+    return new SourceControlInfo(
+        newValue,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VcsInfoCollector.AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withBasedOffWhichTracked(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        newValue,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VcsInfoCollector.AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of basedOffWhichTracked elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withBasedOffWhichTracked(Iterable<String> elements) {
+    if (this.basedOffWhichTracked == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        newValue,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionIdOffTracked() revisionIdOffTracked} attribute.
+   * @param value The value for revisionIdOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionIdOffTracked(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "revisionIdOffTracked");
+    if (Objects.equal(this.revisionIdOffTracked, newValue)) return this;
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        newValue,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionIdOffTracked() revisionIdOffTracked} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for revisionIdOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionIdOffTracked(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.revisionIdOffTracked, value)) return this;
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        value,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionTimestampOffTracked() revisionTimestampOffTracked} attribute.
+   * @param value The value for revisionTimestampOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionTimestampOffTracked(long value) {
+    @Nullable Long newValue = value;
+    if (Objects.equal(this.revisionTimestampOffTracked, newValue)) return this;
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        newValue,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionTimestampOffTracked() revisionTimestampOffTracked} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for revisionTimestampOffTracked
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withRevisionTimestampOffTracked(Optional<Long> optional) {
+    @Nullable Long value = optional.orElse(null);
+    if (Objects.equal(this.revisionTimestampOffTracked, value)) return this;
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        value,
+        this.diff,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting a <i>present</i> value for the optional {@link VcsInfoCollector.AbstractSourceControlInfo#getDiff() diff} attribute.
+   * @param value The value for diff
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDiff(String value) {
+    @Nullable String newValue = Preconditions.checkNotNull(value, "diff");
+    if (Objects.equal(this.diff, newValue)) return this;
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        newValue,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object by setting an optional value for the {@link VcsInfoCollector.AbstractSourceControlInfo#getDiff() diff} attribute.
+   * An equality check is used on inner nullable value to prevent copying of the same value by returning {@code this}.
+   * @param optional A value for diff
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDiff(Optional<String> optional) {
+    @Nullable String value = optional.orElse(null);
+    if (Objects.equal(this.diff, value)) return this;
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        value,
+        this.dirtyFiles);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VcsInfoCollector.AbstractSourceControlInfo#getDirtyFiles() dirtyFiles}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDirtyFiles(String... elements) {
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link VcsInfoCollector.AbstractSourceControlInfo#getDirtyFiles() dirtyFiles}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of dirtyFiles elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final SourceControlInfo withDirtyFiles(Iterable<String> elements) {
+    if (this.dirtyFiles == elements) return this;
+    ImmutableSet<String> newValue = ImmutableSet.copyOf(elements);
+    return new SourceControlInfo(
+        this.currentRevisionId,
+        this.basedOffWhichTracked,
+        this.revisionIdOffTracked,
+        this.revisionTimestampOffTracked,
+        this.diff,
+        newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code SourceControlInfo} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof SourceControlInfo
+        && equalTo((SourceControlInfo) another);
+  }
+
+  private boolean equalTo(SourceControlInfo another) {
+    return currentRevisionId.equals(another.currentRevisionId)
+        && basedOffWhichTracked.equals(another.basedOffWhichTracked)
+        && Objects.equal(revisionIdOffTracked, another.revisionIdOffTracked)
+        && Objects.equal(revisionTimestampOffTracked, another.revisionTimestampOffTracked)
+        && Objects.equal(diff, another.diff)
+        && dirtyFiles.equals(another.dirtyFiles);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code currentRevisionId}, {@code basedOffWhichTracked}, {@code revisionIdOffTracked}, {@code revisionTimestampOffTracked}, {@code diff}, {@code dirtyFiles}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + currentRevisionId.hashCode();
+    h = h * 17 + basedOffWhichTracked.hashCode();
+    h = h * 17 + Objects.hashCode(revisionIdOffTracked);
+    h = h * 17 + Objects.hashCode(revisionTimestampOffTracked);
+    h = h * 17 + Objects.hashCode(diff);
+    h = h * 17 + dirtyFiles.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code SourceControlInfo} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("SourceControlInfo")
+        .omitNullValues()
+        .add("currentRevisionId", currentRevisionId)
+        .add("basedOffWhichTracked", basedOffWhichTracked)
+        .add("revisionIdOffTracked", revisionIdOffTracked)
+        .add("revisionTimestampOffTracked", revisionTimestampOffTracked)
+        .add("diff", diff)
+        .add("dirtyFiles", dirtyFiles)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link VcsInfoCollector.AbstractSourceControlInfo} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable SourceControlInfo instance
+   */
+  static SourceControlInfo copyOf(VcsInfoCollector.AbstractSourceControlInfo instance) {
+    if (instance instanceof SourceControlInfo) {
+      return (SourceControlInfo) instance;
+    }
+    return SourceControlInfo.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link SourceControlInfo SourceControlInfo}.
+   * @return A new SourceControlInfo builder
+   */
+  public static SourceControlInfo.Builder builder() {
+    return new SourceControlInfo.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link SourceControlInfo SourceControlInfo}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_CURRENT_REVISION_ID = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String currentRevisionId;
+    private ImmutableSet.Builder<String> basedOffWhichTracked = ImmutableSet.builder();
+    private @Nullable String revisionIdOffTracked;
+    private @Nullable Long revisionTimestampOffTracked;
+    private @Nullable String diff;
+    private ImmutableSet.Builder<String> dirtyFiles = ImmutableSet.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code SourceControlInfo} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(SourceControlInfo instance) {
+      return from((VcsInfoCollector.AbstractSourceControlInfo) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractSourceControlInfo} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(VcsInfoCollector.AbstractSourceControlInfo instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setCurrentRevisionId(instance.getCurrentRevisionId());
+      addAllBasedOffWhichTracked(instance.getBasedOffWhichTracked());
+      Optional<String> revisionIdOffTrackedOptional = instance.getRevisionIdOffTracked();
+      if (revisionIdOffTrackedOptional.isPresent()) {
+        setRevisionIdOffTracked(revisionIdOffTrackedOptional);
+      }
+      Optional<Long> revisionTimestampOffTrackedOptional = instance.getRevisionTimestampOffTracked();
+      if (revisionTimestampOffTrackedOptional.isPresent()) {
+        setRevisionTimestampOffTracked(revisionTimestampOffTrackedOptional);
+      }
+      Optional<String> diffOptional = instance.getDiff();
+      if (diffOptional.isPresent()) {
+        setDiff(diffOptional);
+      }
+      addAllDirtyFiles(instance.getDirtyFiles());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link VcsInfoCollector.AbstractSourceControlInfo#getCurrentRevisionId() currentRevisionId} attribute.
+     * @param currentRevisionId The value for currentRevisionId 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setCurrentRevisionId(String currentRevisionId) {
+      this.currentRevisionId = Preconditions.checkNotNull(currentRevisionId, "currentRevisionId");
+      initBits &= ~INIT_BIT_CURRENT_REVISION_ID;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link VcsInfoCollector.AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked} set.
+     * @param element A basedOffWhichTracked element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBasedOffWhichTracked(String element) {
+      this.basedOffWhichTracked.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link VcsInfoCollector.AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked} set.
+     * @param elements An array of basedOffWhichTracked elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addBasedOffWhichTracked(String... elements) {
+      this.basedOffWhichTracked.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link VcsInfoCollector.AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked} set.
+     * @param elements An iterable of basedOffWhichTracked elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setBasedOffWhichTracked(Iterable<String> elements) {
+      this.basedOffWhichTracked = ImmutableSet.builder();
+      return addAllBasedOffWhichTracked(elements);
+    }
+
+    /**
+     * Adds elements to {@link VcsInfoCollector.AbstractSourceControlInfo#getBasedOffWhichTracked() basedOffWhichTracked} set.
+     * @param elements An iterable of basedOffWhichTracked elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllBasedOffWhichTracked(Iterable<String> elements) {
+      this.basedOffWhichTracked.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionIdOffTracked() revisionIdOffTracked} to revisionIdOffTracked.
+     * @param revisionIdOffTracked The value for revisionIdOffTracked
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRevisionIdOffTracked(String revisionIdOffTracked) {
+      this.revisionIdOffTracked = Preconditions.checkNotNull(revisionIdOffTracked, "revisionIdOffTracked");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionIdOffTracked() revisionIdOffTracked} to revisionIdOffTracked.
+     * @param revisionIdOffTracked The value for revisionIdOffTracked
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRevisionIdOffTracked(Optional<String> revisionIdOffTracked) {
+      this.revisionIdOffTracked = revisionIdOffTracked.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionTimestampOffTracked() revisionTimestampOffTracked} to revisionTimestampOffTracked.
+     * @param revisionTimestampOffTracked The value for revisionTimestampOffTracked
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setRevisionTimestampOffTracked(long revisionTimestampOffTracked) {
+      this.revisionTimestampOffTracked = revisionTimestampOffTracked;
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link VcsInfoCollector.AbstractSourceControlInfo#getRevisionTimestampOffTracked() revisionTimestampOffTracked} to revisionTimestampOffTracked.
+     * @param revisionTimestampOffTracked The value for revisionTimestampOffTracked
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setRevisionTimestampOffTracked(Optional<Long> revisionTimestampOffTracked) {
+      this.revisionTimestampOffTracked = revisionTimestampOffTracked.orElse(null);
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link VcsInfoCollector.AbstractSourceControlInfo#getDiff() diff} to diff.
+     * @param diff The value for diff
+     * @return {@code this} builder for chained invocation
+     */
+    public final Builder setDiff(String diff) {
+      this.diff = Preconditions.checkNotNull(diff, "diff");
+      return this;
+    }
+
+    /**
+     * Initializes the optional value {@link VcsInfoCollector.AbstractSourceControlInfo#getDiff() diff} to diff.
+     * @param diff The value for diff
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDiff(Optional<String> diff) {
+      this.diff = diff.orElse(null);
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link VcsInfoCollector.AbstractSourceControlInfo#getDirtyFiles() dirtyFiles} set.
+     * @param element A dirtyFiles element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDirtyFiles(String element) {
+      this.dirtyFiles.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link VcsInfoCollector.AbstractSourceControlInfo#getDirtyFiles() dirtyFiles} set.
+     * @param elements An array of dirtyFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addDirtyFiles(String... elements) {
+      this.dirtyFiles.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link VcsInfoCollector.AbstractSourceControlInfo#getDirtyFiles() dirtyFiles} set.
+     * @param elements An iterable of dirtyFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setDirtyFiles(Iterable<String> elements) {
+      this.dirtyFiles = ImmutableSet.builder();
+      return addAllDirtyFiles(elements);
+    }
+
+    /**
+     * Adds elements to {@link VcsInfoCollector.AbstractSourceControlInfo#getDirtyFiles() dirtyFiles} set.
+     * @param elements An iterable of dirtyFiles elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllDirtyFiles(Iterable<String> elements) {
+      this.dirtyFiles.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link SourceControlInfo SourceControlInfo}.
+     * @return An immutable instance of SourceControlInfo
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public SourceControlInfo build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new SourceControlInfo(
+          currentRevisionId,
+          basedOffWhichTracked.build(),
+          revisionIdOffTracked,
+          revisionTimestampOffTracked,
+          diff,
+          dirtyFiles.build());
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_CURRENT_REVISION_ID) != 0) attributes.add("currentRevisionId");
+      return "Cannot build SourceControlInfo, some of required attributes are not set " + attributes;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.facebook.buck.rules;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link AbstractLabel}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code Label.builder()}.
+ * Use the static factory method to create immutable instances:
+ * {@code Label.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractLabel"})
+@Immutable
+public final class Label extends AbstractLabel {
+  private final String labelString;
+
+  private Label(String labelString) {
+    this.labelString = Preconditions.checkNotNull(labelString, "labelString");
+  }
+
+  private Label(Label original, String labelString) {
+    this.labelString = labelString;
+  }
+
+  /**
+   * @return The value of the {@code labelString} attribute
+   */
+  @Override
+  public String getLabelString() {
+    return labelString;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractLabel#getLabelString() labelString} attribute.
+   * An equals check used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for labelString
+   * @return A modified copy of the {@code this} object
+   */
+  public final Label withLabelString(String value) {
+    if (this.labelString.equals(value)) return this;
+    String newValue = Preconditions.checkNotNull(value, "labelString");
+    return new Label(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code Label} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof Label
+        && equalTo((Label) another);
+  }
+
+  private boolean equalTo(Label another) {
+    return labelString.equals(another.labelString);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code labelString}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + labelString.hashCode();
+    return h;
+  }
+
+  /**
+   * Construct a new immutable {@code Label} instance.
+   * @param labelString The value for the {@code labelString} attribute
+   * @return An immutable Label instance
+   */
+  public static Label of(String labelString) {
+    return new Label(labelString);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractLabel} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable Label instance
+   */
+  static Label copyOf(AbstractLabel instance) {
+    if (instance instanceof Label) {
+      return (Label) instance;
+    }
+    return Label.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link Label Label}.
+   * @return A new Label builder
+   */
+  public static Label.Builder builder() {
+    return new Label.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link Label Label}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long INIT_BIT_LABEL_STRING = 0x1L;
+    private long initBits = 0x1L;
+
+    private @Nullable String labelString;
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code Label} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(Label instance) {
+      return from((AbstractLabel) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractLabel} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(AbstractLabel instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setLabelString(instance.getLabelString());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link AbstractLabel#getLabelString() labelString} attribute.
+     * @param labelString The value for labelString 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setLabelString(String labelString) {
+      this.labelString = Preconditions.checkNotNull(labelString, "labelString");
+      initBits &= ~INIT_BIT_LABEL_STRING;
+      return this;
+    }
+
+    /**
+     * Builds a new {@link Label Label}.
+     * @return An immutable instance of Label
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public Label build() {
+      if (initBits != 0) {
+        throw new IllegalStateException(formatRequiredAttributesMessage());
+      }
+      return new Label(null, labelString);
+    }
+
+    private String formatRequiredAttributesMessage() {
+      List<String> attributes = Lists.newArrayList();
+      if ((initBits & INIT_BIT_LABEL_STRING) != 0) attributes.add("labelString");
+      return "Cannot build Label, some of required attributes are not set " + attributes;
+    }
+  }
+}
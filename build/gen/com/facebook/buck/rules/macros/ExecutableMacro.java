@@ -0,0 +1,112 @@
+package com.facebook.buck.rules.macros;
+
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractExecutableMacro}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ExecutableMacro.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractExecutableMacro"})
+@Immutable
+public final class ExecutableMacro extends AbstractExecutableMacro {
+  private final BuildTarget target;
+
+  private ExecutableMacro(BuildTarget target) {
+    this.target = Preconditions.checkNotNull(target, "target");
+  }
+
+  private ExecutableMacro(ExecutableMacro original, BuildTarget target) {
+    this.target = target;
+  }
+
+  /**
+   * @return The value of the {@code target} attribute
+   */
+  @Override
+  public BuildTarget getTarget() {
+    return target;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractExecutableMacro#getTarget() target} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for target
+   * @return A modified copy of the {@code this} object
+   */
+  public final ExecutableMacro withTarget(BuildTarget value) {
+    if (this.target == value) return this;
+    BuildTarget newValue = Preconditions.checkNotNull(value, "target");
+    return new ExecutableMacro(this, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ExecutableMacro} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ExecutableMacro
+        && equalTo((ExecutableMacro) another);
+  }
+
+  private boolean equalTo(ExecutableMacro another) {
+    return target.equals(another.target);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code target}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + target.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ExecutableMacro} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ExecutableMacro")
+        .omitNullValues()
+        .add("target", target)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ExecutableMacro} instance.
+   * @param target The value for the {@code target} attribute
+   * @return An immutable ExecutableMacro instance
+   */
+  public static ExecutableMacro of(BuildTarget target) {
+    return new ExecutableMacro(target);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractExecutableMacro} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ExecutableMacro instance
+   */
+  static ExecutableMacro copyOf(AbstractExecutableMacro instance) {
+    if (instance instanceof ExecutableMacro) {
+      return (ExecutableMacro) instance;
+    }
+    return ExecutableMacro.of(instance.getTarget());
+  }
+}
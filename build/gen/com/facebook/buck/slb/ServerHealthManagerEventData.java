@@ -0,0 +1,263 @@
+package com.facebook.buck.slb;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Booleans;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Immutable implementation of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData}.
+ * <p>
+ * Use the builder to create immutable instances:
+ * {@code ServerHealthManagerEventData.builder()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "ServerHealthManagerEvent.AbstractServerHealthManagerEventData"})
+@Immutable
+public final class ServerHealthManagerEventData
+    extends ServerHealthManagerEvent.AbstractServerHealthManagerEventData {
+  private final boolean noHealthyServersAvailable;
+  private final ImmutableList<PerServerData> perServerData;
+
+  private ServerHealthManagerEventData(ServerHealthManagerEventData.Builder builder) {
+    this.perServerData = builder.perServerData.build();
+    this.noHealthyServersAvailable = builder.noHealthyServersAvailableIsSet()
+        ? builder.noHealthyServersAvailable
+        : super.noHealthyServersAvailable();
+  }
+
+  private ServerHealthManagerEventData(
+      boolean noHealthyServersAvailable,
+      ImmutableList<PerServerData> perServerData) {
+    this.noHealthyServersAvailable = noHealthyServersAvailable;
+    this.perServerData = perServerData;
+  }
+
+  /**
+   * @return The value of the {@code noHealthyServersAvailable} attribute
+   */
+  @Override
+  public boolean noHealthyServersAvailable() {
+    return noHealthyServersAvailable;
+  }
+
+  /**
+   * @return The value of the {@code perServerData} attribute
+   */
+  @Override
+  public ImmutableList<PerServerData> getPerServerData() {
+    return perServerData;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for noHealthyServersAvailable
+   * @return A modified copy of the {@code this} object
+   */
+  public final ServerHealthManagerEventData withNoHealthyServersAvailable(boolean value) {
+    if (this.noHealthyServersAvailable == value) return this;
+    return new ServerHealthManagerEventData(value, this.perServerData);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData}.
+   * @param elements The elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ServerHealthManagerEventData withPerServerData(PerServerData... elements) {
+    ImmutableList<PerServerData> newValue = ImmutableList.copyOf(elements);
+    return new ServerHealthManagerEventData(this.noHealthyServersAvailable, newValue);
+  }
+
+  /**
+   * Copy the current immutable object with elements that replace the content of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData}.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param elements An iterable of perServerData elements to set
+   * @return A modified copy of {@code this} object
+   */
+  public final ServerHealthManagerEventData withPerServerData(Iterable<? extends PerServerData> elements) {
+    if (this.perServerData == elements) return this;
+    ImmutableList<PerServerData> newValue = ImmutableList.copyOf(elements);
+    return new ServerHealthManagerEventData(this.noHealthyServersAvailable, newValue);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ServerHealthManagerEventData} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ServerHealthManagerEventData
+        && equalTo((ServerHealthManagerEventData) another);
+  }
+
+  private boolean equalTo(ServerHealthManagerEventData another) {
+    return noHealthyServersAvailable == another.noHealthyServersAvailable
+        && perServerData.equals(another.perServerData);
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code noHealthyServersAvailable}, {@code perServerData}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + Booleans.hashCode(noHealthyServersAvailable);
+    h = h * 17 + perServerData.hashCode();
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ServerHealthManagerEventData} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ServerHealthManagerEventData")
+        .omitNullValues()
+        .add("noHealthyServersAvailable", noHealthyServersAvailable)
+        .add("perServerData", perServerData)
+        .toString();
+  }
+
+  /**
+   * Creates an immutable copy of a {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ServerHealthManagerEventData instance
+   */
+  static ServerHealthManagerEventData copyOf(ServerHealthManagerEvent.AbstractServerHealthManagerEventData instance) {
+    if (instance instanceof ServerHealthManagerEventData) {
+      return (ServerHealthManagerEventData) instance;
+    }
+    return ServerHealthManagerEventData.builder()
+        .from(instance)
+        .build();
+  }
+
+  /**
+   * Creates a builder for {@link ServerHealthManagerEventData ServerHealthManagerEventData}.
+   * @return A new ServerHealthManagerEventData builder
+   */
+  public static ServerHealthManagerEventData.Builder builder() {
+    return new ServerHealthManagerEventData.Builder();
+  }
+
+  /**
+   * Builds instances of type {@link ServerHealthManagerEventData ServerHealthManagerEventData}.
+   * Initialize attributes and then invoke the {@link #build()} method to create an
+   * immutable instance.
+   * <p><em>{@code Builder} is not thread-safe and generally should not be stored in a field or collection,
+   * but instead used immediately to create instances.</em>
+   */
+  @NotThreadSafe
+  public static final class Builder {
+    private static final long OPT_BIT_NO_HEALTHY_SERVERS_AVAILABLE = 0x1L;
+    private long optBits;
+
+    private boolean noHealthyServersAvailable;
+    private ImmutableList.Builder<PerServerData> perServerData = ImmutableList.builder();
+
+    private Builder() {
+    }
+
+    /**
+     * Fill a builder with attribute values from the provided {@code ServerHealthManagerEventData} instance.
+     * Regular attribute values will be replaced with those from the given instance.
+     * Absent optional values will not replace present values.
+     * Collection elements and entries will be added, not replaced.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder from(ServerHealthManagerEventData instance) {
+      return from((ServerHealthManagerEvent.AbstractServerHealthManagerEventData) instance);
+    }
+
+    /**
+     * Copy abstract value type {@code AbstractServerHealthManagerEventData} instance into builder.
+     * @param instance The instance from which to copy values
+     * @return {@code this} builder for use in a chained invocation
+     */
+    final Builder from(ServerHealthManagerEvent.AbstractServerHealthManagerEventData instance) {
+      Preconditions.checkNotNull(instance, "instance");
+      setNoHealthyServersAvailable(instance.noHealthyServersAvailable());
+      addAllPerServerData(instance.getPerServerData());
+      return this;
+    }
+
+    /**
+     * Initializes the value for the {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable} attribute.
+     * <p><em>If not set, this attribute will have a default value as returned by the initializer of {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#noHealthyServersAvailable() noHealthyServersAvailable}.</em>
+     * @param noHealthyServersAvailable The value for noHealthyServersAvailable 
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setNoHealthyServersAvailable(boolean noHealthyServersAvailable) {
+      this.noHealthyServersAvailable = noHealthyServersAvailable;
+      optBits |= OPT_BIT_NO_HEALTHY_SERVERS_AVAILABLE;
+      return this;
+    }
+
+    /**
+     * Adds one element to {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param element A perServerData element
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPerServerData(PerServerData element) {
+      this.perServerData.add(element);
+      return this;
+    }
+
+    /**
+     * Adds elements to {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements An array of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addPerServerData(PerServerData... elements) {
+      this.perServerData.add(elements);
+      return this;
+    }
+
+    /**
+     * Sets or replaces all elements for {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements An iterable of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder setPerServerData(Iterable<? extends PerServerData> elements) {
+      this.perServerData = ImmutableList.builder();
+      return addAllPerServerData(elements);
+    }
+
+    /**
+     * Adds elements to {@link ServerHealthManagerEvent.AbstractServerHealthManagerEventData#getPerServerData() perServerData} list.
+     * @param elements An iterable of perServerData elements
+     * @return {@code this} builder for use in a chained invocation
+     */
+    public final Builder addAllPerServerData(Iterable<? extends PerServerData> elements) {
+      this.perServerData.addAll(elements);
+      return this;
+    }
+
+    /**
+     * Builds a new {@link ServerHealthManagerEventData ServerHealthManagerEventData}.
+     * @return An immutable instance of ServerHealthManagerEventData
+     * @throws java.lang.IllegalStateException if any required attributes are missing
+     */
+    public ServerHealthManagerEventData build() {
+      return new ServerHealthManagerEventData(this);
+    }
+
+    private boolean noHealthyServersAvailableIsSet() {
+      return (optBits & OPT_BIT_NO_HEALTHY_SERVERS_AVAILABLE) != 0;
+    }
+  }
+}
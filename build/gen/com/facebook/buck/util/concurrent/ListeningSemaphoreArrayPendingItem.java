@@ -0,0 +1,202 @@
+package com.facebook.buck.util.concurrent;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.SettableFuture;
+import javax.annotation.Generated;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link AbstractListeningSemaphoreArrayPendingItem}.
+ * <p>
+ * Use the static factory method to create immutable instances:
+ * {@code ListeningSemaphoreArrayPendingItem.of()}.
+ */
+@SuppressWarnings({"all"})
+@ParametersAreNonnullByDefault
+@Generated({"Immutables.generator", "AbstractListeningSemaphoreArrayPendingItem"})
+@Immutable
+public final class ListeningSemaphoreArrayPendingItem
+    extends AbstractListeningSemaphoreArrayPendingItem {
+  private final SettableFuture<Void> future;
+  private final ResourceAmounts resources;
+  private final long priority;
+  private final long sequenceNumber;
+
+  private ListeningSemaphoreArrayPendingItem(
+      SettableFuture<Void> future,
+      ResourceAmounts resources,
+      long priority,
+      long sequenceNumber) {
+    this.future = Preconditions.checkNotNull(future, "future");
+    this.resources = Preconditions.checkNotNull(resources, "resources");
+    this.priority = priority;
+    this.sequenceNumber = sequenceNumber;
+  }
+
+  private ListeningSemaphoreArrayPendingItem(
+      ListeningSemaphoreArrayPendingItem original,
+      SettableFuture<Void> future,
+      ResourceAmounts resources,
+      long priority,
+      long sequenceNumber) {
+    this.future = future;
+    this.resources = resources;
+    this.priority = priority;
+    this.sequenceNumber = sequenceNumber;
+  }
+
+  /**
+   * @return The value of the {@code future} attribute
+   */
+  @Override
+  public SettableFuture<Void> getFuture() {
+    return future;
+  }
+
+  /**
+   * @return The value of the {@code resources} attribute
+   */
+  @Override
+  public ResourceAmounts getResources() {
+    return resources;
+  }
+
+  /**
+   * @return The value of the {@code priority} attribute
+   */
+  @Override
+  public long getPriority() {
+    return priority;
+  }
+
+  /**
+   *Orders the requests with the same priority. 
+   */
+  @Override
+  public long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getFuture() future} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for future
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withFuture(SettableFuture<Void> value) {
+    if (this.future == value) return this;
+    SettableFuture<Void> newValue = Preconditions.checkNotNull(value, "future");
+    return new ListeningSemaphoreArrayPendingItem(this, newValue, this.resources, this.priority, this.sequenceNumber);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getResources() resources} attribute.
+   * A shallow reference equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for resources
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withResources(ResourceAmounts value) {
+    if (this.resources == value) return this;
+    ResourceAmounts newValue = Preconditions.checkNotNull(value, "resources");
+    return new ListeningSemaphoreArrayPendingItem(this, this.future, newValue, this.priority, this.sequenceNumber);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getPriority() priority} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for priority
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withPriority(long value) {
+    if (this.priority == value) return this;
+    return new ListeningSemaphoreArrayPendingItem(this, this.future, this.resources, value, this.sequenceNumber);
+  }
+
+  /**
+   * Copy the current immutable object by setting a value for the {@link AbstractListeningSemaphoreArrayPendingItem#getSequenceNumber() sequenceNumber} attribute.
+   * A value equality check is used to prevent copying of the same value by returning {@code this}.
+   * @param value A new value for sequenceNumber
+   * @return A modified copy of the {@code this} object
+   */
+  public final ListeningSemaphoreArrayPendingItem withSequenceNumber(long value) {
+    if (this.sequenceNumber == value) return this;
+    return new ListeningSemaphoreArrayPendingItem(this, this.future, this.resources, this.priority, value);
+  }
+
+  /**
+   * This instance is equal to all instances of {@code ListeningSemaphoreArrayPendingItem} that have equal attribute values.
+   * @return {@code true} if {@code this} is equal to {@code another} instance
+   */
+  @Override
+  public boolean equals(@Nullable Object another) {
+    if (this == another) return true;
+    return another instanceof ListeningSemaphoreArrayPendingItem
+        && equalTo((ListeningSemaphoreArrayPendingItem) another);
+  }
+
+  private boolean equalTo(ListeningSemaphoreArrayPendingItem another) {
+    return future.equals(another.future)
+        && resources.equals(another.resources)
+        && priority == another.priority
+        && sequenceNumber == another.sequenceNumber;
+  }
+
+  /**
+   * Computes a hash code from attributes: {@code future}, {@code resources}, {@code priority}, {@code sequenceNumber}.
+   * @return hashCode value
+   */
+  @Override
+  public int hashCode() {
+    int h = 31;
+    h = h * 17 + future.hashCode();
+    h = h * 17 + resources.hashCode();
+    h = h * 17 + Longs.hashCode(priority);
+    h = h * 17 + Longs.hashCode(sequenceNumber);
+    return h;
+  }
+
+  /**
+   * Prints the immutable value {@code ListeningSemaphoreArrayPendingItem} with attribute values.
+   * @return A string representation of the value
+   */
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper("ListeningSemaphoreArrayPendingItem")
+        .omitNullValues()
+        .add("future", future)
+        .add("resources", resources)
+        .add("priority", priority)
+        .add("sequenceNumber", sequenceNumber)
+        .toString();
+  }
+
+  /**
+   * Construct a new immutable {@code ListeningSemaphoreArrayPendingItem} instance.
+   * @param future The value for the {@code future} attribute
+   * @param resources The value for the {@code resources} attribute
+   * @param priority The value for the {@code priority} attribute
+   * @param sequenceNumber The value for the {@code sequenceNumber} attribute
+   * @return An immutable ListeningSemaphoreArrayPendingItem instance
+   */
+  public static ListeningSemaphoreArrayPendingItem of(SettableFuture<Void> future, ResourceAmounts resources, long priority, long sequenceNumber) {
+    return new ListeningSemaphoreArrayPendingItem(future, resources, priority, sequenceNumber);
+  }
+
+  /**
+   * Creates an immutable copy of a {@link AbstractListeningSemaphoreArrayPendingItem} value.
+   * Uses accessors to get values to initialize the new immutable instance.
+   * If an instance is already immutable, it is returned as is.
+   * @param instance The instance to copy
+   * @return A copied immutable ListeningSemaphoreArrayPendingItem instance
+   */
+  static ListeningSemaphoreArrayPendingItem copyOf(AbstractListeningSemaphoreArrayPendingItem instance) {
+    if (instance instanceof ListeningSemaphoreArrayPendingItem) {
+      return (ListeningSemaphoreArrayPendingItem) instance;
+    }
+    return ListeningSemaphoreArrayPendingItem.of(instance.getFuture(), instance.getResources(), instance.getPriority(), instance.getSequenceNumber());
+  }
+}
@@ -39,6 +39,7 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("BuildJobStateTargetGraph");
 
   private static final org.apache.thrift.protocol.TField NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("nodes", org.apache.thrift.protocol.TType.LIST, (short)1);
+  private static final org.apache.thrift.protocol.TField COMPACT_NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("compactNodes", org.apache.thrift.protocol.TType.STRING, (short)2);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -47,10 +48,12 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
   }
 
   public List<BuildJobStateTargetNode> nodes; // optional
+  public ByteBuffer compactNodes; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-    NODES((short)1, "nodes");
+    NODES((short)1, "nodes"),
+    COMPACT_NODES((short)2, "compactNodes");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -67,6 +70,8 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
       switch(fieldId) {
         case 1: // NODES
           return NODES;
+        case 2: // COMPACT_NODES
+          return COMPACT_NODES;
         default:
           return null;
       }
@@ -107,13 +112,15 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.NODES};
+  private static final _Fields optionals[] = {_Fields.NODES,_Fields.COMPACT_NODES};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
     tmpMap.put(_Fields.NODES, new org.apache.thrift.meta_data.FieldMetaData("nodes", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
             new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, BuildJobStateTargetNode.class))));
+    tmpMap.put(_Fields.COMPACT_NODES, new org.apache.thrift.meta_data.FieldMetaData("compactNodes", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(BuildJobStateTargetGraph.class, metaDataMap);
   }
@@ -132,6 +139,9 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
       }
       this.nodes = __this__nodes;
     }
+    if (other.isSetCompactNodes()) {
+      this.compactNodes = org.apache.thrift.TBaseHelper.copyBinary(other.compactNodes);
+    }
   }
 
   public BuildJobStateTargetGraph deepCopy() {
@@ -141,6 +151,7 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
   @Override
   public void clear() {
     this.nodes = null;
+    this.compactNodes = null;
   }
 
   public int getNodesSize() {
@@ -182,6 +193,40 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
     }
   }
 
+  public byte[] getCompactNodes() {
+    setCompactNodes(org.apache.thrift.TBaseHelper.rightSize(compactNodes));
+    return compactNodes == null ? null : compactNodes.array();
+  }
+
+  public ByteBuffer bufferForCompactNodes() {
+    return org.apache.thrift.TBaseHelper.copyBinary(compactNodes);
+  }
+
+  public BuildJobStateTargetGraph setCompactNodes(byte[] compactNodes) {
+    this.compactNodes = compactNodes == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(compactNodes, compactNodes.length));
+    return this;
+  }
+
+  public BuildJobStateTargetGraph setCompactNodes(ByteBuffer compactNodes) {
+    this.compactNodes = org.apache.thrift.TBaseHelper.copyBinary(compactNodes);
+    return this;
+  }
+
+  public void unsetCompactNodes() {
+    this.compactNodes = null;
+  }
+
+  /** Returns true if field compactNodes is set (has been assigned a value) and false otherwise */
+  public boolean isSetCompactNodes() {
+    return this.compactNodes != null;
+  }
+
+  public void setCompactNodesIsSet(boolean value) {
+    if (!value) {
+      this.compactNodes = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case NODES:
@@ -192,6 +237,14 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
       }
       break;
 
+    case COMPACT_NODES:
+      if (value == null) {
+        unsetCompactNodes();
+      } else {
+        setCompactNodes((ByteBuffer)value);
+      }
+      break;
+
     }
   }
 
@@ -200,6 +253,9 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
     case NODES:
       return getNodes();
 
+    case COMPACT_NODES:
+      return getCompactNodes();
+
     }
     throw new IllegalStateException();
   }
@@ -213,6 +269,8 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
     switch (field) {
     case NODES:
       return isSetNodes();
+    case COMPACT_NODES:
+      return isSetCompactNodes();
     }
     throw new IllegalStateException();
   }
@@ -239,6 +297,15 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
         return false;
     }
 
+    boolean this_present_compactNodes = true && this.isSetCompactNodes();
+    boolean that_present_compactNodes = true && that.isSetCompactNodes();
+    if (this_present_compactNodes || that_present_compactNodes) {
+      if (!(this_present_compactNodes && that_present_compactNodes))
+        return false;
+      if (!this.compactNodes.equals(that.compactNodes))
+        return false;
+    }
+
     return true;
   }
 
@@ -251,6 +318,11 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
     if (present_nodes)
       list.add(nodes);
 
+    boolean present_compactNodes = true && (isSetCompactNodes());
+    list.add(present_compactNodes);
+    if (present_compactNodes)
+      list.add(compactNodes);
+
     return list.hashCode();
   }
 
@@ -272,6 +344,16 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetCompactNodes()).compareTo(other.isSetCompactNodes());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetCompactNodes()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.compactNodes, other.compactNodes);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -301,6 +383,16 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
       }
       first = false;
     }
+    if (isSetCompactNodes()) {
+      if (!first) sb.append(", ");
+      sb.append("compactNodes:");
+      if (this.compactNodes == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.compactNodes, sb);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -363,6 +455,14 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 2: // COMPACT_NODES
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.compactNodes = iprot.readBinary();
+              struct.setCompactNodesIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -392,6 +492,13 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
           oprot.writeFieldEnd();
         }
       }
+      if (struct.compactNodes != null) {
+        if (struct.isSetCompactNodes()) {
+          oprot.writeFieldBegin(COMPACT_NODES_FIELD_DESC);
+          oprot.writeBinary(struct.compactNodes);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -413,7 +520,10 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
       if (struct.isSetNodes()) {
         optionals.set(0);
       }
-      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetCompactNodes()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
       if (struct.isSetNodes()) {
         {
           oprot.writeI32(struct.nodes.size());
@@ -423,12 +533,15 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
           }
         }
       }
+      if (struct.isSetCompactNodes()) {
+        oprot.writeBinary(struct.compactNodes);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, BuildJobStateTargetGraph struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(1);
+      BitSet incoming = iprot.readBitSet(2);
       if (incoming.get(0)) {
         {
           org.apache.thrift.protocol.TList _list57 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
@@ -443,6 +556,10 @@ public class BuildJobStateTargetGraph implements org.apache.thrift.TBase<BuildJo
         }
         struct.setNodesIsSet(true);
       }
+      if (incoming.get(1)) {
+        struct.compactNodes = iprot.readBinary();
+        struct.setCompactNodesIsSet(true);
+      }
     }
   }
 
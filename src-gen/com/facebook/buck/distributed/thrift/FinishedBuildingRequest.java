@@ -41,6 +41,7 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
   private static final org.apache.thrift.protocol.TField MINION_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("minionId", org.apache.thrift.protocol.TType.STRING, (short)1);
   private static final org.apache.thrift.protocol.TField BUILD_EXIT_CODE_FIELD_DESC = new org.apache.thrift.protocol.TField("buildExitCode", org.apache.thrift.protocol.TType.I32, (short)2);
   private static final org.apache.thrift.protocol.TField STAMPEDE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("stampedeId", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+  private static final org.apache.thrift.protocol.TField FINISHED_TARGETS_FIELD_DESC = new org.apache.thrift.protocol.TField("finishedTargets", org.apache.thrift.protocol.TType.LIST, (short)4);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -51,12 +52,14 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
   public String minionId; // optional
   public int buildExitCode; // optional
   public com.facebook.buck.distributed.thrift.StampedeId stampedeId; // optional
+  public List<String> finishedTargets; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     MINION_ID((short)1, "minionId"),
     BUILD_EXIT_CODE((short)2, "buildExitCode"),
-    STAMPEDE_ID((short)3, "stampedeId");
+    STAMPEDE_ID((short)3, "stampedeId"),
+    FINISHED_TARGETS((short)4, "finishedTargets");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -77,6 +80,8 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
           return BUILD_EXIT_CODE;
         case 3: // STAMPEDE_ID
           return STAMPEDE_ID;
+        case 4: // FINISHED_TARGETS
+          return FINISHED_TARGETS;
         default:
           return null;
       }
@@ -119,7 +124,7 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
   // isset id assignments
   private static final int __BUILDEXITCODE_ISSET_ID = 0;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.MINION_ID,_Fields.BUILD_EXIT_CODE,_Fields.STAMPEDE_ID};
+  private static final _Fields optionals[] = {_Fields.MINION_ID,_Fields.BUILD_EXIT_CODE,_Fields.STAMPEDE_ID,_Fields.FINISHED_TARGETS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -129,6 +134,9 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     tmpMap.put(_Fields.STAMPEDE_ID, new org.apache.thrift.meta_data.FieldMetaData("stampedeId", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.facebook.buck.distributed.thrift.StampedeId.class)));
+    tmpMap.put(_Fields.FINISHED_TARGETS, new org.apache.thrift.meta_data.FieldMetaData("finishedTargets", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(FinishedBuildingRequest.class, metaDataMap);
   }
@@ -148,6 +156,10 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
     if (other.isSetStampedeId()) {
       this.stampedeId = new com.facebook.buck.distributed.thrift.StampedeId(other.stampedeId);
     }
+    if (other.isSetFinishedTargets()) {
+      List<String> __this__finishedTargets = new ArrayList<String>(other.finishedTargets);
+      this.finishedTargets = __this__finishedTargets;
+    }
   }
 
   public FinishedBuildingRequest deepCopy() {
@@ -160,6 +172,7 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
     setBuildExitCodeIsSet(false);
     this.buildExitCode = 0;
     this.stampedeId = null;
+    this.finishedTargets = null;
   }
 
   public String getMinionId() {
@@ -233,6 +246,45 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
     }
   }
 
+  public int getFinishedTargetsSize() {
+    return (this.finishedTargets == null) ? 0 : this.finishedTargets.size();
+  }
+
+  public java.util.Iterator<String> getFinishedTargetsIterator() {
+    return (this.finishedTargets == null) ? null : this.finishedTargets.iterator();
+  }
+
+  public void addToFinishedTargets(String elem) {
+    if (this.finishedTargets == null) {
+      this.finishedTargets = new ArrayList<String>();
+    }
+    this.finishedTargets.add(elem);
+  }
+
+  public List<String> getFinishedTargets() {
+    return this.finishedTargets;
+  }
+
+  public FinishedBuildingRequest setFinishedTargets(List<String> finishedTargets) {
+    this.finishedTargets = finishedTargets;
+    return this;
+  }
+
+  public void unsetFinishedTargets() {
+    this.finishedTargets = null;
+  }
+
+  /** Returns true if field finishedTargets is set (has been assigned a value) and false otherwise */
+  public boolean isSetFinishedTargets() {
+    return this.finishedTargets != null;
+  }
+
+  public void setFinishedTargetsIsSet(boolean value) {
+    if (!value) {
+      this.finishedTargets = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case MINION_ID:
@@ -259,6 +311,14 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
       }
       break;
 
+    case FINISHED_TARGETS:
+      if (value == null) {
+        unsetFinishedTargets();
+      } else {
+        setFinishedTargets((List<String>)value);
+      }
+      break;
+
     }
   }
 
@@ -273,6 +333,9 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
     case STAMPEDE_ID:
       return getStampedeId();
 
+    case FINISHED_TARGETS:
+      return getFinishedTargets();
+
     }
     throw new IllegalStateException();
   }
@@ -290,6 +353,8 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
       return isSetBuildExitCode();
     case STAMPEDE_ID:
       return isSetStampedeId();
+    case FINISHED_TARGETS:
+      return isSetFinishedTargets();
     }
     throw new IllegalStateException();
   }
@@ -334,6 +399,15 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
         return false;
     }
 
+    boolean this_present_finishedTargets = true && this.isSetFinishedTargets();
+    boolean that_present_finishedTargets = true && that.isSetFinishedTargets();
+    if (this_present_finishedTargets || that_present_finishedTargets) {
+      if (!(this_present_finishedTargets && that_present_finishedTargets))
+        return false;
+      if (!this.finishedTargets.equals(that.finishedTargets))
+        return false;
+    }
+
     return true;
   }
 
@@ -356,6 +430,11 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
     if (present_stampedeId)
       list.add(stampedeId);
 
+    boolean present_finishedTargets = true && (isSetFinishedTargets());
+    list.add(present_finishedTargets);
+    if (present_finishedTargets)
+      list.add(finishedTargets);
+
     return list.hashCode();
   }
 
@@ -397,6 +476,16 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetFinishedTargets()).compareTo(other.isSetFinishedTargets());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFinishedTargets()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.finishedTargets, other.finishedTargets);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -442,6 +531,16 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
       }
       first = false;
     }
+    if (isSetFinishedTargets()) {
+      if (!first) sb.append(", ");
+      sb.append("finishedTargets:");
+      if (this.finishedTargets == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.finishedTargets);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -515,6 +614,24 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // FINISHED_TARGETS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                struct.finishedTargets = new ArrayList<String>(_list8.size);
+                String _elem9;
+                for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                {
+                  _elem9 = iprot.readString();
+                  struct.finishedTargets.add(_elem9);
+                }
+                iprot.readListEnd();
+              }
+              struct.setFinishedTargetsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -549,6 +666,20 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
           oprot.writeFieldEnd();
         }
       }
+      if (struct.finishedTargets != null) {
+        if (struct.isSetFinishedTargets()) {
+          oprot.writeFieldBegin(FINISHED_TARGETS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.finishedTargets.size()));
+            for (String _iter11 : struct.finishedTargets)
+            {
+              oprot.writeString(_iter11);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -576,7 +707,10 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
       if (struct.isSetStampedeId()) {
         optionals.set(2);
       }
-      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetFinishedTargets()) {
+        optionals.set(3);
+      }
+      oprot.writeBitSet(optionals, 4);
       if (struct.isSetMinionId()) {
         oprot.writeString(struct.minionId);
       }
@@ -586,12 +720,21 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
       if (struct.isSetStampedeId()) {
         struct.stampedeId.write(oprot);
       }
+      if (struct.isSetFinishedTargets()) {
+        {
+          oprot.writeI32(struct.finishedTargets.size());
+          for (String _iter12 : struct.finishedTargets)
+          {
+            oprot.writeString(_iter12);
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, FinishedBuildingRequest struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(3);
+      BitSet incoming = iprot.readBitSet(4);
       if (incoming.get(0)) {
         struct.minionId = iprot.readString();
         struct.setMinionIdIsSet(true);
@@ -605,6 +748,19 @@ public class FinishedBuildingRequest implements org.apache.thrift.TBase<Finished
         struct.stampedeId.read(iprot);
         struct.setStampedeIdIsSet(true);
       }
+      if (incoming.get(3)) {
+        {
+          org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.finishedTargets = new ArrayList<String>(_list13.size);
+          String _elem14;
+          for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+          {
+            _elem14 = iprot.readString();
+            struct.finishedTargets.add(_elem14);
+          }
+        }
+        struct.setFinishedTargetsIsSet(true);
+      }
     }
   }
 
@@ -52,6 +52,13 @@ abstract class AbstractCacheResult {
           Optional.empty(),
           Optional.empty(),
           Optional.empty());
+  private static final CacheResult SKIPPED_RESULT =
+      CacheResult.of(
+          CacheResultType.SKIPPED,
+          Optional.empty(),
+          Optional.empty(),
+          Optional.empty(),
+          Optional.empty());
 
   @Value.Parameter
   @JsonView(JsonViews.MachineReadableLog.class)
@@ -141,6 +148,10 @@ abstract class AbstractCacheResult {
     return LOCAL_KEY_UNCHANGED_HIT_RESULT;
   }
 
+  public static CacheResult skipped() {
+    return SKIPPED_RESULT;
+  }
+
   /**
    * @return a {@link CacheResult} constructed from trying to parse the given string representation.
    *     This is mainly available for backwards compatibility for when this class was an enum.
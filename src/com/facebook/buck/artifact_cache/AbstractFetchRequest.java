@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.immutables.BuckStyleTuple;
+
+import org.immutables.value.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+
+/**
+ * A request for an artifact passed to {@link ArtifactCache#multiFetch}.
+ */
+@Value.Immutable
+@BuckStyleTuple
+abstract class AbstractFetchRequest {
+
+  /**
+   * The path to store the artifact to.  If there is a consumer, caches which can stream the
+   * artifact to it don't write this at all.
+   */
+  public abstract LazyPath getOutput();
+
+  public abstract Optional<ArtifactConsumer> getConsumer();
+
+  public CacheResult fetchFrom(ArtifactCache artifactCache, RuleKey ruleKey) {
+    if (getConsumer().isPresent()) {
+      return artifactCache.fetchStreaming(ruleKey, getOutput(), getConsumer().get());
+    }
+    return artifactCache.fetch(ruleKey, getOutput());
+  }
+
+  /**
+   * @return a request which streams the artifact to the consumer, if any, but also always stores
+   *     it to the output path.
+   */
+  public FetchRequest withOutputWritten() {
+    if (!getConsumer().isPresent()) {
+      return FetchRequest.of(getOutput(), Optional.empty());
+    }
+    return FetchRequest.of(getOutput(), Optional.of(getConsumer().get().copyingTo(getOutput())));
+  }
+
+  /**
+   * Passes an artifact which has already been fetched to the output path to the consumer.
+   *
+   * @return {@code result}, or an error if the consumer failed.
+   */
+  public CacheResult consumeFetchedArtifact(CacheResult result) {
+    if (!getConsumer().isPresent() || result.getType() != CacheResultType.HIT) {
+      return result;
+    }
+    try (InputStream artifact = Files.newInputStream(getOutput().get())) {
+      getConsumer().get().consume(artifact);
+    } catch (IOException e) {
+      return CacheResult.error(
+          result.getCacheSource(),
+          String.format("%s: %s", e.getClass().getName(), e.getMessage()));
+    }
+    return result;
+  }
+}
@@ -24,17 +24,27 @@ import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.HttpService;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 
+import javax.annotation.Nullable;
+
 public abstract class AbstractNetworkCache implements ArtifactCache {
 
   private static final Logger LOG = Logger.get(AbstractNetworkCache.class);
@@ -50,6 +60,11 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
   private final ListeningExecutorService httpWriteExecutorService;
   private final String errorTextTemplate;
   private final Optional<Long> maxStoreSize;
+  private final int maxConcurrentFetches;
+
+  // Created on the first batched request, as most commands never make one.
+  @Nullable
+  private ListeningExecutorService fetchExecutorService;
 
   private final Set<String> seenErrors = Sets.newConcurrentHashSet();
 
@@ -65,6 +80,7 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
     this.httpWriteExecutorService = args.getHttpWriteExecutorService();
     this.errorTextTemplate = args.getErrorTextTemplate();
     this.maxStoreSize = args.getMaxStoreSizeBytes();
+    this.maxConcurrentFetches = args.getMaxConcurrentFetches();
   }
 
   protected abstract CacheResult fetchImpl(
@@ -72,6 +88,19 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
       LazyPath output,
       final HttpArtifactCacheEvent.Finished.Builder eventBuilder) throws IOException;
 
+  /**
+   * Fetches an artifact, passing it to {@code consumer} as it arrives.  By default the artifact
+   * is fetched to {@code output} first.
+   */
+  protected CacheResult fetchStreamingImpl(
+      RuleKey ruleKey,
+      LazyPath output,
+      ArtifactConsumer consumer,
+      final HttpArtifactCacheEvent.Finished.Builder eventBuilder) throws IOException {
+    return FetchRequest.of(output, Optional.of(consumer))
+        .consumeFetchedArtifact(fetchImpl(ruleKey, output, eventBuilder));
+  }
+
   protected abstract void storeImpl(
       ArtifactInfo info,
       final Path file,
@@ -80,6 +109,19 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
 
   @Override
   public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+    return fetchWithEvents(
+        ruleKey,
+        eventBuilder -> fetchImpl(ruleKey, output, eventBuilder));
+  }
+
+  @Override
+  public CacheResult fetchStreaming(RuleKey ruleKey, LazyPath output, ArtifactConsumer consumer) {
+    return fetchWithEvents(
+        ruleKey,
+        eventBuilder -> fetchStreamingImpl(ruleKey, output, consumer, eventBuilder));
+  }
+
+  private CacheResult fetchWithEvents(RuleKey ruleKey, FetchFunction fetchFunction) {
     HttpArtifactCacheEvent.Started startedEvent = HttpArtifactCacheEvent.newFetchStartedEvent(
         ruleKey);
     buckEventBus.post(startedEvent);
@@ -89,7 +131,7 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
         .setRequestedRuleKey(ruleKey);
 
     try {
-      CacheResult result = fetchImpl(ruleKey, output, eventBuilder);
+      CacheResult result = fetchFunction.fetch(eventBuilder);
       eventBuilder.getFetchBuilder().setFetchResult(result);
       buckEventBus.post(eventBuilder.build());
       return result;
@@ -106,6 +148,54 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
     }
   }
 
+  /**
+   * Neither the HTTP nor the thrift protocol can fetch several artifacts in one request, so instead
+   * this overlaps the round trips of the individual fetches.
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(
+      ImmutableMap<RuleKey, FetchRequest> requests) {
+    return forEachConcurrently(
+        requests.keySet(),
+        ruleKey -> requests.get(ruleKey).fetchFrom(this, ruleKey));
+  }
+
+  /**
+   * Applies {@code function} to each rule key, using up to
+   * {@link NetworkCacheArgs#getMaxConcurrentFetches()} threads.
+   */
+  protected <T> ImmutableMap<RuleKey, T> forEachConcurrently(
+      ImmutableSet<RuleKey> ruleKeys,
+      Function<RuleKey, T> function) {
+    ImmutableMap.Builder<RuleKey, T> results = ImmutableMap.builder();
+    if (ruleKeys.size() <= 1 || maxConcurrentFetches <= 1) {
+      for (RuleKey ruleKey : ruleKeys) {
+        results.put(ruleKey, function.apply(ruleKey));
+      }
+      return results.build();
+    }
+
+    ListeningExecutorService executorService = getFetchExecutorService();
+    Map<RuleKey, ListenableFuture<T>> futures = new LinkedHashMap<>();
+    for (RuleKey ruleKey : ruleKeys) {
+      futures.put(ruleKey, executorService.submit(() -> function.apply(ruleKey)));
+    }
+    for (Map.Entry<RuleKey, ListenableFuture<T>> entry : futures.entrySet()) {
+      results.put(entry.getKey(), Futures.getUnchecked(entry.getValue()));
+    }
+    return results.build();
+  }
+
+  private synchronized ListeningExecutorService getFetchExecutorService() {
+    if (fetchExecutorService == null) {
+      fetchExecutorService = MoreExecutors.listeningDecorator(
+          Executors.newFixedThreadPool(
+              maxConcurrentFetches,
+              new MostExecutors.NamedThreadFactory(name + "-fetch")));
+    }
+    return fetchExecutorService;
+  }
+
   @Override
   public ListenableFuture<Void> store(
       final ArtifactInfo info,
@@ -186,6 +276,11 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
 
   @Override
   public void close() {
+    synchronized (this) {
+      if (fetchExecutorService != null) {
+        fetchExecutorService.shutdownNow();
+      }
+    }
     fetchClient.close();
     storeClient.close();
   }
@@ -232,6 +327,11 @@ public abstract class AbstractNetworkCache implements ArtifactCache {
     }
   }
 
+  @FunctionalInterface
+  private interface FetchFunction {
+    CacheResult fetch(HttpArtifactCacheEvent.Finished.Builder eventBuilder) throws IOException;
+  }
+
   private static boolean isArtefactTooBigToBeStored(
       long artifactSizeBytes,
       Optional<Long> maxStoreSize) {
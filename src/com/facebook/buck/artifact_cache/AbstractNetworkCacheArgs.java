@@ -42,4 +42,10 @@ interface AbstractNetworkCacheArgs {
   Optional<Long> getMaxStoreSizeBytes();
   Optional<String> getThriftEndpointPath();
   boolean distributedBuildModeEnabled();
+
+  /** The number of requests {@link ArtifactCache#multiFetch} may have in flight at once. */
+  @Value.Default
+  default int getMaxConcurrentFetches() {
+    return 1;
+  }
 }
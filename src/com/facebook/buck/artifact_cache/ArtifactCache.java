@@ -19,8 +19,13 @@ package com.facebook.buck.artifact_cache;
 import com.facebook.buck.io.BorrowablePath;
 import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
 
+import java.util.Map;
+import java.util.Optional;
+
 public interface ArtifactCache extends AutoCloseable {
   /**
    * Fetch a cached artifact, keyed by ruleKey, save the artifact to path specified by output, and
@@ -34,6 +39,52 @@ public interface ArtifactCache extends AutoCloseable {
    */
   CacheResult fetch(RuleKey ruleKey, LazyPath output);
 
+  /**
+   * Fetch a cached artifact, keyed by ruleKey, passing its contents to {@code consumer} as they
+   * arrive.  Caches which can't stream artifacts fetch them to {@code output} as in
+   * {@link #fetch(RuleKey, LazyPath)} and then pass the file to the consumer.
+   *
+   * @return the result of the fetch.  The artifact passed to the consumer must be discarded unless
+   *     this is a {@link CacheResultType#HIT}.  Failures of the consumer are reported as
+   *     {@link CacheResultType#ERROR} results.
+   */
+  default CacheResult fetchStreaming(RuleKey ruleKey, LazyPath output, ArtifactConsumer consumer) {
+    return FetchRequest.of(output, Optional.of(consumer))
+        .consumeFetchedArtifact(fetch(ruleKey, output));
+  }
+
+  /**
+   * Fetch several cached artifacts at once.  This is equivalent to calling
+   * {@link FetchRequest#fetchFrom} for each request, but lets caches with a high per-request
+   * latency overlap or combine the requests.
+   *
+   * @param requests map from cache fetch key to where to store or stream its artifact to.
+   * @return the result of fetching each of the requested rule keys.
+   */
+  default ImmutableMap<RuleKey, CacheResult> multiFetch(
+      ImmutableMap<RuleKey, FetchRequest> requests) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, FetchRequest> request : requests.entrySet()) {
+      results.put(request.getKey(), request.getValue().fetchFrom(this, request.getKey()));
+    }
+    return results.build();
+  }
+
+  /**
+   * Check whether the cache has artifacts for the given rule keys, without fetching them.
+   *
+   * @return for each rule key, a {@link CacheResultType#HIT} or {@link CacheResultType#MISS}, or
+   *     {@link CacheResultType#SKIPPED} if this cache can't check for an artifact more cheaply than
+   *     fetching it.
+   */
+  default ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      results.put(ruleKey, CacheResult.skipped());
+    }
+    return results.build();
+  }
+
   /**
    * Store the artifact at path specified by output to cache, such that it can later be fetched
    * using ruleKey as the lookup key.  If any internal errors occur, fail silently and continue
@@ -77,11 +77,13 @@ public class ArtifactCacheBuckConfig {
   private static final String DIR_FIELD = "dir";
   private static final String DIR_MODE_FIELD = "dir_mode";
   private static final String DIR_MAX_SIZE_FIELD = "dir_max_size";
+  private static final String DIR_INDEX_FIELD = "dir_index";
   private static final String DIR_CACHE_NAMES_FIELD_NAME = "dir_cache_names";
   private static final ImmutableSet<String> DIR_CACHE_DESCRIPTION_FIELDS = ImmutableSet.of(
       DIR_FIELD,
       DIR_MODE_FIELD,
-      DIR_MAX_SIZE_FIELD);
+      DIR_MAX_SIZE_FIELD,
+      DIR_INDEX_FIELD);
 
   private static final URI DEFAULT_HTTP_URL = URI.create("http://localhost:8080/");
   private static final String DEFAULT_HTTP_CACHE_MODE = CacheReadMode.readwrite.name();
@@ -118,6 +120,8 @@ public class ArtifactCacheBuckConfig {
   private static final String SCHEDULE_TYPE = "schedule_type";
   private static final String DEFAULT_SCHEDULE_TYPE = "none";
 
+  private static final String ARTIFACT_COMPRESSION = "artifact_compression";
+
   public enum LoadBalancingType {
     SINGLE_SERVER,
     CLIENT_SLB,
@@ -287,6 +291,17 @@ public class ArtifactCacheBuckConfig {
         SizeUnit::parseBytes);
   }
 
+  /**
+   * @return the format to pack artifacts in before storing them.  Artifacts are fetched from the
+   *     cache in whatever format they were stored in.
+   */
+  public ArtifactCompression getArtifactCompression() {
+    return buckConfig.getEnum(
+        CACHE_SECTION_NAME,
+        ARTIFACT_COMPRESSION,
+        ArtifactCompression.class).orElse(ArtifactCompression.DEFLATE);
+  }
+
   private boolean getServingLocalCacheEnabled() {
     return buckConfig.getBooleanValue(CACHE_SECTION_NAME, SERVED_CACHE_ENABLED_FIELD_NAME, false);
   }
@@ -362,6 +377,7 @@ public class ArtifactCacheBuckConfig {
         .setCacheDir(pathToCacheDir)
         .setCacheReadMode(readMode)
         .setMaxSizeBytes(maxSizeBytes)
+        .setIndexed(buckConfig.getBooleanValue(section, DIR_INDEX_FIELD, false))
         .build();
   }
 
@@ -448,6 +464,11 @@ public class ArtifactCacheBuckConfig {
     public abstract Path getCacheDir();
     public abstract Optional<Long> getMaxSizeBytes();
     public abstract CacheReadMode getCacheReadMode();
+
+    @Value.Default
+    public boolean isIndexed() {
+      return false;
+    }
   }
 
   @Value.Immutable
@@ -333,7 +333,8 @@ public class ArtifactCaches implements ArtifactCacheFactory {
           projectFilesystem,
           cacheDir,
           dirCacheConfig.getCacheReadMode().isDoStore(),
-          dirCacheConfig.getMaxSizeBytes());
+          dirCacheConfig.getMaxSizeBytes(),
+          dirCacheConfig.isIndexed());
 
       if (!buckEventBus.isPresent()) {
         return dirArtifactCache;
@@ -460,6 +461,7 @@ public class ArtifactCaches implements ArtifactCacheFactory {
             .setProjectFilesystem(projectFilesystem)
             .setBuckEventBus(buckEventBus)
             .setHttpWriteExecutorService(httpWriteExecutorService)
+            .setMaxConcurrentFetches((int) config.getThreadPoolSize())
             .setErrorTextTemplate(cacheDescription.getErrorMessageFormat())
             .setDistributedBuildModeEnabled(distributedBuildModeEnabled)
             .build());
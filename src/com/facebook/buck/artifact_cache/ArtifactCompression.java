@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.util.Lz4FrameInputStream;
+import com.facebook.buck.util.Lz4FrameOutputStream;
+import com.facebook.buck.zip.ZipCompressionLevel;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * How build rule outputs are packed into artifacts before being stored in the cache.
+ *
+ * Artifacts are always zips, optionally wrapped in another format which is recognized by its magic
+ * number.  Fetched artifacts are unpacked according to the format they were stored in rather than
+ * the one configured for storing, so builds using different formats can share a cache.  Older
+ * versions of buck treat artifacts in formats they don't recognize as corrupt and build locally.
+ */
+public enum ArtifactCompression {
+
+  /**
+   * A zip of deflated entries.
+   */
+  DEFLATE {
+    @Override
+    public void pack(ProjectFilesystem filesystem, Collection<Path> paths, Path artifact)
+        throws IOException {
+      filesystem.createZip(paths, artifact);
+    }
+  },
+
+  /**
+   * An LZ4 frame containing a zip of stored entries, which is several times cheaper to pack and
+   * unpack than {@link #DEFLATE} for somewhat larger artifacts.
+   */
+  LZ4 {
+    @Override
+    public void pack(ProjectFilesystem filesystem, Collection<Path> paths, Path artifact)
+        throws IOException {
+      filesystem.createZip(
+          paths,
+          new Lz4FrameOutputStream(new BufferedOutputStream(Files.newOutputStream(artifact))),
+          ZipCompressionLevel.MIN_COMPRESSION_LEVEL);
+    }
+  },
+  ;
+
+  private static final int MAGIC_LENGTH = 4;
+
+  /**
+   * Packs the given paths, relative to {@code filesystem}, into an artifact at {@code artifact}.
+   */
+  public abstract void pack(ProjectFilesystem filesystem, Collection<Path> paths, Path artifact)
+      throws IOException;
+
+  /**
+   * @return a stream of the zip packed in {@code artifact}, in whichever format it was stored.
+   *     Closing it doesn't close {@code artifact}.
+   */
+  public static InputStream openZip(InputStream artifact) throws IOException {
+    PushbackInputStream input = new PushbackInputStream(artifact, MAGIC_LENGTH) {
+      @Override
+      public void close() {
+        // The caller owns the artifact stream.
+      }
+    };
+    byte[] magic = new byte[MAGIC_LENGTH];
+    int length = 0;
+    while (length < magic.length) {
+      int read = input.read(magic, length, magic.length - length);
+      if (read < 0) {
+        break;
+      }
+      length += read;
+    }
+    input.unread(magic, 0, length);
+
+    if (Lz4FrameInputStream.isFrameHeader(magic, length)) {
+      return new Lz4FrameInputStream(input);
+    }
+    return input;
+  }
+}
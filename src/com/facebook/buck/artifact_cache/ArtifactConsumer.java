@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.TeeInputStream;
+import com.google.common.io.ByteStreams;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Receives the contents of an artifact while it's being fetched, so that it can be unpacked without
+ * first being written to a temporary file and read back.
+ */
+@FunctionalInterface
+public interface ArtifactConsumer {
+
+  /**
+   * Reads the artifact from {@code artifact}, which must not be closed.  The artifact is only
+   * verified once it has been read completely, so anything written based on it must be discarded
+   * unless the fetch returns a {@link CacheResultType#HIT}.
+   *
+   * A consumer may be called again with the whole artifact if a cache fails part way through and
+   * the fetch falls back to another cache.
+   */
+  void consume(InputStream artifact) throws IOException;
+
+  /**
+   * @return a consumer which also writes the artifact to {@code output}, for caches which need a
+   *     copy of it on disk.
+   */
+  default ArtifactConsumer copyingTo(LazyPath output) {
+    return artifact -> {
+      Path path = output.get();
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      try (OutputStream copy = new BufferedOutputStream(Files.newOutputStream(path))) {
+        InputStream teedArtifact = new TeeInputStream(artifact, copy);
+        consume(teedArtifact);
+        ByteStreams.exhaust(teedArtifact);
+      }
+    };
+  }
+}
@@ -33,6 +33,9 @@ public enum CacheResultType {
     /** Artifact cache not queried because the local cache key was unchanged. */
     LOCAL_KEY_UNCHANGED_HIT(/* success */ true),
 
+    /** The cache could not tell whether it had the artifact without fetching it. */
+    SKIPPED(/* success */ false),
+
     ;
 
     private boolean success;
@@ -44,9 +44,11 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class DirArtifactCache implements ArtifactCache {
 
@@ -57,12 +59,14 @@ public class DirArtifactCache implements ArtifactCache {
   // How much of the max size to leave if we decide to delete old files.
   private static final float MAX_BYTES_TRIM_RATIO = 2 / 3f;
   private static final String TMP_EXTENSION = ".tmp";
+  private static final String METADATA_EXTENSION = ".metadata";
 
   private final String name;
   private final ProjectFilesystem filesystem;
   private final Path cacheDir;
   private final Optional<Long> maxCacheSizeBytes;
   private final boolean doStore;
+  private final Optional<DirArtifactCacheIndex> index;
   private long bytesSinceLastDeleteOldFiles;
 
   public DirArtifactCache(
@@ -72,6 +76,22 @@ public class DirArtifactCache implements ArtifactCache {
       boolean doStore,
       Optional<Long> maxCacheSizeBytes)
       throws IOException {
+    this(name, filesystem, cacheDir, doStore, maxCacheSizeBytes, /* useIndex */ false);
+  }
+
+  /**
+   * @param useIndex whether to keep a {@link DirArtifactCacheIndex} of the cache's contents.  If
+   *                 the index is in use by another cache, this cache falls back to working without
+   *                 one, and marks the index out of date whenever it changes the cache.
+   */
+  public DirArtifactCache(
+      String name,
+      ProjectFilesystem filesystem,
+      Path cacheDir,
+      boolean doStore,
+      Optional<Long> maxCacheSizeBytes,
+      boolean useIndex)
+      throws IOException {
     this.name = name;
     this.filesystem = filesystem;
     this.cacheDir = cacheDir;
@@ -83,32 +103,112 @@ public class DirArtifactCache implements ArtifactCache {
     if (!filesystem.isDirectory(cacheDir)) {
       filesystem.mkdirs(cacheDir);
     }
+
+    this.index = useIndex ? openIndex() : Optional.empty();
+  }
+
+  private Optional<DirArtifactCacheIndex> openIndex() throws IOException {
+    Path indexDir = filesystem.resolve(getPathToIndexFolder());
+    boolean isNewIndex = !Files.isDirectory(indexDir);
+    Optional<DirArtifactCacheIndex> index = DirArtifactCacheIndex.open(indexDir);
+    if (!index.isPresent()) {
+      LOG.warn("Index of dir cache %s is in use, falling back to an unindexed cache.", cacheDir);
+    } else if (index.get().clearOutOfDate() || isNewIndex) {
+      reconcileIndex(index.get());
+    }
+    return index;
+  }
+
+  /**
+   * Adds the artifacts in the cache directory which aren't in the index to it, and removes the
+   * ones which are no longer in the cache directory from it.  An indexed cache only walks the cache
+   * directory when the index is created, or when caches which couldn't use the index have changed
+   * the cache directory since.
+   */
+  private void reconcileIndex(DirArtifactCacheIndex index) throws IOException {
+    // Artifacts stored while the cache directory is walked are added to the index by their store,
+    // so only ones which were indexed before can be removed.
+    ImmutableSet<RuleKey> indexed = index.getRuleKeys();
+    Set<RuleKey> stored = new HashSet<>();
+    int added = 0;
+    for (Path metadataPath : getAllFilesInCache()) {
+      String fileName = metadataPath.getFileName().toString();
+      if (!fileName.endsWith(METADATA_EXTENSION)) {
+        continue;
+      }
+      try {
+        RuleKey ruleKey =
+            new RuleKey(
+                fileName.substring(0, fileName.length() - METADATA_EXTENSION.length()));
+        Path artifactPath = metadataPath.resolveSibling(ruleKey.toString());
+        BasicFileAttributes attributes =
+            Files.readAttributes(artifactPath, BasicFileAttributes.class);
+        stored.add(ruleKey);
+        if (!index.contains(ruleKey)) {
+          index.put(
+              ruleKey,
+              attributes.size() + Files.size(metadataPath),
+              readMetadata(metadataPath),
+              attributes.lastAccessTime().toMillis());
+          added++;
+        }
+      } catch (IOException | IllegalArgumentException e) {
+        LOG.debug(e, "Not indexing %s", metadataPath);
+      }
+    }
+    int removed = 0;
+    for (RuleKey ruleKey : indexed) {
+      if (!stored.contains(ruleKey)) {
+        index.remove(ruleKey);
+        removed++;
+      }
+    }
+    LOG.info(
+        "Reconciled index of dir cache %s, adding %d artifacts and removing %d",
+        cacheDir,
+        added,
+        removed);
+  }
+
+  private void markIndexOutOfDate() {
+    try {
+      DirArtifactCacheIndex.markOutOfDate(filesystem.resolve(getPathToIndexFolder()));
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to mark index of dir cache %s as out of date", cacheDir);
+    }
+  }
+
+  private ImmutableMap<String, String> readMetadata(Path metadataPath) throws IOException {
+    ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+    try (DataInputStream in = new DataInputStream(filesystem.newFileInputStream(metadataPath))) {
+      int sz = in.readInt();
+      for (int i = 0; i < sz; i++) {
+        String key = in.readUTF();
+        int valSize = in.readInt();
+        byte[] val = new byte[valSize];
+        ByteStreams.readFully(in, val);
+        metadata.put(key, new String(val, Charsets.UTF_8));
+      }
+    }
+    return metadata.build();
   }
 
   @Override
   public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
     CacheResult result;
     try {
-      // First, build up the metadata from the metadata file.
-      ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
-      try (DataInputStream in =
-               new DataInputStream(
-                   filesystem.newFileInputStream(
-                       getPathForRuleKey(ruleKey, Optional.of(".metadata"))))) {
-        int sz = in.readInt();
-        for (int i = 0; i < sz; i++) {
-          String key = in.readUTF();
-          int valSize = in.readInt();
-          byte[] val = new byte[valSize];
-          ByteStreams.readFully(in, val);
-          metadata.put(key, new String(val, Charsets.UTF_8));
-        }
-      }
+      if (index.isPresent()) {
+        result = fetchIndexed(index.get(), ruleKey, output);
+      } else {
+        // First, build up the metadata from the metadata file.
+        ImmutableMap<String, String> metadata =
+            readMetadata(getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION)));
 
-      // Now copy the artifact out.
-      filesystem.copyFile(getPathForRuleKey(ruleKey, Optional.empty()), output.get());
+        // Now copy the artifact out.
+        filesystem.copyFile(getPathForRuleKey(ruleKey, Optional.empty()), output.get());
 
-      result = CacheResult.hit(name, metadata.build(), filesystem.getFileSize(output.get()));
+        result = CacheResult.hit(name, metadata, filesystem.getFileSize(output.get()));
+      }
     } catch (NoSuchFileException e) {
       result = CacheResult.miss();
     } catch (IOException e) {
@@ -128,6 +228,95 @@ public class DirArtifactCache implements ArtifactCache {
     return result;
   }
 
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      // The index may still have artifacts deleted by caches which couldn't use it, so this always
+      // checks the cache directory.
+      boolean contains = isStored(ruleKey);
+      if (!contains && index.isPresent() && index.get().contains(ruleKey)) {
+        try {
+          index.get().remove(ruleKey);
+        } catch (IOException e) {
+          LOG.warn(e, "Failed to remove %s from index of dir cache %s", ruleKey, cacheDir);
+        }
+      }
+      results.put(ruleKey, contains ? CacheResult.hit(name) : CacheResult.miss());
+    }
+    return results.build();
+  }
+
+  private boolean isStored(RuleKey ruleKey) {
+    return filesystem.exists(getPathForRuleKey(ruleKey, Optional.empty())) &&
+        filesystem.exists(getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION)));
+  }
+
+  private CacheResult fetchIndexed(
+      DirArtifactCacheIndex index,
+      RuleKey ruleKey,
+      LazyPath output) throws IOException {
+    Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
+    Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION));
+    Optional<DirArtifactCacheIndex.Entry> entry = index.get(ruleKey);
+    ImmutableMap<String, String> metadata;
+    if (entry.isPresent()) {
+      // Caches which can't read the index need the metadata file to find the artifact.
+      if (!filesystem.exists(metadataPath)) {
+        index.remove(ruleKey);
+        throw new NoSuchFileException(metadataPath.toString());
+      }
+      metadata = entry.get().getMetadata();
+    } else {
+      // The artifact may have been stored by a process which couldn't use the index, so fall back
+      // to its metadata file and index it if it's there.
+      metadata = readMetadata(metadataPath);
+      addToIndex(index, ruleKey, metadata);
+    }
+
+    try {
+      linkOrCopyArtifact(artifactPath, output.get());
+    } catch (NoSuchFileException e) {
+      index.remove(ruleKey);
+      throw e;
+    }
+    index.touch(ruleKey, System.currentTimeMillis());
+
+    return CacheResult.hit(name, metadata, filesystem.getFileSize(output.get()));
+  }
+
+  private void addToIndex(
+      DirArtifactCacheIndex index,
+      RuleKey ruleKey,
+      ImmutableMap<String, String> metadata) throws IOException {
+    index.put(
+        ruleKey,
+        filesystem.getFileSize(getPathForRuleKey(ruleKey, Optional.empty())) +
+            filesystem.getFileSize(getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION))),
+        metadata,
+        System.currentTimeMillis());
+  }
+
+  /**
+   * Hard links the cached artifact to {@code output}, which is much cheaper than copying it for
+   * large artifacts.  Falls back to copying if the filesystem doesn't support hard links, e.g.
+   * because {@code output} is on a different device.
+   */
+  private void linkOrCopyArtifact(Path artifactPath, Path output) throws IOException {
+    Path source = filesystem.resolve(artifactPath);
+    Path target = filesystem.resolve(output);
+    if (!Files.exists(source)) {
+      throw new NoSuchFileException(source.toString());
+    }
+    Files.deleteIfExists(target);
+    try {
+      Files.createLink(target, source);
+    } catch (IOException | UnsupportedOperationException e) {
+      LOG.verbose(e, "Failed to hard link %s, copying it instead", source);
+      filesystem.copyFile(source, target);
+    }
+  }
+
   @Override
   public ListenableFuture<Void> store(
       ArtifactInfo info,
@@ -141,9 +330,14 @@ public class DirArtifactCache implements ArtifactCache {
       Optional<Path> borrowedAndStoredArtifactPath = Optional.empty();
       for (RuleKey ruleKey : info.getRuleKeys()) {
         Path artifactPath = getPathForRuleKey(ruleKey, Optional.empty());
-        Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(".metadata"));
+        Path metadataPath = getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION));
 
-        if (filesystem.exists(artifactPath) && filesystem.exists(metadataPath)) {
+        // The index may still have artifacts deleted by caches which couldn't use it, so this
+        // always checks the cache directory.
+        if (isStored(ruleKey)) {
+          if (index.isPresent() && !index.get().contains(ruleKey)) {
+            addToIndex(index.get(), ruleKey, info.getMetadata());
+          }
           continue;
         }
 
@@ -181,6 +375,12 @@ public class DirArtifactCache implements ArtifactCache {
         } finally {
           filesystem.deleteFileAtPathIfExists(tmp);
         }
+
+        if (index.isPresent()) {
+          addToIndex(index.get(), ruleKey, info.getMetadata());
+        } else {
+          markIndexOutOfDate();
+        }
       }
 
     } catch (IOException e) {
@@ -191,7 +391,13 @@ public class DirArtifactCache implements ArtifactCache {
           output);
     }
 
-    if (maxCacheSizeBytes.isPresent() &&
+    if (index.isPresent()) {
+      // The index knows exactly how big the cache is, so there's no need to guess.
+      if (maxCacheSizeBytes.isPresent() &&
+          index.get().getTotalSize() > maxCacheSizeBytes.get()) {
+        deleteOldFiles();
+      }
+    } else if (maxCacheSizeBytes.isPresent() &&
         bytesSinceLastDeleteOldFiles >
             (maxCacheSizeBytes.get() * STORED_TO_MAX_BYTES_RATIO_TRIM_TRIGGER)) {
       bytesSinceLastDeleteOldFiles = 0L;
@@ -205,6 +411,10 @@ public class DirArtifactCache implements ArtifactCache {
     return cacheDir.resolve("tmp");
   }
 
+  private Path getPathToIndexFolder() {
+    return cacheDir.resolve("index");
+  }
+
   private Path getPreparedTempFolder() throws IOException {
     Path tmp = getPathToTempFolder();
     if (!filesystem.exists(tmp)) {
@@ -261,10 +471,18 @@ public class DirArtifactCache implements ArtifactCache {
 
   @Override
   public void close() {
-    // Do a cache clean up on exit only if cache was written to.
-    if (bytesSinceLastDeleteOldFiles > 0) {
+    // Do a cache clean up on exit only if cache was written to, by this cache or, if it's indexed,
+    // by caches which couldn't use the index.
+    if (bytesSinceLastDeleteOldFiles > 0 || index.isPresent()) {
       deleteOldFiles();
     }
+    if (index.isPresent()) {
+      try {
+        index.get().close();
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to close index of dir cache %s", cacheDir);
+      }
+    }
   }
 
   /**
@@ -276,6 +494,11 @@ public class DirArtifactCache implements ArtifactCache {
       return;
     }
 
+    if (index.isPresent()) {
+      deleteOldFilesFromIndex(index.get());
+      return;
+    }
+
     Path cacheDirInFs = filesystem.resolve(cacheDir);
     try {
       synchronized (this) {
@@ -284,6 +507,35 @@ public class DirArtifactCache implements ArtifactCache {
     } catch (IOException e) {
       LOG.error(e, "Failed to clean path [%s].", cacheDirInFs);
     }
+    markIndexOutOfDate();
+  }
+
+  /**
+   * Deletes the least recently used artifacts in the index, without having to walk the cache.
+   */
+  private synchronized void deleteOldFilesFromIndex(DirArtifactCacheIndex index) {
+    // Without this, artifacts stored by caches which couldn't use the index would never be evicted.
+    try {
+      if (index.clearOutOfDate()) {
+        reconcileIndex(index);
+      }
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to reconcile index of dir cache %s", cacheDir);
+    }
+    if (index.getTotalSize() <= maxCacheSizeBytes.get()) {
+      return;
+    }
+    for (RuleKey ruleKey :
+         index.getEvictionCandidates((long) (maxCacheSizeBytes.get() * MAX_BYTES_TRIM_RATIO))) {
+      try {
+        index.remove(ruleKey);
+        filesystem.deleteFileAtPathIfExists(getPathForRuleKey(ruleKey, Optional.empty()));
+        filesystem.deleteFileAtPathIfExists(
+            getPathForRuleKey(ruleKey, Optional.of(METADATA_EXTENSION)));
+      } catch (IOException e) {
+        LOG.warn(e, "Failed to evict %s from dir cache %s", ruleKey, cacheDir);
+      }
+    }
   }
 
   @VisibleForTesting
@@ -298,8 +550,9 @@ public class DirArtifactCache implements ArtifactCache {
           @Override
           public FileVisitResult preVisitDirectory(
               Path dir, BasicFileAttributes attrs) throws IOException {
-            // do not work with files in temp folder as they will be moved later
-            if (dir.equals(getPathToTempFolder())) {
+            // do not work with files in temp folder as they will be moved later, or the index
+            if (dir.equals(getPathToTempFolder()) ||
+                dir.equals(filesystem.resolve(getPathToIndexFolder()))) {
               return FileVisitResult.SKIP_SUBTREE;
             }
             return super.preVisitDirectory(dir, attrs);
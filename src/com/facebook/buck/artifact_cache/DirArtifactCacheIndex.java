@@ -0,0 +1,562 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An index of the artifacts stored in a {@link DirArtifactCache}, which lets the cache serve hits
+ * without reading per-artifact metadata files and pick artifacts to evict without walking the
+ * cache directory.
+ *
+ * Entries are split over {@link #SHARD_COUNT} shards by the first character of their rule key.
+ * Each shard is an append-only log of records, and an in-memory map from rule key to the offset,
+ * size and last access time of its live record.  A record holds the artifact's size and metadata
+ * along with its last access time, which is updated in place on every hit.  Removed records are
+ * marked dead in place, and a shard is rewritten once it is mostly dead records.  The shards are
+ * read and written with positional I/O rather than mapped, since Java can't unmap a file before
+ * its mapping is garbage collected.
+ *
+ * The index can only be opened by one cache at a time, which is enforced by a lock file in the
+ * index directory.  Caches which can't use the index store and delete artifacts without updating
+ * it, so they {@link #markOutOfDate} it instead, and the cache using the index reconciles it with
+ * the cache directory.
+ */
+class DirArtifactCacheIndex implements Closeable {
+
+  private static final Logger LOG = Logger.get(DirArtifactCacheIndex.class);
+
+  static final int SHARD_COUNT = 16;
+
+  private static final int MAGIC = 0xb0c4d1e5;
+  private static final int VERSION = 0;
+  private static final int HEADER_SIZE = 8;
+
+  // Record layout: length (int), live (byte), last access millis (long), size (long), followed by
+  // the rule key and metadata.  The length is written last, so a record which was never completely
+  // written reads as the end of the log.
+  private static final int LIVE_OFFSET = 4;
+  private static final int LAST_ACCESS_OFFSET = 5;
+  private static final int SIZE_OFFSET = 13;
+  private static final int FIXED_RECORD_SIZE = 21;
+
+  // Don't bother compacting shards with less garbage than this.
+  private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+
+  private static final String OUT_OF_DATE_MARKER = "out_of_date";
+
+  private final Path indexDir;
+  private final FileChannel lockChannel;
+  private final FileLock lock;
+  private final Shard[] shards;
+  private final AtomicLong totalSize = new AtomicLong();
+
+  private DirArtifactCacheIndex(FileChannel lockChannel, FileLock lock, Path indexDir)
+      throws IOException {
+    this.indexDir = indexDir;
+    this.lockChannel = lockChannel;
+    this.lock = lock;
+    this.shards = new Shard[SHARD_COUNT];
+    for (int i = 0; i < SHARD_COUNT; i++) {
+      shards[i] = new Shard(indexDir.resolve(Integer.toHexString(i) + ".idx"));
+    }
+  }
+
+  /**
+   * Opens the index stored in {@code indexDir}, creating it if needed.
+   *
+   * @return the index, or {@link Optional#empty()} if it is already in use.
+   */
+  static Optional<DirArtifactCacheIndex> open(Path indexDir) throws IOException {
+    Files.createDirectories(indexDir);
+    FileChannel lockChannel = FileChannel.open(
+        indexDir.resolve("lock"),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE);
+    FileLock lock;
+    try {
+      lock = lockChannel.tryLock();
+    } catch (OverlappingFileLockException e) {
+      // Held by another cache in this process.
+      lock = null;
+    } catch (IOException e) {
+      lockChannel.close();
+      throw e;
+    }
+    if (lock == null) {
+      lockChannel.close();
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new DirArtifactCacheIndex(lockChannel, lock, indexDir));
+    } catch (IOException e) {
+      lock.release();
+      lockChannel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Records that artifacts were stored in or deleted from the cache without updating the index in
+   * {@code indexDir}, if there is one.
+   */
+  static void markOutOfDate(Path indexDir) throws IOException {
+    if (!Files.isDirectory(indexDir)) {
+      return;
+    }
+    try {
+      Files.createFile(indexDir.resolve(OUT_OF_DATE_MARKER));
+    } catch (FileAlreadyExistsException e) {
+      // Already marked.
+    }
+  }
+
+  /**
+   * Clears the mark left by {@link #markOutOfDate}.  This is done before the caller reconciles the
+   * index, so that changes made while it does so mark the index again.
+   *
+   * @return whether the index was marked out of date.
+   */
+  boolean clearOutOfDate() throws IOException {
+    return Files.deleteIfExists(indexDir.resolve(OUT_OF_DATE_MARKER));
+  }
+
+  private Shard getShard(RuleKey ruleKey) {
+    int digit = Character.digit(ruleKey.toString().charAt(0), 16);
+    return shards[Math.max(digit, 0) % SHARD_COUNT];
+  }
+
+  /**
+   * @return the recorded size and metadata of the artifact for the given rule key, if present.
+   */
+  Optional<Entry> get(RuleKey ruleKey) throws IOException {
+    return getShard(ruleKey).get(ruleKey.toString());
+  }
+
+  boolean contains(RuleKey ruleKey) {
+    return getShard(ruleKey).contains(ruleKey.toString());
+  }
+
+  /**
+   * Records (or replaces) the artifact for the given rule key.
+   */
+  void put(
+      RuleKey ruleKey,
+      long size,
+      ImmutableMap<String, String> metadata,
+      long lastAccessMillis) throws IOException {
+    getShard(ruleKey).put(ruleKey.toString(), size, metadata, lastAccessMillis);
+  }
+
+  /**
+   * Marks the artifact for the given rule key as used at the given time.
+   */
+  void touch(RuleKey ruleKey, long lastAccessMillis) throws IOException {
+    getShard(ruleKey).touch(ruleKey.toString(), lastAccessMillis);
+  }
+
+  void remove(RuleKey ruleKey) throws IOException {
+    getShard(ruleKey).remove(ruleKey.toString());
+  }
+
+  ImmutableSet<RuleKey> getRuleKeys() {
+    ImmutableSet.Builder<RuleKey> ruleKeys = ImmutableSet.builder();
+    for (Shard shard : shards) {
+      shard.addRuleKeys(ruleKeys);
+    }
+    return ruleKeys.build();
+  }
+
+  /**
+   * @return the total size of all the artifacts in the index.
+   */
+  long getTotalSize() {
+    return totalSize.get();
+  }
+
+  int size() {
+    int size = 0;
+    for (Shard shard : shards) {
+      size += shard.size();
+    }
+    return size;
+  }
+
+  /**
+   * @return the least recently accessed rule keys which need to be removed to bring the total size
+   *     of the index down to {@code maxSize}, oldest first.
+   */
+  ImmutableList<RuleKey> getEvictionCandidates(long maxSize) {
+    long excess = totalSize.get() - maxSize;
+    if (excess <= 0) {
+      return ImmutableList.of();
+    }
+    List<EvictionCandidate> candidates = new ArrayList<>();
+    for (Shard shard : shards) {
+      shard.addEvictionCandidates(candidates);
+    }
+    candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccessMillis));
+    ImmutableList.Builder<RuleKey> ruleKeys = ImmutableList.builder();
+    for (EvictionCandidate candidate : candidates) {
+      if (excess <= 0) {
+        break;
+      }
+      ruleKeys.add(new RuleKey(candidate.ruleKey));
+      excess -= candidate.size;
+    }
+    return ruleKeys.build();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      for (Shard shard : shards) {
+        shard.close();
+      }
+    } finally {
+      lock.release();
+      lockChannel.close();
+    }
+  }
+
+  static final class Entry {
+
+    private final long size;
+    private final ImmutableMap<String, String> metadata;
+
+    private Entry(long size, ImmutableMap<String, String> metadata) {
+      this.size = size;
+      this.metadata = metadata;
+    }
+
+    long getSize() {
+      return size;
+    }
+
+    ImmutableMap<String, String> getMetadata() {
+      return metadata;
+    }
+  }
+
+  private static final class EvictionCandidate {
+
+    private final String ruleKey;
+    private final long size;
+    private final long lastAccessMillis;
+
+    private EvictionCandidate(String ruleKey, long size, long lastAccessMillis) {
+      this.ruleKey = ruleKey;
+      this.size = size;
+      this.lastAccessMillis = lastAccessMillis;
+    }
+  }
+
+  private static final class Record {
+
+    private final long offset;
+    private final int length;
+    private final long size;
+    private long lastAccessMillis;
+
+    private Record(long offset, int length, long size, long lastAccessMillis) {
+      this.offset = offset;
+      this.length = length;
+      this.size = size;
+      this.lastAccessMillis = lastAccessMillis;
+    }
+  }
+
+  private final class Shard {
+
+    private final Path path;
+    private final Map<String, Record> records = new HashMap<>();
+    private FileChannel channel;
+    private long end;
+    private long deadBytes;
+
+    private Shard(Path path) throws IOException {
+      this.path = path;
+      openAndLoad();
+    }
+
+    private void openAndLoad() throws IOException {
+      channel = FileChannel.open(
+          path,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE);
+      long fileSize = channel.size();
+      if (fileSize > Integer.MAX_VALUE) {
+        throw new IOException(String.format("dir cache index shard %s is too large", path));
+      }
+      ByteBuffer buffer = read(0, (int) fileSize);
+      if (fileSize < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+        if (fileSize > 0) {
+          LOG.warn("Discarding unrecognized dir cache index shard %s", path);
+          channel.truncate(0);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.flip();
+        writeFully(channel, header, 0);
+        end = HEADER_SIZE;
+        return;
+      }
+
+      // A process killed while appending can leave an incomplete record at the end of the log,
+      // which is dropped.
+      int offset = HEADER_SIZE;
+      while (offset + FIXED_RECORD_SIZE <= fileSize) {
+        int length = buffer.getInt(offset);
+        if (length < FIXED_RECORD_SIZE || offset + length > fileSize) {
+          break;
+        }
+        long size = buffer.getLong(offset + SIZE_OFFSET);
+        if (buffer.get(offset + LIVE_OFFSET) != 0) {
+          ByteBuffer record = buffer.duplicate();
+          record.position(offset + FIXED_RECORD_SIZE);
+          record.limit(offset + length);
+          Record previous = records.put(
+              readString(record),
+              new Record(offset, length, size, buffer.getLong(offset + LAST_ACCESS_OFFSET)));
+          if (previous != null) {
+            totalSize.addAndGet(-previous.size);
+            kill(previous);
+          }
+          totalSize.addAndGet(size);
+        } else {
+          deadBytes += length;
+        }
+        offset += length;
+      }
+      if (offset < fileSize) {
+        channel.truncate(offset);
+      }
+      end = offset;
+    }
+
+    synchronized int size() {
+      return records.size();
+    }
+
+    synchronized boolean contains(String ruleKey) {
+      return records.containsKey(ruleKey);
+    }
+
+    synchronized Optional<Entry> get(String ruleKey) throws IOException {
+      Record record = records.get(ruleKey);
+      if (record == null) {
+        return Optional.empty();
+      }
+      ByteBuffer buffer =
+          read(record.offset + FIXED_RECORD_SIZE, record.length - FIXED_RECORD_SIZE);
+      readString(buffer);
+      int metadataCount = buffer.getInt();
+      ImmutableMap.Builder<String, String> metadata = ImmutableMap.builder();
+      for (int i = 0; i < metadataCount; i++) {
+        metadata.put(readString(buffer), readString(buffer));
+      }
+      return Optional.of(new Entry(record.size, metadata.build()));
+    }
+
+    synchronized void put(
+        String ruleKey,
+        long size,
+        ImmutableMap<String, String> metadata,
+        long lastAccessMillis) throws IOException {
+      List<byte[]> strings = new ArrayList<>();
+      strings.add(ruleKey.getBytes(Charsets.UTF_8));
+      for (Map.Entry<String, String> entry : metadata.entrySet()) {
+        strings.add(entry.getKey().getBytes(Charsets.UTF_8));
+        strings.add(entry.getValue().getBytes(Charsets.UTF_8));
+      }
+      int length = FIXED_RECORD_SIZE + 4;
+      for (byte[] string : strings) {
+        length += 4 + string.length;
+      }
+
+      ByteBuffer buffer = ByteBuffer.allocate(length - LIVE_OFFSET);
+      buffer.put((byte) 1);
+      buffer.putLong(lastAccessMillis);
+      buffer.putLong(size);
+      writeString(buffer, strings.get(0));
+      buffer.putInt(metadata.size());
+      for (byte[] string : strings.subList(1, strings.size())) {
+        writeString(buffer, string);
+      }
+      buffer.flip();
+      writeFully(channel, buffer, end + LIVE_OFFSET);
+      ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+      lengthBuffer.putInt(length);
+      lengthBuffer.flip();
+      writeFully(channel, lengthBuffer, end);
+
+      Record previous = records.put(ruleKey, new Record(end, length, size, lastAccessMillis));
+      if (previous != null) {
+        totalSize.addAndGet(-previous.size);
+        kill(previous);
+      }
+      totalSize.addAndGet(size);
+      end += length;
+    }
+
+    synchronized void touch(String ruleKey, long lastAccessMillis) throws IOException {
+      Record record = records.get(ruleKey);
+      if (record != null) {
+        record.lastAccessMillis = lastAccessMillis;
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putLong(lastAccessMillis);
+        buffer.flip();
+        writeFully(channel, buffer, record.offset + LAST_ACCESS_OFFSET);
+      }
+    }
+
+    synchronized void remove(String ruleKey) throws IOException {
+      Record record = records.remove(ruleKey);
+      if (record == null) {
+        return;
+      }
+      totalSize.addAndGet(-record.size);
+      kill(record);
+      if (deadBytes > MIN_COMPACTION_BYTES && deadBytes > end / 2) {
+        compact();
+      }
+    }
+
+    synchronized void addRuleKeys(ImmutableSet.Builder<RuleKey> ruleKeys) {
+      for (String ruleKey : records.keySet()) {
+        ruleKeys.add(new RuleKey(ruleKey));
+      }
+    }
+
+    synchronized void addEvictionCandidates(List<EvictionCandidate> candidates) {
+      for (Map.Entry<String, Record> entry : records.entrySet()) {
+        candidates.add(
+            new EvictionCandidate(
+                entry.getKey(),
+                entry.getValue().size,
+                entry.getValue().lastAccessMillis));
+      }
+    }
+
+    private void kill(Record record) throws IOException {
+      writeFully(channel, ByteBuffer.wrap(new byte[] {0}), record.offset + LIVE_OFFSET);
+      deadBytes += record.length;
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+      ByteBuffer buffer = ByteBuffer.allocate(length);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new EOFException(String.format("dir cache index shard %s is truncated", path));
+        }
+      }
+      buffer.flip();
+      return buffer;
+    }
+
+    /**
+     * Rewrites the shard with only its live records.
+     */
+    private void compact() throws IOException {
+      Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+      Map<String, Record> newRecords = new HashMap<>();
+      long newEnd = HEADER_SIZE;
+      try (FileChannel out = FileChannel.open(
+          tmp,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE)) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.flip();
+        writeFully(out, header, 0);
+        for (Map.Entry<String, Record> entry : records.entrySet()) {
+          Record record = entry.getValue();
+          writeFully(out, read(record.offset, record.length), newEnd);
+          newRecords.put(
+              entry.getKey(),
+              new Record(newEnd, record.length, record.size, record.lastAccessMillis));
+          newEnd += record.length;
+        }
+        out.force(false);
+      }
+      channel.close();
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+      channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      records.clear();
+      records.putAll(newRecords);
+      end = newEnd;
+      deadBytes = 0;
+      LOG.debug("Compacted dir cache index shard %s", path);
+    }
+
+    synchronized void close() throws IOException {
+      try {
+        channel.force(false);
+      } finally {
+        channel.close();
+      }
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer, position + buffer.position());
+    }
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, Charsets.UTF_8);
+  }
+
+  private static void writeString(ByteBuffer buffer, byte[] bytes) {
+    buffer.putInt(bytes.length);
+    buffer.put(bytes);
+  }
+}
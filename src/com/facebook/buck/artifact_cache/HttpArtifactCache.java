@@ -21,6 +21,8 @@ import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.slb.HttpResponse;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.io.ByteSource;
 
 import java.io.DataInputStream;
@@ -30,6 +32,7 @@ import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Optional;
 
 import okhttp3.MediaType;
 import okhttp3.Request;
@@ -57,6 +60,27 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
       RuleKey ruleKey,
       LazyPath output,
       final Finished.Builder eventBuilder) throws IOException {
+    return fetchImpl(ruleKey, output, Optional.empty(), eventBuilder);
+  }
+
+  /**
+   * Streams the payload of the response straight to {@code consumer}, verifying its checksum as
+   * it's read rather than after it has been written out.
+   */
+  @Override
+  protected CacheResult fetchStreamingImpl(
+      RuleKey ruleKey,
+      LazyPath output,
+      ArtifactConsumer consumer,
+      final Finished.Builder eventBuilder) throws IOException {
+    return fetchImpl(ruleKey, output, Optional.of(consumer), eventBuilder);
+  }
+
+  private CacheResult fetchImpl(
+      RuleKey ruleKey,
+      LazyPath output,
+      Optional<ArtifactConsumer> consumer,
+      final Finished.Builder eventBuilder) throws IOException {
 
     Request.Builder requestBuilder =
         new Request.Builder()
@@ -84,20 +108,25 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
           return CacheResult.error(name, msg);
         }
 
-        // Setup a temporary file, which sits next to the destination, to write to and
-        // make sure all parent dirs exist.
-        Path file = output.get();
-        projectFilesystem.createParentDirs(file);
-        Path temp = projectFilesystem.createTempFile(
-            file.getParent(),
-            file.getFileName().toString(),
-            ".tmp");
-
         FetchResponseReadResult fetchedData;
-        try (OutputStream tempFileOutputStream = projectFilesystem.newFileOutputStream(temp)) {
-          fetchedData = HttpArtifactCacheBinaryProtocol.readFetchResponse(
-              input,
-              tempFileOutputStream);
+        Optional<Path> temp = Optional.empty();
+        if (consumer.isPresent()) {
+          fetchedData = HttpArtifactCacheBinaryProtocol.readFetchResponse(input, consumer.get());
+        } else {
+          // Setup a temporary file, which sits next to the destination, to write to and
+          // make sure all parent dirs exist.
+          Path file = output.get();
+          projectFilesystem.createParentDirs(file);
+          temp = Optional.of(projectFilesystem.createTempFile(
+              file.getParent(),
+              file.getFileName().toString(),
+              ".tmp"));
+          try (OutputStream tempFileOutputStream =
+                   projectFilesystem.newFileOutputStream(temp.get())) {
+            fetchedData = HttpArtifactCacheBinaryProtocol.readFetchResponse(
+                input,
+                tempFileOutputStream);
+          }
         }
 
         eventBuilder
@@ -119,13 +148,17 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
         if (!fetchedData.getExpectedHashCode().equals(fetchedData.getActualHashCode())) {
           String msg = "artifact had invalid checksum";
           reportFailure("fetch(%s, %s): %s", response.requestUrl(), ruleKey, msg);
-          projectFilesystem.deleteFileAtPath(temp);
+          if (temp.isPresent()) {
+            projectFilesystem.deleteFileAtPath(temp.get());
+          }
           eventBuilder.getFetchBuilder().setErrorMessage(msg);
           return CacheResult.error(name, msg);
         }
 
         // Finally, move the temp file into it's final place.
-        projectFilesystem.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        if (temp.isPresent()) {
+          projectFilesystem.move(temp.get(), output.get(), StandardCopyOption.REPLACE_EXISTING);
+        }
 
         LOG.info("fetch(%s, %s): cache hit", response.requestUrl(), ruleKey);
         return CacheResult.hit(name, fetchedData.getMetadata(), fetchedData.getResponseSizeBytes());
@@ -133,6 +166,41 @@ public final class HttpArtifactCache extends AbstractNetworkCache {
     }
   }
 
+  /**
+   * Checks for artifacts with {@code HEAD} requests.  Servers which don't support these can't
+   * answer without sending the artifact, so any response other than 200 or 404 is treated as
+   * {@link CacheResultType#SKIPPED}.
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    return forEachConcurrently(ruleKeys, this::containsImpl);
+  }
+
+  private CacheResult containsImpl(RuleKey ruleKey) {
+    try (HttpResponse response = fetchClient.makeRequest(
+        "/artifacts/key/" + ruleKey.toString(),
+        new Request.Builder().head())) {
+      switch (response.statusCode()) {
+        case HttpURLConnection.HTTP_OK:
+          return CacheResult.hit(name);
+        case HttpURLConnection.HTTP_NOT_FOUND:
+          return CacheResult.miss();
+        default:
+          LOG.debug(
+              "contains(%s, %s): unexpected server response: [%d:%s]",
+              response.requestUrl(),
+              ruleKey,
+              response.statusCode(),
+              response.statusMessage());
+          return CacheResult.skipped();
+      }
+    } catch (IOException e) {
+      String msg = String.format("%s: %s", e.getClass().getName(), e.getMessage());
+      reportFailure(e, "contains(%s): %s", ruleKey, msg);
+      return CacheResult.error(name, msg);
+    }
+  }
+
   @Override
   protected void storeImpl(
       ArtifactInfo info,
@@ -30,6 +30,7 @@ import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 
 import org.immutables.value.Value;
 
@@ -67,6 +68,23 @@ public class HttpArtifactCacheBinaryProtocol {
     return result.build();
   }
 
+  /**
+   * Like {@link #readFetchResponse(DataInputStream, OutputStream)}, but passes the payload to
+   * {@code payloadConsumer} as it's read.  The hashes in the result cover the whole payload, even
+   * if the consumer doesn't read all of it.
+   */
+  public static FetchResponseReadResult readFetchResponse(
+      DataInputStream input,
+      ArtifactConsumer payloadConsumer) throws IOException {
+
+    MetadataAndPayloadReadResultInternal resultInternal = readMetadataAndPayload(
+        input,
+        payloadConsumer);
+
+    FetchResponseReadResult.Builder result = FetchResponseReadResult.builder().from(resultInternal);
+    return result.build();
+  }
+
   public static StoreResponseReadResult readStoreRequest(
       DataInputStream input,
       OutputStream payloadSink) throws IOException {
@@ -89,6 +107,12 @@ public class HttpArtifactCacheBinaryProtocol {
   public static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
       DataInputStream input,
       OutputStream payloadSink) throws IOException {
+    return readMetadataAndPayload(input, payload -> ByteStreams.copy(payload, payloadSink));
+  }
+
+  public static MetadataAndPayloadReadResultInternal readMetadataAndPayload(
+      DataInputStream input,
+      ArtifactConsumer payloadConsumer) throws IOException {
     // Read the size of a the metadata, and use that to build a input stream to read and
     // process the rest of it.
     int metadataSize = input.readInt();
@@ -134,12 +158,14 @@ public class HttpArtifactCacheBinaryProtocol {
       result.setExpectedHashCode(HashCode.fromBytes(hashCodeBytes));
     }
 
-    // The remaining data is the payload, which we write to the created file, and also include
-    // in our verification checksum.
+    // The remaining data is the payload, which we pass to the consumer, and also include in our
+    // verification checksum.  Whatever the consumer leaves unread still needs to be checksummed.
     Hasher artifactOnlyHasher = HASH_FUNCTION.newHasher();
-    try (InputStream payload = new HasherInputStream(artifactOnlyHasher,
-        new HasherInputStream(hasher, input))) {
-      result.setResponseSizeBytes(ByteStreams.copy(payload, payloadSink));
+    try (CountingInputStream payload = new CountingInputStream(
+        new HasherInputStream(artifactOnlyHasher, new HasherInputStream(hasher, input)))) {
+      payloadConsumer.consume(payload);
+      ByteStreams.exhaust(payload);
+      result.setResponseSizeBytes(payload.getCount());
       result.setArtifactOnlyHashCode(artifactOnlyHasher.hash());
     }
 
@@ -21,13 +21,20 @@ import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.rules.RuleKey;
 import com.google.common.base.Functions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * MultiArtifactCache encapsulates a set of ArtifactCache instances such that fetch() succeeds if
@@ -79,6 +86,135 @@ public class MultiArtifactCache implements ArtifactCache {
     return cacheResult;
   }
 
+  /**
+   * Like {@link #fetch(RuleKey, LazyPath)}, but artifacts are streamed to {@code consumer}.  They
+   * are only also written to {@code output} when they need storing to caches earlier in the
+   * search order.
+   *
+   * Note that this means the usual setup of a writable dir cache in front of a remote cache gains
+   * nothing from streaming on a dir cache miss: the remote artifact is teed to {@code output} as
+   * it's consumed, so that the dir cache can store it from there afterwards.  Only artifacts found
+   * in the first cache, or behind caches which can't be stored to, skip the disk.
+   */
+  @Override
+  public CacheResult fetchStreaming(RuleKey ruleKey, LazyPath output, ArtifactConsumer consumer) {
+    FetchRequest request = FetchRequest.of(output, Optional.of(consumer));
+    CacheResult cacheResult = CacheResult.miss();
+    ImmutableList.Builder<ArtifactCache> priorCaches = ImmutableList.builder();
+    for (ArtifactCache artifactCache : artifactCaches) {
+      ImmutableList<ArtifactCache> cachesToStoreTo = priorCaches.build();
+      cacheResult = getRequestFor(request, cachesToStoreTo).fetchFrom(artifactCache, ruleKey);
+      if (cacheResult.getType().isSuccess()) {
+        storeToCaches(
+            cachesToStoreTo,
+            ArtifactInfo.builder()
+                .addRuleKeys(ruleKey)
+                .setMetadata(cacheResult.getMetadata())
+                .build(),
+            BorrowablePath.notBorrowablePath(output.getUnchecked()));
+        break;
+      }
+      if (artifactCache.isStoreSupported()) {
+        priorCaches.add(artifactCache);
+      }
+    }
+    return cacheResult;
+  }
+
+  /**
+   * Fetch the given artifacts, asking each of the encapsulated ArtifactCaches in turn for those
+   * which the previous ones didn't have.  As with {@link #fetch(RuleKey, LazyPath)}, fetched
+   * artifacts may be stored to caches earlier in the search order.
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(
+      ImmutableMap<RuleKey, FetchRequest> requests) {
+    Map<RuleKey, CacheResult> results = new HashMap<>();
+    Map<RuleKey, FetchRequest> remaining = new LinkedHashMap<>(requests);
+    ImmutableList.Builder<ArtifactCache> priorCaches = ImmutableList.builder();
+    for (ArtifactCache artifactCache : artifactCaches) {
+      if (remaining.isEmpty()) {
+        break;
+      }
+      ImmutableList<ArtifactCache> cachesToStoreTo = priorCaches.build();
+      ImmutableMap.Builder<RuleKey, FetchRequest> cacheRequests = ImmutableMap.builder();
+      for (Map.Entry<RuleKey, FetchRequest> entry : remaining.entrySet()) {
+        cacheRequests.put(entry.getKey(), getRequestFor(entry.getValue(), cachesToStoreTo));
+      }
+      ImmutableMap<RuleKey, CacheResult> cacheResults =
+          artifactCache.multiFetch(cacheRequests.build());
+      for (Map.Entry<RuleKey, CacheResult> entry : cacheResults.entrySet()) {
+        RuleKey ruleKey = entry.getKey();
+        CacheResult cacheResult = entry.getValue();
+        results.put(ruleKey, cacheResult);
+        if (cacheResult.getType().isSuccess()) {
+          storeToCaches(
+              cachesToStoreTo,
+              ArtifactInfo.builder()
+                  .addRuleKeys(ruleKey)
+                  .setMetadata(cacheResult.getMetadata())
+                  .build(),
+              BorrowablePath.notBorrowablePath(
+                  remaining.remove(ruleKey).getOutput().getUnchecked()));
+        }
+      }
+      if (artifactCache.isStoreSupported()) {
+        priorCaches.add(artifactCache);
+      }
+    }
+    return buildResults(requests.keySet(), results);
+  }
+
+  /**
+   * Check the encapsulated ArtifactCaches in turn for the artifacts which the previous ones didn't
+   * have.  An artifact is only reported as missing if none of the caches skipped checking for it.
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    Map<RuleKey, CacheResult> results = new HashMap<>();
+    Set<RuleKey> remaining = new LinkedHashSet<>(ruleKeys);
+    for (ArtifactCache artifactCache : artifactCaches) {
+      if (remaining.isEmpty()) {
+        break;
+      }
+      ImmutableMap<RuleKey, CacheResult> cacheResults =
+          artifactCache.multiContains(ImmutableSet.copyOf(remaining));
+      for (Map.Entry<RuleKey, CacheResult> entry : cacheResults.entrySet()) {
+        CacheResult previous = results.get(entry.getKey());
+        CacheResultType type = entry.getValue().getType();
+        if (previous == null ||
+            previous.getType() != CacheResultType.SKIPPED ||
+            type == CacheResultType.HIT) {
+          results.put(entry.getKey(), entry.getValue());
+        }
+        if (type == CacheResultType.HIT) {
+          remaining.remove(entry.getKey());
+        }
+      }
+    }
+    return buildResults(ruleKeys, results);
+  }
+
+  /**
+   * @return the request to make of a cache, making sure the artifact is written out if it will
+   *     need to be stored to other caches.
+   */
+  private static FetchRequest getRequestFor(
+      FetchRequest request,
+      ImmutableList<ArtifactCache> cachesToStoreTo) {
+    return cachesToStoreTo.isEmpty() ? request : request.withOutputWritten();
+  }
+
+  private static ImmutableMap<RuleKey, CacheResult> buildResults(
+      Set<RuleKey> ruleKeys,
+      Map<RuleKey, CacheResult> results) {
+    ImmutableMap.Builder<RuleKey, CacheResult> builder = ImmutableMap.builder();
+    for (RuleKey ruleKey : ruleKeys) {
+      builder.put(ruleKey, results.getOrDefault(ruleKey, CacheResult.miss()));
+    }
+    return builder.build();
+  }
+
   private static ListenableFuture<Void> storeToCaches(
       ImmutableList<ArtifactCache> caches,
       ArtifactInfo info,
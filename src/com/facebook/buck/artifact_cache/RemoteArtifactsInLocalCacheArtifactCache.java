@@ -21,8 +21,15 @@ import com.facebook.buck.io.LazyPath;
 import com.facebook.buck.rules.RuleKey;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ListenableFuture;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * A cache that wraps dir caches and remote caches. It allows to store only into remote cache,
  * and internally it stores artifacts fetched from remote cache into local cache. Thus, it never
@@ -75,6 +82,86 @@ public class RemoteArtifactsInLocalCacheArtifactCache implements ArtifactCache {
     return remoteResult;
   }
 
+  /**
+   * Artifacts from the remote caches are streamed to {@code consumer}, but still written to
+   * {@code output} so they can be stored in the local caches.
+   */
+  @Override
+  public CacheResult fetchStreaming(RuleKey ruleKey, LazyPath output, ArtifactConsumer consumer) {
+    FetchRequest request = FetchRequest.of(output, Optional.of(consumer));
+    CacheResult localResult = localCaches.fetch(ruleKey, output);
+
+    if (localResult.getType() == CacheResultType.ERROR ||
+        localResult.getType() == CacheResultType.HIT) {
+      return request.consumeFetchedArtifact(localResult);
+    }
+
+    // miss
+    CacheResult remoteResult = request.withOutputWritten().fetchFrom(remoteCaches, ruleKey);
+    if (remoteResult.getType().isSuccess()) {
+      localCaches.store(
+          ArtifactInfo.builder()
+              .addRuleKeys(ruleKey)
+              .setMetadata(remoteResult.getMetadata())
+              .build(),
+          BorrowablePath.notBorrowablePath(output.getUnchecked()));
+    }
+    return remoteResult;
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(
+      ImmutableMap<RuleKey, FetchRequest> requests) {
+    ImmutableMap.Builder<RuleKey, FetchRequest> localRequests = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, FetchRequest> entry : requests.entrySet()) {
+      localRequests.put(
+          entry.getKey(),
+          FetchRequest.of(entry.getValue().getOutput(), Optional.empty()));
+    }
+    ImmutableMap<RuleKey, CacheResult> localResults =
+        localCaches.multiFetch(localRequests.build());
+    Map<RuleKey, CacheResult> results = new LinkedHashMap<>();
+    ImmutableMap.Builder<RuleKey, FetchRequest> remoteRequests = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, CacheResult> entry : localResults.entrySet()) {
+      FetchRequest request = requests.get(entry.getKey());
+      CacheResultType type = entry.getValue().getType();
+      if (type != CacheResultType.ERROR && type != CacheResultType.HIT) {
+        results.put(entry.getKey(), entry.getValue());
+        remoteRequests.put(entry.getKey(), request.withOutputWritten());
+      } else {
+        results.put(entry.getKey(), request.consumeFetchedArtifact(entry.getValue()));
+      }
+    }
+
+    ImmutableMap<RuleKey, CacheResult> remoteResults =
+        remoteCaches.multiFetch(remoteRequests.build());
+    for (Map.Entry<RuleKey, CacheResult> entry : remoteResults.entrySet()) {
+      CacheResult remoteResult = entry.getValue();
+      if (remoteResult.getType().isSuccess()) {
+        localCaches.store(
+            ArtifactInfo.builder()
+                .addRuleKeys(entry.getKey())
+                .setMetadata(remoteResult.getMetadata())
+                .build(),
+            BorrowablePath.notBorrowablePath(
+                requests.get(entry.getKey()).getOutput().getUnchecked()));
+      }
+      results.put(entry.getKey(), remoteResult);
+    }
+    return ImmutableMap.copyOf(results);
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    ImmutableMap<RuleKey, CacheResult> localResults = localCaches.multiContains(ruleKeys);
+    ImmutableSet<RuleKey> remoteRuleKeys = ImmutableSet.copyOf(
+        Maps.filterValues(localResults, result -> result.getType() != CacheResultType.HIT)
+            .keySet());
+    Map<RuleKey, CacheResult> results = new LinkedHashMap<>(localResults);
+    results.putAll(remoteCaches.multiContains(remoteRuleKeys));
+    return ImmutableMap.copyOf(results);
+  }
+
   @Override
   public ListenableFuture<Void> store(ArtifactInfo info, BorrowablePath output) {
     return remoteCaches.store(info, output);
@@ -80,6 +80,27 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
       RuleKey ruleKey,
       LazyPath output,
       HttpArtifactCacheEvent.Finished.Builder eventBuilder) throws IOException {
+    return fetchImpl(ruleKey, output, Optional.empty(), eventBuilder);
+  }
+
+  /**
+   * Streams the payload straight to {@code consumer}, hashing it as it's read rather than after
+   * it has been written out.
+   */
+  @Override
+  protected CacheResult fetchStreamingImpl(
+      RuleKey ruleKey,
+      LazyPath output,
+      ArtifactConsumer consumer,
+      HttpArtifactCacheEvent.Finished.Builder eventBuilder) throws IOException {
+    return fetchImpl(ruleKey, output, Optional.of(consumer), eventBuilder);
+  }
+
+  private CacheResult fetchImpl(
+      RuleKey ruleKey,
+      LazyPath output,
+      Optional<ArtifactConsumer> consumer,
+      HttpArtifactCacheEvent.Finished.Builder eventBuilder) throws IOException {
 
     BuckCacheFetchRequest fetchRequest = new BuckCacheFetchRequest();
     com.facebook.buck.artifact_cache.thrift.RuleKey thriftRuleKey =
@@ -139,12 +160,17 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         LOG.verbose("Got artifact.  Attempting to read payload.");
-        Path tmp = createTempFileForDownload();
+        Optional<Path> tmp = Optional.empty();
         ThriftArtifactCacheProtocol.Response.ReadPayloadInfo readResult;
-        try (OutputStream tmpFile = projectFilesystem.newFileOutputStream(tmp)) {
-          readResult = response.readPayload(tmpFile);
-          LOG.verbose("Successfully read payload: %d bytes.", readResult.getBytesRead());
+        if (consumer.isPresent()) {
+          readResult = response.readPayload(consumer.get());
+        } else {
+          tmp = Optional.of(createTempFileForDownload());
+          try (OutputStream tmpFile = projectFilesystem.newFileOutputStream(tmp.get())) {
+            readResult = response.readPayload(tmpFile);
+          }
         }
+        LOG.verbose("Successfully read payload: %d bytes.", readResult.getBytesRead());
 
         ArtifactMetadata metadata = fetchResponse.getMetadata();
         if (LOG.isVerboseEnabled()) {
@@ -176,7 +202,9 @@ public class ThriftArtifactCache extends AbstractNetworkCache {
         }
 
         // This makes sure we don't have 'half downloaded files' in the dir cache.
-        projectFilesystem.move(tmp, output.get(), StandardCopyOption.REPLACE_EXISTING);
+        if (tmp.isPresent()) {
+          projectFilesystem.move(tmp.get(), output.get(), StandardCopyOption.REPLACE_EXISTING);
+        }
         return CacheResult.hit(
             name,
             ImmutableMap.copyOf(fetchResponse.getMetadata().getMetadata()),
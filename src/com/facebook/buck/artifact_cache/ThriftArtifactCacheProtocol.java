@@ -26,13 +26,16 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
 import com.google.common.hash.HashingOutputStream;
 import com.google.common.io.ByteSource;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
 
 import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -198,6 +201,35 @@ public class ThriftArtifactCacheProtocol {
       }
     }
 
+    /**
+     * Like {@link #readPayload(OutputStream)}, but passes the payload to {@code consumer} as it's
+     * read.  The hash covers the whole payload, even if the consumer doesn't read all of it.
+     */
+    public ReadPayloadInfo readPayload(ArtifactConsumer consumer) throws IOException {
+      Preconditions.checkState(
+          nextPayloadToBeRead < thriftData.getPayloadsSize(),
+          "Trying to download payload index=[%s] but the thriftData only contains [%s] payloads.",
+          nextPayloadToBeRead,
+          thriftData.getPayloadsSize());
+
+      long payloadSizeBytes = Preconditions.checkNotNull(thriftData.getPayloads())
+          .get(nextPayloadToBeRead).getSizeBytes();
+      HashingInputStream payload = new HashingInputStream(
+          MD5_HASH_FUNCTION,
+          ByteStreams.limit(responseStream, payloadSizeBytes));
+      CountingInputStream countingPayload = new CountingInputStream(payload);
+      consumer.consume(countingPayload);
+      ByteStreams.exhaust(countingPayload);
+      if (countingPayload.getCount() != payloadSizeBytes) {
+        throw new EOFException(String.format(
+            "Expected payload of [%d] bytes but only got [%d].",
+            payloadSizeBytes,
+            countingPayload.getCount()));
+      }
+      ++nextPayloadToBeRead;
+      return new ReadPayloadInfo(payloadSizeBytes, payload.hash().toString());
+    }
+
     @Override
     public void close() throws IOException {
       responseStream.close();
@@ -37,6 +37,8 @@ import com.google.common.util.concurrent.ListenableFuture;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -125,17 +127,102 @@ public class TwoLevelArtifactCacheDecorator implements ArtifactCache, CacheDecor
   @Override
   public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
     CacheResult fetchResult = delegate.fetch(ruleKey, output);
+    if (!isSecondLevelPointer(fetchResult)) {
+      return fetchResult;
+    }
+    return processSecondLevelResult(
+        fetchResult,
+        delegate.fetch(getSecondLevelKey(fetchResult), output));
+  }
+
+  /**
+   * Only the second-level artifact is streamed, as the first-level fetch may turn out to be
+   * either a pointer or the artifact itself.
+   */
+  @Override
+  public CacheResult fetchStreaming(RuleKey ruleKey, LazyPath output, ArtifactConsumer consumer) {
+    CacheResult fetchResult = delegate.fetch(ruleKey, output);
+    if (!isSecondLevelPointer(fetchResult)) {
+      return FetchRequest.of(output, Optional.of(consumer)).consumeFetchedArtifact(fetchResult);
+    }
+    return processSecondLevelResult(
+        fetchResult,
+        delegate.fetchStreaming(getSecondLevelKey(fetchResult), output, consumer));
+  }
+
+  /**
+   * Fetches the first-level entries as one batch, and then the second-level artifacts they point
+   * to as a second batch.
+   */
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiFetch(
+      ImmutableMap<RuleKey, FetchRequest> requests) {
+    ImmutableMap.Builder<RuleKey, FetchRequest> firstLevelRequests = ImmutableMap.builder();
+    for (Map.Entry<RuleKey, FetchRequest> entry : requests.entrySet()) {
+      firstLevelRequests.put(
+          entry.getKey(),
+          FetchRequest.of(entry.getValue().getOutput(), Optional.empty()));
+    }
+    ImmutableMap<RuleKey, CacheResult> firstLevelResults =
+        delegate.multiFetch(firstLevelRequests.build());
+
+    ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+    Map<RuleKey, RuleKey> secondLevelKeys = new LinkedHashMap<>();
+    Map<RuleKey, FetchRequest> secondLevelRequests = new LinkedHashMap<>();
+    for (Map.Entry<RuleKey, CacheResult> entry : firstLevelResults.entrySet()) {
+      CacheResult fetchResult = entry.getValue();
+      FetchRequest request = requests.get(entry.getKey());
+      if (!isSecondLevelPointer(fetchResult)) {
+        results.put(entry.getKey(), request.consumeFetchedArtifact(fetchResult));
+        continue;
+      }
+      RuleKey secondLevelKey = getSecondLevelKey(fetchResult);
+      if (secondLevelRequests.putIfAbsent(secondLevelKey, request) == null) {
+        secondLevelKeys.put(entry.getKey(), secondLevelKey);
+      } else {
+        // Rules with identical outputs share a second-level artifact, but each needs its own copy.
+        results.put(
+            entry.getKey(),
+            processSecondLevelResult(fetchResult, request.fetchFrom(delegate, secondLevelKey)));
+      }
+    }
+
+    ImmutableMap<RuleKey, CacheResult> secondLevelResults =
+        delegate.multiFetch(ImmutableMap.copyOf(secondLevelRequests));
+    for (Map.Entry<RuleKey, RuleKey> entry : secondLevelKeys.entrySet()) {
+      results.put(
+          entry.getKey(),
+          processSecondLevelResult(
+              firstLevelResults.get(entry.getKey()),
+              secondLevelResults.get(entry.getValue())));
+    }
+    return results.build();
+  }
+
+  @Override
+  public ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+    return delegate.multiContains(ruleKeys);
+  }
+
+  private static boolean isSecondLevelPointer(CacheResult fetchResult) {
     if (!fetchResult.getType().isSuccess()) {
       LOG.verbose("Missed first-level lookup.");
-      return fetchResult;
+      return false;
     } else if (!fetchResult.getMetadata().containsKey(METADATA_KEY)) {
       LOG.verbose("Found a single-level entry.");
-      return fetchResult;
+      return false;
     }
     LOG.verbose("Found a first-level artifact with metadata: %s", fetchResult.getMetadata());
-    CacheResult outputFileFetchResult = delegate.fetch(
-        new RuleKey(fetchResult.getMetadata().get(METADATA_KEY)),
-        output);
+    return true;
+  }
+
+  private static RuleKey getSecondLevelKey(CacheResult fetchResult) {
+    return new RuleKey(fetchResult.getMetadata().get(METADATA_KEY));
+  }
+
+  private CacheResult processSecondLevelResult(
+      CacheResult fetchResult,
+      CacheResult outputFileFetchResult) {
     if (!outputFileFetchResult.getType().isSuccess()) {
       LOG.verbose("Missed second-level lookup.");
       secondLevelCacheMisses.inc();
@@ -26,6 +26,7 @@ import com.facebook.buck.rules.ActionGraphCache;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
 import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.TargetNodeHashCache;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
 import com.facebook.buck.shell.WorkerProcessPool;
 import com.facebook.buck.step.ExecutorPool;
@@ -94,6 +95,8 @@ public interface AbstractCommandRunnerParams {
 
   ActionGraphCache getActionGraphCache();
 
+  TargetNodeHashCache getTargetNodeHashCache();
+
   KnownBuildRuleTypesFactory getKnownBuildRuleTypesFactory();
 
   Optional<InvocationInfo> getInvocationInfo();
@@ -21,6 +21,7 @@ import static java.lang.Integer.parseInt;
 import com.facebook.buck.config.Config;
 import com.facebook.buck.config.ConfigView;
 import com.facebook.buck.config.ConfigViewCache;
+import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.MorePaths;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.BuildTarget;
@@ -48,6 +49,7 @@ import com.facebook.buck.util.concurrent.ResourceAmountsEstimator;
 import com.facebook.buck.util.environment.Architecture;
 import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.network.hostname.HostnameFetching;
+import com.facebook.buck.util.unit.SizeUnit;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
@@ -125,7 +127,8 @@ public class BuckConfig implements ConfigPathGetter {
     ignoreFieldsForDaemonRestartBuilder.put("client",
         ImmutableSet.of("id", "skip-action-graph-cache"));
     ignoreFieldsForDaemonRestartBuilder.put("log", ImmutableSet.of(
-        "chrome_trace_generation", "compress_traces", "max_traces", "public_announcements"));
+        "chrome_trace_generation", "compress_traces", "event_bus_overflow_policy",
+        "event_bus_queue_size", "max_traces", "max_traces_size", "public_announcements"));
     ignoreFieldsForDaemonRestartBuilder.put("project", ImmutableSet.of(
         "ide_prompt", "xcode_focus_disable_build_with_buck"));
     IGNORE_FIELDS_FOR_DAEMON_RESTART = ignoreFieldsForDaemonRestartBuilder.build();
@@ -464,6 +467,10 @@ public class BuckConfig implements ConfigPathGetter {
     return parseInt(getValue(LOG_SECTION, "max_traces").orElse(DEFAULT_MAX_TRACES));
   }
 
+  public Optional<Long> getMaxTracesSizeBytes() {
+    return getValue(LOG_SECTION, "max_traces_size").map(SizeUnit::parseBytes);
+  }
+
   public boolean isChromeTraceCreationEnabled() {
     return getBooleanValue(LOG_SECTION, "chrome_trace_generation", true);
   }
@@ -492,6 +499,16 @@ public class BuckConfig implements ConfigPathGetter {
     return getBooleanValue("log", "compress_traces", false);
   }
 
+  public int getEventBusQueueSize() {
+    return config.getInteger(LOG_SECTION, "event_bus_queue_size")
+        .orElse(BuckEventBus.DEFAULT_QUEUE_SIZE);
+  }
+
+  public BuckEventBus.OverflowPolicy getEventBusOverflowPolicy() {
+    return getEnum(LOG_SECTION, "event_bus_overflow_policy", BuckEventBus.OverflowPolicy.class)
+        .orElse(BuckEventBus.OverflowPolicy.BLOCK);
+  }
+
   public ProjectTestsMode xcodeProjectTestsMode() {
     return getEnum("project", "xcode_project_tests_mode", ProjectTestsMode.class).orElse(
         ProjectTestsMode.WITH_TESTS);
@@ -577,6 +594,18 @@ public class BuckConfig implements ConfigPathGetter {
     return getBooleanValue("cache", "action_graph_cache_check_enabled", false);
   }
 
+  /**
+   * @return roughly how much memory the daemon may use to keep action graphs around.  The most
+   *     recently used one is always kept.
+   */
+  public long getActionGraphCacheMaxSizeBytes() {
+    return getValue("cache", "action_graph_cache_max_size").map(SizeUnit::parseBytes).orElse(0L);
+  }
+
+  public boolean isIncrementalActionGraphEnabled() {
+    return getBooleanValue("cache", "incremental_action_graph", false);
+  }
+
   public Optional<String> getRepository() {
     return config.get("cache", "repository");
   }
@@ -708,6 +737,14 @@ public class BuckConfig implements ConfigPathGetter {
     return parseInt(getValue("cache", "key_seed").orElse("0"));
   }
 
+  /**
+   * @return whether the daemon should save its default rule key cache to disk, so that a restarted
+   *     daemon can reuse it.
+   */
+  public boolean isRuleKeyCachePersistenceEnabled() {
+    return getBooleanValue("cache", "persist_rule_keys", false);
+  }
+
   /**
    * @return the path for the given section and property.
    */
@@ -1081,6 +1118,14 @@ public class BuckConfig implements ConfigPathGetter {
     return getBooleanValue("build", "rule_key_caching", false);
   }
 
+  /**
+   * @return whether to keep the hashes of the project's files in buck-out, so that new processes
+   *     don't have to read the files which haven't changed again.
+   */
+  public boolean isFileHashPersistenceEnabled() {
+    return getBooleanValue("build", "persist_file_hashes", false);
+  }
+
   public Config getConfig() {
     return config;
   }
@@ -25,6 +25,7 @@ import com.facebook.buck.distributed.BuckVersionUtil;
 import com.facebook.buck.distributed.BuildJobStateSerializer;
 import com.facebook.buck.distributed.DistBuildCellIndexer;
 import com.facebook.buck.distributed.DistBuildClientExecutor;
+import com.facebook.buck.distributed.DistBuildConfig;
 import com.facebook.buck.distributed.DistBuildFileHashes;
 import com.facebook.buck.distributed.DistBuildLogStateTracker;
 import com.facebook.buck.distributed.DistBuildService;
@@ -34,6 +35,8 @@ import com.facebook.buck.distributed.DistBuildTypeCoercerFactory;
 import com.facebook.buck.distributed.thrift.BuckVersion;
 import com.facebook.buck.distributed.thrift.BuildJobState;
 import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.PerfEventId;
+import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.json.BuildFileParseException;
 import com.facebook.buck.jvm.java.JavaBuckConfig;
@@ -50,6 +53,7 @@ import com.facebook.buck.rules.ActionGraphAndResolver;
 import com.facebook.buck.rules.BuildEngine;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.CachingBuildEngine;
 import com.facebook.buck.rules.CachingBuildEngineBuckConfig;
@@ -61,6 +65,7 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetGraphAndBuildTargets;
 import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.rules.TargetNodeFactory;
@@ -95,7 +100,9 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.ListeningExecutorService;
 
 import org.kohsuke.args4j.Argument;
@@ -105,6 +112,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -466,6 +474,7 @@ public class BuildCommand extends AbstractCommand {
           graphs,
           executorService);
     } else {
+      prefetchInputHashes(params, graphs.getTargetGraphForLocalBuild().getTargetGraph());
       exitCode = executeLocalBuild(params, graphs.actionGraph, executorService);
     }
     if (exitCode == 0) {
@@ -476,6 +485,29 @@ public class BuildCommand extends AbstractCommand {
     return exitCode;
   }
 
+  /**
+   * Hashes the inputs of all the targets in parallel up front, rather than one at a time as the
+   * rule keys which need them are computed.
+   */
+  private void prefetchInputHashes(
+      CommandRunnerParams params,
+      TargetGraph targetGraph) throws InterruptedException {
+    Multimap<ProjectFilesystem, Path> inputsByFilesystem = LinkedHashMultimap.create();
+    for (TargetNode<?, ?> node : targetGraph.getNodes()) {
+      inputsByFilesystem.putAll(node.getFilesystem(), node.getInputs());
+    }
+    try (SimplePerfEvent.Scope scope = SimplePerfEvent.scope(
+        params.getBuckEventBus(),
+        PerfEventId.of("PrefetchInputHashes"),
+        "inputs",
+        inputsByFilesystem.size())) {
+      for (Map.Entry<ProjectFilesystem, Collection<Path>> entry :
+           inputsByFilesystem.asMap().entrySet()) {
+        params.getFileHashCache().prefetch(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
   private int processSuccessfulBuild(
       CommandRunnerParams params,
       ActionAndTargetGraphs graphs)
@@ -583,7 +615,8 @@ public class BuildCommand extends AbstractCommand {
           }
         },
         targetGraphAndBuildTargets.getBuildTargets().stream().map(
-            t -> t.getFullyQualifiedName()).collect(Collectors.toSet()));
+            t -> t.getFullyQualifiedName()).collect(Collectors.toSet()),
+        new DistBuildConfig(params.getBuckConfig()).isCompactTargetGraphEnabled());
 
     BuildJobState jobState = computeDistributedBuildJobState(
         targetGraphCodec,
@@ -784,7 +817,11 @@ public class BuildCommand extends AbstractCommand {
       Iterable<BuildTarget> targetsToBuild) throws IOException, InterruptedException {
     CachingBuildEngineBuckConfig cachingBuildEngineBuckConfig =
         rootCellBuckConfig.getView(CachingBuildEngineBuckConfig.class);
-    try (CommandThreadManager artifactFetchService =
+    try (BuildRuleDurationHistory durationHistory =
+             new BuildRuleDurationHistory(
+                 params.getCell().getFilesystem(),
+                 params.getObjectMapper());
+         CommandThreadManager artifactFetchService =
              getArtifactFetchService(params.getBuckConfig(), executor);
          RuleKeyCacheScope<RuleKey> ruleKeyCacheScope =
              getDefaultRuleKeyCacheScope(
@@ -816,7 +853,9 @@ public class BuildCommand extends AbstractCommand {
                        fs -> cachingBuildEngineDelegate.getFileHashCache(),
                        actionGraphAndResolver.getResolver(),
                        cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
-                       ruleKeyCacheScope.getCache())),
+                       ruleKeyCacheScope.getCache()),
+                   cachingBuildEngineBuckConfig.getBuildSchedulingMode(),
+                   Optional.of(durationHistory)),
                artifactCache,
                params.getConsole(),
                params.getBuckEventBus(),
@@ -17,15 +17,18 @@
 package com.facebook.buck.cli;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCompression;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.parser.ParseEvent;
 import com.facebook.buck.rules.BuildEvent;
 import com.facebook.buck.rules.BuildInfo;
 import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
 import com.facebook.buck.zip.Unzip;
 import com.google.common.annotations.VisibleForTesting;
@@ -38,7 +41,9 @@ import com.google.common.util.concurrent.ListenableFuture;
 import org.kohsuke.args4j.Argument;
 import org.kohsuke.args4j.Option;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -199,6 +204,7 @@ public class CacheCommand extends AbstractCommand {
       case MISS:
       case IGNORED:
       case LOCAL_KEY_UNCHANGED_HIT:
+      case SKIPPED:
       default:
         return typeString;
     }
@@ -218,11 +224,13 @@ public class CacheCommand extends AbstractCommand {
       buckTarget = success.metadata().get().get(BuildInfo.MetadataKey.TARGET);
     }
     ImmutableList<Path> paths;
-    try {
-      paths = Unzip.extractZipFile(
-          artifact.toAbsolutePath(),
-          tmpDir,
-          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(artifact))) {
+      paths = Unzip.extractZipStream(
+          ArtifactCompression.openZip(input),
+          new ProjectFilesystem(tmpDir),
+          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES).stream()
+          .map(path -> tmpDir.resolve(path).toAbsolutePath())
+          .collect(MoreCollectors.toImmutableList());
     } catch (IOException e) {
       resultString.append(String.format(
         "%s %s !(Unable to extract) %s\n", ruleKey, buckTarget, e));
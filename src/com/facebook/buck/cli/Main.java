@@ -42,6 +42,7 @@ import com.facebook.buck.event.listener.AbstractConsoleEventBusListener;
 import com.facebook.buck.event.listener.BroadcastEventListener;
 import com.facebook.buck.event.listener.CacheRateStatsListener;
 import com.facebook.buck.event.listener.ChromeTraceBuildListener;
+import com.facebook.buck.event.listener.EventDeliveryCounter;
 import com.facebook.buck.event.listener.FileSerializationEventBusListener;
 import com.facebook.buck.event.listener.JavaUtilsLoggingBuildListener;
 import com.facebook.buck.event.listener.LoadBalancerEventsListener;
@@ -53,6 +54,7 @@ import com.facebook.buck.event.listener.RuleKeyLoggerListener;
 import com.facebook.buck.event.listener.SimpleConsoleEventBusListener;
 import com.facebook.buck.event.listener.SuperConsoleConfig;
 import com.facebook.buck.event.listener.SuperConsoleEventBusListener;
+import com.facebook.buck.hashing.StringHashing;
 import com.facebook.buck.httpserver.WebServer;
 import com.facebook.buck.io.AsynchronousDirectoryContentsCleaner;
 import com.facebook.buck.io.BuckPaths;
@@ -73,6 +75,7 @@ import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuckVersion;
 import com.facebook.buck.model.BuildId;
 import com.facebook.buck.parser.Parser;
+import com.facebook.buck.parser.ParserCacheSnapshotStore;
 import com.facebook.buck.parser.ParserConfig;
 import com.facebook.buck.rules.ActionGraphCache;
 import com.facebook.buck.rules.Cell;
@@ -82,10 +85,12 @@ import com.facebook.buck.rules.DefaultCellPathResolver;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
 import com.facebook.buck.rules.RelativeCellName;
 import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.TargetNodeHashCache;
 import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
 import com.facebook.buck.rules.coercer.TypeCoercerFactory;
 import com.facebook.buck.rules.keys.DefaultRuleKeyCache;
 import com.facebook.buck.rules.keys.RuleKeyCacheRecycler;
+import com.facebook.buck.rules.keys.RuleKeyCacheSnapshotStore;
 import com.facebook.buck.shell.WorkerProcessPool;
 import com.facebook.buck.step.ExecutorPool;
 import com.facebook.buck.test.TestConfig;
@@ -111,9 +116,11 @@ import com.facebook.buck.util.ProcessExecutor;
 import com.facebook.buck.util.ProcessManager;
 import com.facebook.buck.util.RichStream;
 import com.facebook.buck.util.Verbosity;
+import com.facebook.buck.util.WatchmanSubscriber;
 import com.facebook.buck.util.WatchmanWatcher;
 import com.facebook.buck.util.WatchmanWatcherException;
 import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.FileHashStore;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.cache.StackedFileHashCache;
 import com.facebook.buck.util.cache.WatchedFileHashCache;
@@ -141,7 +148,12 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.eventbus.EventBus;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.common.reflect.ClassPath;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.martiansoftware.nailgun.NGContext;
@@ -177,6 +189,7 @@ import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -196,6 +209,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 
 
 public final class Main {
@@ -232,6 +246,9 @@ public final class Main {
    */
   private static final String STATIC_CONTENT_DIRECTORY = System.getProperty(
       "buck.path_to_static_content", "webserver/static");
+  private static final String RULE_KEY_CACHE_SNAPSHOT_FILE_NAME = ".rule_key_cache";
+  private static final String PARSER_CACHE_SNAPSHOT_FILE_NAME = ".parser_cache";
+
   private static final int DISK_IO_STATS_TIMEOUT_SECONDS = 10;
   private static final int EXECUTOR_SERVICES_TIMEOUT_SECONDS = 60;
   private static final int COUNTER_AGGREGATOR_SERVICE_TIMEOUT_SECONDS = 20;
@@ -336,6 +353,36 @@ public final class Main {
     return ImmutableList.copyOf(cellsBuilder);
   }
 
+  /**
+   * @return a store for the hashes of the cell's files, if the root cell's config enables them.
+   */
+  private static Optional<FileHashStore> createFileHashStore(Cell rootCell, Cell cell) {
+    if (!rootCell.getBuckConfig().isFileHashPersistenceEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.of(FileHashStore.forFilesystem(cell.getFilesystem()));
+  }
+
+  /**
+   * @return a hash of the config of all the given cells which is stable across processes.
+   */
+  private static HashCode hashCellConfigs(Iterable<Cell> cells) {
+    Hasher hasher = Hashing.sha1().newHasher();
+    for (Cell cell : ImmutableSortedSet.copyOf(Comparator.comparing(Cell::getRoot), cells)) {
+      StringHashing.hashStringAndLength(hasher, cell.getRoot().toString());
+      for (Map.Entry<String, ImmutableMap<String, String>> section :
+           ImmutableSortedMap.copyOf(cell.getBuckConfig().getRawConfigForParser()).entrySet()) {
+        StringHashing.hashStringAndLength(hasher, section.getKey());
+        for (Map.Entry<String, String> field :
+             ImmutableSortedMap.copyOf(section.getValue()).entrySet()) {
+          StringHashing.hashStringAndLength(hasher, field.getKey());
+          StringHashing.hashStringAndLength(hasher, field.getValue());
+        }
+      }
+    }
+    return hasher.hash();
+  }
+
   /**
    * Daemon used to monitor the file system and cache build rules between Main() method
    * invocations is static so that it can outlive Main() objects and survive for the lifetime
@@ -346,16 +393,30 @@ public final class Main {
     private final Cell cell;
     private final Parser parser;
     private final ImmutableList<ProjectFileHashCache> hashCaches;
+    private final ImmutableList<FileHashStore> fileHashStores;
     private final EventBus fileEventBus;
     private final Optional<WebServer> webServer;
     private final ConcurrentMap<String, WorkerProcessPool> persistentWorkerPools;
     private final VersionedTargetGraphCache versionedTargetGraphCache;
     private final ActionGraphCache actionGraphCache;
+    private final TargetNodeHashCache targetNodeHashCache;
     private final BroadcastEventListener broadcastEventListener;
     private final RuleKeyCacheRecycler<RuleKey> defaultRuleKeyFactoryCacheRecycler;
+    private final Optional<ParserCacheSnapshotStore> parserCacheSnapshotStore;
+    private final ExecutorService snapshotWriteExecutorService;
 
     private ImmutableMap<Path, WatchmanCursor> cursor;
 
+    private final boolean watchmanSubscriptionEnabled;
+
+    @GuardedBy("parser")
+    private Optional<WatchmanSubscriber> watchmanSubscriber = Optional.empty();
+
+    // Whether the parser cache was restored from a snapshot, and the cursors rewound to its
+    // clocks, but no changes have been queried since.
+    @GuardedBy("parser")
+    private boolean parserCacheRestored = false;
+
     public Daemon(
         Cell cell,
         ObjectMapper objectMapper,
@@ -368,12 +429,17 @@ public final class Main {
 
       // Setup the stacked file hash cache from all cells.
       ImmutableList.Builder<ProjectFileHashCache> hashCachesBuilder = ImmutableList.builder();
+      ImmutableList.Builder<FileHashStore> fileHashStoresBuilder = ImmutableList.builder();
       cells.forEach(
           (Cell subCell) -> {
-            WatchedFileHashCache watchedCache = new WatchedFileHashCache(subCell.getFilesystem());
+            Optional<FileHashStore> fileHashStore = createFileHashStore(cell, subCell);
+            fileHashStore.ifPresent(fileHashStoresBuilder::add);
+            WatchedFileHashCache watchedCache =
+                new WatchedFileHashCache(subCell.getFilesystem(), fileHashStore);
             fileEventBus.register(watchedCache);
             hashCachesBuilder.add(watchedCache);
           });
+      this.fileHashStores = fileHashStoresBuilder.build();
       hashCachesBuilder.add(
           DefaultFileHashCache.createBuckOutFileHashCache(
               cell.getFilesystem().replaceBlacklistedPaths(ImmutableSet.of()),
@@ -382,8 +448,12 @@ public final class Main {
 
 
       this.broadcastEventListener = new BroadcastEventListener();
-      this.actionGraphCache = new ActionGraphCache(broadcastEventListener);
+      this.actionGraphCache = new ActionGraphCache(
+          broadcastEventListener,
+          cell.getBuckConfig().getActionGraphCacheMaxSizeBytes(),
+          cell.getBuckConfig().isIncrementalActionGraphEnabled());
       this.versionedTargetGraphCache = new VersionedTargetGraphCache();
+      this.targetNodeHashCache = new TargetNodeHashCache();
 
       TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory(objectMapper);
       this.parser = new Parser(
@@ -393,15 +463,36 @@ public final class Main {
           new ConstructorArgMarshaller(typeCoercerFactory));
       fileEventBus.register(parser);
       fileEventBus.register(actionGraphCache);
+      fileEventBus.register(targetNodeHashCache);
 
       // Build the the rule key cache recycler.
+      DefaultRuleKeyCache<RuleKey> defaultRuleKeyCache = new DefaultRuleKeyCache<>();
+      ImmutableSet<ProjectFilesystem> cellFilesystems =
+          RichStream.from(cells)
+              .map(Cell::getFilesystem)
+              .toImmutableSet();
+      this.snapshotWriteExecutorService =
+          MostExecutors.newSingleThreadExecutor("Snapshot Writer");
+      Optional<RuleKeyCacheRecycler.Persistence> ruleKeyCachePersistence = Optional.empty();
+      if (cell.getBuckConfig().isRuleKeyCachePersistenceEnabled()) {
+        ruleKeyCachePersistence = Optional.of(
+            new RuleKeyCacheSnapshotStore(
+                cell.getFilesystem().resolve(
+                    cell.getFilesystem().getBuckPaths().getBuckOut().resolve(
+                        RULE_KEY_CACHE_SNAPSHOT_FILE_NAME)),
+                defaultRuleKeyCache,
+                new StackedFileHashCache(hashCaches),
+                cellFilesystems,
+                hashCellConfigs(cells),
+                actionGraphCache::getTargetGraphHash,
+                snapshotWriteExecutorService));
+      }
       this.defaultRuleKeyFactoryCacheRecycler =
           RuleKeyCacheRecycler.createAndRegister(
               fileEventBus,
-              new DefaultRuleKeyCache<>(),
-              RichStream.from(cells)
-                  .map(Cell::getFilesystem)
-                  .toImmutableSet());
+              defaultRuleKeyCache,
+              cellFilesystems,
+              ruleKeyCachePersistence);
 
       if (webServerToReuse.isPresent()) {
         webServer = webServerToReuse;
@@ -412,9 +503,11 @@ public final class Main {
         LOG.warn("Can't start web server");
       }
       ImmutableMap.Builder<Path, WatchmanCursor> cursorBuilder = ImmutableMap.builder();
-      if (cell.getBuckConfig().getView(ParserConfig.class).getWatchmanCursor() ==
-          WatchmanWatcher.CursorType.CLOCK_ID &&
-          !cell.getWatchman().getClockIds().isEmpty()) {
+      ParserConfig parserConfig = cell.getBuckConfig().getView(ParserConfig.class);
+      boolean useClockIds =
+          parserConfig.getWatchmanCursor() == WatchmanWatcher.CursorType.CLOCK_ID &&
+          !cell.getWatchman().getClockIds().isEmpty();
+      if (useClockIds) {
         for (Map.Entry<Path, String> entry : cell.getWatchman().getClockIds().entrySet()) {
           cursorBuilder.put(entry.getKey(), new WatchmanCursor(entry.getValue()));
         }
@@ -428,6 +521,31 @@ public final class Main {
         }
       }
       cursor = cursorBuilder.build();
+
+      // Subscriptions start from the cursors, which have to be clocks.
+      watchmanSubscriptionEnabled = parserConfig.isWatchmanSubscriptionEnabled() && useClockIds;
+
+      // Persisting the parser cache relies on replaying the changes since the clocks it was saved
+      // at, which only works with clock cursors.
+      if (parserConfig.isParserCachePersistenceEnabled() && useClockIds) {
+        parserCacheSnapshotStore = Optional.of(
+            new ParserCacheSnapshotStore(
+                cell.getFilesystem().resolve(
+                    cell.getFilesystem().getBuckPaths().getBuckOut().resolve(
+                        PARSER_CACHE_SNAPSHOT_FILE_NAME)),
+                parser,
+                cells,
+                new StackedFileHashCache(hashCaches),
+                hashCellConfigs(cells)));
+        Optional<ImmutableMap<Path, String>> clocks =
+            parserCacheSnapshotStore.get().restore(cursor.keySet());
+        if (clocks.isPresent()) {
+          clocks.get().forEach((cellPath, clock) -> cursor.get(cellPath).set(clock));
+          parserCacheRestored = true;
+        }
+      } else {
+        parserCacheSnapshotStore = Optional.empty();
+      }
       LOG.debug("Using Watchman Cursor: %s", cursor);
       persistentWorkerPools = new ConcurrentHashMap<>();
       JavaUtilsLoggingBuildListener.ensureLogFileIsWritten(cell.getFilesystem());
@@ -496,6 +614,10 @@ public final class Main {
       return actionGraphCache;
     }
 
+    private TargetNodeHashCache getTargetNodeHashCache() {
+      return targetNodeHashCache;
+    }
+
     private BroadcastEventListener getBroadcastEventListener() {
       return broadcastEventListener;
     }
@@ -504,6 +626,10 @@ public final class Main {
       return hashCaches;
     }
 
+    private ImmutableList<FileHashStore> getFileHashStores() {
+      return fileHashStores;
+    }
+
     private ConcurrentMap<String, WorkerProcessPool> getPersistentWorkerPools() {
       return persistentWorkerPools;
     }
@@ -539,7 +665,8 @@ public final class Main {
         CommandEvent commandEvent,
         BuckEventBus eventBus,
         WatchmanWatcher watchmanWatcher,
-        WatchmanWatcher.FreshInstanceAction watchmanFreshInstanceAction)
+        WatchmanWatcher.FreshInstanceAction watchmanFreshInstanceAction,
+        Watchman watchman)
         throws IOException, InterruptedException {
 
       // Synchronize on parser object so that all outstanding watch events are processed
@@ -549,12 +676,87 @@ public final class Main {
       synchronized (parser) {
         parser.recordParseStartTime(eventBus);
         fileEventBus.post(commandEvent);
+        if (parserCacheRestored) {
+          // If Watchman can't tell us what changed since the parser cache was saved, we can't
+          // trust any of it.
+          watchmanFreshInstanceAction = WatchmanWatcher.FreshInstanceAction.POST_OVERFLOW_EVENT;
+          parserCacheRestored = false;
+        }
+        if (syncWatchmanSubscriber(eventBus, watchmanWatcher, watchman)) {
+          return;
+        }
         watchmanWatcher.postEvents(
             eventBus,
             watchmanFreshInstanceAction);
       }
     }
 
+    /**
+     * Applies the changes streamed by the Watchman subscriptions, subscribing first if needed.
+     *
+     * @return false if the changes have to be queried for instead, because subscriptions aren't
+     *     enabled or supported, or have failed.
+     */
+    @GuardedBy("parser")
+    private boolean syncWatchmanSubscriber(
+        BuckEventBus eventBus,
+        WatchmanWatcher watchmanWatcher,
+        Watchman watchman) throws InterruptedException {
+      if (!watchmanSubscriptionEnabled ||
+          !watchman.getSocketPath().isPresent() ||
+          !watchman.getCapabilities().contains(Watchman.Capability.FLUSH_SUBSCRIPTIONS)) {
+        return false;
+      }
+      try {
+        if (!watchmanSubscriber.isPresent()) {
+          watchmanSubscriber =
+              Optional.of(watchmanWatcher.subscribe(watchman.getSocketPath().get(), parser));
+        }
+        watchmanSubscriber.get().sync(eventBus);
+        return true;
+      } catch (IOException | WatchmanWatcherException e) {
+        // The cursors are only moved past the changes which were posted, so querying from them
+        // picks up the rest.
+        LOG.warn(e, "Watchman subscription failed, querying for changes instead.");
+        closeWatchmanSubscriber();
+        return false;
+      }
+    }
+
+    /**
+     * Lets the changes streamed by the Watchman subscriptions while the command ran be applied.
+     */
+    private void onCommandFinished() {
+      synchronized (parser) {
+        watchmanSubscriber.ifPresent(WatchmanSubscriber::onCommandFinished);
+      }
+    }
+
+    private void closeWatchmanSubscriber() {
+      synchronized (parser) {
+        watchmanSubscriber.ifPresent(WatchmanSubscriber::close);
+        watchmanSubscriber = Optional.empty();
+      }
+    }
+
+    /**
+     * Saves the parser cache along with the Watchman clocks up to which changes have been applied
+     * to it, if persisting it is enabled.  Only reading the clocks needs the parser lock, so the
+     * cache is saved on {@code diskIoExecutorService}, where the next command needn't wait for it.
+     */
+    private void saveParserCache(ExecutorService diskIoExecutorService) {
+      if (!parserCacheSnapshotStore.isPresent()) {
+        return;
+      }
+      ImmutableMap.Builder<Path, String> clocks = ImmutableMap.builder();
+      synchronized (parser) {
+        cursor.forEach((cellPath, cellCursor) -> clocks.put(cellPath, cellCursor.get()));
+      }
+      ParserCacheSnapshotStore store = parserCacheSnapshotStore.get();
+      ImmutableMap<Path, String> savedClocks = clocks.build();
+      diskIoExecutorService.execute(() -> store.save(savedClocks));
+    }
+
     /**
      * @return true if the web server was started successfully.
      */
@@ -583,8 +785,10 @@ public final class Main {
 
     @Override
     public void close() throws IOException {
+      closeWatchmanSubscriber();
       shutdownPersistentWorkerPools();
       shutdownWebServer();
+      snapshotWriteExecutorService.shutdown();
     }
 
     private void shutdownPersistentWorkerPools() {
@@ -646,6 +850,7 @@ public final class Main {
         if (shouldReuseWebServer(cell)) {
           webServer = daemon.getWebServer();
           LOG.info("Reusing web server");
+          daemon.closeWatchmanSubscriber();
         } else {
           daemon.close();
         }
@@ -1031,12 +1236,21 @@ public final class Main {
         ProjectFilesystem rootCellProjectFilesystem =
             ProjectFilesystem.createNewOrThrowHumanReadableException(
                 rootCell.getFilesystem().getRootPath());
+        ImmutableList<FileHashStore> fileHashStores;
         if (isDaemon) {
           allCaches.addAll(getFileHashCachesFromDaemon(rootCell));
+          fileHashStores = getDaemon(rootCell, objectMapper).getFileHashStores();
         } else {
-          getTransitiveCells(rootCell).stream()
-              .map(cell -> DefaultFileHashCache.createDefaultFileHashCache(cell.getFilesystem()))
-              .forEach(allCaches::add);
+          ImmutableList.Builder<FileHashStore> fileHashStoresBuilder = ImmutableList.builder();
+          for (Cell cell : getTransitiveCells(rootCell)) {
+            Optional<FileHashStore> fileHashStore = createFileHashStore(rootCell, cell);
+            fileHashStore.ifPresent(fileHashStoresBuilder::add);
+            allCaches.add(
+                DefaultFileHashCache.createDefaultFileHashCache(
+                    cell.getFilesystem(),
+                    fileHashStore));
+          }
+          fileHashStores = fileHashStoresBuilder.build();
           allCaches.add(
               DefaultFileHashCache.createBuckOutFileHashCache(
                   rootCellProjectFilesystem,
@@ -1115,7 +1329,11 @@ public final class Main {
                     locale,
                     filesystem.getBuckPaths().getLogDir().resolve("test.log"));
             AsyncCloseable asyncCloseable = new AsyncCloseable(diskIoExecutorService);
-            BuckEventBus buildEventBus = new BuckEventBus(clock, buildId);
+            BuckEventBus buildEventBus = new BuckEventBus(
+                clock,
+                buildId,
+                buckConfig.getEventBusQueueSize(),
+                buckConfig.getEventBusOverflowPolicy());
             BroadcastEventListener.BroadcastEventBusClosable broadcastEventBusClosable =
                 broadcastEventListener.addEventBus(buildEventBus);
 
@@ -1250,6 +1468,7 @@ public final class Main {
           Parser parser = null;
           VersionedTargetGraphCache versionedTargetGraphCache = null;
           ActionGraphCache actionGraphCache = null;
+          TargetNodeHashCache targetNodeHashCache = null;
           Optional<RuleKeyCacheRecycler<RuleKey>> defaultRuleKeyFactoryCacheRecycler =
               Optional.empty();
 
@@ -1271,9 +1490,11 @@ public final class Main {
                   startedEvent,
                   buildEventBus,
                   watchmanWatcher,
-                  watchmanFreshInstanceAction);
+                  watchmanFreshInstanceAction,
+                  watchman);
               versionedTargetGraphCache = daemon.getVersionedTargetGraphCache();
               actionGraphCache = daemon.getActionGraphCache();
+              targetNodeHashCache = daemon.getTargetNodeHashCache();
               if (buckConfig.getRuleKeyCaching()) {
                 LOG.debug("Using rule key calculation caching");
                 defaultRuleKeyFactoryCacheRecycler =
@@ -1295,6 +1516,10 @@ public final class Main {
             actionGraphCache = new ActionGraphCache(broadcastEventListener);
           }
 
+          if (targetNodeHashCache == null) {
+            targetNodeHashCache = new TargetNodeHashCache();
+          }
+
           if (parser == null) {
             TypeCoercerFactory typeCoercerFactory = new DefaultTypeCoercerFactory(objectMapper);
             parser = new Parser(
@@ -1309,6 +1534,8 @@ public final class Main {
           //
           // The counters will be unregistered once the counter registry is closed.
           counterRegistry.registerCounters(parser.getCounters());
+          counterRegistry.registerCounters(
+              ImmutableList.of(new EventDeliveryCounter(buildEventBus)));
 
           JavaUtilsLoggingBuildListener.ensureLogFileIsWritten(rootCell.getFilesystem());
 
@@ -1369,6 +1596,7 @@ public final class Main {
                     .setBuildEnvironmentDescription(buildEnvironmentDescription)
                     .setVersionedTargetGraphCache(versionedTargetGraphCache)
                     .setActionGraphCache(actionGraphCache)
+                    .setTargetNodeHashCache(targetNodeHashCache)
                     .setKnownBuildRuleTypesFactory(factory)
                     .setInvocationInfo(Optional.of(invocationInfo))
                     .setDefaultRuleKeyFactoryCacheRecycler(defaultRuleKeyFactoryCacheRecycler)
@@ -1425,6 +1653,13 @@ public final class Main {
           context.get().exit(exitCode); // Allow nailgun client to exit while outputting traces.
         }
 
+        Daemon currentDaemon = daemon;
+        if (isDaemon && currentDaemon != null) {
+          currentDaemon.saveParserCache(diskIoExecutorService);
+          currentDaemon.onCommandFinished();
+        }
+        fileHashStores.forEach(FileHashStore::save);
+
         closeDiskIoExecutorService(diskIoExecutorService);
         flushEventListeners(console, buildId, eventListeners);
         return exitCode;
@@ -1672,7 +1907,8 @@ public final class Main {
       CommandEvent commandEvent,
       BuckEventBus eventBus,
       WatchmanWatcher watchmanWatcher,
-      WatchmanWatcher.FreshInstanceAction watchmanFreshInstanceAction)
+      WatchmanWatcher.FreshInstanceAction watchmanFreshInstanceAction,
+      Watchman watchman)
       throws IOException, InterruptedException {
     // Wire up daemon to new client and get cached Parser.
     Daemon daemonForParser = getDaemon(cell, objectMapper);
@@ -1681,7 +1917,8 @@ public final class Main {
         commandEvent,
         eventBus,
         watchmanWatcher,
-        watchmanFreshInstanceAction);
+        watchmanFreshInstanceAction,
+        watchman);
     return daemon.getParser();
   }
 
@@ -1793,6 +2030,7 @@ public final class Main {
             clock,
             objectMapper,
             buckConfig.getMaxTraces(),
+            buckConfig.getMaxTracesSizeBytes(),
             buckConfig.getCompressTraces()));
       } catch (IOException e) {
         LOG.error("Unable to create ChromeTrace listener!");
@@ -969,14 +969,18 @@ public class TargetsCommand extends AbstractCommand {
     FileHashLoader fileHashLoader = createOrGetFileHashLoader(params);
 
     // Hash each target's rule description and contents of any files.
-    ImmutableMap<BuildTarget, HashCode> buildTargetHashes =
+    TargetGraphHashing targetGraphHashing =
         new TargetGraphHashing(
             params.getBuckEventBus(),
             targetGraphWithTests,
             fileHashLoader,
             targetGraphAndNodesWithTests.getTargetNodes())
-        .setNumThreads(params.getBuckConfig().getNumThreads())
-        .hashTargetGraph();
+        .setNumThreads(params.getBuckConfig().getNumThreads());
+    // The cached hashes are only valid for the contents of files, not for paths alone.
+    if (getTargetHashFileMode() == TargetHashFileMode.PATHS_AND_CONTENTS) {
+      targetGraphHashing.setHashCache(params.getTargetNodeHashCache());
+    }
+    ImmutableMap<BuildTarget, HashCode> buildTargetHashes = targetGraphHashing.hashTargetGraph();
 
     ImmutableMap<BuildTarget, HashCode> finalHashes = rehashWithTestsIfNeeded(
         targetGraphWithTests,
@@ -28,6 +28,7 @@ import com.facebook.buck.parser.TargetNodePredicateSpec;
 import com.facebook.buck.rules.ActionGraphAndResolver;
 import com.facebook.buck.rules.BuildEngine;
 import com.facebook.buck.rules.BuildEvent;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
 import com.facebook.buck.rules.CachingBuildEngine;
 import com.facebook.buck.rules.CachingBuildEngineBuckConfig;
 import com.facebook.buck.rules.Description;
@@ -527,7 +528,11 @@ public class TestCommand extends BuildCommand {
 
       CachingBuildEngineBuckConfig cachingBuildEngineBuckConfig =
           params.getBuckConfig().getView(CachingBuildEngineBuckConfig.class);
-      try (CommandThreadManager artifactFetchService =
+      try (BuildRuleDurationHistory durationHistory =
+               new BuildRuleDurationHistory(
+                   params.getCell().getFilesystem(),
+                   params.getObjectMapper());
+           CommandThreadManager artifactFetchService =
                getArtifactFetchService(
                    params.getBuckConfig(),
                    pool.getExecutor());
@@ -559,7 +564,9 @@ public class TestCommand extends BuildCommand {
                     fs -> localCachingBuildEngineDelegate.getFileHashCache(),
                     actionGraphAndResolver.getResolver(),
                     cachingBuildEngineBuckConfig.getBuildInputRuleKeyFileSizeLimit(),
-                    ruleKeyCacheScope.getCache()));
+                    ruleKeyCacheScope.getCache()),
+                cachingBuildEngineBuckConfig.getBuildSchedulingMode(),
+                Optional.of(durationHistory));
         try (Build build = createBuild(
             params.getBuckConfig(),
             actionGraphAndResolver.getActionGraph(),
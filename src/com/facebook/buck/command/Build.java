@@ -18,6 +18,7 @@ package com.facebook.buck.command;
 
 import com.facebook.buck.android.AndroidPlatformTarget;
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCacheBuckConfig;
 import com.facebook.buck.cli.BuckConfig;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.event.ConsoleEvent;
@@ -235,6 +236,8 @@ public class Build implements Closeable {
             .build())
         .setClock(clock)
         .setArtifactCache(artifactCache)
+        .setArtifactCompression(
+            new ArtifactCacheBuckConfig(rootCell.getBuckConfig()).getArtifactCompression())
         .setBuildId(buildId)
         .setObjectMapper(objectMapper)
         .putAllEnvironment(executionContext.getEnvironment())
@@ -18,6 +18,7 @@ package com.facebook.buck.distributed;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.BuildRuleResolver;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
@@ -25,19 +26,37 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
+/**
+ * Keeps track of which targets are ready to be built, handing them out longest critical path
+ * first: the targets with the most expensive chain of reverse dependencies left to build after
+ * them go first, so that a long chain started late doesn't hold up the end of the build.
+ */
 public class BuildTargetsQueue {
-  private List<EnqueuedTarget> zeroDependencyTargets;
+  // Highest priority first, with ties broken by name so the order is deterministic.
+  private static final Comparator<EnqueuedTarget> CRITICAL_PATH_ORDER =
+      Comparator.comparingLong(EnqueuedTarget::getCriticalPathCost)
+          .reversed()
+          .thenComparing(EnqueuedTarget::getBuildTarget);
+
+  private final Queue<EnqueuedTarget> zeroDependencyTargets;
   private final Map<String, EnqueuedTarget> allEnqueuedTargets;
 
   private BuildTargetsQueue(
-      List<EnqueuedTarget> zeroDependencyTargets,
+      Collection<EnqueuedTarget> zeroDependencyTargets,
       Map<String, EnqueuedTarget> allEnqueuedTargets) {
-    this.zeroDependencyTargets = zeroDependencyTargets;
+    this.zeroDependencyTargets = new PriorityQueue<>(CRITICAL_PATH_ORDER);
+    this.zeroDependencyTargets.addAll(zeroDependencyTargets);
     this.allEnqueuedTargets = allEnqueuedTargets;
   }
 
@@ -45,12 +64,29 @@ public class BuildTargetsQueue {
     return new BuildTargetsQueue(Lists.newArrayList(), Maps.newHashMap());
   }
 
+  /**
+   * Creates a queue which counts every rule as equally expensive, so that the critical path is
+   * the longest chain of rules.
+   */
   public static BuildTargetsQueue newQueue(
       BuildRuleResolver resolver,
       Iterable<BuildTarget> targetsToBuild) {
+    return newQueue(resolver, targetsToBuild, rule -> 1L);
+  }
+
+  /**
+   * @param ruleCostEstimator estimates how long each rule takes to build, for instance from the
+   *     durations recorded in a {@link com.facebook.buck.rules.BuildRuleDurationHistory}.
+   */
+  public static BuildTargetsQueue newQueue(
+      BuildRuleResolver resolver,
+      Iterable<BuildTarget> targetsToBuild,
+      ToLongFunction<BuildRule> ruleCostEstimator) {
     // Build the reverse dependency graph by traversing the action graph Top-Down.
     Map<String, Set<String>> allReverseDeps = Maps.newHashMap();
     Map<String, Integer> numberOfDependencies = Maps.newHashMap();
+    Map<String, List<String>> allDependencies = Maps.newHashMap();
+    Map<String, Long> ruleCosts = Maps.newHashMap();
     Set<String> visitedTargets = Sets.newHashSet();
     Queue<BuildRule> buildRulesToProcess = Lists.newLinkedList(
         FluentIterable.from(targetsToBuild).transform(
@@ -63,8 +99,12 @@ public class BuildTargetsQueue {
       BuildRule rule = buildRulesToProcess.remove();
       String target = ruleToTarget(rule);
       numberOfDependencies.put(target, rule.getDeps().size());
+      ruleCosts.put(target, ruleCostEstimator.applyAsLong(rule));
+      List<String> dependencies = Lists.newArrayList();
+      allDependencies.put(target, dependencies);
       for (BuildRule dependencyRule : rule.getDeps()) {
         String dependencyTarget = ruleToTarget(dependencyRule);
+        dependencies.add(dependencyTarget);
         if (!allReverseDeps.containsKey(dependencyTarget)) {
           allReverseDeps.put(dependencyTarget, Sets.newHashSet());
         }
@@ -98,10 +138,65 @@ public class BuildTargetsQueue {
         zeroDependencyTargets.add(enqueuedTarget);
       }
     }
+    computeCriticalPathCosts(allEnqueuedTargets, allDependencies, ruleCosts);
 
     return new BuildTargetsQueue(zeroDependencyTargets, allEnqueuedTargets);
   }
 
+  /**
+   * Sets the critical path cost of every target to its own cost plus the highest critical path
+   * cost among the targets depending on it.  Targets are visited in reverse topological order,
+   * so that all of a target's dependents are done by the time it is.
+   */
+  private static void computeCriticalPathCosts(
+      Map<String, EnqueuedTarget> allEnqueuedTargets,
+      Map<String, List<String>> allDependencies,
+      Map<String, Long> ruleCosts) {
+    Map<String, Integer> unfinishedDependents = Maps.newHashMap();
+    Deque<EnqueuedTarget> readyTargets = new ArrayDeque<>();
+    for (EnqueuedTarget target : allEnqueuedTargets.values()) {
+      int dependents = target.getDependentTargets().size();
+      unfinishedDependents.put(target.getBuildTarget(), dependents);
+      if (dependents == 0) {
+        readyTargets.add(target);
+      }
+    }
+
+    while (!readyTargets.isEmpty()) {
+      EnqueuedTarget target = readyTargets.remove();
+      long longestDependentPath = 0;
+      for (String dependent : target.getDependentTargets()) {
+        longestDependentPath = Math.max(
+            longestDependentPath,
+            allEnqueuedTargets.get(dependent).getCriticalPathCost());
+      }
+      target.setCriticalPathCost(
+          Preconditions.checkNotNull(ruleCosts.get(target.getBuildTarget())) +
+              longestDependentPath);
+
+      for (String dependency :
+          Preconditions.checkNotNull(allDependencies.get(target.getBuildTarget()))) {
+        if (unfinishedDependents.merge(dependency, -1, Integer::sum) == 0) {
+          readyTargets.add(Preconditions.checkNotNull(allEnqueuedTargets.get(dependency)));
+        }
+      }
+    }
+  }
+
+  /**
+   * @return an ordering of target names which puts the ones with the longest critical path first.
+   */
+  public Comparator<String> getCriticalPathOrder() {
+    return Comparator.comparing(
+        target -> Preconditions.checkNotNull(allEnqueuedTargets.get(target)),
+        CRITICAL_PATH_ORDER);
+  }
+
+  @VisibleForTesting
+  long getCriticalPathCost(String target) {
+    return Preconditions.checkNotNull(allEnqueuedTargets.get(target)).getCriticalPathCost();
+  }
+
   public ImmutableList<String> dequeueZeroDependencyNodes(ImmutableList<String> finishedNodes) {
     // Decrement reference counting.
     for (String node : finishedNodes) {
@@ -115,11 +210,12 @@ public class BuildTargetsQueue {
       }
     }
 
-    // Return all the Targets that have all dependencies resolved.
-    ImmutableList<String> targetsReadyToBuild = ImmutableList.copyOf(
-        FluentIterable.from(zeroDependencyTargets).transform(x -> x.getBuildTarget()));
-    zeroDependencyTargets.clear();
-    return targetsReadyToBuild;
+    // Return all the Targets that have all dependencies resolved, longest critical path first.
+    ImmutableList.Builder<String> targetsReadyToBuild = ImmutableList.builder();
+    while (!zeroDependencyTargets.isEmpty()) {
+      targetsReadyToBuild.add(zeroDependencyTargets.remove().getBuildTarget());
+    }
+    return targetsReadyToBuild.build();
   }
 
   private static String ruleToTarget(BuildRule rule) {
@@ -130,6 +226,7 @@ public class BuildTargetsQueue {
     private final String buildTarget;
     private final ImmutableList<String> dependentTargets;
     private int unsatisfiedDependencies;
+    private long criticalPathCost;
 
     private EnqueuedTarget(
         String buildTarget,
@@ -152,6 +249,14 @@ public class BuildTargetsQueue {
       return dependentTargets;
     }
 
+    public long getCriticalPathCost() {
+      return criticalPathCost;
+    }
+
+    public void setCriticalPathCost(long criticalPathCost) {
+      this.criticalPathCost = criticalPathCost;
+    }
+
     public void decrementUnsatisfiedDeps() {
       --unsatisfiedDependencies;
       Preconditions.checkArgument(
@@ -164,6 +269,7 @@ public class BuildTargetsQueue {
       return "EnqueuedTarget{" +
           "buildTarget='" + buildTarget + '\'' +
           ", unsatisfiedDependencies=" + unsatisfiedDependencies +
+          ", criticalPathCost=" + criticalPathCost +
           ", dependentTargets=" + dependentTargets +
           '}';
     }
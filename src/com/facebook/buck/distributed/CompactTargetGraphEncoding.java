@@ -0,0 +1,390 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.distributed;
+
+import com.facebook.buck.distributed.thrift.BuildJobStateBuildTarget;
+import com.facebook.buck.distributed.thrift.BuildJobStateTargetNode;
+import com.facebook.buck.model.Pair;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compact binary encoding of the target nodes sent to distributed builds.
+ *
+ * Raw nodes repeat the same strings over and over: attribute names, build targets in deps, and
+ * the base paths of targets in the same package.  Every distinct string is therefore written once
+ * to a table at the start of the encoding and referred to by its index everywhere else, and
+ * numbers and lengths are written as varints.  Values are decoded to the same types as parsing
+ * the nodes' JSON would produce, and any value the encoding doesn't know about is embedded as
+ * JSON.
+ */
+final class CompactTargetGraphEncoding {
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final byte NULL = 0;
+  private static final byte FALSE = 1;
+  private static final byte TRUE = 2;
+  private static final byte INTEGER = 3;
+  private static final byte DOUBLE = 4;
+  private static final byte STRING = 5;
+  private static final byte LIST = 6;
+  private static final byte MAP = 7;
+  private static final byte JSON = 8;
+
+  private CompactTargetGraphEncoding() {
+    // Utility class.
+  }
+
+  /**
+   * @param nodes the nodes' cell indices and build targets, along with their raw nodes.
+   */
+  public static byte[] encode(
+      ObjectMapper objectMapper,
+      List<Pair<BuildJobStateTargetNode, Map<String, Object>>> nodes) throws IOException {
+    Encoder encoder = new Encoder(objectMapper);
+    for (Pair<BuildJobStateTargetNode, Map<String, Object>> node : nodes) {
+      encoder.writeNode(node.getFirst(), node.getSecond());
+    }
+    return encoder.finish(nodes.size());
+  }
+
+  /**
+   * @return the nodes' cell indices and build targets, along with their raw nodes.
+   */
+  public static ImmutableList<Pair<BuildJobStateTargetNode, Map<String, Object>>> decode(
+      ObjectMapper objectMapper,
+      ByteBuffer encoded) throws IOException {
+    try {
+      return new Decoder(objectMapper, encoded.duplicate()).readNodes();
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Truncated compact target graph.", e);
+    }
+  }
+
+  /**
+   * Appends to a plain byte array, which is a lot cheaper than going through streams for the
+   * single bytes most of the encoding is made of.
+   */
+  private static class ByteArrayWriter {
+    private byte[] bytes = new byte[4096];
+    private int size = 0;
+
+    public void writeByte(int value) {
+      ensureCapacity(1);
+      bytes[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] values) {
+      ensureCapacity(values.length);
+      System.arraycopy(values, 0, bytes, size, values.length);
+      size += values.length;
+    }
+
+    public void writeVarInt(int value) {
+      Preconditions.checkArgument(value >= 0);
+      writeVarLong(value);
+    }
+
+    public void writeVarLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        writeByte((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      writeByte((int) value);
+    }
+
+    public void writeDouble(double value) {
+      long bits = Double.doubleToRawLongBits(value);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        writeByte((int) (bits >>> shift));
+      }
+    }
+
+    public void writeTo(ByteArrayWriter other) {
+      other.ensureCapacity(size);
+      System.arraycopy(bytes, 0, other.bytes, other.size, size);
+      other.size += size;
+    }
+
+    public byte[] toByteArray() {
+      return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int extra) {
+      if (size + extra > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+      }
+    }
+  }
+
+  private static class Encoder {
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private final ByteArrayWriter nodesOut = new ByteArrayWriter();
+
+    public Encoder(ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+    }
+
+    public void writeNode(
+        BuildJobStateTargetNode node,
+        Map<String, Object> rawNode) throws IOException {
+      BuildJobStateBuildTarget target = node.getBuildTarget();
+      nodesOut.writeVarInt(node.getCellIndex());
+      writeOptionalString(target.getCellName());
+      writeString(target.getBaseName());
+      writeString(target.getShortName());
+      Set<String> flavors = target.isSetFlavors() ? target.getFlavors() : new HashSet<>();
+      nodesOut.writeVarInt(flavors.size());
+      for (String flavor : flavors) {
+        writeString(flavor);
+      }
+      writeValue(rawNode);
+    }
+
+    private void writeValue(Object value) throws IOException {
+      if (value == null) {
+        nodesOut.writeByte(NULL);
+      } else if (value instanceof Boolean) {
+        nodesOut.writeByte((Boolean) value ? TRUE : FALSE);
+      } else if (value instanceof Integer || value instanceof Long ||
+          value instanceof Short || value instanceof Byte) {
+        nodesOut.writeByte(INTEGER);
+        nodesOut.writeVarLong(zigZag(((Number) value).longValue()));
+      } else if (value instanceof Double || value instanceof Float) {
+        nodesOut.writeByte(DOUBLE);
+        nodesOut.writeDouble(((Number) value).doubleValue());
+      } else if (value instanceof String) {
+        nodesOut.writeByte(STRING);
+        writeString((String) value);
+      } else if (value instanceof List) {
+        List<?> list = (List<?>) value;
+        nodesOut.writeByte(LIST);
+        nodesOut.writeVarInt(list.size());
+        for (Object element : list) {
+          writeValue(element);
+        }
+      } else if (value instanceof Map && hasOnlyStringKeys((Map<?, ?>) value)) {
+        Map<?, ?> map = (Map<?, ?>) value;
+        nodesOut.writeByte(MAP);
+        nodesOut.writeVarInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          writeString((String) entry.getKey());
+          writeValue(entry.getValue());
+        }
+      } else {
+        nodesOut.writeByte(JSON);
+        writeString(objectMapper.writeValueAsString(value));
+      }
+    }
+
+    private void writeOptionalString(String string) {
+      nodesOut.writeVarInt(string == null ? 0 : intern(string) + 1);
+    }
+
+    private void writeString(String string) {
+      nodesOut.writeVarInt(intern(Preconditions.checkNotNull(string)));
+    }
+
+    private int intern(String string) {
+      Integer index = stringIndices.get(string);
+      if (index == null) {
+        index = strings.size();
+        stringIndices.put(string, index);
+        strings.add(string);
+      }
+      return index;
+    }
+
+    public byte[] finish(int nodeCount) {
+      ByteArrayWriter out = new ByteArrayWriter();
+      out.writeVarInt(FORMAT_VERSION);
+      out.writeVarInt(strings.size());
+      for (String string : strings) {
+        byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+        out.writeVarInt(utf8.length);
+        out.writeBytes(utf8);
+      }
+      out.writeVarInt(nodeCount);
+      nodesOut.writeTo(out);
+      return out.toByteArray();
+    }
+
+    private static boolean hasOnlyStringKeys(Map<?, ?> map) {
+      for (Object key : map.keySet()) {
+        if (!(key instanceof String)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static class Decoder {
+    private final ObjectMapper objectMapper;
+    private final ByteBuffer in;
+    private String[] strings;
+
+    public Decoder(ObjectMapper objectMapper, ByteBuffer in) {
+      this.objectMapper = objectMapper;
+      this.in = in;
+    }
+
+    public ImmutableList<Pair<BuildJobStateTargetNode, Map<String, Object>>> readNodes()
+        throws IOException {
+      int version = readVarInt();
+      if (version != FORMAT_VERSION) {
+        throw new IOException(
+            String.format(
+                "Unsupported compact target graph format %d, expected %d.",
+                version,
+                FORMAT_VERSION));
+      }
+      strings = new String[readVarInt()];
+      for (int i = 0; i < strings.length; i++) {
+        byte[] utf8 = new byte[readVarInt()];
+        in.get(utf8);
+        strings[i] = new String(utf8, StandardCharsets.UTF_8);
+      }
+
+      int nodeCount = readVarInt();
+      ImmutableList.Builder<Pair<BuildJobStateTargetNode, Map<String, Object>>> nodes =
+          ImmutableList.builder();
+      for (int i = 0; i < nodeCount; i++) {
+        BuildJobStateTargetNode node = new BuildJobStateTargetNode();
+        node.setCellIndex(readVarInt());
+        BuildJobStateBuildTarget target = new BuildJobStateBuildTarget();
+        int cellName = readVarInt();
+        if (cellName != 0) {
+          target.setCellName(strings[cellName - 1]);
+        }
+        target.setBaseName(readString());
+        target.setShortName(readString());
+        Set<String> flavors = new HashSet<>();
+        int flavorCount = readVarInt();
+        for (int j = 0; j < flavorCount; j++) {
+          flavors.add(readString());
+        }
+        target.setFlavors(flavors);
+        node.setBuildTarget(target);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> rawNode = (Map<String, Object>) readValue();
+        nodes.add(new Pair<>(node, rawNode));
+      }
+      if (in.hasRemaining()) {
+        throw new IOException(
+            String.format("%d trailing bytes after the encoded target nodes.", in.remaining()));
+      }
+      return nodes.build();
+    }
+
+    private Object readValue() throws IOException {
+      byte tag = in.get();
+      switch (tag) {
+        case NULL:
+          return null;
+        case FALSE:
+          return false;
+        case TRUE:
+          return true;
+        case INTEGER:
+          // Like Jackson, only use longs for the numbers which don't fit in an int.
+          long number = unZigZag(readVarLong());
+          if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+            return (int) number;
+          }
+          return number;
+        case DOUBLE:
+          return in.getDouble();
+        case STRING:
+          return readString();
+        case LIST:
+          int size = readVarInt();
+          List<Object> list = new ArrayList<>(size);
+          for (int i = 0; i < size; i++) {
+            list.add(readValue());
+          }
+          return list;
+        case MAP:
+          int entries = readVarInt();
+          Map<String, Object> map = new LinkedHashMap<>();
+          for (int i = 0; i < entries; i++) {
+            String key = readString();
+            map.put(key, readValue());
+          }
+          return map;
+        case JSON:
+          return objectMapper.readValue(readString(), Object.class);
+        default:
+          throw new IOException(String.format("Unknown value tag %d.", tag));
+      }
+    }
+
+    private String readString() throws IOException {
+      int index = readVarInt();
+      if (index >= strings.length) {
+        throw new IOException(String.format("Unknown string %d.", index));
+      }
+      return strings[index];
+    }
+
+    private int readVarInt() throws IOException {
+      long value = readVarLong();
+      if (value < 0 || value > Integer.MAX_VALUE) {
+        throw new IOException(String.format("Varint %d out of range.", value));
+      }
+      return (int) value;
+    }
+
+    private long readVarLong() throws IOException {
+      long value = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = in.get();
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IOException("Malformed varint.");
+    }
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -35,6 +35,8 @@ public class DistBuildConfig {
 
   private static final String ALWAYS_MATERIALIZE_WHITELIST = "always_materialize_whitelist";
 
+  private static final String COMPACT_TARGET_GRAPH = "compact_target_graph";
+
   private final SlbBuckConfig frontendConfig;
   private final BuckConfig buckConfig;
 
@@ -60,6 +62,14 @@ public class DistBuildConfig {
         DEFAULT_DEFAULT_REQUEST_TIMEOUT_MILLIS);
   }
 
+  /**
+   * @return whether the target graph is sent to the build slaves in
+   *     {@link CompactTargetGraphEncoding}'s format rather than as JSON.
+   */
+  public boolean isCompactTargetGraphEnabled() {
+    return buckConfig.getBooleanValue(STAMPEDE_SECTION, COMPACT_TARGET_GRAPH, true);
+  }
+
   public OkHttpClient createOkHttpClient() {
     return new OkHttpClient.Builder()
         .connectTimeout(getFrontendRequestTimeoutMillis(), TimeUnit.MILLISECONDS)
@@ -51,6 +51,7 @@ import com.facebook.buck.util.cache.FileHashCache;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -62,6 +63,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -72,6 +74,8 @@ import javax.annotation.Nullable;
 
 public class DistBuildService implements Closeable {
   private static final Logger LOG = Logger.get(DistBuildService.class);
+  private static final long MAX_STORE_LOCAL_CHANGES_REQUEST_BYTES = 64 * 1024 * 1024;
+
   private final FrontendService service;
 
   public DistBuildService(
@@ -213,17 +217,36 @@ public class DistBuildService implements Closeable {
           sha1ToFileInfo.size() - filesToBeUploaded.size(),
           sha1ToFileInfo.size(),
           filesToBeUploaded.size());
-      request = new FrontendRequest();
-      StoreLocalChangesRequest storeReq = new StoreLocalChangesRequest();
-      storeReq.setFiles(filesToBeUploaded);
-      request.setType(FrontendRequestType.STORE_LOCAL_CHANGES);
-      request.setStoreLocalChangesRequest(storeReq);
-      makeRequestChecked(request);
-      // No response expected.
+
+      // Upload in batches, so a large change doesn't turn into a single huge request.
+      List<FileInfo> batch = new ArrayList<>();
+      long batchSizeBytes = 0;
+      for (FileInfo file : filesToBeUploaded) {
+        batch.add(file);
+        batchSizeBytes += file.isSetContent() ? file.bufferForContent().remaining() : 0;
+        if (batchSizeBytes >= MAX_STORE_LOCAL_CHANGES_REQUEST_BYTES) {
+          storeLocalChanges(batch);
+          batch = new ArrayList<>();
+          batchSizeBytes = 0;
+        }
+      }
+      if (!batch.isEmpty()) {
+        storeLocalChanges(batch);
+      }
       return null;
     });
   }
 
+  private void storeLocalChanges(List<FileInfo> files) throws IOException {
+    FrontendRequest request = new FrontendRequest();
+    StoreLocalChangesRequest storeReq = new StoreLocalChangesRequest();
+    storeReq.setFiles(files);
+    request.setType(FrontendRequestType.STORE_LOCAL_CHANGES);
+    request.setStoreLocalChangesRequest(storeReq);
+    makeRequestChecked(request);
+    // No response expected.
+  }
+
   public BuildJob createBuild() throws IOException {
     // Tell server to create the build and get the build id.
     CreateBuildRequest createTimeRequest = new CreateBuildRequest();
@@ -299,10 +322,33 @@ public class DistBuildService implements Closeable {
     return new ByteArrayInputStream(file.getContent());
   }
 
+  /**
+   * Fetches the contents of several source files with a single request.
+   *
+   * @return the contents of the files, by their content hash.
+   */
+  public ImmutableMap<String, byte[]> fetchSourceFiles(Collection<String> hashCodes)
+      throws IOException {
+    FrontendRequest request = createFetchSourceFilesRequest(hashCodes);
+    FrontendResponse response = makeRequestChecked(request);
+
+    Preconditions.checkState(response.isSetFetchSourceFilesResponse());
+    Preconditions.checkState(response.getFetchSourceFilesResponse().isSetFiles());
+    Map<String, byte[]> contentsByHash = new HashMap<>();
+    for (FileInfo file : response.getFetchSourceFilesResponse().getFiles()) {
+      Preconditions.checkState(file.isSetContentHash() && file.isSetContent());
+      contentsByHash.put(file.getContentHash(), file.getContent());
+    }
+    return ImmutableMap.copyOf(contentsByHash);
+  }
+
   public static FrontendRequest createFetchSourceFileRequest(String fileHash) {
+    return createFetchSourceFilesRequest(ImmutableList.of(fileHash));
+  }
+
+  public static FrontendRequest createFetchSourceFilesRequest(Collection<String> fileHashes) {
     FetchSourceFilesRequest fetchSourceFileRequest = new FetchSourceFilesRequest();
-    fetchSourceFileRequest.setContentHashesIsSet(true);
-    fetchSourceFileRequest.addToContentHashes(fileHash);
+    fetchSourceFileRequest.setContentHashes(new ArrayList<>(fileHashes));
     FrontendRequest frontendRequest = new FrontendRequest();
     frontendRequest.setType(FrontendRequestType.FETCH_SRC_FILES);
     frontendRequest.setFetchSourceFilesRequest(fetchSourceFileRequest);
@@ -29,6 +29,9 @@ import com.facebook.buck.parser.DefaultParserTargetNodeFactory;
 import com.facebook.buck.parser.ParserTargetNodeFactory;
 import com.facebook.buck.rules.ActionGraphAndResolver;
 import com.facebook.buck.rules.BuildEngine;
+import com.facebook.buck.rules.BuildRuleDurationHistory;
+import com.facebook.buck.rules.BuildRuleEvent;
+import com.facebook.buck.rules.BuildRuleStatus;
 import com.facebook.buck.rules.CachingBuildEngine;
 import com.facebook.buck.rules.CachingBuildEngineBuckConfig;
 import com.facebook.buck.rules.Cell;
@@ -55,6 +58,7 @@ import com.google.common.base.Supplier;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.eventbus.Subscribe;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -62,6 +66,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
@@ -126,10 +131,17 @@ public class DistBuildSlaveExecutor {
         args.getStampedeId());
   }
 
-  private CoordinatorModeRunner newCoordinatorMode() {
-    BuildTargetsQueue queue = BuildTargetsQueue.newQueue(
-        Preconditions.checkNotNull(actionGraphAndResolver).getResolver(),
-        fullyQualifiedNameToBuildTarget(args.getState().getRemoteState().getTopLevelTargets()));
+  private CoordinatorModeRunner newCoordinatorMode() throws IOException {
+    // Rules are costed by how long they took in the builds done in this cell before.
+    BuildTargetsQueue queue;
+    try (BuildRuleDurationHistory durationHistory = new BuildRuleDurationHistory(
+        args.getState().getRootCell().getFilesystem(),
+        args.getObjectMapper())) {
+      queue = BuildTargetsQueue.newQueue(
+          Preconditions.checkNotNull(actionGraphAndResolver).getResolver(),
+          fullyQualifiedNameToBuildTarget(args.getState().getRemoteState().getTopLevelTargets()),
+          rule -> durationHistory.getEstimatedDurationMillis(rule.getBuildTarget()));
+    }
     return new CoordinatorModeRunner(
         args.getCoordinatorPort(),
         queue,
@@ -271,15 +283,29 @@ public class DistBuildSlaveExecutor {
   private class LocalBuilderImpl implements LocalBuilder {
     private final BuckConfig distBuildConfig;
     private final CachingBuildEngineBuckConfig engineConfig;
+    // Told about the rules built by the current build.  The listener can't be unregistered from
+    // the event bus, so it's registered once and pointed at each build in turn.
+    private volatile Consumer<String> onTargetBuilt = target -> {};
 
     public LocalBuilderImpl() {
       this.distBuildConfig = args.getRemoteRootCellConfig();
       this.engineConfig = distBuildConfig.getView(CachingBuildEngineBuckConfig.class);
+      args.getBuckEventBus().register(this);
+    }
+
+    @Subscribe
+    public void buildRuleFinished(BuildRuleEvent.Finished finished) {
+      if (finished.getStatus() == BuildRuleStatus.SUCCESS) {
+        onTargetBuilt.accept(finished.getBuildRule().getFullyQualifiedName());
+      }
     }
 
     @Override
-    public int buildLocallyAndReturnExitCode(Iterable<String> targetsToBuild)
+    public int buildLocallyAndReturnExitCode(
+        Iterable<String> targetsToBuild,
+        Consumer<String> onTargetBuilt)
         throws IOException, InterruptedException {
+      this.onTargetBuilt = onTargetBuilt;
       BuildEngine buildEngine = new CachingBuildEngine(
           Preconditions.checkNotNull(cachingBuildEngineDelegate),
           args.getExecutorService(),
@@ -25,6 +25,7 @@ import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.Flavor;
 import com.facebook.buck.model.ImmutableFlavor;
+import com.facebook.buck.model.Pair;
 import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.parser.ParserTargetNodeFactory;
 import com.facebook.buck.rules.Cell;
@@ -41,7 +42,9 @@ import com.google.common.collect.ImmutableSet;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -56,16 +59,36 @@ public class DistBuildTargetGraphCodec {
   private final ParserTargetNodeFactory<TargetNode<?, ?>> parserTargetNodeFactory;
   private final Function<? super TargetNode<?, ?>, ? extends Map<String, Object>> nodeToRawNode;
   private Set<String> topLevelTargets;
+  private final boolean compactEncoding;
 
   public DistBuildTargetGraphCodec(
       ObjectMapper objectMapper,
       ParserTargetNodeFactory<TargetNode<?, ?>> parserTargetNodeFactory,
       Function<? super TargetNode<?, ?>, ? extends Map<String, Object>> nodeToRawNode,
       Set<String> topLevelTargets) {
+    this(
+        objectMapper,
+        parserTargetNodeFactory,
+        nodeToRawNode,
+        topLevelTargets,
+        /* compactEncoding */ false);
+  }
+
+  /**
+   * @param compactEncoding whether {@link #dump} uses {@link CompactTargetGraphEncoding} rather
+   *     than a JSON string per node.  Graphs are loaded in whichever way they were dumped.
+   */
+  public DistBuildTargetGraphCodec(
+      ObjectMapper objectMapper,
+      ParserTargetNodeFactory<TargetNode<?, ?>> parserTargetNodeFactory,
+      Function<? super TargetNode<?, ?>, ? extends Map<String, Object>> nodeToRawNode,
+      Set<String> topLevelTargets,
+      boolean compactEncoding) {
     this.objectMapper = objectMapper;
     this.parserTargetNodeFactory = parserTargetNodeFactory;
     this.nodeToRawNode = nodeToRawNode;
     this.topLevelTargets = topLevelTargets;
+    this.compactEncoding = compactEncoding;
   }
 
   public BuildJobStateTargetGraph dump(
@@ -73,7 +96,7 @@ public class DistBuildTargetGraphCodec {
       Function<Path, Integer> cellIndexer) {
     BuildJobStateTargetGraph result = new BuildJobStateTargetGraph();
 
-
+    List<Pair<BuildJobStateTargetNode, Map<String, Object>>> compactNodes = new ArrayList<>();
     for (TargetNode<?, ?> targetNode : targetNodes) {
       Map<String, Object> rawTargetNode = nodeToRawNode.apply(targetNode);
       ProjectFilesystem projectFilesystem = targetNode.getFilesystem();
@@ -81,6 +104,10 @@ public class DistBuildTargetGraphCodec {
       BuildJobStateTargetNode remoteNode = new BuildJobStateTargetNode();
       remoteNode.setCellIndex(cellIndexer.apply(projectFilesystem.getRootPath()));
       remoteNode.setBuildTarget(encodeBuildTarget(targetNode.getBuildTarget()));
+      if (compactEncoding) {
+        compactNodes.add(new Pair<>(remoteNode, rawTargetNode));
+        continue;
+      }
       try {
         remoteNode.setRawNode(objectMapper.writeValueAsString(rawTargetNode));
       } catch (JsonProcessingException e) {
@@ -89,6 +116,14 @@ public class DistBuildTargetGraphCodec {
       result.addToNodes(remoteNode);
     }
 
+    if (compactEncoding) {
+      try {
+        result.setCompactNodes(CompactTargetGraphEncoding.encode(objectMapper, compactNodes));
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
     return result;
   }
 
@@ -135,7 +170,23 @@ public class DistBuildTargetGraphCodec {
 
     ImmutableSet.Builder<BuildTarget> buildTargetsBuilder = ImmutableSet.builder();
 
-    for (BuildJobStateTargetNode remoteNode : remoteTargetGraph.getNodes()) {
+    List<Pair<BuildJobStateTargetNode, Map<String, Object>>> remoteNodes;
+    if (remoteTargetGraph.isSetCompactNodes()) {
+      remoteNodes = CompactTargetGraphEncoding.decode(
+          objectMapper,
+          remoteTargetGraph.bufferForCompactNodes());
+    } else {
+      remoteNodes = new ArrayList<>();
+      for (BuildJobStateTargetNode remoteNode : remoteTargetGraph.getNodes()) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> rawNode = objectMapper.readValue(remoteNode.getRawNode(), Map.class);
+        remoteNodes.add(new Pair<>(remoteNode, rawNode));
+      }
+    }
+
+    for (Pair<BuildJobStateTargetNode, Map<String, Object>> remoteNodeAndRawNode : remoteNodes) {
+      BuildJobStateTargetNode remoteNode = remoteNodeAndRawNode.getFirst();
+      Map<String, Object> rawNode = remoteNodeAndRawNode.getSecond();
       Cell cell = cellLookup.apply(remoteNode.getCellIndex());
       ProjectFilesystem projectFilesystem = cell.getFilesystem();
       BuildTarget target = decodeBuildTarget(remoteNode.getBuildTarget(), cell);
@@ -143,8 +194,6 @@ public class DistBuildTargetGraphCodec {
         buildTargetsBuilder.add(target);
       }
 
-      @SuppressWarnings("unchecked")
-      Map<String, Object> rawNode = objectMapper.readValue(remoteNode.getRawNode(), Map.class);
       Path buildFilePath = projectFilesystem
           .resolve(target.getBasePath())
           .resolve(cell.getBuildFileName());
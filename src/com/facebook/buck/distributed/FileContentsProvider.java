@@ -20,6 +20,8 @@ import com.facebook.buck.distributed.thrift.BuildJobStateFileHashEntry;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 
 public interface FileContentsProvider {
   /**
@@ -30,4 +32,31 @@ public interface FileContentsProvider {
    */
   boolean materializeFileContents(BuildJobStateFileHashEntry entry, Path targetAbsPath)
       throws IOException;
+
+  /**
+   * Materializes the contents of several entries at once.  Providers which can fetch the contents
+   * of several files more cheaply than one by one should override this.
+   *
+   * @param entriesByTargetAbsPath the entries to fetch the contents for, by where they should be
+   *     written to.
+   *
+   * @return true if all of the entries were materialized, false otherwise.
+   */
+  default boolean materializeFileContents(
+      Map<Path, BuildJobStateFileHashEntry> entriesByTargetAbsPath) throws IOException {
+    boolean materializedAll = true;
+    for (Map.Entry<Path, BuildJobStateFileHashEntry> entry : entriesByTargetAbsPath.entrySet()) {
+      materializedAll &= materializeFileContents(entry.getValue(), entry.getKey());
+    }
+    return materializedAll;
+  }
+
+  /**
+   * Gives the provider a chance to fetch the contents of entries which are likely to be
+   * materialized later on, so they don't have to be fetched one by one as they're needed.
+   */
+  @SuppressWarnings("unused")
+  default void prefetchFileContents(Collection<BuildJobStateFileHashEntry> entries)
+      throws IOException {
+  }
 }
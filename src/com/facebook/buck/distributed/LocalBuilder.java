@@ -17,8 +17,21 @@
 package com.facebook.buck.distributed;
 
 import java.io.IOException;
+import java.util.function.Consumer;
 
 public interface LocalBuilder {
-  int buildLocallyAndReturnExitCode(Iterable<String> targetsToBuild)
+  default int buildLocallyAndReturnExitCode(Iterable<String> targetsToBuild)
+      throws IOException, InterruptedException {
+    return buildLocallyAndReturnExitCode(targetsToBuild, target -> {});
+  }
+
+  /**
+   * @param onTargetBuilt called with the fully qualified name of every rule as soon as it's built
+   *     successfully, which includes the dependencies of the targets to build.  It may be called
+   *     from any thread, and shortly after the build returned.
+   */
+  int buildLocallyAndReturnExitCode(
+      Iterable<String> targetsToBuild,
+      Consumer<String> onTargetBuilt)
       throws IOException, InterruptedException;
 }
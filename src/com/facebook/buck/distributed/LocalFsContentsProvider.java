@@ -23,21 +23,45 @@ import com.facebook.buck.artifact_cache.DirArtifactCache;
 import com.facebook.buck.distributed.thrift.BuildJobStateFileHashEntry;
 import com.facebook.buck.io.BorrowablePath;
 import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.io.MoreFiles;
 import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
 import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 
+/**
+ * A store of source file contents keyed by their content hash, shared by all the jobs run on the
+ * machine.  Files are materialized from it as hard links where possible, so a file is only
+ * written to disk once however many jobs and paths it's used in.  Since hard links share
+ * permissions, executable files are stored apart from non-executable ones with the same contents,
+ * and every entry is made read-only so that materialized files can't be modified in place.
+ */
 public class LocalFsContentsProvider implements FileContentsProvider {
+  private static final Logger LOG = Logger.get(LocalFsContentsProvider.class);
+
   private static final String CACHE_NAME = "stampede_source_dircache";
 
+  private final Path cacheDirAbsPath;
   private final DirArtifactCache dirCache;
 
   public LocalFsContentsProvider(Path cacheDirAbsPath) throws IOException {
@@ -45,28 +69,35 @@ public class LocalFsContentsProvider implements FileContentsProvider {
         Files.isDirectory(cacheDirAbsPath),
         "The cache directory must exist. cacheDirAbsPath=[%s]",
         cacheDirAbsPath);
+    this.cacheDirAbsPath = cacheDirAbsPath;
     this.dirCache = new DirArtifactCache(
         CACHE_NAME,
         new ProjectFilesystem(cacheDirAbsPath),
         Paths.get(CACHE_NAME),
         true,
-        Optional.empty());
+        Optional.empty(),
+        /* useIndex */ true);
   }
 
   @Override
   public boolean materializeFileContents(BuildJobStateFileHashEntry entry, Path targetAbsPath)
       throws IOException {
-    RuleKey key = new RuleKey(entry.getHashCode());
-    CacheResult cacheResult = dirCache.fetch(key, LazyPath.ofInstance(targetAbsPath));
-    return cacheResult.getType() == CacheResultType.HIT;
+    CacheResult cacheResult =
+        dirCache.fetch(getStoreKey(entry), LazyPath.ofInstance(targetAbsPath));
+    if (cacheResult.getType() != CacheResultType.HIT) {
+      return false;
+    }
+    // Entries stored by copying the materialized file, or by older versions, get their mode the
+    // first time they're used.  Everything linked to the entry expects the same mode.
+    setReadOnlyMode(targetAbsPath, entry);
+    return true;
   }
 
   public void writeFileAndGetInputStream(
       BuildJobStateFileHashEntry entry,
       Path absPath) throws IOException {
-    RuleKey key = new RuleKey(entry.getHashCode());
     ArtifactInfo artifactInfo = ArtifactInfo.builder()
-        .setRuleKeys(ImmutableList.of(key))
+        .setRuleKeys(ImmutableList.of(getStoreKey(entry)))
         .build();
     BorrowablePath nonBorrowablePath = BorrowablePath.notBorrowablePath(absPath);
     try {
@@ -75,4 +106,82 @@ public class LocalFsContentsProvider implements FileContentsProvider {
       throw new IOException("Failed to store artifact to DirCache.", e);
     }
   }
+
+  /**
+   * Fetches the contents of all the entries missing from the store with as few requests to
+   * {@code source} as possible, so they can be materialized from the store later on.
+   */
+  public void prefetchFileContents(
+      Collection<BuildJobStateFileHashEntry> entries,
+      FileContentsProvider source) throws IOException {
+    Map<RuleKey, BuildJobStateFileHashEntry> entriesByKey = new LinkedHashMap<>();
+    for (BuildJobStateFileHashEntry entry : entries) {
+      entriesByKey.putIfAbsent(getStoreKey(entry), entry);
+    }
+    ImmutableMap<RuleKey, CacheResult> containsResults =
+        dirCache.multiContains(ImmutableSet.copyOf(entriesByKey.keySet()));
+
+    Path stagingDir = Files.createTempDirectory(cacheDirAbsPath, "prefetch");
+    try {
+      Map<Path, BuildJobStateFileHashEntry> entriesByStagedPath = new HashMap<>();
+      for (Map.Entry<RuleKey, BuildJobStateFileHashEntry> entry : entriesByKey.entrySet()) {
+        if (containsResults.get(entry.getKey()).getType() != CacheResultType.HIT) {
+          entriesByStagedPath.put(stagingDir.resolve(entry.getKey().toString()), entry.getValue());
+        }
+      }
+      LOG.info(
+          "Prefetching [%d] of [%d] distinct files.",
+          entriesByStagedPath.size(),
+          entriesByKey.size());
+      if (entriesByStagedPath.isEmpty()) {
+        return;
+      }
+
+      if (!source.materializeFileContents(entriesByStagedPath)) {
+        LOG.warn("Some files could not be prefetched, they'll be fetched again when used.");
+      }
+      for (Map.Entry<Path, BuildJobStateFileHashEntry> entry : entriesByStagedPath.entrySet()) {
+        if (!Files.isRegularFile(entry.getKey())) {
+          continue;
+        }
+        // The staged file is moved into the store, so this sets the mode of the entry.
+        setReadOnlyMode(entry.getKey(), entry.getValue());
+        ArtifactInfo artifactInfo = ArtifactInfo.builder()
+            .setRuleKeys(ImmutableList.of(getStoreKey(entry.getValue())))
+            .build();
+        try {
+          dirCache.store(artifactInfo, BorrowablePath.borrowablePath(entry.getKey())).get();
+        } catch (InterruptedException | ExecutionException e) {
+          throw new IOException("Failed to store artifact to DirCache.", e);
+        }
+      }
+    } finally {
+      MoreFiles.deleteRecursivelyIfExists(stagingDir);
+    }
+  }
+
+  private static RuleKey getStoreKey(BuildJobStateFileHashEntry entry) {
+    HashCode contentHash = HashCode.fromString(entry.getHashCode());
+    if (!entry.isIsExecutable()) {
+      return new RuleKey(contentHash);
+    }
+    return new RuleKey(
+        Hashing.sha1().newHasher()
+            .putBytes(contentHash.asBytes())
+            .putString("executable", Charsets.UTF_8)
+            .hash());
+  }
+
+  private static void setReadOnlyMode(Path path, BuildJobStateFileHashEntry entry)
+      throws IOException {
+    if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+      Files.setPosixFilePermissions(
+          path,
+          PosixFilePermissions.fromString(entry.isIsExecutable() ? "r-xr-xr-x" : "r--r--r--"));
+    } else {
+      File file = path.toFile();
+      file.setExecutable(entry.isIsExecutable());
+      file.setWritable(false);
+    }
+  }
 }
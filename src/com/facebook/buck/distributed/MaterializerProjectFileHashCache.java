@@ -22,6 +22,7 @@ import com.facebook.buck.distributed.thrift.PathWithUnixSeparators;
 import com.facebook.buck.io.ArchiveMemberPath;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.cache.FileHashCacheVerificationResult;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.google.common.base.Preconditions;
@@ -63,6 +64,16 @@ class MaterializerProjectFileHashCache implements ProjectFileHashCache {
   }
 
   public void preloadAllFiles() throws IOException {
+    // Fetch the contents of all the files up front in bulk, rather than one request per file as
+    // the build gets to them.
+    provider.prefetchFileContents(
+        remoteFileHashesByAbsPath.values().stream()
+            .filter(entry -> !entry.isPathIsAbsolute() &&
+                !entry.isSetRootSymLink() &&
+                !entry.isIsDirectory() &&
+                entry.isSetHashCode())
+            .collect(MoreCollectors.toImmutableList()));
+
     for (Path absPath : remoteFileHashesByAbsPath.keySet()) {
       LOG.info("Preloading: [%s]", absPath.toString());
       BuildJobStateFileHashEntry fileHashEntry = remoteFileHashesByAbsPath.get(absPath);
@@ -127,6 +138,8 @@ class MaterializerProjectFileHashCache implements ProjectFileHashCache {
         "[Stampede] Missing source file [%s] for FileHashEntry=[%s]",
         absPath,
         fileHashEntry);
+    // Files linked from the local store are stored with their mode already, and setting the same
+    // mode again leaves the store alone.
     absPath.toFile().setExecutable(fileHashEntry.isExecutable);
     synchronized (this) {
       // Double check this path hasn't been materialized,
@@ -20,21 +20,36 @@ import com.facebook.buck.distributed.thrift.FinishedBuildingResponse;
 import com.facebook.buck.distributed.thrift.GetTargetsToBuildResponse;
 import com.facebook.buck.distributed.thrift.StampedeId;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class MinionModeRunner implements DistBuildModeRunner {
   private static final Logger LOG = Logger.get(MinionModeRunner.class);
 
   private static final int RETRY_BACKOFF_MILLIS = 1000;
 
+  // How long to wait for more targets to be built before reporting the ones built so far.
+  private static final int REPORT_INTERVAL_MILLIS = 100;
+
   private final String coordinatorAddress;
   private final int coordinatorPort;
   private final LocalBuilder builder;
@@ -56,6 +71,7 @@ public class MinionModeRunner implements DistBuildModeRunner {
 
   @Override
   public int runAndReturnExitCode() throws IOException, InterruptedException {
+    ExecutorService buildExecutor = MostExecutors.newSingleThreadExecutor("Minion Build");
     try (ThriftCoordinatorClient client =
              new ThriftCoordinatorClient(coordinatorAddress, coordinatorPort, stampedeId)) {
       client.start();
@@ -70,14 +86,21 @@ public class MinionModeRunner implements DistBuildModeRunner {
                 minionId,
                 targetsToBuild.size(),
                 Joiner.on(", ").join(targetsToBuild)));
-            int buildExitCode = builder.buildLocallyAndReturnExitCode(targetsToBuild);
+            Set<String> builtTargets = Sets.newLinkedHashSet();
+            int buildExitCode = buildAndReportEachTarget(
+                client,
+                minionId,
+                targetsToBuild,
+                builtTargets,
+                buildExecutor);
             LOG.debug(String.format(
                 "Minion [%s] finished with exit code [%d].",
                 minionId,
                 buildExitCode));
             FinishedBuildingResponse finishedResponse = client.finishedBuilding(
                 minionId,
-                buildExitCode);
+                buildExitCode,
+                buildExitCode == 0 ? targetsToBuild : ImmutableList.copyOf(builtTargets));
             if (!finishedResponse.isContinueBuilding()) {
               return 0;
             }
@@ -101,6 +124,58 @@ public class MinionModeRunner implements DistBuildModeRunner {
                 response.getAction()));
         }
       }
+    } finally {
+      buildExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Builds the targets in the background, telling the coordinator about each of them as soon as
+   * it's built, so that their dependents can be handed out to other minions straight away.
+   *
+   * @param builtTargets filled with the targets built successfully.
+   * @return the exit code of the build.
+   */
+  private int buildAndReportEachTarget(
+      ThriftCoordinatorClient client,
+      String minionId,
+      List<String> targetsToBuild,
+      Set<String> builtTargets,
+      ExecutorService buildExecutor) throws IOException, InterruptedException {
+    Set<String> targetsLeftToReport = Sets.newHashSet(targetsToBuild);
+    BlockingQueue<String> builtRules = new LinkedBlockingQueue<>();
+    Future<Integer> buildExitCode = buildExecutor.submit(
+        () -> builder.buildLocallyAndReturnExitCode(targetsToBuild, builtRules::add));
+
+    boolean buildDone = false;
+    while (!buildDone) {
+      buildDone = buildExitCode.isDone();
+      List<String> newlyBuiltRules = Lists.newArrayList();
+      String builtRule = builtRules.poll(REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+      if (builtRule != null) {
+        newlyBuiltRules.add(builtRule);
+        builtRules.drainTo(newlyBuiltRules);
+      }
+      List<String> newlyBuiltTargets = newlyBuiltRules.stream()
+          .filter(targetsLeftToReport::remove)
+          .collect(Collectors.toList());
+      if (newlyBuiltTargets.isEmpty()) {
+        continue;
+      }
+      builtTargets.addAll(newlyBuiltTargets);
+      // Once the build is over, the final report takes care of the rest.
+      if (!buildDone && !targetsLeftToReport.isEmpty()) {
+        client.builtTargets(minionId, newlyBuiltTargets);
+      }
+    }
+
+    try {
+      return buildExitCode.get();
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfInstanceOf(e.getCause(), InterruptedException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new RuntimeException(e.getCause());
     }
   }
 
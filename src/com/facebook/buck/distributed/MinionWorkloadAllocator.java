@@ -16,31 +16,79 @@
 
 package com.facebook.buck.distributed;
 
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.timing.DefaultClock;
+import com.facebook.buck.util.MoreCollectors;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
 
 /**
  * Allocates and keeps track of what BuildTargets are allocated to which Minions.
+ *
+ * Completion is tracked per target, so a Minion only needs to report the targets it actually
+ * built for their dependents to become ready, and can report them as it goes.  Once there's
+ * nothing left to hand out, idle Minions are given copies of the targets which have been building
+ * for longer than most targets took to build so far, taking them from the Minions with the most
+ * outstanding work first.  Whichever copy finishes first counts, so a slow or wedged Minion
+ * doesn't hold up the rest of the build.
  * NOTE: Not thread safe.
  */
 public class MinionWorkloadAllocator {
+  private static final Logger LOG = Logger.get(MinionWorkloadAllocator.class);
+
+  public static final double DEFAULT_STRAGGLER_PERCENTILE = 0.95;
+
+  // How many targets need to have been built before their durations are trusted to spot
+  // stragglers.
+  private static final int MIN_DURATIONS_TO_DETECT_STRAGGLERS = 5;
+
+  // Each target is built at most once more on top of its original assignment.
+  private static final int MAX_ATTEMPTS_PER_TARGET = 2;
 
   private final BuildTargetsQueue queue;
   private final int maxTargetsPerMinion;
+  private final Clock clock;
+  private final double stragglerPercentile;
   private final Map<String, MinionWorkload> minionAllocations;
-  private final List<String> targetsNotAssignedYet;
+  // Longest critical path first, so that minions start on the long chains as early as possible.
+  private final Queue<String> targetsNotAssignedYet;
+  private final Map<String, Map<String, Long>> startTimesByMinionByTargetBeingBuilt;
+  private final List<Long> buildDurationsMillis;
 
   public MinionWorkloadAllocator(BuildTargetsQueue queue, int maxTargetsPerMinion) {
+    this(queue, maxTargetsPerMinion, new DefaultClock(), DEFAULT_STRAGGLER_PERCENTILE);
+  }
+
+  /**
+   * @param stragglerPercentile the percentile of the build durations of the targets built so far
+   *     beyond which a target still being built is considered a straggler and handed out again.
+   */
+  public MinionWorkloadAllocator(
+      BuildTargetsQueue queue,
+      int maxTargetsPerMinion,
+      Clock clock,
+      double stragglerPercentile) {
+    Preconditions.checkArgument(stragglerPercentile > 0 && stragglerPercentile <= 1);
     this.queue = queue;
     this.minionAllocations = Maps.newHashMap();
-    this.targetsNotAssignedYet =
-        Lists.newArrayList(queue.dequeueZeroDependencyNodes(ImmutableList.of()));
+    this.targetsNotAssignedYet = new PriorityQueue<>(queue.getCriticalPathOrder());
+    this.targetsNotAssignedYet.addAll(queue.dequeueZeroDependencyNodes(ImmutableList.of()));
     this.maxTargetsPerMinion = maxTargetsPerMinion;
+    this.clock = clock;
+    this.stragglerPercentile = stragglerPercentile;
+    this.startTimesByMinionByTargetBeingBuilt = Maps.newHashMap();
+    this.buildDurationsMillis = Lists.newArrayList();
   }
 
   public ImmutableList<String> getTargetsToBuild(String minionId) {
@@ -54,34 +102,154 @@ public class MinionWorkloadAllocator {
       targetsNotAssignedYet.addAll(queue.dequeueZeroDependencyNodes(ImmutableList.of()));
     }
 
+    ImmutableList<String> targetsToBuild;
     if (targetsNotAssignedYet.isEmpty()) {
+      targetsToBuild = getStragglersToBuildAgain(minionId);
+    } else {
+      ImmutableList.Builder<String> targetsToBuildBuilder = ImmutableList.builder();
+      for (int i = 0; i < maxTargetsPerMinion && !targetsNotAssignedYet.isEmpty(); i++) {
+        targetsToBuildBuilder.add(targetsNotAssignedYet.remove());
+      }
+      targetsToBuild = targetsToBuildBuilder.build();
+    }
+    if (targetsToBuild.isEmpty()) {
       return ImmutableList.of();
     }
 
     // Assign new minionWorkload to the worker.
-
-    // NOTE: This is just a view into the original collection. It's not a clone.
-    int lastIndex = Math.min(targetsNotAssignedYet.size(), maxTargetsPerMinion);
-    List<String> viewIntoTargetsToBuild = targetsNotAssignedYet.subList(0, lastIndex);
-    ImmutableList<String> targetsToBuild = ImmutableList.copyOf(viewIntoTargetsToBuild);
-
-    // Because this is a view over the original List, the .clear() method will remove the
-    // items from the original list.
-    viewIntoTargetsToBuild.clear();
-
+    long now = clock.currentTimeMillis();
+    for (String target : targetsToBuild) {
+      startTimesByMinionByTargetBeingBuilt
+          .computeIfAbsent(target, key -> Maps.newHashMap())
+          .put(minionId, now);
+    }
     MinionWorkload minionWorkload = new MinionWorkload(targetsToBuild);
     minionAllocations.put(minionId, minionWorkload);
     return targetsToBuild;
   }
 
+  private ImmutableList<String> getStragglersToBuildAgain(String minionId) {
+    if (buildDurationsMillis.size() < MIN_DURATIONS_TO_DETECT_STRAGGLERS) {
+      return ImmutableList.of();
+    }
+    List<Long> sortedDurations = Lists.newArrayList(buildDurationsMillis);
+    Collections.sort(sortedDurations);
+    long stragglerThresholdMillis = sortedDurations.get(
+        (int) Math.ceil(stragglerPercentile * sortedDurations.size()) - 1);
+
+    long now = clock.currentTimeMillis();
+    Map<String, Long> stragglerStartTimes = Maps.newHashMap();
+    Map<String, Integer> outstandingTargetsByMinion = Maps.newHashMap();
+    for (Map.Entry<String, Map<String, Long>> entry :
+        startTimesByMinionByTargetBeingBuilt.entrySet()) {
+      Map<String, Long> startTimesByMinion = entry.getValue();
+      for (String minion : startTimesByMinion.keySet()) {
+        outstandingTargetsByMinion.merge(minion, 1, Integer::sum);
+      }
+      if (startTimesByMinion.size() >= MAX_ATTEMPTS_PER_TARGET ||
+          startTimesByMinion.containsKey(minionId)) {
+        continue;
+      }
+      long startTime = Collections.min(startTimesByMinion.values());
+      if (now - startTime > stragglerThresholdMillis) {
+        stragglerStartTimes.put(entry.getKey(), startTime);
+      }
+    }
+
+    // Steal from the busiest minions first, and the oldest of their targets.
+    Comparator<String> stealingOrder =
+        Comparator.<String>comparingInt(
+            target -> startTimesByMinionByTargetBeingBuilt.get(target).keySet().stream()
+                .mapToInt(outstandingTargetsByMinion::get)
+                .max()
+                .getAsInt())
+            .reversed()
+            .thenComparingLong(stragglerStartTimes::get)
+            .thenComparing(queue.getCriticalPathOrder());
+    ImmutableList<String> stragglers = stragglerStartTimes.keySet().stream()
+        .sorted(stealingOrder)
+        .limit(maxTargetsPerMinion)
+        .collect(MoreCollectors.toImmutableList());
+    if (!stragglers.isEmpty()) {
+      LOG.info(
+          "Minion [%s] is building again targets which took longer than %dms: [%s]",
+          minionId,
+          stragglerThresholdMillis,
+          stragglers);
+    }
+    return stragglers;
+  }
+
+  /**
+   * Marks all the targets handed to the minion as built.
+   */
   public void finishedBuildingTargets(String minionId) {
+    finishedBuildingTargets(
+        minionId,
+        Preconditions.checkNotNull(minionAllocations.get(minionId)).getTargetsBeingBuilt());
+  }
+
+  /**
+   * Marks the targets the minion built so far, so that their dependents can be handed out while it
+   * keeps building the rest of its targets.
+   */
+  public void builtTargets(String minionId, Collection<String> builtTargets) {
+    MinionWorkload minionWorkload = Preconditions.checkNotNull(minionAllocations.get(minionId));
+    long now = clock.currentTimeMillis();
+    List<String> newlyFinishedTargets = Lists.newArrayList();
+    for (String target : minionWorkload.getTargetsBeingBuilt()) {
+      if (builtTargets.contains(target)) {
+        markBuilt(minionId, target, now, newlyFinishedTargets);
+      }
+    }
+    targetsNotAssignedYet.addAll(
+        queue.dequeueZeroDependencyNodes(ImmutableList.copyOf(newlyFinishedTargets)));
+  }
+
+  /**
+   * @param builtTargets the targets the minion built.  The others it was handed, and didn't
+   *     report as built before, are given out again, unless another minion is still building them.
+   */
+  public void finishedBuildingTargets(String minionId, Collection<String> builtTargets) {
     MinionWorkload minionWorkload = Preconditions.checkNotNull(minionAllocations.remove(minionId));
+    long now = clock.currentTimeMillis();
+    List<String> newlyFinishedTargets = Lists.newArrayList();
+    for (String target : minionWorkload.getTargetsBeingBuilt()) {
+      if (builtTargets.contains(target)) {
+        markBuilt(minionId, target, now, newlyFinishedTargets);
+        continue;
+      }
+      Map<String, Long> startTimesByMinion = startTimesByMinionByTargetBeingBuilt.get(target);
+      if (startTimesByMinion == null || startTimesByMinion.remove(minionId) == null) {
+        // Built already, by this minion or another one.
+        continue;
+      }
+      if (startTimesByMinion.isEmpty()) {
+        startTimesByMinionByTargetBeingBuilt.remove(target);
+        targetsNotAssignedYet.add(target);
+      }
+    }
     targetsNotAssignedYet.addAll(
-        queue.dequeueZeroDependencyNodes(minionWorkload.getTargetsBeingBuilt()));
+        queue.dequeueZeroDependencyNodes(ImmutableList.copyOf(newlyFinishedTargets)));
+  }
+
+  private void markBuilt(
+      String minionId,
+      String target,
+      long now,
+      List<String> newlyFinishedTargets) {
+    Map<String, Long> startTimesByMinion = startTimesByMinionByTargetBeingBuilt.get(target);
+    if (startTimesByMinion == null || !startTimesByMinion.containsKey(minionId)) {
+      // Built already, by this minion or another one.
+      return;
+    }
+    startTimesByMinionByTargetBeingBuilt.remove(target);
+    newlyFinishedTargets.add(target);
+    buildDurationsMillis.add(now - startTimesByMinion.get(minionId));
   }
 
   public boolean isBuildFinished() {
-    return minionAllocations.size() == 0 && targetsNotAssignedYet.size() == 0;
+    return startTimesByMinionByTargetBeingBuilt.isEmpty() && targetsNotAssignedYet.isEmpty();
   }
 
   private static class MinionWorkload {
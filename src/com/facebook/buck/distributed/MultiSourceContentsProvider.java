@@ -17,9 +17,11 @@
 package com.facebook.buck.distributed;
 
 import com.facebook.buck.distributed.thrift.BuildJobStateFileHashEntry;
+import com.facebook.buck.util.MoreCollectors;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
 
 public class MultiSourceContentsProvider implements FileContentsProvider {
@@ -70,4 +72,18 @@ public class MultiSourceContentsProvider implements FileContentsProvider {
 
     return false;
   }
+
+  @Override
+  public void prefetchFileContents(Collection<BuildJobStateFileHashEntry> entries)
+      throws IOException {
+    if (!localFsProvider.isPresent()) {
+      // Without a local store there's nowhere to keep the contents until they're needed.
+      return;
+    }
+    localFsProvider.get().prefetchFileContents(
+        entries.stream()
+            .filter(entry -> !entry.isSetContents())
+            .collect(MoreCollectors.toImmutableList()),
+        serverProvider);
+  }
 }
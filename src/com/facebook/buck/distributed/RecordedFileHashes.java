@@ -41,7 +41,7 @@ public class RecordedFileHashes {
   }
 
   public synchronized boolean containsAndAddPath(ArchiveMemberPath relPath) {
-    return seenArchiveMemberPaths.contains(relPath);
+    return !seenArchiveMemberPaths.add(relPath);
   }
 
   public synchronized void addEntry(BuildJobStateFileHashEntry entry) {
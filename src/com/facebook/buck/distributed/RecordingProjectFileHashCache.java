@@ -39,8 +39,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 
-import javax.annotation.concurrent.GuardedBy;
-
 /**
  * Decorator class the records information about the paths being hashed as a side effect of
  * producing file hashes required for rule key computation.
@@ -50,7 +48,6 @@ public class RecordingProjectFileHashCache implements ProjectFileHashCache {
 
   private final ProjectFileHashCache delegate;
   private final ProjectFilesystem projectFilesystem;
-  @GuardedBy("this")
   private final RecordedFileHashes remoteFileHashes;
   private final boolean allRecordedPathsAreAbsolute;
   private boolean materializeCurrentFileDuringPreloading = false;
@@ -96,15 +93,16 @@ public class RecordingProjectFileHashCache implements ProjectFileHashCache {
     while (remainingPaths.size() > 0) {
       Path nextPath = remainingPaths.remove();
       HashCode hashCode = delegate.get(nextPath);
+      // Whichever thread claims a path records it, along with everything beneath it, without
+      // holding any locks so that reading the files of all the rules happens in parallel.
+      if (remoteFileHashes.containsAndAddPath(nextPath)) {
+        continue;
+      }
       List<PathWithUnixSeparators> children = ImmutableList.of();
       if (projectFilesystem.isDirectory(nextPath)) {
         children = processDirectory(nextPath, remainingPaths);
       }
-      synchronized (this) {
-        if (!remoteFileHashes.containsAndAddPath(nextPath)) {
-          record(nextPath, Optional.empty(), hashCode, children);
-        }
-      }
+      record(nextPath, Optional.empty(), hashCode, children);
     }
 
     return delegate.get(relPath);
@@ -190,7 +188,7 @@ public class RecordingProjectFileHashCache implements ProjectFileHashCache {
 
   }
 
-  private synchronized void record(
+  private void record(
       Path relPath,
       Optional<String> memRelPath,
       HashCode hashCode,
@@ -259,14 +257,12 @@ public class RecordingProjectFileHashCache implements ProjectFileHashCache {
   public HashCode get(ArchiveMemberPath relPath) throws IOException {
     checkIsRelative(relPath.getArchivePath());
     HashCode hashCode = delegate.get(relPath);
-    synchronized (this) {
-      if (!remoteFileHashes.containsAndAddPath(relPath)) {
-        record(
-            relPath.getArchivePath(),
-            Optional.of(relPath.getMemberPath().toString()),
-            hashCode,
-            new LinkedList<>());
-      }
+    if (!remoteFileHashes.containsAndAddPath(relPath)) {
+      record(
+          relPath.getArchivePath(),
+          Optional.of(relPath.getMemberPath().toString()),
+          hashCode,
+          new LinkedList<>());
     }
     return hashCode;
   }
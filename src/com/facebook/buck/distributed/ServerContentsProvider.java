@@ -18,14 +18,22 @@ package com.facebook.buck.distributed;
 
 import com.facebook.buck.distributed.thrift.BuildJobStateFileHashEntry;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.io.ByteStreams;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 public class ServerContentsProvider implements FileContentsProvider {
+  // Keeps the responses to a reasonable size when fetching many files at once.
+  private static final int MAX_FILES_PER_REQUEST = 100;
+
   private final DistBuildService service;
 
   public ServerContentsProvider(DistBuildService service) {
@@ -47,4 +55,38 @@ public class ServerContentsProvider implements FileContentsProvider {
 
     return true;
   }
+
+  @Override
+  public boolean materializeFileContents(
+      Map<Path, BuildJobStateFileHashEntry> entriesByTargetAbsPath) throws IOException {
+    ImmutableSetMultimap.Builder<String, Path> targetAbsPathsByHashBuilder =
+        ImmutableSetMultimap.builder();
+    for (Map.Entry<Path, BuildJobStateFileHashEntry> entry : entriesByTargetAbsPath.entrySet()) {
+      Preconditions.checkState(
+          entry.getValue().isSetHashCode(),
+          String.format("File hash missing for file [%s]", entry.getValue().getPath()));
+      targetAbsPathsByHashBuilder.put(entry.getValue().getHashCode(), entry.getKey());
+    }
+    ImmutableSetMultimap<String, Path> targetAbsPathsByHash = targetAbsPathsByHashBuilder.build();
+
+    // Each distinct content is only fetched once, however many paths it's written to.
+    boolean materializedAll = true;
+    for (List<String> hashes :
+        Iterables.partition(targetAbsPathsByHash.keySet(), MAX_FILES_PER_REQUEST)) {
+      ImmutableMap<String, byte[]> contentsByHash = service.fetchSourceFiles(hashes);
+      for (String hash : hashes) {
+        byte[] contents = contentsByHash.get(hash);
+        if (contents == null) {
+          materializedAll = false;
+          continue;
+        }
+        for (Path targetAbsPath : targetAbsPathsByHash.get(hash)) {
+          try (OutputStream outputStream = InlineContentsProvider.newOutputStream(targetAbsPath)) {
+            outputStream.write(contents);
+          }
+        }
+      }
+    }
+    return materializedAll;
+  }
 }
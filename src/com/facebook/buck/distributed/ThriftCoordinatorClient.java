@@ -36,6 +36,7 @@ import org.apache.thrift.transport.TTransportException;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -111,7 +112,32 @@ public class ThriftCoordinatorClient implements Closeable {
     }
   }
 
-  public FinishedBuildingResponse finishedBuilding(String minionId, int minionExitCode)
+  /**
+   * Reports the targets built so far, while the Minion keeps building the rest of its targets.
+   */
+  public FinishedBuildingResponse builtTargets(String minionId, List<String> builtTargets)
+      throws IOException {
+    LOG.debug(String.format(
+        "Minion [%s] is reporting that it built [%s].",
+        minionId,
+        builtTargets));
+    Preconditions.checkNotNull(client, "Client was not started.");
+    FinishedBuildingRequest request = new FinishedBuildingRequest()
+        .setStampedeId(stampedeId)
+        .setMinionId(minionId)
+        .setFinishedTargets(builtTargets);
+    try {
+      FinishedBuildingResponse response = client.finishedBuilding(request);
+      return response;
+    } catch (TException e) {
+      throw new ThriftException(e);
+    }
+  }
+
+  public FinishedBuildingResponse finishedBuilding(
+      String minionId,
+      int minionExitCode,
+      List<String> finishedTargets)
       throws IOException {
     LOG.debug(String.format(
         "Minion [%s] is reporting that it finished building.",
@@ -120,7 +146,8 @@ public class ThriftCoordinatorClient implements Closeable {
     FinishedBuildingRequest request = new FinishedBuildingRequest()
         .setStampedeId(stampedeId)
         .setMinionId(minionId)
-        .setBuildExitCode(minionExitCode);
+        .setBuildExitCode(minionExitCode)
+        .setFinishedTargets(finishedTargets);
     try {
       FinishedBuildingResponse response = client.finishedBuilding(request);
       return response;
@@ -28,6 +28,7 @@ import com.facebook.buck.slb.ThriftException;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import org.apache.thrift.TException;
 import org.apache.thrift.server.TThreadedSelectorServer;
@@ -182,30 +183,47 @@ public class ThriftCoordinatorServer implements Closeable {
     @Override
     public FinishedBuildingResponse finishedBuilding(FinishedBuildingRequest request)
         throws TException {
-      LOG.info(String.format(
-          "Minion [%s] has finished building.",
-          request.getMinionId()));
       checkBuildId(request.getStampedeId());
       synchronized (lock) {
         Preconditions.checkArgument(request.isSetMinionId());
-        Preconditions.checkArgument(request.isSetBuildExitCode());
         FinishedBuildingResponse response = new FinishedBuildingResponse();
+        if (!request.isSetBuildExitCode()) {
+          // The Minion is reporting the targets it built so far, and is still building the rest.
+          LOG.debug(String.format(
+              "Minion [%s] has built [%s].",
+              request.getMinionId(),
+              request.getFinishedTargets()));
+          Preconditions.checkArgument(request.isSetFinishedTargets());
+          allocator.builtTargets(
+              request.getMinionId(),
+              ImmutableSet.copyOf(request.getFinishedTargets()));
+          response.setContinueBuilding(!getExitCode().isDone());
+          return response;
+        }
+
+        LOG.info(String.format(
+            "Minion [%s] has finished building.",
+            request.getMinionId()));
+        if (request.isSetFinishedTargets()) {
+          allocator.finishedBuildingTargets(
+              request.getMinionId(),
+              ImmutableSet.copyOf(request.getFinishedTargets()));
+        } else if (request.getBuildExitCode() == 0) {
+          allocator.finishedBuildingTargets(request.getMinionId());
+        } else {
+          allocator.finishedBuildingTargets(request.getMinionId(), ImmutableSet.of());
+        }
         if (request.getBuildExitCode() != 0) {
           setBuildExitCode(request.getBuildExitCode());
           response.setContinueBuilding(false);
+        } else if (getExitCode().isDone()) {
+          response.setContinueBuilding(false);
+        } else if (allocator.isBuildFinished()) {
+          // Build has finished in all Minions successfully!!
+          setBuildExitCode(0);
+          response.setContinueBuilding(false);
         } else {
-          allocator.finishedBuildingTargets(request.getMinionId());
-          if (getExitCode().isDone()) {
-            response.setContinueBuilding(false);
-          } else {
-            if (allocator.isBuildFinished()) {
-              // Build has finished in all Minions successfully!!
-              setBuildExitCode(0);
-              response.setContinueBuilding(false);
-            } else {
-              response.setContinueBuilding(true);
-            }
-          }
+          response.setContinueBuilding(true);
         }
 
         return response;
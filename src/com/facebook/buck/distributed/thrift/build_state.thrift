@@ -77,6 +77,8 @@ struct BuildJobStateCell {
 
 struct BuildJobStateTargetGraph {
   1: optional list<BuildJobStateTargetNode> nodes;
+  // The nodes encoded by DistBuildTargetGraphCodec's compact binary format, instead of nodes.
+  2: optional binary compactNodes;
 }
 
 struct BuildJobState {
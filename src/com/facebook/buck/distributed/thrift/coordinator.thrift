@@ -44,6 +44,12 @@ struct FinishedBuildingRequest {
   1: optional string minionId;
   2: optional i32 buildExitCode;
   3: optional stampede.StampedeId stampedeId;
+
+  // Fully qualified names of the BuildTargets the Minion built successfully. Targets it was
+  // handed which aren't listed here are given back to the Coordinator to build elsewhere.
+  // Without a buildExitCode, the request only reports the targets built so far, and the Minion
+  // keeps building the rest.
+  4: optional list<string> finishedTargets;
 }
 
 struct FinishedBuildingResponse {
@@ -19,40 +19,76 @@ import com.facebook.buck.log.CommandThreadFactory;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuildId;
 import com.facebook.buck.timing.Clock;
-import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Supplier;
 import com.google.common.eventbus.EventBus;
-import com.google.common.util.concurrent.MoreExecutors;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Thin wrapper around guava event bus.
+ *
+ * When asynchronous, every listener gets its own bounded queue of events, drained by a thread of
+ * its own (see {@link ListenerDispatcher}), so that listeners which are slow to process events,
+ * like the ones writing traces, don't hold up the others, like the console.
  */
 public class BuckEventBus implements Closeable, com.facebook.buck.event.EventBus {
 
   private static final Logger LOG = Logger.get(BuckEventBus.class);
 
   public static final int DEFAULT_SHUTDOWN_TIMEOUT_MS = 15000;
+  public static final int DEFAULT_QUEUE_SIZE = 65536;
+
+  /**
+   * What to do with the events posted for a listener whose queue is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Wait for the listener to catch up, unless the event is posted by a listener, in which case
+     * it's queued anyway.
+     */
+    BLOCK,
+    /** Drop the event, so the listener won't ever see it. */
+    DROP,
+  }
 
   private static final Supplier<Long> DEFAULT_THREAD_ID_SUPPLIER =
       () -> Thread.currentThread().getId();
 
   private final Clock clock;
-  private final ExecutorService executorService;
+  private final boolean async;
+  // Only used when delivering events synchronously.
   private final EventBus eventBus;
+  private final List<ListenerDispatcher> dispatchers = new CopyOnWriteArrayList<>();
+  private final ThreadFactory threadFactory;
+  private final int queueSize;
+  private final OverflowPolicy overflowPolicy;
   private final Supplier<Long> threadIdSupplier;
   private final BuildId buildId;
   private final int shutdownTimeoutMillis;
 
   public BuckEventBus(Clock clock, BuildId buildId) {
-    this(clock, true, buildId, DEFAULT_SHUTDOWN_TIMEOUT_MS);
+    this(clock, buildId, DEFAULT_QUEUE_SIZE, OverflowPolicy.BLOCK);
+  }
+
+  /**
+   * @param queueSize how many events may be waiting to be delivered to each listener.
+   * @param overflowPolicy what to do with the events posted for a listener which is that far
+   *     behind.
+   */
+  public BuckEventBus(
+      Clock clock,
+      BuildId buildId,
+      int queueSize,
+      OverflowPolicy overflowPolicy) {
+    this(clock, true, buildId, DEFAULT_SHUTDOWN_TIMEOUT_MS, queueSize, overflowPolicy);
   }
 
   @VisibleForTesting
@@ -61,20 +97,38 @@ public class BuckEventBus implements Closeable, com.facebook.buck.event.EventBus
       boolean async,
       BuildId buildId,
       int shutdownTimeoutMillis) {
+    this(clock, async, buildId, shutdownTimeoutMillis, DEFAULT_QUEUE_SIZE, OverflowPolicy.BLOCK);
+  }
+
+  @VisibleForTesting
+  BuckEventBus(
+      Clock clock,
+      boolean async,
+      BuildId buildId,
+      int shutdownTimeoutMillis,
+      int queueSize,
+      OverflowPolicy overflowPolicy) {
+    Preconditions.checkArgument(queueSize > 0);
     this.clock = clock;
-    this.executorService = async ?
-        MostExecutors.newSingleThreadExecutor(
-            new CommandThreadFactory(BuckEventBus.class.getSimpleName())) :
-        MoreExecutors.newDirectExecutorService();
+    this.async = async;
     this.eventBus = new EventBus("buck-build-events");
+    // Created here, so the dispatcher threads are associated with the command creating the bus.
+    this.threadFactory = new CommandThreadFactory(BuckEventBus.class.getSimpleName());
+    this.queueSize = queueSize;
+    this.overflowPolicy = overflowPolicy;
     this.threadIdSupplier = DEFAULT_THREAD_ID_SUPPLIER;
     this.buildId = buildId;
     this.shutdownTimeoutMillis = shutdownTimeoutMillis;
   }
 
   private void dispatch(final BuckEvent event) {
-    executorService.submit(
-        () -> eventBus.post(event));
+    if (!async) {
+      eventBus.post(event);
+      return;
+    }
+    for (ListenerDispatcher dispatcher : dispatchers) {
+      dispatcher.enqueue(event);
+    }
   }
 
   @Override
@@ -104,13 +158,53 @@ public class BuckEventBus implements Closeable, com.facebook.buck.event.EventBus
 
   @Override
   public void register(Object object) {
-    eventBus.register(object);
+    if (async) {
+      dispatchers.add(
+          new ListenerDispatcher(object, clock, queueSize, overflowPolicy, threadFactory));
+    } else {
+      eventBus.register(object);
+    }
   }
 
   @VisibleForTesting
   public void postWithoutConfiguring(BuckEvent event) {
     Preconditions.checkState(event.isConfigured());
-    eventBus.post(event);
+    if (!async) {
+      eventBus.post(event);
+      return;
+    }
+    for (ListenerDispatcher dispatcher : dispatchers) {
+      dispatcher.deliver(event);
+    }
+  }
+
+  /**
+   * @return how many events were dropped because the listeners they were meant for were too far
+   *     behind.
+   */
+  public long getDroppedEventCount() {
+    return dispatchers.stream().mapToLong(ListenerDispatcher::getDroppedEvents).sum();
+  }
+
+  /**
+   * @return how many times posting an event had to wait for a listener to catch up.
+   */
+  public long getBlockedPostCount() {
+    return dispatchers.stream().mapToLong(ListenerDispatcher::getBlockedPosts).sum();
+  }
+
+  /**
+   * @return the most events which were waiting to be delivered to one of the listeners.
+   */
+  public int getMaxQueuedEventCount() {
+    return dispatchers.stream().mapToInt(ListenerDispatcher::getMaxQueuedEvents).max().orElse(0);
+  }
+
+  /**
+   * @return the longest time it took for an event to reach one of the listeners.
+   */
+  public long getMaxLagNanos() {
+    return dispatchers.stream().mapToLong(ListenerDispatcher::getMaxLagNanos).max().orElse(0);
   }
 
   @VisibleForTesting
@@ -131,25 +225,36 @@ public class BuckEventBus implements Closeable, com.facebook.buck.event.EventBus
   }
 
   /**
-   * {@link ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)} is called
-   * to wait for events which have been posted, but which have been queued by the
-   * {@link EventBus}, to be delivered. This allows listeners to record or report as much
-   * information as possible. This aids debugging when close is called during exception processing.
+   * Waits for events which have been posted, but which are still queued, to be delivered. This
+   * allows listeners to record or report as much information as possible. This aids debugging when
+   * close is called during exception processing.
    */
   @Override
   public void close() throws IOException {
-    executorService.shutdown();
+    for (ListenerDispatcher dispatcher : dispatchers) {
+      dispatcher.close();
+    }
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
     try {
-      if (!executorService.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
-        LOG.warn(Joiner.on(System.lineSeparator()).join(
-          "The BuckEventBus failed to shut down within the standard timeout.",
-          "Your build might have succeeded, but some messages were probably lost.",
-          "Here's some debugging information:",
-          executorService.toString()));
-        executorService.shutdownNow();
+      for (ListenerDispatcher dispatcher : dispatchers) {
+        if (!dispatcher.awaitTermination(
+            deadlineNanos - System.nanoTime(),
+            TimeUnit.NANOSECONDS)) {
+          LOG.warn(Joiner.on(System.lineSeparator()).join(
+              "The BuckEventBus failed to shut down within the standard timeout.",
+              "Your build might have succeeded, but some messages were probably lost.",
+              "Here's some debugging information:",
+              Joiner.on(System.lineSeparator()).join(dispatchers)));
+          dispatchers.forEach(ListenerDispatcher::shutdownNow);
+          return;
+        }
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
+      return;
+    }
+    for (ListenerDispatcher dispatcher : dispatchers) {
+      LOG.debug("Event delivery to %s", dispatcher);
     }
   }
 
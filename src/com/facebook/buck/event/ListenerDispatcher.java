@@ -0,0 +1,290 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event;
+
+import com.facebook.buck.timing.Clock;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Delivers the events posted to a {@link BuckEventBus} to a single listener, from a queue drained
+ * in batches by a thread of its own, so that a slow listener only ever delays itself.
+ *
+ * The queue is a ring buffer bounded to {@code capacity} events.  When it's full, posting threads
+ * either wait for the listener to catch up or drop the event, depending on the
+ * {@link BuckEventBus.OverflowPolicy}.  Listeners posting events themselves never wait though,
+ * since the listener they'd be waiting for may well be waiting for them, so their events are
+ * queued past {@code capacity} instead.
+ */
+final class ListenerDispatcher {
+
+  private static final int MAX_BATCH_SIZE = 256;
+
+  private static final ThreadLocal<Boolean> IS_DISPATCHER_THREAD =
+      ThreadLocal.withInitial(() -> false);
+
+  private final Object listener;
+  private final EventBus eventBus;
+  private final Clock clock;
+  private final int capacity;
+  private final BuckEventBus.OverflowPolicy overflowPolicy;
+  private final ImmutableSet<Class<?>> subscribedEventClasses;
+  private final ConcurrentMap<Class<?>, Boolean> isSubscribedByEventClass =
+      new ConcurrentHashMap<>();
+  private final Thread thread;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  @GuardedBy("lock")
+  private final ArrayDeque<BuckEvent> queue;
+  @GuardedBy("lock")
+  private boolean closed;
+  @GuardedBy("lock")
+  private int maxQueuedEvents;
+  @GuardedBy("lock")
+  private long blockedPosts;
+  @GuardedBy("lock")
+  private long droppedEvents;
+
+  // Only written by the dispatcher thread.
+  private volatile long deliveredEvents;
+  private volatile long maxLagNanos;
+
+  ListenerDispatcher(
+      Object listener,
+      Clock clock,
+      int capacity,
+      BuckEventBus.OverflowPolicy overflowPolicy,
+      ThreadFactory threadFactory) {
+    this.listener = listener;
+    this.eventBus = new EventBus("buck-build-events");
+    this.eventBus.register(listener);
+    this.clock = clock;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.subscribedEventClasses = getSubscribedEventClasses(listener);
+    this.queue = new ArrayDeque<>(Math.min(capacity, MAX_BATCH_SIZE));
+    this.thread = threadFactory.newThread(this::run);
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Queues the event for delivery, unless the listener has no interest in it.
+   */
+  void enqueue(BuckEvent event) {
+    if (!isSubscribedTo(event.getClass())) {
+      return;
+    }
+    lock.lock();
+    try {
+      if (queue.size() >= capacity && !closed) {
+        if (overflowPolicy == BuckEventBus.OverflowPolicy.DROP) {
+          droppedEvents++;
+          return;
+        }
+        if (!IS_DISPATCHER_THREAD.get()) {
+          blockedPosts++;
+          while (queue.size() >= capacity && !closed) {
+            notFull.await();
+          }
+        }
+      }
+      if (closed) {
+        return;
+      }
+      queue.add(event);
+      maxQueuedEvents = Math.max(maxQueuedEvents, queue.size());
+      if (queue.size() == 1) {
+        notEmpty.signal();
+      }
+    } catch (InterruptedException e) {
+      droppedEvents++;
+      Thread.currentThread().interrupt();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Delivers the event right away, on the calling thread.
+   */
+  void deliver(BuckEvent event) {
+    eventBus.post(event);
+  }
+
+  /**
+   * Stops accepting events.  The ones already queued are still delivered.
+   */
+  void close() {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return whether all the queued events were delivered in time.
+   */
+  boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    unit.timedJoin(thread, timeout);
+    return !thread.isAlive();
+  }
+
+  /**
+   * Abandons the events which are still queued.
+   */
+  void shutdownNow() {
+    thread.interrupt();
+  }
+
+  long getDeliveredEvents() {
+    return deliveredEvents;
+  }
+
+  long getDroppedEvents() {
+    lock.lock();
+    try {
+      return droppedEvents;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  long getBlockedPosts() {
+    lock.lock();
+    try {
+      return blockedPosts;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int getMaxQueuedEvents() {
+    lock.lock();
+    try {
+      return maxQueuedEvents;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the longest time an event took to reach the listener, since it was timestamped.
+   */
+  long getMaxLagNanos() {
+    return maxLagNanos;
+  }
+
+  @Override
+  public String toString() {
+    lock.lock();
+    try {
+      return String.format(
+          "%s: %d queued, %d delivered, %d dropped, %d blocked posts, at most %d queued and " +
+              "%dms behind",
+          listener.getClass().getName(),
+          queue.size(),
+          deliveredEvents,
+          droppedEvents,
+          blockedPosts,
+          maxQueuedEvents,
+          TimeUnit.NANOSECONDS.toMillis(maxLagNanos));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void run() {
+    IS_DISPATCHER_THREAD.set(true);
+    BuckEvent[] batch = new BuckEvent[MAX_BATCH_SIZE];
+    while (true) {
+      int batchSize = 0;
+      lock.lock();
+      try {
+        while (queue.isEmpty() && !closed) {
+          notEmpty.await();
+        }
+        if (queue.isEmpty()) {
+          return;
+        }
+        while (batchSize < batch.length && !queue.isEmpty()) {
+          batch[batchSize++] = queue.poll();
+        }
+        notFull.signalAll();
+      } catch (InterruptedException e) {
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      for (int i = 0; i < batchSize; i++) {
+        BuckEvent event = batch[i];
+        batch[i] = null;
+        maxLagNanos = Math.max(maxLagNanos, clock.nanoTime() - event.getNanoTime());
+        eventBus.post(event);
+        deliveredEvents++;
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean isSubscribedTo(Class<?> eventClass) {
+    return isSubscribedByEventClass.computeIfAbsent(
+        eventClass,
+        key -> subscribedEventClasses.stream().anyMatch(
+            subscribedClass -> subscribedClass.isAssignableFrom(key)));
+  }
+
+  /**
+   * @return the classes of the events taken by the listener's {@link Subscribe} methods, looked up
+   *     the same way {@link EventBus} does.
+   */
+  private static ImmutableSet<Class<?>> getSubscribedEventClasses(Object listener) {
+    ImmutableSet.Builder<Class<?>> subscribedEventClasses = ImmutableSet.builder();
+    for (Class<?> type : TypeToken.of(listener.getClass()).getTypes().rawTypes()) {
+      for (Method method : type.getDeclaredMethods()) {
+        if (method.isAnnotationPresent(Subscribe.class) &&
+            !method.isSynthetic() &&
+            method.getParameterCount() == 1) {
+          subscribedEventClasses.add(method.getParameterTypes()[0]);
+        }
+      }
+    }
+    return subscribedEventClasses.build();
+  }
+}
@@ -35,7 +35,6 @@ import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.json.ParseBuckFileEvent;
 import com.facebook.buck.jvm.java.AnnotationProcessingEvent;
 import com.facebook.buck.jvm.java.tracing.JavacPhaseEvent;
-import com.facebook.buck.log.CommandThreadFactory;
 import com.facebook.buck.log.InvocationInfo;
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.BuildId;
@@ -46,15 +45,13 @@ import com.facebook.buck.rules.BuildRuleEvent;
 import com.facebook.buck.rules.TestSummaryEvent;
 import com.facebook.buck.step.StepEvent;
 import com.facebook.buck.timing.Clock;
-import com.facebook.buck.util.BestCompressionGZIPOutputStream;
+import com.facebook.buck.util.BestSpeedGZIPOutputStream;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.buck.util.Optionals;
 import com.facebook.buck.util.ProcessResourceConsumption;
-import com.facebook.buck.util.concurrent.MostExecutors;
 import com.facebook.buck.util.perf.PerfStatsTracking;
 import com.facebook.buck.util.perf.ProcessTracker;
 import com.facebook.buck.util.unit.SizeUnit;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
@@ -75,13 +72,14 @@ import java.util.Locale;
 import java.util.Optional;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Logs events to a json file formatted to be viewed in Chrome Trace View (chrome://tracing).
+ *
+ * Events are written as they arrive, on the thread delivering them, which is the listener's own
+ * when the event bus is asynchronous.
  */
 public class ChromeTraceBuildListener implements BuckEventListener {
 
@@ -102,27 +100,46 @@ public class ChromeTraceBuildListener implements BuckEventListener {
 
 
   private static final Logger LOG = Logger.get(ChromeTraceBuildListener.class);
-  private static final int TIMEOUT_SECONDS = 30;
 
   private final ProjectFilesystem projectFilesystem;
   private final Clock clock;
   private final int tracesToKeep;
+  private final Optional<Long> maxTracesSizeBytes;
   private final boolean compressTraces;
-  private final ObjectMapper mapper;
   private final ThreadLocal<SimpleDateFormat> dateFormat;
   private final Path tracePath;
   private final OutputStream traceStream;
-  private final JsonGenerator jsonGenerator;
+  private final ChromeTraceWriter traceWriter;
   private final InvocationInfo invocationInfo;
 
-  private final ExecutorService outputExecutor;
+  public ChromeTraceBuildListener(
+      ProjectFilesystem projectFilesystem,
+      InvocationInfo invocationInfo,
+      Clock clock,
+      ObjectMapper objectMapper,
+      int tracesToKeep,
+      boolean compressTraces) throws IOException {
+    this(
+        projectFilesystem,
+        invocationInfo,
+        clock,
+        objectMapper,
+        tracesToKeep,
+        Optional.empty(),
+        compressTraces);
+  }
 
+  /**
+   * @param maxTracesSizeBytes how much space the traces may take up, the oldest ones being
+   *     deleted first.
+   */
   public ChromeTraceBuildListener(
       ProjectFilesystem projectFilesystem,
       InvocationInfo invocationInfo,
       Clock clock,
       ObjectMapper objectMapper,
       int tracesToKeep,
+      Optional<Long> maxTracesSizeBytes,
       boolean compressTraces) throws IOException {
     this(
         projectFilesystem,
@@ -132,6 +149,29 @@ public class ChromeTraceBuildListener implements BuckEventListener {
         Locale.US,
         TimeZone.getDefault(),
         tracesToKeep,
+        maxTracesSizeBytes,
+        compressTraces);
+  }
+
+  @VisibleForTesting
+  ChromeTraceBuildListener(
+      ProjectFilesystem projectFilesystem,
+      InvocationInfo invocationInfo,
+      Clock clock,
+      ObjectMapper objectMapper,
+      final Locale locale,
+      final TimeZone timeZone,
+      int tracesToKeep,
+      boolean compressTraces) throws IOException {
+    this(
+        projectFilesystem,
+        invocationInfo,
+        clock,
+        objectMapper,
+        locale,
+        timeZone,
+        tracesToKeep,
+        Optional.empty(),
         compressTraces);
   }
 
@@ -144,11 +184,11 @@ public class ChromeTraceBuildListener implements BuckEventListener {
       final Locale locale,
       final TimeZone timeZone,
       int tracesToKeep,
+      Optional<Long> maxTracesSizeBytes,
       boolean compressTraces) throws IOException {
     this.invocationInfo = invocationInfo;
     this.projectFilesystem = projectFilesystem;
     this.clock = clock;
-    this.mapper = objectMapper;
     this.dateFormat = new ThreadLocal<SimpleDateFormat>() {
       @Override
       protected SimpleDateFormat initialValue() {
@@ -158,15 +198,13 @@ public class ChromeTraceBuildListener implements BuckEventListener {
       }
     };
     this.tracesToKeep = tracesToKeep;
+    this.maxTracesSizeBytes = maxTracesSizeBytes;
     this.compressTraces = compressTraces;
-    this.outputExecutor = MostExecutors.newSingleThreadExecutor(
-        new CommandThreadFactory(getClass().getName()));
     TracePathAndStream tracePathAndStream = createPathAndStream(invocationInfo);
     this.tracePath = tracePathAndStream.getPath();
     this.traceStream = tracePathAndStream.getStream();
-    this.jsonGenerator = objectMapper.getFactory().createGenerator(this.traceStream);
+    this.traceWriter = new ChromeTraceWriter(objectMapper.getFactory(), this.traceStream);
 
-    this.jsonGenerator.writeStartArray();
     addProcessMetadataEvent();
   }
 
@@ -195,11 +233,11 @@ public class ChromeTraceBuildListener implements BuckEventListener {
     try {
       for (Path path : PathListing.listMatchingPathsWithFilters(
                traceDirectory,
-               "build.*.trace",
+               "build.*.{trace,trace.gz}",
                PathListing.GET_PATH_MODIFIED_TIME,
                PathListing.FilterMode.EXCLUDE,
                Optional.of(tracesToKeep),
-               Optional.empty())) {
+               maxTracesSizeBytes)) {
         projectFilesystem.deleteFileAtPath(path);
       }
     } catch (IOException e) {
@@ -219,7 +257,7 @@ public class ChromeTraceBuildListener implements BuckEventListener {
       projectFilesystem.createParentDirs(tracePath);
       OutputStream stream = projectFilesystem.newFileOutputStream(tracePath);
       if (compressTraces) {
-        stream = new BestCompressionGZIPOutputStream(stream, true);
+        stream = new BestSpeedGZIPOutputStream(stream, true);
       }
       return new TracePathAndStream(tracePath, stream);
     } catch (IOException e) {
@@ -231,17 +269,7 @@ public class ChromeTraceBuildListener implements BuckEventListener {
   public void outputTrace(BuildId buildId) {
     try {
       LOG.debug("Writing Chrome trace to %s", tracePath);
-      outputExecutor.shutdown();
-      try {
-        if (!outputExecutor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
-          LOG.warn("Failed to log buck trace %s.  Trace might be corrupt", tracePath);
-        }
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-      }
-
-      jsonGenerator.writeEndArray();
-      jsonGenerator.close();
+      traceWriter.close();
       traceStream.close();
       String symlinkName = compressTraces ? "build.trace.gz" : "build.trace";
       Path symlinkPath = projectFilesystem.getBuckPaths().getLogDir().resolve(symlinkName);
@@ -779,33 +807,34 @@ public class ChromeTraceBuildListener implements BuckEventListener {
         finished);
   }
 
+  @SuppressWarnings("PMD.EmptyCatchBlock")
   private void writeChromeTraceEvent(String category,
       String name,
       ChromeTraceEvent.Phase phase,
       ImmutableMap<String, String> arguments,
       final BuckEvent event) {
-    final ChromeTraceEvent chromeTraceEvent = new ChromeTraceEvent(category,
-        name,
-        phase,
-        0,
-        event.getThreadId(),
-        TimeUnit.NANOSECONDS.toMicros(event.getNanoTime()),
-        TimeUnit.NANOSECONDS.toMicros(event.getThreadUserNanoTime()),
-        arguments);
-    submitTraceEvent(chromeTraceEvent);
+    try {
+      traceWriter.writeEvent(
+          category,
+          name,
+          phase,
+          0,
+          event.getThreadId(),
+          TimeUnit.NANOSECONDS.toMicros(event.getNanoTime()),
+          TimeUnit.NANOSECONDS.toMicros(event.getThreadUserNanoTime()),
+          arguments);
+    } catch (IOException e) {
+      // Swallow any failures to write.
+    }
   }
 
   @SuppressWarnings("PMD.EmptyCatchBlock")
-  private void submitTraceEvent(final ChromeTraceEvent chromeTraceEvent) {
-    @SuppressWarnings("unused") Future<?> unused =
-        outputExecutor.submit(() -> {
-        try {
-          mapper.writeValue(jsonGenerator, chromeTraceEvent);
-        } catch (IOException e) {
-          // Swallow any failures to write.
-        }
-        return null;
-      });
+  private void submitTraceEvent(ChromeTraceEvent chromeTraceEvent) {
+    try {
+      traceWriter.writeEvent(chromeTraceEvent);
+    } catch (IOException e) {
+      // Swallow any failures to write.
+    }
   }
 
   private static class TracePathAndStream {
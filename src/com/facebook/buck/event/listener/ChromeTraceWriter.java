@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.event.ChromeTraceEvent;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams trace events out as the json array loaded by chrome://tracing.
+ *
+ * Events are written field by field rather than through data binding, and the output is flushed
+ * every second, so that there is hardly anything left to write once the build is over, and a trace
+ * cut short still has most of the events.
+ */
+class ChromeTraceWriter implements Closeable {
+
+  private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final JsonGenerator generator;
+  private long lastFlushNanos;
+  private boolean closed;
+
+  public ChromeTraceWriter(JsonFactory jsonFactory, OutputStream stream) throws IOException {
+    this.generator = jsonFactory.createGenerator(stream);
+    this.generator.writeStartArray();
+    this.lastFlushNanos = System.nanoTime();
+  }
+
+  public synchronized void writeEvent(ChromeTraceEvent event) throws IOException {
+    writeEvent(
+        event.getCategory(),
+        event.getName(),
+        event.getPhase(),
+        event.getProcessId(),
+        event.getThreadId(),
+        event.getMicroTime(),
+        event.getMicroThreadUserTime(),
+        event.getArgs());
+  }
+
+  public synchronized void writeEvent(
+      String category,
+      String name,
+      ChromeTraceEvent.Phase phase,
+      long processId,
+      long threadId,
+      long microTime,
+      long microThreadUserTime,
+      ImmutableMap<String, String> args) throws IOException {
+    if (closed) {
+      return;
+    }
+    generator.writeStartObject();
+    generator.writeStringField("cat", category);
+    generator.writeStringField("name", name);
+    generator.writeStringField("ph", phase.getPhase());
+    generator.writeNumberField("pid", processId);
+    generator.writeNumberField("tid", threadId);
+    generator.writeNumberField("ts", microTime);
+    generator.writeNumberField("tts", microThreadUserTime);
+    if (args != null) {
+      generator.writeObjectFieldStart("args");
+      for (Map.Entry<String, String> arg : args.entrySet()) {
+        generator.writeStringField(arg.getKey(), arg.getValue());
+      }
+      generator.writeEndObject();
+    }
+    generator.writeEndObject();
+
+    long now = System.nanoTime();
+    if (now - lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+      generator.flush();
+      lastFlushNanos = now;
+    }
+  }
+
+  /**
+   * Ends the array and closes the underlying stream.  Events written afterwards are ignored.
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    generator.writeEndArray();
+    generator.close();
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.CounterSnapshot;
+import com.facebook.buck.event.BuckEventBus;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports how well the listeners of a {@link BuckEventBus} keep up with the events posted to it:
+ * how many events were dropped and how many posts had to wait since the last flush, along with the
+ * most events queued for a listener and the longest an event took to reach one so far.
+ *
+ * The bus keeps these numbers itself, so this doesn't add anything to posting an event.
+ */
+public class EventDeliveryCounter extends Counter {
+
+  public static final String COUNTER_CATEGORY = "buck_event_bus";
+
+  private final BuckEventBus eventBus;
+  private long droppedEventsAtLastFlush;
+  private long blockedPostsAtLastFlush;
+  private int maxQueuedEventsAtLastFlush;
+  private long maxLagNanosAtLastFlush;
+
+  public EventDeliveryCounter(BuckEventBus eventBus) {
+    super(COUNTER_CATEGORY, "event_delivery", ImmutableMap.of());
+    this.eventBus = eventBus;
+  }
+
+  @Override
+  public synchronized Optional<CounterSnapshot> flush() {
+    long droppedEvents = eventBus.getDroppedEventCount();
+    long blockedPosts = eventBus.getBlockedPostCount();
+    int maxQueuedEvents = eventBus.getMaxQueuedEventCount();
+    long maxLagNanos = eventBus.getMaxLagNanos();
+    if (droppedEvents == droppedEventsAtLastFlush &&
+        blockedPosts == blockedPostsAtLastFlush &&
+        maxQueuedEvents == maxQueuedEventsAtLastFlush &&
+        maxLagNanos == maxLagNanosAtLastFlush) {
+      return Optional.empty();
+    }
+
+    CounterSnapshot.Builder snapshot = CounterSnapshot.builderForCounter(this);
+    snapshot.putValues("dropped_events", droppedEvents - droppedEventsAtLastFlush);
+    snapshot.putValues("blocked_posts", blockedPosts - blockedPostsAtLastFlush);
+    snapshot.putValues("max_queued_events", maxQueuedEvents);
+    snapshot.putValues("max_lag_ms", TimeUnit.NANOSECONDS.toMillis(maxLagNanos));
+    droppedEventsAtLastFlush = droppedEvents;
+    blockedPostsAtLastFlush = blockedPosts;
+    maxQueuedEventsAtLastFlush = maxQueuedEvents;
+    maxLagNanosAtLastFlush = maxLagNanos;
+    return Optional.of(snapshot.build());
+  }
+}
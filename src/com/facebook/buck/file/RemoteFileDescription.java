@@ -21,6 +21,7 @@ import com.facebook.buck.rules.BuildRule;
 import com.facebook.buck.rules.BuildRuleParams;
 import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.Description;
+import com.facebook.buck.rules.ReusableRulesDescription;
 import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.util.HumanReadableException;
 import com.facebook.infer.annotation.SuppressFieldNotInitialized;
@@ -29,7 +30,9 @@ import com.google.common.hash.HashCode;
 import java.net.URI;
 import java.util.Optional;
 
-public class RemoteFileDescription implements Description<RemoteFileDescription.Arg> {
+public class RemoteFileDescription implements
+    Description<RemoteFileDescription.Arg>,
+    ReusableRulesDescription {
 
   private final Downloader downloader;
 
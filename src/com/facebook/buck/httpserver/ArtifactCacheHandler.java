@@ -73,6 +73,8 @@ public class ArtifactCacheHandler extends AbstractHandler {
       String method = baseRequest.getMethod();
       if (method.equals("GET")) {
         status = handleGet(baseRequest, response);
+      } else if (method.equals("HEAD")) {
+        status = handleHead(baseRequest, response);
       } else if (method.equals("PUT")) {
         status = handlePut(baseRequest, response);
       }
@@ -93,15 +95,11 @@ public class ArtifactCacheHandler extends AbstractHandler {
       return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
     }
 
-    String path = baseRequest.getUri().getPath();
-    String[] pathElements = path.split("/");
-    if (pathElements.length != 4 || !pathElements[2].equals("key")) {
-      response.getWriter().write("Incorrect url format.");
+    Optional<RuleKey> ruleKey = getRuleKey(baseRequest, response);
+    if (!ruleKey.isPresent()) {
       return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
     }
 
-    RuleKey ruleKey = new RuleKey(pathElements[3]);
-
     Path temp = null;
     try {
       projectFilesystem.mkdirs(projectFilesystem.getBuckPaths().getScratchDir());
@@ -109,7 +107,8 @@ public class ArtifactCacheHandler extends AbstractHandler {
           projectFilesystem.getBuckPaths().getScratchDir(),
           "outgoing_rulekey",
           ".tmp");
-      CacheResult fetchResult = artifactCache.get().fetch(ruleKey, LazyPath.ofInstance(temp));
+      CacheResult fetchResult =
+          artifactCache.get().fetch(ruleKey.get(), LazyPath.ofInstance(temp));
       if (!fetchResult.getType().isSuccess()) {
         return HttpServletResponse.SC_NOT_FOUND;
       }
@@ -117,7 +116,7 @@ public class ArtifactCacheHandler extends AbstractHandler {
       final Path tempFinal = temp;
       HttpArtifactCacheBinaryProtocol.FetchResponse fetchResponse =
           new HttpArtifactCacheBinaryProtocol.FetchResponse(
-              ImmutableSet.of(ruleKey),
+              ImmutableSet.of(ruleKey.get()),
               fetchResult.getMetadata(),
               new ByteSource() {
                 @Override
@@ -135,6 +134,46 @@ public class ArtifactCacheHandler extends AbstractHandler {
     }
   }
 
+  private int handleHead(Request baseRequest, HttpServletResponse response) throws IOException {
+    if (!artifactCache.isPresent()) {
+      response.getWriter().write("Serving local cache is disabled for this instance.");
+      return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    Optional<RuleKey> ruleKey = getRuleKey(baseRequest, response);
+    if (!ruleKey.isPresent()) {
+      return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    CacheResult result =
+        artifactCache.get().multiContains(ImmutableSet.of(ruleKey.get())).get(ruleKey.get());
+    switch (result.getType()) {
+      case HIT:
+        return HttpServletResponse.SC_OK;
+      case MISS:
+        return HttpServletResponse.SC_NOT_FOUND;
+      case SKIPPED:
+        return HttpServletResponse.SC_METHOD_NOT_ALLOWED;
+      case ERROR:
+      case IGNORED:
+      case LOCAL_KEY_UNCHANGED_HIT:
+      default:
+        return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+  }
+
+  private static Optional<RuleKey> getRuleKey(
+      Request baseRequest,
+      HttpServletResponse response) throws IOException {
+    String path = baseRequest.getUri().getPath();
+    String[] pathElements = path.split("/");
+    if (pathElements.length != 4 || !pathElements[2].equals("key")) {
+      response.getWriter().write("Incorrect url format.");
+      return Optional.empty();
+    }
+    return Optional.of(new RuleKey(pathElements[3]));
+  }
+
   private int handlePut(Request baseRequest, HttpServletResponse response) throws IOException {
     if (!artifactCache.isPresent()) {
       response.getWriter().write("Serving local cache is disabled for this instance.");
@@ -18,15 +18,16 @@ package com.facebook.buck.io;
 
 import com.facebook.buck.event.EventBus;
 import com.facebook.buck.util.sha1.Sha1HashCode;
-import com.google.common.hash.HashCode;
-import com.google.common.hash.Hashing;
-import com.google.common.io.ByteSource;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
 /**
  * Default implementation of {@link ProjectFilesystemDelegate} that talks to the filesystem via
@@ -34,6 +35,11 @@ import java.nio.file.Path;
  */
 public final class DefaultProjectFilesystemDelegate implements ProjectFilesystemDelegate {
 
+  private static final int HASHING_BUFFER_SIZE = 64 * 1024;
+
+  private static final ThreadLocal<ByteBuffer> HASHING_BUFFER =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(HASHING_BUFFER_SIZE));
+
   private final Path root;
 
   public DefaultProjectFilesystemDelegate(Path root) {
@@ -47,22 +53,26 @@ public final class DefaultProjectFilesystemDelegate implements ProjectFilesystem
 
   @Override
   public Sha1HashCode computeSha1(Path pathRelativeToProjectRootOrJustAbsolute) throws IOException {
-    final Path fileToHash = getPathForRelativePath(pathRelativeToProjectRootOrJustAbsolute);
+    Path fileToHash = getPathForRelativePath(pathRelativeToProjectRootOrJustAbsolute);
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-1");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
 
-    // Normally, we would just use `Files.hash(fileToHash.toFile(), Hashing.sha1())`, but if
-    // fileToHash is backed by Jimfs, its toFile() method throws an UnsupportedOperationException.
-    // Creating the input stream via java.nio.file.Files.newInputStream() avoids this issue.
-    ByteSource source =
-        new ByteSource() {
-          @Override
-          public InputStream openStream() throws IOException {
-            // No need to wrap with BufferedInputStream because ByteSource uses ByteStreams.copy(),
-            // which already buffers.
-            return Files.newInputStream(fileToHash);
-          }
-        };
-    HashCode hashCode = source.hash(Hashing.sha1());
-    return Sha1HashCode.fromHashCode(hashCode);
+    // Files are streamed through a direct buffer which each thread reuses for all the files it
+    // hashes.  Mapping them instead would hold on to the mappings until they're garbage collected.
+    ByteBuffer buffer = HASHING_BUFFER.get();
+    try (FileChannel channel = FileChannel.open(fileToHash, StandardOpenOption.READ)) {
+      buffer.clear();
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return Sha1HashCode.fromBytes(digest.digest());
   }
 
   @Override
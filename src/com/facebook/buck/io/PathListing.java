@@ -116,9 +116,12 @@ public class PathListing {
             .reverse(),
         pathFileTimes.keySet());
 
-    paths = applyNumPathsFilter(paths, filterMode, maxPathsFilter);
-    paths = applyTotalSizeFilter(paths, filterMode, totalSizeFilter);
-    return paths;
+    // The filters are applied one after the other to the paths which are kept, so that combining
+    // them excludes the paths which fail either of them.
+    ImmutableSortedSet<Path> includedPaths =
+        applyNumPathsFilter(paths, FilterMode.INCLUDE, maxPathsFilter);
+    includedPaths = applyTotalSizeFilter(includedPaths, FilterMode.INCLUDE, totalSizeFilter);
+    return subSet(paths, filterMode, includedPaths.size());
   }
 
   private static ImmutableSortedSet<Path> applyNumPathsFilter(
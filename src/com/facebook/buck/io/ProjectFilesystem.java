@@ -25,6 +25,7 @@ import com.facebook.buck.util.environment.Platform;
 import com.facebook.buck.util.sha1.Sha1HashCode;
 import com.facebook.buck.zip.CustomZipEntry;
 import com.facebook.buck.zip.CustomZipOutputStream;
+import com.facebook.buck.zip.ZipCompressionLevel;
 import com.facebook.buck.zip.ZipOutputStreams;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Charsets;
@@ -89,6 +90,8 @@ import java.util.Set;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 import javax.annotation.Nullable;
 
@@ -975,10 +978,37 @@ public class ProjectFilesystem {
    * with the contents and structure that matches that of the specified paths.
    */
   public void createZip(Collection<Path> pathsToIncludeInZip, Path out) throws IOException {
+    createZip(
+        pathsToIncludeInZip,
+        new BufferedOutputStream(Files.newOutputStream(out)),
+        ZipCompressionLevel.DEFAULT_COMPRESSION_LEVEL);
+  }
+
+  /**
+   * Writes a zip of the given paths to {@code out}, closing it when done.  With
+   * {@link ZipCompressionLevel#MIN_COMPRESSION_LEVEL} entries are stored rather than deflated,
+   * which requires reading each file twice.
+   */
+  public void createZip(
+      Collection<Path> pathsToIncludeInZip,
+      OutputStream out,
+      ZipCompressionLevel compressionLevel) throws IOException {
     try (CustomZipOutputStream zip = ZipOutputStreams.newOutputStream(out)) {
       for (Path path : pathsToIncludeInZip) {
         boolean isDirectory = isDirectory(path);
         CustomZipEntry entry = new CustomZipEntry(path, isDirectory);
+        entry.setCompressionLevel(compressionLevel.getValue());
+
+        // Stored entries need their size and checksum before any of their data is written.
+        if (compressionLevel == ZipCompressionLevel.MIN_COMPRESSION_LEVEL && !isDirectory) {
+          try (CheckedInputStream input =
+                   new CheckedInputStream(newFileInputStream(path), new CRC32())) {
+            long size = ByteStreams.exhaust(input);
+            entry.setSize(size);
+            entry.setCompressedSize(size);
+            entry.setCrc(input.getChecksum().getValue());
+          }
+        }
 
         // We want deterministic ZIPs, so avoid mtimes.
         entry.setFakeTime();
@@ -17,7 +17,7 @@
 package com.facebook.buck.io;
 
 public class WatchmanCursor {
-  private String mWatchmanCursor;
+  private volatile String mWatchmanCursor;
 
   public WatchmanCursor(String initialCursor) {
     this.mWatchmanCursor = initialCursor;
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.io;
+
+import com.facebook.buck.bser.BserDeserializer;
+import com.facebook.buck.bser.BserSerializer;
+import com.facebook.buck.io.unixsocket.UnixDomainSocket;
+import com.facebook.buck.log.Logger;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Watchman subscription, which streams the changes to the files matching a query as they
+ * happen.  Each subscription has a connection of its own, since Watchman sends the changes on it
+ * unprompted, and they'd otherwise get mixed up with the responses to other commands.
+ */
+public class WatchmanSubscription implements AutoCloseable {
+
+  private static final Logger LOG = Logger.get(WatchmanSubscription.class);
+
+  private final String root;
+  private final String name;
+  private final InputStream inputStream;
+  private final OutputStream outputStream;
+  private final Closeable connection;
+  private final BserSerializer bserSerializer;
+  private final BserDeserializer bserDeserializer;
+
+  @VisibleForTesting
+  public WatchmanSubscription(
+      String root,
+      String name,
+      InputStream inputStream,
+      OutputStream outputStream,
+      Closeable connection) {
+    this.root = root;
+    this.name = name;
+    this.inputStream = inputStream;
+    this.outputStream = outputStream;
+    this.connection = connection;
+    this.bserSerializer = new BserSerializer();
+    this.bserDeserializer = new BserDeserializer(BserDeserializer.KeyOrdering.UNSORTED);
+  }
+
+  /**
+   * Connects to the Watchman listening on the given socket, and subscribes to the changes matching
+   * the query since the given cursor.
+   */
+  public static WatchmanSubscription subscribe(
+      Path socketPath,
+      String name,
+      WatchmanQuery query,
+      String sinceCursor) throws IOException {
+    UnixDomainSocket socket = UnixDomainSocket.createSocketWithPath(socketPath);
+    WatchmanSubscription subscription = new WatchmanSubscription(
+        query.getQueryPath(),
+        name,
+        socket.getInputStream(),
+        socket.getOutputStream(),
+        socket);
+    try {
+      subscription.send(query.toSubscribeList(name, sinceCursor));
+    } catch (IOException e) {
+      subscription.close();
+      throw e;
+    }
+    return subscription;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Asks Watchman to deliver all the changes made up to now, after which it sends a response
+   * with a {@code synced}, {@code no_sync_needed} or {@code dropped} field.
+   */
+  public void flush(long syncTimeoutMillis) throws IOException {
+    send(
+        ImmutableList.of(
+            "flush-subscriptions",
+            root,
+            ImmutableMap.of(
+                "sync_timeout", syncTimeoutMillis,
+                "subscriptions", ImmutableList.of(name))));
+  }
+
+  /**
+   * Blocks until Watchman sends something on the connection, either a response to a command, or
+   * a subscription update with a {@code subscription} field.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, Object> read() throws IOException {
+    Object response = bserDeserializer.deserializeBserValue(inputStream);
+    LOG.verbose("Got response to subscription %s: %s", name, response);
+    if (!(response instanceof Map<?, ?>)) {
+      throw new IOException("Unrecognized Watchman response: " + response);
+    }
+    return (Map<String, Object>) response;
+  }
+
+  private synchronized void send(List<Object> command) throws IOException {
+    LOG.debug("Sending command: %s", command);
+    bserSerializer.serializeToStream(command, outputStream);
+  }
+
+  @Override
+  public void close() throws IOException {
+    LOG.debug("Closing Watchman subscription %s.", name);
+    connection.close();
+  }
+}
@@ -62,6 +62,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
 
@@ -360,14 +361,87 @@ public class ProjectBuildFileParser implements AutoCloseable {
     }
   }
 
+  /**
+   * Collect all rules and meta rules from several build files with a single request to buck.py,
+   * which streams back the rules from each build file as soon as it's parsed it.  This saves a
+   * round trip to buck.py for every build file.
+   *
+   * @param buildFiles should be absolute paths to build files. Must have rootPath as their prefix.
+   * @param consumer is given the rules from each build file, in the order of {@code buildFiles}.
+   * @throws BuildFileParseException for the first build file which fails to parse, after the rules
+   *     from the build files before it have been given to {@code consumer}.  The build files after
+   *     it aren't parsed.
+   */
+  public void getAllRulesAndMetaRules(
+      List<Path> buildFiles,
+      BiConsumer<Path, ImmutableList<Map<String, Object>>> consumer)
+      throws BuildFileParseException, InterruptedException {
+    Preconditions.checkArgument(!buildFiles.isEmpty());
+    Path buildFile = buildFiles.get(0);
+    try {
+      ensureNotClosed();
+      initIfNeeded();
+      try (AssertScopeExclusiveAccess.Scope scope = assertSingleThreadedParsing.scope()) {
+        writeRequest(
+            "buildFiles",
+            buildFiles.stream()
+                .map(Path::toString)
+                .collect(MoreCollectors.toImmutableList()));
+        for (Path nextBuildFile : buildFiles) {
+          buildFile = nextBuildFile;
+          consumer.accept(buildFile, readRules(buildFile));
+        }
+      }
+    } catch (IOException e) {
+      MoreThrowables.propagateIfInterrupt(e);
+      throw BuildFileParseException.createForBuildFileParseError(buildFile, e);
+    }
+  }
+
   @VisibleForTesting
   protected ImmutableList<Map<String, Object>> getAllRulesInternal(Path buildFile)
       throws IOException, BuildFileParseException {
     ensureNotClosed();
     initIfNeeded();
 
+    try (AssertScopeExclusiveAccess.Scope scope = assertSingleThreadedParsing.scope()) {
+      writeRequest("buildFile", buildFile.toString());
+      return readRules(buildFile);
+    }
+  }
+
+  /**
+   * Asks buck.py to parse the build files given under {@code buildFilesKey}.
+   */
+  private void writeRequest(String buildFilesKey, Object buildFiles) throws IOException {
     // Check isInitialized implications (to avoid Eradicate warnings).
     Preconditions.checkNotNull(buckPyStdinWriter);
+
+    Path cellPath = options.getProjectRoot().toAbsolutePath();
+    String watchRoot = cellPath.toString();
+    String projectPrefix = "";
+    if (options.getWatchman().getProjectWatches().containsKey(cellPath)) {
+      ProjectWatch projectWatch = options.getWatchman().getProjectWatches().get(cellPath);
+      watchRoot = projectWatch.getWatchRoot();
+      if (projectWatch.getProjectPrefix().isPresent()) {
+        projectPrefix = projectWatch.getProjectPrefix().get();
+      }
+    }
+    bserSerializer.serializeToStream(
+        ImmutableMap.of(
+            buildFilesKey, buildFiles,
+            "watchRoot", watchRoot,
+            "projectPrefix", projectPrefix),
+        buckPyStdinWriter);
+    buckPyStdinWriter.flush();
+  }
+
+  /**
+   * Reads buck.py's response for the next build file it was asked to parse.
+   */
+  private ImmutableList<Map<String, Object>> readRules(Path buildFile)
+      throws IOException, BuildFileParseException {
+    // Check isInitialized implications (to avoid Eradicate warnings).
     Preconditions.checkNotNull(buckPyProcess);
 
     ParseBuckFileEvent.Started parseBuckFileStarted = ParseBuckFileEvent.started(buildFile);
@@ -375,25 +449,7 @@ public class ProjectBuildFileParser implements AutoCloseable {
 
     ImmutableList<Map<String, Object>> values = ImmutableList.of();
     String profile = "";
-    try (AssertScopeExclusiveAccess.Scope scope = assertSingleThreadedParsing.scope()) {
-      Path cellPath = options.getProjectRoot().toAbsolutePath();
-      String watchRoot = cellPath.toString();
-      String projectPrefix = "";
-      if (options.getWatchman().getProjectWatches().containsKey(cellPath)) {
-        ProjectWatch projectWatch = options.getWatchman().getProjectWatches().get(cellPath);
-        watchRoot = projectWatch.getWatchRoot();
-        if (projectWatch.getProjectPrefix().isPresent()) {
-          projectPrefix = projectWatch.getProjectPrefix().get();
-        }
-      }
-      bserSerializer.serializeToStream(
-          ImmutableMap.of(
-              "buildFile", buildFile.toString(),
-              "watchRoot", watchRoot,
-              "projectPrefix", projectPrefix),
-          buckPyStdinWriter);
-      buckPyStdinWriter.flush();
-
+    try {
       LOG.verbose("Parsing output of process %s...", buckPyProcess);
       Object deserializedValue;
       try {
@@ -1213,6 +1213,26 @@ def process_with_diagnostics(build_file_query, build_file_processor, to_parent,
         to_parent.flush()
 
 
+def split_build_file_query(query):
+    """Splits a query for a batch of build files into a query for each of them.
+
+    The parent can ask for several build files to be parsed at once by sending
+    'buildFiles' instead of 'buildFile', and reads back one result for each of
+    them, in the same order.
+    """
+    build_files = query.get('buildFiles')
+    if build_files is None:
+        return [query]
+    return [
+        {
+            'buildFile': build_file,
+            'watchRoot': query.get('watchRoot'),
+            'projectPrefix': query.get('projectPrefix'),
+        }
+        for build_file in build_files
+    ]
+
+
 def silent_excepthook(exctype, value, tb):
     # We already handle all exceptions by writing them to the parent, so
     # no need to dump them again to stderr.
@@ -1455,9 +1475,10 @@ def main():
             process_with_diagnostics(query, buildFileProcessor, to_parent,
                                      should_profile=options.profile)
 
-        for build_file_query in iter(lambda: bser.load(sys.stdin), None):
-            process_with_diagnostics(build_file_query, buildFileProcessor, to_parent,
-                                     should_profile=options.profile)
+        for query in iter(lambda: bser.load(sys.stdin), None):
+            for build_file_query in split_build_file_query(query):
+                process_with_diagnostics(build_file_query, buildFileProcessor, to_parent,
+                                         should_profile=options.profile)
 
     if options.quiet:
         sys.excepthook = orig_excepthook
@@ -9,7 +9,13 @@ import StringIO
 from pywatchman import bser, WatchmanError
 from typing import Sequence
 
-from .buck import BuildFileProcessor, Diagnostic, add_rule, process_with_diagnostics
+from .buck import (
+    BuildFileProcessor,
+    Diagnostic,
+    add_rule,
+    process_with_diagnostics,
+    split_build_file_query,
+)
 
 
 def foo_rule(name, srcs=[], visibility=[], build_env=None):
@@ -812,6 +818,28 @@ class BuckTest(unittest.TestCase):
             'parse',
             decoded_result['diagnostics'][0]['source'])
 
+    def test_batched_queries_are_split_per_build_file(self):
+        build_file_processor = self.create_build_file_processor(extra_funcs=[foo_rule])
+        self.write_files(
+            ProjectFile(self.project_root, path='BUCK', contents=('foo_rule(name="foo")',)),
+            ProjectFile(self.project_root, path='BUCK_bar', contents=('foo_rule(name="bar")',)))
+        fake_stdout = StringIO.StringIO()
+        query = {
+            'buildFiles': ['BUCK', 'BUCK_bar'],
+            'watchRoot': '',
+            'projectPrefix': self.project_root,
+        }
+        with build_file_processor.with_builtins(__builtin__.__dict__):
+            for build_file_query in split_build_file_query(query):
+                process_with_diagnostics(build_file_query, build_file_processor, fake_stdout)
+        results = fake_stdout.getvalue()
+        names = []
+        while results:
+            length = bser.pdu_len(results)
+            names.append(bser.loads(results[:length])['values'][0]['name'])
+            results = results[length:]
+        self.assertEqual(['foo', 'bar'], names)
+
     def test_values_from_namespaced_includes_accessible_only_via_namespace(self):
         defs_file = ProjectFile(
             root=self.project_root,
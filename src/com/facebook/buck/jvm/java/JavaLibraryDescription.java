@@ -30,6 +30,7 @@ import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.BuildRules;
 import com.facebook.buck.rules.Description;
 import com.facebook.buck.rules.Hint;
+import com.facebook.buck.rules.ReusableRulesDescription;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
@@ -52,6 +53,7 @@ import java.util.Optional;
 public class JavaLibraryDescription implements
     Description<JavaLibraryDescription.Arg>,
     Flavored,
+    ReusableRulesDescription,
     VersionPropagator<JavaLibraryDescription.Arg> {
 
   public static final ImmutableSet<Flavor> SUPPORTED_FLAVORS = ImmutableSet.of(
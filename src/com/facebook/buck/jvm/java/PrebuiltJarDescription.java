@@ -30,6 +30,7 @@ import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.BuildableContext;
 import com.facebook.buck.rules.Description;
 import com.facebook.buck.rules.ExplicitBuildTargetSourcePath;
+import com.facebook.buck.rules.ReusableRulesDescription;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
@@ -46,7 +47,9 @@ import com.google.common.collect.ImmutableSortedSet;
 import java.nio.file.Path;
 import java.util.Optional;
 
-public class PrebuiltJarDescription implements Description<PrebuiltJarDescription.Arg> {
+public class PrebuiltJarDescription implements
+    Description<PrebuiltJarDescription.Arg>,
+    ReusableRulesDescription {
 
   @Override
   public Arg createUnpopulatedConstructorArg() {
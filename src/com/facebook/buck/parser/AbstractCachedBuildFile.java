@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.util.immutables.BuckStyleImmutable;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.immutables.value.Value;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The raw nodes the parser cached for a build file, along with everything the cache tracks to
+ * decide when to invalidate them.
+ */
+@Value.Immutable
+@BuckStyleImmutable
+abstract class AbstractCachedBuildFile {
+
+  /**
+   * @return absolute path of the build file.
+   */
+  public abstract Path getBuildFile();
+
+  /**
+   * @return the raw nodes, without the meta rules.
+   */
+  public abstract ImmutableSet<Map<String, Object>> getRawNodes();
+
+  /**
+   * @return absolute paths of the files read to produce the raw nodes, including the build file
+   *     itself and the default includes.
+   */
+  public abstract ImmutableSet<Path> getIncludes();
+
+  /**
+   * @return the config values read by the build file, by section and key.
+   */
+  public abstract ImmutableMap<String, ImmutableMap<String, Optional<String>>> getConfigs();
+
+  /**
+   * @return the environment variables read by the build file.
+   */
+  public abstract ImmutableMap<String, Optional<String>> getEnv();
+}
@@ -45,6 +45,7 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
   public static final String INCLUDES_PROPERTY_NAME = "includes";
 
   private static final long NUM_PARSING_THREADS_DEFAULT = 1L;
+  private static final long DEFAULT_MAX_PARSER_IDLE_TIME_MS = 5000L;
 
   public enum GlobHandler {
     PYTHON,
@@ -175,6 +176,24 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
       .orElse(WatchmanWatcher.CursorType.CLOCK_ID);
   }
 
+  /**
+   * @return whether the daemon should save the raw nodes it parsed to disk, so that a restarted
+   *     daemon only has to parse the build files which changed.  Requires Watchman clock cursors.
+   */
+  @Value.Lazy
+  public boolean isParserCachePersistenceEnabled() {
+    return getDelegate().getBooleanValue("project", "persist_parser_cache", false);
+  }
+
+  /**
+   * @return whether the daemon should keep Watchman subscriptions open, through which changes are
+   *     streamed and applied in the background between commands.  Requires Watchman clock cursors.
+   */
+  @Value.Lazy
+  public boolean isWatchmanSubscriptionEnabled() {
+    return getDelegate().getBooleanValue("project", "watchman_subscription", false);
+  }
+
   @Value.Lazy
   public boolean getEnableParallelParsing() {
     return getDelegate().getBooleanValue("project", "parallel_parsing", true);
@@ -198,6 +217,27 @@ abstract class AbstractParserConfig implements ConfigView<BuckConfig> {
     return Math.min(value, getDelegate().getNumThreads());
   }
 
+  /**
+   * @return how long a build file parser process may stay unused before it's shut down, or empty
+   *     to keep them until parsing is done.
+   */
+  @Value.Lazy
+  public Optional<Long> getMaxParserIdleTimeMs() {
+    long idleTimeMs = getDelegate()
+        .getLong("project", "parser_max_idle_ms")
+        .orElse(DEFAULT_MAX_PARSER_IDLE_TIME_MS);
+    return idleTimeMs > 0 ? Optional.of(idleTimeMs) : Optional.empty();
+  }
+
+  /**
+   * @return the most build files to send to a build file parser process in a single request.
+   */
+  @Value.Lazy
+  public int getParserBatchSize() {
+    long batchSize = getDelegate().getLong("project", "parser_batch_size").orElse(1L);
+    return (int) Math.max(1L, batchSize);
+  }
+
   @Value.Lazy
   public ApplyDefaultFlavorsMode getDefaultFlavorsMode() {
     return getDelegate().getEnum(
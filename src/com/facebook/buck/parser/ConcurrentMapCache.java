@@ -66,4 +66,8 @@ class ConcurrentMapCache<K, V> {
   public void invalidate(K key) {
     values.remove(key);
   }
+
+  public ConcurrentMap<K, V> asMap() {
+    return values;
+  }
 }
@@ -25,10 +25,12 @@ import com.facebook.buck.util.concurrent.AutoCloseableLock;
 import com.facebook.buck.util.concurrent.AutoCloseableReadWriteUpdateLock;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
 import com.google.common.collect.SetMultimap;
 
 import java.nio.file.Path;
@@ -169,6 +171,39 @@ class DaemonicCellState {
     }
   }
 
+  /**
+   * @return the raw nodes cached for every build file in this cell.
+   */
+  ImmutableList<CachedBuildFile> getCachedBuildFiles() {
+    try (AutoCloseableLock readLock = rawAndComputedNodesLock.readLock()) {
+      SetMultimap<Path, Path> includes =
+          Multimaps.invertFrom(buildFileDependents, HashMultimap.create());
+      ImmutableList.Builder<CachedBuildFile> cachedBuildFiles = ImmutableList.builder();
+      for (Map.Entry<Path, ImmutableSet<Map<String, Object>>> entry :
+           allRawNodes.asMap().entrySet()) {
+        Path buildFile = entry.getKey();
+        cachedBuildFiles.add(
+            CachedBuildFile.builder()
+                .setBuildFile(buildFile)
+                .setRawNodes(entry.getValue())
+                .setIncludes(includes.get(buildFile))
+                .setConfigs(buildFileConfigs.getOrDefault(buildFile, ImmutableMap.of()))
+                .setEnv(buildFileEnv.getOrDefault(buildFile, ImmutableMap.of()))
+                .build());
+      }
+      return cachedBuildFiles.build();
+    }
+  }
+
+  void putCachedBuildFile(CachedBuildFile cachedBuildFile) {
+    putRawNodesIfNotPresentAndStripMetaEntries(
+        cachedBuildFile.getBuildFile(),
+        cachedBuildFile.getRawNodes(),
+        cachedBuildFile.getIncludes(),
+        cachedBuildFile.getConfigs(),
+        cachedBuildFile.getEnv());
+  }
+
   int invalidatePath(Path path) {
     try (AutoCloseableLock writeLock = rawAndComputedNodesLock.writeLock()) {
       int invalidatedRawNodes = 0;
@@ -60,6 +60,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nullable;
@@ -254,12 +255,17 @@ class DaemonicParserState {
         dependentsOfEveryNode.add(cell.getFilesystem().resolve(include.substring(2)));
       }
 
-      return getOrCreateCellState(cell).putRawNodesIfNotPresentAndStripMetaEntries(
-          buildFile,
-          withoutMetaIncludes,
-          dependentsOfEveryNode.build(),
-          configs,
-          env);
+      ImmutableSet<Map<String, Object>> updated =
+          getOrCreateCellState(cell).putRawNodesIfNotPresentAndStripMetaEntries(
+              buildFile,
+              withoutMetaIncludes,
+              dependentsOfEveryNode.build(),
+              configs,
+              env);
+      if (updated == withoutMetaIncludes) {
+        rawNodesAdded.incrementAndGet();
+      }
+      return updated;
     }
   }
 
@@ -286,6 +292,11 @@ class DaemonicParserState {
 
   private final int parsingThreads;
 
+  /**
+   * The number of build files whose raw nodes have been added to the cache by parsing them.
+   */
+  private final AtomicLong rawNodesAdded = new AtomicLong();
+
   private final LoadingCache<Cell, BuildFileTree> buildFileTrees;
 
   /**
@@ -383,6 +394,41 @@ class DaemonicParserState {
     return rawNodeCache;
   }
 
+  long getRawNodesAddedCount() {
+    return rawNodesAdded.get();
+  }
+
+  /**
+   * @return the raw nodes cached for every build file, by the root of the cell they belong to.
+   */
+  ImmutableMap<Path, ImmutableList<CachedBuildFile>> getCachedBuildFiles() {
+    try (AutoCloseableLock readLock = cellStateLock.readLock()) {
+      ImmutableMap.Builder<Path, ImmutableList<CachedBuildFile>> cachedBuildFiles =
+          ImmutableMap.builder();
+      for (Map.Entry<Path, DaemonicCellState> entry : cellPathToDaemonicState.entrySet()) {
+        cachedBuildFiles.put(entry.getKey(), entry.getValue().getCachedBuildFiles());
+      }
+      return cachedBuildFiles.build();
+    }
+  }
+
+  /**
+   * Seeds the raw node cache of {@code cell} with build files cached by another instance, which
+   * must have been parsed with the cell's current default includes.  The usual checks for changes
+   * to the config and environment they read still apply.
+   */
+  void restoreCachedBuildFiles(Cell cell, Iterable<CachedBuildFile> cachedBuildFiles) {
+    try (AutoCloseableLock writeLock = cachedStateLock.writeLock()) {
+      cachedIncludes.put(
+          cell.getRoot(),
+          cell.getBuckConfig().getView(ParserConfig.class).getDefaultIncludes());
+    }
+    DaemonicCellState state = getOrCreateCellState(cell);
+    for (CachedBuildFile cachedBuildFile : cachedBuildFiles) {
+      state.putCachedBuildFile(cachedBuildFile);
+    }
+  }
+
   @Nullable
   private DaemonicCellState getCellState(Cell cell) {
     try (AutoCloseableLock readLock = cellStateLock.readLock()) {
@@ -88,6 +88,7 @@ public class Parser {
 
   private final DaemonicParserState permState;
   private final ConstructorArgMarshaller marshaller;
+  private final ProjectBuildFileParserPool.Counters parserPoolCounters;
 
   public Parser(
       BroadcastEventListener broadcastEventListener,
@@ -99,6 +100,7 @@ public class Parser {
         typeCoercerFactory,
         parserConfig.getNumParsingThreads());
     this.marshaller = marshaller;
+    this.parserPoolCounters = new ProjectBuildFileParserPool.Counters();
   }
 
   protected DaemonicParserState getPermState() {
@@ -109,6 +111,10 @@ public class Parser {
     return marshaller;
   }
 
+  ProjectBuildFileParserPool.Counters getParserPoolCounters() {
+    return parserPoolCounters;
+  }
+
   @VisibleForTesting
   static ImmutableSet<Map<String, Object>> getRawTargetNodes(
       PerBuildState state,
@@ -680,7 +686,10 @@ public class Parser {
   }
 
   public ImmutableList<Counter> getCounters() {
-    return permState.getCounters();
+    return ImmutableList.<Counter>builder()
+        .addAll(permState.getCounters())
+        .addAll(parserPoolCounters.getCounters())
+        .build();
   }
 
 }
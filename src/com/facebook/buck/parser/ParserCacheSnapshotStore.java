@@ -0,0 +1,358 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import com.facebook.buck.bser.BserDeserializer;
+import com.facebook.buck.bser.BserSerializer;
+import com.facebook.buck.hashing.FileHashLoader;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuckVersion;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.util.MoreCollectors;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persists the raw nodes cached by a {@link Parser} to disk, and seeds the cache of a new process
+ * from them, so that a restarted daemon only has to run the build file parser over files which
+ * have changed.
+ *
+ * The snapshot is fingerprinted with the buck version and a hash of the config, and snapshots
+ * written for any other fingerprint are ignored.  Each build file is stored with the hashes of its
+ * contents and of the files it included, and only restored if they still match.  The snapshot
+ * also records the Watchman clock of each watch root at the time it was written.  Callers must
+ * replay the changes Watchman reports since those clocks, which catches files added to or removed
+ * from globs, and must throw away the restored nodes if Watchman can't tell them what changed.
+ */
+public class ParserCacheSnapshotStore {
+
+  private static final Logger LOG = Logger.get(ParserCacheSnapshotStore.class);
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final String FINGERPRINT = "fingerprint";
+  private static final String CLOCKS = "clocks";
+  private static final String CELLS = "cells";
+  private static final String BUILD_FILE = "build_file";
+  private static final String HASHES = "hashes";
+  private static final String INCLUDES = "includes";
+  private static final String CONFIGS = "configs";
+  private static final String ENV = "env";
+  private static final String NODES = "nodes";
+
+  private final Path snapshotPath;
+  private final DaemonicParserState state;
+  private final ImmutableMap<Path, Cell> cells;
+  private final FileHashLoader hashLoader;
+  private final HashCode fingerprint;
+
+  // The number of build files parsed when the cache was last saved or restored, used to avoid
+  // rewriting the snapshot after commands which didn't parse anything.
+  private long lastRawNodesAddedCount = -1;
+
+  /**
+   * @param snapshotPath absolute path of the file to persist the cache in.
+   * @param cells all the cells the parser may parse build files in.
+   * @param configHash a hash of the config of all of the cells.
+   */
+  public ParserCacheSnapshotStore(
+      Path snapshotPath,
+      Parser parser,
+      Iterable<Cell> cells,
+      FileHashLoader hashLoader,
+      HashCode configHash) {
+    this.snapshotPath = snapshotPath;
+    this.state = parser.getPermState();
+    this.cells = Maps.uniqueIndex(cells, Cell::getRoot);
+    this.hashLoader = hashLoader;
+    this.fingerprint = Hashing.sha1().newHasher()
+        .putInt(FORMAT_VERSION)
+        .putUnencodedChars(BuckVersion.getVersion())
+        .putBytes(configHash.asBytes())
+        .hash();
+  }
+
+  /**
+   * Seeds the parser's raw node cache with the build files in the snapshot which haven't changed.
+   *
+   * @param watchRoots the watch roots the caller is tracking changes in.
+   * @return the Watchman clock of each watch root when the snapshot was written, or empty if
+   *     nothing was restored.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized Optional<ImmutableMap<Path, String>> restore(ImmutableSet<Path> watchRoots) {
+    Map<String, Object> snapshot;
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+      snapshot = (Map<String, Object>) new BserDeserializer(BserDeserializer.KeyOrdering.SORTED)
+          .deserializeBserValue(input);
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
+    } catch (IOException | ClassCastException e) {
+      LOG.warn(e, "Failed to read parser cache snapshot from %s", snapshotPath);
+      return Optional.empty();
+    }
+
+    if (!fingerprint.toString().equals(snapshot.get(FINGERPRINT))) {
+      LOG.debug("Ignoring parser cache snapshot with mismatched fingerprint");
+      return Optional.empty();
+    }
+
+    ImmutableMap<Path, String> clocks;
+    Map<Cell, ImmutableList<CachedBuildFile>> cachedBuildFilesByCell = new HashMap<>();
+    int restored = 0;
+    int changed = 0;
+    // Nothing is handed to the parser until the whole snapshot has been read, so that a malformed
+    // one doesn't leave it with only some of the build files restored.
+    try {
+      ImmutableMap.Builder<Path, String> clocksBuilder = ImmutableMap.builder();
+      for (Map.Entry<String, String> entry :
+           ((Map<String, String>) snapshot.get(CLOCKS)).entrySet()) {
+        clocksBuilder.put(Paths.get(entry.getKey()), entry.getValue());
+      }
+      clocks = clocksBuilder.build();
+      if (!clocks.keySet().equals(watchRoots)) {
+        LOG.debug("Ignoring parser cache snapshot of different watch roots");
+        return Optional.empty();
+      }
+
+      Map<Path, HashCode> hashes = new HashMap<>();
+      for (Map.Entry<String, List<Map<String, Object>>> cellEntry :
+           ((Map<String, List<Map<String, Object>>>) snapshot.get(CELLS)).entrySet()) {
+        Cell cell = cells.get(Paths.get(cellEntry.getKey()));
+        if (cell == null) {
+          continue;
+        }
+        ImmutableList.Builder<CachedBuildFile> cachedBuildFiles = ImmutableList.builder();
+        for (Map<String, Object> serialized : cellEntry.getValue()) {
+          if (!isUnchanged((Map<String, String>) serialized.get(HASHES), hashes)) {
+            changed++;
+            continue;
+          }
+          cachedBuildFiles.add(deserializeBuildFile(serialized));
+          restored++;
+        }
+        cachedBuildFilesByCell.put(cell, cachedBuildFiles.build());
+      }
+    } catch (ClassCastException | NullPointerException e) {
+      LOG.warn(e, "Ignoring malformed parser cache snapshot %s", snapshotPath);
+      return Optional.empty();
+    }
+
+    for (Map.Entry<Cell, ImmutableList<CachedBuildFile>> entry :
+         cachedBuildFilesByCell.entrySet()) {
+      state.restoreCachedBuildFiles(entry.getKey(), entry.getValue());
+    }
+
+    LOG.debug(
+        "Restored %d build files from %s, skipping %d which changed",
+        restored,
+        snapshotPath,
+        changed);
+    lastRawNodesAddedCount = state.getRawNodesAddedCount();
+    return Optional.of(clocks);
+  }
+
+  /**
+   * Writes the parser's raw node cache to disk, if anything was parsed since it was last saved.
+   * This doesn't need to hold up the parser, as long as the clocks are read before the cache is:
+   * changes made in between are replayed on top of the restored nodes again.
+   *
+   * @param clocks the Watchman clock of each watch root up to which the caller has replayed
+   *     changes into the parser.
+   */
+  public synchronized void save(ImmutableMap<Path, String> clocks) {
+    long rawNodesAddedCount = state.getRawNodesAddedCount();
+    if (rawNodesAddedCount == lastRawNodesAddedCount) {
+      return;
+    }
+
+    Map<String, Object> snapshot = new HashMap<>();
+    snapshot.put(FINGERPRINT, fingerprint.toString());
+    Map<String, String> serializedClocks = new HashMap<>();
+    for (Map.Entry<Path, String> entry : clocks.entrySet()) {
+      serializedClocks.put(entry.getKey().toString(), entry.getValue());
+    }
+    snapshot.put(CLOCKS, serializedClocks);
+
+    Map<Path, HashCode> hashes = new HashMap<>();
+    Map<String, Object> serializedCells = new HashMap<>();
+    int saved = 0;
+    for (Map.Entry<Path, ImmutableList<CachedBuildFile>> cellEntry :
+         state.getCachedBuildFiles().entrySet()) {
+      if (!cells.containsKey(cellEntry.getKey())) {
+        continue;
+      }
+      ImmutableList.Builder<Map<String, Object>> serializedBuildFiles = ImmutableList.builder();
+      for (CachedBuildFile cachedBuildFile : cellEntry.getValue()) {
+        Optional<Map<String, String>> buildFileHashes = getHashes(cachedBuildFile, hashes);
+        if (buildFileHashes.isPresent()) {
+          serializedBuildFiles.add(serializeBuildFile(cachedBuildFile, buildFileHashes.get()));
+          saved++;
+        }
+      }
+      serializedCells.put(cellEntry.getKey().toString(), serializedBuildFiles.build());
+    }
+    snapshot.put(CELLS, serializedCells);
+
+    try {
+      Files.createDirectories(snapshotPath.getParent());
+      Path tmp = Files.createTempFile(
+          snapshotPath.getParent(),
+          snapshotPath.getFileName().toString(),
+          ".tmp");
+      try {
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+          new BserSerializer().serializeToStream(snapshot, output);
+        }
+        Files.move(
+            tmp,
+            snapshotPath,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+      lastRawNodesAddedCount = rawNodesAddedCount;
+      LOG.debug("Saved %d build files to %s", saved, snapshotPath);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to write parser cache snapshot to %s", snapshotPath);
+    }
+  }
+
+  /**
+   * @return the hashes of the build file and its includes, or empty if any can't be hashed, in
+   *     which case the build file can't be validated when restoring.
+   */
+  private Optional<Map<String, String>> getHashes(
+      CachedBuildFile cachedBuildFile,
+      Map<Path, HashCode> hashes) {
+    Map<String, String> buildFileHashes = new HashMap<>();
+    for (Path path : ImmutableSet.<Path>builder()
+        .add(cachedBuildFile.getBuildFile())
+        .addAll(cachedBuildFile.getIncludes())
+        .build()) {
+      Optional<HashCode> hash = getHash(path, hashes);
+      if (!hash.isPresent()) {
+        return Optional.empty();
+      }
+      buildFileHashes.put(path.toString(), hash.get().toString());
+    }
+    return Optional.of(buildFileHashes);
+  }
+
+  private boolean isUnchanged(Map<String, String> buildFileHashes, Map<Path, HashCode> hashes) {
+    for (Map.Entry<String, String> entry : buildFileHashes.entrySet()) {
+      Optional<HashCode> hash = getHash(Paths.get(entry.getKey()), hashes);
+      if (!hash.isPresent() || !hash.get().toString().equals(entry.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Optional<HashCode> getHash(Path path, Map<Path, HashCode> hashes) {
+    HashCode hash = hashes.get(path);
+    if (hash == null) {
+      try {
+        hash = hashLoader.get(path);
+      } catch (IOException | RuntimeException e) {
+        LOG.debug(e, "Can't hash %s", path);
+        return Optional.empty();
+      }
+      hashes.put(path, hash);
+    }
+    return Optional.of(hash);
+  }
+
+  private static Map<String, Object> serializeBuildFile(
+      CachedBuildFile cachedBuildFile,
+      Map<String, String> hashes) {
+    Map<String, Object> configs = new HashMap<>();
+    for (Map.Entry<String, ImmutableMap<String, Optional<String>>> section :
+         cachedBuildFile.getConfigs().entrySet()) {
+      configs.put(section.getKey(), serializeOptionalValues(section.getValue()));
+    }
+
+    Map<String, Object> serialized = new HashMap<>();
+    serialized.put(BUILD_FILE, cachedBuildFile.getBuildFile().toString());
+    serialized.put(HASHES, hashes);
+    serialized.put(
+        INCLUDES,
+        cachedBuildFile.getIncludes().stream()
+            .map(Path::toString)
+            .collect(MoreCollectors.toImmutableList()));
+    serialized.put(CONFIGS, configs);
+    serialized.put(ENV, serializeOptionalValues(cachedBuildFile.getEnv()));
+    serialized.put(NODES, cachedBuildFile.getRawNodes());
+    return serialized;
+  }
+
+  private static Map<String, String> serializeOptionalValues(
+      Map<String, Optional<String>> values) {
+    // Absent values are stored as nulls.
+    Map<String, String> serialized = new HashMap<>();
+    for (Map.Entry<String, Optional<String>> entry : values.entrySet()) {
+      serialized.put(entry.getKey(), entry.getValue().orElse(null));
+    }
+    return serialized;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CachedBuildFile deserializeBuildFile(Map<String, Object> serialized) {
+    ImmutableMap.Builder<String, ImmutableMap<String, Optional<String>>> configs =
+        ImmutableMap.builder();
+    for (Map.Entry<String, Map<String, String>> section :
+         ((Map<String, Map<String, String>>) serialized.get(CONFIGS)).entrySet()) {
+      configs.put(section.getKey(), deserializeOptionalValues(section.getValue()));
+    }
+
+    return CachedBuildFile.builder()
+        .setBuildFile(Paths.get((String) serialized.get(BUILD_FILE)))
+        .setRawNodes((List<Map<String, Object>>) serialized.get(NODES))
+        .setIncludes(
+            ((List<String>) serialized.get(INCLUDES)).stream()
+                .map(Paths::get)
+                .collect(MoreCollectors.toImmutableSet()))
+        .setConfigs(configs.build())
+        .setEnv(deserializeOptionalValues((Map<String, String>) serialized.get(ENV)))
+        .build();
+  }
+
+  private static ImmutableMap<String, Optional<String>> deserializeOptionalValues(
+      Map<String, String> values) {
+    return ImmutableMap.copyOf(Maps.transformValues(values, Optional::ofNullable));
+  }
+}
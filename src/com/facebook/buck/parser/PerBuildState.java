@@ -30,6 +30,7 @@ import com.facebook.buck.rules.TargetGraph;
 import com.facebook.buck.rules.TargetGroup;
 import com.facebook.buck.rules.TargetNode;
 import com.facebook.buck.rules.TargetNodeFactory;
+import com.facebook.buck.timing.DefaultClock;
 import com.facebook.buck.util.Ansi;
 import com.facebook.buck.util.Console;
 import com.facebook.buck.util.HumanReadableException;
@@ -119,6 +120,10 @@ public class PerBuildState implements AutoCloseable {
     int numParsingThreads = parserConfig.getNumParsingThreads();
     this.projectBuildFileParserPool = new ProjectBuildFileParserPool(
         numParsingThreads, // Max parsers to create per cell.
+        parserConfig.getParserBatchSize(),
+        parserConfig.getMaxParserIdleTimeMs(),
+        parser.getParserPoolCounters(),
+        new DefaultClock(false),
         input -> createBuildFileParser(input, PerBuildState.this.ignoreBuckAutodepsFiles));
 
     this.rawNodeParsePipeline = new RawNodeParsePipeline(
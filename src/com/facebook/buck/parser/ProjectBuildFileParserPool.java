@@ -16,18 +16,32 @@
 
 package com.facebook.buck.parser;
 
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.SamplingCounter;
+import com.facebook.buck.json.BuildFileParseException;
 import com.facebook.buck.json.ProjectBuildFileParser;
 import com.facebook.buck.rules.Cell;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.timing.DefaultClock;
+import com.facebook.buck.util.MoreCollectors;
 import com.facebook.buck.util.concurrent.ResourcePool;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -37,12 +51,23 @@ import javax.annotation.concurrent.GuardedBy;
  *
  * Parser instances are lazily created up till a fixed maximum. If more than max parser are
  * requested the associated 'requests' are queued up. As soon as a parser is returned it will
- * be used to satisfy the first pending request, otherwise it is "parked".
+ * be used to satisfy the first pending request, otherwise it is "parked".  Parsers which stay
+ * parked for longer than the maximum idle time are shut down, so the pool shrinks again after
+ * bursts of parsing.
+ *
+ * When batching is enabled, a parser which becomes available takes over several of the requests
+ * waiting for a parser at once and sends them to buck.py in a single batch.
  */
 class ProjectBuildFileParserPool implements AutoCloseable {
   private final int maxParsersPerCell;
+  private final int maxBatchSize;
+  private final Optional<Long> maxParserIdleTimeMillis;
+  private final Counters counters;
+  private final Clock clock;
   @GuardedBy("this")
   private final Map<Cell, ResourcePool<ProjectBuildFileParser>> parserResourcePools;
+  @GuardedBy("this")
+  private final Map<Cell, Deque<PendingParse>> pendingParses;
   private final Function<Cell, ProjectBuildFileParser> parserFactory;
   private final AtomicBoolean closing;
 
@@ -53,10 +78,40 @@ class ProjectBuildFileParserPool implements AutoCloseable {
   public ProjectBuildFileParserPool(
       int maxParsersPerCell,
       Function<Cell, ProjectBuildFileParser> parserFactory) {
+    this(
+        maxParsersPerCell,
+        /* maxBatchSize */ 1,
+        Optional.empty(),
+        new Counters(),
+        new DefaultClock(false),
+        parserFactory);
+  }
+
+  /**
+   * @param maxParsersPerCell maximum number of parsers to create for a single cell.
+   * @param maxBatchSize maximum number of build files to send to a parser in a single request.
+   * @param maxParserIdleTimeMillis how long a parser may stay unused before it's shut down, if at
+   *                                all.
+   * @param counters where to record statistics about the parsers.
+   * @param parserFactory function used to create a new parser.
+   */
+  public ProjectBuildFileParserPool(
+      int maxParsersPerCell,
+      int maxBatchSize,
+      Optional<Long> maxParserIdleTimeMillis,
+      Counters counters,
+      Clock clock,
+      Function<Cell, ProjectBuildFileParser> parserFactory) {
     Preconditions.checkArgument(maxParsersPerCell > 0);
+    Preconditions.checkArgument(maxBatchSize > 0);
 
     this.maxParsersPerCell = maxParsersPerCell;
+    this.maxBatchSize = maxBatchSize;
+    this.maxParserIdleTimeMillis = maxParserIdleTimeMillis;
+    this.counters = counters;
+    this.clock = clock;
     this.parserResourcePools = new HashMap<>();
+    this.pendingParses = new HashMap<>();
     this.parserFactory = parserFactory;
     this.closing = new AtomicBoolean(false);
   }
@@ -74,11 +129,123 @@ class ProjectBuildFileParserPool implements AutoCloseable {
       final ListeningExecutorService executorService) {
     Preconditions.checkState(!closing.get());
 
-    return getResourcePoolForCell(cell).scheduleOperationWithResource(
-        parser -> ImmutableSet.copyOf(parser.getAllRulesAndMetaRules(buildFile)),
+    ResourcePool<ProjectBuildFileParser> pool = getResourcePoolForCell(cell);
+    if (maxBatchSize > 1) {
+      PendingParse pendingParse = new PendingParse(buildFile);
+      synchronized (this) {
+        Deque<PendingParse> pending = pendingParses.computeIfAbsent(cell, c -> new ArrayDeque<>());
+        pending.addLast(pendingParse);
+        counters.queueDepth.addSample(pending.size());
+      }
+      scheduleBatch(cell, pool, executorService);
+      return pendingParse.result;
+    }
+
+    counters.queueDepth.addSample(pool.getNumQueuedRequests());
+    return pool.scheduleOperationWithResource(
+        parser -> {
+          counters.parsers.addSample(pool.getNumCreatedResources());
+          long start = clock.nanoTime();
+          try {
+            return ImmutableSet.copyOf(parser.getAllRulesAndMetaRules(buildFile));
+          } finally {
+            counters.parseTime.addSample(
+                TimeUnit.NANOSECONDS.toMillis(clock.nanoTime() - start));
+          }
+        },
+        executorService);
+  }
+
+  /**
+   * Schedules an operation which parses a batch of the cell's pending build files once a parser is
+   * available.  Every pending build file has an operation scheduled for it, but the batches are
+   * taken by whichever operations get a parser first, so the rest find nothing left to do.
+   */
+  private void scheduleBatch(
+      Cell cell,
+      ResourcePool<ProjectBuildFileParser> pool,
+      ListeningExecutorService executorService) {
+    pool.scheduleOperationWithResource(
+        parser -> {
+          ImmutableList<PendingParse> batch = takeBatch(cell);
+          if (!batch.isEmpty()) {
+            counters.parsers.addSample(pool.getNumCreatedResources());
+            parseBatch(cell, parser, batch, pool, executorService);
+          }
+          return null;
+        },
         executorService);
   }
 
+  /**
+   * Takes the next batch of build files to parse, leaving enough for the other parsers to get a
+   * share of them.
+   */
+  private synchronized ImmutableList<PendingParse> takeBatch(Cell cell) {
+    Deque<PendingParse> pending = pendingParses.get(cell);
+    if (pending == null) {
+      return ImmutableList.of();
+    }
+    int batchSize = Math.min(
+        maxBatchSize,
+        (pending.size() + maxParsersPerCell - 1) / maxParsersPerCell);
+    ImmutableList.Builder<PendingParse> batch = ImmutableList.builder();
+    for (int i = 0; i < batchSize; i++) {
+      batch.add(pending.removeFirst());
+    }
+    return batch.build();
+  }
+
+  private void parseBatch(
+      Cell cell,
+      ProjectBuildFileParser parser,
+      ImmutableList<PendingParse> batch,
+      ResourcePool<ProjectBuildFileParser> pool,
+      ListeningExecutorService executorService)
+      throws BuildFileParseException, InterruptedException {
+    Iterator<PendingParse> remaining = batch.iterator();
+    long[] start = {clock.nanoTime()};
+    try {
+      parser.getAllRulesAndMetaRules(
+          batch.stream()
+              .map(pendingParse -> pendingParse.buildFile)
+              .collect(MoreCollectors.toImmutableList()),
+          (buildFile, rules) -> {
+            long now = clock.nanoTime();
+            counters.parseTime.addSample(TimeUnit.NANOSECONDS.toMillis(now - start[0]));
+            start[0] = now;
+            remaining.next().result.set(ImmutableSet.copyOf(rules));
+          });
+    } catch (BuildFileParseException e) {
+      // The parser stops at the first build file which fails, so the rest of the batch still has
+      // to be parsed.  The parser itself is retired, since buck.py exits after a failure.
+      remaining.next().result.setException(e);
+      requeue(cell, ImmutableList.copyOf(remaining), pool, executorService);
+      throw e;
+    } catch (InterruptedException | RuntimeException e) {
+      remaining.forEachRemaining(pendingParse -> pendingParse.result.setException(e));
+      throw e;
+    }
+  }
+
+  private void requeue(
+      Cell cell,
+      ImmutableList<PendingParse> unparsed,
+      ResourcePool<ProjectBuildFileParser> pool,
+      ListeningExecutorService executorService) {
+    synchronized (this) {
+      if (closing.get()) {
+        unparsed.forEach(pendingParse -> pendingParse.result.cancel(false));
+        return;
+      }
+      Deque<PendingParse> pending = pendingParses.get(cell);
+      for (PendingParse pendingParse : unparsed.reverse()) {
+        pending.addFirst(pendingParse);
+      }
+    }
+    unparsed.forEach(pendingParse -> scheduleBatch(cell, pool, executorService));
+  }
+
   private synchronized ResourcePool<ProjectBuildFileParser> getResourcePoolForCell(Cell cell) {
     ResourcePool<ProjectBuildFileParser> pool = parserResourcePools.get(cell);
     if (pool == null) {
@@ -87,7 +254,9 @@ class ProjectBuildFileParserPool implements AutoCloseable {
           // If the Python process garbles the output stream then the bser codec doesn't always
           // recover and subsequent attempts at invoking the parser will fail.
           ResourcePool.ResourceUsageErrorPolicy.RETIRE,
-          () -> parserFactory.apply(cell));
+          () -> parserFactory.apply(cell),
+          maxParserIdleTimeMillis,
+          clock);
       parserResourcePools.put(cell, pool);
     }
     return pool;
@@ -102,5 +271,47 @@ class ProjectBuildFileParserPool implements AutoCloseable {
       resourcePools = ImmutableSet.copyOf(parserResourcePools.values());
     }
     resourcePools.forEach(ResourcePool::close);
+
+    // Closing the resource pools cancels the operations which would have parsed the build files
+    // that are still pending, so cancel their results as well.
+    synchronized (this) {
+      pendingParses.values().forEach(
+          pending -> pending.forEach(pendingParse -> pendingParse.result.cancel(false)));
+      pendingParses.clear();
+    }
+  }
+
+  private static class PendingParse {
+    private final Path buildFile;
+    private final SettableFuture<ImmutableSet<Map<String, Object>>> result;
+
+    public PendingParse(Path buildFile) {
+      this.buildFile = buildFile;
+      this.result = SettableFuture.create();
+    }
+  }
+
+  /**
+   * Statistics about how build files are parsed, which outlive any single pool.
+   */
+  static class Counters {
+    private static final String COUNTER_CATEGORY = "buck_parser_pool";
+
+    private final SamplingCounter parseTime = new SamplingCounter(
+        COUNTER_CATEGORY,
+        "build_file_parse_time_ms",
+        ImmutableMap.of());
+    private final SamplingCounter queueDepth = new SamplingCounter(
+        COUNTER_CATEGORY,
+        "build_files_waiting_for_parser",
+        ImmutableMap.of());
+    private final SamplingCounter parsers = new SamplingCounter(
+        COUNTER_CATEGORY,
+        "parser_processes",
+        ImmutableMap.of());
+
+    ImmutableList<Counter> getCounters() {
+      return ImmutableList.of(parseTime, queueDepth, parsers);
+    }
   }
 }
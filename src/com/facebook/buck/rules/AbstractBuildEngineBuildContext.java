@@ -16,6 +16,7 @@
 package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCompression;
 import com.facebook.buck.event.BuckEventBus;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.BuildId;
@@ -49,6 +50,14 @@ abstract class AbstractBuildEngineBuildContext {
     return false;
   }
 
+  /**
+   * @return the format to pack rule outputs in when storing them in the artifact cache.
+   */
+  @Value.Default
+  public ArtifactCompression getArtifactCompression() {
+    return ArtifactCompression.DEFLATE;
+  }
+
   /**
    * Creates an {@link OnDiskBuildInfo}.
    * <p>
@@ -46,6 +46,16 @@ abstract class AbstractCachingBuildEngineBuckConfig implements ConfigView<BuckCo
         CachingBuildEngine.DepFiles.class).orElse(CachingBuildEngine.DepFiles.ENABLED);
   }
 
+  /**
+   * @return the order in which to start building the rules which are ready to be built.
+   */
+  public CachingBuildEngine.SchedulingMode getBuildSchedulingMode() {
+    return getDelegate().getEnum(
+        "build",
+        "scheduling",
+        CachingBuildEngine.SchedulingMode.class).orElse(CachingBuildEngine.SchedulingMode.SHUFFLE);
+  }
+
   /**
    * @return the maximum number of entries to support in the depfile cache.
    */
@@ -23,8 +23,11 @@ import com.facebook.buck.event.SimplePerfEvent;
 import com.facebook.buck.event.WatchmanStatusEvent;
 import com.facebook.buck.event.listener.BroadcastEventListener;
 import com.facebook.buck.graph.AbstractBottomUpTraversal;
+import com.facebook.buck.io.WatchEvents;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.Pair;
+import com.facebook.buck.model.UnflavoredBuildTarget;
 import com.facebook.buck.parser.NoSuchBuildTargetException;
 import com.facebook.buck.rules.keys.ContentAgnosticRuleKeyFactory;
 import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
@@ -32,6 +35,7 @@ import com.facebook.buck.util.HumanReadableException;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
 import com.google.common.eventbus.Subscribe;
@@ -39,31 +43,82 @@ import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 
+import java.nio.file.Path;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
 /**
- * Class that transforms {@link TargetGraph} to {@link ActionGraph}. It also holds a cache for the
- * last ActionGraph it generated.
+ * Class that transforms {@link TargetGraph} to {@link ActionGraph}. It also holds a cache of the
+ * ActionGraphs it generated, keyed by the hash of their target graphs, so that alternating between
+ * a few different commands doesn't have to keep recreating them.  The least recently used ones are
+ * evicted once their estimated size exceeds the maximum, but the last one is always kept.
+ *
+ * When incremental action graphs are enabled, a cache miss doesn't start from scratch: the build
+ * rules of the target nodes which are unchanged since the most recent action graph, and whose
+ * dependencies are all unchanged too, are moved over to the new graph, so only the changed nodes
+ * and their reverse dependencies go through the {@link TargetNodeToBuildRuleTransformer} again.
+ * Only the rules of {@link ReusableRulesDescription}s are moved over, as the rest may hold on to
+ * the resolver of the graph they were created for.
  */
 public class ActionGraphCache {
   private static final Logger LOG = Logger.get(ActionGraphCache.class);
 
+  // A rough guess at how much memory a build rule takes up, including its share of the resolver
+  // and the source paths and steps it holds on to.
+  @VisibleForTesting
+  static final long ESTIMATED_BUILD_RULE_SIZE_BYTES = 4 * 1024;
+
+  private final long maxEstimatedSizeBytes;
+
+  // In access order, so the least recently used action graph is evicted first.
+  private final Map<HashCode, CachedActionGraph> actionGraphs =
+      new LinkedHashMap<>(16, 0.75f, true);
+
   @Nullable
-  private Pair<TargetGraph, ActionGraphAndResolver> lastActionGraph;
+  private CachedActionGraph lastActionGraph;
 
+  private long estimatedSizeBytes;
+
+  private final boolean incrementalActionGraphs;
+
+  // The action graph whose rules are reused on the next miss, which outlives invalidations caused
+  // by files being added or removed.  Those files may have affected the descriptions of the nodes
+  // in the packages above them, so they are recorded so that these nodes aren't reused.
   @Nullable
-  private HashCode lastTargetGraphHash;
+  private CachedActionGraph incrementalBase;
+  private final Set<Path> pathsChangedSinceIncrementalBase = new HashSet<>();
 
   private BroadcastEventListener broadcastEventListener;
 
   public ActionGraphCache(BroadcastEventListener broadcastEventListener) {
+    this(
+        broadcastEventListener,
+        /* maxEstimatedSizeBytes */ 0,
+        /* incrementalActionGraphs */ false);
+  }
+
+  /**
+   * @param maxEstimatedSizeBytes how much memory the cached action graphs may take up, going by a
+   *     rough estimate of the size of their build rules.
+   * @param incrementalActionGraphs whether to create new action graphs by reusing the rules of the
+   *     unchanged parts of the previous one.
+   */
+  public ActionGraphCache(
+      BroadcastEventListener broadcastEventListener,
+      long maxEstimatedSizeBytes,
+      boolean incrementalActionGraphs) {
     this.broadcastEventListener = broadcastEventListener;
+    this.maxEstimatedSizeBytes = maxEstimatedSizeBytes;
+    this.incrementalActionGraphs = incrementalActionGraphs;
   }
 
   /**
@@ -88,37 +143,67 @@ public class ActionGraphCache {
     ActionGraphAndResolver out;
     try {
       RuleKeyFieldLoader fieldLoader = new RuleKeyFieldLoader(keySeed);
-      if (lastActionGraph != null && lastActionGraph.getFirst().equals(targetGraph)) {
+      // Checking the most recently used action graph first avoids hashing the target graph when
+      // the same command is run repeatedly.
+      CachedActionGraph cachedActionGraph = null;
+      HashCode targetGraphHash = null;
+      if (lastActionGraph != null && lastActionGraph.targetGraph.equals(targetGraph)) {
+        cachedActionGraph = lastActionGraph;
+      } else if (!actionGraphs.isEmpty()) {
+        LOG.debug("Computing TargetGraph HashCode...");
+        targetGraphHash = getTargetGraphHash(targetGraph);
+        CachedActionGraph sameHash = actionGraphs.get(targetGraphHash);
+        if (sameHash != null && sameHash.targetGraph.equals(targetGraph)) {
+          cachedActionGraph = sameHash;
+        }
+      }
+
+      if (cachedActionGraph != null) {
         eventBus.post(ActionGraphEvent.Cache.hit());
         LOG.info("ActionGraph cache hit.");
+        // Mark it as the most recently used.
+        actionGraphs.get(cachedActionGraph.targetGraphHash);
+        setLastActionGraph(cachedActionGraph);
         if (checkActionGraphs) {
-          compareActionGraphs(eventBus, lastActionGraph.getSecond(), targetGraph, fieldLoader);
+          compareActionGraphs(
+              eventBus,
+              cachedActionGraph.actionGraphAndResolver,
+              targetGraph,
+              fieldLoader);
         }
-        out = lastActionGraph.getSecond();
+        out = cachedActionGraph.actionGraphAndResolver;
       } else {
-        eventBus.post(ActionGraphEvent.Cache.miss(lastActionGraph == null));
-        LOG.debug("Computing TargetGraph HashCode...");
-        HashCode targetGraphHash = getTargetGraphHash(targetGraph);
-        if (lastActionGraph == null) {
+        eventBus.post(ActionGraphEvent.Cache.miss(actionGraphs.isEmpty()));
+        if (targetGraphHash == null) {
+          LOG.debug("Computing TargetGraph HashCode...");
+          targetGraphHash = getTargetGraphHash(targetGraph);
+        }
+        if (actionGraphs.isEmpty()) {
           LOG.info("ActionGraph cache miss. Cache was empty.");
-        } else if (Objects.equals(lastTargetGraphHash, targetGraphHash)) {
+        } else if (actionGraphs.containsKey(targetGraphHash)) {
           LOG.info("ActionGraph cache miss. TargetGraphs mismatched but hashes are the same.");
           eventBus.post(ActionGraphEvent.Cache.missWithTargetGraphHashMatch());
         } else {
           LOG.info("ActionGraph cache miss. TargetGraphs mismatched.");
         }
-        lastTargetGraphHash = targetGraphHash;
-        Pair<TargetGraph, ActionGraphAndResolver> freshActionGraph =
-            new Pair<TargetGraph, ActionGraphAndResolver>(
-                targetGraph,
-                createActionGraph(
-                    eventBus,
-                    new DefaultTargetNodeToBuildRuleTransformer(),
-                    targetGraph));
-        out = freshActionGraph.getSecond();
+        if (incrementalActionGraphs && incrementalBase != null) {
+          out = createActionGraphIncrementally(
+              eventBus,
+              targetGraph,
+              incrementalBase,
+              pathsChangedSinceIncrementalBase);
+          if (checkActionGraphs) {
+            compareActionGraphs(eventBus, out, targetGraph, fieldLoader);
+          }
+        } else {
+          out = createActionGraph(
+              eventBus,
+              new DefaultTargetNodeToBuildRuleTransformer(),
+              targetGraph);
+        }
         if (!skipActionGraphCache) {
           LOG.info("ActionGraph cache assignment. skipActionGraphCache? %s", skipActionGraphCache);
-          lastActionGraph = freshActionGraph;
+          addToCache(new CachedActionGraph(targetGraph, targetGraphHash, out));
         }
       }
     } finally {
@@ -167,8 +252,14 @@ public class ActionGraphCache {
       final BuckEventBus eventBus,
       TargetNodeToBuildRuleTransformer transformer,
       TargetGraph targetGraph) {
-    final BuildRuleResolver resolver = new BuildRuleResolver(targetGraph, transformer, eventBus);
+    return createActionGraph(
+        targetGraph,
+        new BuildRuleResolver(targetGraph, transformer, eventBus));
+  }
 
+  private static ActionGraphAndResolver createActionGraph(
+      TargetGraph targetGraph,
+      final BuildRuleResolver resolver) {
     AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException> bottomUpTraversal =
         new AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException>(targetGraph) {
 
@@ -189,6 +280,98 @@ public class ActionGraphCache {
         .build();
   }
 
+  /**
+   * Creates the action graph of {@code targetGraph}, reusing the build rules which {@code base}
+   * created for the nodes that haven't changed since.  A node is unchanged if {@code targetGraph}
+   * holds the very same {@link TargetNode} that {@code base} was created from (the parser hands out
+   * the same instances until their build files change), none of {@code changedPaths} is inside its
+   * package, its description is a {@link ReusableRulesDescription} and all of its dependencies are
+   * unchanged too.
+   */
+  private static ActionGraphAndResolver createActionGraphIncrementally(
+      BuckEventBus eventBus,
+      final TargetGraph targetGraph,
+      CachedActionGraph base,
+      final Set<Path> changedPaths) {
+    final TargetGraph baseTargetGraph = base.targetGraph;
+    final Set<Path> changedPackages = new HashSet<>();
+    for (Path changedPath : changedPaths) {
+      for (Path path = changedPath.getParent(); path != null; path = path.getParent()) {
+        changedPackages.add(path);
+      }
+    }
+
+    final Set<UnflavoredBuildTarget> unchangedTargets = new HashSet<>();
+    new AbstractBottomUpTraversal<TargetNode<?, ?>, RuntimeException>(targetGraph) {
+      @Override
+      public void visit(TargetNode<?, ?> node) {
+        BuildTarget target = node.getBuildTarget();
+        // Files added to or removed from the root package can't be told apart from the rest.
+        if (baseTargetGraph.getOptional(target).orElse(null) != node ||
+            (!changedPaths.isEmpty() && target.getBasePath().toString().isEmpty()) ||
+            changedPackages.contains(target.getBasePath()) ||
+            !(node.getDescription() instanceof ReusableRulesDescription)) {
+          return;
+        }
+        for (TargetNode<?, ?> dep : targetGraph.getOutgoingNodesFor(node)) {
+          if (!unchangedTargets.contains(dep.getBuildTarget().getUnflavoredBuildTarget())) {
+            return;
+          }
+        }
+        unchangedTargets.add(target.getUnflavoredBuildTarget());
+      }
+    }.traverse();
+
+    // The rules are moved over before any is required, so that changed nodes which depend on
+    // flavors of the unchanged ones also get the existing rules.
+    BuildRuleResolver resolver = new BuildRuleResolver(
+        targetGraph,
+        new DefaultTargetNodeToBuildRuleTransformer(),
+        eventBus);
+    int reusedRules = 0;
+    for (BuildRule rule : base.actionGraphAndResolver.getResolver().getBuildRules()) {
+      if (unchangedTargets.contains(rule.getBuildTarget().getUnflavoredBuildTarget())) {
+        resolver.addToIndex(rule);
+        reusedRules++;
+      }
+    }
+    LOG.info(
+        "Reusing %d build rules of %d unchanged target nodes out of %d.",
+        reusedRules,
+        unchangedTargets.size(),
+        targetGraph.getNodes().size());
+
+    return createActionGraph(targetGraph, resolver);
+  }
+
+  private void addToCache(CachedActionGraph cachedActionGraph) {
+    CachedActionGraph replaced =
+        actionGraphs.put(cachedActionGraph.targetGraphHash, cachedActionGraph);
+    if (replaced != null) {
+      estimatedSizeBytes -= replaced.estimatedSizeBytes;
+    }
+    estimatedSizeBytes += cachedActionGraph.estimatedSizeBytes;
+    setLastActionGraph(cachedActionGraph);
+
+    Iterator<CachedActionGraph> leastRecentlyUsed = actionGraphs.values().iterator();
+    while (estimatedSizeBytes > maxEstimatedSizeBytes && actionGraphs.size() > 1) {
+      CachedActionGraph evicted = leastRecentlyUsed.next();
+      leastRecentlyUsed.remove();
+      estimatedSizeBytes -= evicted.estimatedSizeBytes;
+      LOG.info(
+          "Evicted ActionGraph with %d rules from the cache.",
+          evicted.numBuildRules);
+    }
+  }
+
+  private void setLastActionGraph(CachedActionGraph cachedActionGraph) {
+    lastActionGraph = cachedActionGraph;
+    if (incrementalActionGraphs && incrementalBase != cachedActionGraph) {
+      incrementalBase = cachedActionGraph;
+      pathsChangedSinceIncrementalBase.clear();
+    }
+  }
+
   private static HashCode getTargetGraphHash(TargetGraph targetGraph) {
     Hasher hasher = Hashing.sha1().newHasher();
     ImmutableSet<TargetNode<?, ?>> nodes = targetGraph.getNodes();
@@ -278,7 +461,15 @@ public class ActionGraphCache {
       if (!isCacheEmpty()) {
         LOG.info("ActionGraphCache invalidation due to Watchman event %s.", event);
       }
-      invalidateCache();
+      if (incrementalBase != null && WatchEvents.isPathChangeEvent(event)) {
+        // Keep the last action graph around to build the next one from.
+        CachedActionGraph base = incrementalBase;
+        invalidateCache();
+        incrementalBase = base;
+        pathsChangedSinceIncrementalBase.add((Path) event.context());
+      } else {
+        invalidateCache();
+      }
       if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
         broadcastEventListener.broadcast(WatchmanStatusEvent.overflow((String) event.context()));
       } else if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
@@ -291,13 +482,53 @@ public class ActionGraphCache {
     }
   }
 
+  /**
+   * @return the hash of the target graph that {@code actionGraph} was created from, if it's the
+   *     action graph currently held in the cache.
+   */
+  public Optional<HashCode> getTargetGraphHash(ActionGraph actionGraph) {
+    for (CachedActionGraph cachedActionGraph : actionGraphs.values()) {
+      if (cachedActionGraph.actionGraphAndResolver.getActionGraph() == actionGraph) {
+        return Optional.of(cachedActionGraph.targetGraphHash);
+      }
+    }
+    return Optional.empty();
+  }
+
   private void invalidateCache() {
+    actionGraphs.clear();
     lastActionGraph = null;
-    lastTargetGraphHash = null;
+    estimatedSizeBytes = 0;
+    incrementalBase = null;
+    pathsChangedSinceIncrementalBase.clear();
   }
 
   @VisibleForTesting
   boolean isCacheEmpty() {
-    return lastActionGraph == null;
+    return actionGraphs.isEmpty();
+  }
+
+  @VisibleForTesting
+  int getNumCachedActionGraphs() {
+    return actionGraphs.size();
+  }
+
+  private static class CachedActionGraph {
+    private final TargetGraph targetGraph;
+    private final HashCode targetGraphHash;
+    private final ActionGraphAndResolver actionGraphAndResolver;
+    private final int numBuildRules;
+    private final long estimatedSizeBytes;
+
+    public CachedActionGraph(
+        TargetGraph targetGraph,
+        HashCode targetGraphHash,
+        ActionGraphAndResolver actionGraphAndResolver) {
+      this.targetGraph = targetGraph;
+      this.targetGraphHash = targetGraphHash;
+      this.actionGraphAndResolver = actionGraphAndResolver;
+      this.numBuildRules = Iterables.size(actionGraphAndResolver.getResolver().getBuildRules());
+      this.estimatedSizeBytes = numBuildRules * ESTIMATED_BUILD_RULE_SIZE_BYTES;
+    }
   }
 }
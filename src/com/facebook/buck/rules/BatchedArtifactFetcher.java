@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.FetchRequest;
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.log.Logger;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Fetches artifacts for build rules in batches using {@link ArtifactCache#multiFetch}, so caches
+ * with a high per-request latency can overlap or combine the requests of rules which are ready to
+ * check the cache at the same time.
+ *
+ * Every fetch is queued and schedules a task which drains the queue.  While the executor is busy,
+ * requests accumulate in the queue and the next task to run picks all of them up at once, so
+ * batches form on their own under load without delaying requests when the executor is idle.
+ */
+public class BatchedArtifactFetcher {
+
+  private static final Logger LOG = Logger.get(BatchedArtifactFetcher.class);
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+  private final ListeningExecutorService service;
+  private final int maxBatchSize;
+  private final Queue<Request> pendingRequests = new ConcurrentLinkedQueue<>();
+
+  public BatchedArtifactFetcher(ListeningExecutorService service, int maxBatchSize) {
+    this.service = service;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public BatchedArtifactFetcher(ListeningExecutorService service) {
+    this(service, DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  /**
+   * Queues a fetch of the artifact for {@code ruleKey} from {@code artifactCache}.
+   *
+   * @return a future which completes with the result of the fetch.  Internal errors in the cache
+   *     are reported as {@link com.facebook.buck.artifact_cache.CacheResultType#ERROR} results.
+   */
+  public ListenableFuture<CacheResult> fetch(
+      ArtifactCache artifactCache,
+      RuleKey ruleKey,
+      FetchRequest fetchRequest) {
+    Request request = new Request(artifactCache, ruleKey, fetchRequest);
+    pendingRequests.add(request);
+    service.execute(this::processPendingRequests);
+    return request.result;
+  }
+
+  public ListenableFuture<CacheResult> fetch(
+      ArtifactCache artifactCache,
+      RuleKey ruleKey,
+      LazyPath output) {
+    return fetch(artifactCache, ruleKey, FetchRequest.of(output, Optional.empty()));
+  }
+
+  private void processPendingRequests() {
+    List<Request> batch = new ArrayList<>();
+    while (batch.size() < maxBatchSize) {
+      Request request = pendingRequests.poll();
+      if (request == null) {
+        break;
+      }
+      batch.add(request);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    Map<ArtifactCache, Map<RuleKey, Request>> requestsByCache = new IdentityHashMap<>();
+    List<Request> duplicateRequests = new ArrayList<>();
+    for (Request request : batch) {
+      Map<RuleKey, Request> requests =
+          requestsByCache.computeIfAbsent(request.artifactCache, cache -> new LinkedHashMap<>());
+      if (requests.putIfAbsent(request.ruleKey, request) != null) {
+        // Each request needs its own copy of the artifact, so fetch it again separately.
+        duplicateRequests.add(request);
+      }
+    }
+
+    for (Map.Entry<ArtifactCache, Map<RuleKey, Request>> entry : requestsByCache.entrySet()) {
+      fetchBatch(entry.getKey(), entry.getValue());
+    }
+    for (Request request : duplicateRequests) {
+      Map<RuleKey, Request> requests = new LinkedHashMap<>();
+      requests.put(request.ruleKey, request);
+      fetchBatch(request.artifactCache, requests);
+    }
+  }
+
+  private void fetchBatch(ArtifactCache artifactCache, Map<RuleKey, Request> requests) {
+    ImmutableMap<RuleKey, CacheResult> results;
+    try {
+      if (requests.size() == 1) {
+        Request request = Iterables.getOnlyElement(requests.values());
+        results = ImmutableMap.of(
+            request.ruleKey,
+            request.fetchRequest.fetchFrom(artifactCache, request.ruleKey));
+      } else {
+        ImmutableMap.Builder<RuleKey, FetchRequest> fetchRequests = ImmutableMap.builder();
+        for (Request request : requests.values()) {
+          fetchRequests.put(request.ruleKey, request.fetchRequest);
+        }
+        results = artifactCache.multiFetch(fetchRequests.build());
+      }
+    } catch (RuntimeException e) {
+      LOG.error(e, "Buck internal error when downloading from the cache, will build locally.");
+      CacheResult error = CacheResult.error("unknown", String.valueOf(e.getMessage()));
+      for (Request request : requests.values()) {
+        request.result.set(error);
+      }
+      return;
+    } catch (Error e) {
+      for (Request request : requests.values()) {
+        request.result.setException(e);
+      }
+      throw e;
+    }
+
+    for (Request request : requests.values()) {
+      CacheResult result = results.get(request.ruleKey);
+      request.result.set(result == null ? CacheResult.miss() : result);
+    }
+  }
+
+  private static class Request {
+    private final ArtifactCache artifactCache;
+    private final RuleKey ruleKey;
+    private final FetchRequest fetchRequest;
+    private final SettableFuture<CacheResult> result = SettableFuture.create();
+
+    private Request(ArtifactCache artifactCache, RuleKey ruleKey, FetchRequest fetchRequest) {
+      this.artifactCache = artifactCache;
+      this.ruleKey = ruleKey;
+      this.fetchRequest = fetchRequest;
+    }
+  }
+}
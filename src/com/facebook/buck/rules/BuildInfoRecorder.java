@@ -17,6 +17,7 @@
 package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCompression;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.event.ArtifactCompressionEvent;
 import com.facebook.buck.event.BuckEventBus;
@@ -285,6 +286,14 @@ public class BuildInfoRecorder {
       final ImmutableSet<RuleKey> ruleKeys,
       ArtifactCache artifactCache,
       final BuckEventBus eventBus) {
+    performUploadToArtifactCache(ruleKeys, artifactCache, ArtifactCompression.DEFLATE, eventBus);
+  }
+
+  public void performUploadToArtifactCache(
+      final ImmutableSet<RuleKey> ruleKeys,
+      ArtifactCache artifactCache,
+      ArtifactCompression compression,
+      final BuckEventBus eventBus) {
 
     // Skip all of this if caching is disabled. Although artifactCache.store() will be a noop,
     // building up the zip is wasted I/O.
@@ -306,7 +315,7 @@ public class BuildInfoRecorder {
           "buck_artifact_" + MoreFiles.sanitize(buildTarget.getShortName()),
           ".zip");
       buildMetadata = getBuildMetadata();
-      projectFilesystem.createZip(pathsToIncludeInZip, zip);
+      compression.pack(projectFilesystem, pathsToIncludeInZip, zip);
     } catch (IOException e) {
       eventBus.post(ConsoleEvent.info("Failed to create zip for %s containing:\n%s",
           buildTarget,
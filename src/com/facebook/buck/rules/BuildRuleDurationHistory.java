@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Sets;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * How long the build rules took to build locally in the previous builds, kept in buck-out so that
+ * the build engine can estimate how long the chains of rules left to build will take.
+ *
+ * The history is only read from disk when first used, and written back when closed if it changed.
+ * Once it holds more than a given number of rules, the ones this build didn't use are dropped from
+ * it, so that it doesn't keep growing with every rule ever built.
+ */
+public class BuildRuleDurationHistory implements Closeable {
+  private static final Logger LOG = Logger.get(BuildRuleDurationHistory.class);
+
+  // Rules which were never built are assumed to take this long, until there's a better estimate.
+  private static final long DEFAULT_DURATION_MILLIS = 1000;
+  private static final int DEFAULT_MAX_ENTRIES = 100000;
+
+  private final ProjectFilesystem filesystem;
+  private final ObjectMapper objectMapper;
+  private final int maxEntries;
+  private final Supplier<ConcurrentMap<String, Long>> durationsMillis;
+  private final Set<String> usedTargets = Sets.newConcurrentHashSet();
+  private volatile boolean changed = false;
+
+  public BuildRuleDurationHistory(ProjectFilesystem filesystem, ObjectMapper objectMapper) {
+    this(filesystem, objectMapper, DEFAULT_MAX_ENTRIES);
+  }
+
+  @VisibleForTesting
+  BuildRuleDurationHistory(
+      ProjectFilesystem filesystem,
+      ObjectMapper objectMapper,
+      int maxEntries) {
+    this.filesystem = filesystem;
+    this.objectMapper = objectMapper;
+    this.maxEntries = maxEntries;
+    this.durationsMillis = Suppliers.memoize(this::load);
+  }
+
+  @VisibleForTesting
+  static Path getPath(ProjectFilesystem filesystem) {
+    return filesystem.getBuckPaths().getLogDir().resolve("build_rule_durations.json");
+  }
+
+  /**
+   * @return how long the rule is expected to take to build locally.
+   */
+  public long getEstimatedDurationMillis(BuildTarget target) {
+    String name = target.getFullyQualifiedName();
+    usedTargets.add(name);
+    Long durationMillis = durationsMillis.get().get(name);
+    return durationMillis != null ? durationMillis : DEFAULT_DURATION_MILLIS;
+  }
+
+  /**
+   * Records how long the rule just took to build.  Estimates are averaged with the previous ones
+   * to smooth out the noise.
+   */
+  public void record(BuildTarget target, long durationMillis) {
+    String name = target.getFullyQualifiedName();
+    usedTargets.add(name);
+    durationsMillis.get().merge(
+        name,
+        durationMillis,
+        (previous, latest) -> (previous + latest) / 2);
+    changed = true;
+  }
+
+  private ConcurrentMap<String, Long> load() {
+    ConcurrentMap<String, Long> durations = new ConcurrentHashMap<>();
+    Path path = getPath(filesystem);
+    if (!filesystem.exists(path)) {
+      return durations;
+    }
+    try (InputStream inputStream = filesystem.newFileInputStream(path)) {
+      Map<String, Long> recordedDurations =
+          objectMapper.readValue(inputStream, new TypeReference<Map<String, Long>>() {});
+      durations.putAll(recordedDurations);
+    } catch (IOException e) {
+      LOG.warn(e, "Ignoring unreadable build rule durations at %s.", path);
+    }
+    return durations;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!changed) {
+      return;
+    }
+    ConcurrentMap<String, Long> durations = durationsMillis.get();
+    if (durations.size() > maxEntries) {
+      durations.keySet().retainAll(usedTargets);
+    }
+    Path path = getPath(filesystem);
+    filesystem.mkdirs(path.getParent());
+    Path tempPath = filesystem.createTempFile(path.getParent(), "build_rule_durations", ".tmp");
+    try (OutputStream outputStream = filesystem.newFileOutputStream(tempPath)) {
+      objectMapper.writeValue(outputStream, durations);
+    }
+    filesystem.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+    changed = false;
+  }
+}
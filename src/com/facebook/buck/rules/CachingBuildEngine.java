@@ -17,9 +17,12 @@
 package com.facebook.buck.rules;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactCompression;
+import com.facebook.buck.artifact_cache.ArtifactConsumer;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.FetchRequest;
 import com.facebook.buck.event.ArtifactCompressionEvent;
 import com.facebook.buck.event.BuckEvent;
 import com.facebook.buck.event.BuckEventBus;
@@ -53,6 +56,7 @@ import com.facebook.buck.util.cache.DefaultFileHashCache;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.cache.ProjectFileHashCache;
 import com.facebook.buck.util.concurrent.MoreFutures;
+import com.facebook.buck.util.concurrent.ListeningMultiSemaphore;
 import com.facebook.buck.util.concurrent.ResourceAmounts;
 import com.facebook.buck.util.concurrent.WeightedListeningExecutorService;
 import com.facebook.buck.zip.Unzip;
@@ -90,8 +94,13 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -100,6 +109,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -137,9 +147,6 @@ public class CachingBuildEngine implements BuildEngine {
   private final ConcurrentMap<BuildTarget, ListenableFuture<BuildResult>> results =
       Maps.newConcurrentMap();
 
-  private final ConcurrentMap<BuildTarget, ListenableFuture<RuleKey>> ruleKeys =
-      Maps.newConcurrentMap();
-
   @Nullable
   private volatile Throwable firstFailure = null;
 
@@ -147,6 +154,7 @@ public class CachingBuildEngine implements BuildEngine {
 
   private final WeightedListeningExecutorService service;
   private final WeightedListeningExecutorService cacheActivityService;
+  private final BatchedArtifactFetcher artifactFetcher;
   private final StepRunner stepRunner;
   private final BuildMode buildMode;
   private final DepFiles depFiles;
@@ -161,9 +169,17 @@ public class CachingBuildEngine implements BuildEngine {
   private final ResourceAwareSchedulingInfo resourceAwareSchedulingInfo;
 
   private final RuleDepsCache ruleDeps;
+  private final ParallelRuleKeyCalculator ruleKeyCalculator;
   private final Optional<UnskippedRulesTracker> unskippedRulesTracker;
   private final BuildRuleDurationTracker buildRuleDurationTracker = new BuildRuleDurationTracker();
 
+  private final SchedulingMode schedulingMode;
+  private final Optional<BuildRuleDurationHistory> durationHistory;
+  // How long it's expected to take to build each rule and then the longest chain of rules depending
+  // on it, up to the top-level targets.  Worked out once, when the first rule is built.
+  @Nullable
+  private volatile ImmutableMap<BuildTarget, Long> remainingCriticalPathMillis;
+
   public CachingBuildEngine(
       CachingBuildEngineDelegate cachingBuildEngineDelegate,
       WeightedListeningExecutorService service,
@@ -177,10 +193,51 @@ public class CachingBuildEngine implements BuildEngine {
       final BuildRuleResolver resolver,
       ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
       RuleKeyFactoryManager ruleKeyFactoryManager) {
+    this(
+        cachingBuildEngineDelegate,
+        service,
+        artifactFetchService,
+        stepRunner,
+        buildMode,
+        depFiles,
+        maxDepFileCacheEntries,
+        artifactCacheSizeLimit,
+        objectMapper,
+        resolver,
+        resourceAwareSchedulingInfo,
+        ruleKeyFactoryManager,
+        SchedulingMode.SHUFFLE,
+        Optional.empty());
+  }
+
+  /**
+   * @param durationHistory how long rules took to build before, which is required to schedule
+   *     rules by {@link SchedulingMode#CRITICAL_PATH}.  Rules built locally are recorded in it.
+   */
+  public CachingBuildEngine(
+      CachingBuildEngineDelegate cachingBuildEngineDelegate,
+      WeightedListeningExecutorService service,
+      WeightedListeningExecutorService artifactFetchService,
+      StepRunner stepRunner,
+      BuildMode buildMode,
+      DepFiles depFiles,
+      long maxDepFileCacheEntries,
+      Optional<Long> artifactCacheSizeLimit,
+      ObjectMapper objectMapper,
+      final BuildRuleResolver resolver,
+      ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
+      RuleKeyFactoryManager ruleKeyFactoryManager,
+      SchedulingMode schedulingMode,
+      Optional<BuildRuleDurationHistory> durationHistory) {
+    Preconditions.checkArgument(
+        schedulingMode != SchedulingMode.CRITICAL_PATH || durationHistory.isPresent(),
+        "Scheduling by critical path requires the durations of the rules.");
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
 
     this.service = service;
     this.cacheActivityService = artifactFetchService;
+    this.artifactFetcher = new BatchedArtifactFetcher(
+        cacheActivityService.withDefaultAmounts(CACHE_CHECK_RESOURCE_AMOUNTS));
     this.stepRunner = stepRunner;
     this.buildMode = buildMode;
     this.depFiles = depFiles;
@@ -196,8 +253,15 @@ public class CachingBuildEngine implements BuildEngine {
     this.resourceAwareSchedulingInfo = resourceAwareSchedulingInfo;
 
     this.ruleDeps = new RuleDepsCache(service, resolver);
+    this.ruleKeyCalculator = new ParallelRuleKeyCalculator(
+        serviceByAdjustingDefaultWeightsTo(RULE_KEY_COMPUTATION_RESOURCE_AMOUNTS),
+        this.ruleKeyFactories,
+        ruleDeps,
+        buildRuleDurationTracker);
     this.unskippedRulesTracker =
         createUnskippedRulesTracker(buildMode, ruleDeps, resolver, service);
+    this.schedulingMode = schedulingMode;
+    this.durationHistory = durationHistory;
   }
 
   /**
@@ -216,11 +280,15 @@ public class CachingBuildEngine implements BuildEngine {
       SourcePathRuleFinder ruleFinder,
       SourcePathResolver pathResolver,
       final Function<? super ProjectFilesystem, RuleKeyFactories> ruleKeyFactoriesFunction,
-      ResourceAwareSchedulingInfo resourceAwareSchedulingInfo) {
+      ResourceAwareSchedulingInfo resourceAwareSchedulingInfo,
+      SchedulingMode schedulingMode,
+      Optional<BuildRuleDurationHistory> durationHistory) {
     this.cachingBuildEngineDelegate = cachingBuildEngineDelegate;
 
     this.service = service;
     this.cacheActivityService = service;
+    this.artifactFetcher = new BatchedArtifactFetcher(
+        cacheActivityService.withDefaultAmounts(CACHE_CHECK_RESOURCE_AMOUNTS));
     this.stepRunner = stepRunner;
     this.buildMode = buildMode;
     this.depFiles = depFiles;
@@ -236,8 +304,15 @@ public class CachingBuildEngine implements BuildEngine {
     this.resourceAwareSchedulingInfo = resourceAwareSchedulingInfo;
 
     this.ruleDeps = new RuleDepsCache(service, resolver);
+    this.ruleKeyCalculator = new ParallelRuleKeyCalculator(
+        serviceByAdjustingDefaultWeightsTo(RULE_KEY_COMPUTATION_RESOURCE_AMOUNTS),
+        this.ruleKeyFactories,
+        ruleDeps,
+        buildRuleDurationTracker);
     this.unskippedRulesTracker =
         createUnskippedRulesTracker(buildMode, ruleDeps, resolver, service);
+    this.schedulingMode = schedulingMode;
+    this.durationHistory = durationHistory;
   }
 
   /**
@@ -283,7 +358,8 @@ public class CachingBuildEngine implements BuildEngine {
 
   @Override
   public RuleKey getRuleKey(BuildTarget buildTarget) {
-    return Preconditions.checkNotNull(Futures.getUnchecked(ruleKeys.get(buildTarget)));
+    return Preconditions.checkNotNull(
+        Futures.getUnchecked(ruleKeyCalculator.getIfPresent(buildTarget)));
   }
 
   // Dispatch and return a future resolving to a list of all results of this rules dependencies.
@@ -294,19 +370,108 @@ public class CachingBuildEngine implements BuildEngine {
       ConcurrentLinkedQueue<ListenableFuture<Void>> asyncCallbacks) {
     List<ListenableFuture<BuildResult>> depResults =
         Lists.newArrayListWithExpectedSize(rule.getDeps().size());
-    for (BuildRule dep : shuffled(rule.getDeps())) {
+    for (BuildRule dep : getDepsInSchedulingOrder(rule)) {
       depResults.add(
           getBuildRuleResultWithRuntimeDeps(dep, buildContext, executionContext, asyncCallbacks));
     }
     return Futures.allAsList(depResults);
   }
 
+  private List<BuildRule> getDepsInSchedulingOrder(BuildRule rule) {
+    if (schedulingMode == SchedulingMode.SHUFFLE) {
+      return shuffled(rule.getDeps());
+    }
+    List<BuildRule> deps = Lists.newArrayList(rule.getDeps());
+    deps.sort(Comparator.comparingLong(this::getRemainingCriticalPathMillis).reversed());
+    return deps;
+  }
+
   private static List<BuildRule> shuffled(Iterable<BuildRule> rules) {
     ArrayList<BuildRule> rulesList = Lists.newArrayList(rules);
     Collections.shuffle(rulesList);
     return rulesList;
   }
 
+  private long getEstimatedDurationMillis(BuildRule rule) {
+    return durationHistory.get().getEstimatedDurationMillis(rule.getBuildTarget());
+  }
+
+  private long getRemainingCriticalPathMillis(BuildRule rule) {
+    ImmutableMap<BuildTarget, Long> criticalPathsMillis = remainingCriticalPathMillis;
+    Long criticalPathMillis =
+        criticalPathsMillis != null ? criticalPathsMillis.get(rule.getBuildTarget()) : null;
+    // Rules created after the action graph only have their own estimate to go by.
+    return criticalPathMillis != null ? criticalPathMillis : getEstimatedDurationMillis(rule);
+  }
+
+  private synchronized void computeRemainingCriticalPathsIfNeeded(ActionGraph actionGraph) {
+    if (remainingCriticalPathMillis == null) {
+      remainingCriticalPathMillis = computeRemainingCriticalPathMillis(
+          actionGraph.getNodes(),
+          this::getEstimatedDurationMillis);
+    }
+  }
+
+  /**
+   * Works out how long it's expected to take to build each rule and then the longest chain of
+   * rules depending on it.  The rules are costed in reverse topological order, each one only once
+   * all the rules depending on it are, so every chain is accounted for.
+   */
+  @VisibleForTesting
+  static ImmutableMap<BuildTarget, Long> computeRemainingCriticalPathMillis(
+      Iterable<BuildRule> rules,
+      ToLongFunction<BuildRule> estimatedDurationMillis) {
+    Map<BuildRule, Integer> uncostedDependents = new HashMap<>();
+    Set<BuildRule> visited = new HashSet<>();
+    Deque<BuildRule> toVisit = new ArrayDeque<>();
+    for (BuildRule rule : rules) {
+      uncostedDependents.put(rule, 0);
+      if (visited.add(rule)) {
+        toVisit.add(rule);
+      }
+    }
+    while (!toVisit.isEmpty()) {
+      for (BuildRule dep : toVisit.remove().getDeps()) {
+        uncostedDependents.merge(dep, 1, Integer::sum);
+        if (visited.add(dep)) {
+          toVisit.add(dep);
+        }
+      }
+    }
+
+    Map<BuildRule, Long> longestChainAboveMillis = new HashMap<>();
+    Deque<BuildRule> toCost = new ArrayDeque<>();
+    uncostedDependents.forEach((rule, dependents) -> {
+      if (dependents == 0) {
+        toCost.add(rule);
+      }
+    });
+    ImmutableMap.Builder<BuildTarget, Long> criticalPathsMillis = ImmutableMap.builder();
+    while (!toCost.isEmpty()) {
+      BuildRule rule = toCost.remove();
+      long criticalPathMillis = longestChainAboveMillis.getOrDefault(rule, 0L) +
+          estimatedDurationMillis.applyAsLong(rule);
+      criticalPathsMillis.put(rule.getBuildTarget(), criticalPathMillis);
+      for (BuildRule dep : rule.getDeps()) {
+        longestChainAboveMillis.merge(dep, criticalPathMillis, Math::max);
+        if (uncostedDependents.merge(dep, -1, Integer::sum) == 0) {
+          toCost.add(dep);
+        }
+      }
+    }
+    return criticalPathsMillis.build();
+  }
+
+  /**
+   * @return the priority with which to start building the rule once its deps are built.
+   */
+  private long getRulePriority(BuildRule rule) {
+    if (schedulingMode == SchedulingMode.SHUFFLE) {
+      return ListeningMultiSemaphore.DEFAULT_PRIORITY;
+    }
+    return getRemainingCriticalPathMillis(rule);
+  }
+
   private AsyncFunction<Optional<BuildResult>, BuildResult> buildLocally(
       final BuildRule rule,
       final BuildEngineBuildContext buildContext,
@@ -334,18 +499,23 @@ public class CachingBuildEngine implements BuildEngine {
                 rule,
                 buildRuleDurationTracker,
                 ruleKeyFactory.getDefaultRuleKeyFactory())) {
+              long startMillis = buildContext.getClock().currentTimeMillis();
               executeCommandsNowThatDepsAreBuilt(
                   rule,
                   buildContext,
                   executionContext,
                   buildableContext);
+              long durationMillis = buildContext.getClock().currentTimeMillis() - startMillis;
+              durationHistory.ifPresent(
+                  history -> history.record(rule.getBuildTarget(), durationMillis));
               return BuildResult.success(
                   rule,
                   BuildRuleSuccessType.BUILT_LOCALLY,
                   cacheResult);
             }
           },
-          getRuleResourceAmounts(rule));
+          getRuleResourceAmounts(rule),
+          getRulePriority(rule));
     };
   }
 
@@ -515,18 +685,17 @@ public class CachingBuildEngine implements BuildEngine {
                     CacheResult.localKeyUnchangedHit())));
       }
 
-      // 2. Rule key cache lookup.
+      // 2. Rule key cache lookup.  Lookups for rules which get here at the same time are batched.
       ListenableFuture<CacheResult> rulekeyCacheResult =
-          cacheActivityService.submit(
-              () -> {
-                CacheResult cacheResult =
-                    tryToFetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem(
-                        rule,
-                        defaultRuleKey,
-                        buildContext.getArtifactCache(),
-                        // TODO(shs96c): This should be a shared between all tests, not one per cell
-                        rule.getProjectFilesystem(),
-                        buildContext);
+          Futures.transform(
+              fetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem(
+                  rule,
+                  defaultRuleKey,
+                  buildContext.getArtifactCache(),
+                  // TODO(shs96c): This should be a shared between all tests, not one per cell
+                  rule.getProjectFilesystem(),
+                  buildContext),
+              (CacheResult cacheResult) -> {
                 if (cacheResult.getType().isSuccess()) {
                   fillMissingBuildMetadataFromCache(
                       cacheResult,
@@ -537,7 +706,7 @@ public class CachingBuildEngine implements BuildEngine {
                 }
                 return cacheResult;
               },
-              CACHE_CHECK_RESOURCE_AMOUNTS);
+              serviceByAdjustingDefaultWeightsTo(CACHE_CHECK_RESOURCE_AMOUNTS));
 
       return Futures.transformAsync(
           rulekeyCacheResult,
@@ -976,6 +1145,7 @@ public class CachingBuildEngine implements BuildEngine {
                   buildInfoRecorder.performUploadToArtifactCache(
                       ImmutableSet.copyOf(ruleKeys),
                       buildContext.getArtifactCache(),
+                      buildContext.getArtifactCompression(),
                       buildContext.getEventBus());
 
                 } catch (Throwable t) {
@@ -1144,7 +1314,8 @@ public class CachingBuildEngine implements BuildEngine {
 
     // Get the future holding the result for this rule and, if we have no additional runtime deps
     // to attach, return it.
-    ListenableFuture<RuleKey> ruleKey = calculateRuleKey(rule, buildContext);
+    ListenableFuture<RuleKey> ruleKey =
+        ruleKeyCalculator.calculate(buildContext.getEventBus(), rule);
     ListenableFuture<BuildResult> result =
         Futures.transformAsync(
             ruleKey,
@@ -1238,51 +1409,6 @@ public class CachingBuildEngine implements BuildEngine {
     return seen.size();
   }
 
-  private synchronized ListenableFuture<RuleKey> calculateRuleKey(
-      final BuildRule rule,
-      final BuildEngineBuildContext context) {
-    ListenableFuture<RuleKey> ruleKey = ruleKeys.get(rule.getBuildTarget());
-    if (ruleKey == null) {
-
-      // Grab all the dependency rule key futures.  Since our rule key calculation depends on this
-      // one, we need to wait for them to complete.
-      ListenableFuture<List<RuleKey>> depKeys =
-          Futures.transformAsync(
-              ruleDeps.get(rule),
-              deps -> {
-                List<ListenableFuture<RuleKey>> depKeys1 =
-                    Lists.newArrayListWithExpectedSize(rule.getDeps().size());
-                for (BuildRule dep : deps) {
-                  depKeys1.add(calculateRuleKey(dep, context));
-                }
-                return Futures.allAsList(depKeys1);
-              },
-              serviceByAdjustingDefaultWeightsTo(RULE_KEY_COMPUTATION_RESOURCE_AMOUNTS));
-
-      final RuleKeyFactories keyFactories = ruleKeyFactories.apply(rule.getProjectFilesystem());
-
-      // Setup a future to calculate this rule key once the dependencies have been calculated.
-      ruleKey = Futures.transform(
-          depKeys,
-          (List<RuleKey> input) -> {
-            try (BuildRuleEvent.Scope scope =
-                     BuildRuleEvent.ruleKeyCalculationScope(
-                         context.getEventBus(),
-                         rule,
-                         buildRuleDurationTracker,
-                         keyFactories.getDefaultRuleKeyFactory())) {
-              return keyFactories.getDefaultRuleKeyFactory().build(rule);
-            }
-          },
-          serviceByAdjustingDefaultWeightsTo(RULE_KEY_COMPUTATION_RESOURCE_AMOUNTS));
-
-      // Record the rule key future.
-      ruleKeys.put(rule.getBuildTarget(), ruleKey);
-    }
-
-    return ruleKey;
-  }
-
   @Override
   public ListenableFuture<BuildResult> build(
       BuildEngineBuildContext buildContext,
@@ -1292,6 +1418,9 @@ public class CachingBuildEngine implements BuildEngine {
     // to make sure we wait for these before calling yielding the final build result.
     final ConcurrentLinkedQueue<ListenableFuture<Void>> asyncCallbacks =
         new ConcurrentLinkedQueue<>();
+    if (schedulingMode == SchedulingMode.CRITICAL_PATH) {
+      computeRemainingCriticalPathsIfNeeded(buildContext.getBuildContext().getActionGraph());
+    }
     ListenableFuture<BuildResult> resultFuture = MoreFutures.chainExceptions(
         registerTopLevelRule(rule, buildContext.getEventBus()),
         getBuildRuleResultWithRuntimeDeps(rule, buildContext, executionContext, asyncCallbacks),
@@ -1315,116 +1444,193 @@ public class CachingBuildEngine implements BuildEngine {
       return CacheResult.ignored();
     }
 
-    // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
-    // that we are creating a zip-based FileSystem.
-    final LazyPath lazyZipPath = new LazyPath() {
-      @Override
-      protected Path create() throws IOException {
-        return Files.createTempFile(
-            "buck_artifact_" + MoreFiles.sanitize(rule.getBuildTarget().getShortName()),
-            ".zip");
-      }
-    };
-
-    // TODO(bolinfest): Change ArtifactCache.fetch() so that it returns a File instead of takes one.
-    // Then we could download directly from the remote cache into the on-disk cache and unzip it
-    // from there.
-    CacheResult cacheResult = fetchArtifactForBuildable(ruleKey, lazyZipPath, artifactCache);
-
-    return unzipArtifactFromCacheResult(
-        rule,
-        ruleKey,
-        lazyZipPath,
-        buildContext,
-        filesystem,
-        cacheResult);
+    ArtifactUnpacker unpacker = new ArtifactUnpacker(rule, ruleKey, filesystem, buildContext);
+    return unpacker.finish(
+        fetchArtifactForBuildable(ruleKey, unpacker.getFetchRequest(), artifactCache));
   }
 
-  private CacheResult unzipArtifactFromCacheResult(
-      BuildRule rule,
-      RuleKey ruleKey,
-      LazyPath lazyZipPath,
-      BuildEngineBuildContext buildContext,
-      ProjectFilesystem filesystem,
-      CacheResult cacheResult) {
+  /**
+   * Like {@link #tryToFetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem}, but the
+   * fetch goes through {@link #artifactFetcher} so it may be batched with other rules' fetches.
+   */
+  private ListenableFuture<CacheResult>
+      fetchArtifactFromBuildCacheAndOverlayOnTopOfProjectFilesystem(
+          final BuildRule rule,
+          final RuleKey ruleKey,
+          final ArtifactCache artifactCache,
+          final ProjectFilesystem filesystem,
+          final BuildEngineBuildContext buildContext) {
 
-    // We only unpack artifacts from hits.
-    if (!cacheResult.getType().isSuccess()) {
-      LOG.debug("Cache miss for '%s' with rulekey '%s'", rule, ruleKey);
-      return cacheResult;
+    if (!rule.isCacheable()) {
+      return Futures.immediateFuture(CacheResult.ignored());
     }
-    Preconditions.checkArgument(cacheResult.getType() == CacheResultType.HIT);
-    LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
-
-    // It should be fine to get the path straight away, since cache already did it's job.
-    Path zipPath = lazyZipPath.getUnchecked();
-
-    // We unzip the file in the root of the project directory.
-    // Ideally, the following would work:
-    //
-    // Path pathToZip = Paths.get(zipPath.getAbsolutePath());
-    // FileSystem fs = FileSystems.newFileSystem(pathToZip, /* loader */ null);
-    // Path root = Iterables.getOnlyElement(fs.getRootDirectories());
-    // MoreFiles.copyRecursively(root, projectRoot);
-    //
-    // Unfortunately, this does not appear to work, in practice, because MoreFiles fails when trying
-    // to resolve a Path for a zip entry against a file Path on disk.
-    ArtifactCompressionEvent.Started started = ArtifactCompressionEvent.started(
-        ArtifactCompressionEvent.Operation.DECOMPRESS,
-        ImmutableSet.of(ruleKey));
-    buildContext.getEventBus().post(started);
-    try {
 
-      // First, clear out the pre-existing metadata directory.  We have to do this *before*
-      // unpacking the zipped artifact, as it includes files that will be stored in the metadata
-      // directory.
-      Path metadataDir =
+    ArtifactUnpacker unpacker = new ArtifactUnpacker(rule, ruleKey, filesystem, buildContext);
+    return Futures.transform(
+        artifactFetcher.fetch(artifactCache, ruleKey, unpacker.getFetchRequest()),
+        unpacker::finish,
+        serviceByAdjustingDefaultWeightsTo(CACHE_CHECK_RESOURCE_AMOUNTS));
+  }
+
+  /**
+   * Unpacks an artifact into the project filesystem as it's fetched from the cache, rather than
+   * after it has been downloaded to a temporary zip file.  Caches which can't stream artifacts
+   * still fetch them to a temporary file first, which this then unpacks from.
+   */
+  private static class ArtifactUnpacker implements ArtifactConsumer {
+    private final BuildRule rule;
+    private final RuleKey ruleKey;
+    private final ProjectFilesystem filesystem;
+    private final BuildEngineBuildContext buildContext;
+    private final LazyPath lazyZipPath;
+    private final Path metadataDir;
+    // Everything written while unpacking, so that it can all be thrown away again if the artifact
+    // turns out to be broken.
+    private final Set<Path> unpackedPaths = Sets.newConcurrentHashSet();
+    private volatile boolean unpackStarted = false;
+    @Nullable
+    private volatile IOException unpackFailure = null;
+
+    private ArtifactUnpacker(
+        BuildRule rule,
+        RuleKey ruleKey,
+        ProjectFilesystem filesystem,
+        BuildEngineBuildContext buildContext) {
+      this.rule = rule;
+      this.ruleKey = ruleKey;
+      this.filesystem = filesystem;
+      this.buildContext = buildContext;
+      this.metadataDir =
           BuildInfo.getPathToMetadataDirectory(
               rule.getBuildTarget(),
               rule.getProjectFilesystem());
-      rule.getProjectFilesystem().deleteRecursivelyIfExists(metadataDir);
+      // Create a temp file whose extension must be ".zip" for Filesystems.newFileSystem() to infer
+      // that we are creating a zip-based FileSystem.
+      this.lazyZipPath = new LazyPath() {
+        @Override
+        protected Path create() throws IOException {
+          return Files.createTempFile(
+              "buck_artifact_" + MoreFiles.sanitize(rule.getBuildTarget().getShortName()),
+              ".zip");
+        }
+      };
+    }
 
-      Unzip.extractZipFile(
-          zipPath.toAbsolutePath(),
-          filesystem,
-          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    public FetchRequest getFetchRequest() {
+      return FetchRequest.of(lazyZipPath, Optional.of(this));
+    }
 
-      // We only delete the ZIP file when it has been unzipped successfully. Otherwise, we leave it
-      // around for debugging purposes.
-      Files.delete(zipPath);
+    @Override
+    public void consume(InputStream artifact) throws IOException {
+      // If the fetch fell back to another cache, we're starting over.
+      if (unpackStarted) {
+        deleteUnpackedOutputs();
+      }
+      unpackStarted = true;
+      unpackFailure = null;
+      ArtifactCompressionEvent.Started started = ArtifactCompressionEvent.started(
+          ArtifactCompressionEvent.Operation.DECOMPRESS,
+          ImmutableSet.of(ruleKey));
+      buildContext.getEventBus().post(started);
+      try {
+        // First, clear out the pre-existing metadata directory.  We have to do this *before*
+        // unpacking the zipped artifact, as it includes files that will be stored in the metadata
+        // directory.
+        rule.getProjectFilesystem().deleteRecursivelyIfExists(metadataDir);
+
+        // We unzip the file in the root of the project directory.
+        Unzip.extractZipStream(
+            ArtifactCompression.openZip(artifact),
+            filesystem,
+            Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES,
+            unpackedPaths::add);
+      } catch (IOException e) {
+        unpackFailure = e;
+        throw e;
+      } finally {
+        buildContext.getEventBus().post(ArtifactCompressionEvent.finished(started));
+      }
+    }
+
+    /**
+     * Completes the unpacking of the artifact once the fetch has finished.
+     *
+     * @return the result of the fetch, or a miss if the artifact couldn't be unpacked.
+     */
+    public CacheResult finish(CacheResult cacheResult) {
+      Optional<Path> zipPath = lazyZipPath.getIfCreated();
+      IOException failure = unpackFailure;
+      try {
+        // Artifacts are only trustworthy once the cache has verified them, which it only does
+        // after they've been streamed to us, so throw away anything we unpacked from a failed
+        // fetch.  Otherwise we'd leave half-extracted outputs which look like they're built.
+        if (!cacheResult.getType().isSuccess() || failure != null) {
+          if (unpackStarted) {
+            deleteUnpackedOutputs();
+          }
+          if (failure != null) {
+            throw failure;
+          }
+          LOG.debug("Cache miss for '%s' with rulekey '%s'", rule, ruleKey);
+          return cacheResult;
+        }
+        Preconditions.checkArgument(cacheResult.getType() == CacheResultType.HIT);
+        LOG.debug("Fetched '%s' from cache with rulekey '%s'", rule, ruleKey);
+
+        // Also write out the build metadata.
+        for (Map.Entry<String, String> ent : cacheResult.getMetadata().entrySet()) {
+          Path dest = metadataDir.resolve(ent.getKey());
+          filesystem.createParentDirs(dest);
+          filesystem.writeContentsToPath(ent.getValue(), dest);
+        }
 
-      // Also write out the build metadata.
-      for (Map.Entry<String, String> ent : cacheResult.getMetadata().entrySet()) {
-        Path dest = metadataDir.resolve(ent.getKey());
-        filesystem.createParentDirs(dest);
-        filesystem.writeContentsToPath(ent.getValue(), dest);
+        // We only delete the ZIP file, if the cache needed one, when it has been unzipped
+        // successfully. Otherwise, we leave it around for debugging purposes.
+        if (zipPath.isPresent()) {
+          Files.deleteIfExists(zipPath.get());
+        }
+      } catch (IOException e) {
+        // In the wild, we have seen some inexplicable failures during this step. For now, we try
+        // to give the user as much information as we can to debug the issue, but return
+        // CacheResult.MISS so that Buck will fall back on doing a local build.
+        buildContext.getEventBus().post(ConsoleEvent.warning(
+                "Failed to unzip the artifact for %s at %s.\n" +
+                    "The rule will be built locally, " +
+                    "but here is the stacktrace of the failed unzip call:\n" +
+                    rule.getBuildTarget(),
+                zipPath.map(Path::toAbsolutePath).map(Object::toString).orElse("<streamed>"),
+                Throwables.getStackTraceAsString(e)));
+        return CacheResult.miss();
       }
 
-    } catch (IOException e) {
-      // In the wild, we have seen some inexplicable failures during this step. For now, we try to
-      // give the user as much information as we can to debug the issue, but return CacheResult.MISS
-      // so that Buck will fall back on doing a local build.
-      buildContext.getEventBus().post(ConsoleEvent.warning(
-              "Failed to unzip the artifact for %s at %s.\n" +
-                  "The rule will be built locally, " +
-                  "but here is the stacktrace of the failed unzip call:\n" +
-                  rule.getBuildTarget(),
-              zipPath.toAbsolutePath(),
-              Throwables.getStackTraceAsString(e)));
-      return CacheResult.miss();
-    } finally {
-      buildContext.getEventBus().post(ArtifactCompressionEvent.finished(started));
+      return cacheResult;
     }
 
-    return cacheResult;
+    private void deleteUnpackedOutputs() throws IOException {
+      rule.getProjectFilesystem().deleteRecursivelyIfExists(metadataDir);
+      for (Path path : unpackedPaths) {
+        filesystem.deleteRecursivelyIfExists(path);
+      }
+      unpackedPaths.clear();
+    }
   }
 
   private CacheResult fetchArtifactForBuildable(
       final RuleKey ruleKey,
       final LazyPath lazyZipPath,
       final ArtifactCache artifactCache) {
+    return fetchArtifactForBuildable(
+        ruleKey,
+        FetchRequest.of(lazyZipPath, Optional.empty()),
+        artifactCache);
+  }
+
+  private CacheResult fetchArtifactForBuildable(
+      final RuleKey ruleKey,
+      final FetchRequest fetchRequest,
+      final ArtifactCache artifactCache) {
     try {
-      return artifactCache.fetch(ruleKey, lazyZipPath);
+      return fetchRequest.fetchFrom(artifactCache, ruleKey);
     } catch (RuntimeException t) {
       LOG.error(t, "Buck internal error when downloading from the cache, will build locally.");
       return CacheResult.error("unknown", t.getMessage());
@@ -1644,12 +1850,8 @@ public class CachingBuildEngine implements BuildEngine {
       rule.getProjectFilesystem().createParentDirs(manifestPath);
     }
 
-    // If the manifest is larger than the max size, just truncate it.  It might be nice to support
-    // some sort of LRU management here to avoid evicting everything, but it'll take some care to do
-    // this efficiently and it's not clear how much benefit this will give us.
-    if (manifest.size() >= maxDepFileCacheEntries) {
-      manifest = new Manifest();
-    }
+    // If the manifest is at its max size, evict the oldest entries to make room for the new one.
+    manifest.removeOldestEntries((int) Math.max(0, maxDepFileCacheEntries - 1));
 
     // Update the manifest with the new output rule key.
     manifest.addEntry(
@@ -1901,6 +2103,21 @@ public class CachingBuildEngine implements BuildEngine {
     CACHE,
   }
 
+  /**
+   * The order in which to start building the rules which are ready to be built.
+   */
+  public enum SchedulingMode {
+
+    // Visit the deps of each rule in a random order, and build rules in the order they become
+    // ready, which spreads the work out without knowing anything about it.
+    SHUFFLE,
+
+    // Build first the rules with the longest chain of rules left to build after them, according to
+    // how long the rules took to build in previous builds, so that long chains don't end up being
+    // built on their own at the end of the build.
+    CRITICAL_PATH,
+  }
+
   // Wrap an async function in rule resume/suspend events.
   private <F, T> AsyncFunction<F, T> ruleAsyncFunction(
       final BuildRule rule,
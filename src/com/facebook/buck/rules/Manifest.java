@@ -37,6 +37,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,7 +51,7 @@ public class Manifest {
   private final Map<String, Integer> headerIndices;
 
   private final List<Pair<Integer, HashCode>> hashes;
-  private final Map<HashCode, Integer> hashIndices;
+  private final Map<Pair<Integer, HashCode>, Integer> hashIndices;
 
   private final List<Pair<RuleKey, int[]>> entries;
 
@@ -88,8 +89,9 @@ public class Manifest {
     for (int index = 0; index < numberOfHashes; index++) {
       int headerIndex = input.readInt();
       HashCode headerHash = HashCode.fromString(input.readUTF());
-      hashes.add(new Pair<>(headerIndex, headerHash));
-      hashIndices.put(headerHash, index);
+      Pair<Integer, HashCode> hash = new Pair<>(headerIndex, headerHash);
+      hashes.add(hash);
+      hashIndices.put(hash, index);
     }
 
     int numberOfEntries = input.readInt();
@@ -113,11 +115,14 @@ public class Manifest {
       headerIndices.put(header, headerIndex);
     }
 
-    Integer hashIndex = hashIndices.get(hash);
+    // Different headers may well have the same contents, so hashes are only shared by entries
+    // for the same header.
+    Pair<Integer, HashCode> headerHash = new Pair<>(headerIndex, hash);
+    Integer hashIndex = hashIndices.get(headerHash);
     if (hashIndex == null) {
-      hashes.add(new Pair<>(headerIndex, hash));
+      hashes.add(headerHash);
       hashIndex = hashes.size() - 1;
-      hashIndices.put(hash, hashIndex);
+      hashIndices.put(headerHash, hashIndex);
     }
 
     return hashIndex;
@@ -150,47 +155,82 @@ public class Manifest {
     }
   }
 
-  private boolean hashesMatch(
+  private static Optional<HashCode> hashHeader(
       FileHashCache fileHashCache,
       SourcePathResolver resolver,
       ImmutableListMultimap<String, SourcePath> universe,
-      int[] hashIndices)
+      String header)
       throws IOException {
-    for (int hashIndex : hashIndices) {
-      Pair<Integer, HashCode> hashEntry = hashes.get(hashIndex);
-      String header = headers.get(hashEntry.getFirst());
-      ImmutableList<SourcePath> candidates = universe.get(header);
-      if (candidates.isEmpty()) {
-        return false;
-      }
-      HashCode onDiskHeaderHash;
-      try {
-        onDiskHeaderHash = hashSourcePathGroup(fileHashCache, resolver, candidates);
-      } catch (NoSuchFileException e) {
-        return false;
-      }
-      HashCode headerHash = hashEntry.getSecond();
-      if (!headerHash.equals(onDiskHeaderHash)) {
-        return false;
-      }
+    ImmutableList<SourcePath> candidates = universe.get(header);
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(hashSourcePathGroup(fileHashCache, resolver, candidates));
+    } catch (NoSuchFileException e) {
+      return Optional.empty();
     }
-    return true;
   }
 
   /**
    * @return the {@link RuleKey} of the entry that matches the on disk hashes provided by
-   *     {@code fileHashCache}.
+   *     {@code fileHashCache}.  Each header is hashed at most once, and only if an entry which
+   *     hasn't been ruled out yet depends on it.
    */
   public Optional<RuleKey> lookup(
       FileHashCache fileHashCache,
       SourcePathResolver resolver,
       ImmutableSet<SourcePath> universe)
       throws IOException {
+    // Index which entries depend on each header, and on each of its hashes, so that once a header
+    // has been hashed all the entries expecting something else can be ruled out at once.
+    List<BitSet> entriesByHeader = new ArrayList<>(headers.size());
+    for (int headerIndex = 0; headerIndex < headers.size(); headerIndex++) {
+      entriesByHeader.add(new BitSet());
+    }
+    List<BitSet> entriesByHash = new ArrayList<>(hashes.size());
+    for (int hashIndex = 0; hashIndex < hashes.size(); hashIndex++) {
+      entriesByHash.add(new BitSet());
+    }
+    for (int entryIndex = 0; entryIndex < entries.size(); entryIndex++) {
+      for (int hashIndex : entries.get(entryIndex).getSecond()) {
+        entriesByHash.get(hashIndex).set(entryIndex);
+        entriesByHeader.get(hashes.get(hashIndex).getFirst()).set(entryIndex);
+      }
+    }
+
     ImmutableListMultimap<String, SourcePath> mappedUniverse =
         Multimaps.index(universe, sourcePathToManifestHeaderFunction(resolver));
-    for (Pair<RuleKey, int[]> entry : entries) {
-      if (hashesMatch(fileHashCache, resolver, mappedUniverse, entry.getSecond())) {
-        return Optional.of(entry.getFirst());
+    BitSet candidates = new BitSet(entries.size());
+    candidates.set(0, entries.size());
+    BitSet hashedHeaders = new BitSet(headers.size());
+    for (int entryIndex = candidates.nextSetBit(0);
+         entryIndex >= 0;
+         entryIndex = candidates.nextSetBit(entryIndex + 1)) {
+      for (int hashIndex : entries.get(entryIndex).getSecond()) {
+        int headerIndex = hashes.get(hashIndex).getFirst();
+        if (hashedHeaders.get(headerIndex)) {
+          // The entry is still a candidate, so it expects the hash the header has on disk.
+          continue;
+        }
+        hashedHeaders.set(headerIndex);
+        BitSet mismatches = (BitSet) entriesByHeader.get(headerIndex).clone();
+        Optional<HashCode> onDiskHeaderHash =
+            hashHeader(fileHashCache, resolver, mappedUniverse, headers.get(headerIndex));
+        if (onDiskHeaderHash.isPresent()) {
+          Integer onDiskHashIndex =
+              hashIndices.get(new Pair<>(headerIndex, onDiskHeaderHash.get()));
+          if (onDiskHashIndex != null) {
+            mismatches.andNot(entriesByHash.get(onDiskHashIndex));
+          }
+        }
+        candidates.andNot(mismatches);
+        if (!candidates.get(entryIndex)) {
+          break;
+        }
+      }
+      if (candidates.get(entryIndex)) {
+        return Optional.of(entries.get(entryIndex).getFirst());
       }
     }
     return Optional.empty();
@@ -272,6 +312,33 @@ public class Manifest {
     return entries.size();
   }
 
+  /**
+   * Removes the oldest entries until at most {@code maxEntries} are left, along with the headers
+   * and hashes which only they used.
+   */
+  public void removeOldestEntries(int maxEntries) {
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    List<String> oldHeaders = new ArrayList<>(headers);
+    List<Pair<Integer, HashCode>> oldHashes = new ArrayList<>(hashes);
+    List<Pair<RuleKey, int[]>> keptEntries =
+        new ArrayList<>(entries.subList(entries.size() - maxEntries, entries.size()));
+    headers.clear();
+    headerIndices.clear();
+    hashes.clear();
+    hashIndices.clear();
+    entries.clear();
+    for (Pair<RuleKey, int[]> entry : keptEntries) {
+      int[] entryHashIndices = new int[entry.getSecond().length];
+      for (int index = 0; index < entryHashIndices.length; index++) {
+        Pair<Integer, HashCode> hash = oldHashes.get(entry.getSecond()[index]);
+        entryHashIndices[index] = addHash(oldHeaders.get(hash.getFirst()), hash.getSecond());
+      }
+      entries.add(new Pair<>(entry.getFirst(), entryHashIndices));
+    }
+  }
+
   @VisibleForTesting
   ImmutableMap<RuleKey, ImmutableMap<String, HashCode>> toMap() {
     ImmutableMap.Builder<RuleKey, ImmutableMap<String, HashCode>> builder = ImmutableMap.builder();
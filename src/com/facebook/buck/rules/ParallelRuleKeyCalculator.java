@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.rules.keys.RuleKeyFactories;
+import com.facebook.buck.rules.keys.RuleKeyFactory;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Schedules default {@link RuleKey} calculation for a graph of {@link BuildRule}s.
+ *
+ * Each {@link BuildTarget} owns exactly one slot in a concurrent map.  The first caller to install
+ * a slot for a target becomes responsible for populating it, and every other caller simply shares
+ * the slot's future, so no global lock is needed to dedupe work.
+ *
+ * Keys are computed bottom-up off a work-list: once a rule's deps are known, it counts the deps
+ * whose keys are still pending, and the last of them to finish pushes the rule onto
+ * {@code service}.  Nothing chains futures per dep or recurses down the graph, so scheduling a
+ * deep graph uses constant stack on every thread.
+ */
+public class ParallelRuleKeyCalculator {
+
+  private final ListeningExecutorService service;
+  private final Function<? super ProjectFilesystem, RuleKeyFactories> ruleKeyFactories;
+  private final RuleDepsCache ruleDeps;
+  private final BuildRuleDurationTracker buildRuleDurationTracker;
+
+  private final ConcurrentMap<BuildTarget, ListenableFuture<RuleKey>> ruleKeys =
+      Maps.newConcurrentMap();
+
+  public ParallelRuleKeyCalculator(
+      ListeningExecutorService service,
+      Function<? super ProjectFilesystem, RuleKeyFactories> ruleKeyFactories,
+      RuleDepsCache ruleDeps,
+      BuildRuleDurationTracker buildRuleDurationTracker) {
+    this.service = service;
+    this.ruleKeyFactories = ruleKeyFactories;
+    this.ruleDeps = ruleDeps;
+    this.buildRuleDurationTracker = buildRuleDurationTracker;
+  }
+
+  /**
+   * @return the future for the rule key of {@code rule}, scheduling its calculation (and that of
+   *     any of its transitive deps) if that has not happened yet.
+   */
+  public ListenableFuture<RuleKey> calculate(BuckEventBus eventBus, BuildRule rule) {
+    BuildTarget target = rule.getBuildTarget();
+    ListenableFuture<RuleKey> existing = ruleKeys.get(target);
+    if (existing != null) {
+      return existing;
+    }
+
+    // Race to claim the slot for this target.  Only the winner schedules any work.
+    SettableFuture<RuleKey> slot = SettableFuture.create();
+    existing = ruleKeys.putIfAbsent(target, slot);
+    if (existing != null) {
+      return existing;
+    }
+
+    // Whatever goes wrong from here on must fail the slot, or everyone sharing it would hang.
+    try {
+      ListenableFuture<ImmutableSortedSet<BuildRule>> deps = ruleDeps.get(rule);
+      deps.addListener(() -> waitForDeps(eventBus, rule, deps, slot), service);
+    } catch (Throwable t) {
+      slot.setException(t);
+    }
+    return slot;
+  }
+
+  /**
+   * @return the already scheduled rule key future for {@code target}, or {@code null} if
+   *     {@link #calculate} was never called for it.
+   */
+  @Nullable
+  public ListenableFuture<RuleKey> getIfPresent(BuildTarget target) {
+    return ruleKeys.get(target);
+  }
+
+  private void waitForDeps(
+      BuckEventBus eventBus,
+      BuildRule rule,
+      ListenableFuture<ImmutableSortedSet<BuildRule>> depsFuture,
+      SettableFuture<RuleKey> slot) {
+    try {
+      ImmutableSortedSet<BuildRule> deps = Futures.getDone(depsFuture);
+      // Hold one extra count while registering, so that the rule can't be scheduled before every
+      // dep has been seen.
+      AtomicInteger pendingDeps = new AtomicInteger(deps.size() + 1);
+      for (BuildRule dep : deps) {
+        ListenableFuture<RuleKey> depKey = calculate(eventBus, dep);
+        depKey.addListener(
+            () -> onDepFinished(eventBus, rule, depKey, pendingDeps, slot),
+            MoreExecutors.directExecutor());
+      }
+      if (pendingDeps.decrementAndGet() == 0) {
+        computeKey(eventBus, rule, slot);
+      }
+    } catch (Throwable t) {
+      slot.setException(t);
+    }
+  }
+
+  private void onDepFinished(
+      BuckEventBus eventBus,
+      BuildRule rule,
+      ListenableFuture<RuleKey> depKey,
+      AtomicInteger pendingDeps,
+      SettableFuture<RuleKey> slot) {
+    try {
+      Futures.getDone(depKey);
+      if (pendingDeps.decrementAndGet() == 0) {
+        service.execute(() -> computeKey(eventBus, rule, slot));
+      }
+    } catch (ExecutionException e) {
+      slot.setException(e.getCause());
+    } catch (Throwable t) {
+      slot.setException(t);
+    }
+  }
+
+  private void computeKey(BuckEventBus eventBus, BuildRule rule, SettableFuture<RuleKey> slot) {
+    try {
+      RuleKeyFactory<RuleKey> keyFactory =
+          ruleKeyFactories.apply(rule.getProjectFilesystem()).getDefaultRuleKeyFactory();
+      RuleKey key;
+      try (BuildRuleEvent.Scope scope =
+               BuildRuleEvent.ruleKeyCalculationScope(
+                   eventBus,
+                   rule,
+                   buildRuleDurationTracker,
+                   keyFactory)) {
+        key = keyFactory.build(rule);
+      }
+      slot.set(key);
+    } catch (Throwable t) {
+      slot.setException(t);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+/**
+ * Marks a {@link Description} whose build rules only use the {@link BuildRuleResolver} they were
+ * created with while they're being created, or to look up rules which already existed by then.
+ * Incremental action graphs can move such rules over to a new resolver as they are, whereas rules
+ * which require more rules later on, such as flavors of themselves or the rules of macros, would
+ * keep adding them to the old one.
+ */
+public interface ReusableRulesDescription {
+}
@@ -40,6 +40,7 @@ import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
@@ -60,6 +61,7 @@ public class TargetGraphHashing {
   private final FileHashLoader fileHashLoader;
   private final Iterable<TargetNode<?, ?>> roots;
   private int numThreads = 1;
+  private Optional<TargetNodeHashCache> hashCache = Optional.empty();
 
   public TargetGraphHashing(
       final BuckEventBus eventBus,
@@ -116,6 +118,15 @@ public class TargetGraphHashing {
     return this;
   }
 
+  /**
+   * Reuses the hashes of unchanged nodes from {@code hashCache}, and stores the ones computed.  The
+   * cache must only be used with the same {@link FileHashLoader} every time.
+   */
+  public TargetGraphHashing setHashCache(TargetNodeHashCache hashCache) {
+    this.hashCache = Optional.of(hashCache);
+    return this;
+  }
+
   private class HashNodeTask extends RecursiveTask<HashCode> {
     private final TargetNode<?, ?> node;
     private Map<BuildTarget, ForkJoinTask<HashCode>> buildTargetHashes;
@@ -129,12 +140,37 @@ public class TargetGraphHashing {
 
     @Override
     protected HashCode compute() {
+      ImmutableMap<BuildTarget, HashCode> dependencyHashes = getDependencyHashes();
+      if (hashCache.isPresent()) {
+        Optional<HashCode> cachedHash = hashCache.get().lookup(node, dependencyHashes);
+        if (cachedHash.isPresent()) {
+          LOG.verbose("Reusing hash for target %s: %s", node.getBuildTarget(), cachedHash.get());
+          return cachedHash.get();
+        }
+      }
+      HashCode result;
       try (SimplePerfEvent.Scope scope = getHashNodeEventScope(eventBus, node.getBuildTarget())) {
-        return hashNode();
+        result = hashNode(dependencyHashes);
+      }
+      if (hashCache.isPresent()) {
+        hashCache.get().put(node, dependencyHashes, result);
+      }
+      return result;
+    }
+
+    private ImmutableMap<BuildTarget, HashCode> getDependencyHashes() {
+      ImmutableMap.Builder<BuildTarget, HashCode> dependencyHashes = ImmutableMap.builder();
+      for (BuildTarget dependency : node.getDeps()) {
+        ForkJoinTask<HashCode> dependencyHashCodeTask = buildTargetHashes.get(dependency);
+        Preconditions.checkState(dependencyHashCodeTask != null);
+        HashCode dependencyHashCode = dependencyHashCodeTask.join();
+        Preconditions.checkState(dependencyHashCode != null);
+        dependencyHashes.put(dependency, dependencyHashCode);
       }
+      return dependencyHashes.build();
     }
 
-    private HashCode hashNode() {
+    private HashCode hashNode(ImmutableMap<BuildTarget, HashCode> dependencyHashes) {
       Hasher hasher = Hashing.sha1().newHasher();
       LOG.verbose("Hashing node %s", node);
       // Hash the node's build target and rules.
@@ -159,11 +195,9 @@ public class TargetGraphHashing {
       }
 
       // hash each dependency's build target and that build target's own hash.
-      for (BuildTarget dependency : node.getDeps()) {
-        ForkJoinTask<HashCode> dependencyHashCodeTask = buildTargetHashes.get(dependency);
-        Preconditions.checkState(dependencyHashCodeTask != null);
-        HashCode dependencyHashCode = dependencyHashCodeTask.join();
-        Preconditions.checkState(dependencyHashCode != null);
+      for (Map.Entry<BuildTarget, HashCode> entry : dependencyHashes.entrySet()) {
+        BuildTarget dependency = entry.getKey();
+        HashCode dependencyHashCode = entry.getValue();
         LOG.verbose("Node %s: adding dependency %s (%s)", node, dependency, dependencyHashCode);
         StringHashing.hashStringAndLength(hasher, dependency.toString());
         hasher.putBytes(dependencyHashCode.asBytes());
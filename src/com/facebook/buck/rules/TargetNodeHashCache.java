@@ -0,0 +1,125 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import com.facebook.buck.io.WatchEvents;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuildTarget;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.hash.HashCode;
+
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Keeps the hashes computed by {@link TargetGraphHashing} between the commands run by the daemon,
+ * so that only the target nodes which changed, and the nodes depending on them, are rehashed.
+ *
+ * A cached hash is reused as long as the node's rule hasn't changed, none of its inputs has been
+ * touched according to the watch events seen since, and all of its dependencies hash to the same
+ * values as before.  Since the graph is hashed bottom up, the last check is what invalidates the
+ * reverse dependencies of changed nodes.
+ */
+public class TargetNodeHashCache {
+  private static final Logger LOG = Logger.get(TargetNodeHashCache.class);
+
+  private final ConcurrentMap<BuildTarget, CachedHash> hashes = new ConcurrentHashMap<>();
+
+  // The inputs of the cached nodes, relative to their cells, like the paths in watch events.
+  @GuardedBy("this")
+  private final SetMultimap<Path, BuildTarget> targetsByInput = HashMultimap.create();
+
+  /**
+   * @param dependencyHashes the current hashes of the node's dependencies.
+   * @return the hash computed for {@code node} the last time, if it's still valid.
+   */
+  Optional<HashCode> lookup(
+      TargetNode<?, ?> node,
+      ImmutableMap<BuildTarget, HashCode> dependencyHashes) {
+    CachedHash cachedHash = hashes.get(node.getBuildTarget());
+    if (cachedHash == null ||
+        !cachedHash.rawInputsHashCode.equals(node.getRawInputsHashCode()) ||
+        !cachedHash.dependencyHashes.equals(dependencyHashes)) {
+      return Optional.empty();
+    }
+    return Optional.of(cachedHash.hashCode);
+  }
+
+  void put(
+      TargetNode<?, ?> node,
+      ImmutableMap<BuildTarget, HashCode> dependencyHashes,
+      HashCode hashCode) {
+    synchronized (this) {
+      for (Path input : node.getInputs()) {
+        targetsByInput.put(input, node.getBuildTarget());
+      }
+    }
+    hashes.put(
+        node.getBuildTarget(),
+        new CachedHash(node.getRawInputsHashCode(), dependencyHashes, hashCode));
+  }
+
+  @Subscribe
+  public void invalidateBasedOn(WatchEvent<?> event) {
+    if (!WatchEvents.isPathChangeEvent(event)) {
+      LOG.debug("Invalidating all target hashes due to watch event %s.", event);
+      invalidateAll();
+      return;
+    }
+
+    // Inputs can be directories, so changes to any file beneath them count as well.
+    int invalidated = 0;
+    synchronized (this) {
+      for (Path path = (Path) event.context(); path != null; path = path.getParent()) {
+        for (BuildTarget target : targetsByInput.removeAll(path)) {
+          if (hashes.remove(target) != null) {
+            invalidated++;
+          }
+        }
+      }
+    }
+    LOG.verbose("Invalidated %d target hashes due to watch event %s.", invalidated, event);
+  }
+
+  public synchronized void invalidateAll() {
+    targetsByInput.clear();
+    hashes.clear();
+  }
+
+  private static class CachedHash {
+    private final HashCode rawInputsHashCode;
+    private final ImmutableMap<BuildTarget, HashCode> dependencyHashes;
+    private final HashCode hashCode;
+
+    public CachedHash(
+        HashCode rawInputsHashCode,
+        ImmutableMap<BuildTarget, HashCode> dependencyHashes,
+        HashCode hashCode) {
+      this.rawInputsHashCode = rawInputsHashCode;
+      this.dependencyHashes = dependencyHashes;
+      this.hashCode = hashCode;
+    }
+  }
+}
@@ -28,15 +28,23 @@ import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
 
 import java.nio.file.Path;
 import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -44,6 +52,8 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A {@link com.facebook.buck.rules.RuleKey} cache used by a {@link RuleKeyFactory}.  Inputs and
  * dependencies of cached rule keys are tracked to allow for invalidations based on changed inputs.
@@ -94,6 +104,13 @@ public class DefaultRuleKeyCache<V> implements RuleKeyCache<V> {
   private final ConcurrentMap<RuleKeyInput, Collection<Object>> inputsIndex =
       new ConcurrentHashMap<>();
 
+  /**
+   * An optional source of previously calculated results for build rules (e.g. loaded from disk),
+   * which is consulted before falling back to calculating a rule's key from scratch.
+   */
+  @Nullable
+  private volatile Function<? super BuildRule, Optional<RuleKeyResult<V>>> persistedResults = null;
+
   // Stats.
   private final LongAdder lookupCount = new LongAdder();
   private final LongAdder missCount = new LongAdder();
@@ -117,7 +134,7 @@ public class DefaultRuleKeyCache<V> implements RuleKeyCache<V> {
     // Record start time for stats.
     long start = clock.nanoTime();
 
-    RuleKeyResult<V> result = create.apply(node);
+    RuleKeyResult<V> result = loadPersistedResult(node).orElseGet(() -> create.apply(node));
     for (Object dependency : result.deps) {
       dependentsIndex
           .computeIfAbsent(new IdentityWrapper<>(dependency), NEW_COLLECTION)
@@ -137,6 +154,44 @@ public class DefaultRuleKeyCache<V> implements RuleKeyCache<V> {
     return result.result;
   }
 
+  private Optional<RuleKeyResult<V>> loadPersistedResult(Object node) {
+    Function<? super BuildRule, Optional<RuleKeyResult<V>>> persistedResults =
+        this.persistedResults;
+    if (persistedResults == null || !(node instanceof BuildRule)) {
+      return Optional.empty();
+    }
+    Optional<RuleKeyResult<V>> result = persistedResults.apply((BuildRule) node);
+    LOG.verbose("persisted result for %s: %s", node, result.isPresent() ? "hit" : "miss");
+    if (!result.isPresent()) {
+      return result;
+    }
+
+    // A persisted result skips the normal calculation of its deps, so load those into the cache
+    // explicitly, otherwise invalidations of their inputs would never reach this node.
+    for (Object dep : result.get().deps) {
+      if (!isCachedNode(dep) &&
+          (!(dep instanceof BuildRule) ||
+              !persistedResults.apply((BuildRule) dep).isPresent())) {
+        return Optional.empty();
+      }
+    }
+    for (Object dep : result.get().deps) {
+      if (dep instanceof BuildRule) {
+        getNode((BuildRule) dep, rule -> persistedResults.apply(rule).get());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Install a source of previously calculated results which the cache should try before computing
+   * rule keys for build rules it has not yet seen.  Pass {@code null} to stop using it.
+   */
+  public void setPersistedResults(
+      @Nullable Function<? super BuildRule, Optional<RuleKeyResult<V>>> persistedResults) {
+    this.persistedResults = persistedResults;
+  }
+
   private <K> V getNode(K node, Function<K, RuleKeyResult<V>> create) {
     lookupCount.increment();
     return cache
@@ -252,6 +307,7 @@ public class DefaultRuleKeyCache<V> implements RuleKeyCache<V> {
    */
   @Override
   public void invalidateAll() {
+    persistedResults = null;
     cache.clear();
     dependentsIndex.clear();
     inputsIndex.clear();
@@ -284,6 +340,65 @@ public class DefaultRuleKeyCache<V> implements RuleKeyCache<V> {
     return builder.build();
   }
 
+  /**
+   * @return every cached {@link BuildRule} along with its value, the other {@link BuildRule}s it
+   *     depends on, and the inputs used to calculate it.  Inputs and deps of any
+   *     {@link RuleKeyAppendable}s a rule uses are attributed to the rule itself.
+   */
+  public ImmutableMap<BuildRule, RuleKeyResult<V>> getCachedBuildRuleResults() {
+
+    // Both indices are keyed from the dependency side, so invert them to find what each node uses.
+    Map<IdentityWrapper<Object>, Set<Object>> depsIndex = new HashMap<>();
+    dependentsIndex.forEach(
+        (dep, dependents) -> {
+          for (Object dependent : dependents) {
+            depsIndex
+                .computeIfAbsent(new IdentityWrapper<>(dependent), k -> Sets.newIdentityHashSet())
+                .add(dep.delegate);
+          }
+        });
+    Map<IdentityWrapper<Object>, Set<RuleKeyInput>> nodeInputsIndex = new HashMap<>();
+    inputsIndex.forEach(
+        (input, nodes) -> {
+          for (Object node : nodes) {
+            nodeInputsIndex
+                .computeIfAbsent(new IdentityWrapper<>(node), k -> new LinkedHashSet<>())
+                .add(input);
+          }
+        });
+
+    Map<BuildRule, RuleKeyResult<V>> results = new HashMap<>();
+    cache.forEach(
+        (key, value) -> {
+          if (!(key.delegate instanceof BuildRule)) {
+            return;
+          }
+          Set<Object> ruleDeps = Sets.newIdentityHashSet();
+          Set<RuleKeyInput> inputs = new LinkedHashSet<>();
+          Set<Object> visited = Sets.newIdentityHashSet();
+          Deque<Object> work = new ArrayDeque<>();
+          work.add(key.delegate);
+          while (!work.isEmpty()) {
+            IdentityWrapper<Object> node = new IdentityWrapper<>(work.pop());
+            inputs.addAll(nodeInputsIndex.getOrDefault(node, ImmutableSet.of()));
+            for (Object dep : depsIndex.getOrDefault(node, ImmutableSet.of())) {
+              if (dep instanceof BuildRule) {
+                ruleDeps.add(dep);
+              } else if (visited.add(dep)) {
+                work.add(dep);
+              }
+            }
+          }
+          results.put(
+              (BuildRule) key.delegate,
+              new RuleKeyResult<>(
+                  value.get(),
+                  ImmutableList.copyOf(ruleDeps),
+                  ImmutableList.copyOf(inputs)));
+        });
+    return ImmutableMap.copyOf(results);
+  }
+
   /**
    * A wrapper class which uses identity equality and hash code.  Intended to wrap keys used in a
    * map.
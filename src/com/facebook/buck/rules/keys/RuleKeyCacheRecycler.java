@@ -31,6 +31,7 @@ import com.google.common.eventbus.Subscribe;
 import java.nio.file.Path;
 import java.nio.file.WatchEvent;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -45,15 +46,18 @@ public class RuleKeyCacheRecycler<V> {
 
   private final RuleKeyCache<V> cache;
   private final ImmutableSet<ProjectFilesystem> watchedFilesystems;
+  private final Optional<Persistence> persistence;
 
   @Nullable
   private SettingsAffectingCache previousSettings = null;
 
   private RuleKeyCacheRecycler(
       RuleKeyCache<V> cache,
-      ImmutableSet<ProjectFilesystem> watchedFilesystems) {
+      ImmutableSet<ProjectFilesystem> watchedFilesystems,
+      Optional<Persistence> persistence) {
     this.cache = cache;
     this.watchedFilesystems = watchedFilesystems;
+    this.persistence = persistence;
   }
 
   /**
@@ -66,8 +70,22 @@ public class RuleKeyCacheRecycler<V> {
       EventBus eventBus,
       RuleKeyCache<V> ruleKeyCache,
       ImmutableSet<ProjectFilesystem> watchedFilesystems) {
+    return createAndRegister(eventBus, ruleKeyCache, watchedFilesystems, Optional.empty());
+  }
 
-    RuleKeyCacheRecycler<V> recycler = new RuleKeyCacheRecycler<>(ruleKeyCache, watchedFilesystems);
+  /**
+   * @param persistence used to restore the cache from, and save it to, a location which outlives
+   *                    this process.
+   * @return a new {@link RuleKeyCacheRecycler}.
+   */
+  public static <V> RuleKeyCacheRecycler<V> createAndRegister(
+      EventBus eventBus,
+      RuleKeyCache<V> ruleKeyCache,
+      ImmutableSet<ProjectFilesystem> watchedFilesystems,
+      Optional<Persistence> persistence) {
+
+    RuleKeyCacheRecycler<V> recycler =
+        new RuleKeyCacheRecycler<>(ruleKeyCache, watchedFilesystems, persistence);
 
     // Subscribe the recycler to receive filesystem watch events.
     eventBus.register(recycler);
@@ -76,7 +94,7 @@ public class RuleKeyCacheRecycler<V> {
   }
 
   public static <V> RuleKeyCacheRecycler<V> create(RuleKeyCache<V> ruleKeyCache) {
-    return new RuleKeyCacheRecycler<V>(ruleKeyCache, ImmutableSet.of());
+    return new RuleKeyCacheRecycler<V>(ruleKeyCache, ImmutableSet.of(), Optional.empty());
   }
 
   @Subscribe
@@ -127,6 +145,12 @@ public class RuleKeyCacheRecycler<V> {
           LOG.debug("invalidating entire cache due to settings change");
           cache.invalidateAll();
           scope.update("settings_change", true);
+
+          // This is the first build with these settings, so see if a previous process left behind
+          // rule keys we can use.
+          if (previousSettings == null && persistence.isPresent()) {
+            scope.update("restored", persistence.get().restore(currentSettings));
+          }
         } else {
           scope.update("settings_change", false);
         }
@@ -147,6 +171,8 @@ public class RuleKeyCacheRecycler<V> {
             "invalidating unwatched filesystems (everything except %s)",
             watchedFilesystems);
         cache.invalidateAllExceptFilesystems(watchedFilesystems);
+
+        persistence.ifPresent(p -> p.save(currentSettings));
       }
 
     };
@@ -184,6 +210,26 @@ public class RuleKeyCacheRecycler<V> {
     return cache.getCachedBuildRules();
   }
 
+  /**
+   * Saves the contents of the cache somewhere which outlives this process, and restores them into
+   * the cache of a later one.
+   */
+  public interface Persistence {
+
+    /**
+     * Called before the first build of this process uses the cache.
+     *
+     * @return whether any previously saved contents were restored.
+     */
+    boolean restore(SettingsAffectingCache settings);
+
+    /**
+     * Called after every build which used the cache.
+     */
+    void save(SettingsAffectingCache settings);
+
+  }
+
   /**
    * Any external settings which, if changed, will cause the entire cache to be invalidated.
    */
@@ -197,6 +243,14 @@ public class RuleKeyCacheRecycler<V> {
       this.actionGraph = actionGraph;
     }
 
+    public int getRuleKeySeed() {
+      return ruleKeySeed;
+    }
+
+    public ActionGraph getActionGraph() {
+      return actionGraph;
+    }
+
     private static boolean areIdentical(
         @Nullable SettingsAffectingCache previous,
         SettingsAffectingCache current) {
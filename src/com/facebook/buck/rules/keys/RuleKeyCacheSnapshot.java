@@ -0,0 +1,338 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.hashing.FileHashLoader;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A serializable copy of the default rule keys held by a {@link DefaultRuleKeyCache}, which allows
+ * a freshly started daemon to recover rule keys calculated by a previous one.
+ *
+ * Each entry records the files (and their hashes) and the other build rules a rule key was derived
+ * from.  The snapshot as a whole is tagged with a fingerprint of everything else a rule key can
+ * depend on (e.g. the rule key seed, config and target graph), which callers must check before
+ * using it.  An individual entry is only reused if all its input files still hash to the recorded
+ * values and all the entries it depends on are also reusable.
+ */
+public class RuleKeyCacheSnapshot {
+
+  private static final Logger LOG = Logger.get(RuleKeyCacheSnapshot.class);
+
+  private static final int VERSION = 0;
+
+  private final HashCode fingerprint;
+  private final ImmutableList<Path> cellRoots;
+  private final ImmutableMap<String, Entry> entries;
+
+  private RuleKeyCacheSnapshot(
+      HashCode fingerprint,
+      ImmutableList<Path> cellRoots,
+      ImmutableMap<String, Entry> entries) {
+    this.fingerprint = fingerprint;
+    this.cellRoots = cellRoots;
+    this.entries = entries;
+  }
+
+  /**
+   * Record the contents of the given cache, using {@code hashLoader} to look up the hashes of all
+   * inputs.  Rules with inputs which can't be hashed are left out of the snapshot.
+   */
+  public static RuleKeyCacheSnapshot capture(
+      HashCode fingerprint,
+      DefaultRuleKeyCache<RuleKey> cache,
+      FileHashLoader hashLoader) {
+    List<Path> cellRoots = new ArrayList<>();
+    Map<Path, Integer> cellIndices = new HashMap<>();
+    ImmutableMap.Builder<String, Entry> entries = ImmutableMap.builder();
+    for (Map.Entry<BuildRule, RuleKeyResult<RuleKey>> cached :
+         cache.getCachedBuildRuleResults().entrySet()) {
+      RuleKeyResult<RuleKey> result = cached.getValue();
+      ImmutableList.Builder<Input> inputs = ImmutableList.builder();
+      try {
+        for (RuleKeyInput input : result.inputs) {
+          Path root = input.getFilesystem().getRootPath();
+          Integer cellIndex = cellIndices.get(root);
+          if (cellIndex == null) {
+            cellRoots.add(root);
+            cellIndex = cellRoots.size() - 1;
+            cellIndices.put(root, cellIndex);
+          }
+          inputs.add(
+              new Input(
+                  cellIndex,
+                  input.getPath(),
+                  hashLoader.get(input.getFilesystem().resolve(input.getPath()))));
+        }
+      } catch (IOException e) {
+        LOG.verbose(e, "not recording %s as its inputs could not be hashed", cached.getKey());
+        continue;
+      }
+      ImmutableList.Builder<String> deps = ImmutableList.builder();
+      for (Object dep : result.deps) {
+        deps.add(((BuildRule) dep).getBuildTarget().toString());
+      }
+      entries.put(
+          cached.getKey().getBuildTarget().toString(),
+          new Entry(result.result, inputs.build(), deps.build()));
+    }
+    return new RuleKeyCacheSnapshot(
+        fingerprint,
+        ImmutableList.copyOf(cellRoots),
+        entries.build());
+  }
+
+  /**
+   * Deserialize a snapshot previously written by {@link #writeTo(OutputStream)}.
+   */
+  public static RuleKeyCacheSnapshot readFrom(InputStream rawInput) throws IOException {
+    DataInputStream input = new DataInputStream(rawInput);
+
+    int version = input.readInt();
+    if (version != VERSION) {
+      throw new IOException(
+          String.format("unexpected rule key cache snapshot version %d", version));
+    }
+
+    HashCode fingerprint = HashCode.fromString(input.readUTF());
+
+    int numberOfCellRoots = input.readInt();
+    ImmutableList.Builder<Path> cellRoots = ImmutableList.builder();
+    for (int index = 0; index < numberOfCellRoots; index++) {
+      cellRoots.add(Paths.get(input.readUTF()));
+    }
+
+    int numberOfEntries = input.readInt();
+    ImmutableMap.Builder<String, Entry> entries = ImmutableMap.builder();
+    for (int entryIndex = 0; entryIndex < numberOfEntries; entryIndex++) {
+      String target = input.readUTF();
+      RuleKey ruleKey = new RuleKey(input.readUTF());
+      int numberOfInputs = input.readInt();
+      ImmutableList.Builder<Input> inputs = ImmutableList.builder();
+      for (int inputIndex = 0; inputIndex < numberOfInputs; inputIndex++) {
+        int cellIndex = input.readInt();
+        if (cellIndex < 0 || cellIndex >= numberOfCellRoots) {
+          throw new IOException(String.format("invalid cell index %d", cellIndex));
+        }
+        Path path = Paths.get(input.readUTF());
+        HashCode hash = HashCode.fromString(input.readUTF());
+        inputs.add(new Input(cellIndex, path, hash));
+      }
+      int numberOfDeps = input.readInt();
+      ImmutableList.Builder<String> deps = ImmutableList.builder();
+      for (int depIndex = 0; depIndex < numberOfDeps; depIndex++) {
+        deps.add(input.readUTF());
+      }
+      entries.put(target, new Entry(ruleKey, inputs.build(), deps.build()));
+    }
+
+    return new RuleKeyCacheSnapshot(fingerprint, cellRoots.build(), entries.build());
+  }
+
+  public void writeTo(OutputStream rawOutput) throws IOException {
+    DataOutputStream output = new DataOutputStream(rawOutput);
+
+    output.writeInt(VERSION);
+    output.writeUTF(fingerprint.toString());
+
+    output.writeInt(cellRoots.size());
+    for (Path root : cellRoots) {
+      output.writeUTF(root.toString());
+    }
+
+    output.writeInt(entries.size());
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      output.writeUTF(entry.getKey());
+      output.writeUTF(entry.getValue().ruleKey.toString());
+      output.writeInt(entry.getValue().inputs.size());
+      for (Input input : entry.getValue().inputs) {
+        output.writeInt(input.cellIndex);
+        output.writeUTF(input.path.toString());
+        output.writeUTF(input.hash.toString());
+      }
+      output.writeInt(entry.getValue().deps.size());
+      for (String dep : entry.getValue().deps) {
+        output.writeUTF(dep);
+      }
+    }
+
+    output.flush();
+  }
+
+  public HashCode getFingerprint() {
+    return fingerprint;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return a function suitable for {@link DefaultRuleKeyCache#setPersistedResults(Function)}
+   *     which yields the recorded result for a rule only if it's still valid for the current state
+   *     of the given filesystems.
+   */
+  public Function<BuildRule, Optional<RuleKeyResult<RuleKey>>> newValidatingLoader(
+      FileHashLoader hashLoader,
+      Iterable<ProjectFilesystem> filesystems) {
+    ImmutableList.Builder<Optional<ProjectFilesystem>> cellFilesystems = ImmutableList.builder();
+    for (Path root : cellRoots) {
+      Optional<ProjectFilesystem> cellFilesystem = Optional.empty();
+      for (ProjectFilesystem filesystem : filesystems) {
+        if (filesystem.getRootPath().equals(root)) {
+          cellFilesystem = Optional.of(filesystem);
+          break;
+        }
+      }
+      cellFilesystems.add(cellFilesystem);
+    }
+    return new ValidatingLoader(hashLoader, cellFilesystems.build());
+  }
+
+  private class ValidatingLoader implements Function<BuildRule, Optional<RuleKeyResult<RuleKey>>> {
+
+    private final FileHashLoader hashLoader;
+    private final ImmutableList<Optional<ProjectFilesystem>> cellFilesystems;
+    private final ConcurrentMap<String, Boolean> validity = new ConcurrentHashMap<>();
+
+    private ValidatingLoader(
+        FileHashLoader hashLoader,
+        ImmutableList<Optional<ProjectFilesystem>> cellFilesystems) {
+      this.hashLoader = hashLoader;
+      this.cellFilesystems = cellFilesystems;
+    }
+
+    @Override
+    public Optional<RuleKeyResult<RuleKey>> apply(BuildRule rule) {
+      String target = rule.getBuildTarget().toString();
+      Entry entry = entries.get(target);
+      if (entry == null || !isValid(target)) {
+        return Optional.empty();
+      }
+
+      // Only reuse the entry if every recorded dep is a direct dep of the rule, so that the cache
+      // can still propagate invalidations from those deps to this rule.
+      Map<String, BuildRule> ruleDeps = new HashMap<>();
+      for (BuildRule dep : rule.getDeps()) {
+        ruleDeps.put(dep.getBuildTarget().toString(), dep);
+      }
+      ImmutableList.Builder<BuildRule> deps = ImmutableList.builder();
+      for (String dep : entry.deps) {
+        BuildRule depRule = ruleDeps.get(dep);
+        if (depRule == null) {
+          return Optional.empty();
+        }
+        deps.add(depRule);
+      }
+
+      ImmutableList.Builder<RuleKeyInput> inputs = ImmutableList.builder();
+      for (Input input : entry.inputs) {
+        inputs.add(RuleKeyInput.of(cellFilesystems.get(input.cellIndex).get(), input.path));
+      }
+
+      return Optional.of(new RuleKeyResult<>(entry.ruleKey, deps.build(), inputs.build()));
+    }
+
+    private boolean isValid(String target) {
+      Boolean valid = validity.get(target);
+      if (valid == null) {
+        valid = computeValidity(target);
+        validity.put(target, valid);
+      }
+      return valid;
+    }
+
+    private boolean computeValidity(String target) {
+      Entry entry = entries.get(target);
+      if (entry == null) {
+        return false;
+      }
+      for (Input input : entry.inputs) {
+        Optional<ProjectFilesystem> filesystem = cellFilesystems.get(input.cellIndex);
+        if (!filesystem.isPresent()) {
+          return false;
+        }
+        try {
+          if (!input.hash.equals(hashLoader.get(filesystem.get().resolve(input.path)))) {
+            LOG.verbose("%s: input %s has changed", target, input.path);
+            return false;
+          }
+        } catch (IOException e) {
+          LOG.verbose(e, "%s: could not hash input %s", target, input.path);
+          return false;
+        }
+      }
+      for (String dep : entry.deps) {
+        if (!isValid(dep)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class Entry {
+
+    private final RuleKey ruleKey;
+    private final ImmutableList<Input> inputs;
+    private final ImmutableList<String> deps;
+
+    Entry(RuleKey ruleKey, ImmutableList<Input> inputs, ImmutableList<String> deps) {
+      this.ruleKey = ruleKey;
+      this.inputs = inputs;
+      this.deps = deps;
+    }
+  }
+
+  private static final class Input {
+
+    private final int cellIndex;
+    private final Path path;
+    private final HashCode hash;
+
+    Input(int cellIndex, Path path, HashCode hash) {
+      Preconditions.checkArgument(!path.isAbsolute());
+      this.cellIndex = cellIndex;
+      this.path = path;
+      this.hash = hash;
+    }
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import com.facebook.buck.hashing.FileHashLoader;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.model.BuckVersion;
+import com.facebook.buck.rules.ActionGraph;
+import com.facebook.buck.rules.RuleKey;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Persists a {@link DefaultRuleKeyCache} to a {@link RuleKeyCacheSnapshot} on disk after each
+ * build, and seeds the cache from it before the first build of a new process.
+ *
+ * The snapshot is fingerprinted with the buck version, the rule key seed, a hash of the config and
+ * the hash of the target graph which produced the action graph being built.  Snapshots written for
+ * any other fingerprint are ignored, as rule keys may depend on these in ways the snapshot doesn't
+ * track.
+ *
+ * Only capturing the cache holds up the build; the snapshot is written out on a separate executor.
+ */
+public class RuleKeyCacheSnapshotStore implements RuleKeyCacheRecycler.Persistence {
+
+  private static final Logger LOG = Logger.get(RuleKeyCacheSnapshotStore.class);
+
+  private final Path snapshotPath;
+  private final DefaultRuleKeyCache<RuleKey> cache;
+  private final FileHashLoader hashLoader;
+  private final ImmutableSet<ProjectFilesystem> filesystems;
+  private final HashCode configHash;
+  private final Function<ActionGraph, Optional<HashCode>> targetGraphHashes;
+  private final Executor writeExecutor;
+
+  // The miss count of the cache when it was last saved or restored, used to avoid rewriting the
+  // snapshot after builds which didn't calculate any new rule keys.
+  private long lastMissCount = -1;
+
+  /**
+   * @param snapshotPath absolute path of the file to persist the cache in.
+   * @param targetGraphHashes looks up the hash of the target graph an action graph was created
+   *                          from, if known.
+   * @param writeExecutor runs the writes of captured snapshots, in the order they're submitted.
+   */
+  public RuleKeyCacheSnapshotStore(
+      Path snapshotPath,
+      DefaultRuleKeyCache<RuleKey> cache,
+      FileHashLoader hashLoader,
+      ImmutableSet<ProjectFilesystem> filesystems,
+      HashCode configHash,
+      Function<ActionGraph, Optional<HashCode>> targetGraphHashes,
+      Executor writeExecutor) {
+    this.snapshotPath = snapshotPath;
+    this.cache = cache;
+    this.hashLoader = hashLoader;
+    this.filesystems = filesystems;
+    this.configHash = configHash;
+    this.targetGraphHashes = targetGraphHashes;
+    this.writeExecutor = writeExecutor;
+  }
+
+  private Optional<HashCode> getFingerprint(RuleKeyCacheRecycler.SettingsAffectingCache settings) {
+    return targetGraphHashes.apply(settings.getActionGraph()).map(
+        targetGraphHash -> Hashing.sha1().newHasher()
+            .putUnencodedChars(BuckVersion.getVersion())
+            .putInt(settings.getRuleKeySeed())
+            .putBytes(configHash.asBytes())
+            .putBytes(targetGraphHash.asBytes())
+            .hash());
+  }
+
+  @Override
+  public synchronized boolean restore(RuleKeyCacheRecycler.SettingsAffectingCache settings) {
+    Optional<HashCode> fingerprint = getFingerprint(settings);
+    if (!fingerprint.isPresent()) {
+      return false;
+    }
+
+    RuleKeyCacheSnapshot snapshot;
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(snapshotPath))) {
+      snapshot = RuleKeyCacheSnapshot.readFrom(input);
+    } catch (NoSuchFileException e) {
+      return false;
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to read rule key cache snapshot from %s", snapshotPath);
+      return false;
+    }
+
+    if (!snapshot.getFingerprint().equals(fingerprint.get())) {
+      LOG.debug("Ignoring rule key cache snapshot with mismatched fingerprint");
+      return false;
+    }
+
+    LOG.debug("Restoring %d rule keys from %s", snapshot.size(), snapshotPath);
+    cache.setPersistedResults(snapshot.newValidatingLoader(hashLoader, filesystems));
+    lastMissCount = cache.getStats().missCount();
+    return true;
+  }
+
+  @Override
+  public synchronized void save(RuleKeyCacheRecycler.SettingsAffectingCache settings) {
+
+    // Any rule keys from the snapshot we're going to use have been loaded into the cache by now,
+    // and it's unsafe to keep using it as the validation it does is memoized.
+    cache.setPersistedResults(null);
+
+    long missCount = cache.getStats().missCount();
+    if (missCount == lastMissCount) {
+      return;
+    }
+
+    Optional<HashCode> fingerprint = getFingerprint(settings);
+    if (!fingerprint.isPresent()) {
+      return;
+    }
+
+    RuleKeyCacheSnapshot snapshot =
+        RuleKeyCacheSnapshot.capture(fingerprint.get(), cache, hashLoader);
+    lastMissCount = missCount;
+    writeExecutor.execute(() -> write(snapshot));
+  }
+
+  private void write(RuleKeyCacheSnapshot snapshot) {
+    try {
+      Files.createDirectories(snapshotPath.getParent());
+      Path tmp = Files.createTempFile(
+          snapshotPath.getParent(),
+          snapshotPath.getFileName().toString(),
+          ".tmp");
+      try {
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+          snapshot.writeTo(output);
+        }
+        Files.move(
+            tmp,
+            snapshotPath,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+      LOG.debug("Saved %d rule keys to %s", snapshot.size(), snapshotPath);
+    } catch (IOException e) {
+      LOG.warn(e, "Failed to write rule key cache snapshot to %s", snapshotPath);
+      // Make sure the next build writes one out again.
+      synchronized (this) {
+        lastMissCount = -1;
+      }
+    }
+  }
+
+}
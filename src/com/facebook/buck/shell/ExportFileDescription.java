@@ -24,6 +24,7 @@ import com.facebook.buck.rules.BuildRuleResolver;
 import com.facebook.buck.rules.Description;
 import com.facebook.buck.rules.ImplicitInputsInferringDescription;
 import com.facebook.buck.rules.PathSourcePath;
+import com.facebook.buck.rules.ReusableRulesDescription;
 import com.facebook.buck.rules.SourcePath;
 import com.facebook.buck.rules.SourcePathResolver;
 import com.facebook.buck.rules.SourcePathRuleFinder;
@@ -37,7 +38,8 @@ import java.util.Optional;
 
 public class ExportFileDescription implements
     Description<ExportFileDescription.Arg>,
-    ImplicitInputsInferringDescription<ExportFileDescription.Arg> {
+    ImplicitInputsInferringDescription<ExportFileDescription.Arg>,
+    ReusableRulesDescription {
 
   @Override
   public Arg createUnpopulatedConstructorArg() {
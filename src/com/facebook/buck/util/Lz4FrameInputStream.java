@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_BLOCK_CHECKSUM;
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_BLOCK_INDEPENDENCE;
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_CONTENT_CHECKSUM;
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_CONTENT_SIZE;
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_DICTIONARY_ID;
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_VERSION;
+import static com.facebook.buck.util.Lz4FrameOutputStream.FLAG_VERSION_MASK;
+import static com.facebook.buck.util.Lz4FrameOutputStream.MAGIC;
+import static com.facebook.buck.util.Lz4FrameOutputStream.MIN_MATCH;
+import static com.facebook.buck.util.Lz4FrameOutputStream.UNCOMPRESSED_BLOCK_FLAG;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decompresses a single LZ4 frame as written by {@link Lz4FrameOutputStream}.  Frames using
+ * features it doesn't write (dependent blocks, checksums other than the header's and dictionaries)
+ * are rejected.  Reading stops at the end of the frame, leaving anything after it unread in the
+ * underlying stream.
+ */
+public class Lz4FrameInputStream extends FilterInputStream {
+
+  private static final int MIN_BLOCK_SIZE_ID = 4;
+  private static final int MAX_BLOCK_SIZE_ID = 7;
+
+  private byte[] compressed = new byte[0];
+  private byte[] block = new byte[0];
+  private int blockLength = 0;
+  private int blockPosition = 0;
+  private boolean headerRead = false;
+  private boolean finished = false;
+
+  public Lz4FrameInputStream(InputStream in) {
+    super(in);
+  }
+
+  /**
+   * @return whether {@code header} starts with the magic number of an LZ4 frame.
+   */
+  public static boolean isFrameHeader(byte[] header, int length) {
+    return length >= 4 && Lz4FrameOutputStream.readIntLE(header, 0) == MAGIC;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fillBlock()) {
+      return -1;
+    }
+    return block[blockPosition++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!fillBlock()) {
+      return -1;
+    }
+    int chunk = Math.min(len, blockLength - blockPosition);
+    System.arraycopy(block, blockPosition, b, off, chunk);
+    blockPosition += chunk;
+    return chunk;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && fillBlock()) {
+      int chunk = (int) Math.min(n - skipped, blockLength - blockPosition);
+      blockPosition += chunk;
+      skipped += chunk;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return blockLength - blockPosition;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  /**
+   * Reads blocks until there's some data to return.
+   *
+   * @return false at the end of the frame.
+   */
+  private boolean fillBlock() throws IOException {
+    if (!headerRead) {
+      readHeader();
+      headerRead = true;
+    }
+    while (blockPosition == blockLength) {
+      if (finished) {
+        return false;
+      }
+      int size = readIntLE();
+      if (size == 0) {
+        finished = true;
+        return false;
+      }
+      boolean uncompressed = (size & UNCOMPRESSED_BLOCK_FLAG) != 0;
+      size &= ~UNCOMPRESSED_BLOCK_FLAG;
+      if (size > block.length) {
+        throw new IOException(
+            String.format("LZ4 block of %d bytes exceeds the frame's maximum block size.", size));
+      }
+      blockPosition = 0;
+      if (uncompressed) {
+        ByteStreams.readFully(in, block, 0, size);
+        blockLength = size;
+      } else {
+        ByteStreams.readFully(in, compressed, 0, size);
+        blockLength = decompressBlock(compressed, size, block);
+      }
+    }
+    return true;
+  }
+
+  private void readHeader() throws IOException {
+    if (readIntLE() != MAGIC) {
+      throw new IOException("Not an LZ4 frame.");
+    }
+    byte[] descriptor = new byte[10];
+    ByteStreams.readFully(in, descriptor, 0, 2);
+    int flags = descriptor[0] & 0xFF;
+    int blockSizeId = (descriptor[1] >>> 4) & 0x7;
+    if ((flags & FLAG_VERSION_MASK) != FLAG_VERSION) {
+      throw new IOException("Unsupported LZ4 frame version.");
+    }
+    if ((flags & FLAG_BLOCK_INDEPENDENCE) == 0 ||
+        (flags & (FLAG_BLOCK_CHECKSUM | FLAG_CONTENT_CHECKSUM | FLAG_DICTIONARY_ID)) != 0) {
+      throw new IOException(String.format("Unsupported LZ4 frame flags: %x", flags));
+    }
+    if (blockSizeId < MIN_BLOCK_SIZE_ID || blockSizeId > MAX_BLOCK_SIZE_ID) {
+      throw new IOException(String.format("Invalid LZ4 block size id: %d", blockSizeId));
+    }
+
+    int descriptorLength = 2;
+    if ((flags & FLAG_CONTENT_SIZE) != 0) {
+      // The content size is only a hint, which we have no use for.
+      ByteStreams.readFully(in, descriptor, descriptorLength, 8);
+      descriptorLength += 8;
+    }
+    int checksum = in.read();
+    if (checksum != Lz4FrameOutputStream.getDescriptorChecksum(descriptor, descriptorLength)) {
+      throw new IOException("LZ4 frame header checksum mismatch.");
+    }
+
+    int blockSize = Lz4FrameOutputStream.getBlockSize(blockSizeId);
+    compressed = new byte[blockSize];
+    block = new byte[blockSize];
+  }
+
+  private int readIntLE() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int b = in.read();
+      if (b < 0) {
+        throw new EOFException("Unexpected end of LZ4 frame.");
+      }
+      value |= b << (8 * i);
+    }
+    return value;
+  }
+
+  /**
+   * Decompresses the LZ4 block in the first {@code length} bytes of {@code src} into {@code dst}.
+   *
+   * @return the length of the decompressed data.
+   */
+  static int decompressBlock(byte[] src, int length, byte[] dst) throws IOException {
+    int ip = 0;
+    int op = 0;
+    while (true) {
+      if (ip >= length) {
+        throw new IOException("Truncated LZ4 block.");
+      }
+      int token = src[ip++] & 0xFF;
+
+      int literalsLength = token >>> 4;
+      if (literalsLength == 15) {
+        int b;
+        do {
+          if (ip >= length) {
+            throw new IOException("Truncated LZ4 block.");
+          }
+          b = src[ip++] & 0xFF;
+          literalsLength += b;
+        } while (b == 255);
+      }
+      if (literalsLength > length - ip || literalsLength > dst.length - op) {
+        throw new IOException("Malformed LZ4 block: literals out of bounds.");
+      }
+      System.arraycopy(src, ip, dst, op, literalsLength);
+      ip += literalsLength;
+      op += literalsLength;
+
+      // The last sequence of a block consists of just literals.
+      if (ip == length) {
+        return op;
+      }
+
+      if (length - ip < 2) {
+        throw new IOException("Truncated LZ4 block.");
+      }
+      int offset = (src[ip] & 0xFF) | (src[ip + 1] & 0xFF) << 8;
+      ip += 2;
+      if (offset == 0 || offset > op) {
+        throw new IOException("Malformed LZ4 block: match offset out of bounds.");
+      }
+
+      int matchLength = token & 0xF;
+      if (matchLength == 15) {
+        int b;
+        do {
+          if (ip >= length) {
+            throw new IOException("Truncated LZ4 block.");
+          }
+          b = src[ip++] & 0xFF;
+          matchLength += b;
+        } while (b == 255);
+      }
+      matchLength += MIN_MATCH;
+      if (matchLength > dst.length - op) {
+        throw new IOException("Malformed LZ4 block: match out of bounds.");
+      }
+
+      int ref = op - offset;
+      if (offset >= matchLength) {
+        System.arraycopy(dst, ref, dst, op, matchLength);
+        op += matchLength;
+      } else {
+        // Overlapping matches repeat the bytes they've just copied.
+        for (int i = 0; i < matchLength; i++) {
+          dst[op++] = dst[ref++];
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import com.google.common.base.Preconditions;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Compresses data into the <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Frame_format.md">
+ * LZ4 frame format</a>, which trades some compression ratio for compressing and decompressing
+ * several times faster than deflate.
+ *
+ * Blocks are compressed independently of each other and carry no checksums of their own, so
+ * callers needing integrity checks should rely on those of the format being compressed.  The
+ * output can be read with {@link Lz4FrameInputStream} or the reference {@code lz4} tool.
+ */
+public class Lz4FrameOutputStream extends FilterOutputStream {
+
+  static final int MAGIC = 0x184D2204;
+
+  static final int FLAG_VERSION = 1 << 6;
+  static final int FLAG_VERSION_MASK = 3 << 6;
+  static final int FLAG_BLOCK_INDEPENDENCE = 1 << 5;
+  static final int FLAG_BLOCK_CHECKSUM = 1 << 4;
+  static final int FLAG_CONTENT_SIZE = 1 << 3;
+  static final int FLAG_CONTENT_CHECKSUM = 1 << 2;
+  static final int FLAG_DICTIONARY_ID = 1;
+
+  static final int UNCOMPRESSED_BLOCK_FLAG = 0x80000000;
+
+  static final int MIN_MATCH = 4;
+  // The last match must start at least this many bytes before the end of a block, and the last
+  // bytes of a block are always literals.
+  static final int MF_LIMIT = 12;
+  static final int LAST_LITERALS = 5;
+  static final int MAX_DISTANCE = 65535;
+
+  private static final int BLOCK_SIZE_ID_4MB = 7;
+  private static final int HASH_LOG = 14;
+  // Start skipping ahead faster when no matches have been found for this many positions.
+  private static final int SKIP_TRIGGER = 6;
+
+  private final byte[] block;
+  private final byte[] compressed;
+  private final int[] hashTable = new int[1 << HASH_LOG];
+  private int blockLength = 0;
+  private boolean headerWritten = false;
+  private boolean closed = false;
+
+  public Lz4FrameOutputStream(OutputStream out) {
+    super(out);
+    this.block = new byte[getBlockSize(BLOCK_SIZE_ID_4MB)];
+    this.compressed = new byte[block.length];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (blockLength == block.length) {
+      writeBlock();
+    }
+    block[blockLength++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkPositionIndexes(off, off + len, b.length);
+    while (len > 0) {
+      if (blockLength == block.length) {
+        writeBlock();
+      }
+      int chunk = Math.min(len, block.length - blockLength);
+      System.arraycopy(b, off, block, blockLength, chunk);
+      blockLength += chunk;
+      off += chunk;
+      len -= chunk;
+    }
+  }
+
+  /**
+   * Ends the current block early so that everything written so far can be decompressed from the
+   * underlying stream.
+   */
+  @Override
+  public void flush() throws IOException {
+    writeBlock();
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      writeBlock();
+      writeIntLE(out, 0);
+    } finally {
+      out.close();
+    }
+  }
+
+  private void writeBlock() throws IOException {
+    if (!headerWritten) {
+      writeHeader();
+      headerWritten = true;
+    }
+    if (blockLength == 0) {
+      return;
+    }
+    int compressedLength = compressBlock(block, blockLength, compressed, hashTable);
+    if (compressedLength < 0) {
+      writeIntLE(out, blockLength | UNCOMPRESSED_BLOCK_FLAG);
+      out.write(block, 0, blockLength);
+    } else {
+      writeIntLE(out, compressedLength);
+      out.write(compressed, 0, compressedLength);
+    }
+    blockLength = 0;
+  }
+
+  private void writeHeader() throws IOException {
+    byte[] descriptor = {
+        (byte) (FLAG_VERSION | FLAG_BLOCK_INDEPENDENCE),
+        (byte) (BLOCK_SIZE_ID_4MB << 4),
+    };
+    writeIntLE(out, MAGIC);
+    out.write(descriptor);
+    out.write(getDescriptorChecksum(descriptor, descriptor.length));
+  }
+
+  /**
+   * @return the maximum size of the blocks of a frame with the given block size id.
+   */
+  static int getBlockSize(int blockSizeId) {
+    return 1 << (8 + 2 * blockSizeId);
+  }
+
+  /**
+   * @return the header checksum byte for the frame descriptor in the first {@code length} bytes of
+   *     {@code descriptor}: the second byte of its xxHash32.
+   */
+  static int getDescriptorChecksum(byte[] descriptor, int length) {
+    return (xxHash32Short(descriptor, length) >>> 8) & 0xFF;
+  }
+
+  /**
+   * xxHash32 with a zero seed.  Frame descriptors are at most 15 bytes long, so only the algorithm's
+   * path for inputs shorter than its 16 byte stripes is needed.
+   */
+  private static int xxHash32Short(byte[] input, int length) {
+    Preconditions.checkArgument(length < 16);
+    final int prime1 = 0x9E3779B1;
+    final int prime2 = 0x85EBCA77;
+    final int prime3 = 0xC2B2AE3D;
+    final int prime4 = 0x27D4EB2F;
+    final int prime5 = 0x165667B1;
+
+    int hash = prime5 + length;
+    int i = 0;
+    for (; i + 4 <= length; i += 4) {
+      hash += readIntLE(input, i) * prime3;
+      hash = Integer.rotateLeft(hash, 17) * prime4;
+    }
+    for (; i < length; i++) {
+      hash += (input[i] & 0xFF) * prime5;
+      hash = Integer.rotateLeft(hash, 11) * prime1;
+    }
+    hash ^= hash >>> 15;
+    hash *= prime2;
+    hash ^= hash >>> 13;
+    hash *= prime3;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  /**
+   * Compresses the first {@code length} bytes of {@code src} into {@code dst} as an LZ4 block.
+   *
+   * @return the length of the compressed block, or -1 if it wouldn't be smaller than the input.
+   */
+  static int compressBlock(byte[] src, int length, byte[] dst, int[] hashTable) {
+    int dstLimit = Math.min(length, dst.length);
+    int op = 0;
+    int anchor = 0;
+
+    if (length >= MF_LIMIT + 1) {
+      Arrays.fill(hashTable, -1);
+      int mfLimit = length - MF_LIMIT;
+      int matchLimit = length - LAST_LITERALS;
+      int ip = 0;
+
+      search:
+      while (true) {
+        int ref;
+        int forward = ip;
+        int attempts = 1 << SKIP_TRIGGER;
+        do {
+          ip = forward;
+          forward += attempts++ >>> SKIP_TRIGGER;
+          if (forward > mfLimit) {
+            break search;
+          }
+          int hash = hash(readIntLE(src, ip));
+          ref = hashTable[hash];
+          hashTable[hash] = ip;
+        } while (ref < 0 ||
+            ip - ref > MAX_DISTANCE ||
+            readIntLE(src, ref) != readIntLE(src, ip));
+
+        // Extend the match backwards over any literals it shares with the reference.
+        while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+          ip--;
+          ref--;
+        }
+
+        int matchLength = MIN_MATCH;
+        while (ip + matchLength < matchLimit && src[ip + matchLength] == src[ref + matchLength]) {
+          matchLength++;
+        }
+
+        op = writeSequence(src, anchor, ip - anchor, ip - ref, matchLength, dst, op, dstLimit);
+        if (op < 0) {
+          return -1;
+        }
+
+        ip += matchLength;
+        anchor = ip;
+        if (ip > mfLimit) {
+          break;
+        }
+        hashTable[hash(readIntLE(src, ip - 2))] = ip - 2;
+      }
+    }
+
+    return writeSequence(src, anchor, length - anchor, 0, 0, dst, op, dstLimit);
+  }
+
+  /**
+   * Writes the literals starting at {@code literalsStart} followed by a match, or just the
+   * literals if {@code matchLength} is 0.
+   *
+   * @return the new output position, or -1 if the output would exceed {@code dstLimit}.
+   */
+  private static int writeSequence(
+      byte[] src,
+      int literalsStart,
+      int literalsLength,
+      int offset,
+      int matchLength,
+      byte[] dst,
+      int op,
+      int dstLimit) {
+    // Token, length bytes, literals and the offset.
+    if (op + 1 + literalsLength / 255 + 1 + literalsLength + 2 + matchLength / 255 + 1 >
+        dstLimit) {
+      return -1;
+    }
+
+    int tokenPosition = op++;
+    int token;
+    if (literalsLength >= 15) {
+      token = 15 << 4;
+      op = writeLength(literalsLength - 15, dst, op);
+    } else {
+      token = literalsLength << 4;
+    }
+    System.arraycopy(src, literalsStart, dst, op, literalsLength);
+    op += literalsLength;
+
+    if (matchLength > 0) {
+      dst[op++] = (byte) offset;
+      dst[op++] = (byte) (offset >>> 8);
+      int extraLength = matchLength - MIN_MATCH;
+      if (extraLength >= 15) {
+        token |= 15;
+        op = writeLength(extraLength - 15, dst, op);
+      } else {
+        token |= extraLength;
+      }
+    }
+
+    dst[tokenPosition] = (byte) token;
+    return op;
+  }
+
+  private static int writeLength(int length, byte[] dst, int op) {
+    while (length >= 255) {
+      dst[op++] = (byte) 255;
+      length -= 255;
+    }
+    dst[op++] = (byte) length;
+    return op;
+  }
+
+  private static int hash(int value) {
+    return (value * 0x9E3779B1) >>> (32 - HASH_LOG);
+  }
+
+  static int readIntLE(byte[] buffer, int offset) {
+    return (buffer[offset] & 0xFF) |
+        (buffer[offset + 1] & 0xFF) << 8 |
+        (buffer[offset + 2] & 0xFF) << 16 |
+        (buffer[offset + 3] & 0xFF) << 24;
+  }
+
+  private static void writeIntLE(OutputStream out, int value) throws IOException {
+    out.write(value);
+    out.write(value >>> 8);
+    out.write(value >>> 16);
+    out.write(value >>> 24);
+  }
+}
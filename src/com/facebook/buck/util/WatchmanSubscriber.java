@@ -0,0 +1,360 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.WatchmanStatusEvent;
+import com.facebook.buck.io.WatchmanCursor;
+import com.facebook.buck.io.WatchmanQuery;
+import com.facebook.buck.io.WatchmanSubscription;
+import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.concurrent.MostExecutors;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.EventBus;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Keeps a Watchman subscription open for each cell for the lifetime of the daemon, through which
+ * Watchman streams file changes as they happen.
+ *
+ * Changes are coalesced as they arrive, so a path changed many times between two commands is only
+ * invalidated once, and are posted to the file change EventBus in the background while no command
+ * is running.  A command then only has to flush the changes Watchman hasn't delivered yet, rather
+ * than query for and process everything which changed since the previous command.  Changes which
+ * arrive while a command runs are held back until it finishes, so caches aren't invalidated under
+ * a build.
+ */
+public class WatchmanSubscriber implements AutoCloseable {
+
+  private static final Logger LOG = Logger.get(WatchmanSubscriber.class);
+
+  private final EventBus fileChangeEventBus;
+  private final Object lock;
+  private final ImmutableMap<Path, WatchmanSubscription> subscriptions;
+  private final Map<Path, WatchmanCursor> cursors;
+  private final long timeoutMillis;
+  private final ExecutorService readers;
+  private final ExecutorService applier;
+
+  private final Map<Path, SettableFuture<Void>> flushes = new ConcurrentHashMap<>();
+  private final AtomicBoolean applyScheduled = new AtomicBoolean(false);
+  private final AtomicBoolean changedSinceLastSync = new AtomicBoolean(false);
+  private volatile Optional<String> failure = Optional.empty();
+  private volatile boolean closed = false;
+
+  @GuardedBy("this")
+  private final Map<Path, WatchEvent.Kind<Path>> pendingChanges = new LinkedHashMap<>();
+  @GuardedBy("this")
+  private final Map<Path, String> pendingClocks = new HashMap<>();
+  @GuardedBy("this")
+  private Optional<String> pendingOverflow = Optional.empty();
+  @GuardedBy("this")
+  private boolean commandRunning = false;
+
+  @VisibleForTesting
+  WatchmanSubscriber(
+      EventBus fileChangeEventBus,
+      Object lock,
+      ImmutableMap<Path, WatchmanSubscription> subscriptions,
+      Map<Path, WatchmanCursor> cursors,
+      long timeoutMillis) {
+    this.fileChangeEventBus = fileChangeEventBus;
+    this.lock = lock;
+    this.subscriptions = subscriptions;
+    this.cursors = cursors;
+    this.timeoutMillis = timeoutMillis;
+    this.readers = MostExecutors.newMultiThreadExecutor(
+        "Watchman subscription",
+        Math.max(1, subscriptions.size()));
+    this.applier = MostExecutors.newSingleThreadExecutor("Watchman subscription applier");
+  }
+
+  static WatchmanSubscriber subscribe(
+      Path socketPath,
+      EventBus fileChangeEventBus,
+      Object lock,
+      ImmutableMap<Path, WatchmanQuery> queries,
+      Map<Path, WatchmanCursor> cursors,
+      long timeoutMillis) throws IOException {
+    String name = "buckd-" + UUID.randomUUID();
+    ImmutableMap.Builder<Path, WatchmanSubscription> subscriptions = ImmutableMap.builder();
+    try {
+      for (Map.Entry<Path, WatchmanQuery> entry : queries.entrySet()) {
+        WatchmanCursor cursor = cursors.get(entry.getKey());
+        if (cursor != null) {
+          subscriptions.put(
+              entry.getKey(),
+              WatchmanSubscription.subscribe(socketPath, name, entry.getValue(), cursor.get()));
+        }
+      }
+    } catch (IOException e) {
+      for (WatchmanSubscription subscription : subscriptions.build().values()) {
+        subscription.close();
+      }
+      throw e;
+    }
+    WatchmanSubscriber subscriber = new WatchmanSubscriber(
+        fileChangeEventBus,
+        lock,
+        subscriptions.build(),
+        cursors,
+        timeoutMillis);
+    subscriber.start();
+    return subscriber;
+  }
+
+  @VisibleForTesting
+  void start() {
+    for (Map.Entry<Path, WatchmanSubscription> entry : subscriptions.entrySet()) {
+      readers.execute(() -> read(entry.getKey(), entry.getValue()));
+    }
+  }
+
+  /**
+   * Waits for Watchman to deliver the changes made up to now, and posts all those not yet posted.
+   * Changes arriving from then on are held back until {@link #onCommandFinished()} is called.
+   *
+   * Must be called while holding the lock.
+   *
+   * @throws IOException if the subscriptions have failed, in which case changes have to be queried
+   *     for since the cursors instead.
+   */
+  public void sync(BuckEventBus buckEventBus) throws IOException, InterruptedException {
+    Map<Path, SettableFuture<Void>> cellFlushes = new HashMap<>();
+    for (Map.Entry<Path, WatchmanSubscription> entry : subscriptions.entrySet()) {
+      SettableFuture<Void> flush = SettableFuture.create();
+      flushes.put(entry.getKey(), flush);
+      cellFlushes.put(entry.getKey(), flush);
+      checkNotFailed();
+      entry.getValue().flush(timeoutMillis);
+    }
+
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    for (Map.Entry<Path, SettableFuture<Void>> entry : cellFlushes.entrySet()) {
+      try {
+        entry.getValue().get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        throw new IOException(e.getCause());
+      } catch (TimeoutException e) {
+        throw new IOException(
+            String.format(
+                "Watchman did not flush the subscription for %s within %d ms",
+                entry.getKey(),
+                timeoutMillis));
+      }
+    }
+    checkNotFailed();
+
+    boolean changed = applyPendingChanges();
+    if (!changedSinceLastSync.getAndSet(false) && !changed) {
+      buckEventBus.post(WatchmanStatusEvent.zeroFileChanges());
+    }
+    synchronized (this) {
+      commandRunning = true;
+    }
+  }
+
+  /**
+   * Lets the changes which arrived while the command was running be posted.
+   */
+  public void onCommandFinished() {
+    synchronized (this) {
+      commandRunning = false;
+    }
+    scheduleApply();
+  }
+
+  private void checkNotFailed() throws IOException {
+    if (failure.isPresent()) {
+      throw new IOException(failure.get());
+    }
+  }
+
+  private void read(Path cellPath, WatchmanSubscription subscription) {
+    try {
+      while (!closed) {
+        handleResponse(cellPath, subscription.read());
+      }
+    } catch (IOException | RuntimeException e) {
+      if (closed) {
+        return;
+      }
+      LOG.warn(e, "Lost the Watchman subscription for %s", cellPath);
+      failure = Optional.of("Lost the Watchman subscription for " + cellPath);
+      flushes.values().forEach(flush -> flush.setException(e));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void handleResponse(Path cellPath, Map<String, Object> response) throws IOException {
+    String error = (String) response.get("error");
+    if (error != null) {
+      throw new WatchmanWatcherException(error);
+    }
+
+    if (response.containsKey("subscription")) {
+      if (Boolean.TRUE.equals(response.get("canceled"))) {
+        throw new IOException("Watchman canceled the subscription");
+      }
+      // Other unilateral responses, such as state-enter and state-leave, don't list files.
+      if (!response.containsKey("files") && !response.containsKey("is_fresh_instance")) {
+        return;
+      }
+      synchronized (this) {
+        if (Boolean.TRUE.equals(response.get("is_fresh_instance"))) {
+          LOG.debug("Watchman indicated a fresh instance for %s", cellPath);
+          pendingOverflow = Optional.of("Watchman fresh instance");
+        }
+        List<Map<String, Object>> files = (List<Map<String, Object>>) response.get("files");
+        if (files != null) {
+          for (Map<String, Object> file : files) {
+            addPendingChange(file);
+          }
+        }
+        String clock = (String) response.get("clock");
+        if (clock != null) {
+          pendingClocks.put(cellPath, clock);
+        }
+      }
+      scheduleApply();
+    } else if (response.containsKey("synced") ||
+        response.containsKey("no_sync_needed") ||
+        response.containsKey("dropped")) {
+      SettableFuture<Void> flush = flushes.remove(cellPath);
+      if (flush != null) {
+        flush.set(null);
+      }
+    }
+    // Anything else is the response to the subscribe command itself.
+  }
+
+  @GuardedBy("this")
+  private void addPendingChange(Map<String, Object> file) {
+    String fileName = (String) file.get("name");
+    if (fileName == null) {
+      LOG.warn("Filename missing from Watchman file response %s", file);
+      pendingOverflow = Optional.of("Filename missing from Watchman response");
+      return;
+    }
+    Path path = Paths.get(fileName);
+    WatchEvent.Kind<Path> kind;
+    WatchEvent.Kind<Path> previousKind = pendingChanges.get(path);
+    if (Boolean.FALSE.equals(file.get("exists"))) {
+      kind = StandardWatchEventKinds.ENTRY_DELETE;
+    } else if (Boolean.TRUE.equals(file.get("new")) ||
+        (previousKind != null && previousKind != StandardWatchEventKinds.ENTRY_MODIFY)) {
+      // A file deleted then created again may not be the same kind of file any more.
+      kind = StandardWatchEventKinds.ENTRY_CREATE;
+    } else {
+      kind = StandardWatchEventKinds.ENTRY_MODIFY;
+    }
+    pendingChanges.put(path, kind);
+  }
+
+  private void scheduleApply() {
+    if (!closed && applyScheduled.compareAndSet(false, true)) {
+      applier.execute(this::applyInBackground);
+    }
+  }
+
+  private void applyInBackground() {
+    applyScheduled.set(false);
+    synchronized (lock) {
+      synchronized (this) {
+        if (commandRunning || closed) {
+          return;
+        }
+      }
+      if (applyPendingChanges()) {
+        changedSinceLastSync.set(true);
+      }
+    }
+  }
+
+  /**
+   * Posts the pending changes, and moves the cursors past them.
+   *
+   * @return whether there were any.
+   */
+  private boolean applyPendingChanges() {
+    Map<Path, WatchEvent.Kind<Path>> changes;
+    Map<Path, String> clocks;
+    Optional<String> overflow;
+    synchronized (this) {
+      if (pendingChanges.isEmpty() && !pendingOverflow.isPresent() && pendingClocks.isEmpty()) {
+        return false;
+      }
+      changes = new LinkedHashMap<>(pendingChanges);
+      clocks = new HashMap<>(pendingClocks);
+      overflow = pendingOverflow;
+      pendingChanges.clear();
+      pendingClocks.clear();
+      pendingOverflow = Optional.empty();
+    }
+
+    if (overflow.isPresent()) {
+      // Everything is invalidated anyway, so there's no need to post the individual changes.
+      fileChangeEventBus.post(WatchmanWatcher.createOverflowEvent(overflow.get()));
+    } else {
+      for (Map.Entry<Path, WatchEvent.Kind<Path>> change : changes.entrySet()) {
+        fileChangeEventBus.post(
+            WatchmanWatcher.createPathEvent(change.getKey(), change.getValue()));
+      }
+    }
+    LOG.debug("Posted %d coalesced Watchman events.", changes.size());
+
+    for (Map.Entry<Path, String> clock : clocks.entrySet()) {
+      cursors.get(clock.getKey()).set(clock.getValue());
+    }
+    return overflow.isPresent() || !changes.isEmpty();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    for (WatchmanSubscription subscription : subscriptions.values()) {
+      try {
+        subscription.close();
+      } catch (IOException e) {
+        LOG.warn(e, "Could not close Watchman subscription %s", subscription.getName());
+      }
+    }
+    readers.shutdownNow();
+    applier.shutdownNow();
+  }
+}
@@ -210,6 +210,21 @@ public class WatchmanWatcher {
     return ImmutableList.of();
   }
 
+  /**
+   * Subscribes to the changes matching the query for each cell since its cursor, over new
+   * connections to the Watchman listening on the given socket.  The changes are posted to the
+   * EventBus while holding the given lock.
+   */
+  public WatchmanSubscriber subscribe(Path socketPath, Object lock) throws IOException {
+    return WatchmanSubscriber.subscribe(
+        socketPath,
+        fileChangeEventBus,
+        lock,
+        queries,
+        cursors,
+        timeoutMillis);
+  }
+
   /**
    * Query Watchman for file change events. If too many events are pending or an error occurs
    * an overflow event is posted to the EventBus signalling that events may have been lost
@@ -385,6 +400,30 @@ public class WatchmanWatcher {
     };
   }
 
+  static WatchEvent<Path> createPathEvent(final Path path, final WatchEvent.Kind<Path> kind) {
+    return new WatchEvent<Path>() {
+      @Override
+      public Kind<Path> kind() {
+        return kind;
+      }
+
+      @Override
+      public int count() {
+        return 1;
+      }
+
+      @Override
+      public Path context() {
+        return path;
+      }
+
+      @Override
+      public String toString() {
+        return "Watchman Path WatchEvent " + kind + " " + path;
+      }
+    };
+  }
+
   private static class PathEventBuilder {
 
     private WatchEvent.Kind<Path> kind;
@@ -410,28 +449,7 @@ public class WatchmanWatcher {
 
     public WatchEvent<Path> build() {
       Preconditions.checkNotNull(path);
-      return new WatchEvent<Path>() {
-        @Override
-        public Kind<Path> kind() {
-          return kind;
-        }
-
-        @Override
-        public int count() {
-          return 1;
-        }
-
-        @Override
-        @Nullable
-        public Path context() {
-          return path;
-        }
-
-        @Override
-        public String toString() {
-          return "Watchman Path WatchEvent " + kind + " " + path;
-        }
-      };
+      return createPathEvent(path, kind);
     }
   }
 }
@@ -19,7 +19,9 @@ package com.facebook.buck.util.cache;
 import com.facebook.buck.hashing.PathHashing;
 import com.facebook.buck.io.ArchiveMemberPath;
 import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
 import com.facebook.buck.util.MoreCollectors;
+import com.facebook.buck.util.concurrent.MostExecutors;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
@@ -31,47 +33,85 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 
 public class DefaultFileHashCache implements ProjectFileHashCache {
 
+  private static final Logger LOG = Logger.get(DefaultFileHashCache.class);
+
   private static final boolean SHOULD_CHECK_IGNORED_PATHS =
       Boolean.getBoolean("buck.DefaultFileHashCache.check_ignored_paths");
 
   private final ProjectFilesystem projectFilesystem;
   private final Optional<Path> buckOutPath;
+  private final Optional<FileHashStore> fileHashStore;
 
+  // Directories and archives, and until they're moved to the trie, plain files being loaded.
   @VisibleForTesting
   final LoadingCache<Path, HashCodeAndFileType> loadingCache;
 
+  // Plain files, which make up most of the entries, stored in a fraction of the space.
+  @VisibleForTesting
+  final FileHashTrie fileHashes;
+
   @VisibleForTesting
   final LoadingCache<Path, Long> sizeCache;
 
+  // Bumped before each invalidation, so that hashes loaded concurrently with one can be dropped
+  // instead of being moved to the trie after it.
+  private final AtomicLong invalidations = new AtomicLong();
+
   @VisibleForTesting
   DefaultFileHashCache(
       ProjectFilesystem projectFilesystem,
       Optional<Path> buckOutPath) {
+    this(projectFilesystem, buckOutPath, Optional.empty());
+  }
+
+  /**
+   * @param fileHashStore where to look up the hashes of files before reading their contents, and
+   *     to store the hashes of the files it had to read.
+   */
+  @VisibleForTesting
+  DefaultFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      Optional<Path> buckOutPath,
+      Optional<FileHashStore> fileHashStore) {
     this.projectFilesystem = projectFilesystem;
     this.buckOutPath = buckOutPath;
+    this.fileHashStore = fileHashStore;
+    this.fileHashes =
+        new FileHashTrie(projectFilesystem.getRootPath().getFileSystem().getSeparator());
 
     this.loadingCache =
         CacheBuilder.newBuilder().build(
             new CacheLoader<Path, HashCodeAndFileType>() {
               @Override
               public HashCodeAndFileType load(@Nonnull Path path) throws Exception {
-                return getHashCodeAndFileType(path);
+                return getHashCodeAndFileType(path, /* useFileHashStore */ true);
               }
             });
 
@@ -96,6 +136,12 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     return new DefaultFileHashCache(projectFilesystem, Optional.empty());
   }
 
+  public static DefaultFileHashCache createDefaultFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      Optional<FileHashStore> fileHashStore) {
+    return new DefaultFileHashCache(projectFilesystem, Optional.empty(), fileHashStore);
+  }
+
   public static ImmutableList<? extends ProjectFileHashCache> createOsRootDirectoriesCaches() {
     ImmutableList.Builder<ProjectFileHashCache> allCaches = ImmutableList.builder();
     for (Path root : FileSystems.getDefault().getRootDirectories()) {
@@ -126,21 +172,37 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     }
   }
 
-  private HashCodeAndFileType getHashCodeAndFileType(Path path) throws IOException {
+  private HashCodeAndFileType getHashCodeAndFileType(
+      Path path,
+      boolean useFileHashStore) throws IOException {
     if (projectFilesystem.isDirectory(path)) {
       return getDirHashCode(path);
     } else if (path.toString().endsWith(".jar")) {
       return HashCodeAndFileType.ofArchive(
-          getFileHashCode(path),
+          getFileHashCode(path, useFileHashStore),
           projectFilesystem,
           path);
     }
 
-    return HashCodeAndFileType.ofFile(getFileHashCode(path));
+    return HashCodeAndFileType.ofFile(getFileHashCode(path, useFileHashStore));
   }
 
-  private HashCode getFileHashCode(Path path) throws IOException {
-    return projectFilesystem.computeSha1(path).asHashCode();
+  private HashCode getFileHashCode(Path path, boolean useFileHashStore) throws IOException {
+    if (!useFileHashStore || !fileHashStore.isPresent()) {
+      return projectFilesystem.computeSha1(path).asHashCode();
+    }
+    // Read the attributes first, so that a file modified while being hashed doesn't end up stored
+    // with a hash of its old contents and the attributes of its new ones.
+    BasicFileAttributes attributes = projectFilesystem.readAttributes(
+        path,
+        BasicFileAttributes.class);
+    Optional<HashCode> storedHashCode = fileHashStore.get().get(path, attributes);
+    if (storedHashCode.isPresent()) {
+      return storedHashCode.get();
+    }
+    HashCode hashCode = projectFilesystem.computeSha1(path).asHashCode();
+    fileHashStore.get().put(path, attributes, hashCode);
+    return hashCode;
   }
 
   private long getPathSize(Path path) throws IOException {
@@ -163,6 +225,7 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     Preconditions.checkState(!relativePath.isAbsolute());
     checkNotIgnored(relativePath);
     return loadingCache.getIfPresent(relativePath) != null ||
+        fileHashes.get(relativePath) != null ||
         (projectFilesystem.exists(relativePath) && !isIgnored(relativePath));
   }
 
@@ -181,7 +244,9 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   }
 
   private void invalidateImmediate(Path path) {
+    invalidations.incrementAndGet();
     loadingCache.invalidate(path);
+    fileHashes.remove(path);
     sizeCache.invalidate(path);
   }
 
@@ -198,9 +263,20 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     }
   }
 
+  /**
+   * Removes the hashes of all plain files at or under {@code path}, without having to find them in
+   * the loading cache first.
+   */
+  void invalidateAllFilesUnder(Path path) {
+    invalidations.incrementAndGet();
+    fileHashes.removeAllUnder(path);
+  }
+
   @Override
   public void invalidateAll() {
+    invalidations.incrementAndGet();
     loadingCache.invalidateAll();
+    fileHashes.clear();
     sizeCache.invalidateAll();
   }
 
@@ -211,9 +287,13 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
   public HashCode get(Path relativePath) throws IOException {
     Preconditions.checkArgument(!relativePath.isAbsolute());
     checkNotIgnored(relativePath);
-    HashCode sha1;
+    Path path = relativePath.normalize();
+    HashCode sha1 = fileHashes.get(path);
+    if (sha1 != null) {
+      return sha1;
+    }
     try {
-      sha1 = loadingCache.get(relativePath.normalize()).getHashCode();
+      sha1 = load(path).getHashCode();
     } catch (ExecutionException e) {
       Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
       throw new RuntimeException(e.getCause());
@@ -221,6 +301,21 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     return Preconditions.checkNotNull(sha1, "Failed to find a HashCode for %s.", relativePath);
   }
 
+  private HashCodeAndFileType load(Path path) throws ExecutionException {
+    long invalidationsBeforeLoad = invalidations.get();
+    HashCodeAndFileType value = loadingCache.get(path);
+    if (value.getType() == HashCodeAndFileType.Type.FILE &&
+        fileHashes.put(path, value.getHashCode())) {
+      loadingCache.invalidate(path);
+      // If the file was invalidated while it was being hashed, the hash may be of its old contents,
+      // and the invalidation may have run before the hash was put in the trie.
+      if (invalidations.get() != invalidationsBeforeLoad) {
+        fileHashes.remove(path);
+      }
+    }
+    return value;
+  }
+
   @Override
   public long getSize(Path relativePath) throws IOException {
     Preconditions.checkArgument(!relativePath.isAbsolute());
@@ -233,6 +328,61 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     }
   }
 
+  /**
+   * Hashes the files in parallel, on a pool bounded to the number of processors.  Directories
+   * are expanded into the files under them, so that those are hashed in parallel too.
+   */
+  @Override
+  public void prefetch(Collection<Path> relativePaths) throws InterruptedException {
+    Set<Path> filesToHash = new LinkedHashSet<>();
+    for (Path relativePath : relativePaths) {
+      Preconditions.checkArgument(!relativePath.isAbsolute());
+      Path path = relativePath.normalize();
+      if (loadingCache.getIfPresent(path) != null ||
+          fileHashes.get(path) != null ||
+          !willGet(path)) {
+        continue;
+      }
+      try {
+        if (projectFilesystem.isDirectory(path)) {
+          filesToHash.addAll(projectFilesystem.getFilesUnderPath(path));
+        } else {
+          filesToHash.add(path);
+        }
+      } catch (IOException e) {
+        LOG.verbose(e, "Not prefetching the hash of %s", path);
+      }
+    }
+    if (filesToHash.isEmpty()) {
+      return;
+    }
+
+    ListeningExecutorService executor = MoreExecutors.listeningDecorator(
+        MostExecutors.newMultiThreadExecutor(
+            "file-hash-prefetch",
+            Math.min(filesToHash.size(), Runtime.getRuntime().availableProcessors())));
+    try {
+      List<ListenableFuture<?>> futures = new ArrayList<>(filesToHash.size());
+      for (Path path : filesToHash) {
+        futures.add(executor.submit(() -> prefetch(path)));
+      }
+      Futures.successfulAsList(futures).get();
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void prefetch(Path path) {
+    try {
+      load(path);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // The error is reported when the hash is actually asked for.
+      LOG.verbose(e.getCause(), "Failed to prefetch the hash of %s", path);
+    }
+  }
+
   @Override
   public HashCode get(ArchiveMemberPath archiveMemberPath) throws IOException {
     Preconditions.checkArgument(!archiveMemberPath.isAbsolute());
@@ -282,9 +432,14 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
           projectFilesystem.getPathRelativeToProjectRoot(relativePath).get());
 
     } else {
+      if (fileHashes.put(relativePath, hashCode)) {
+        loadingCache.invalidate(relativePath);
+        return;
+      }
       value = HashCodeAndFileType.ofFile(hashCode);
     }
 
+    fileHashes.remove(relativePath);
     loadingCache.put(relativePath, value);
   }
 
@@ -295,14 +450,23 @@ public class DefaultFileHashCache implements ProjectFileHashCache {
     for (Map.Entry<Path, HashCodeAndFileType> entry : cacheMap.entrySet()) {
       Path path = entry.getKey();
       HashCodeAndFileType cached = entry.getValue();
-      HashCodeAndFileType current = getHashCodeAndFileType(path);
+      HashCodeAndFileType current = getHashCodeAndFileType(path, /* useFileHashStore */ false);
       if (!cached.equals(current)) {
         errors.add(path.toString());
       }
     }
+    Map<Path, HashCode> fileHashesMap = new HashMap<>();
+    fileHashes.forEach(
+        (pathString, hashCode) -> fileHashesMap.put(projectFilesystem.getPath(pathString), hashCode));
+    for (Map.Entry<Path, HashCode> entry : fileHashesMap.entrySet()) {
+      Path path = entry.getKey();
+      if (!entry.getValue().equals(getFileHashCode(path, /* useFileHashStore */ false))) {
+        errors.add(path.toString());
+      }
+    }
     return FileHashCacheVerificationResult.builder()
         .setCachesExamined(1)
-        .setFilesExamined(cacheMap.size())
+        .setFilesExamined(cacheMap.size() + fileHashesMap.size())
         .addAllVerificationErrors(errors)
         .build();
   }
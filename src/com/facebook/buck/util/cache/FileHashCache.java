@@ -25,6 +25,7 @@ import org.immutables.value.Value;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -55,6 +56,16 @@ public interface FileHashCache extends FileHashLoader {
     set(filesystem.resolve(path), hashCode);
   }
 
+  /**
+   * Hashes the given relative {@link Path}s under the given {@link ProjectFilesystem} ahead of
+   * them being asked for, where the cache supports it.  Paths which can't be hashed are skipped.
+   */
+  @SuppressWarnings("unused")
+  default void prefetch(
+      ProjectFilesystem filesystem,
+      Collection<Path> paths) throws InterruptedException {
+  }
+
   default FileHashCacheVerificationResult verify() throws IOException {
     throw new RuntimeException(
         "FileHashCache class " + getClass().getName() + " does not support verification.");
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.log.Logger;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Sets;
+import com.google.common.hash.HashCode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the hashes of the files in a project to disk, along with the size, modification time
+ * and file key (the inode, on POSIX systems) each file had when it was hashed, so that a new
+ * process only has to read the contents of the files which have changed since.
+ *
+ * Files which were modified just before being hashed aren't stored, since they may be modified
+ * again without their modification time changing on file systems with coarse timestamps.
+ *
+ * Once the store holds more than a given number of files, the ones this process hasn't looked up
+ * or stored are dropped when it's saved, so that deleted and long unused files don't pile up.
+ */
+public class FileHashStore {
+
+  private static final Logger LOG = Logger.get(FileHashStore.class);
+
+  private static final int FORMAT_VERSION = 1;
+
+  private static final String FILE_NAME = ".file_hashes";
+
+  private static final int DEFAULT_MAX_ENTRIES = 1000000;
+
+  // Files modified more recently than this when hashed are not trusted to change their
+  // modification time when they are next modified.
+  private static final long RACY_MODIFICATION_WINDOW_MILLIS = TimeUnit.SECONDS.toMillis(2);
+
+  private final Path storePath;
+  private final int maxEntries;
+  private final Supplier<ConcurrentMap<Path, Entry>> entries;
+  private final Set<Path> usedPaths = Sets.newConcurrentHashSet();
+  private volatile boolean changed = false;
+
+  /**
+   * @param storePath absolute path of the file to persist the hashes in.
+   */
+  public FileHashStore(Path storePath) {
+    this(storePath, DEFAULT_MAX_ENTRIES);
+  }
+
+  @VisibleForTesting
+  FileHashStore(Path storePath, int maxEntries) {
+    this.storePath = storePath;
+    this.maxEntries = maxEntries;
+    this.entries = Suppliers.memoize(this::load);
+  }
+
+  /**
+   * @return a store for the files of the project, kept in its buck-out.
+   */
+  public static FileHashStore forFilesystem(ProjectFilesystem filesystem) {
+    return new FileHashStore(
+        filesystem.resolve(filesystem.getBuckPaths().getBuckOut().resolve(FILE_NAME)));
+  }
+
+  /**
+   * @return the hash the file had when last stored, if its attributes haven't changed since.
+   */
+  public Optional<HashCode> get(Path relativePath, BasicFileAttributes attributes) {
+    usedPaths.add(relativePath);
+    Entry entry = entries.get().get(relativePath);
+    if (entry == null || !entry.matches(attributes)) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.hash);
+  }
+
+  /**
+   * Stores the hash of the file, computed from its contents when it had the given attributes.
+   */
+  public void put(Path relativePath, BasicFileAttributes attributes, HashCode hashCode) {
+    usedPaths.add(relativePath);
+    long modifiedMillis = attributes.lastModifiedTime().toMillis();
+    if (System.currentTimeMillis() - modifiedMillis < RACY_MODIFICATION_WINDOW_MILLIS) {
+      if (entries.get().remove(relativePath) != null) {
+        changed = true;
+      }
+      return;
+    }
+    Entry entry = new Entry(
+        attributes.size(),
+        attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+        getFileKey(attributes),
+        hashCode);
+    if (!entry.equals(entries.get().put(relativePath, entry))) {
+      changed = true;
+    }
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.get().size();
+  }
+
+  /**
+   * Writes the hashes to disk, if any were stored since they were last written.
+   */
+  public synchronized void save() {
+    if (!changed) {
+      return;
+    }
+    changed = false;
+    Map<Path, Entry> snapshot = entries.get();
+    if (snapshot.size() > maxEntries) {
+      snapshot.keySet().retainAll(usedPaths);
+    }
+    try {
+      Files.createDirectories(storePath.getParent());
+      Path tmp = Files.createTempFile(
+          storePath.getParent(),
+          storePath.getFileName().toString(),
+          ".tmp");
+      try {
+        try (DataOutputStream output =
+                 new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          output.writeInt(FORMAT_VERSION);
+          output.writeInt(snapshot.size());
+          for (Map.Entry<Path, Entry> entry : snapshot.entrySet()) {
+            output.writeUTF(entry.getKey().toString());
+            entry.getValue().write(output);
+          }
+        }
+        Files.move(
+            tmp,
+            storePath,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+      LOG.debug("Saved %d file hashes to %s", snapshot.size(), storePath);
+    } catch (IOException e) {
+      changed = true;
+      LOG.warn(e, "Failed to write file hashes to %s", storePath);
+    }
+  }
+
+  private ConcurrentMap<Path, Entry> load() {
+    ConcurrentMap<Path, Entry> loaded = new ConcurrentHashMap<>();
+    try (DataInputStream input =
+             new DataInputStream(new BufferedInputStream(Files.newInputStream(storePath)))) {
+      if (input.readInt() != FORMAT_VERSION) {
+        LOG.debug("Ignoring file hashes stored in a different format in %s", storePath);
+        return loaded;
+      }
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        Path path = Paths.get(input.readUTF());
+        loaded.put(path, Entry.read(input));
+      }
+      LOG.debug("Loaded %d file hashes from %s", count, storePath);
+    } catch (NoSuchFileException e) {
+      return loaded;
+    } catch (IOException | RuntimeException e) {
+      LOG.warn(e, "Failed to read file hashes from %s", storePath);
+      loaded.clear();
+    }
+    return loaded;
+  }
+
+  private static String getFileKey(BasicFileAttributes attributes) {
+    Object fileKey = attributes.fileKey();
+    return fileKey == null ? "" : fileKey.toString();
+  }
+
+  private static final class Entry {
+    private final long size;
+    private final long modifiedNanos;
+    private final String fileKey;
+    private final HashCode hash;
+
+    private Entry(long size, long modifiedNanos, String fileKey, HashCode hash) {
+      this.size = size;
+      this.modifiedNanos = modifiedNanos;
+      this.fileKey = fileKey;
+      this.hash = hash;
+    }
+
+    private boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size() &&
+          modifiedNanos == attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS) &&
+          fileKey.equals(getFileKey(attributes));
+    }
+
+    private void write(DataOutputStream output) throws IOException {
+      output.writeLong(size);
+      output.writeLong(modifiedNanos);
+      output.writeUTF(fileKey);
+      byte[] hashBytes = hash.asBytes();
+      output.writeByte(hashBytes.length);
+      output.write(hashBytes);
+    }
+
+    private static Entry read(DataInputStream input) throws IOException {
+      long size = input.readLong();
+      long modifiedNanos = input.readLong();
+      String fileKey = input.readUTF();
+      byte[] hashBytes = new byte[input.readUnsignedByte()];
+      input.readFully(hashBytes);
+      return new Entry(size, modifiedNanos, fileKey, HashCode.fromBytes(hashBytes));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Entry)) {
+        return false;
+      }
+      Entry that = (Entry) other;
+      return size == that.size &&
+          modifiedNanos == that.modifiedNanos &&
+          fileKey.equals(that.fileKey) &&
+          hash.equals(that.hash);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(size, modifiedNanos, fileKey, hash);
+    }
+  }
+}
@@ -0,0 +1,481 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+
+/**
+ * Maps relative paths to the SHA-1 hashes of the files they point to, without keeping a
+ * {@link Path} or {@link HashCode} object around for each of them.
+ *
+ * Paths are stored as a trie of interned path segments, with each node identified by its index
+ * in a set of primitive arrays.  Each segment string is stored once however many directories it
+ * appears in, and the hashes are stored inline, five ints per node.  Nodes are looked up by their
+ * parent and segment in an open addressing table, so finding a path costs one probe per segment,
+ * and all the paths under a directory can be found without looking at any other path.
+ *
+ * Removing a hash leaves its node, and the segments only it used, in place, so that a path which
+ * is hashed again doesn't have to be added again.  Once enough hashes have been removed that the
+ * nodes without a hash under them may outnumber the rest, the trie is rebuilt without them.
+ */
+final class FileHashTrie {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+  private static final int HASH_BYTES = 20;
+  private static final int HASH_INTS = HASH_BYTES / Integer.BYTES;
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final long EMPTY_KEY = -1;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final String separator;
+
+  @GuardedBy("lock")
+  private final Map<String, Integer> segmentIds = new HashMap<>();
+  @GuardedBy("lock")
+  private final List<String> segments = new ArrayList<>();
+
+  // Indexed by node.
+  @GuardedBy("lock")
+  private int[] parents;
+  @GuardedBy("lock")
+  private int[] nodeSegments;
+  @GuardedBy("lock")
+  private int[] firstChildren;
+  @GuardedBy("lock")
+  private int[] nextSiblings;
+  @GuardedBy("lock")
+  private int[] hashes;
+  @GuardedBy("lock")
+  private final BitSet hasHash = new BitSet();
+  @GuardedBy("lock")
+  private int nodeCount;
+  @GuardedBy("lock")
+  private int hashCount;
+  @GuardedBy("lock")
+  private int removedSinceCompaction;
+
+  // Open addressing table of (parent, segment) to child node.
+  @GuardedBy("lock")
+  private long[] childKeys;
+  @GuardedBy("lock")
+  private int[] childNodes;
+
+  /**
+   * @param separator the separator to join path segments with when listing the paths.
+   */
+  FileHashTrie(String separator) {
+    this.separator = separator;
+    reset();
+  }
+
+  /**
+   * @return the hash stored for the path, or null if there's none.
+   */
+  @Nullable
+  HashCode get(Path path) {
+    lock.readLock().lock();
+    try {
+      int node = find(path);
+      if (node == NONE || !hasHash.get(node)) {
+        return null;
+      }
+      return getHash(node);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return whether the hash could be stored, which is only the case for SHA-1 hashes.
+   */
+  boolean put(Path path, HashCode hashCode) {
+    if (hashCode.bits() != HASH_BYTES * Byte.SIZE) {
+      return false;
+    }
+    byte[] bytes = hashCode.asBytes();
+    lock.writeLock().lock();
+    try {
+      int node = findOrAdd(path);
+      int offset = node * HASH_INTS;
+      for (int i = 0; i < HASH_INTS; i++) {
+        hashes[offset + i] = readInt(bytes, i * Integer.BYTES);
+      }
+      if (!hasHash.get(node)) {
+        hasHash.set(node);
+        hashCount++;
+      }
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(Path path) {
+    lock.writeLock().lock();
+    try {
+      int node = find(path);
+      if (node != NONE) {
+        clearHash(node);
+        compactIfMostlyDead();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the hashes of the path and of all the paths under it.
+   */
+  void removeAllUnder(Path path) {
+    lock.writeLock().lock();
+    try {
+      int node = find(path);
+      if (node == NONE) {
+        return;
+      }
+      clearHash(node);
+      int[] stack = new int[16];
+      int stackSize = 0;
+      for (int child = firstChildren[node]; child != NONE; child = nextSiblings[child]) {
+        if (stackSize == stack.length) {
+          stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[stackSize++] = child;
+      }
+      while (stackSize > 0) {
+        int current = stack[--stackSize];
+        clearHash(current);
+        for (int child = firstChildren[current]; child != NONE; child = nextSiblings[child]) {
+          if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+          }
+          stack[stackSize++] = child;
+        }
+      }
+      compactIfMostlyDead();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes all the hashes, and forgets all the paths.
+   */
+  void clear() {
+    lock.writeLock().lock();
+    try {
+      reset();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return the number of hashes stored.
+   */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return hashCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Calls the consumer with each path, joined with the separator, and its hash.
+   */
+  void forEach(BiConsumer<String, HashCode> consumer) {
+    lock.readLock().lock();
+    try {
+      StringBuilder builder = new StringBuilder();
+      for (int node = hasHash.nextSetBit(0); node >= 0; node = hasHash.nextSetBit(node + 1)) {
+        builder.setLength(0);
+        appendPath(builder, node);
+        consumer.accept(builder.toString(), getHash(node));
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @VisibleForTesting
+  int getNodeCount() {
+    lock.readLock().lock();
+    try {
+      return nodeCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void reset() {
+    segmentIds.clear();
+    segments.clear();
+    allocate(INITIAL_CAPACITY);
+    hasHash.clear();
+    hashCount = 0;
+    removedSinceCompaction = 0;
+
+    parents[ROOT] = NONE;
+    nodeSegments[ROOT] = NONE;
+    firstChildren[ROOT] = NONE;
+    nextSiblings[ROOT] = NONE;
+    nodeCount = 1;
+  }
+
+  private void allocate(int capacity) {
+    parents = new int[capacity];
+    nodeSegments = new int[capacity];
+    firstChildren = new int[capacity];
+    nextSiblings = new int[capacity];
+    hashes = new int[capacity * HASH_INTS];
+    childKeys = new long[capacity * 2];
+    Arrays.fill(childKeys, EMPTY_KEY);
+    childNodes = new int[capacity * 2];
+  }
+
+  /**
+   * Rebuilds the trie without the nodes which have no hash under them, if enough hashes were
+   * removed since it was last rebuilt that they may be most of the nodes.  Each rebuild is paid
+   * for by the removals before it.
+   */
+  private void compactIfMostlyDead() {
+    if (removedSinceCompaction * 2 < nodeCount) {
+      return;
+    }
+    removedSinceCompaction = 0;
+
+    // A node is live if it has a hash or is the parent of a live node.  Nodes are always added
+    // after their parents, so renumbering them in order keeps that true, and lets the parents be
+    // renumbered before their children.
+    BitSet live = new BitSet(nodeCount);
+    live.set(ROOT);
+    for (int node = hasHash.nextSetBit(0); node >= 0; node = hasHash.nextSetBit(node + 1)) {
+      for (int current = node; !live.get(current); current = parents[current]) {
+        live.set(current);
+      }
+    }
+    if (live.cardinality() * 2 > nodeCount) {
+      return;
+    }
+
+    int[] oldParents = parents;
+    int[] oldNodeSegments = nodeSegments;
+    int[] oldHashes = hashes;
+    BitSet oldHasHash = (BitSet) hasHash.clone();
+    List<String> oldSegments = new ArrayList<>(segments);
+    int oldNodeCount = nodeCount;
+
+    int capacity = INITIAL_CAPACITY;
+    while (capacity < live.cardinality()) {
+      capacity *= 2;
+    }
+    segmentIds.clear();
+    segments.clear();
+    allocate(capacity);
+    hasHash.clear();
+    parents[ROOT] = NONE;
+    nodeSegments[ROOT] = NONE;
+    firstChildren[ROOT] = NONE;
+    nextSiblings[ROOT] = NONE;
+    nodeCount = 1;
+
+    int[] newNodes = new int[oldNodeCount];
+    newNodes[ROOT] = ROOT;
+    for (int node = live.nextSetBit(ROOT + 1); node >= 0; node = live.nextSetBit(node + 1)) {
+      int newNode = addChild(
+          newNodes[oldParents[node]],
+          internSegment(oldSegments.get(oldNodeSegments[node])));
+      newNodes[node] = newNode;
+      if (oldHasHash.get(node)) {
+        System.arraycopy(oldHashes, node * HASH_INTS, hashes, newNode * HASH_INTS, HASH_INTS);
+        hasHash.set(newNode);
+      }
+    }
+  }
+
+  private int find(Path path) {
+    String pathString = path.toString();
+    String pathSeparator = path.getFileSystem().getSeparator();
+    int node = ROOT;
+    int start = 0;
+    while (start < pathString.length() && node != NONE) {
+      int end = pathString.indexOf(pathSeparator, start);
+      if (end == -1) {
+        end = pathString.length();
+      }
+      if (end > start) {
+        Integer segment = segmentIds.get(pathString.substring(start, end));
+        node = segment == null ? NONE : findChild(node, segment);
+      }
+      start = end + pathSeparator.length();
+    }
+    return node;
+  }
+
+  private int findOrAdd(Path path) {
+    String pathString = path.toString();
+    String pathSeparator = path.getFileSystem().getSeparator();
+    int node = ROOT;
+    int start = 0;
+    while (start < pathString.length()) {
+      int end = pathString.indexOf(pathSeparator, start);
+      if (end == -1) {
+        end = pathString.length();
+      }
+      if (end > start) {
+        int segment = internSegment(pathString.substring(start, end));
+        int child = findChild(node, segment);
+        node = child == NONE ? addChild(node, segment) : child;
+      }
+      start = end + pathSeparator.length();
+    }
+    return node;
+  }
+
+  private int internSegment(String segment) {
+    Integer id = segmentIds.get(segment);
+    if (id == null) {
+      id = segments.size();
+      segments.add(segment);
+      segmentIds.put(segment, id);
+    }
+    return id;
+  }
+
+  private int findChild(int parent, int segment) {
+    long key = childKey(parent, segment);
+    int mask = childKeys.length - 1;
+    for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+      if (childKeys[slot] == key) {
+        return childNodes[slot];
+      }
+      if (childKeys[slot] == EMPTY_KEY) {
+        return NONE;
+      }
+    }
+  }
+
+  private int addChild(int parent, int segment) {
+    if (nodeCount == parents.length) {
+      int capacity = parents.length * 2;
+      parents = Arrays.copyOf(parents, capacity);
+      nodeSegments = Arrays.copyOf(nodeSegments, capacity);
+      firstChildren = Arrays.copyOf(firstChildren, capacity);
+      nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+      hashes = Arrays.copyOf(hashes, capacity * HASH_INTS);
+    }
+    int node = nodeCount++;
+    parents[node] = parent;
+    nodeSegments[node] = segment;
+    firstChildren[node] = NONE;
+    nextSiblings[node] = firstChildren[parent];
+    firstChildren[parent] = node;
+
+    // Keep the table at most half full.
+    if (nodeCount * 2 > childKeys.length) {
+      long[] oldKeys = childKeys;
+      int[] oldNodes = childNodes;
+      childKeys = new long[oldKeys.length * 2];
+      Arrays.fill(childKeys, EMPTY_KEY);
+      childNodes = new int[oldNodes.length * 2];
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] != EMPTY_KEY) {
+          insertChild(oldKeys[i], oldNodes[i]);
+        }
+      }
+    }
+    insertChild(childKey(parent, segment), node);
+    return node;
+  }
+
+  private void insertChild(long key, int node) {
+    int mask = childKeys.length - 1;
+    int slot = slotOf(key, mask);
+    while (childKeys[slot] != EMPTY_KEY) {
+      slot = (slot + 1) & mask;
+    }
+    childKeys[slot] = key;
+    childNodes[slot] = node;
+  }
+
+  private void clearHash(int node) {
+    if (hasHash.get(node)) {
+      hasHash.clear(node);
+      hashCount--;
+      removedSinceCompaction++;
+    }
+  }
+
+  private HashCode getHash(int node) {
+    byte[] bytes = new byte[HASH_BYTES];
+    int offset = node * HASH_INTS;
+    for (int i = 0; i < HASH_INTS; i++) {
+      writeInt(bytes, i * Integer.BYTES, hashes[offset + i]);
+    }
+    return HashCode.fromBytes(bytes);
+  }
+
+  private void appendPath(StringBuilder builder, int node) {
+    int parent = parents[node];
+    if (parent != ROOT) {
+      appendPath(builder, parent);
+      builder.append(separator);
+    }
+    builder.append(segments.get(nodeSegments[node]));
+  }
+
+  private static long childKey(int parent, int segment) {
+    return ((long) parent << 32) | (segment & 0xFFFFFFFFL);
+  }
+
+  private static int slotOf(long key, int mask) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private static int readInt(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFF) << 24 |
+        (bytes[offset + 1] & 0xFF) << 16 |
+        (bytes[offset + 2] & 0xFF) << 8 |
+        (bytes[offset + 3] & 0xFF);
+  }
+
+  private static void writeInt(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) (value >>> 24);
+    bytes[offset + 1] = (byte) (value >>> 16);
+    bytes[offset + 2] = (byte) (value >>> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+}
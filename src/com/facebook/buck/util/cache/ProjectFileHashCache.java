@@ -24,6 +24,7 @@ import com.google.common.hash.HashCode;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 
 /**
  * A {@link FileHashLoader} which manages caching file hashes for a given {@link ProjectFilesystem}.
@@ -42,6 +43,14 @@ public interface ProjectFileHashCache extends ProjectFileHashLoader {
 
   void set(Path path, HashCode hashCode) throws IOException;
 
+  /**
+   * Hashes the given paths ahead of them being asked for, where the cache supports it.  Paths
+   * which can't be hashed are skipped, and fail when they are actually asked for.
+   */
+  @SuppressWarnings("unused")
+  default void prefetch(Collection<Path> paths) throws InterruptedException {
+  }
+
   default FileHashCacheVerificationResult verify() throws IOException {
     throw new RuntimeException(
         "ProjectFileHashCache class " + getClass().getName() + " does not support verification.");
@@ -17,15 +17,23 @@
 package com.facebook.buck.util.cache;
 
 import com.facebook.buck.io.ArchiveMemberPath;
+import com.facebook.buck.io.MorePaths;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.model.Pair;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.hash.HashCode;
 
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -60,8 +68,35 @@ public class StackedFileHashCache implements FileHashCache {
 
   private final ImmutableList<? extends ProjectFileHashCache> caches;
 
+  // The indices of the caches for each root, so that the caches for a path can be found by walking
+  // up the path rather than by checking every cache.
+  private final ImmutableListMultimap<Path, Integer> cacheIndicesByRoot;
+
   public StackedFileHashCache(ImmutableList<? extends ProjectFileHashCache> caches) {
     this.caches = caches;
+    ImmutableListMultimap.Builder<Path, Integer> cacheIndicesByRoot =
+        ImmutableListMultimap.builder();
+    for (int i = 0; i < caches.size(); i++) {
+      cacheIndicesByRoot.put(caches.get(i).getFilesystem().getRootPath(), i);
+    }
+    this.cacheIndicesByRoot = cacheIndicesByRoot.build();
+  }
+
+  /**
+   * @return the caches whose root contains the given absolute {@link Path}, in the order they were
+   * given in.
+   */
+  private List<ProjectFileHashCache> getCachesContaining(Path path) {
+    List<Integer> indices = new ArrayList<>();
+    for (Path root = MorePaths.normalize(path); root != null; root = root.getParent()) {
+      indices.addAll(cacheIndicesByRoot.get(root));
+    }
+    Collections.sort(indices);
+    List<ProjectFileHashCache> containing = new ArrayList<>(indices.size());
+    for (int index : indices) {
+      containing.add(caches.get(index));
+    }
+    return containing;
   }
 
   /**
@@ -71,11 +106,11 @@ public class StackedFileHashCache implements FileHashCache {
   private Optional<? extends ProjectFileHashCache> lookup(
       ProjectFilesystem filesystem,
       Path path) {
-    for (ProjectFileHashCache cache : caches) {
-      // TODO(andrewjcg): This should check for equal filesystems probably shouldn't be using the
-      // root path, but we currently rely on this behavior.
-      if (cache.getFilesystem().getRootPath().equals(filesystem.getRootPath()) &&
-          cache.willGet(path)) {
+    // TODO(andrewjcg): This should check for equal filesystems probably shouldn't be using the
+    // root path, but we currently rely on this behavior.
+    for (int index : cacheIndicesByRoot.get(filesystem.getRootPath())) {
+      ProjectFileHashCache cache = caches.get(index);
+      if (cache.willGet(path)) {
         return Optional.of(cache);
       }
     }
@@ -84,7 +119,7 @@ public class StackedFileHashCache implements FileHashCache {
 
   private Optional<Pair<ProjectFileHashCache, Path>> lookup(Path path) {
     Preconditions.checkArgument(path.isAbsolute());
-    for (ProjectFileHashCache cache : caches) {
+    for (ProjectFileHashCache cache : getCachesContaining(path)) {
       Optional<Path> relativePath = cache.getFilesystem().getPathRelativeToProjectRoot(path);
       if (relativePath.isPresent() && cache.willGet(relativePath.get())) {
         return Optional.of(new Pair<>(cache, relativePath.get()));
@@ -95,7 +130,7 @@ public class StackedFileHashCache implements FileHashCache {
 
   private Optional<Pair<ProjectFileHashCache, ArchiveMemberPath>> lookup(ArchiveMemberPath path) {
     Preconditions.checkArgument(path.isAbsolute());
-    for (ProjectFileHashCache cache : caches) {
+    for (ProjectFileHashCache cache : getCachesContaining(path.getArchivePath())) {
       Optional<ArchiveMemberPath> relativePath =
           cache.getFilesystem().getPathRelativeToProjectRoot(path.getArchivePath())
               .map(path::withArchivePath);
@@ -156,6 +191,22 @@ public class StackedFileHashCache implements FileHashCache {
     }
   }
 
+  @Override
+  public void prefetch(
+      ProjectFilesystem filesystem,
+      Collection<Path> paths) throws InterruptedException {
+    Map<ProjectFileHashCache, List<Path>> pathsByCache = new LinkedHashMap<>();
+    for (Path path : paths) {
+      Optional<? extends ProjectFileHashCache> cache = lookup(filesystem, path);
+      if (cache.isPresent()) {
+        pathsByCache.computeIfAbsent(cache.get(), key -> new ArrayList<>()).add(path);
+      }
+    }
+    for (Map.Entry<ProjectFileHashCache, List<Path>> entry : pathsByCache.entrySet()) {
+      entry.getKey().prefetch(entry.getValue());
+    }
+  }
+
   @Override
   public FileHashCacheVerificationResult verify() throws IOException {
     FileHashCacheVerificationResult.Builder builder = FileHashCacheVerificationResult.builder();
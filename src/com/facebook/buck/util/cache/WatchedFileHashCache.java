@@ -19,20 +19,29 @@ package com.facebook.buck.util.cache;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.io.WatchEvents;
 import com.facebook.buck.log.Logger;
+import com.facebook.buck.util.MoreCollectors;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.eventbus.Subscribe;
 
 import java.nio.file.Path;
 import java.nio.file.WatchEvent;
 import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public class WatchedFileHashCache extends DefaultFileHashCache {
 
   private static final Logger LOG = Logger.get(WatchedFileHashCache.class);
 
   public WatchedFileHashCache(ProjectFilesystem projectFilesystem) {
-    super(projectFilesystem, Optional.empty());
+    this(projectFilesystem, Optional.empty());
+  }
+
+  public WatchedFileHashCache(
+      ProjectFilesystem projectFilesystem,
+      Optional<FileHashStore> fileHashStore) {
+    super(projectFilesystem, Optional.empty(), fileHashStore);
   }
 
   /**
@@ -46,36 +55,42 @@ public class WatchedFileHashCache extends DefaultFileHashCache {
       // Path event, remove the path from the cache as it has been changed, added or deleted.
       final Path path = ((Path) event.context()).normalize();
       LOG.verbose("Invalidating %s", path);
-      Iterable<Path> pathsToInvalidate =
-          Maps.filterEntries(
-              loadingCache.asMap(),
-              entry -> {
-                Preconditions.checkNotNull(entry);
+      Predicate<Path> shouldInvalidate =
+          key -> {
+            Preconditions.checkNotNull(key);
 
-                // If we get a invalidation for a file which is a prefix of our current one, this
-                // means the invalidation is of a symlink which points to a directory (since events
-                // won't be triggered for directories).  We don't fully support symlinks, however,
-                // we do support some limited flows that use them to point to read-only storage
-                // (e.g. the `project.read_only_paths`).  For these limited flows to work correctly,
-                // we invalidate.
-                if (entry.getKey().startsWith(path)) {
-                  return true;
-                }
+            // If we get a invalidation for a file which is a prefix of our current one, this
+            // means the invalidation is of a symlink which points to a directory (since events
+            // won't be triggered for directories).  We don't fully support symlinks, however,
+            // we do support some limited flows that use them to point to read-only storage
+            // (e.g. the `project.read_only_paths`).  For these limited flows to work correctly,
+            // we invalidate.
+            if (key.startsWith(path)) {
+              return true;
+            }
 
-                // Otherwise, we want to invalidate the entry if the path matches it.  We also
-                // invalidate any directories that contain this entry, so use the following
-                // comparison to capture both these scenarios.
-                if (path.startsWith(entry.getKey())) {
-                  return true;
-                }
+            // Otherwise, we want to invalidate the entry if the path matches it.  We also
+            // invalidate any directories that contain this entry, so use the following
+            // comparison to capture both these scenarios.
+            if (path.startsWith(key)) {
+              return true;
+            }
 
-                return false;
-              }
-          ).keySet();
+            return false;
+          };
+      // Plain files are kept out of the loading cache, so only directories and archives need to
+      // be scanned for here, along with the sizes.
+      ImmutableSet<Path> pathsToInvalidate =
+          Stream.concat(
+              loadingCache.asMap().keySet().stream(),
+              sizeCache.asMap().keySet().stream())
+              .filter(shouldInvalidate)
+              .collect(MoreCollectors.toImmutableSet());
       LOG.verbose("Paths to invalidate: %s", pathsToInvalidate);
       for (Path pathToInvalidate : pathsToInvalidate) {
         invalidate(pathToInvalidate);
       }
+      invalidateAllFilesUnder(path);
     } else {
       // Non-path change event, likely an overflow due to many change events: invalidate everything.
       LOG.debug("Invalidating all");
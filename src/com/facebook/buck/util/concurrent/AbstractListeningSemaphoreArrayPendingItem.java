@@ -25,4 +25,7 @@ import org.immutables.value.Value;
 abstract class AbstractListeningSemaphoreArrayPendingItem {
   public abstract SettableFuture<Void> getFuture();
   public abstract ResourceAmounts getResources();
+  public abstract long getPriority();
+  /** Orders the requests with the same priority. */
+  public abstract long getSequenceNumber();
 }
@@ -18,21 +18,31 @@ package com.facebook.buck.util.concurrent;
 
 import com.facebook.buck.log.Logger;
 import com.facebook.buck.model.Either;
+import com.facebook.buck.timing.Clock;
+import com.facebook.buck.timing.DefaultClock;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -47,6 +57,12 @@ import javax.annotation.concurrent.GuardedBy;
  * a resource is returned it will be used to satisfy the first pending request, otherwise it
  * is stored in the parkedResources queue.
  *
+ * Parked resources are reused most recently returned first, so when there's less work than
+ * resources the surplus ones stay parked.  If a maximum idle time is given, resources which have
+ * been parked for longer than that are closed, which is checked on a timer shared by all the pools
+ * until the pool is closed.  Resources are always closed without holding the pool's lock, so that
+ * a resource which is slow to close doesn't hold up the work using the others.
+ *
  * If the resourceSupplier throws a RuntimeException the Future associated with the failed attempt
  * to create the resource will contain the relevant exception. Any subsequent requests the pool
  * will get will attempt to create a new resource.
@@ -59,8 +75,17 @@ import javax.annotation.concurrent.GuardedBy;
 public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
   private static final Logger LOG = Logger.get(ResourcePool.class);
 
+  private static final ScheduledExecutorService IDLE_RESOURCE_TIMER =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("resource pool idle timer")
+              .setDaemon(true)
+              .build());
+
   private final int maxResources;
   private final ResourceUsageErrorPolicy resourceUsageErrorPolicy;
+  private final Optional<Long> maxIdleTimeNanos;
+  private final Clock clock;
   @GuardedBy("this")
   private final Supplier<R> resourceSupplier;
   @GuardedBy("this")
@@ -68,12 +93,15 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
   @GuardedBy("this")
   private final Deque<R> parkedResources;
   @GuardedBy("this")
+  private final Map<R, Long> parkedTimeNanos;
+  @GuardedBy("this")
   private final Deque<SettableFuture<Void>> resourceRequests;
   private final AtomicBoolean closing;
   @GuardedBy("this")
   private @Nullable ListenableFuture<Void> shutdownFuture;
   @GuardedBy("this")
   private final Set<ListenableFuture<?>> pendingWork;
+  private final Optional<ScheduledFuture<?>> idleResourceTimer;
 
   /**
    * @param maxResources maximum number of resources to use concurrently.
@@ -85,17 +113,44 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
       int maxResources,
       ResourceUsageErrorPolicy resourceUsageErrorPolicy,
       Supplier<R> resourceSupplier) {
+    this(
+        maxResources,
+        resourceUsageErrorPolicy,
+        resourceSupplier,
+        Optional.empty(),
+        new DefaultClock(false));
+  }
+
+  /**
+   * @param maxIdleTimeMillis how long a resource may stay unused before it's closed, if at all.
+   */
+  public ResourcePool(
+      int maxResources,
+      ResourceUsageErrorPolicy resourceUsageErrorPolicy,
+      Supplier<R> resourceSupplier,
+      Optional<Long> maxIdleTimeMillis,
+      Clock clock) {
     Preconditions.checkArgument(maxResources > 0);
+    Preconditions.checkArgument(maxIdleTimeMillis.orElse(1L) > 0);
 
     this.maxResources = maxResources;
     this.resourceUsageErrorPolicy = resourceUsageErrorPolicy;
+    this.maxIdleTimeNanos = maxIdleTimeMillis.map(TimeUnit.MILLISECONDS::toNanos);
+    this.clock = clock;
     this.resourceSupplier = resourceSupplier;
     this.createdResources = new ArrayList<>();
     this.parkedResources = new ArrayDeque<>();
+    this.parkedTimeNanos = new IdentityHashMap<>();
     this.resourceRequests = new ArrayDeque<>();
     this.closing = new AtomicBoolean(false);
     this.shutdownFuture = null;
     this.pendingWork = new HashSet<>();
+    this.idleResourceTimer = maxIdleTimeMillis.map(
+        millis -> IDLE_RESOURCE_TIMER.scheduleWithFixedDelay(
+            this::retireIdleResources,
+            millis,
+            millis,
+            TimeUnit.MILLISECONDS));
   }
 
   /**
@@ -183,23 +238,66 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
     }
     R resource = parkedResources.pollFirst();
     if (resource != null) {
+      parkedTimeNanos.remove(resource);
       return Optional.of(resource);
     }
     return createIfAllowed();
   }
 
-  private synchronized void returnResource(R resource, boolean resourceIsDefunct) {
+  private void returnResource(R resource, boolean resourceIsDefunct) {
+    synchronized (this) {
+      if (resourceIsDefunct) {
+        createdResources.remove(resource);
+      } else {
+        parkedResources.addFirst(resource);
+        parkedTimeNanos.put(resource, clock.nanoTime());
+      }
+      scheduleNextRequest();
+    }
     if (resourceIsDefunct) {
-      createdResources.remove(resource);
       try {
         resource.close();
       } catch (Exception e) {
         LOG.info(e, "Error shutting down a defunct resource.");
       }
-    } else {
-      parkedResources.add(resource);
     }
-    scheduleNextRequest();
+  }
+
+  /**
+   * Closes the resources which have been parked for longer than the maximum idle time.
+   */
+  @VisibleForTesting
+  void retireIdleResources() {
+    List<R> idleResources = new ArrayList<>();
+    synchronized (this) {
+      // Once the pool is closing, the shutdown closes all the resources.
+      if (!maxIdleTimeNanos.isPresent() || closing.get()) {
+        return;
+      }
+      long now = clock.nanoTime();
+      while (!parkedResources.isEmpty()) {
+        // The least recently used resource is always at the end.
+        R resource = parkedResources.peekLast();
+        long idleTimeNanos = now - parkedTimeNanos.get(resource);
+        if (idleTimeNanos <= maxIdleTimeNanos.get()) {
+          break;
+        }
+        parkedResources.pollLast();
+        parkedTimeNanos.remove(resource);
+        createdResources.remove(resource);
+        idleResources.add(resource);
+        LOG.debug(
+            "Closing a resource which has been idle for %d ms.",
+            TimeUnit.NANOSECONDS.toMillis(idleTimeNanos));
+      }
+    }
+    for (R resource : idleResources) {
+      try {
+        resource.close();
+      } catch (Exception e) {
+        LOG.info(e, "Error shutting down an idle resource.");
+      }
+    }
   }
 
   private synchronized void scheduleNextRequest() {
@@ -229,6 +327,20 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
     return Optional.of(resource);
   }
 
+  /**
+   * @return the number of resources which currently exist, whether in use or parked.
+   */
+  public synchronized int getNumCreatedResources() {
+    return createdResources.size();
+  }
+
+  /**
+   * @return the number of operations waiting for a resource to become available.
+   */
+  public synchronized int getNumQueuedRequests() {
+    return resourceRequests.size();
+  }
+
   @Nullable
   public synchronized ListenableFuture<Void> getShutdownFullyCompleteFuture() {
     Preconditions.checkState(
@@ -241,6 +353,7 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
   public synchronized void close() {
     Preconditions.checkState(!closing.get());
     closing.set(true);
+    idleResourceTimer.ifPresent(timer -> timer.cancel(false));
 
     // Unblock all waiting requests.
     for (SettableFuture<Void> request : resourceRequests) {
@@ -270,19 +383,21 @@ public class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
         new AsyncFunction<List<Object>, Void>() {
           @Override
           public ListenableFuture<Void> apply(List<Object> input) throws Exception {
+            List<R> resourcesToClose;
             synchronized (ResourcePool.this) {
               if (parkedResources.size() != createdResources.size()) {
                 LOG.error("Whoops! Some resource are still in use during shutdown.");
               }
-              // Now that pending work is done we can close all resources.
-              for (R resource : createdResources) {
-                resource.close();
-              }
+              resourcesToClose = new ArrayList<>(createdResources);
               if (!resourceRequests.isEmpty()) {
                 LOG.error("Error shutting down ResourcePool: " +
                     "there should be no enqueued resource requests.");
               }
             }
+            // Now that pending work is done we can close all resources.
+            for (R resource : resourcesToClose) {
+              resource.close();
+            }
             executorService.shutdown();
             return Futures.immediateFuture(null);
           }
@@ -26,22 +26,52 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 import com.google.common.io.ByteStreams;
+import com.google.common.io.LittleEndianDataInputStream;
 
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 
+import java.io.DataInput;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.Calendar;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 public class Unzip {
 
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+  private static final int ENCRYPTED_FLAG = 1;
+  private static final int DATA_DESCRIPTOR_FLAG = 1 << 3;
+  private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+  private static final long ZIP64_MAGIC = 0xffffffffL;
+  private static final int UNIX_PLATFORM = 3;
+  private static final int STREAM_BUFFER_SIZE = 8192;
+
   /** Utility class: do not instantiate. */
   private Unzip() {}
 
@@ -213,6 +243,296 @@ public class Unzip {
         .collect(MoreCollectors.toImmutableList());
   }
 
+  /**
+   * Unzips an archive as it is read from {@code zipStream}, without needing the whole archive to
+   * be on disk first, and returns the paths of the written files.  The CRC of every entry is
+   * checked as it's extracted.
+   *
+   * File modes are stored in the central directory at the end of the archive, so executable bits
+   * and symlinks are only applied once all of the entries have been written.  Only archives
+   * without encryption or spanning, using the stored and deflated methods, are supported.
+   *
+   * @param onExtracting called with each path before anything is written to it, so that callers
+   *     can clean up after archives which turn out to be broken part of the way through.
+   */
+  public static ImmutableList<Path> extractZipStream(
+      InputStream zipStream,
+      ProjectFilesystem filesystem,
+      Path relativePath,
+      ExistingFileMode existingFileMode,
+      Consumer<Path> onExtracting) throws IOException {
+    PushbackInputStream input = new PushbackInputStream(zipStream, STREAM_BUFFER_SIZE);
+    LittleEndianDataInputStream data = new LittleEndianDataInputStream(input);
+    ImmutableList.Builder<Path> filesWritten = ImmutableList.builder();
+    Map<String, Path> extractedFiles = new HashMap<>();
+    Set<Path> extractedDirectories = new HashSet<>();
+
+    int signature = data.readInt();
+    while (signature == LOCAL_HEADER_SIGNATURE) {
+      data.readUnsignedShort();  // Version needed to extract.
+      int flags = data.readUnsignedShort();
+      int method = data.readUnsignedShort();
+      long time = dosToJavaTime(data.readInt() & 0xffffffffL);
+      long expectedCrc = data.readInt() & 0xffffffffL;
+      long compressedSize = data.readInt() & 0xffffffffL;
+      data.readInt();  // Uncompressed size.
+      int nameLength = data.readUnsignedShort();
+      int extraLength = data.readUnsignedShort();
+      String name = readString(data, nameLength);
+      byte[] extra = new byte[extraLength];
+      data.readFully(extra);
+      if ((flags & ENCRYPTED_FLAG) != 0) {
+        throw new ZipException("Encrypted zip entries are not supported: " + name);
+      }
+      boolean hasDataDescriptor = (flags & DATA_DESCRIPTOR_FLAG) != 0;
+
+      // Entries with a zip64 extra field have 64 bit sizes in the extra field and data descriptor.
+      Optional<ByteBuffer> zip64Extra = findExtraField(extra, ZIP64_EXTRA_FIELD_ID);
+      if (zip64Extra.isPresent() && compressedSize == ZIP64_MAGIC) {
+        zip64Extra.get().getLong();  // Uncompressed size.
+        compressedSize = zip64Extra.get().getLong();
+      }
+
+      Path target = relativePath.resolve(name);
+      onExtracting.accept(target);
+      // Only clean paths which we haven't already extracted something beneath.
+      if (existingFileMode == ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES &&
+          !extractedDirectories.contains(target)) {
+        filesystem.deleteRecursivelyIfExists(target);
+      }
+
+      long actualCrc;
+      if (name.endsWith("/")) {
+        filesystem.mkdirs(target);
+        addDirectoryAndParents(extractedDirectories, target);
+        actualCrc = copyEntryData(
+            input,
+            method,
+            compressedSize,
+            hasDataDescriptor,
+            ByteStreams.nullOutputStream());
+      } else {
+        filesystem.createParentDirs(target);
+        if (target.getParent() != null) {
+          addDirectoryAndParents(extractedDirectories, target.getParent());
+        }
+        try (OutputStream out = filesystem.newFileOutputStream(target)) {
+          actualCrc = copyEntryData(input, method, compressedSize, hasDataDescriptor, out);
+        }
+        filesWritten.add(target);
+        extractedFiles.put(name, target);
+        filesystem.resolve(target).toFile().setLastModified(time);
+      }
+
+      if (hasDataDescriptor) {
+        // The signature of the data descriptor is optional.
+        int crcOrSignature = data.readInt();
+        expectedCrc =
+            (crcOrSignature == DATA_DESCRIPTOR_SIGNATURE ? data.readInt() : crcOrSignature) &
+                0xffffffffL;
+        discard(data, zip64Extra.isPresent() ? 16 : 8);
+      }
+      if (actualCrc != expectedCrc) {
+        throw new ZipException("Invalid CRC for zip entry: " + name);
+      }
+
+      signature = data.readInt();
+    }
+
+    while (signature == CENTRAL_HEADER_SIGNATURE) {
+      int versionMadeBy = data.readUnsignedShort();
+      discard(data, 22);
+      int nameLength = data.readUnsignedShort();
+      int extraLength = data.readUnsignedShort();
+      int commentLength = data.readUnsignedShort();
+      discard(data, 4);
+      long unixMode = (data.readInt() & 0xffffffffL) >> 16;
+      data.readInt();  // Offset of the local header.
+      String name = readString(data, nameLength);
+      discard(data, extraLength + commentLength);
+
+      Path target = extractedFiles.get(name);
+      if (target != null) {
+        applyUnixMode(filesystem, target, versionMadeBy >> 8, unixMode);
+      }
+      signature = data.readInt();
+    }
+
+    if (signature != END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+        signature != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+      throw new ZipException(String.format("Unexpected zip record signature %08x", signature));
+    }
+    return filesWritten.build();
+  }
+
+  public static ImmutableList<Path> extractZipStream(
+      InputStream zipStream,
+      ProjectFilesystem filesystem,
+      Path relativePath,
+      ExistingFileMode existingFileMode) throws IOException {
+    return extractZipStream(zipStream, filesystem, relativePath, existingFileMode, path -> {});
+  }
+
+  public static ImmutableList<Path> extractZipStream(
+      InputStream zipStream,
+      ProjectFilesystem filesystem,
+      ExistingFileMode existingFileMode) throws IOException {
+    return extractZipStream(zipStream, filesystem, filesystem.getPath(""), existingFileMode);
+  }
+
+  public static ImmutableList<Path> extractZipStream(
+      InputStream zipStream,
+      ProjectFilesystem filesystem,
+      ExistingFileMode existingFileMode,
+      Consumer<Path> onExtracting) throws IOException {
+    return extractZipStream(
+        zipStream,
+        filesystem,
+        filesystem.getPath(""),
+        existingFileMode,
+        onExtracting);
+  }
+
+  /**
+   * Copies the data of the current entry to {@code out}, leaving {@code input} positioned just
+   * after it.
+   *
+   * @return the CRC-32 of the uncompressed data.
+   */
+  private static long copyEntryData(
+      PushbackInputStream input,
+      int method,
+      long compressedSize,
+      boolean hasDataDescriptor,
+      OutputStream out) throws IOException {
+    CRC32 crc = new CRC32();
+    if (method == ZipEntry.STORED) {
+      // The end of a stored entry can't be found without its size, so it must be in the header.
+      if (hasDataDescriptor) {
+        throw new ZipException("Stored zip entries with data descriptors are not supported");
+      }
+      long copied = ByteStreams.copy(
+          new CheckedInputStream(ByteStreams.limit(input, compressedSize), crc),
+          out);
+      if (copied != compressedSize) {
+        throw new EOFException("Unexpected end of zip stream");
+      }
+      return crc.getValue();
+    } else if (method != ZipEntry.DEFLATED) {
+      throw new ZipException("Unsupported zip compression method: " + method);
+    }
+
+    Inflater inflater = new Inflater(/* nowrap */ true);
+    try {
+      byte[] compressed = new byte[STREAM_BUFFER_SIZE];
+      byte[] uncompressed = new byte[STREAM_BUFFER_SIZE];
+      int compressedLength = 0;
+      while (!inflater.finished()) {
+        if (inflater.needsInput()) {
+          compressedLength = input.read(compressed);
+          if (compressedLength == -1) {
+            throw new EOFException("Unexpected end of zip stream");
+          }
+          inflater.setInput(compressed, 0, compressedLength);
+        }
+        int uncompressedLength;
+        try {
+          uncompressedLength = inflater.inflate(uncompressed);
+        } catch (DataFormatException e) {
+          throw new ZipException(e.getMessage());
+        }
+        if (uncompressedLength == 0 && inflater.needsDictionary()) {
+          throw new ZipException("Zip entries with preset dictionaries are not supported");
+        }
+        crc.update(uncompressed, 0, uncompressedLength);
+        out.write(uncompressed, 0, uncompressedLength);
+      }
+
+      // The inflater may have been handed bytes past the end of the entry, so give them back.
+      int remaining = inflater.getRemaining();
+      if (remaining > 0) {
+        input.unread(compressed, compressedLength - remaining, remaining);
+      }
+    } finally {
+      inflater.end();
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * Reads and drops {@code length} bytes.  This doesn't use {@link InputStream#skip}, as streams
+   * which check or copy what's read from them usually don't see skipped bytes.
+   */
+  private static void discard(DataInput input, int length) throws IOException {
+    input.readFully(new byte[length]);
+  }
+
+  private static String readString(DataInput input, int length) throws IOException {
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return new String(bytes, Charsets.UTF_8);
+  }
+
+  /**
+   * @return the contents of the first extra field with the given id, in little-endian order.
+   */
+  private static Optional<ByteBuffer> findExtraField(byte[] extra, int id) {
+    ByteBuffer buffer = ByteBuffer.wrap(extra).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.remaining() >= 4) {
+      int fieldId = buffer.getShort() & 0xffff;
+      int fieldLength = buffer.getShort() & 0xffff;
+      if (fieldLength > buffer.remaining()) {
+        break;
+      }
+      if (fieldId == id) {
+        ByteBuffer field = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        field.limit(fieldLength);
+        return Optional.of(field);
+      }
+      buffer.position(buffer.position() + fieldLength);
+    }
+    return Optional.empty();
+  }
+
+  private static void addDirectoryAndParents(Set<Path> directories, Path directory) {
+    for (Path dir = directory; dir != null && directories.add(dir); dir = dir.getParent()) {
+      // Keep walking up until we reach a directory we've already seen.
+    }
+  }
+
+  private static long dosToJavaTime(long dosTime) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.clear();
+    calendar.set(
+        (int) ((dosTime >> 25) & 0x7f) + 1980,
+        (int) ((dosTime >> 21) & 0x0f) - 1,
+        (int) ((dosTime >> 16) & 0x1f),
+        (int) ((dosTime >> 11) & 0x1f),
+        (int) ((dosTime >> 5) & 0x3f),
+        (int) ((dosTime << 1) & 0x3e));
+    return calendar.getTimeInMillis();
+  }
+
+  /**
+   * Applies the unix mode from an entry's external attributes, in the same way as
+   * {@link #extractZipFile}.
+   */
+  private static void applyUnixMode(
+      ProjectFilesystem filesystem,
+      Path target,
+      int platform,
+      long unixMode) throws IOException {
+    if (platform == UNIX_PLATFORM && (unixMode & MoreFiles.S_IFLNK) == MoreFiles.S_IFLNK) {
+      String linkTarget = filesystem.readFileIfItExists(target).get();
+      filesystem.createSymLink(target, filesystem.getPath(linkTarget), /* force */ true);
+      return;
+    }
+    Set<PosixFilePermission> permissions = MorePosixFilePermissions.fromMode(unixMode);
+    if (permissions.contains(PosixFilePermission.OWNER_EXECUTE)) {
+      MoreFiles.makeExecutable(filesystem.resolve(target));
+    }
+  }
+
   public static ImmutableCollection<Path> getZipMembers(Path archiveAbsolutePath)
       throws IOException {
     try (ZipFile zip = new ZipFile(archiveAbsolutePath.toFile())) {
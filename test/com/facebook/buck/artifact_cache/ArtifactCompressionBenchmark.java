@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.MoreCollectors;
+import com.facebook.buck.zip.Unzip;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Compares packing and unpacking artifacts with each {@link ArtifactCompression}.  Set
+ * {@code outputs} to a directory of real build outputs, such as {@code buck-out/gen}, to measure
+ * representative data.  Otherwise a synthetic mix of source-like and incompressible files is used.
+ */
+public class ArtifactCompressionBenchmark {
+  @Param({"DEFLATE", "LZ4"})
+  private ArtifactCompression compression = ArtifactCompression.LZ4;
+
+  @Param({""})
+  private String outputs = "";
+
+  private static final int SYNTHETIC_FILE_COUNT = 200;
+  private static final int MAX_SYNTHETIC_FILE_SIZE = 256 * 1024;
+
+  private TemporaryPaths tempDir = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private ImmutableList<Path> paths;
+  private Path artifact;
+  private ProjectFilesystem unpackedFilesystem;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    tempDir.before();
+    Path root = tempDir.getRoot();
+    Path outputsRoot;
+    if (outputs.isEmpty()) {
+      outputsRoot = Files.createDirectories(root.resolve("outputs"));
+      writeSyntheticOutputs(outputsRoot);
+    } else {
+      outputsRoot = Paths.get(outputs).toAbsolutePath();
+    }
+    filesystem = new ProjectFilesystem(outputsRoot);
+    try (Stream<Path> files = Files.walk(outputsRoot)) {
+      paths = files
+          .filter(Files::isRegularFile)
+          .map(outputsRoot::relativize)
+          .sorted()
+          .collect(MoreCollectors.toImmutableList());
+    }
+
+    artifact = root.resolve("artifact");
+    compression.pack(filesystem, paths, artifact);
+    unpackedFilesystem = new ProjectFilesystem(Files.createDirectories(root.resolve("unpacked")));
+  }
+
+  @After
+  @AfterExperiment
+  public void cleanup() {
+    tempDir.after();
+  }
+
+  @Test
+  public void packAndUnpackCorrectness() throws Exception {
+    for (ArtifactCompression compression : ArtifactCompression.values()) {
+      this.compression = compression;
+      pack();
+      unpack();
+      for (Path path : paths) {
+        assertArrayEquals(
+            path.toString(),
+            Files.readAllBytes(filesystem.resolve(path)),
+            Files.readAllBytes(unpackedFilesystem.resolve(path)));
+      }
+    }
+  }
+
+  @Benchmark
+  public void pack() throws IOException {
+    compression.pack(filesystem, paths, artifact);
+  }
+
+  @Benchmark
+  public void unpack() throws IOException {
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(artifact))) {
+      Unzip.extractZipStream(
+          ArtifactCompression.openZip(input),
+          unpackedFilesystem,
+          Unzip.ExistingFileMode.OVERWRITE);
+    }
+  }
+
+  private static void writeSyntheticOutputs(Path root) throws IOException {
+    Random random = new Random(42);
+    String[] words = {
+        "public", "static", "final", "class", "void", "return", "import", "com.facebook.buck",
+        "ImmutableList", "String", "Path", "int", "new", "throws", "IOException", "{", "}", ";",
+    };
+    for (int i = 0; i < SYNTHETIC_FILE_COUNT; i++) {
+      byte[] contents;
+      int size = random.nextInt(MAX_SYNTHETIC_FILE_SIZE);
+      if (i % 4 == 0) {
+        // Already compressed outputs, like nested jars and images.
+        contents = new byte[size];
+        random.nextBytes(contents);
+      } else {
+        StringBuilder text = new StringBuilder(size + 32);
+        while (text.length() < size) {
+          text.append(words[random.nextInt(words.length)]).append(' ');
+          if (random.nextInt(8) == 0) {
+            text.append(random.nextInt()).append('\n');
+          }
+        }
+        contents = text.toString().getBytes(StandardCharsets.UTF_8);
+      }
+      Path path = root.resolve(String.format("dir%d/file%d", i % 10, i));
+      Files.createDirectories(path.getParent());
+      Files.write(path, contents);
+    }
+  }
+}
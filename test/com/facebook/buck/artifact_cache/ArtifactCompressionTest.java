@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.io.MoreFiles;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.zip.Unzip;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class ArtifactCompressionTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private void assertRoundTrips(ArtifactCompression compression) throws IOException {
+    ProjectFilesystem source = new ProjectFilesystem(tmp.newFolder("source"));
+    Path file = Paths.get("dir/file");
+    Path executable = Paths.get("dir/exe");
+    Path empty = Paths.get("empty");
+    byte[] contents =
+        Strings.repeat("some build output\n", 1000).getBytes(StandardCharsets.UTF_8);
+    source.mkdirs(file.getParent());
+    source.writeBytesToPath(contents, file);
+    source.writeContentsToPath("#!/bin/sh", executable);
+    MoreFiles.makeExecutable(source.resolve(executable));
+    source.writeContentsToPath("", empty);
+
+    Path artifact = tmp.getRoot().resolve("artifact");
+    compression.pack(
+        source,
+        ImmutableList.of(file.getParent(), file, executable, empty),
+        artifact);
+
+    ProjectFilesystem destination = new ProjectFilesystem(tmp.newFolder("destination"));
+    try (InputStream input = new BufferedInputStream(Files.newInputStream(artifact))) {
+      Unzip.extractZipStream(
+          ArtifactCompression.openZip(input),
+          destination,
+          Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+    }
+
+    assertArrayEquals(contents, Files.readAllBytes(destination.resolve(file)));
+    assertEquals("#!/bin/sh", destination.readFileIfItExists(executable).get());
+    assertTrue(destination.isExecutable(executable));
+    assertEquals(0, Files.size(destination.resolve(empty)));
+  }
+
+  @Test
+  public void deflateArtifactsRoundTrip() throws IOException {
+    assertRoundTrips(ArtifactCompression.DEFLATE);
+  }
+
+  @Test
+  public void lz4ArtifactsRoundTrip() throws IOException {
+    assertRoundTrips(ArtifactCompression.LZ4);
+  }
+
+  @Test
+  public void compressionIsConfigurable() {
+    assertEquals(
+        ArtifactCompression.DEFLATE,
+        new ArtifactCacheBuckConfig(FakeBuckConfig.builder().build()).getArtifactCompression());
+    assertEquals(
+        ArtifactCompression.LZ4,
+        new ArtifactCacheBuckConfig(
+            FakeBuckConfig.builder()
+                .setSections("[cache]", "artifact_compression = lz4")
+                .build())
+            .getArtifactCompression());
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.artifact_cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class DirArtifactCacheIndexTest {
+
+  @Rule
+  public TemporaryPaths tmpDir = new TemporaryPaths();
+
+  private static final RuleKey RULE_KEY_A = new RuleKey("aaaa");
+  private static final RuleKey RULE_KEY_B = new RuleKey("bbbb");
+  private static final RuleKey RULE_KEY_C = new RuleKey("abcd");
+
+  private DirArtifactCacheIndex open(Path indexDir) throws IOException {
+    return DirArtifactCacheIndex.open(indexDir).get();
+  }
+
+  @Test
+  public void entriesSurviveReopening() throws IOException {
+    Path indexDir = tmpDir.getRoot().resolve("index");
+    ImmutableMap<String, String> metadata = ImmutableMap.of("key", "value");
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      index.put(RULE_KEY_A, 10, metadata, 0);
+      index.put(RULE_KEY_B, 20, ImmutableMap.of(), 0);
+      index.put(RULE_KEY_C, 30, ImmutableMap.of(), 0);
+      index.remove(RULE_KEY_C);
+    }
+
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      assertEquals(2, index.size());
+      assertEquals(30, index.getTotalSize());
+      assertEquals(10, index.get(RULE_KEY_A).get().getSize());
+      assertEquals(metadata, index.get(RULE_KEY_A).get().getMetadata());
+      assertTrue(index.contains(RULE_KEY_B));
+      assertFalse(index.contains(RULE_KEY_C));
+    }
+  }
+
+  @Test
+  public void replacingAnEntryUpdatesTotalSize() throws IOException {
+    Path indexDir = tmpDir.getRoot().resolve("index");
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      index.put(RULE_KEY_A, 10, ImmutableMap.of(), 0);
+      index.put(RULE_KEY_A, 15, ImmutableMap.of(), 0);
+      assertEquals(15, index.getTotalSize());
+    }
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      assertEquals(1, index.size());
+      assertEquals(15, index.getTotalSize());
+    }
+  }
+
+  @Test
+  public void evictionCandidatesAreLeastRecentlyUsed() throws IOException {
+    try (DirArtifactCacheIndex index = open(tmpDir.getRoot().resolve("index"))) {
+      index.put(RULE_KEY_A, 10, ImmutableMap.of(), 1000);
+      index.put(RULE_KEY_B, 10, ImmutableMap.of(), 2000);
+      index.put(RULE_KEY_C, 10, ImmutableMap.of(), 3000);
+      index.touch(RULE_KEY_A, 4000);
+
+      assertThat(index.getEvictionCandidates(30), Matchers.empty());
+      assertThat(index.getEvictionCandidates(20), Matchers.contains(RULE_KEY_B));
+      assertThat(
+          index.getEvictionCandidates(5),
+          Matchers.contains(RULE_KEY_B, RULE_KEY_C, RULE_KEY_A));
+    }
+  }
+
+  @Test
+  public void indexCanOnlyBeOpenedOnce() throws IOException {
+    Path indexDir = tmpDir.getRoot().resolve("index");
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      assertFalse(DirArtifactCacheIndex.open(indexDir).isPresent());
+    }
+    open(indexDir).close();
+  }
+
+  @Test
+  public void indexGrowsAndCompacts() throws IOException {
+    Path indexDir = tmpDir.getRoot().resolve("index");
+    ImmutableMap<String, String> metadata = ImmutableMap.of("key", Strings.repeat("x", 1000));
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      for (int i = 0; i < 4000; i++) {
+        index.put(new RuleKey(String.format("%08x", i)), 1, metadata, i);
+      }
+      for (int i = 0; i < 3990; i++) {
+        index.remove(new RuleKey(String.format("%08x", i)));
+      }
+      assertEquals(10, index.size());
+    }
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      assertEquals(10, index.size());
+      assertEquals(10, index.getTotalSize());
+      assertEquals(
+          metadata,
+          index.get(new RuleKey(String.format("%08x", 3999))).get().getMetadata());
+    }
+  }
+
+  @Test
+  public void incompleteRecordAtTheEndOfAShardIsDropped() throws IOException {
+    Path indexDir = tmpDir.getRoot().resolve("index");
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      index.put(RULE_KEY_A, 10, ImmutableMap.of(), 0);
+    }
+    // A process killed while appending leaves the start of a record without its length.
+    Files.write(
+        indexDir.resolve("a.idx"),
+        new byte[] {0, 0, 0, 0, 1, 2, 3},
+        StandardOpenOption.APPEND);
+
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      assertEquals(1, index.size());
+      assertEquals(10, index.getTotalSize());
+      index.put(RULE_KEY_C, 20, ImmutableMap.of(), 0);
+    }
+    try (DirArtifactCacheIndex index = open(indexDir)) {
+      assertEquals(2, index.size());
+      assertEquals(20, index.get(RULE_KEY_C).get().getSize());
+    }
+  }
+}
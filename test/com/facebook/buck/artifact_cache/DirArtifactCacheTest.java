@@ -750,6 +750,237 @@ public class DirArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testIndexedCacheStoreAndFetchHit() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        /* useIndex */ true);
+
+    RuleKey ruleKey = new RuleKey("0123");
+    ImmutableMap<String, String> metadata = ImmutableMap.of("some", "metadata");
+    Path data = tmpDir.newFile("data");
+    Files.write(data, "data".getBytes(UTF_8));
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).setMetadata(metadata).build(),
+        BorrowablePath.notBorrowablePath(data));
+
+    Path output = tmpDir.getRoot().resolve("out-data");
+    CacheResult result = dirArtifactCache.fetch(ruleKey, LazyPath.ofInstance(output));
+    assertThat(result.getType(), Matchers.equalTo(CacheResultType.HIT));
+    assertThat(result.getMetadata(), Matchers.equalTo(metadata));
+    assertThat(result.getArtifactSizeBytes(), Matchers.equalTo(4L));
+    assertEquals("data", new String(Files.readAllBytes(output), UTF_8));
+
+    // The artifact should have been hard linked out of the cache rather than copied.
+    assertTrue(
+        Files.isSameFile(output, dirArtifactCache.getPathForRuleKey(ruleKey, Optional.empty())));
+    assertFalse(
+        DirArtifactCacheTestUtil.getAllFilesInCache(dirArtifactCache).stream()
+            .anyMatch(path -> path.startsWith(cacheDir.resolve("index"))));
+  }
+
+  @Test
+  public void testMultiContains() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    RuleKey storedRuleKey = new RuleKey("0123");
+    RuleKey missingRuleKey = new RuleKey("4567");
+    Path data = tmpDir.newFile("data");
+
+    for (boolean useIndex : new boolean[] {false, true}) {
+      dirArtifactCache = new DirArtifactCache(
+          "dir",
+          filesystem,
+          cacheDir,
+          /* doStore */ true,
+          /* maxCacheSizeBytes */ Optional.empty(),
+          useIndex);
+      dirArtifactCache.store(
+          ArtifactInfo.builder().addRuleKeys(storedRuleKey).build(),
+          BorrowablePath.notBorrowablePath(data));
+
+      ImmutableMap<RuleKey, CacheResult> results =
+          dirArtifactCache.multiContains(ImmutableSet.of(storedRuleKey, missingRuleKey));
+      assertThat(results.get(storedRuleKey).getType(), Matchers.equalTo(CacheResultType.HIT));
+      assertThat(results.get(missingRuleKey).getType(), Matchers.equalTo(CacheResultType.MISS));
+    }
+  }
+
+  @Test
+  public void testIndexedCacheIndexesExistingArtifacts() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    RuleKey ruleKey = new RuleKey("0123");
+    ImmutableMap<String, String> metadata = ImmutableMap.of("some", "metadata");
+    Path data = tmpDir.newFile("data");
+
+    DirArtifactCache unindexedCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty());
+    unindexedCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).setMetadata(metadata).build(),
+        BorrowablePath.notBorrowablePath(data));
+    unindexedCache.close();
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        /* useIndex */ true);
+
+    // Corrupt the metadata file, so that a hit has to come from the index.
+    Files.write(dirArtifactCache.getPathForRuleKey(ruleKey, Optional.of(".metadata")), new byte[0]);
+    CacheResult result =
+        dirArtifactCache.fetch(ruleKey, LazyPath.ofInstance(tmpDir.getRoot().resolve("out")));
+    assertThat(result.getType(), Matchers.equalTo(CacheResultType.HIT));
+    assertThat(result.getMetadata(), Matchers.equalTo(metadata));
+  }
+
+  @Test
+  public void testIndexedCacheFallsBackWhenIndexIsInUse() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    RuleKey ruleKey = new RuleKey("0123");
+    Path data = tmpDir.newFile("data");
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        /* useIndex */ true);
+    DirArtifactCache otherCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        /* useIndex */ true);
+
+    // Artifacts stored by the cache without the index are still visible to the one with it.
+    otherCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+        BorrowablePath.notBorrowablePath(data));
+    otherCache.close();
+    assertThat(
+        dirArtifactCache.fetch(ruleKey, LazyPath.ofInstance(tmpDir.getRoot().resolve("out")))
+            .getType(),
+        Matchers.equalTo(CacheResultType.HIT));
+  }
+
+  @Test
+  public void testIndexedCacheDeletesAfterStoreIfFull() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    Path data = tmpDir.newFile("data");
+    Files.write(data, "x".getBytes(UTF_8));
+    ImmutableList<RuleKey> ruleKeys =
+        ImmutableList.of(new RuleKey("aaaa"), new RuleKey("bbbb"), new RuleKey("cccc"));
+
+    // As in testDeleteAfterStoreIfFull, a 1-byte entry takes 6 bytes to store, so only one
+    // artifact should survive each trim.  The order of eviction is covered by
+    // DirArtifactCacheIndexTest.
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.of(9L),
+        /* useIndex */ true);
+
+    for (RuleKey ruleKey : ruleKeys) {
+      dirArtifactCache.store(
+          ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+          BorrowablePath.notBorrowablePath(data));
+      assertThat(
+          DirArtifactCacheTestUtil.getAllFilesInCache(dirArtifactCache),
+          Matchers.hasSize(2));
+    }
+  }
+
+  @Test
+  public void testIndexedCacheChecksForArtifactsDeletedByOtherCaches() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    RuleKey ruleKey = new RuleKey("0123");
+    Path data = tmpDir.newFile("data");
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        /* useIndex */ true);
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+        BorrowablePath.notBorrowablePath(data));
+    Files.delete(dirArtifactCache.getPathForRuleKey(ruleKey, Optional.empty()));
+
+    assertThat(
+        dirArtifactCache.multiContains(ImmutableSet.of(ruleKey)).get(ruleKey).getType(),
+        Matchers.equalTo(CacheResultType.MISS));
+    dirArtifactCache.store(
+        ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+        BorrowablePath.notBorrowablePath(data));
+    assertTrue(Files.exists(dirArtifactCache.getPathForRuleKey(ruleKey, Optional.empty())));
+
+    Files.delete(dirArtifactCache.getPathForRuleKey(ruleKey, Optional.of(".metadata")));
+    assertThat(
+        dirArtifactCache.fetch(ruleKey, LazyPath.ofInstance(tmpDir.getRoot().resolve("out")))
+            .getType(),
+        Matchers.equalTo(CacheResultType.MISS));
+  }
+
+  @Test
+  public void testIndexedCacheEvictsArtifactsStoredByUnindexedCaches() throws IOException {
+    Path cacheDir = tmpDir.newFolder();
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmpDir.getRoot());
+    Path data = tmpDir.newFile("data");
+    Files.write(data, "x".getBytes(UTF_8));
+
+    dirArtifactCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.of(9L),
+        /* useIndex */ true);
+    DirArtifactCache otherCache = new DirArtifactCache(
+        "dir",
+        filesystem,
+        cacheDir,
+        /* doStore */ true,
+        /* maxCacheSizeBytes */ Optional.empty(),
+        /* useIndex */ true);
+    for (RuleKey ruleKey :
+         ImmutableList.of(new RuleKey("aaaa"), new RuleKey("bbbb"), new RuleKey("cccc"))) {
+      otherCache.store(
+          ArtifactInfo.builder().addRuleKeys(ruleKey).build(),
+          BorrowablePath.notBorrowablePath(data));
+    }
+    otherCache.close();
+
+    // The unindexed cache marked the index out of date, so the indexed cache finds its artifacts
+    // and evicts all but one of them.
+    dirArtifactCache.deleteOldFiles();
+    assertThat(
+        DirArtifactCacheTestUtil.getAllFilesInCache(dirArtifactCache),
+        Matchers.hasSize(2));
+  }
+
   private static class BuildRuleForTest extends FakeBuildRule {
 
     @SuppressWarnings("PMD.UnusedPrivateField")
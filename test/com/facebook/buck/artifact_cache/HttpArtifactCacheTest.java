@@ -18,6 +18,7 @@ package com.facebook.buck.artifact_cache;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -33,11 +34,13 @@ import com.facebook.buck.slb.OkHttpResponseWrapper;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.timing.IncrementingFakeClock;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 
@@ -174,6 +177,40 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testMultiContainsUsesHeadRequests() throws Exception {
+    RuleKey hitKey = new RuleKey("00000000000000000000000000000000");
+    RuleKey missKey = new RuleKey("11111111111111111111111111111111");
+    RuleKey unsupportedKey = new RuleKey("22222222222222222222222222222222");
+    argsBuilder.setMaxConcurrentFetches(2);
+    argsBuilder.setFetchClient(withMakeRequest((path, requestBuilder) -> {
+      Request request = requestBuilder.url(SERVER + path).build();
+      assertEquals("HEAD", request.method());
+      int code;
+      if (path.endsWith(hitKey.toString())) {
+        code = HttpURLConnection.HTTP_OK;
+      } else if (path.endsWith(missKey.toString())) {
+        code = HttpURLConnection.HTTP_NOT_FOUND;
+      } else {
+        code = HttpURLConnection.HTTP_BAD_METHOD;
+      }
+      return new OkHttpResponseWrapper(
+          new Response.Builder()
+              .request(request)
+              .protocol(Protocol.HTTP_1_1)
+              .code(code)
+              .body(ResponseBody.create(OCTET_STREAM, new byte[0]))
+              .build());
+    }));
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    ImmutableMap<RuleKey, CacheResult> results =
+        cache.multiContains(ImmutableSet.of(hitKey, missKey, unsupportedKey));
+    assertEquals(CacheResultType.HIT, results.get(hitKey).getType());
+    assertEquals(CacheResultType.MISS, results.get(missKey).getType());
+    assertEquals(CacheResultType.SKIPPED, results.get(unsupportedKey).getType());
+    cache.close();
+  }
+
   @Test
   public void testFetchOK() throws Exception {
     Path output = Paths.get("output/file");
@@ -270,6 +307,78 @@ public class HttpArtifactCacheTest {
     cache.close();
   }
 
+  @Test
+  public void testFetchStreamingPassesPayloadToConsumer() throws Exception {
+    Path output = Paths.get("output/file");
+    final String data = "test";
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+    final List<Response> responseList = Lists.newArrayList();
+    argsBuilder.setProjectFilesystem(filesystem);
+    argsBuilder.setFetchClient(withMakeRequest((path, requestBuilder) -> {
+      Request request = requestBuilder.url(SERVER + path).build();
+      Response response =
+          new Response.Builder()
+              .request(request)
+              .protocol(Protocol.HTTP_1_1)
+              .code(HttpURLConnection.HTTP_OK)
+              .body(
+                  createResponseBody(
+                      ImmutableSet.of(ruleKey),
+                      ImmutableMap.of(),
+                      ByteSource.wrap(data.getBytes(Charsets.UTF_8)),
+                      data))
+              .build();
+      responseList.add(response);
+      return new OkHttpResponseWrapper(response);
+    }));
+
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    List<String> consumed = Lists.newArrayList();
+    // Only read part of the payload; the rest still has to be checksummed.
+    CacheResult result = cache.fetchStreaming(
+        ruleKey,
+        LazyPath.ofInstance(output),
+        input -> consumed.add(String.valueOf((char) input.read())));
+    assertEquals(result.cacheError().orElse(""), CacheResultType.HIT, result.getType());
+    assertEquals(ImmutableList.of("t"), consumed);
+    assertEquals(Optional.of((long) data.length()), result.artifactSizeBytes());
+    assertFalse("output shouldn't be written", filesystem.exists(output));
+    assertTrue(
+        "response wasn't fully read!",
+        responseList.get(0).body().source().exhausted());
+    cache.close();
+  }
+
+  @Test
+  public void testFetchStreamingBadChecksum() throws Exception {
+    final RuleKey ruleKey = new RuleKey("00000000000000000000000000000000");
+    argsBuilder.setFetchClient(withMakeRequest((path, requestBuilder) -> {
+      Request request = requestBuilder.url(SERVER + path).build();
+      return new OkHttpResponseWrapper(
+          new Response.Builder()
+              .request(request)
+              .protocol(Protocol.HTTP_1_1)
+              .code(HttpURLConnection.HTTP_OK)
+              .body(
+                  createResponseBody(
+                      ImmutableSet.of(ruleKey),
+                      ImmutableMap.of(),
+                      ByteSource.wrap(new byte[0]),
+                      "data"))
+              .build());
+    }));
+    HttpArtifactCache cache = new HttpArtifactCache(argsBuilder.build());
+    List<String> consumed = Lists.newArrayList();
+    CacheResult result = cache.fetchStreaming(
+        ruleKey,
+        LazyPath.ofInstance(Paths.get("output/file")),
+        input -> consumed.add(new String(ByteStreams.toByteArray(input), Charsets.UTF_8)));
+    assertEquals(ImmutableList.of("data"), consumed);
+    assertEquals(CacheResultType.ERROR, result.getType());
+    cache.close();
+  }
+
   @Test
   public void testFetchExtraPayload() throws Exception {
     FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
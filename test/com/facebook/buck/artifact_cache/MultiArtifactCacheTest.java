@@ -16,6 +16,7 @@
 
 package com.facebook.buck.artifact_cache;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
@@ -27,7 +28,10 @@ import com.facebook.buck.rules.RuleKey;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
@@ -36,8 +40,11 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -57,7 +64,17 @@ public class MultiArtifactCacheTest {
 
     @Override
     public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
-      return CacheResult.error("cache", "error");
+        return CacheResult.error("cache", "error");
+    }
+
+  }
+
+  // A cache which can't check for artifacts without fetching them.
+  class SkippingArtifactCache extends NoopArtifactCache {
+
+    @Override
+    public ImmutableMap<RuleKey, CacheResult> multiContains(ImmutableSet<RuleKey> ruleKeys) {
+      return ImmutableMap.copyOf(Maps.asMap(ruleKeys, ruleKey -> CacheResult.skipped()));
     }
 
   }
@@ -234,4 +251,85 @@ public class MultiArtifactCacheTest {
     multiArtifactCache.close();
   }
 
+  @Test
+  public void multiFetchAsksLaterCachesForMissesOnly() throws Exception {
+    RuleKey otherRuleKey = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    RuleKey missingRuleKey = new RuleKey("bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb");
+    InMemoryArtifactCache cache1 = new InMemoryArtifactCache();
+    InMemoryArtifactCache cache2 = new InMemoryArtifactCache();
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(cache1, cache2));
+
+    cache1.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), new byte[0]);
+    ImmutableMap<String, String> metadata = ImmutableMap.of("hello", "world");
+    cache2.store(
+        ArtifactInfo.builder().addRuleKeys(otherRuleKey).setMetadata(metadata).build(),
+        new byte[0]);
+
+    ImmutableMap<RuleKey, CacheResult> results = multiArtifactCache.multiFetch(
+        ImmutableMap.of(
+            dummyRuleKey, FetchRequest.of(LazyPath.ofInstance(tmp.newFile()), Optional.empty()),
+            otherRuleKey, FetchRequest.of(LazyPath.ofInstance(tmp.newFile()), Optional.empty()),
+            missingRuleKey,
+            FetchRequest.of(LazyPath.ofInstance(tmp.newFile()), Optional.empty())));
+
+    assertEquals(CacheResultType.HIT, results.get(dummyRuleKey).getType());
+    assertEquals(CacheResultType.HIT, results.get(otherRuleKey).getType());
+    assertEquals(CacheResultType.MISS, results.get(missingRuleKey).getType());
+
+    // Artifacts fetched from the second cache are pushed to the first.
+    assertEquals(
+        metadata,
+        cache1.fetch(otherRuleKey, LazyPath.ofInstance(tmp.newFile())).getMetadata());
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void fetchStreamingStillWritesOutputForEarlierCaches() throws Exception {
+    byte[] artifact = "artifact".getBytes(StandardCharsets.UTF_8);
+    InMemoryArtifactCache cache1 = new InMemoryArtifactCache();
+    InMemoryArtifactCache cache2 = new InMemoryArtifactCache();
+    cache2.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), artifact);
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(cache1, cache2));
+
+    AtomicReference<byte[]> consumed = new AtomicReference<>();
+    CacheResult result = multiArtifactCache.fetchStreaming(
+        dummyRuleKey,
+        LazyPath.ofInstance(tmp.getRoot().resolve("output")),
+        input -> consumed.set(ByteStreams.toByteArray(input)));
+
+    assertEquals(CacheResultType.HIT, result.getType());
+    assertArrayEquals(artifact, consumed.get());
+    assertArrayEquals(
+        artifact,
+        Files.readAllBytes(tmp.getRoot().resolve("output")));
+    assertEquals(
+        CacheResultType.HIT,
+        cache1.fetch(dummyRuleKey, LazyPath.ofInstance(tmp.newFile())).getType());
+
+    multiArtifactCache.close();
+  }
+
+  @Test
+  public void multiContainsOnlyReportsMissesIfNoCacheSkipped() throws Exception {
+    RuleKey otherRuleKey = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+    InMemoryArtifactCache cache = new InMemoryArtifactCache();
+    cache.store(ArtifactInfo.builder().addRuleKeys(dummyRuleKey).build(), new byte[0]);
+
+    MultiArtifactCache multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(new NoopArtifactCache(), cache));
+    ImmutableMap<RuleKey, CacheResult> results =
+        multiArtifactCache.multiContains(ImmutableSet.of(dummyRuleKey, otherRuleKey));
+    assertEquals(CacheResultType.HIT, results.get(dummyRuleKey).getType());
+    assertEquals(CacheResultType.MISS, results.get(otherRuleKey).getType());
+
+    multiArtifactCache =
+        new MultiArtifactCache(ImmutableList.of(new SkippingArtifactCache(), cache));
+    results = multiArtifactCache.multiContains(ImmutableSet.of(dummyRuleKey, otherRuleKey));
+    assertEquals(CacheResultType.HIT, results.get(dummyRuleKey).getType());
+    assertEquals(CacheResultType.SKIPPED, results.get(otherRuleKey).getType());
+  }
+
 }
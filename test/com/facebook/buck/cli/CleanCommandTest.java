@@ -32,6 +32,7 @@ import com.facebook.buck.parser.Parser;
 import com.facebook.buck.rules.ActionGraphCache;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
+import com.facebook.buck.rules.TargetNodeHashCache;
 import com.facebook.buck.rules.TestCellBuilder;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.TestConsole;
@@ -136,6 +137,7 @@ public class CleanCommandTest extends EasyMockSupport {
             CommandRunnerParamsForTesting.BUILD_ENVIRONMENT_DESCRIPTION)
         .setVersionedTargetGraphCache(new VersionedTargetGraphCache())
         .setActionGraphCache(new ActionGraphCache(new BroadcastEventListener()))
+        .setTargetNodeHashCache(new TargetNodeHashCache())
         .setKnownBuildRuleTypesFactory(
             new KnownBuildRuleTypesFactory(
                 new FakeProcessExecutor(),
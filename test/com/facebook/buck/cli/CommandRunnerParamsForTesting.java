@@ -34,6 +34,7 @@ import com.facebook.buck.rules.ActionGraphCache;
 import com.facebook.buck.rules.Cell;
 import com.facebook.buck.rules.ConstructorArgMarshaller;
 import com.facebook.buck.rules.KnownBuildRuleTypesFactory;
+import com.facebook.buck.rules.TargetNodeHashCache;
 import com.facebook.buck.rules.TestCellBuilder;
 import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
 import com.facebook.buck.step.ExecutorPool;
@@ -122,6 +123,7 @@ public class CommandRunnerParamsForTesting {
         .setVersionedTargetGraphCache(new VersionedTargetGraphCache())
         .setInvocationInfo(Optional.empty())
         .setActionGraphCache(new ActionGraphCache(new BroadcastEventListener()))
+        .setTargetNodeHashCache(new TargetNodeHashCache())
         .setKnownBuildRuleTypesFactory(
             new KnownBuildRuleTypesFactory(new FakeProcessExecutor(), androidDirectoryResolver))
         .build();
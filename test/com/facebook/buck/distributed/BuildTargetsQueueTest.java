@@ -86,6 +86,77 @@ public class BuildTargetsQueueTest {
     Assert.assertEquals(0, queue.dequeueZeroDependencyNodes(zeroDepTargets).size());
   }
 
+  @Test
+  public void testTargetsOnTheLongestPathAreDequeuedFirst() throws NoSuchBuildTargetException {
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    BuildTarget root = BuildTargetFactory.newInstance(TARGET_NAME);
+    BuildTarget shortLeaf = BuildTargetFactory.newInstance(TARGET_NAME + "_a_short_leaf");
+    BuildTarget chainLeaf = BuildTargetFactory.newInstance(TARGET_NAME + "_chain_leaf");
+    BuildTarget chainMiddle = BuildTargetFactory.newInstance(TARGET_NAME + "_chain_middle");
+    resolver.addAllToIndex(
+        ImmutableSortedSet.of(
+            JavaLibraryBuilder.createBuilder(shortLeaf).build(resolver),
+            JavaLibraryBuilder.createBuilder(chainLeaf).build(resolver),
+            JavaLibraryBuilder.createBuilder(chainMiddle).addDep(chainLeaf).build(resolver),
+            JavaLibraryBuilder.createBuilder(root)
+                .addDep(shortLeaf)
+                .addDep(chainMiddle)
+                .build(resolver)));
+
+    // Counting rules, the chain is the critical path.
+    BuildTargetsQueue queue = BuildTargetsQueue.newQueue(resolver, ImmutableList.of(root));
+    Assert.assertEquals(
+        ImmutableList.of(
+            chainLeaf.getFullyQualifiedName(),
+            shortLeaf.getFullyQualifiedName()),
+        queue.dequeueZeroDependencyNodes(ImmutableList.of()));
+
+    // But not if the short leaf takes longer to build than the whole chain.
+    queue = BuildTargetsQueue.newQueue(
+        resolver,
+        ImmutableList.of(root),
+        rule -> rule.getBuildTarget().equals(shortLeaf) ? 10 : 1);
+    Assert.assertEquals(
+        ImmutableList.of(
+            shortLeaf.getFullyQualifiedName(),
+            chainLeaf.getFullyQualifiedName()),
+        queue.dequeueZeroDependencyNodes(ImmutableList.of()));
+  }
+
+  @Test
+  public void testSharedDependencyIsCostedAfterAllItsDependents()
+      throws NoSuchBuildTargetException {
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    BuildTarget root = BuildTargetFactory.newInstance(TARGET_NAME);
+    BuildTarget middle = BuildTargetFactory.newInstance(TARGET_NAME + "_middle");
+    BuildTarget shared = BuildTargetFactory.newInstance(TARGET_NAME + "_shared");
+    resolver.addAllToIndex(
+        ImmutableSortedSet.of(
+            JavaLibraryBuilder.createBuilder(shared).build(resolver),
+            JavaLibraryBuilder.createBuilder(middle).addDep(shared).build(resolver),
+            JavaLibraryBuilder.createBuilder(root)
+                .addDep(middle)
+                .addDep(shared)
+                .build(resolver)));
+
+    BuildTargetsQueue queue = BuildTargetsQueue.newQueue(resolver, ImmutableList.of(root));
+    Assert.assertEquals(1, queue.getCriticalPathCost(root.getFullyQualifiedName()));
+    Assert.assertEquals(2, queue.getCriticalPathCost(middle.getFullyQualifiedName()));
+    Assert.assertEquals(3, queue.getCriticalPathCost(shared.getFullyQualifiedName()));
+
+    Assert.assertEquals(
+        ImmutableList.of(shared.getFullyQualifiedName()),
+        queue.dequeueZeroDependencyNodes(ImmutableList.of()));
+    Assert.assertEquals(
+        ImmutableList.of(middle.getFullyQualifiedName()),
+        queue.dequeueZeroDependencyNodes(ImmutableList.of(shared.getFullyQualifiedName())));
+    Assert.assertEquals(
+        ImmutableList.of(root.getFullyQualifiedName()),
+        queue.dequeueZeroDependencyNodes(ImmutableList.of(middle.getFullyQualifiedName())));
+  }
+
   private static BuildRuleResolver createSimpleResolver() throws NoSuchBuildTargetException {
     BuildRuleResolver resolver =
         new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.distributed;
+
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.distributed.thrift.BuildJobStateBuildTarget;
+import com.facebook.buck.distributed.thrift.BuildJobStateTargetGraph;
+import com.facebook.buck.distributed.thrift.BuildJobStateTargetNode;
+import com.facebook.buck.model.Pair;
+import com.facebook.buck.slb.ThriftProtocol;
+import com.facebook.buck.slb.ThriftUtil;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableSet;
+
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares dumping and loading the target graph sent to distributed builds as JSON and with
+ * {@link CompactTargetGraphEncoding}, using synthetic java_library nodes spread over packages
+ * which depend on each other.
+ */
+public class CompactTargetGraphEncodingBenchmark {
+  @Param({"10000"})
+  private int nodeCount = 1000;
+
+  private final ObjectMapper objectMapper = ObjectMappers.newDefaultInstance();
+
+  private List<Pair<BuildJobStateTargetNode, Map<String, Object>>> nodes;
+  private BuildJobStateTargetGraph jsonGraph;
+  private BuildJobStateTargetGraph compactGraph;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    Random random = new Random(42);
+    nodes = new ArrayList<>();
+    for (int i = 0; i < nodeCount; i++) {
+      String basePath = String.format("java/com/example/module%d/package%d", i % 50, i / 10);
+      BuildJobStateBuildTarget target = new BuildJobStateBuildTarget();
+      target.setBaseName("//" + basePath);
+      target.setShortName("lib" + i);
+      target.setFlavors(ImmutableSet.of());
+      BuildJobStateTargetNode node = new BuildJobStateTargetNode();
+      node.setCellIndex(0);
+      node.setBuildTarget(target);
+
+      Map<String, Object> rawNode = new LinkedHashMap<>();
+      rawNode.put("buck.base_path", basePath);
+      rawNode.put("buck.type", "java_library");
+      rawNode.put("name", "lib" + i);
+      List<String> srcs = new ArrayList<>();
+      for (int j = 0; j < 1 + random.nextInt(20); j++) {
+        srcs.add(String.format("Source%d.java", j));
+      }
+      rawNode.put("srcs", srcs);
+      List<String> deps = new ArrayList<>();
+      for (int j = 0; j < random.nextInt(15) && i > 0; j++) {
+        int dep = random.nextInt(i);
+        deps.add(
+            String.format(
+                "//java/com/example/module%d/package%d:lib%d",
+                dep % 50,
+                dep / 10,
+                dep));
+      }
+      rawNode.put("deps", deps);
+      rawNode.put("exported_deps", new ArrayList<>());
+      rawNode.put("visibility", ImmutableSet.of("PUBLIC").asList());
+      rawNode.put("resources_root", null);
+      rawNode.put("autodeps", false);
+      rawNode.put("source", "8");
+      rawNode.put("target", "8");
+      nodes.add(new Pair<>(node, rawNode));
+    }
+
+    jsonGraph = encodeJson();
+    compactGraph = encodeCompact();
+  }
+
+  @Test
+  public void compactEncodingIsSmallerThanJson() throws Exception {
+    assertThat(
+        ThriftUtil.serialize(ThriftProtocol.COMPACT, compactGraph).length * 2,
+        Matchers.lessThan(ThriftUtil.serialize(ThriftProtocol.COMPACT, jsonGraph).length));
+  }
+
+  @Benchmark
+  public BuildJobStateTargetGraph encodeJson() throws IOException {
+    BuildJobStateTargetGraph graph = new BuildJobStateTargetGraph();
+    for (Pair<BuildJobStateTargetNode, Map<String, Object>> node : nodes) {
+      BuildJobStateTargetNode remoteNode = node.getFirst().deepCopy();
+      remoteNode.setRawNode(objectMapper.writeValueAsString(node.getSecond()));
+      graph.addToNodes(remoteNode);
+    }
+    return graph;
+  }
+
+  @Benchmark
+  public BuildJobStateTargetGraph encodeCompact() throws IOException {
+    BuildJobStateTargetGraph graph = new BuildJobStateTargetGraph();
+    graph.setCompactNodes(CompactTargetGraphEncoding.encode(objectMapper, nodes));
+    return graph;
+  }
+
+  @Benchmark
+  public int decodeJson() throws IOException {
+    int attributes = 0;
+    for (BuildJobStateTargetNode remoteNode : jsonGraph.getNodes()) {
+      attributes += objectMapper.readValue(remoteNode.getRawNode(), Map.class).size();
+    }
+    return attributes;
+  }
+
+  @Benchmark
+  public int decodeCompact() throws IOException {
+    int attributes = 0;
+    for (Pair<BuildJobStateTargetNode, Map<String, Object>> node :
+        CompactTargetGraphEncoding.decode(
+            objectMapper,
+            ByteBuffer.wrap(compactGraph.getCompactNodes()))) {
+      attributes += node.getSecond().size();
+    }
+    return attributes;
+  }
+}
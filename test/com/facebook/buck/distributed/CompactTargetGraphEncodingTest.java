@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.distributed;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.distributed.thrift.BuildJobStateBuildTarget;
+import com.facebook.buck.distributed.thrift.BuildJobStateTargetNode;
+import com.facebook.buck.model.Pair;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class CompactTargetGraphEncodingTest {
+
+  private final ObjectMapper objectMapper = ObjectMappers.newDefaultInstance();
+
+  private static BuildJobStateTargetNode newRemoteNode(
+      int cellIndex,
+      String cellName,
+      String baseName,
+      String shortName,
+      String... flavors) {
+    BuildJobStateBuildTarget target = new BuildJobStateBuildTarget();
+    if (cellName != null) {
+      target.setCellName(cellName);
+    }
+    target.setBaseName(baseName);
+    target.setShortName(shortName);
+    target.setFlavors(ImmutableSet.copyOf(flavors));
+    BuildJobStateTargetNode node = new BuildJobStateTargetNode();
+    node.setCellIndex(cellIndex);
+    node.setBuildTarget(target);
+    return node;
+  }
+
+  @Test
+  public void rawNodesDecodeAsTheyWouldFromJson() throws Exception {
+    Map<String, Object> rawNode = new TreeMap<>();
+    rawNode.put("buck.base_path", "foo/bar");
+    rawNode.put("buck.type", "java_library");
+    rawNode.put("name", "bar");
+    rawNode.put("srcs", Arrays.asList("Bar.java", "Baz.java"));
+    rawNode.put("deps", ImmutableList.of("//foo:foo", "cell//baz:baz#flavor"));
+    rawNode.put("resources_root", null);
+    rawNode.put("autodeps", true);
+    rawNode.put("exported", false);
+    rawNode.put("timeout", 10L);
+    rawNode.put("big_number", Long.MAX_VALUE);
+    rawNode.put("negative_number", -3);
+    rawNode.put("ratio", 0.5);
+    rawNode.put("env", ImmutableMap.of("KEY", "value", "OTHER", ImmutableList.of(1, "two")));
+    rawNode.put("nested", ImmutableList.of(ImmutableList.of(), ImmutableMap.of()));
+    rawNode.put("path", Paths.get("foo/bar"));
+
+    List<Pair<BuildJobStateTargetNode, Map<String, Object>>> nodes = ImmutableList.of(
+        new Pair<>(newRemoteNode(0, null, "//foo/bar", "bar"), rawNode),
+        new Pair<>(
+            newRemoteNode(1, "cell", "//baz", "baz", "flavor", "other"),
+            ImmutableMap.of("name", "baz")));
+
+    List<Pair<BuildJobStateTargetNode, Map<String, Object>>> decoded =
+        CompactTargetGraphEncoding.decode(
+            objectMapper,
+            ByteBuffer.wrap(CompactTargetGraphEncoding.encode(objectMapper, nodes)));
+
+    assertEquals(nodes.size(), decoded.size());
+    for (int i = 0; i < nodes.size(); i++) {
+      assertEquals(nodes.get(i).getFirst(), decoded.get(i).getFirst());
+      assertEquals(
+          objectMapper.readValue(
+              objectMapper.writeValueAsString(nodes.get(i).getSecond()),
+              Map.class),
+          decoded.get(i).getSecond());
+    }
+  }
+
+  @Test
+  public void emptyGraphRoundTrips() throws Exception {
+    assertEquals(
+        ImmutableList.of(),
+        CompactTargetGraphEncoding.decode(
+            objectMapper,
+            ByteBuffer.wrap(CompactTargetGraphEncoding.encode(objectMapper, ImmutableList.of()))));
+  }
+}
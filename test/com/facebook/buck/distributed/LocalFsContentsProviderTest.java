@@ -18,17 +18,23 @@ package com.facebook.buck.distributed;
 
 import com.facebook.buck.distributed.thrift.BuildJobStateFileHashEntry;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 
 import org.hamcrest.Matchers;
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
 
 public class LocalFsContentsProviderTest {
   private static final byte[] FILE_CONTENTS = "topspin".getBytes(Charsets.UTF_8);
@@ -72,4 +78,52 @@ public class LocalFsContentsProviderTest {
     Assert.assertTrue(Files.isRegularFile(anotherAbsPath));
     Assert.assertThat(FILE_CONTENTS, Matchers.equalTo(Files.readAllBytes(anotherAbsPath)));
   }
+
+  @Test
+  public void testPrefetchingFetchesEachMissingContentOnce() throws IOException {
+    LocalFsContentsProvider provider = new LocalFsContentsProvider(cacheRootDir);
+    Files.write(targetAbsPath, FILE_CONTENTS);
+    provider.writeFileAndGetInputStream(entry, targetAbsPath);
+
+    BuildJobStateFileHashEntry missingEntry = new BuildJobStateFileHashEntry();
+    missingEntry.setHashCode("4567defa");
+    BuildJobStateFileHashEntry sameContentsEntry = missingEntry.deepCopy();
+    List<Path> fetchedPaths = new ArrayList<>();
+    provider.prefetchFileContents(
+        ImmutableList.of(entry, missingEntry, sameContentsEntry),
+        (fetchedEntry, fetchedAbsPath) -> {
+          Assert.assertThat(fetchedEntry, Matchers.equalTo(missingEntry));
+          fetchedPaths.add(fetchedAbsPath);
+          Files.write(fetchedAbsPath, FILE_CONTENTS);
+          return true;
+        });
+    Assert.assertThat(fetchedPaths, Matchers.hasSize(1));
+
+    Path anotherAbsPath = cacheRootDir.resolve("slicespin.file.txt");
+    Assert.assertTrue(provider.materializeFileContents(sameContentsEntry, anotherAbsPath));
+    Assert.assertThat(FILE_CONTENTS, Matchers.equalTo(Files.readAllBytes(anotherAbsPath)));
+  }
+
+  @Test
+  public void testExecutableAndNonExecutableCopiesDoNotShareTheirMode() throws IOException {
+    Assume.assumeTrue(
+        FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    LocalFsContentsProvider provider = new LocalFsContentsProvider(cacheRootDir);
+    BuildJobStateFileHashEntry executableEntry = entry.deepCopy().setIsExecutable(true);
+    Files.write(targetAbsPath, FILE_CONTENTS);
+    provider.writeFileAndGetInputStream(entry, targetAbsPath);
+    provider.writeFileAndGetInputStream(executableEntry, targetAbsPath);
+
+    Path plainAbsPath = cacheRootDir.resolve("plain.file.txt");
+    Path executableAbsPath = cacheRootDir.resolve("executable.file.txt");
+    Assert.assertTrue(provider.materializeFileContents(entry, plainAbsPath));
+    Assert.assertTrue(provider.materializeFileContents(executableEntry, executableAbsPath));
+
+    Assert.assertEquals(
+        PosixFilePermissions.fromString("r--r--r--"),
+        Files.getPosixFilePermissions(plainAbsPath));
+    Assert.assertEquals(
+        PosixFilePermissions.fromString("r-xr-xr-x"),
+        Files.getPosixFilePermissions(executableAbsPath));
+  }
 }
@@ -26,6 +26,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class MinionModeRunnerIntegrationTest {
 
@@ -70,9 +71,12 @@ public class MinionModeRunnerIntegrationTest {
     }
 
     @Override
-    public int buildLocallyAndReturnExitCode(Iterable<String> targetsToBuild)
+    public int buildLocallyAndReturnExitCode(
+        Iterable<String> targetsToBuild,
+        Consumer<String> onTargetBuilt)
         throws IOException, InterruptedException {
       callArguments.add(ImmutableList.copyOf(targetsToBuild));
+      targetsToBuild.forEach(onTargetBuilt);
       return 0;
     }
   }
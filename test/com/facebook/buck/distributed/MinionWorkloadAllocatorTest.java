@@ -16,10 +16,14 @@
 
 package com.facebook.buck.distributed;
 
+import com.facebook.buck.jvm.java.JavaLibraryBuilder;
 import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.parser.NoSuchBuildTargetException;
 import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.timing.SettableFakeClock;
 import com.google.common.collect.ImmutableList;
 
 import org.junit.Assert;
@@ -29,6 +33,8 @@ import org.junit.Test;
 public class MinionWorkloadAllocatorTest {
 
   private static final String MINION_ONE = "Super minion 1";
+  private static final String MINION_TWO = "Super minion 2";
+  private static final String MINION_THREE = "Super minion 3";
 
   private BuildTargetsQueue queue;
   private BuildTarget target;
@@ -65,4 +71,109 @@ public class MinionWorkloadAllocatorTest {
 
     Assert.assertEquals(0, allocator.getTargetsToBuild(MINION_ONE).size());
   }
+
+  @Test
+  public void testTargetsWhichWereNotBuiltAreHandedOutAgain() {
+    MinionWorkloadAllocator allocator = new MinionWorkloadAllocator(queue, 2);
+    allocator.finishedBuildingTargets(MINION_ONE, allocator.getTargetsToBuild(MINION_ONE));
+
+    ImmutableList<String> secondTargets = allocator.getTargetsToBuild(MINION_ONE);
+    Assert.assertEquals(2, secondTargets.size());
+    allocator.finishedBuildingTargets(MINION_ONE, ImmutableList.of(secondTargets.get(0)));
+    Assert.assertFalse(allocator.isBuildFinished());
+
+    Assert.assertEquals(
+        ImmutableList.of(secondTargets.get(1)),
+        allocator.getTargetsToBuild(MINION_TWO));
+    allocator.finishedBuildingTargets(MINION_TWO);
+    Assert.assertEquals(
+        ImmutableList.of(target.getFullyQualifiedName()),
+        allocator.getTargetsToBuild(MINION_ONE));
+  }
+
+  @Test
+  public void testTargetsReportedBeforeTheMinionFinishedReleaseTheirDependents()
+      throws NoSuchBuildTargetException {
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    BuildTarget firstLeaf = BuildTargetFactory.newInstance("//foo:first_leaf");
+    BuildTarget secondLeaf = BuildTargetFactory.newInstance("//foo:second_leaf");
+    BuildTarget firstRoot = BuildTargetFactory.newInstance("//foo:first_root");
+    BuildTarget secondRoot = BuildTargetFactory.newInstance("//foo:second_root");
+    resolver.addToIndex(JavaLibraryBuilder.createBuilder(firstLeaf).build(resolver));
+    resolver.addToIndex(JavaLibraryBuilder.createBuilder(secondLeaf).build(resolver));
+    resolver.addToIndex(
+        JavaLibraryBuilder.createBuilder(firstRoot).addDep(firstLeaf).build(resolver));
+    resolver.addToIndex(
+        JavaLibraryBuilder.createBuilder(secondRoot).addDep(secondLeaf).build(resolver));
+    MinionWorkloadAllocator allocator = new MinionWorkloadAllocator(
+        BuildTargetsQueue.newQueue(resolver, ImmutableList.of(firstRoot, secondRoot)),
+        2);
+
+    Assert.assertEquals(
+        ImmutableList.of(firstLeaf.getFullyQualifiedName(), secondLeaf.getFullyQualifiedName()),
+        allocator.getTargetsToBuild(MINION_ONE));
+    allocator.builtTargets(MINION_ONE, ImmutableList.of(firstLeaf.getFullyQualifiedName()));
+    Assert.assertEquals(
+        ImmutableList.of(firstRoot.getFullyQualifiedName()),
+        allocator.getTargetsToBuild(MINION_TWO));
+
+    // The target reported already isn't handed out again when the minion finishes.
+    allocator.finishedBuildingTargets(
+        MINION_ONE,
+        ImmutableList.of(secondLeaf.getFullyQualifiedName()));
+    Assert.assertEquals(
+        ImmutableList.of(secondRoot.getFullyQualifiedName()),
+        allocator.getTargetsToBuild(MINION_ONE));
+    allocator.finishedBuildingTargets(MINION_ONE);
+    allocator.finishedBuildingTargets(MINION_TWO);
+    Assert.assertTrue(allocator.isBuildFinished());
+  }
+
+  @Test
+  public void testStragglersAreBuiltAgainByIdleMinions() throws NoSuchBuildTargetException {
+    BuildRuleResolver resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    BuildTarget root = BuildTargetFactory.newInstance("//foo:root");
+    JavaLibraryBuilder rootBuilder = JavaLibraryBuilder.createBuilder(root);
+    for (int i = 0; i < 7; i++) {
+      BuildTarget leaf = BuildTargetFactory.newInstance("//foo:leaf" + i);
+      resolver.addToIndex(JavaLibraryBuilder.createBuilder(leaf).build(resolver));
+      rootBuilder.addDep(leaf);
+    }
+    resolver.addToIndex(rootBuilder.build(resolver));
+    SettableFakeClock clock = new SettableFakeClock(0, 0);
+    MinionWorkloadAllocator allocator = new MinionWorkloadAllocator(
+        BuildTargetsQueue.newQueue(resolver, ImmutableList.of(root)),
+        1,
+        clock,
+        MinionWorkloadAllocator.DEFAULT_STRAGGLER_PERCENTILE);
+
+    // Build a few targets to learn how long they take.
+    for (int i = 0; i < 5; i++) {
+      allocator.getTargetsToBuild(MINION_ONE);
+      clock.setCurrentTimeMillis(clock.currentTimeMillis() + 10);
+      allocator.finishedBuildingTargets(MINION_ONE);
+    }
+
+    // The second minion gets stuck building its target.
+    ImmutableList<String> stuckTargets = allocator.getTargetsToBuild(MINION_TWO);
+    allocator.getTargetsToBuild(MINION_ONE);
+    allocator.finishedBuildingTargets(MINION_ONE);
+    Assert.assertEquals(ImmutableList.of(), allocator.getTargetsToBuild(MINION_ONE));
+
+    // Once it's taken much longer than the others, another minion builds it as well.
+    clock.setCurrentTimeMillis(clock.currentTimeMillis() + 1000);
+    Assert.assertEquals(stuckTargets, allocator.getTargetsToBuild(MINION_ONE));
+    Assert.assertEquals(ImmutableList.of(), allocator.getTargetsToBuild(MINION_THREE));
+    allocator.finishedBuildingTargets(MINION_ONE);
+    Assert.assertEquals(
+        ImmutableList.of(root.getFullyQualifiedName()),
+        allocator.getTargetsToBuild(MINION_ONE));
+    allocator.finishedBuildingTargets(MINION_ONE);
+
+    // The stuck minion finishing eventually doesn't change anything.
+    allocator.finishedBuildingTargets(MINION_TWO);
+    Assert.assertTrue(allocator.isBuildFinished());
+  }
 }
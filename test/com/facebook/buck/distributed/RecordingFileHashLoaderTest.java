@@ -48,7 +48,12 @@ import org.junit.rules.TemporaryFolder;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class RecordingFileHashLoaderTest {
   @Rule
@@ -198,6 +203,52 @@ public class RecordingFileHashLoaderTest {
         new FileHashEntryMatcher("a/e", false)));
   }
 
+  @Test
+  public void testRecordsEachPathOnceWhenHashedConcurrently() throws Exception {
+    ProjectFilesystem fs = new ProjectFilesystem(projectDir.getRoot().toPath());
+    Path pathDirA = Files.createDirectories(fs.getRootPath().resolve("a"));
+    Files.createFile(fs.getRootPath().resolve("a/b"));
+    Files.createFile(fs.getRootPath().resolve("c.jar"));
+    ArchiveMemberPath archiveMemberPath =
+        ArchiveMemberPath.of(fs.getPath("c.jar"), fs.getPath("Member.class"));
+
+    RecordedFileHashes recordedFileHashes = new RecordedFileHashes(0);
+    BuildJobStateFileHashes fileHashes = recordedFileHashes.getRemoteFileHashes();
+
+    ProjectFileHashCache delegateCacheMock = EasyMock.createMock(
+        ProjectFileHashCache.class);
+    expect(delegateCacheMock.getFilesystem()).andReturn(fs);
+    expect(
+        delegateCacheMock.get(anyObject(Path.class))).andReturn(EXAMPLE_HASHCODE).anyTimes();
+    expect(
+        delegateCacheMock.get(archiveMemberPath)).andReturn(EXAMPLE_HASHCODE).anyTimes();
+    replay(delegateCacheMock);
+
+    RecordingProjectFileHashCache recordingLoader = RecordingProjectFileHashCache.createForCellRoot(
+        delegateCacheMock,
+        recordedFileHashes,
+        new DistBuildConfig(FakeBuckConfig.builder().build()));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<HashCode>> hashes = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        hashes.add(executor.submit(() -> recordingLoader.get(fs.relativize(pathDirA))));
+        hashes.add(executor.submit(() -> recordingLoader.get(archiveMemberPath)));
+      }
+      for (Future<HashCode> hash : hashes) {
+        hash.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(fileHashes.getEntries(), Matchers.hasSize(3));
+    assertThat(fileHashes.getEntries(), IsCollectionContaining.hasItems(
+        new FileHashEntryMatcher("a", true),
+        new FileHashEntryMatcher("a/b", false)));
+  }
+
   private static PathWithUnixSeparators unixPath(String path) {
     return new PathWithUnixSeparators(MorePaths.pathWithUnixSeparators(
         path));
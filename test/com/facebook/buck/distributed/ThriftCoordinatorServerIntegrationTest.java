@@ -65,7 +65,10 @@ public class ThriftCoordinatorServerIntegrationTest {
           targetsToBuildResponse.getAction());
       Assert.assertEquals(1, targetsToBuildResponse.getBuildTargetsSize());
 
-      FinishedBuildingResponse finishedBuildingResponse = client.finishedBuilding(MINION_ID, 0);
+      FinishedBuildingResponse finishedBuildingResponse = client.finishedBuilding(
+          MINION_ID,
+          0,
+          targetsToBuildResponse.getBuildTargets());
       Assert.assertTrue(finishedBuildingResponse.continueBuilding);
 
       targetsToBuildResponse = client.getTargetsToBuild(MINION_ID);
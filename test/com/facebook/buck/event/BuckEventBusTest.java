@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import com.facebook.buck.timing.DefaultClock;
@@ -29,7 +30,9 @@ import com.google.common.eventbus.Subscribe;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BuckEventBusTest {
 
@@ -123,6 +126,105 @@ public class BuckEventBusTest {
     assertEquals(event.getNanoTime(), 64738);
   }
 
+  @Test
+  public void slowListenerDoesNotDelayOtherListeners() throws Exception {
+    BuckEventBus eb = new BuckEventBus(
+        new DefaultClock(),
+        true,
+        BuckEventBusFactory.BUILD_ID_FOR_TEST,
+        timeoutMillis);
+    BlockingSubscriber slowSubscriber = new BlockingSubscriber();
+    CountingSubscriber fastSubscriber = new CountingSubscriber(10);
+    eb.register(slowSubscriber);
+    eb.register(fastSubscriber);
+    for (int i = 0; i < 10; i++) {
+      eb.post(new TestEvent());
+    }
+
+    assertTrue(fastSubscriber.allEventsSeen.await(timeoutMillis, TimeUnit.MILLISECONDS));
+    assertEquals(0, slowSubscriber.eventsSeen.get());
+
+    slowSubscriber.release.countDown();
+    eb.close();
+    assertEquals(10, slowSubscriber.eventsSeen.get());
+  }
+
+  @Test
+  public void eventsForListenerWhichIsTooFarBehindAreDroppedWithDropPolicy() throws Exception {
+    BuckEventBus eb = new BuckEventBus(
+        new DefaultClock(),
+        true,
+        BuckEventBusFactory.BUILD_ID_FOR_TEST,
+        timeoutMillis,
+        /* queueSize */ 2,
+        BuckEventBus.OverflowPolicy.DROP);
+    BlockingSubscriber subscriber = new BlockingSubscriber();
+    eb.register(subscriber);
+    eb.post(new TestEvent());
+    assertTrue(subscriber.firstEventReceived.await(timeoutMillis, TimeUnit.MILLISECONDS));
+    for (int i = 0; i < 9; i++) {
+      eb.post(new TestEvent());
+    }
+    assertEquals(7, eb.getDroppedEventCount());
+
+    subscriber.release.countDown();
+    eb.close();
+    assertEquals(3, subscriber.eventsSeen.get());
+  }
+
+  @Test
+  public void postingWaitsForListenerWhichIsTooFarBehindWithBlockPolicy() throws Exception {
+    BuckEventBus eb = new BuckEventBus(
+        new DefaultClock(),
+        true,
+        BuckEventBusFactory.BUILD_ID_FOR_TEST,
+        timeoutMillis,
+        /* queueSize */ 1,
+        BuckEventBus.OverflowPolicy.BLOCK);
+    BlockingSubscriber subscriber = new BlockingSubscriber();
+    eb.register(subscriber);
+    eb.post(new TestEvent());
+    assertTrue(subscriber.firstEventReceived.await(timeoutMillis, TimeUnit.MILLISECONDS));
+    eb.post(new TestEvent());
+    Thread releaser = new Thread(() -> {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      subscriber.release.countDown();
+    });
+    releaser.start();
+    eb.post(new TestEvent());
+    releaser.join();
+
+    eb.close();
+    assertEquals(3, subscriber.eventsSeen.get());
+    assertEquals(0, eb.getDroppedEventCount());
+    assertEquals(1, eb.getBlockedPostCount());
+  }
+
+  @Test
+  public void eventsPostedByListenersAreQueuedPastTheLimitWithBlockPolicy() throws Exception {
+    BuckEventBus eb = new BuckEventBus(
+        new DefaultClock(),
+        true,
+        BuckEventBusFactory.BUILD_ID_FOR_TEST,
+        timeoutMillis,
+        /* queueSize */ 1,
+        BuckEventBus.OverflowPolicy.BLOCK);
+    ReentrantSubscriber subscriber = new ReentrantSubscriber(eb, 3);
+    eb.register(subscriber);
+    eb.post(new TestEvent());
+
+    // The listener can't catch up while it's posting, so waiting for it would deadlock.
+    assertTrue(subscriber.allEventsSeen.await(timeoutMillis, TimeUnit.MILLISECONDS));
+    eb.close();
+    assertEquals(0, eb.getDroppedEventCount());
+    assertEquals(0, eb.getBlockedPostCount());
+    assertEquals(3, eb.getMaxQueuedEventCount());
+  }
+
   private static class SleepEvent extends AbstractBuckEvent {
     public final long milliseconds;
 
@@ -149,6 +251,56 @@ public class BuckEventBusTest {
     }
   }
 
+  private static class BlockingSubscriber {
+    private final CountDownLatch firstEventReceived = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger eventsSeen = new AtomicInteger();
+
+    @Subscribe
+    public void block(TestEvent event) throws InterruptedException {
+      firstEventReceived.countDown();
+      release.await();
+      eventsSeen.incrementAndGet();
+    }
+  }
+
+  private static class ReentrantSubscriber {
+    private final BuckEventBus eventBus;
+    private final int eventsToPost;
+    private final CountDownLatch allEventsSeen;
+
+    private ReentrantSubscriber(BuckEventBus eventBus, int eventsToPost) {
+      this.eventBus = eventBus;
+      this.eventsToPost = eventsToPost;
+      this.allEventsSeen = new CountDownLatch(eventsToPost);
+    }
+
+    @Subscribe
+    public void post(TestEvent event) {
+      for (int i = 0; i < eventsToPost; i++) {
+        eventBus.post(new SleepEvent(0));
+      }
+    }
+
+    @Subscribe
+    public void count(SleepEvent event) {
+      allEventsSeen.countDown();
+    }
+  }
+
+  private static class CountingSubscriber {
+    private final CountDownLatch allEventsSeen;
+
+    private CountingSubscriber(int expectedEvents) {
+      this.allEventsSeen = new CountDownLatch(expectedEvents);
+    }
+
+    @Subscribe
+    public void count(TestEvent event) {
+      allEventsSeen.countDown();
+    }
+  }
+
   private static class TestEvent extends AbstractBuckEvent {
 
     public TestEvent() {
@@ -70,6 +70,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
+import com.google.common.io.Files;
 import com.google.gson.Gson;
 
 import org.junit.Before;
@@ -162,6 +163,46 @@ public class ChromeTraceBuildListenerTest {
         ImmutableSortedSet.copyOf(files));
   }
 
+  @Test
+  public void testDeleteFilesOverTotalSize() throws IOException {
+    ProjectFilesystem projectFilesystem = new ProjectFilesystem(tmpDir.getRoot().toPath());
+    projectFilesystem.mkdirs(invocationInfo.getLogDirectoryPath());
+
+    for (int i = 0; i < 10; ++i) {
+      String extension = i % 2 == 0 ? "trace" : "trace.gz";
+      File oldResult = new File(
+          String.format("%s/build.100%d.%s", invocationInfo.getLogDirectoryPath(), i, extension));
+      Files.write(new byte[1000], oldResult);
+      oldResult.setLastModified(TimeUnit.SECONDS.toMillis(i));
+    }
+
+    ChromeTraceBuildListener listener = new ChromeTraceBuildListener(
+        projectFilesystem,
+        invocationInfo,
+        new FakeClock(TIMESTAMP_NANOS),
+        ObjectMappers.newDefaultInstance(),
+        Locale.US,
+        TimeZone.getTimeZone("America/Los_Angeles"),
+        /* tracesToKeep */ 42,
+        /* maxTracesSizeBytes */ Optional.of(3500L),
+        false);
+
+    listener.outputTrace(invocationInfo.getBuildId());
+
+    ImmutableList<String> files = FluentIterable.
+        from(Arrays.asList(projectFilesystem.listFiles(invocationInfo.getLogDirectoryPath()))).
+        filter(input -> input.getName().startsWith("build.")).
+        transform(File::getName).
+        toList();
+    assertEquals(
+        ImmutableSortedSet.of(
+            "build.1009.trace.gz",
+            "build.1008.trace",
+            "build.1007.trace.gz",
+            "build.2014-09-02.16-55-51.BUILD_ID.trace"),
+        ImmutableSortedSet.copyOf(files));
+  }
+
   @Test
   public void testBuildJson() throws IOException {
     ProjectFilesystem projectFilesystem = new ProjectFilesystem(tmpDir.getRoot().toPath());
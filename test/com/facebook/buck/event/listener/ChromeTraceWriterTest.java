@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.event.ChromeTraceEvent;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class ChromeTraceWriterTest {
+
+  private static final ImmutableList<ChromeTraceEvent> EVENTS = ImmutableList.of(
+      new ChromeTraceEvent(
+          "buck",
+          "process_name",
+          ChromeTraceEvent.Phase.METADATA,
+          0,
+          0,
+          0,
+          0,
+          ImmutableMap.of("name", "buck")),
+      new ChromeTraceEvent(
+          "buck",
+          "//foo:bar",
+          ChromeTraceEvent.Phase.BEGIN,
+          0,
+          12,
+          123456789,
+          1234,
+          ImmutableMap.of()),
+      new ChromeTraceEvent(
+          "buck",
+          "//foo:bar",
+          ChromeTraceEvent.Phase.END,
+          0,
+          12,
+          123456999,
+          1400,
+          ImmutableMap.of("cache_result", "miss", "quote", "\"\\\u0001")));
+
+  @Test
+  public void writesTheSameJsonAsDataBinding() throws IOException {
+    ObjectMapper mapper = ObjectMappers.newDefaultInstance();
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    try (ChromeTraceWriter writer = new ChromeTraceWriter(mapper.getFactory(), stream)) {
+      for (ChromeTraceEvent event : EVENTS) {
+        writer.writeEvent(event);
+      }
+    }
+
+    assertEquals(
+        mapper.readTree(mapper.writeValueAsString(EVENTS)),
+        mapper.readTree(stream.toByteArray()));
+  }
+
+  @Test
+  public void eventsWrittenAfterClosingAreIgnored() throws IOException {
+    ObjectMapper mapper = ObjectMappers.newDefaultInstance();
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    ChromeTraceWriter writer = new ChromeTraceWriter(mapper.getFactory(), stream);
+    writer.writeEvent(EVENTS.get(0));
+    writer.close();
+    writer.writeEvent(EVENTS.get(1));
+    writer.close();
+
+    assertEquals(
+        mapper.readTree(mapper.writeValueAsString(EVENTS.subList(0, 1))),
+        mapper.readTree(stream.toByteArray()));
+  }
+}
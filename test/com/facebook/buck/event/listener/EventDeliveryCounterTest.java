@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.event.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.buck.counters.CounterSnapshot;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.event.ConsoleEvent;
+import com.facebook.buck.timing.DefaultClock;
+import com.google.common.eventbus.Subscribe;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class EventDeliveryCounterTest {
+
+  @Test
+  public void reportsEventsDroppedSinceTheLastFlush() throws Exception {
+    BuckEventBus eventBus = new BuckEventBus(
+        new DefaultClock(),
+        BuckEventBusFactory.BUILD_ID_FOR_TEST,
+        /* queueSize */ 1,
+        BuckEventBus.OverflowPolicy.DROP);
+    EventDeliveryCounter counter = new EventDeliveryCounter(eventBus);
+    assertFalse(counter.flush().isPresent());
+
+    CountDownLatch firstEventReceived = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    eventBus.register(new Object() {
+      @Subscribe
+      public void block(ConsoleEvent event) throws InterruptedException {
+        firstEventReceived.countDown();
+        release.await();
+      }
+    });
+    eventBus.post(ConsoleEvent.info("first"));
+    assertTrue(firstEventReceived.await(1, TimeUnit.SECONDS));
+    for (int i = 0; i < 3; i++) {
+      eventBus.post(ConsoleEvent.info("next"));
+    }
+
+    Optional<CounterSnapshot> snapshot = counter.flush();
+    assertTrue(snapshot.isPresent());
+    assertEquals(EventDeliveryCounter.COUNTER_CATEGORY, snapshot.get().getCategory());
+    assertEquals(2L, (long) snapshot.get().getValues().get("dropped_events"));
+    assertEquals(0L, (long) snapshot.get().getValues().get("blocked_posts"));
+    assertEquals(1L, (long) snapshot.get().getValues().get("max_queued_events"));
+
+    // Nothing changed while the listener is still stuck.
+    assertFalse(counter.flush().isPresent());
+
+    release.countDown();
+    eventBus.close();
+  }
+}
@@ -252,4 +252,32 @@ public class PathListingTest {
             Optional.of(Long.MAX_VALUE)), // maxSizeFilter
         empty());
   }
+
+  @Test
+  public void listsTwoExcludeTwoNumPathsAndOneSize() throws IOException {
+    setupPaths(10);
+    assertEquals(
+        PathListing.listMatchingPathsWithFilters(
+            tmpDir.getRoot().toPath(),
+            "*",
+            PathListing.GET_PATH_MODIFIED_TIME,
+            PathListing.FilterMode.EXCLUDE,
+            Optional.of(2), // maxPathsFilter
+            Optional.of(10L)), // maxSizeFilter
+        ImmutableSet.of(middle, oldest));
+  }
+
+  @Test
+  public void listsTwoExcludeOneNumPathsAndMaxLongSize() throws IOException {
+    setupPaths(10);
+    assertEquals(
+        PathListing.listMatchingPathsWithFilters(
+            tmpDir.getRoot().toPath(),
+            "*",
+            PathListing.GET_PATH_MODIFIED_TIME,
+            PathListing.FilterMode.EXCLUDE,
+            Optional.of(1), // maxPathsFilter
+            Optional.of(Long.MAX_VALUE)), // maxSizeFilter
+        ImmutableSet.of(middle, oldest));
+  }
 }
@@ -37,6 +37,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Ordering;
+import com.google.common.hash.Hashing;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 
@@ -71,6 +72,7 @@ import java.util.Date;
 import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -105,6 +107,17 @@ public class ProjectFilesystemTest {
     assertEquals(Files.getLastModifiedTime(path).toMillis(), 0);
   }
 
+  @Test
+  public void testComputeSha1OfLargeFile() throws IOException {
+    byte[] contents = new byte[3 * 1024 * 1024];
+    new Random(0).nextBytes(contents);
+    Path path = Paths.get("large.bin");
+    filesystem.writeBytesToPath(contents, path);
+    assertEquals(
+        Hashing.sha1().hashBytes(contents),
+        filesystem.computeSha1(path).asHashCode());
+  }
+
   @Test
   public void testIsDirectory() throws IOException {
     Path dir = tmp.newFolder("src");
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.bser.BserDeserializer;
+import com.facebook.buck.bser.BserSerializer;
+import com.facebook.buck.cli.FakeBuckConfig;
+import com.facebook.buck.event.listener.BroadcastEventListener;
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.rules.Cell;
+import com.facebook.buck.rules.ConstructorArgMarshaller;
+import com.facebook.buck.rules.TestCellBuilder;
+import com.facebook.buck.rules.coercer.DefaultTypeCoercerFactory;
+import com.facebook.buck.rules.coercer.TypeCoercerFactory;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.ObjectMappers;
+import com.facebook.buck.util.cache.DefaultFileHashCache;
+import com.facebook.buck.util.cache.StackedFileHashCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+public class ParserCacheSnapshotStoreTest {
+
+  private static final HashCode CONFIG_HASH = HashCode.fromInt(1);
+  private static final ImmutableMap<Path, String> CLOCKS =
+      ImmutableMap.of(Paths.get("/watch/root"), "c:1234:5");
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private ProjectFilesystem filesystem;
+  private Cell cell;
+  private Path snapshotPath;
+  private Path buildFile;
+  private Path include;
+  private ImmutableSet<Map<String, Object>> rawNodes;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() throws Exception {
+    filesystem = new ProjectFilesystem(tmp.getRoot().toRealPath());
+    cell = new TestCellBuilder()
+        .setFilesystem(filesystem)
+        .setBuckConfig(
+            FakeBuckConfig.builder()
+                .setFilesystem(filesystem)
+                .setSections("[buildfile]", "includes = //DEFS")
+                .build())
+        .build();
+    snapshotPath = filesystem.resolve("buck-out/.parser_cache");
+    buildFile = filesystem.resolve("foo/BUCK");
+    include = filesystem.resolve("DEFS");
+    filesystem.mkdirs(buildFile.getParent());
+    filesystem.writeContentsToPath("java_library(name = 'foo')", buildFile);
+    filesystem.writeContentsToPath("# defs", include);
+
+    Map<String, Object> rawNode = new TreeMap<>();
+    rawNode.put("buck.base_path", "foo");
+    rawNode.put("buck.type", "java_library");
+    rawNode.put("name", "foo");
+    rawNode.put("srcs", Arrays.asList("Foo.java", "Bar.java"));
+    rawNode.put("resources_root", null);
+    rawNode.put("autodeps", true);
+    rawNode.put("timeout", 10L);
+    rawNode.put("labels", ImmutableList.of());
+
+    // Raw nodes are cached as they're deserialized from the build file parser's output.
+    ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    new BserSerializer().serializeToStream(rawNode, serialized);
+    rawNodes = ImmutableSet.of(
+        (Map<String, Object>) new BserDeserializer(BserDeserializer.KeyOrdering.SORTED)
+            .deserializeBserValue(new ByteArrayInputStream(serialized.toByteArray())));
+  }
+
+  private Parser newParser() {
+    TypeCoercerFactory typeCoercerFactory =
+        new DefaultTypeCoercerFactory(ObjectMappers.newDefaultInstance());
+    return new Parser(
+        new BroadcastEventListener(),
+        cell.getBuckConfig().getView(ParserConfig.class),
+        typeCoercerFactory,
+        new ConstructorArgMarshaller(typeCoercerFactory));
+  }
+
+  private ParserCacheSnapshotStore newStore(Parser parser, HashCode configHash) {
+    return new ParserCacheSnapshotStore(
+        snapshotPath,
+        parser,
+        ImmutableList.of(cell),
+        new StackedFileHashCache(
+            ImmutableList.of(DefaultFileHashCache.createDefaultFileHashCache(filesystem))),
+        configHash);
+  }
+
+  private void parseAndSave() throws Exception {
+    Parser parser = newParser();
+    parser.getPermState().getRawNodeCache().putComputedNodeIfNotPresent(
+        cell,
+        buildFile,
+        ImmutableSet.<Map<String, Object>>builder()
+            .addAll(rawNodes)
+            .add(
+                ImmutableMap.of(
+                    "__includes",
+                    ImmutableList.of(buildFile.toString(), include.toString())))
+            .add(ImmutableMap.of("__configs", ImmutableMap.of()))
+            .add(ImmutableMap.of("__env", ImmutableMap.of()))
+            .build());
+    newStore(parser, CONFIG_HASH).save(CLOCKS);
+  }
+
+  private Optional<ImmutableSet<Map<String, Object>>> lookupRestoredRawNodes(Parser parser)
+      throws Exception {
+    return parser.getPermState().getRawNodeCache().lookupComputedNode(cell, buildFile);
+  }
+
+  @Test
+  public void unchangedBuildFilesAreRestored() throws Exception {
+    parseAndSave();
+
+    Parser parser = newParser();
+    assertEquals(
+        Optional.of(CLOCKS),
+        newStore(parser, CONFIG_HASH).restore(CLOCKS.keySet()));
+    assertEquals(Optional.of(rawNodes), lookupRestoredRawNodes(parser));
+
+    // Changes to the restored build files' includes still invalidate them.
+    parser.getPermState().invalidatePath(include);
+    assertEquals(Optional.empty(), lookupRestoredRawNodes(parser));
+  }
+
+  @Test
+  public void changedBuildFilesAreNotRestored() throws Exception {
+    parseAndSave();
+    filesystem.writeContentsToPath("java_library(name = 'bar')", buildFile);
+
+    Parser parser = newParser();
+    assertEquals(
+        Optional.of(CLOCKS),
+        newStore(parser, CONFIG_HASH).restore(CLOCKS.keySet()));
+    assertEquals(Optional.empty(), lookupRestoredRawNodes(parser));
+  }
+
+  @Test
+  public void buildFilesWithChangedIncludesAreNotRestored() throws Exception {
+    parseAndSave();
+    filesystem.writeContentsToPath("# changed defs", include);
+
+    Parser parser = newParser();
+    newStore(parser, CONFIG_HASH).restore(CLOCKS.keySet());
+    assertEquals(Optional.empty(), lookupRestoredRawNodes(parser));
+  }
+
+  @Test
+  public void snapshotIsIgnoredIfConfigChanged() throws Exception {
+    parseAndSave();
+
+    Parser parser = newParser();
+    assertFalse(newStore(parser, HashCode.fromInt(2)).restore(CLOCKS.keySet()).isPresent());
+    assertEquals(Optional.empty(), lookupRestoredRawNodes(parser));
+  }
+
+  @Test
+  public void snapshotIsIgnoredIfWatchRootsChanged() throws Exception {
+    parseAndSave();
+
+    Parser parser = newParser();
+    assertFalse(
+        newStore(parser, CONFIG_HASH)
+            .restore(ImmutableSet.of(Paths.get("/other/root")))
+            .isPresent());
+    assertEquals(Optional.empty(), lookupRestoredRawNodes(parser));
+  }
+
+  @Test
+  public void missingSnapshotIsIgnored() throws Exception {
+    assertFalse(newStore(newParser(), CONFIG_HASH).restore(CLOCKS.keySet()).isPresent());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void snapshotWithMalformedClocksIsIgnored() throws Exception {
+    parseAndSave();
+    Map<String, Object> snapshot;
+    try (InputStream input = Files.newInputStream(snapshotPath)) {
+      snapshot = new TreeMap<>(
+          (Map<String, Object>) new BserDeserializer(BserDeserializer.KeyOrdering.SORTED)
+              .deserializeBserValue(input));
+    }
+    snapshot.put("clocks", "not a map");
+    try (OutputStream output = Files.newOutputStream(snapshotPath)) {
+      new BserSerializer().serializeToStream(snapshot, output);
+    }
+
+    Parser parser = newParser();
+    assertFalse(newStore(parser, CONFIG_HASH).restore(CLOCKS.keySet()).isPresent());
+    assertEquals(Optional.empty(), lookupRestoredRawNodes(parser));
+  }
+}
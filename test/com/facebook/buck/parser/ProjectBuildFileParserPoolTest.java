@@ -19,14 +19,19 @@ package com.facebook.buck.parser;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 
+import com.facebook.buck.counters.Counter;
+import com.facebook.buck.counters.SamplingCounter;
+import com.facebook.buck.json.BuildFileParseException;
 import com.facebook.buck.json.ProjectBuildFileParser;
 import com.facebook.buck.rules.Cell;
+import com.facebook.buck.timing.SettableFakeClock;
 import com.facebook.buck.util.concurrent.AssertScopeExclusiveAccess;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -41,15 +46,20 @@ import org.junit.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
 
@@ -111,6 +121,99 @@ public class ProjectBuildFileParserPoolTest {
         /* expectedCreateCount */ 1);
   }
 
+  @Test
+  public void recordsParseTimesAndParserCounts() throws Exception {
+    Cell cell = EasyMock.createMock(Cell.class);
+    SettableFakeClock clock = new SettableFakeClock(0, 0);
+    ProjectBuildFileParserPool.Counters counters = new ProjectBuildFileParserPool.Counters();
+    try (ProjectBuildFileParserPool parserPool =
+        new ProjectBuildFileParserPool(
+            /* maxParsersPerCell */ 2,
+            /* maxBatchSize */ 1,
+            /* maxParserIdleTimeMillis */ Optional.empty(),
+            counters,
+            clock,
+            createMockParserFactory(
+                () -> {
+                  clock.advanceTimeNanos(TimeUnit.MILLISECONDS.toNanos(20));
+                  return ImmutableList.of();
+                }))) {
+      Futures.allAsList(
+          scheduleWork(cell, parserPool, MoreExecutors.newDirectExecutorService(), 3)).get();
+    }
+
+    ImmutableMap<String, SamplingCounter> samples = FluentIterable.from(counters.getCounters())
+        .filter(SamplingCounter.class)
+        .uniqueIndex(Counter::getName);
+    assertThat(samples.get("build_file_parse_time_ms").getCount(), Matchers.is(3L));
+    assertThat(samples.get("build_file_parse_time_ms").getAverage(), Matchers.is(20L));
+    assertThat(samples.get("build_files_waiting_for_parser").getCount(), Matchers.is(3L));
+    assertThat(samples.get("parser_processes").getMax(), Matchers.is(1L));
+  }
+
+  @Test
+  public void batchesBuildFilesWaitingForAParser() throws Exception {
+    Cell cell = EasyMock.createMock(Cell.class);
+    Path failingBuildFile = Paths.get("fail/BUCK");
+    List<List<Path>> batches = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    CountDownLatch allScheduled = new CountDownLatch(1);
+    ListeningExecutorService executorService = MoreExecutors.listeningDecorator(
+        Executors.newFixedThreadPool(1));
+
+    Map<Path, ListenableFuture<ImmutableSet<Map<String, Object>>>> results = new LinkedHashMap<>();
+    try (ProjectBuildFileParserPool parserPool =
+        new ProjectBuildFileParserPool(
+            /* maxParsersPerCell */ 1,
+            /* maxBatchSize */ 3,
+            /* maxParserIdleTimeMillis */ Optional.empty(),
+            new ProjectBuildFileParserPool.Counters(),
+            new SettableFakeClock(0, 0),
+            input -> createMockBatchParser(
+                buildFiles -> {
+                  batches.add(ImmutableList.copyOf(buildFiles));
+                  // Hold up the first batch until everything's waiting for the parser.
+                  firstBatchStarted.countDown();
+                  assertThat(allScheduled.await(1, TimeUnit.SECONDS), Matchers.is(true));
+                  return failingBuildFile;
+                }))) {
+      for (String buildFile : ImmutableList.of("a", "b", "fail", "c", "d", "e")) {
+        Path path = Paths.get(buildFile, "BUCK");
+        results.put(path, parserPool.getAllRulesAndMetaRules(cell, path, executorService));
+        assertThat(firstBatchStarted.await(1, TimeUnit.SECONDS), Matchers.is(true));
+      }
+      allScheduled.countDown();
+
+      for (Map.Entry<Path, ListenableFuture<ImmutableSet<Map<String, Object>>>> result :
+          results.entrySet()) {
+        if (result.getKey().equals(failingBuildFile)) {
+          try {
+            result.getValue().get();
+            fail("Expected ExecutionException to be thrown.");
+          } catch (ExecutionException e) {
+            assertThat(e.getCause(), Matchers.instanceOf(BuildFileParseException.class));
+          }
+        } else {
+          assertThat(
+              result.getValue().get(),
+              Matchers.equalTo(
+                  ImmutableSet.of(ImmutableMap.of("name", result.getKey().toString()))));
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    // The build files after the one which failed are parsed with the next batch.
+    assertThat(
+        batches,
+        Matchers.equalTo(
+            ImmutableList.of(
+                ImmutableList.of(Paths.get("a/BUCK")),
+                ImmutableList.of(Paths.get("b/BUCK"), failingBuildFile, Paths.get("c/BUCK")),
+                ImmutableList.of(Paths.get("c/BUCK"), Paths.get("d/BUCK"), Paths.get("e/BUCK")))));
+  }
+
   @Test
   public void closesCreatedParsers() throws Exception {
     final int parsersCount = 4;
@@ -358,6 +461,49 @@ public class ProjectBuildFileParserPoolTest {
     return mock;
   }
 
+  /**
+   * @param parseFn given each batch of build files, and returns the one to fail at, if any.
+   */
+  @SuppressWarnings("unchecked")
+  private ProjectBuildFileParser createMockBatchParser(IBatchParseFn parseFn) {
+    ProjectBuildFileParser mock = EasyMock.createMock(ProjectBuildFileParser.class);
+    try {
+      mock.getAllRulesAndMetaRules(
+          EasyMock.<List<Path>>anyObject(),
+          EasyMock.<BiConsumer<Path, ImmutableList<Map<String, Object>>>>anyObject());
+      EasyMock.expectLastCall()
+          .andAnswer(
+              () -> {
+                List<Path> buildFiles = (List<Path>) EasyMock.getCurrentArguments()[0];
+                BiConsumer<Path, ImmutableList<Map<String, Object>>> consumer =
+                    (BiConsumer<Path, ImmutableList<Map<String, Object>>>)
+                        EasyMock.getCurrentArguments()[1];
+                Path failingBuildFile = parseFn.parse(buildFiles);
+                for (Path buildFile : buildFiles) {
+                  if (buildFile.equals(failingBuildFile)) {
+                    throw EasyMock.createMock(BuildFileParseException.class);
+                  }
+                  consumer.accept(
+                      buildFile,
+                      ImmutableList.of(ImmutableMap.of("name", buildFile.toString())));
+                }
+                return null;
+              })
+          .anyTimes();
+      mock.close();
+      EasyMock.expectLastCall().andVoid().once();
+    } catch (Exception e) {
+      Throwables.throwIfUnchecked(e);
+      throw new RuntimeException(e);
+    }
+    EasyMock.replay(mock);
+    return mock;
+  }
+
+  private interface IBatchParseFn {
+    Path parse(List<Path> buildFiles) throws Exception;
+  }
+
   private Function<Cell, ProjectBuildFileParser> createMockParserFactory(
       final IAnswer<ImmutableList<Map<String, Object>>> parseFn) {
     return input -> {
@@ -18,6 +18,8 @@ package com.facebook.buck.rules;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -31,11 +33,13 @@ import com.facebook.buck.model.BuildTarget;
 import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.rules.keys.ContentAgnosticRuleKeyFactory;
 import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
+import com.facebook.buck.shell.GenruleBuilder;
 import com.facebook.buck.testutil.TargetGraphFactory;
 import com.facebook.buck.testutil.WatchEventsForTests;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.facebook.buck.timing.IncrementingFakeClock;
 import com.facebook.buck.util.WatchmanWatcher;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.eventbus.Subscribe;
 
@@ -47,6 +51,7 @@ import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardWatchEventKinds;
 import java.util.HashMap;
 import java.util.Map;
@@ -203,6 +208,130 @@ public class ActionGraphCacheTest {
     assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Miss.class));
   }
 
+  @Test
+  public void keepsRecentActionGraphsUpToTheMaximumSize() {
+    ActionGraphCache cache = new ActionGraphCache(
+        broadcastEventListener,
+        3 * ActionGraphCache.ESTIMATED_BUILD_RULE_SIZE_BYTES,
+        /* incrementalActionGraphs */ false);
+    TargetGraph subgraphB = targetGraph.getSubgraph(ImmutableSet.of(nodeB));
+    TargetGraph graphC = TargetGraphFactory.newInstance(createTargetNode("C"));
+
+    // Alternating between two target graphs which fit in the cache only misses the first time.
+    for (TargetGraph graph : ImmutableList.of(targetGraph, subgraphB, targetGraph, subgraphB)) {
+      cache.getActionGraph(
+          eventBus,
+          CHECK_GRAPHS,
+          /* skipActionGraphCache */ false,
+          graph,
+          keySeed);
+    }
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+    assertEquals(2, cache.getNumCachedActionGraphs());
+
+    // A third one evicts the least recently used.
+    for (TargetGraph graph : ImmutableList.of(graphC, subgraphB, targetGraph)) {
+      cache.getActionGraph(
+          eventBus,
+          NOT_CHECK_GRAPHS,
+          /* skipActionGraphCache */ false,
+          graph,
+          keySeed);
+    }
+    assertEquals(3, countEventsOf(ActionGraphEvent.Cache.Hit.class));
+    assertEquals(4, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+  }
+
+  @Test
+  public void incrementalActionGraphsReuseRulesOfUnchangedNodes() {
+    ActionGraphCache cache = new ActionGraphCache(
+        broadcastEventListener,
+        /* maxEstimatedSizeBytes */ 0,
+        /* incrementalActionGraphs */ true);
+    BuildRule ruleB = cache.getActionGraph(
+        eventBus,
+        NOT_CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        targetGraph,
+        keySeed).getResolver().getRule(nodeB.getBuildTarget());
+
+    // Only the changed node is transformed again, and the result matches a fresh action graph.
+    TargetNode<?, ?> changedNodeA = createTargetNode("A", nodeB);
+    TargetGraph changedGraph = TargetGraphFactory.newInstance(changedNodeA, nodeB);
+    BuildRuleResolver resolver = cache.getActionGraph(
+        eventBus,
+        CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        changedGraph,
+        keySeed).getResolver();
+    assertSame(ruleB, resolver.getRule(nodeB.getBuildTarget()));
+    assertEquals(2, countEventsOf(ActionGraphEvent.Cache.Miss.class));
+
+    // Files added elsewhere don't affect the rules of the unchanged node...
+    cache.invalidateBasedOn(
+        WatchEventsForTests.createPathEvent(
+            Paths.get("bar/Bar.java"),
+            StandardWatchEventKinds.ENTRY_CREATE));
+    assertTrue(cache.isCacheEmpty());
+    resolver = cache.getActionGraph(
+        eventBus,
+        NOT_CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        changedGraph,
+        keySeed).getResolver();
+    assertSame(ruleB, resolver.getRule(nodeB.getBuildTarget()));
+
+    // ...but the ones added to its package do.
+    cache.invalidateBasedOn(
+        WatchEventsForTests.createPathEvent(
+            Paths.get("foo/Foo.java"),
+            StandardWatchEventKinds.ENTRY_CREATE));
+    resolver = cache.getActionGraph(
+        eventBus,
+        NOT_CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        changedGraph,
+        keySeed).getResolver();
+    assertNotSame(ruleB, resolver.getRule(nodeB.getBuildTarget()));
+  }
+
+  @Test
+  public void incrementalActionGraphsOnlyReuseRulesOfReusableDescriptions() {
+    ActionGraphCache cache = new ActionGraphCache(
+        broadcastEventListener,
+        /* maxEstimatedSizeBytes */ 0,
+        /* incrementalActionGraphs */ true);
+    TargetNode<?, ?> genruleNode =
+        GenruleBuilder.newGenruleBuilder(BuildTargetFactory.newInstance("//gen:gen"))
+            .setOut("out")
+            .setCmd("touch $OUT")
+            .build();
+    TargetNode<?, ?> dependentNode = createTargetNode("C", genruleNode);
+    BuildRuleResolver resolver = cache.getActionGraph(
+        eventBus,
+        NOT_CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        TargetGraphFactory.newInstance(nodeA, nodeB, genruleNode, dependentNode),
+        keySeed).getResolver();
+    BuildRule ruleB = resolver.getRule(nodeB.getBuildTarget());
+    BuildRule genrule = resolver.getRule(genruleNode.getBuildTarget());
+    BuildRule dependentRule = resolver.getRule(dependentNode.getBuildTarget());
+
+    // Genrules hold on to the resolver to expand their macros, so neither they nor the rules
+    // depending on them are moved over.
+    TargetNode<?, ?> changedNodeA = createTargetNode("A", nodeB);
+    resolver = cache.getActionGraph(
+        eventBus,
+        NOT_CHECK_GRAPHS,
+        /* skipActionGraphCache */ false,
+        TargetGraphFactory.newInstance(changedNodeA, nodeB, genruleNode, dependentNode),
+        keySeed).getResolver();
+    assertSame(ruleB, resolver.getRule(nodeB.getBuildTarget()));
+    assertNotSame(genrule, resolver.getRule(genruleNode.getBuildTarget()));
+    assertNotSame(dependentRule, resolver.getRule(dependentNode.getBuildTarget()));
+  }
+
   // If this breaks it probably means the ActionGraphCache checking also breaks.
   @Test
   public void compareActionGraphsBasedOnRuleKeys() {
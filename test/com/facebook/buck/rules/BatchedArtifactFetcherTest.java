@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.artifact_cache.CacheResult;
+import com.facebook.buck.artifact_cache.CacheResultType;
+import com.facebook.buck.artifact_cache.FetchRequest;
+import com.facebook.buck.artifact_cache.NoopArtifactCache;
+import com.facebook.buck.io.LazyPath;
+import com.facebook.buck.util.concurrent.ExplicitRunExecutorService;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class BatchedArtifactFetcherTest {
+
+  private static final LazyPath OUTPUT = LazyPath.ofInstance(Paths.get("output"));
+  private static final RuleKey KEY_A = new RuleKey("aaaa");
+  private static final RuleKey KEY_B = new RuleKey("bbbb");
+  private static final RuleKey KEY_C = new RuleKey("cccc");
+
+  private static class RecordingArtifactCache extends NoopArtifactCache {
+    private final List<ImmutableList<RuleKey>> batches = new ArrayList<>();
+
+    @Override
+    public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+      batches.add(ImmutableList.of(ruleKey));
+      return getResult(ruleKey);
+    }
+
+    @Override
+    public ImmutableMap<RuleKey, CacheResult> multiFetch(
+        ImmutableMap<RuleKey, FetchRequest> requests) {
+      batches.add(requests.keySet().asList());
+      ImmutableMap.Builder<RuleKey, CacheResult> results = ImmutableMap.builder();
+      for (RuleKey ruleKey : requests.keySet()) {
+        results.put(ruleKey, getResult(ruleKey));
+      }
+      return results.build();
+    }
+
+    private CacheResult getResult(RuleKey ruleKey) {
+      return ruleKey.equals(KEY_A) ? CacheResult.hit("recording") : CacheResult.miss();
+    }
+  }
+
+  @Test
+  public void requestsQueuedWhileBusyAreFetchedTogether() throws Exception {
+    ExplicitRunExecutorService executor = new ExplicitRunExecutorService();
+    RecordingArtifactCache cache = new RecordingArtifactCache();
+    BatchedArtifactFetcher fetcher = new BatchedArtifactFetcher(executor, 2);
+
+    ListenableFuture<CacheResult> a = fetcher.fetch(cache, KEY_A, OUTPUT);
+    ListenableFuture<CacheResult> b = fetcher.fetch(cache, KEY_B, OUTPUT);
+    ListenableFuture<CacheResult> c = fetcher.fetch(cache, KEY_C, OUTPUT);
+    executor.run();
+
+    assertThat(
+        cache.batches,
+        Matchers.contains(ImmutableList.of(KEY_A, KEY_B), ImmutableList.of(KEY_C)));
+    assertEquals(CacheResultType.HIT, a.get().getType());
+    assertEquals(CacheResultType.MISS, b.get().getType());
+    assertEquals(CacheResultType.MISS, c.get().getType());
+  }
+
+  @Test
+  public void duplicateKeysAreFetchedSeparately() throws Exception {
+    ExplicitRunExecutorService executor = new ExplicitRunExecutorService();
+    RecordingArtifactCache cache = new RecordingArtifactCache();
+    BatchedArtifactFetcher fetcher = new BatchedArtifactFetcher(executor);
+
+    ListenableFuture<CacheResult> first = fetcher.fetch(cache, KEY_A, OUTPUT);
+    ListenableFuture<CacheResult> second = fetcher.fetch(cache, KEY_A, OUTPUT);
+    executor.run();
+
+    assertThat(
+        cache.batches,
+        Matchers.contains(ImmutableList.of(KEY_A), ImmutableList.of(KEY_A)));
+    assertEquals(CacheResultType.HIT, first.get().getType());
+    assertEquals(CacheResultType.HIT, second.get().getType());
+  }
+
+  @Test
+  public void cacheExceptionsBecomeErrors() throws InterruptedException, ExecutionException {
+    ExplicitRunExecutorService executor = new ExplicitRunExecutorService();
+    BatchedArtifactFetcher fetcher = new BatchedArtifactFetcher(executor);
+
+    ListenableFuture<CacheResult> result = fetcher.fetch(
+        new NoopArtifactCache() {
+          @Override
+          public CacheResult fetch(RuleKey ruleKey, LazyPath output) {
+            throw new IllegalStateException("broken");
+          }
+        },
+        KEY_A,
+        OUTPUT);
+    executor.run();
+
+    assertEquals(CacheResultType.ERROR, result.get().getType());
+    assertEquals("broken", result.get().getCacheError());
+  }
+}
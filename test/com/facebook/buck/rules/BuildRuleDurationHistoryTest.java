@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTarget;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.ObjectMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.nio.file.Path;
+
+public class BuildRuleDurationHistoryTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private static final BuildTarget TARGET = BuildTargetFactory.newInstance("//fake:rule");
+  private static final ObjectMapper MAPPER = ObjectMappers.newDefaultInstance();
+
+  private ProjectFilesystem filesystem;
+
+  @Before
+  public void setUp() throws Exception {
+    filesystem = new ProjectFilesystem(tmp.getRoot());
+  }
+
+  @Test
+  public void recordedDurationsAreAveragedAndPersisted() throws Exception {
+    try (BuildRuleDurationHistory history = new BuildRuleDurationHistory(filesystem, MAPPER)) {
+      assertEquals(1000, history.getEstimatedDurationMillis(TARGET));
+      history.record(TARGET, 200);
+      assertEquals(200, history.getEstimatedDurationMillis(TARGET));
+      history.record(TARGET, 400);
+      assertEquals(300, history.getEstimatedDurationMillis(TARGET));
+    }
+
+    try (BuildRuleDurationHistory history = new BuildRuleDurationHistory(filesystem, MAPPER)) {
+      assertEquals(300, history.getEstimatedDurationMillis(TARGET));
+    }
+  }
+
+  @Test
+  public void unchangedHistoryIsNotWritten() throws Exception {
+    try (BuildRuleDurationHistory history = new BuildRuleDurationHistory(filesystem, MAPPER)) {
+      history.getEstimatedDurationMillis(TARGET);
+    }
+    assertFalse(filesystem.exists(BuildRuleDurationHistory.getPath(filesystem)));
+  }
+
+  @Test
+  public void rulesUnusedByTheBuildArePrunedOnceTheHistoryIsFull() throws Exception {
+    BuildTarget otherTarget = BuildTargetFactory.newInstance("//fake:other");
+    try (BuildRuleDurationHistory history = new BuildRuleDurationHistory(filesystem, MAPPER)) {
+      history.record(TARGET, 200);
+      history.record(otherTarget, 200);
+    }
+
+    try (BuildRuleDurationHistory history =
+             new BuildRuleDurationHistory(filesystem, MAPPER, /* maxEntries */ 1)) {
+      history.record(TARGET, 400);
+    }
+
+    try (BuildRuleDurationHistory history = new BuildRuleDurationHistory(filesystem, MAPPER)) {
+      assertEquals(300, history.getEstimatedDurationMillis(TARGET));
+      assertEquals(1000, history.getEstimatedDurationMillis(otherTarget));
+    }
+  }
+
+  @Test
+  public void unreadableHistoryIsIgnored() throws Exception {
+    Path path = BuildRuleDurationHistory.getPath(filesystem);
+    filesystem.mkdirs(path.getParent());
+    filesystem.writeContentsToPath("not json", path);
+    try (BuildRuleDurationHistory history = new BuildRuleDurationHistory(filesystem, MAPPER)) {
+      assertEquals(1000, history.getEstimatedDurationMillis(TARGET));
+    }
+  }
+}
@@ -52,6 +52,9 @@ public class CachingBuildEngineFactory {
   private BuildRuleResolver buildRuleResolver;
   private ResourceAwareSchedulingInfo resourceAwareSchedulingInfo =
       ResourceAwareSchedulingInfo.NON_AWARE_SCHEDULING_INFO;
+  private CachingBuildEngine.SchedulingMode schedulingMode =
+      CachingBuildEngine.SchedulingMode.SHUFFLE;
+  private Optional<BuildRuleDurationHistory> durationHistory = Optional.empty();
 
   public CachingBuildEngineFactory(BuildRuleResolver buildRuleResolver) {
     this.cachingBuildEngineDelegate =
@@ -99,6 +102,13 @@ public class CachingBuildEngineFactory {
     return this;
   }
 
+  public CachingBuildEngineFactory setCriticalPathScheduling(
+      BuildRuleDurationHistory durationHistory) {
+    this.schedulingMode = CachingBuildEngine.SchedulingMode.CRITICAL_PATH;
+    this.durationHistory = Optional.of(durationHistory);
+    return this;
+  }
+
   public CachingBuildEngineFactory setRuleKeyFactoriesFunction(
       Function<? super ProjectFilesystem, RuleKeyFactories> ruleKeyFactoriesFunction) {
     this.ruleKeyFactoriesFunction =
@@ -122,7 +132,9 @@ public class CachingBuildEngineFactory {
           ruleFinder,
           new SourcePathResolver(ruleFinder),
           ruleKeyFactoriesFunction.get(),
-          resourceAwareSchedulingInfo);
+          resourceAwareSchedulingInfo,
+          schedulingMode,
+          durationHistory);
     }
 
     return new CachingBuildEngine(
@@ -142,7 +154,9 @@ public class CachingBuildEngineFactory {
             fs -> cachingBuildEngineDelegate.getFileHashCache(),
             buildRuleResolver,
             inputFileSizeLimit,
-            new DefaultRuleKeyCache<>()));
+            new DefaultRuleKeyCache<>()),
+        schedulingMode,
+        durationHistory);
   }
 
   private static WeightedListeningExecutorService toWeighted(ListeningExecutorService service) {
@@ -26,10 +26,12 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.artifact_cache.ArtifactCache;
+import com.facebook.buck.artifact_cache.ArtifactConsumer;
 import com.facebook.buck.artifact_cache.ArtifactInfo;
 import com.facebook.buck.artifact_cache.CacheResult;
 import com.facebook.buck.artifact_cache.CacheResultType;
@@ -122,6 +124,7 @@ import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -130,6 +133,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -436,9 +440,10 @@ public class CachingBuildEngineTest {
               .resolve(BuildInfo.MetadataKey.RECORDED_PATHS),
           MAPPER.writeValueAsString(ImmutableList.of()));
       expect(
-          artifactCache.fetch(
+          artifactCache.fetchStreaming(
               eq(defaultRuleKeyFactory.build(buildRule)),
-              isA(LazyPath.class)))
+              isA(LazyPath.class),
+              isA(ArtifactConsumer.class)))
           .andDelegateTo(
               new FakeArtifactCacheThatWritesAZipFile(desiredZipEntries));
 
@@ -514,9 +519,10 @@ public class CachingBuildEngineTest {
               .resolve(BuildInfo.MetadataKey.RECORDED_PATHS),
           MAPPER.writeValueAsString(ImmutableList.of()));
       expect(
-          artifactCache.fetch(
+          artifactCache.fetchStreaming(
               eq(defaultRuleKeyFactory.build(buildRule)),
-              isA(LazyPath.class)))
+              isA(LazyPath.class),
+              isA(ArtifactConsumer.class)))
           .andDelegateTo(
               new FakeArtifactCacheThatWritesAZipFile(desiredZipEntries));
 
@@ -552,6 +558,63 @@ public class CachingBuildEngineTest {
           filesystem.exists(Paths.get("buck-out/gen/src/com/facebook/orca/orca.jar")));
     }
 
+    @Test
+    public void testArtifactTruncatedPartWayThroughIsDiscarded() throws Exception {
+      BuildRule buildRule = createRule(
+          filesystem,
+          resolver,
+          pathResolver,
+          /* deps */ ImmutableSet.of(),
+          /* buildSteps */ ImmutableList.of(),
+          /* postBuildSteps */ ImmutableList.of(),
+          /* pathToOutputFile */ null);
+
+      // Cut the artifact off just after the header of its second entry, once the first entry has
+      // been unpacked in full.
+      Path firstOutput = Paths.get("buck-out/gen/src/com/facebook/orca/orca.jar");
+      Path zip = tmp.newFile("artifact.zip");
+      writeEntriesToZip(
+          zip,
+          ImmutableMap.of(
+              firstOutput,
+              "Imagine this is the contents of a valid JAR file.",
+              Paths.get("buck-out/gen/src/com/facebook/orca/other.jar"),
+              "And this is another one."));
+      byte[] artifact = Files.readAllBytes(zip);
+      int secondEntry = 1;
+      while (!(artifact[secondEntry] == 'P' && artifact[secondEntry + 1] == 'K' &&
+          artifact[secondEntry + 2] == 3 && artifact[secondEntry + 3] == 4)) {
+        secondEntry++;
+      }
+      byte[] truncated = Arrays.copyOf(artifact, secondEntry + 10);
+
+      BuildEngineBuildContext buildContext = this.buildContext
+          .withArtifactCache(
+              new NoopArtifactCache() {
+                @Override
+                public CacheResult fetchStreaming(
+                    RuleKey ruleKey,
+                    LazyPath output,
+                    ArtifactConsumer consumer) {
+                  try {
+                    consumer.consume(new ByteArrayInputStream(truncated));
+                  } catch (IOException e) {
+                    return CacheResult.error("fake", e.getMessage());
+                  }
+                  return CacheResult.hit("fake");
+                }
+              });
+
+      CachingBuildEngine cachingBuildEngine = cachingBuildEngineFactory().build();
+      BuildResult result =
+          cachingBuildEngine.build(buildContext, TestExecutionContext.newInstance(), buildRule)
+              .get();
+      assertEquals(BuildRuleSuccessType.BUILT_LOCALLY, result.getSuccess());
+      assertFalse(
+          "Entries unpacked before the artifact was cut off should have been deleted.",
+          filesystem.exists(firstOutput));
+    }
+
     @Test
     public void testMatchingTopLevelRuleKeyAvoidsProcessingDepInShallowMode() throws Exception {
       // Create a dep for the build rule.
@@ -1246,6 +1309,27 @@ public class CachingBuildEngineTest {
       assertTrue(fakeFileHashCache.contains(filesystem.resolve(output)));
     }
 
+    @Test
+    public void sharedDepIsOnTheLongestChainOfRulesDependingOnIt() {
+      FakeBuildRule shared = new FakeBuildRule("//:shared", pathResolver);
+      FakeBuildRule middle = new FakeBuildRule("//:middle", pathResolver, shared);
+      FakeBuildRule root = new FakeBuildRule("//:root", pathResolver, shared, middle);
+      ImmutableMap<BuildRule, Long> durationsMillis =
+          ImmutableMap.of(root, 1L, middle, 10L, shared, 1L);
+
+      ImmutableMap<BuildTarget, Long> criticalPathsMillis =
+          CachingBuildEngine.computeRemainingCriticalPathMillis(
+              ImmutableList.of(root, middle, shared),
+              durationsMillis::get);
+
+      assertEquals(
+          ImmutableMap.of(
+              root.getBuildTarget(), 1L,
+              middle.getBuildTarget(), 11L,
+              shared.getBuildTarget(), 12L),
+          criticalPathsMillis);
+    }
+
   }
 
   public static class InputBasedRuleKeyTests extends CommonFixture {
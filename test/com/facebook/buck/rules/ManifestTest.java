@@ -22,9 +22,12 @@ import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.testutil.FakeFileHashCache;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.util.cache.FileHashCache;
+import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultiset;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multiset;
 import com.google.common.hash.HashCode;
 
 import org.hamcrest.Matchers;
@@ -297,6 +300,75 @@ public class ManifestTest {
         Matchers.equalTo(Optional.of(key2)));
   }
 
+  @Test
+  public void lookupHashesEachHeaderOnce() throws IOException {
+    SourcePath inputA = new FakeSourcePath("a.h");
+    SourcePath inputB = new FakeSourcePath("b.h");
+    String headerA = RESOLVER.getRelativePath(inputA).toString();
+    String headerB = RESOLVER.getRelativePath(inputB).toString();
+    Manifest manifest =
+        Manifest.fromMap(
+            ImmutableMap.of(
+                new RuleKey("aa"),
+                ImmutableMap.of(
+                    headerA, HashCode.fromInt(1),
+                    headerB, HashCode.fromInt(1),
+                    "c.h", HashCode.fromInt(1)),
+                new RuleKey("bb"),
+                ImmutableMap.of(headerB, HashCode.fromInt(2), headerA, HashCode.fromInt(2)),
+                new RuleKey("cc"),
+                ImmutableMap.of(headerA, HashCode.fromInt(2), headerB, HashCode.fromInt(1))));
+    final Multiset<Path> hashedPaths = HashMultiset.create();
+    FileHashCache fileHashCache =
+        new FakeFileHashCache(
+            ImmutableMap.of(
+                RESOLVER.getAbsolutePath(inputA), HashCode.fromInt(2),
+                RESOLVER.getAbsolutePath(inputB), HashCode.fromInt(1))) {
+          @Override
+          public HashCode get(Path path) throws IOException {
+            hashedPaths.add(path);
+            return super.get(path);
+          }
+        };
+    assertThat(
+        manifest.lookup(fileHashCache, RESOLVER, ImmutableSet.of(inputA, inputB)),
+        Matchers.equalTo(Optional.of(new RuleKey("cc"))));
+    assertThat(
+        hashedPaths,
+        Matchers.equalTo(
+            ImmutableMultiset.of(
+                RESOLVER.getAbsolutePath(inputA),
+                RESOLVER.getAbsolutePath(inputB))));
+  }
+
+  @Test
+  public void removeOldestEntries() throws IOException {
+    Manifest manifest =
+        Manifest.fromMap(
+            ImmutableMap.of(
+                new RuleKey("aa"),
+                ImmutableMap.of("foo.h", HashCode.fromInt(0), "bar.h", HashCode.fromInt(0)),
+                new RuleKey("bb"),
+                ImmutableMap.of("bar.h", HashCode.fromInt(1)),
+                new RuleKey("cc"),
+                ImmutableMap.of("bar.h", HashCode.fromInt(2))));
+    manifest.removeOldestEntries(2);
+    ImmutableMap<RuleKey, ImmutableMap<String, HashCode>> expected =
+        ImmutableMap.of(
+            new RuleKey("bb"),
+            ImmutableMap.of("bar.h", HashCode.fromInt(1)),
+            new RuleKey("cc"),
+            ImmutableMap.of("bar.h", HashCode.fromInt(2)));
+    assertThat(manifest.toMap(), Matchers.equalTo(expected));
+
+    // Headers and hashes no longer used by any entry aren't serialized anymore.
+    ByteArrayOutputStream compacted = new ByteArrayOutputStream();
+    manifest.serialize(compacted);
+    ByteArrayOutputStream fresh = new ByteArrayOutputStream();
+    Manifest.fromMap(expected).serialize(fresh);
+    assertThat(compacted.toByteArray(), Matchers.equalTo(fresh.toByteArray()));
+  }
+
   @Test
   public void size() {
     assertThat(new Manifest().size(), Matchers.equalTo(0));
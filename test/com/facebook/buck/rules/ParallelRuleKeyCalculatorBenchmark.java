@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.keys.DefaultDependencyFileRuleKeyFactory;
+import com.facebook.buck.rules.keys.DefaultRuleKeyFactory;
+import com.facebook.buck.rules.keys.InputBasedRuleKeyFactory;
+import com.facebook.buck.rules.keys.RuleKeyFactories;
+import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.facebook.buck.util.cache.FileHashCache;
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+/**
+ * Measures {@link ParallelRuleKeyCalculator} on a synthetic, randomly wired action graph.  Run with
+ * increasing {@code threadCount} to see how rule key calculation scales with cores, compared with
+ * computing every key on one thread, which is what the global lock used to amount to.
+ */
+public class ParallelRuleKeyCalculatorBenchmark {
+  @Param({"1000", "100000"})
+  private int ruleCount = 1000;
+
+  @Param({"1", "4", "16"})
+  private int threadCount = 4;
+
+  private static final int MAX_DEPS_PER_RULE = 4;
+
+  private final BuckEventBus eventBus = BuckEventBusFactory.newInstance();
+  private BuildRuleResolver resolver;
+  private SourcePathRuleFinder ruleFinder;
+  private SourcePathResolver pathResolver;
+  private List<BuildRule> rules;
+  private ListeningExecutorService service;
+
+  @Before
+  public void setUpTest() throws Exception {
+    ruleCount = 1000;
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    ruleFinder = new SourcePathRuleFinder(resolver);
+    pathResolver = new SourcePathResolver(ruleFinder);
+    FakeProjectFilesystem filesystem = new FakeProjectFilesystem();
+
+    // Each rule depends on a handful of randomly chosen earlier rules, which gives a DAG with a
+    // realistic mix of long chains and wide fan-in.
+    Random random = new Random(42);
+    rules = new ArrayList<>(ruleCount);
+    for (int i = 0; i < ruleCount; i++) {
+      int depCount = i == 0 ? 0 : random.nextInt(Math.min(i, MAX_DEPS_PER_RULE) + 1);
+      BuildRule[] deps = new BuildRule[depCount];
+      for (int j = 0; j < depCount; j++) {
+        deps[j] = rules.get(random.nextInt(i));
+      }
+      rules.add(
+          resolver.addToIndex(
+              new FakeBuildRule(
+                  BuildTargetFactory.newInstance(String.format("//pkg%d:rule%d", i % 100, i)),
+                  filesystem,
+                  pathResolver,
+                  deps)));
+    }
+
+    service = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(threadCount));
+  }
+
+  @After
+  @AfterExperiment
+  public void tearDown() {
+    service.shutdownNow();
+  }
+
+  @Test
+  public void calculateRuleKeysCorrectness() throws Exception {
+    assertEquals(calculateRuleKeysSerially(), calculateRuleKeys());
+  }
+
+  @Benchmark
+  public List<RuleKey> calculateRuleKeysSerially() {
+    // Rules only depend on earlier ones, so this computes each key after all of its deps' keys.
+    DefaultRuleKeyFactory defaultRuleKeyFactory = newDefaultRuleKeyFactory();
+    List<RuleKey> keys = new ArrayList<>(rules.size());
+    for (BuildRule rule : rules) {
+      keys.add(defaultRuleKeyFactory.build(rule));
+    }
+    return keys;
+  }
+
+  @Benchmark
+  public List<RuleKey> calculateRuleKeys() throws Exception {
+    DefaultRuleKeyFactory defaultRuleKeyFactory = newDefaultRuleKeyFactory();
+    FileHashCache hashCache = new FakeFileHashCache(ImmutableMap.of());
+    RuleKeyFieldLoader fieldLoader = new RuleKeyFieldLoader(0);
+    RuleKeyFactories factories = RuleKeyFactories.of(
+        defaultRuleKeyFactory,
+        new InputBasedRuleKeyFactory(
+            fieldLoader,
+            hashCache,
+            pathResolver,
+            ruleFinder,
+            Long.MAX_VALUE),
+        new DefaultDependencyFileRuleKeyFactory(fieldLoader, hashCache, pathResolver, ruleFinder));
+    ParallelRuleKeyCalculator calculator = new ParallelRuleKeyCalculator(
+        service,
+        filesystem -> factories,
+        new RuleDepsCache(service, resolver),
+        new BuildRuleDurationTracker());
+
+    List<ListenableFuture<RuleKey>> keys = new ArrayList<>(rules.size());
+    for (BuildRule rule : rules) {
+      keys.add(calculator.calculate(eventBus, rule));
+    }
+    return Futures.allAsList(keys).get();
+  }
+
+  private DefaultRuleKeyFactory newDefaultRuleKeyFactory() {
+    return new DefaultRuleKeyFactory(
+        0,
+        new FakeFileHashCache(ImmutableMap.of()),
+        pathResolver,
+        ruleFinder);
+  }
+}
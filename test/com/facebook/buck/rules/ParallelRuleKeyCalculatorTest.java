@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.rules.keys.DefaultDependencyFileRuleKeyFactory;
+import com.facebook.buck.rules.keys.DefaultRuleKeyFactory;
+import com.facebook.buck.rules.keys.InputBasedRuleKeyFactory;
+import com.facebook.buck.rules.keys.RuleKeyFactories;
+import com.facebook.buck.rules.keys.RuleKeyFieldLoader;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.util.cache.FileHashCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.hamcrest.Matchers;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ParallelRuleKeyCalculatorTest {
+
+  private ListeningExecutorService service;
+  private BuildRuleResolver resolver;
+  private SourcePathResolver pathResolver;
+  private DefaultRuleKeyFactory ruleKeyFactory;
+  private ParallelRuleKeyCalculator calculator;
+  private BuckEventBus eventBus;
+
+  @Before
+  public void setUp() {
+    service = MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(4));
+    resolver =
+        new BuildRuleResolver(TargetGraph.EMPTY, new DefaultTargetNodeToBuildRuleTransformer());
+    SourcePathRuleFinder ruleFinder = new SourcePathRuleFinder(resolver);
+    pathResolver = new SourcePathResolver(ruleFinder);
+    FileHashCache hashCache = new FakeFileHashCache(ImmutableMap.of());
+    RuleKeyFieldLoader fieldLoader = new RuleKeyFieldLoader(0);
+    ruleKeyFactory = new DefaultRuleKeyFactory(fieldLoader, hashCache, pathResolver, ruleFinder);
+    RuleKeyFactories factories = RuleKeyFactories.of(
+        ruleKeyFactory,
+        new InputBasedRuleKeyFactory(
+            fieldLoader,
+            hashCache,
+            pathResolver,
+            ruleFinder,
+            Long.MAX_VALUE),
+        new DefaultDependencyFileRuleKeyFactory(fieldLoader, hashCache, pathResolver, ruleFinder));
+    calculator = new ParallelRuleKeyCalculator(
+        service,
+        filesystem -> factories,
+        new RuleDepsCache(service, resolver),
+        new BuildRuleDurationTracker());
+    eventBus = BuckEventBusFactory.newInstance();
+  }
+
+  @After
+  public void tearDown() {
+    service.shutdownNow();
+  }
+
+  @Test
+  public void keysMatchDefaultRuleKeyFactory() throws Exception {
+    BuildRule leaf = resolver.addToIndex(new FakeBuildRule("//:leaf", pathResolver));
+    BuildRule left = resolver.addToIndex(new FakeBuildRule("//:left", pathResolver, leaf));
+    BuildRule right = resolver.addToIndex(new FakeBuildRule("//:right", pathResolver, leaf));
+    BuildRule root = resolver.addToIndex(new FakeBuildRule("//:root", pathResolver, left, right));
+
+    assertEquals(ruleKeyFactory.build(root), calculator.calculate(eventBus, root).get());
+    for (BuildRule rule : new BuildRule[] {leaf, left, right}) {
+      assertEquals(
+          ruleKeyFactory.build(rule),
+          calculator.getIfPresent(rule.getBuildTarget()).get());
+    }
+  }
+
+  @Test
+  public void eachTargetIsScheduledOnce() throws Exception {
+    BuildRule leaf = resolver.addToIndex(new FakeBuildRule("//:leaf", pathResolver));
+    BuildRule root = resolver.addToIndex(new FakeBuildRule("//:root", pathResolver, leaf));
+
+    assertNull(calculator.getIfPresent(root.getBuildTarget()));
+    assertSame(calculator.calculate(eventBus, root), calculator.calculate(eventBus, root));
+    calculator.calculate(eventBus, root).get();
+    assertSame(
+        calculator.getIfPresent(leaf.getBuildTarget()),
+        calculator.calculate(eventBus, leaf));
+  }
+
+  @Test
+  public void deepChainIsScheduledWithoutRecursion() throws Exception {
+    BuildRule rule = resolver.addToIndex(new FakeBuildRule("//:rule0", pathResolver));
+    for (int i = 1; i < 20000; i++) {
+      rule = resolver.addToIndex(new FakeBuildRule("//:rule" + i, pathResolver, rule));
+    }
+    assertNotNull(calculator.calculate(eventBus, rule).get(30, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void failuresAreReportedToEveryoneWaitingOnTheSlot() throws Exception {
+    ParallelRuleKeyCalculator failingCalculator = new ParallelRuleKeyCalculator(
+        service,
+        filesystem -> {
+          throw new IllegalStateException("no factories");
+        },
+        new RuleDepsCache(service, resolver),
+        new BuildRuleDurationTracker());
+    BuildRule leaf = resolver.addToIndex(new FakeBuildRule("//:leaf", pathResolver));
+    BuildRule root = resolver.addToIndex(new FakeBuildRule("//:root", pathResolver, leaf));
+
+    assertFailed(failingCalculator.calculate(eventBus, root));
+    assertFailed(failingCalculator.calculate(eventBus, root));
+    assertFailed(failingCalculator.getIfPresent(leaf.getBuildTarget()));
+  }
+
+  private static void assertFailed(ListenableFuture<RuleKey> key) throws Exception {
+    try {
+      key.get(10, TimeUnit.SECONDS);
+      fail("Expected the rule key calculation to fail.");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), Matchers.instanceOf(IllegalStateException.class));
+    }
+  }
+}
@@ -32,6 +32,7 @@ import com.facebook.buck.model.BuildTargetFactory;
 import com.facebook.buck.testutil.FakeFileHashCache;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.TargetGraphFactory;
+import com.facebook.buck.testutil.WatchEventsForTests;
 import com.facebook.buck.timing.IncrementingFakeClock;
 import com.facebook.buck.util.cache.FileHashCache;
 import com.facebook.buck.util.cache.NullFileHashCache;
@@ -45,6 +46,7 @@ import org.junit.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
 import java.util.Map;
 
 public class TargetGraphHashingTest {
@@ -239,6 +241,60 @@ public class TargetGraphHashingTest {
         not(equalTo(resultB.get(depTarget))));
   }
 
+  @Test
+  public void cachedHashesAreReusedUntilTheirInputsChange()
+      throws IOException, InterruptedException, AcyclicDepthFirstPostOrderTraversal.CycleException {
+    FakeProjectFilesystem projectFilesystem = new FakeProjectFilesystem();
+    BuckEventBus eventBus = new BuckEventBus(new IncrementingFakeClock(), new BuildId());
+
+    BuildTarget nodeTarget = BuildTargetFactory.newInstance("//foo:lib");
+    BuildTarget depTarget = BuildTargetFactory.newInstance("//dep:lib");
+    TargetGraph targetGraph = createGraphWithANodeAndADep(
+        nodeTarget,
+        HashCode.fromLong(12345),
+        depTarget,
+        HashCode.fromLong(64738));
+    ImmutableList<TargetNode<?, ?>> roots = ImmutableList.of(targetGraph.get(nodeTarget));
+
+    FileHashCache baseCache = new FakeFileHashCache(
+        ImmutableMap.of(
+            projectFilesystem.resolve("foo/FooLib.java"), HashCode.fromString("abcdef"),
+            projectFilesystem.resolve("dep/DepLib.java"), HashCode.fromString("123456")));
+    FileHashCache modifiedCache = new FakeFileHashCache(
+        ImmutableMap.of(
+            projectFilesystem.resolve("foo/FooLib.java"), HashCode.fromString("abcdef"),
+            projectFilesystem.resolve("dep/DepLib.java"), HashCode.fromString("654321")));
+
+    TargetNodeHashCache hashCache = new TargetNodeHashCache();
+    Map<BuildTarget, HashCode> baseResult =
+        new TargetGraphHashing(eventBus, targetGraph, baseCache, roots)
+            .setHashCache(hashCache)
+            .hashTargetGraph();
+
+    // Without a watch event for the changed source, the cached hashes are still used.
+    assertThat(
+        new TargetGraphHashing(eventBus, targetGraph, modifiedCache, roots)
+            .setHashCache(hashCache)
+            .hashTargetGraph(),
+        equalTo(baseResult));
+
+    // Once it's reported, both the dep and the node depending on it are rehashed.
+    hashCache.invalidateBasedOn(
+        WatchEventsForTests.createPathEvent(
+            Paths.get("dep/DepLib.java"),
+            StandardWatchEventKinds.ENTRY_MODIFY));
+    Map<BuildTarget, HashCode> modifiedResult =
+        new TargetGraphHashing(eventBus, targetGraph, modifiedCache, roots)
+            .setHashCache(hashCache)
+            .hashTargetGraph();
+    assertThat(
+        modifiedResult,
+        equalTo(new TargetGraphHashing(eventBus, targetGraph, modifiedCache, roots)
+            .hashTargetGraph()));
+    assertThat(modifiedResult.get(depTarget), not(equalTo(baseResult.get(depTarget))));
+    assertThat(modifiedResult.get(nodeTarget), not(equalTo(baseResult.get(nodeTarget))));
+  }
+
   private static TargetNode<?, ?> createJavaLibraryTargetNodeWithSrcs(
       BuildTarget buildTarget,
       HashCode hashCode,
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.rules.keys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import com.facebook.buck.io.ProjectFilesystem;
+import com.facebook.buck.model.BuildTargetFactory;
+import com.facebook.buck.rules.BuildRule;
+import com.facebook.buck.rules.BuildRuleResolver;
+import com.facebook.buck.rules.DefaultTargetNodeToBuildRuleTransformer;
+import com.facebook.buck.rules.FakeBuildRule;
+import com.facebook.buck.rules.RuleKey;
+import com.facebook.buck.rules.SourcePathResolver;
+import com.facebook.buck.rules.SourcePathRuleFinder;
+import com.facebook.buck.rules.TargetGraph;
+import com.facebook.buck.testutil.FakeFileHashCache;
+import com.facebook.buck.testutil.FakeProjectFilesystem;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
+
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+public class RuleKeyCacheSnapshotTest {
+
+  private static final ProjectFilesystem FILESYSTEM = new FakeProjectFilesystem();
+  private static final HashCode FINGERPRINT = HashCode.fromInt(42);
+  private static final RuleKey DEP_KEY = new RuleKey("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+  private static final RuleKey RULE_KEY = new RuleKey("bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb");
+
+  private Map<Path, HashCode> hashes;
+  private FakeFileHashCache hashCache;
+  private RuleKeyInput depInput;
+  private RuleKeyInput ruleInput;
+  private BuildRule dep;
+  private BuildRule rule;
+
+  @Before
+  public void setUp() {
+    hashes = new HashMap<>();
+    hashCache = new FakeFileHashCache(hashes);
+    depInput = RuleKeyInput.of(FILESYSTEM, FILESYSTEM.getPath("dep.txt"));
+    ruleInput = RuleKeyInput.of(FILESYSTEM, FILESYSTEM.getPath("rule.txt"));
+    hashes.put(FILESYSTEM.resolve(depInput.getPath()), HashCode.fromInt(1));
+    hashes.put(FILESYSTEM.resolve(ruleInput.getPath()), HashCode.fromInt(2));
+
+    SourcePathResolver resolver = new SourcePathResolver(
+        new SourcePathRuleFinder(
+            new BuildRuleResolver(
+                TargetGraph.EMPTY,
+                new DefaultTargetNodeToBuildRuleTransformer())));
+    dep = new FakeBuildRule(
+        BuildTargetFactory.newInstance("//:dep"),
+        FILESYSTEM,
+        resolver);
+    rule = new FakeBuildRule(
+        BuildTargetFactory.newInstance("//:rule"),
+        FILESYSTEM,
+        resolver,
+        dep);
+  }
+
+  private DefaultRuleKeyCache<RuleKey> newPopulatedCache() {
+    DefaultRuleKeyCache<RuleKey> cache = new DefaultRuleKeyCache<>();
+    cache.get(
+        dep,
+        r -> new RuleKeyResult<>(DEP_KEY, ImmutableList.of(), ImmutableList.of(depInput)));
+    cache.get(
+        rule,
+        r -> new RuleKeyResult<>(RULE_KEY, ImmutableList.of(dep), ImmutableList.of(ruleInput)));
+    return cache;
+  }
+
+  private static RuleKeyCacheSnapshot roundTrip(RuleKeyCacheSnapshot snapshot)
+      throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    snapshot.writeTo(output);
+    return RuleKeyCacheSnapshot.readFrom(new ByteArrayInputStream(output.toByteArray()));
+  }
+
+  @Test
+  public void roundTripPreservesEntries() throws IOException {
+    RuleKeyCacheSnapshot snapshot =
+        roundTrip(RuleKeyCacheSnapshot.capture(FINGERPRINT, newPopulatedCache(), hashCache));
+    assertEquals(FINGERPRINT, snapshot.getFingerprint());
+    assertEquals(2, snapshot.size());
+
+    Function<BuildRule, Optional<RuleKeyResult<RuleKey>>> loader =
+        snapshot.newValidatingLoader(hashCache, ImmutableSet.of(FILESYSTEM));
+    RuleKeyResult<RuleKey> result = loader.apply(rule).get();
+    assertEquals(RULE_KEY, result.result);
+    assertThat(result.deps, Matchers.contains(dep));
+    assertThat(result.inputs, Matchers.contains(ruleInput));
+    assertEquals(DEP_KEY, loader.apply(dep).get().result);
+  }
+
+  @Test
+  public void restoredResultsSeedTheCache() throws IOException {
+    RuleKeyCacheSnapshot snapshot =
+        roundTrip(RuleKeyCacheSnapshot.capture(FINGERPRINT, newPopulatedCache(), hashCache));
+    DefaultRuleKeyCache<RuleKey> cache = new DefaultRuleKeyCache<>();
+    cache.setPersistedResults(snapshot.newValidatingLoader(hashCache, ImmutableSet.of(FILESYSTEM)));
+    assertEquals(
+        RULE_KEY,
+        cache.get(
+            rule,
+            r -> {
+              throw new IllegalStateException();
+            }));
+
+    // Restored entries must still be invalidated by changes to their inputs.
+    cache.invalidateInputs(ImmutableList.of(depInput));
+    assertFalse(cache.isCached(rule));
+  }
+
+  @Test
+  public void changedInputInvalidatesEntryAndDependents() throws IOException {
+    RuleKeyCacheSnapshot snapshot =
+        roundTrip(RuleKeyCacheSnapshot.capture(FINGERPRINT, newPopulatedCache(), hashCache));
+    hashes.put(FILESYSTEM.resolve(depInput.getPath()), HashCode.fromInt(3));
+    Function<BuildRule, Optional<RuleKeyResult<RuleKey>>> loader =
+        snapshot.newValidatingLoader(hashCache, ImmutableSet.of(FILESYSTEM));
+    assertFalse(loader.apply(dep).isPresent());
+    assertFalse(loader.apply(rule).isPresent());
+  }
+
+  @Test
+  public void unknownFilesystemInvalidatesEntries() throws IOException {
+    RuleKeyCacheSnapshot snapshot =
+        roundTrip(RuleKeyCacheSnapshot.capture(FINGERPRINT, newPopulatedCache(), hashCache));
+    Function<BuildRule, Optional<RuleKeyResult<RuleKey>>> loader =
+        snapshot.newValidatingLoader(hashCache, ImmutableSet.of());
+    assertFalse(loader.apply(rule).isPresent());
+  }
+
+}
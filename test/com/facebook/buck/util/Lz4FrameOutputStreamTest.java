@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+public class Lz4FrameOutputStreamTest {
+
+  private static byte[] compress(byte[] data) throws IOException {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream out = new Lz4FrameOutputStream(compressed)) {
+      out.write(data);
+    }
+    return compressed.toByteArray();
+  }
+
+  private static byte[] decompress(byte[] compressed) throws IOException {
+    try (InputStream in = new Lz4FrameInputStream(new ByteArrayInputStream(compressed))) {
+      return ByteStreams.toByteArray(in);
+    }
+  }
+
+  @Test
+  public void frameHeaderMatchesReferenceImplementation() throws IOException {
+    // The descriptor checksum of the frames written by `lz4 -BD` with default settings.
+    assertEquals(0xA7, Lz4FrameOutputStream.getDescriptorChecksum(new byte[] {0x64, 0x40}, 2));
+
+    byte[] header = Arrays.copyOf(compress(new byte[0]), 7);
+    assertTrue(Lz4FrameInputStream.isFrameHeader(header, header.length));
+    assertEquals(
+        Lz4FrameOutputStream.getDescriptorChecksum(new byte[] {0x60, 0x70}, 2),
+        header[6] & 0xFF);
+  }
+
+  @Test
+  public void emptyInputRoundTrips() throws IOException {
+    assertArrayEquals(new byte[0], decompress(compress(new byte[0])));
+  }
+
+  @Test
+  public void compressibleInputRoundTripsAndShrinks() throws IOException {
+    byte[] data = Strings.repeat("the quick brown fox jumps over the lazy dog. ", 100000)
+        .getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = compress(data);
+    assertThat(compressed.length, Matchers.lessThan(data.length / 10));
+    assertArrayEquals(data, decompress(compressed));
+  }
+
+  @Test
+  public void incompressibleInputRoundTrips() throws IOException {
+    byte[] data = new byte[5 * 1024 * 1024];
+    new Random(42).nextBytes(data);
+    byte[] compressed = compress(data);
+    assertThat(compressed.length, Matchers.lessThan(data.length + 64));
+    assertArrayEquals(data, decompress(compressed));
+  }
+
+  @Test
+  public void mixedInputWrittenInPiecesRoundTrips() throws IOException {
+    Random random = new Random(0);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (OutputStream out = new Lz4FrameOutputStream(compressed)) {
+      for (int i = 0; i < 2000; i++) {
+        byte[] chunk = new byte[random.nextInt(10000)];
+        if (i % 3 == 0) {
+          random.nextBytes(chunk);
+        } else {
+          Arrays.fill(chunk, (byte) random.nextInt(4));
+        }
+        out.write(chunk);
+        out.write(i);
+        expected.write(chunk);
+        expected.write(i);
+        if (i % 500 == 0) {
+          out.flush();
+        }
+      }
+    }
+    assertArrayEquals(expected.toByteArray(), decompress(compressed.toByteArray()));
+  }
+
+  @Test
+  public void readingStopsAtTheEndOfTheFrame() throws IOException {
+    byte[] frame = compress("hello".getBytes(StandardCharsets.UTF_8));
+    byte[] trailer = "trailer".getBytes(StandardCharsets.UTF_8);
+    byte[] stream = Arrays.copyOf(frame, frame.length + trailer.length);
+    System.arraycopy(trailer, 0, stream, frame.length, trailer.length);
+
+    InputStream input = new ByteArrayInputStream(stream);
+    assertArrayEquals(
+        "hello".getBytes(StandardCharsets.UTF_8),
+        ByteStreams.toByteArray(new Lz4FrameInputStream(input)));
+    assertArrayEquals(trailer, ByteStreams.toByteArray(input));
+  }
+
+  @Test(expected = IOException.class)
+  public void corruptHeaderIsRejected() throws IOException {
+    byte[] compressed = compress("hello".getBytes(StandardCharsets.UTF_8));
+    compressed[5] ^= 1;
+    decompress(compressed);
+  }
+
+  @Test(expected = IOException.class)
+  public void truncatedFrameIsRejected() throws IOException {
+    byte[] compressed = compress(new byte[1000]);
+    decompress(Arrays.copyOf(compressed, compressed.length - 6));
+  }
+}
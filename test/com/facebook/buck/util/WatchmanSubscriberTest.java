@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util;
+
+import static org.junit.Assert.assertEquals;
+
+import com.facebook.buck.bser.BserSerializer;
+import com.facebook.buck.event.BuckEventBus;
+import com.facebook.buck.event.BuckEventBusFactory;
+import com.facebook.buck.io.WatchmanCursor;
+import com.facebook.buck.io.WatchmanSubscription;
+import com.facebook.buck.timing.FakeClock;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class WatchmanSubscriberTest {
+
+  private static final Path FAKE_ROOT = Paths.get("/fake/root").toAbsolutePath();
+  private static final String SUBSCRIPTION_NAME = "buckd-test";
+  private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+  private final BserSerializer bserSerializer = new BserSerializer();
+  private final List<WatchEvent<?>> events = new ArrayList<>();
+  private final BuckEventBus buckEventBus = BuckEventBusFactory.newInstance(new FakeClock(0));
+
+  private PipedOutputStream toSubscriber;
+  private WatchmanCursor cursor;
+  private WatchmanSubscriber subscriber;
+
+  @Before
+  public void setUp() throws IOException {
+    toSubscriber = new PipedOutputStream();
+    PipedInputStream fromWatchman = new PipedInputStream(toSubscriber);
+    // Respond to each flush once the changes sent before it have been read.
+    OutputStream toWatchman = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        send(ImmutableMap.of("synced", ImmutableList.of(SUBSCRIPTION_NAME)));
+      }
+    };
+    WatchmanSubscription subscription = new WatchmanSubscription(
+        FAKE_ROOT.toString(),
+        SUBSCRIPTION_NAME,
+        fromWatchman,
+        toWatchman,
+        fromWatchman);
+
+    EventBus fileChangeEventBus = new EventBus("watchman test event bus");
+    fileChangeEventBus.register(
+        new Object() {
+          @Subscribe
+          public void listen(WatchEvent<?> event) {
+            synchronized (events) {
+              events.add(event);
+              events.notifyAll();
+            }
+          }
+        });
+    cursor = new WatchmanCursor("c:0:1");
+    subscriber = new WatchmanSubscriber(
+        fileChangeEventBus,
+        new Object(),
+        ImmutableMap.of(FAKE_ROOT, subscription),
+        ImmutableMap.of(FAKE_ROOT, cursor),
+        TIMEOUT_MILLIS);
+    subscriber.start();
+  }
+
+  @After
+  public void tearDown() {
+    subscriber.close();
+  }
+
+  @Test
+  public void changesArrivingDuringACommandAreCoalescedUntilTheNextSync() throws Exception {
+    subscriber.sync(buckEventBus);
+
+    send(
+        update(
+            "c:0:2",
+            file("foo/A.java", true, false),
+            file("foo/B.java", true, true)));
+    send(
+        update(
+            "c:0:3",
+            file("foo/A.java", true, false),
+            file("foo/B.java", false, false)));
+    subscriber.sync(buckEventBus);
+
+    synchronized (events) {
+      assertEquals(2, events.size());
+      assertEquals(Paths.get("foo/A.java"), events.get(0).context());
+      assertEquals(StandardWatchEventKinds.ENTRY_MODIFY, events.get(0).kind());
+      assertEquals(Paths.get("foo/B.java"), events.get(1).context());
+      assertEquals(StandardWatchEventKinds.ENTRY_DELETE, events.get(1).kind());
+    }
+    assertEquals("c:0:3", cursor.get());
+  }
+
+  @Test
+  public void changesArrivingBetweenCommandsArePostedInTheBackground() throws Exception {
+    send(update("c:0:2", file("foo/A.java", true, true)));
+
+    synchronized (events) {
+      long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+      while (events.isEmpty() && System.currentTimeMillis() < deadline) {
+        events.wait(deadline - System.currentTimeMillis());
+      }
+      assertEquals(1, events.size());
+      assertEquals(StandardWatchEventKinds.ENTRY_CREATE, events.get(0).kind());
+    }
+
+    subscriber.sync(buckEventBus);
+    synchronized (events) {
+      assertEquals(1, events.size());
+    }
+    assertEquals("c:0:2", cursor.get());
+  }
+
+  @Test
+  public void freshInstancePostsOverflowEvent() throws Exception {
+    subscriber.sync(buckEventBus);
+
+    send(
+        ImmutableMap.of(
+            "subscription", SUBSCRIPTION_NAME,
+            "is_fresh_instance", true,
+            "clock", "c:1:1",
+            "files", ImmutableList.of(file("foo/A.java", true, true))));
+    subscriber.sync(buckEventBus);
+
+    synchronized (events) {
+      assertEquals(1, events.size());
+      assertEquals(StandardWatchEventKinds.OVERFLOW, events.get(0).kind());
+    }
+    assertEquals("c:1:1", cursor.get());
+  }
+
+  @Test(expected = IOException.class)
+  public void syncFailsOnceTheSubscriptionIsLost() throws Exception {
+    send(ImmutableMap.of("error", "watch deleted"));
+    subscriber.sync(buckEventBus);
+  }
+
+  @Test(expected = IOException.class)
+  public void syncFailsOnceWatchmanCancelsTheSubscription() throws Exception {
+    send(
+        ImmutableMap.of(
+            "subscription", SUBSCRIPTION_NAME,
+            "canceled", true,
+            "unilateral", true));
+    subscriber.sync(buckEventBus);
+  }
+
+  private void send(Map<String, Object> response) throws IOException {
+    synchronized (toSubscriber) {
+      bserSerializer.serializeToStream(response, toSubscriber);
+      toSubscriber.flush();
+    }
+  }
+
+  @SafeVarargs
+  private static Map<String, Object> update(String clock, Map<String, Object>... files) {
+    return ImmutableMap.of(
+        "subscription", SUBSCRIPTION_NAME,
+        "unilateral", true,
+        "clock", clock,
+        "files", ImmutableList.copyOf(files));
+  }
+
+  private static Map<String, Object> file(String name, boolean exists, boolean isNew) {
+    return ImmutableMap.of("name", name, "exists", exists, "new", isNew);
+  }
+}
@@ -27,6 +27,8 @@ import com.facebook.buck.io.HashingDeterministicJarWriter;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.sha1.Sha1HashCode;
+import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 
@@ -42,7 +44,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
@@ -108,6 +114,29 @@ public class DefaultFileHashCacheTest {
     cache.get(filesystem.getPath("hello.java"));
   }
 
+  @Test
+  public void hashOfFileInvalidatedWhileBeingHashedIsNotKept() throws IOException {
+    AtomicReference<DefaultFileHashCache> cacheReference = new AtomicReference<>();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem() {
+      @Override
+      public Sha1HashCode computeSha1(Path path) throws IOException {
+        Sha1HashCode sha1 = super.computeSha1(path);
+        // The file changes after it was read, but before its hash is cached.
+        writeContentsToPath("new", path);
+        cacheReference.get().invalidate(path);
+        return sha1;
+      }
+    };
+    DefaultFileHashCache cache = new DefaultFileHashCache(filesystem, Optional.empty());
+    cacheReference.set(cache);
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("old", path);
+
+    assertEquals(Hashing.sha1().hashString("old", StandardCharsets.UTF_8), cache.get(path));
+    assertNull(cache.fileHashes.get(path));
+    assertNull(cache.loadingCache.getIfPresent(path));
+  }
+
   @Test
   public void whenPathsArePutThenInvalidateAllRemovesThem() throws IOException {
     ProjectFilesystem filesystem = new FakeProjectFilesystem();
@@ -124,10 +153,11 @@ public class DefaultFileHashCacheTest {
     assertTrue(cache.willGet(path2));
 
     // Verify that `invalidateAll` clears everything from the cache.
-    assertFalse(cache.loadingCache.asMap().isEmpty());
+    assertEquals(2, cache.fileHashes.size());
     cache.invalidateAll();
 
     assertTrue(cache.loadingCache.asMap().isEmpty());
+    assertEquals(0, cache.fileHashes.size());
   }
 
   @Test
@@ -152,6 +182,8 @@ public class DefaultFileHashCacheTest {
     assertNull(cache.loadingCache.getIfPresent(dir));
     assertNull(cache.loadingCache.getIfPresent(child1));
     assertNull(cache.loadingCache.getIfPresent(child2));
+    assertNull(cache.fileHashes.get(child1));
+    assertNull(cache.fileHashes.get(child2));
   }
 
   @Test
@@ -297,4 +329,56 @@ public class DefaultFileHashCacheTest {
     assertTrue(cache.willGet(filesystem.getPath("buck-out/file.txt")));
     assertFalse(cache.willGet(filesystem.getPath("file.txt")));
   }
+
+  @Test
+  public void storedHashesAreUsedForUnchangedFiles() throws IOException {
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+    Path input = Paths.get("input");
+    filesystem.writeContentsToPath("data", input);
+    filesystem.setLastModifiedTime(
+        input,
+        FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+    HashCode expected = Hashing.sha1().hashString("data", StandardCharsets.UTF_8);
+
+    FileHashStore store = new FileHashStore(tmp.getRoot().resolve("file_hashes"));
+    DefaultFileHashCache cache =
+        new DefaultFileHashCache(filesystem, Optional.empty(), Optional.of(store));
+    assertEquals(expected, cache.get(input));
+    assertEquals(
+        Optional.of(expected),
+        store.get(input, filesystem.readAttributes(input, BasicFileAttributes.class)));
+
+    // A stored hash is trusted as long as the file looks the same.
+    HashCode stored = HashCode.fromInt(42);
+    store.put(input, filesystem.readAttributes(input, BasicFileAttributes.class), stored);
+    cache.invalidateAll();
+    assertEquals(stored, cache.get(input));
+    assertThat(cache.verify().getVerificationErrors(), Matchers.hasSize(1));
+  }
+
+  @Test
+  public void prefetchHashesFilesUnderDirectoriesAndSkipsMissingOnes() throws Exception {
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+    Path dir = Paths.get("dir");
+    filesystem.mkdirs(dir);
+    filesystem.writeContentsToPath("one", dir.resolve("file1"));
+    filesystem.writeContentsToPath("two", dir.resolve("file2"));
+    Path file = Paths.get("file3");
+    filesystem.writeContentsToPath("three", file);
+    Path missing = Paths.get("missing");
+
+    DefaultFileHashCache cache = new DefaultFileHashCache(filesystem, Optional.empty());
+    cache.prefetch(ImmutableList.of(dir, file, missing));
+
+    assertEquals(
+        Hashing.sha1().hashString("one", StandardCharsets.UTF_8),
+        cache.fileHashes.get(dir.resolve("file1")));
+    assertEquals(
+        Hashing.sha1().hashString("two", StandardCharsets.UTF_8),
+        cache.fileHashes.get(dir.resolve("file2")));
+    assertEquals(
+        Hashing.sha1().hashString("three", StandardCharsets.UTF_8),
+        cache.fileHashes.get(file));
+    assertNull(cache.fileHashes.get(missing));
+  }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.google.common.hash.HashCode;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class FileHashStoreTest {
+
+  @Rule
+  public TemporaryPaths tmp = new TemporaryPaths();
+
+  private static final Path RELATIVE_PATH = Paths.get("Foo.java");
+  private static final HashCode HASH_CODE = HashCode.fromInt(42);
+
+  private Path storePath;
+  private Path file;
+
+  @Before
+  public void setUp() throws Exception {
+    storePath = tmp.getRoot().resolve("buck-out/.file_hashes");
+    file = tmp.newFile(RELATIVE_PATH.toString());
+    Files.write(file, "class Foo {}".getBytes(StandardCharsets.UTF_8));
+    setModifiedAnHourAgo(file);
+  }
+
+  @Test
+  public void storedHashesArePersisted() throws Exception {
+    FileHashStore store = new FileHashStore(storePath);
+    store.put(RELATIVE_PATH, readAttributes(file), HASH_CODE);
+    assertEquals(Optional.of(HASH_CODE), store.get(RELATIVE_PATH, readAttributes(file)));
+    store.save();
+
+    FileHashStore reloaded = new FileHashStore(storePath);
+    assertEquals(Optional.of(HASH_CODE), reloaded.get(RELATIVE_PATH, readAttributes(file)));
+  }
+
+  @Test
+  public void storedHashesAreIgnoredOnceFilesChange() throws Exception {
+    FileHashStore store = new FileHashStore(storePath);
+    store.put(RELATIVE_PATH, readAttributes(file), HASH_CODE);
+
+    Files.write(file, "class Foo { int bar; }".getBytes(StandardCharsets.UTF_8));
+    setModifiedAnHourAgo(file);
+    assertEquals(Optional.empty(), store.get(RELATIVE_PATH, readAttributes(file)));
+  }
+
+  @Test
+  public void recentlyModifiedFilesAreNotStored() throws Exception {
+    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    FileHashStore store = new FileHashStore(storePath);
+    store.put(RELATIVE_PATH, readAttributes(file), HASH_CODE);
+    assertEquals(Optional.empty(), store.get(RELATIVE_PATH, readAttributes(file)));
+  }
+
+  @Test
+  public void unchangedStoreIsNotWritten() throws Exception {
+    FileHashStore store = new FileHashStore(storePath);
+    store.get(RELATIVE_PATH, readAttributes(file));
+    store.save();
+    assertFalse(Files.exists(storePath));
+  }
+
+  @Test
+  public void unusedFilesArePrunedOnceTheStoreIsFull() throws Exception {
+    Path otherRelativePath = Paths.get("Bar.java");
+    Path otherFile = tmp.newFile(otherRelativePath.toString());
+    setModifiedAnHourAgo(otherFile);
+    FileHashStore store = new FileHashStore(storePath);
+    store.put(RELATIVE_PATH, readAttributes(file), HASH_CODE);
+    store.put(otherRelativePath, readAttributes(otherFile), HASH_CODE);
+    store.save();
+
+    FileHashStore nextStore = new FileHashStore(storePath, /* maxEntries */ 1);
+    nextStore.put(RELATIVE_PATH, readAttributes(file), HashCode.fromInt(43));
+    nextStore.save();
+
+    FileHashStore reloaded = new FileHashStore(storePath);
+    assertEquals(1, reloaded.size());
+    assertEquals(
+        Optional.of(HashCode.fromInt(43)),
+        reloaded.get(RELATIVE_PATH, readAttributes(file)));
+  }
+
+  @Test
+  public void corruptStoreIsIgnored() throws Exception {
+    Files.createDirectories(storePath.getParent());
+    Files.write(storePath, new byte[] {0, 0, 0, 1, 0, 0, 0, 5, 0});
+    FileHashStore store = new FileHashStore(storePath);
+    assertEquals(0, store.size());
+  }
+
+  private static BasicFileAttributes readAttributes(Path path) throws Exception {
+    return Files.readAttributes(path, BasicFileAttributes.class);
+  }
+
+  private static void setModifiedAnHourAgo(Path path) throws Exception {
+    Files.setLastModifiedTime(
+        path,
+        FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import org.hamcrest.Matchers;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Compares the lookup time of the hashes of files held in a {@link FileHashTrie} with that of a
+ * map keyed by {@link Path}, which is how they were held before, using synthetic paths spread
+ * over a deep source tree.  The test methods also check the trie holds them in less memory.
+ */
+public class FileHashTrieBenchmark {
+  @Param({"100000"})
+  private int fileCount = 10000;
+
+  private List<Path> paths;
+  private List<Path> lookupPaths;
+  private Map<Path, HashCode> map;
+  private FileHashTrie trie;
+
+  @Before
+  public void setUpTest() throws Exception {
+    setUpBenchmark();
+  }
+
+  @BeforeExperiment
+  public void setUpBenchmark() throws Exception {
+    paths = createPaths(fileCount);
+    map = fillMap(paths);
+    trie = fillTrie(paths);
+    // Look up equal but distinct paths, as callers hashing rule inputs do.
+    lookupPaths = new ArrayList<>(paths.size());
+    for (Path path : paths) {
+      lookupPaths.add(Paths.get(path.toString()));
+    }
+  }
+
+  @Test
+  public void trieHoldsTheSameHashes() {
+    assertEquals(map.size(), trie.size());
+    for (Path path : lookupPaths) {
+      assertEquals(map.get(path), trie.get(path));
+    }
+  }
+
+  @Test
+  public void trieUsesLessMemoryThanMap() {
+    long mapBytes = measureRetainedBytes(() -> fillMap(createPaths(fileCount)));
+    long trieBytes = measureRetainedBytes(() -> fillTrie(createPaths(fileCount)));
+    assertThat(trieBytes, Matchers.lessThan(mapBytes));
+  }
+
+  @Benchmark
+  public int lookUpInMap() {
+    int found = 0;
+    for (Path path : lookupPaths) {
+      if (map.get(path) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int lookUpInTrie() {
+    int found = 0;
+    for (Path path : lookupPaths) {
+      if (trie.get(path) != null) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  private static List<Path> createPaths(int count) {
+    List<Path> paths = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      paths.add(
+          Paths.get(
+              String.format(
+                  "java/com/example/module%d/package%d/sub%d/Source%d.java",
+                  i / 2000,
+                  i / 100 % 20,
+                  i / 20 % 5,
+                  i % 20)));
+    }
+    return paths;
+  }
+
+  private static Map<Path, HashCode> fillMap(List<Path> paths) {
+    Map<Path, HashCode> map = new ConcurrentHashMap<>();
+    for (Path path : paths) {
+      map.put(path, hash(path));
+    }
+    return map;
+  }
+
+  private static FileHashTrie fillTrie(List<Path> paths) {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    for (Path path : paths) {
+      trie.put(path, hash(path));
+    }
+    return trie;
+  }
+
+  private static HashCode hash(Path path) {
+    return Hashing.sha1().hashUnencodedChars(path.toString());
+  }
+
+  /**
+   * A rough estimate of the heap retained by what the supplier creates, which is good enough to
+   * compare structures differing in size by a large factor.
+   */
+  private static long measureRetainedBytes(Supplier<Object> supplier) {
+    long before = usedMemory();
+    Object retained = supplier.get();
+    long after = usedMemory();
+    if (retained.hashCode() == 0) {
+      after++;
+    }
+    return after - before;
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
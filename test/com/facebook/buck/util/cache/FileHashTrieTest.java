@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-present Facebook, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may
+ * not use this file except in compliance with the License. You may obtain
+ * a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.facebook.buck.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FileHashTrieTest {
+
+  private static final HashCode HASH_CODE =
+      Hashing.sha1().hashString("contents", StandardCharsets.UTF_8);
+  private static final HashCode OTHER_HASH_CODE =
+      Hashing.sha1().hashString("other contents", StandardCharsets.UTF_8);
+
+  @Test
+  public void storedHashesCanBeRetrieved() {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    trie.put(Paths.get("foo/bar/Baz.java"), HASH_CODE);
+    trie.put(Paths.get("foo/Bar.java"), OTHER_HASH_CODE);
+
+    assertEquals(HASH_CODE, trie.get(Paths.get("foo/bar/Baz.java")));
+    assertEquals(OTHER_HASH_CODE, trie.get(Paths.get("foo/Bar.java")));
+    assertNull(trie.get(Paths.get("foo/bar")));
+    assertNull(trie.get(Paths.get("foo/Baz.java")));
+    assertEquals(2, trie.size());
+  }
+
+  @Test
+  public void storingAPathAgainReplacesItsHash() {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    trie.put(Paths.get("Foo.java"), HASH_CODE);
+    trie.put(Paths.get("Foo.java"), OTHER_HASH_CODE);
+
+    assertEquals(OTHER_HASH_CODE, trie.get(Paths.get("Foo.java")));
+    assertEquals(1, trie.size());
+  }
+
+  @Test
+  public void hashesOtherThanSha1AreNotStored() {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    assertFalse(trie.put(Paths.get("Foo.java"), HashCode.fromInt(42)));
+    assertNull(trie.get(Paths.get("Foo.java")));
+  }
+
+  @Test
+  public void removeAllUnderOnlyRemovesPathsUnderThePath() {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    trie.put(Paths.get("foo/bar/Baz.java"), HASH_CODE);
+    trie.put(Paths.get("foo/bar/baz/Qux.java"), HASH_CODE);
+    trie.put(Paths.get("foo/barbaz/Qux.java"), HASH_CODE);
+    trie.put(Paths.get("foo/Bar.java"), HASH_CODE);
+
+    trie.removeAllUnder(Paths.get("foo/bar"));
+
+    assertNull(trie.get(Paths.get("foo/bar/Baz.java")));
+    assertNull(trie.get(Paths.get("foo/bar/baz/Qux.java")));
+    assertEquals(HASH_CODE, trie.get(Paths.get("foo/barbaz/Qux.java")));
+    assertEquals(HASH_CODE, trie.get(Paths.get("foo/Bar.java")));
+    assertEquals(2, trie.size());
+
+    trie.remove(Paths.get("foo/Bar.java"));
+    assertNull(trie.get(Paths.get("foo/Bar.java")));
+    assertEquals(1, trie.size());
+  }
+
+  @Test
+  public void forEachListsAllStoredPaths() {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    for (int i = 0; i < 5000; i++) {
+      trie.put(Paths.get(String.format("dir%d/sub%d/File%d.java", i % 7, i % 13, i)), HASH_CODE);
+    }
+    trie.put(Paths.get("foo/Bar.java"), OTHER_HASH_CODE);
+    trie.remove(Paths.get("dir0/sub0/File0.java"));
+
+    Map<Path, HashCode> listed = new HashMap<>();
+    trie.forEach((path, hashCode) -> listed.put(Paths.get(path), hashCode));
+
+    assertEquals(5000, listed.size());
+    assertEquals(OTHER_HASH_CODE, listed.get(Paths.get("foo/Bar.java")));
+    assertEquals(HASH_CODE, listed.get(Paths.get("dir1/sub1/File1.java")));
+    assertFalse(listed.containsKey(Paths.get("dir0/sub0/File0.java")));
+
+    trie.clear();
+    assertEquals(0, trie.size());
+    listed.clear();
+    trie.forEach((path, hashCode) -> listed.put(Paths.get(path), hashCode));
+    assertEquals(ImmutableMap.of(), listed);
+  }
+
+  @Test
+  public void nodesLeftWithoutHashesAreDroppedOnceTheyAreMostOfTheTrie() {
+    FileHashTrie trie = new FileHashTrie(File.separator);
+    for (int i = 0; i < 5000; i++) {
+      trie.put(Paths.get(String.format("dir%d/sub%d/File%d.java", i % 7, i % 13, i)), HASH_CODE);
+    }
+    trie.put(Paths.get("foo/Bar.java"), OTHER_HASH_CODE);
+
+    for (int i = 0; i < 7; i++) {
+      trie.removeAllUnder(Paths.get("dir" + i));
+    }
+    trie.put(Paths.get("dir1/sub1/File1.java"), HASH_CODE);
+
+    // Only the root, foo, Bar.java and the path added back are left.
+    assertEquals(6, trie.getNodeCount());
+    assertEquals(2, trie.size());
+    assertEquals(OTHER_HASH_CODE, trie.get(Paths.get("foo/Bar.java")));
+    assertEquals(HASH_CODE, trie.get(Paths.get("dir1/sub1/File1.java")));
+    assertNull(trie.get(Paths.get("dir1/sub1/File8.java")));
+
+    Map<Path, HashCode> listed = new HashMap<>();
+    trie.forEach((path, hashCode) -> listed.put(Paths.get(path), hashCode));
+    assertEquals(
+        ImmutableMap.of(
+            Paths.get("foo/Bar.java"), OTHER_HASH_CODE,
+            Paths.get("dir1/sub1/File1.java"), HASH_CODE),
+        listed);
+  }
+}
@@ -16,6 +16,8 @@
 
 package com.facebook.buck.util.cache;
 
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import com.facebook.buck.config.Config;
@@ -78,6 +80,25 @@ public class StackedFileHashCacheTest {
     assertTrue(innerCache.willGet(path));
   }
 
+  @Test
+  public void prefetchUsesCacheOfFilesystem() throws Exception {
+    ProjectFilesystem filesystem = new ProjectFilesystem(tmp.getRoot());
+    ProjectFilesystem otherFilesystem = new ProjectFilesystem(tmp2.getRoot());
+
+    Path path = Paths.get("world.txt");
+    filesystem.touch(path);
+    otherFilesystem.touch(path);
+
+    DefaultFileHashCache innerCache = DefaultFileHashCache.createDefaultFileHashCache(filesystem);
+    DefaultFileHashCache otherInnerCache =
+        DefaultFileHashCache.createDefaultFileHashCache(otherFilesystem);
+    StackedFileHashCache cache =
+        new StackedFileHashCache(ImmutableList.of(otherInnerCache, innerCache));
+    cache.prefetch(filesystem, ImmutableList.of(path));
+    assertNotNull(innerCache.fileHashes.get(path));
+    assertNull(otherInnerCache.fileHashes.get(path));
+  }
+
   @Test
   public void usesFirstCacheForArchivePathAbsolutePath() throws IOException {
     ProjectFilesystem filesystem = new FakeProjectFilesystem();
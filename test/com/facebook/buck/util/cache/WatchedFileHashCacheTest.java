@@ -19,6 +19,7 @@ package com.facebook.buck.util.cache;
 import static com.facebook.buck.testutil.WatchEventsForTests.createOverflowEvent;
 import static com.facebook.buck.testutil.WatchEventsForTests.createPathEvent;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
@@ -28,9 +29,11 @@ import static org.junit.Assert.assertTrue;
 import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.testutil.FakeProjectFilesystem;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
+import com.facebook.buck.util.sha1.Sha1HashCode;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 
 import org.hamcrest.junit.ExpectedException;
 import org.junit.Rule;
@@ -42,6 +45,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardWatchEventKinds;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class WatchedFileHashCacheTest {
 
@@ -179,4 +183,27 @@ public class WatchedFileHashCacheTest {
       assertThat("Cache should not contain path", cache.sizeCache.getIfPresent(path), nullValue());
     }
 
+  @Test
+  public void hashOfFileChangedWhileBeingHashedIsNotKept() throws IOException {
+    AtomicReference<WatchedFileHashCache> cacheReference = new AtomicReference<>();
+    ProjectFilesystem filesystem = new FakeProjectFilesystem() {
+      @Override
+      public Sha1HashCode computeSha1(Path path) throws IOException {
+        Sha1HashCode sha1 = super.computeSha1(path);
+        // The file changes after it was read, but before its hash is cached.
+        writeContentsToPath("new", path);
+        cacheReference.get().onFileSystemChange(
+            createPathEvent(path, StandardWatchEventKinds.ENTRY_MODIFY));
+        return sha1;
+      }
+    };
+    WatchedFileHashCache cache = new WatchedFileHashCache(filesystem);
+    cacheReference.set(cache);
+    Path path = Paths.get("SomeClass.java");
+    filesystem.writeContentsToPath("old", path);
+
+    assertEquals(Hashing.sha1().hashString("old", Charsets.UTF_8), cache.get(path));
+    assertNull(cache.fileHashes.get(path));
+    assertNull(cache.loadingCache.getIfPresent(path));
+  }
 }
@@ -19,7 +19,11 @@ package com.facebook.buck.util.concurrent;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import com.facebook.buck.timing.DefaultClock;
+import com.facebook.buck.timing.SettableFakeClock;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
@@ -33,6 +37,7 @@ import org.junit.rules.ExpectedException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
@@ -153,6 +158,78 @@ public class ResourcePoolTest {
     }
   }
 
+  @Test
+  public void closesResourcesWhichStayIdle() throws Exception {
+    SettableFakeClock clock = new SettableFakeClock(0, 0);
+    List<Integer> closedResources = new ArrayList<>();
+    AtomicInteger createdResources = new AtomicInteger(0);
+    ResourcePool<TestResource> pool = new ResourcePool<>(
+        /* maxResources */ 2,
+        ResourcePool.ResourceUsageErrorPolicy.RECYCLE,
+        () -> new TestResource(createdResources.getAndIncrement()) {
+          @Override
+          public void close() {
+            closedResources.add(getTestResourceId());
+          }
+        },
+        /* maxIdleTimeMillis */ Optional.of(1000L),
+        clock);
+    ListeningExecutorService executorService = MoreExecutors.newDirectExecutorService();
+
+    // Use both resources at once.
+    pool.scheduleOperationWithResource(
+        outer -> pool.scheduleOperationWithResource(inner -> inner, executorService).get(),
+        executorService).get();
+    assertThat(pool.getNumCreatedResources(), equalTo(2));
+
+    // The most recently used resource keeps being reused while there's only work for one, and the
+    // other one is closed once it's been idle for long enough.
+    for (int i = 0; i < 2; i++) {
+      clock.advanceTimeNanos(TimeUnit.MILLISECONDS.toNanos(600));
+      assertThat(
+          pool.scheduleOperationWithResource(r -> r, executorService).get().getTestResourceId(),
+          equalTo(0));
+      pool.retireIdleResources();
+    }
+    assertThat(pool.getNumCreatedResources(), equalTo(1));
+    assertThat(closedResources, equalTo(ImmutableList.of(1)));
+
+    pool.close();
+    pool.getShutdownFullyCompleteFuture().get(1, TimeUnit.SECONDS);
+    assertThat(closedResources, equalTo(ImmutableList.of(1, 0)));
+  }
+
+  @Test
+  public void idleResourcesAreClosedWithoutHoldingUpThePool() throws Exception {
+    CountDownLatch closing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger createdResources = new AtomicInteger(0);
+    ResourcePool<TestResource> pool = new ResourcePool<>(
+        /* maxResources */ 1,
+        ResourcePool.ResourceUsageErrorPolicy.RECYCLE,
+        () -> new TestResource(createdResources.getAndIncrement()) {
+          @Override
+          public void close() throws Exception {
+            closing.countDown();
+            release.await();
+          }
+        },
+        /* maxIdleTimeMillis */ Optional.of(10L),
+        new DefaultClock());
+    ListeningExecutorService executorService = MoreExecutors.newDirectExecutorService();
+    pool.scheduleOperationWithResource(r -> r, executorService).get();
+
+    // The timer closes the idle resource, and a new one can be created while it's still closing.
+    assertTrue(closing.await(5, TimeUnit.SECONDS));
+    assertThat(
+        pool.scheduleOperationWithResource(r -> r, executorService)
+            .get(5, TimeUnit.SECONDS)
+            .getTestResourceId(),
+        equalTo(1));
+    release.countDown();
+    pool.close();
+  }
+
   private static class TestResource implements AutoCloseable {
     private final int id;
 
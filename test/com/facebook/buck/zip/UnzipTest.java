@@ -16,13 +16,16 @@
 
 package com.facebook.buck.zip;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeThat;
 
 import com.facebook.buck.io.MoreFiles;
 import com.facebook.buck.io.MorePosixFilePermissions;
+import com.facebook.buck.io.ProjectFilesystem;
 import com.facebook.buck.testutil.Zip;
 import com.facebook.buck.testutil.integration.TemporaryPaths;
 import com.facebook.buck.util.environment.Platform;
@@ -36,12 +39,17 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 
 public class UnzipTest {
   private static final byte[] DUMMY_FILE_CONTENTS = "BUCK Unzip Test String!\nNihao\n".getBytes();
@@ -153,4 +161,82 @@ public class UnzipTest {
     assertThat(Files.readSymbolicLink(link).toString(), Matchers.equalTo("target.txt"));
   }
 
+  @Test
+  public void testExtractZipStream() throws IOException {
+    final long time = ZipConstants.getFakeTime() / 1000 * 1000;
+
+    // Writing to a stream rather than a file makes commons-compress use data descriptors for
+    // deflated entries, which is the case streaming extraction has to find the ends of.
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(bytes)) {
+      ZipArchiveEntry dir = new ZipArchiveEntry("subdir/");
+      zip.putArchiveEntry(dir);
+      zip.closeArchiveEntry();
+
+      ZipArchiveEntry deflated = new ZipArchiveEntry("subdir/1.bin");
+      deflated.setTime(time);
+      zip.putArchiveEntry(deflated);
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+
+      ZipArchiveEntry stored = new ZipArchiveEntry("test.exe");
+      stored.setUnixMode((int) MorePosixFilePermissions.toMode(
+          PosixFilePermissions.fromString("r-x------")));
+      stored.setMethod(ZipEntry.STORED);
+      stored.setSize(DUMMY_FILE_CONTENTS.length);
+      CRC32 crc = new CRC32();
+      crc.update(DUMMY_FILE_CONTENTS);
+      stored.setCrc(crc.getValue());
+      zip.putArchiveEntry(stored);
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+    }
+
+    Path extractFolder = tmpFolder.newFolder();
+    Files.createDirectories(extractFolder.resolve("subdir"));
+    Files.write(extractFolder.resolve("subdir/stale.bin"), DUMMY_FILE_CONTENTS);
+    ProjectFilesystem filesystem = new ProjectFilesystem(extractFolder);
+    ImmutableList<Path> result = Unzip.extractZipStream(
+        new ByteArrayInputStream(bytes.toByteArray()),
+        filesystem,
+        Unzip.ExistingFileMode.OVERWRITE_AND_CLEAN_DIRECTORIES);
+
+    assertEquals(
+        ImmutableList.of(Paths.get("subdir/1.bin"), Paths.get("test.exe")),
+        result);
+    assertArrayEquals(
+        DUMMY_FILE_CONTENTS,
+        Files.readAllBytes(extractFolder.resolve("subdir/1.bin")));
+    assertEquals(
+        time,
+        Files.getLastModifiedTime(extractFolder.resolve("subdir/1.bin")).toMillis());
+    assertArrayEquals(DUMMY_FILE_CONTENTS, Files.readAllBytes(extractFolder.resolve("test.exe")));
+    assertTrue(Files.isExecutable(extractFolder.resolve("test.exe")));
+    assertFalse(Files.exists(extractFolder.resolve("subdir/stale.bin")));
+  }
+
+  @Test(expected = ZipException.class)
+  public void testExtractZipStreamChecksEntryCrcs() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(out)) {
+      ZipArchiveEntry entry = new ZipArchiveEntry("1.bin");
+      entry.setMethod(ZipEntry.STORED);
+      entry.setSize(DUMMY_FILE_CONTENTS.length);
+      CRC32 crc = new CRC32();
+      crc.update(DUMMY_FILE_CONTENTS);
+      entry.setCrc(crc.getValue());
+      zip.putArchiveEntry(entry);
+      zip.write(DUMMY_FILE_CONTENTS);
+      zip.closeArchiveEntry();
+    }
+    byte[] bytes = out.toByteArray();
+    // Corrupt the first byte of the entry's data, just after the local header.
+    bytes[30 + "1.bin".length()] ^= 1;
+
+    Unzip.extractZipStream(
+        new ByteArrayInputStream(bytes),
+        new ProjectFilesystem(tmpFolder.newFolder()),
+        Unzip.ExistingFileMode.OVERWRITE);
+  }
+
 }